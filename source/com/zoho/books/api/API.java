@@ -2,7 +2,19 @@
 
 package com.zoho.books.api;
 
+import com.zoho.books.transport.Priority;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.AsyncCall;
+import com.zoho.books.util.RateLimiter;
+import com.zoho.books.util.RequestCoalescer;
+import com.zoho.books.util.RetryPolicy;
+import com.zoho.books.util.TokenProvider;
+import com.zoho.books.util.ZohoHTTPClient;
+
 import java.util.HashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * API is the super class for all API class. It maintains the service URL and credential.
@@ -22,6 +34,22 @@ public class API {
 
     protected String organizationId;
 
+    /**
+     * This client executes the requests of the API through its transport.
+     */
+
+    protected ZohoHTTPClient httpClient;
+
+    private volatile Executor executor;
+
+    /**
+     * Whether the list methods make the model object of a row only when it is first got from the list.
+     */
+
+    protected volatile boolean lazyLists;
+
+    private volatile boolean settingsLocked;
+
     /**
      * Construct a new API using access token and organization ID.
      *
@@ -34,11 +62,25 @@ public class API {
     }
 
     public API(String accessToken, String organizationId, boolean eu) {
+        this(accessToken, organizationId, eu, null);
+    }
+
+    /**
+     * Construct a new API that sends its requests through the given transport.
+     *
+     * @param accessToken OAuth access token.
+     * @param organizationId User's organizationId.
+     * @param eu Whether the organization is in the EU data center.
+     * @param transport Transport used to execute the requests. The default transport is used when it is null.
+     */
+
+    public API(String accessToken, String organizationId, boolean eu, Transport transport) {
       this.accessToken = accessToken;
       this.organizationId = organizationId;
       if(eu) {
         this.baseURL = basURLEu;
       }
+      this.httpClient = new ZohoHTTPClient(transport, accessToken, organizationId);
 		}
 
 
@@ -80,4 +122,212 @@ public class API {
         return queryMap;
 
     }
+
+    /**
+     * Set the executor that runs the asynchronous variants of the API methods.
+     *
+     * @param executor Executor object. The default executor is used when it is null.
+     */
+
+    public void setExecutor(Executor executor) {
+        checkSettingsUnlocked();
+        this.executor = executor;
+    }
+
+    /**
+     * Get the executor that runs the asynchronous variants of the API methods.
+     *
+     * @return Returns the configured Executor, or the default executor that uses virtual threads where available.
+     */
+
+    public Executor getExecutor() {
+        return executor != null ? executor : AsyncCall.getDefaultExecutor();
+    }
+
+    /**
+     * Set whether the list methods of this API make the model object of a row only when it is first got from the list.
+     * A lazy list keeps the text and the id and total of each row, so a job that only scans the rows with
+     * {@link com.zoho.books.model.PagedList#idAt(int)} and {@link com.zoho.books.model.PagedList#totalAt(int)} never
+     * makes the model objects. Lists are read in full unless this is set, as reading every row of a lazy list costs
+     * more than reading the rows at once.
+     *
+     * @param lazyLists True to read the rows of the lists lazily.
+     */
+
+    public void setLazyLists(boolean lazyLists) {
+        checkSettingsUnlocked();
+        this.lazyLists = lazyLists;
+    }
+
+    /**
+     * Get whether the list methods of this API read the rows lazily.
+     *
+     * @return Returns true if a row is made into its model object only when it is first got from the list.
+     */
+
+    public boolean isLazyLists() {
+        return lazyLists;
+    }
+
+    /**
+     * Set the rate limiter that keeps the requests of this API within the quota of the organization.
+     * All the API objects share {@link RateLimiter#getDefault()} unless they are given another one.
+     *
+     * @param rateLimiter RateLimiter object, or null to send the requests without rate limiting.
+     */
+
+    public void setRateLimiter(RateLimiter rateLimiter) {
+        checkSettingsUnlocked();
+        httpClient.setRateLimiter(rateLimiter);
+    }
+
+    /**
+     * Get the rate limiter of this API.
+     *
+     * @return Returns the RateLimiter object, or null if the requests are not rate limited.
+     */
+
+    public RateLimiter getRateLimiter() {
+        return httpClient.getRateLimiter();
+    }
+
+    /**
+     * Set the policy that decides which failed requests of this API are sent again.
+     * All the API objects share {@link RetryPolicy#getDefault()} unless they are given another one.
+     *
+     * @param retryPolicy RetryPolicy object, or null to never retry.
+     */
+
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        checkSettingsUnlocked();
+        httpClient.setRetryPolicy(retryPolicy);
+    }
+
+    /**
+     * Get the retry policy of this API.
+     *
+     * @return Returns the RetryPolicy object, or null if failed requests are not retried.
+     */
+
+    public RetryPolicy getRetryPolicy() {
+        return httpClient.getRetryPolicy();
+    }
+
+    /**
+     * Set the coalescer that lets the identical GET requests this API makes at the same time share one response.
+     * Coalescing is off unless a coalescer is set. Share one instance between the API objects to coalesce across them.
+     *
+     * @param requestCoalescer RequestCoalescer object, or null to send every GET request on its own.
+     */
+
+    public void setRequestCoalescer(RequestCoalescer requestCoalescer) {
+        checkSettingsUnlocked();
+        httpClient.setRequestCoalescer(requestCoalescer);
+    }
+
+    /**
+     * Get the request coalescer of this API.
+     *
+     * @return Returns the RequestCoalescer object, or null if GET requests are not coalesced.
+     */
+
+    public RequestCoalescer getRequestCoalescer() {
+        return httpClient.getRequestCoalescer();
+    }
+
+    /**
+     * Set the priority of the requests of this API. Use BACKGROUND for the API objects of bulk and sync jobs, so that
+     * the requests users wait for are sent first and keep a share of the rate budget of the organization.
+     *
+     * @param priority Priority of the requests. INTERACTIVE is used when it is null, which is the default.
+     */
+
+    public void setPriority(Priority priority) {
+        checkSettingsUnlocked();
+        httpClient.setPriority(priority);
+    }
+
+    /**
+     * Get the priority of the requests of this API.
+     *
+     * @return Returns the Priority.
+     */
+
+    public Priority getPriority() {
+        return httpClient.getPriority();
+    }
+
+    /**
+     * Set the provider that supplies the access tokens of this API and refreshes them when they expire.
+     * The API keeps sending the access token it was constructed with unless it is given a provider.
+     *
+     * @param tokenProvider TokenProvider object. The current provider is kept when it is null.
+     */
+
+    public void setTokenProvider(TokenProvider tokenProvider) {
+        checkSettingsUnlocked();
+        if (tokenProvider != null) {
+            httpClient.setTokenProvider(tokenProvider);
+        }
+    }
+
+    /**
+     * Get the token provider of this API.
+     *
+     * @return Returns the TokenProvider object.
+     */
+
+    public TokenProvider getTokenProvider() {
+        return httpClient.getTokenProvider();
+    }
+
+    /**
+     * Fix the settings of this API, so that an instance shared between threads cannot be changed by one of them.
+     * ZohoBooks locks the api instances it hands out; their settings are changed on the ZohoBooks instead.
+     * The setters throw an IllegalStateException afterwards.
+     */
+
+    public void lockSettings() {
+        settingsLocked = true;
+    }
+
+    /**
+     * Check whether the settings of this API are fixed.
+     *
+     * @return Returns true if the setters throw an IllegalStateException.
+     */
+
+    public boolean isSettingsLocked() {
+        return settingsLocked;
+    }
+
+    /**
+     * Open connections to the Zoho Books service of this API ahead of the first requests.
+     * See {@link ZohoHTTPClient#warmUp(String, int)}.
+     *
+     * @param connections Number of connections to open.
+     * @return Returns the number of connections that were opened.
+     */
+
+    public int warmUp(int connections) throws Exception {
+        return httpClient.warmUp(baseURL + "/", connections);
+    }
+
+    /**
+     * Run a blocking API call on the executor.
+     * Cancelling the returned future aborts the HTTP request in flight.
+     *
+     * @param call The blocking API call.
+     * @return Returns a CompletableFuture completed with the result of the call.
+     */
+
+    protected <T> CompletableFuture<T> async(Callable<T> call) {
+        return AsyncCall.submit(getExecutor(), call);
+    }
+
+    private void checkSettingsUnlocked() {
+        if (settingsLocked) {
+            throw new IllegalStateException("The settings of a shared API are changed on the ZohoBooks it came from"); //No I18N
+        }
+    }
 }
@@ -6,9 +6,13 @@ import com.zoho.books.model.BankAccount;
 import com.zoho.books.model.BankAccountList;
 import com.zoho.books.model.Statement;
 import com.zoho.books.parser.BankAccountParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 
+import java.io.Reader;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -43,8 +47,21 @@ public class BankAccountsApi extends API {
         super(accessToken, organizationId, eu);
     }
 
+    /**
+     * Construct a new BankAccountsApi that sends its requests through the given transport.
+     *
+     * @param accessToken    user's accessToken.
+     * @param organizationId user's organization id.
+     * @param eu             Whether the organization is in the EU data center.
+     * @param transport      Transport used to execute the requests.
+     */
+
+    public BankAccountsApi(String accessToken, String organizationId, boolean eu, Transport transport) {
+        super(accessToken, organizationId, eu, transport);
+    }
 
-    private BankAccountParser bankAccountParser = new BankAccountParser();
+
+    private static final BankAccountParser bankAccountParser = new BankAccountParser();
 
 
     /**
@@ -66,10 +83,23 @@ public class BankAccountsApi extends API {
      */
 
     public BankAccountList getBankaccounts(HashMap<String, Object> queryMap) throws Exception {
+        return getBankaccounts(queryMap, null);
+    }
+
+    /**
+     * List all bank and credit card accounts for your organization.
+     * Only the given fields of each bank account are read.
+     *
+     * @param queryMap It contains the query string values in the form of key-value pair.
+     * @param fields Names of the fields to read from each bank account, or null to read every field.
+     * @return Returns the BankAccountList object.
+     */
 
-        String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
+    public BankAccountList getBankaccounts(HashMap<String, Object> queryMap, Set<String> fields) throws Exception {
 
-        BankAccountList bankAccountList = bankAccountParser.getBankAccounts(response);
+        Reader response = httpClient.get(url, getQueryMap(queryMap));
+
+        BankAccountList bankAccountList = bankAccountParser.getBankAccounts(response, fields);
 
         return bankAccountList;
     }
@@ -87,9 +117,9 @@ public class BankAccountsApi extends API {
     public BankAccount create(BankAccount bankAccount) throws Exception {
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", bankAccount.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(bankAccount::write));
 
-        String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+        Reader response = httpClient.post(url, requestBody);
 
         return bankAccountParser.getBankAccount(response);
 
@@ -105,12 +135,25 @@ public class BankAccountsApi extends API {
      */
 
     public BankAccount get(String accountId) throws Exception {
+        return get(accountId, null);
+    }
+
+    /**
+     * Get the details of the account specified.
+     * Only the given fields of the bank account are read.
+     *
+     * @param accountId ID of the bank account.
+     * @param fields Names of the fields to read, or null to read every field.
+     * @return Returns the BankAccount object.
+     */
+
+    public BankAccount get(String accountId, Set<String> fields) throws Exception {
 
         String urlString = url + "/" + accountId; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
-        BankAccount bankAccount = bankAccountParser.getBankAccount(response);
+        BankAccount bankAccount = bankAccountParser.getBankAccount(response, fields);
 
         return bankAccount;
     }
@@ -130,9 +173,9 @@ public class BankAccountsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", bankAccount.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(bankAccount::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return bankAccountParser.getBankAccount(response);
     }
@@ -151,7 +194,7 @@ public class BankAccountsApi extends API {
 
         String urlString = url + "/" + accountId; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String message = bankAccountParser.getMessage(response);
 
@@ -172,7 +215,7 @@ public class BankAccountsApi extends API {
 
         String urlString = url + "/" + accountId + "/inactive"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String message = bankAccountParser.getMessage(response);
 
@@ -193,7 +236,7 @@ public class BankAccountsApi extends API {
 
         String urlString = url + "/" + accountId + "/active"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String message = bankAccountParser.getMessage(response);
 
@@ -213,7 +256,7 @@ public class BankAccountsApi extends API {
 
         String urlString = url + "/" + accountId + "/statement/lastimported"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         Statement statement = bankAccountParser.getStatement(response);
 
@@ -235,10 +278,122 @@ public class BankAccountsApi extends API {
 
         String urlString = url + "/" + accountId + "/statement/" + statementId; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String message = bankAccountParser.getMessage(response);
 
         return message;
     }
+
+
+    /**
+     * Asynchronous variant of {@link #getBankaccounts(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the BankAccountList object.
+     */
+
+    public CompletableFuture<BankAccountList> getBankaccountsAsync(HashMap<String, Object> queryMap) {
+        return async(() -> getBankaccounts(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getBankaccounts(HashMap, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the BankAccountList object.
+     */
+
+    public CompletableFuture<BankAccountList> getBankaccountsAsync(HashMap<String, Object> queryMap, Set<String> fields) {
+        return async(() -> getBankaccounts(queryMap, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #create(BankAccount)}.
+     *
+     * @return Returns a CompletableFuture completed with the BankAccount object.
+     */
+
+    public CompletableFuture<BankAccount> createAsync(BankAccount bankAccount) {
+        return async(() -> create(bankAccount));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the BankAccount object.
+     */
+
+    public CompletableFuture<BankAccount> getAsync(String accountId) {
+        return async(() -> get(accountId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the BankAccount object.
+     */
+
+    public CompletableFuture<BankAccount> getAsync(String accountId, Set<String> fields) {
+        return async(() -> get(accountId, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(BankAccount)}.
+     *
+     * @return Returns a CompletableFuture completed with the BankAccount object.
+     */
+
+    public CompletableFuture<BankAccount> updateAsync(BankAccount bankAccount) {
+        return async(() -> update(bankAccount));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteAsync(String accountId) {
+        return async(() -> delete(accountId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deactivateAccount(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deactivateAccountAsync(String accountId) {
+        return async(() -> deactivateAccount(accountId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #activateAccount(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> activateAccountAsync(String accountId) {
+        return async(() -> activateAccount(accountId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getLastImportedStatement(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Statement object.
+     */
+
+    public CompletableFuture<Statement> getLastImportedStatementAsync(String accountId) {
+        return async(() -> getLastImportedStatement(accountId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteLastImportedStatement(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteLastImportedStatementAsync(String accountId, String statementId) {
+        return async(() -> deleteLastImportedStatement(accountId, statementId));
+    }
+
 }
@@ -5,9 +5,13 @@ package com.zoho.books.api;
 import com.zoho.books.model.Rule;
 import com.zoho.books.model.RuleList;
 import com.zoho.books.parser.BankRuleParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 
+import java.io.Reader;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -42,7 +46,23 @@ public class BankRulesApi extends API
 
 	}
 
-	private BankRuleParser bankRuleParser = new BankRuleParser();
+	/**
+	 * Construct a new BankRulesApi that sends its requests through the given transport.
+	 *
+	 * @param accessToken user's accessToken.
+	 * @param organizationId user's organization id.
+	 * @param eu Whether the organization is in the EU data center.
+	 * @param transport Transport used to execute the requests.
+	 */
+
+	public BankRulesApi(String accessToken, String organizationId, boolean eu, Transport transport)
+	{
+
+		super(accessToken, organizationId, eu, transport);
+
+	}
+
+	private static final BankRuleParser bankRuleParser = new BankRuleParser();
 
 
 	/**
@@ -62,6 +82,20 @@ public class BankRulesApi extends API
 
 
 	public RuleList getRules(String accountId)throws Exception
+	{
+		return getRules(accountId, null);
+	}
+
+	/**
+	 * Fetch all the rules created for a specified bank or credit card account ID.
+	 * Only the given fields of each rule are read.
+	 *
+	 * @param accountId Mandatory parameter Account Id for which rules have to be listed.
+	 * @param fields Names of the fields to read from each rule, or null to read every field.
+	 * @return Returns the RuleList object.
+	 */
+
+	public RuleList getRules(String accountId, Set<String> fields)throws Exception
 	{
 		HashMap<String, Object> queryMap = getQueryMap();
 
@@ -70,9 +104,9 @@ public class BankRulesApi extends API
 			queryMap.put("account_id", accountId);
 		}
 
-		String response = ZohoHTTPClient.get(url, queryMap, accessToken);
+		Reader response = httpClient.get(url, queryMap);
 
-		RuleList ruleList = bankRuleParser.getRules(response);
+		RuleList ruleList = bankRuleParser.getRules(response, fields);
 
 		return ruleList;
 	}
@@ -93,12 +127,26 @@ public class BankRulesApi extends API
 	*/
 
 	public Rule get(String ruleId)throws Exception
+	{
+		return get(ruleId, null);
+	}
+
+	/**
+	 * Get details of a specific rule.
+	 * Only the given fields of the rule are read.
+	 *
+	 * @param ruleId ID of the rule created.
+	 * @param fields Names of the fields to read, or null to read every field.
+	 * @return Returns the Rule object.
+	 */
+
+	public Rule get(String ruleId, Set<String> fields)throws Exception
 	{
 		String urlString = url+"/"+ruleId;
 
-		String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.get(urlString, getQueryMap());
 
-		Rule rule = bankRuleParser.getRule(response);
+		Rule rule = bankRuleParser.getRule(response, fields);
 
 		return rule;
 	}
@@ -124,9 +172,9 @@ public class BankRulesApi extends API
 	{
 		HashMap<String, Object> requestBody = getQueryMap();
 
-		requestBody.put("JSONString", rule.toJSON().toString());
+		requestBody.put("JSONString", JsonWriter.deferred(rule::write));
 
-		String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+		Reader response = httpClient.post(url, requestBody);
 
 		return bankRuleParser.getRule(response);
 	}
@@ -154,9 +202,9 @@ public class BankRulesApi extends API
 
 		HashMap<String, Object> requestBody = getQueryMap();
 
-		requestBody.put("JSONString", rule.toJSON().toString());
+		requestBody.put("JSONString", JsonWriter.deferred(rule::write));
 
-		String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+		Reader response = httpClient.put(urlString, requestBody);
 
 		return bankRuleParser.getRule(response);
 	}
@@ -182,10 +230,89 @@ public class BankRulesApi extends API
 	{
 		String urlString = url+"/"+ruleId;
 
-		String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.delete(urlString, getQueryMap());
 
 		String message = bankRuleParser.getMessage(response);
 
 		return message;
 	}
+
+
+	/**
+	 * Asynchronous variant of {@link #getRules(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the RuleList object.
+	 */
+
+	public CompletableFuture<RuleList> getRulesAsync(String accountId)
+	{
+		return async(() -> getRules(accountId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getRules(String, Set)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the RuleList object.
+	 */
+
+	public CompletableFuture<RuleList> getRulesAsync(String accountId, Set<String> fields)
+	{
+		return async(() -> getRules(accountId, fields));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #get(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the Rule object.
+	 */
+
+	public CompletableFuture<Rule> getAsync(String ruleId)
+	{
+		return async(() -> get(ruleId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #get(String, Set)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the Rule object.
+	 */
+
+	public CompletableFuture<Rule> getAsync(String ruleId, Set<String> fields)
+	{
+		return async(() -> get(ruleId, fields));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #create(Rule)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the Rule object.
+	 */
+
+	public CompletableFuture<Rule> createAsync(Rule rule)
+	{
+		return async(() -> create(rule));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #update(Rule)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the Rule object.
+	 */
+
+	public CompletableFuture<Rule> updateAsync(Rule rule)
+	{
+		return async(() -> update(rule));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #delete(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> deleteAsync(String ruleId)
+	{
+		return async(() -> delete(ruleId));
+	}
+
 }
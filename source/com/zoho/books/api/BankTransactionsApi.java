@@ -4,13 +4,18 @@ package com.zoho.books.api;
 
 import com.zoho.books.model.*;
 import com.zoho.books.parser.*;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Attachment;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.File;
+import java.io.Reader;
 import java.util.HashMap;
+import java.util.Set;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * BankTransactionsApi is used to create a transaction for an account.
@@ -53,7 +58,24 @@ public class BankTransactionsApi extends API {
         super(accessToken, organizationId, eu);
     }
 
-    private BankTransactionParser bankTransactionParser = new BankTransactionParser();
+    /**
+     * Construct a new BankTransactionsApi that sends its requests through the given transport.
+     *
+     * @param accessToken    user's accessToken.
+     * @param organizationId user's organization id.
+     * @param eu             Whether the organization is in the EU data center.
+     * @param transport      Transport used to execute the requests.
+     */
+
+    public BankTransactionsApi(String accessToken, String organizationId, boolean eu, Transport transport) {
+        super(accessToken, organizationId, eu, transport);
+    }
+
+    private static final BankTransactionParser bankTransactionParser = new BankTransactionParser();
+    private static final CreditNoteParser creditNoteParser = new CreditNoteParser();
+    private static final VendorPaymentParser vendorPaymentParser = new VendorPaymentParser();
+    private static final CustomerPaymentParser customerPaymentParser = new CustomerPaymentParser();
+    private static final ExpenseParser expenseParser = new ExpenseParser();
 
 
     /**
@@ -82,10 +104,23 @@ public class BankTransactionsApi extends API {
      */
 
     public TransactionList getTransactions(HashMap<String, Object> queryMap) throws Exception {
+        return getTransactions(queryMap, null);
+    }
 
-        String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
+    /**
+     * Get all the transaction details involved in an account.
+     * Only the given fields of each transaction are read.
+     *
+     * @param queryMap It contains the querystring values in the form of key-value pair.
+     * @param fields Names of the fields to read from each transaction, or null to read every field.
+     * @return Returns the TransactionList object.
+     */
 
-        TransactionList transactionsList = bankTransactionParser.getTransactions(response);
+    public TransactionList getTransactions(HashMap<String, Object> queryMap, Set<String> fields) throws Exception {
+
+        Reader response = httpClient.get(url, getQueryMap(queryMap));
+
+        TransactionList transactionsList = bankTransactionParser.getTransactions(response, fields);
 
         return transactionsList;
     }
@@ -100,11 +135,24 @@ public class BankTransactionsApi extends API {
      */
 
     public Transaction get(String transactionId) throws Exception {
+        return get(transactionId, null);
+    }
+
+    /**
+     * Fetch the details of a transaction by specifying the transaction_id.
+     * Only the given fields of the transaction are read.
+     *
+     * @param transactionId ID of the transaction.
+     * @param fields Names of the fields to read, or null to read every field.
+     * @return Returns the Transaction object.
+     */
+
+    public Transaction get(String transactionId, Set<String> fields) throws Exception {
         String urlString = url + "/" + transactionId;
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
-        Transaction transaction = bankTransactionParser.getTransaction(response);
+        Transaction transaction = bankTransactionParser.getTransaction(response, fields);
 
         return transaction;
     }
@@ -122,9 +170,9 @@ public class BankTransactionsApi extends API {
     public Transaction create(Transaction transaction) throws Exception {
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", transaction.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(transaction::write));
 
-        String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+        Reader response = httpClient.post(url, requestBody);
 
         return bankTransactionParser.getTransaction(response);
     }
@@ -145,9 +193,9 @@ public class BankTransactionsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", transaction.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(transaction::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return bankTransactionParser.getTransaction(response);
     }
@@ -165,7 +213,7 @@ public class BankTransactionsApi extends API {
     public String delete(String transactionId) throws Exception {
         String urlString = url + "/" + transactionId; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String message = bankTransactionParser.getMessage(response);
 
@@ -198,7 +246,7 @@ public class BankTransactionsApi extends API {
     public TransactionList getMatchingTransactions(String transactionId, HashMap<String, Object> queryMap) throws Exception {
         String urlString = url + "/uncategorized/" + transactionId + "/match"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap(queryMap));
 
         TransactionList transactionsList = bankTransactionParser.getTransactions(response);
 
@@ -239,7 +287,7 @@ public class BankTransactionsApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         String message = bankTransactionParser.getMessage(response);
 
@@ -259,7 +307,7 @@ public class BankTransactionsApi extends API {
     public String unmatchTransaction(String transactionId) throws Exception {
         String urlString = url + "/" + transactionId + "/unmatch"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String message = bankTransactionParser.getMessage(response);
 
@@ -285,7 +333,7 @@ public class BankTransactionsApi extends API {
             queryMap.put("sort_column", sortColumn);
         }
 
-        String response = ZohoHTTPClient.get(urlString, queryMap, accessToken);
+        Reader response = httpClient.get(urlString, queryMap);
 
         Transaction transaction = bankTransactionParser.getAssociateTransaction(response);
 
@@ -305,7 +353,7 @@ public class BankTransactionsApi extends API {
     public String excludeTransaction(String transactionId) throws Exception {
         String urlString = url + "/uncategorized/" + transactionId + "/exclude"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String message = bankTransactionParser.getMessage(response);
 
@@ -325,7 +373,7 @@ public class BankTransactionsApi extends API {
     public String restoreTransaction(String transactionId) throws Exception {
         String urlString = url + "/uncategorized/" + transactionId + "/restore"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String message = bankTransactionParser.getMessage(response);
 
@@ -352,9 +400,9 @@ public class BankTransactionsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", transaction.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(transaction::write));
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         return bankTransactionParser.getTransaction(response);
     }
@@ -377,11 +425,11 @@ public class BankTransactionsApi extends API {
 
         requestBody.put("JSONString", creditnoteRefund.toJSON().put("creditnote_id", creditnoteRefund.getCreditnoteId()).toString());
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         //String message = bankTransactionParser.getMessage(response);
 
-        return new CreditNoteParser().getCreditnoteRefund(response);
+        return creditNoteParser.getCreditnoteRefund(response);
     }
 
     /**
@@ -400,11 +448,11 @@ public class BankTransactionsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", vendorPayment.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(vendorPayment::write));
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
-        return new VendorPaymentParser().getVendorPayment(response);
+        return vendorPaymentParser.getVendorPayment(response);
     }
 
     /**
@@ -423,11 +471,11 @@ public class BankTransactionsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", customerPayment.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(customerPayment::write));
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
-        return new CustomerPaymentParser().getCustomerPayment(response);
+        return customerPaymentParser.getCustomerPayment(response);
     }
 
     /**
@@ -447,15 +495,41 @@ public class BankTransactionsApi extends API {
 
         HashMap<String, Object> requestBody = new HashMap<String, Object>();
 
-        requestBody.put("JSONString", expense.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.toString(expense::write));
 
         HashMap<String, Object> fileBody = new HashMap<String, Object>();
 
         fileBody.put("receipt", file);
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), requestBody, fileBody, accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap(), requestBody, fileBody);
 
-        return new ExpenseParser().getExpense(response);
+        return expenseParser.getExpense(response);
+    }
+
+    /**
+     * Categorize an uncategorized transaction as Expense, with a receipt from a File, a Path, an InputStream or a ByteBuffer.
+     * The receipt is streamed to the server, with chunked transfer encoding when its length is not known.
+     *
+     * @param transactionId ID of the transaction.
+     * @param expense       Expense object.
+     * @param receipt       Receipt for the expense.
+     * @return Returns the Expense object.
+     */
+
+    public Expense categorizeAsExpense(String transactionId, Expense expense, Attachment receipt) throws Exception {
+        String urlString = url + "/uncategorized/" + transactionId + "/categorize/expense"; //No I18N
+
+        HashMap<String, Object> requestBody = new HashMap<String, Object>();
+
+        requestBody.put("JSONString", JsonWriter.toString(expense::write));
+
+        HashMap<String, Object> fileBody = new HashMap<String, Object>();
+
+        fileBody.put("receipt", receipt);
+
+        Reader response = httpClient.post(urlString, getQueryMap(), requestBody, fileBody);
+
+        return expenseParser.getExpense(response);
     }
 
     /**
@@ -471,10 +545,212 @@ public class BankTransactionsApi extends API {
     public String uncategorizeACategorizedTransaction(String transactionId) throws Exception {
         String urlString = url + "/" + transactionId + "/uncategorize"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String message = bankTransactionParser.getMessage(response);
 
         return message;
     }
+
+
+    /**
+     * Asynchronous variant of {@link #getTransactions(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the TransactionList object.
+     */
+
+    public CompletableFuture<TransactionList> getTransactionsAsync(HashMap<String, Object> queryMap) {
+        return async(() -> getTransactions(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getTransactions(HashMap, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the TransactionList object.
+     */
+
+    public CompletableFuture<TransactionList> getTransactionsAsync(HashMap<String, Object> queryMap, Set<String> fields) {
+        return async(() -> getTransactions(queryMap, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Transaction object.
+     */
+
+    public CompletableFuture<Transaction> getAsync(String transactionId) {
+        return async(() -> get(transactionId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the Transaction object.
+     */
+
+    public CompletableFuture<Transaction> getAsync(String transactionId, Set<String> fields) {
+        return async(() -> get(transactionId, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #create(Transaction)}.
+     *
+     * @return Returns a CompletableFuture completed with the Transaction object.
+     */
+
+    public CompletableFuture<Transaction> createAsync(Transaction transaction) {
+        return async(() -> create(transaction));
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(Transaction)}.
+     *
+     * @return Returns a CompletableFuture completed with the Transaction object.
+     */
+
+    public CompletableFuture<Transaction> updateAsync(Transaction transaction) {
+        return async(() -> update(transaction));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteAsync(String transactionId) {
+        return async(() -> delete(transactionId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getMatchingTransactions(String, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the TransactionList object.
+     */
+
+    public CompletableFuture<TransactionList> getMatchingTransactionsAsync(String transactionId, HashMap<String, Object> queryMap) {
+        return async(() -> getMatchingTransactions(transactionId, queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #matchTransaction(String, List)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> matchTransactionAsync(String transactionId, List<Transaction> transactions) {
+        return async(() -> matchTransaction(transactionId, transactions));
+    }
+
+    /**
+     * Asynchronous variant of {@link #unmatchTransaction(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> unmatchTransactionAsync(String transactionId) {
+        return async(() -> unmatchTransaction(transactionId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAssociateTransaction(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Transaction object.
+     */
+
+    public CompletableFuture<Transaction> getAssociateTransactionAsync(String transactionId, String sortColumn) {
+        return async(() -> getAssociateTransaction(transactionId, sortColumn));
+    }
+
+    /**
+     * Asynchronous variant of {@link #excludeTransaction(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> excludeTransactionAsync(String transactionId) {
+        return async(() -> excludeTransaction(transactionId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #restoreTransaction(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> restoreTransactionAsync(String transactionId) {
+        return async(() -> restoreTransaction(transactionId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #categorizeAnUncategorizeTransaction(Transaction)}.
+     *
+     * @return Returns a CompletableFuture completed with the Transaction object.
+     */
+
+    public CompletableFuture<Transaction> categorizeAnUncategorizeTransactionAsync(Transaction transaction) {
+        return async(() -> categorizeAnUncategorizeTransaction(transaction));
+    }
+
+    /**
+     * Asynchronous variant of {@link #categorizeAsCreditnoteRefunds(String, CreditnoteRefund)}.
+     *
+     * @return Returns a CompletableFuture completed with the CreditnoteRefund object.
+     */
+
+    public CompletableFuture<CreditnoteRefund> categorizeAsCreditnoteRefundsAsync(String transactionId, CreditnoteRefund creditnoteRefund) {
+        return async(() -> categorizeAsCreditnoteRefunds(transactionId, creditnoteRefund));
+    }
+
+    /**
+     * Asynchronous variant of {@link #categorizeAsVendorPayment(String, VendorPayment)}.
+     *
+     * @return Returns a CompletableFuture completed with the VendorPayment object.
+     */
+
+    public CompletableFuture<VendorPayment> categorizeAsVendorPaymentAsync(String transactionId, VendorPayment vendorPayment) {
+        return async(() -> categorizeAsVendorPayment(transactionId, vendorPayment));
+    }
+
+    /**
+     * Asynchronous variant of {@link #categorizeAsCustomerPayment(String, CustomerPayment)}.
+     *
+     * @return Returns a CompletableFuture completed with the CustomerPayment object.
+     */
+
+    public CompletableFuture<CustomerPayment> categorizeAsCustomerPaymentAsync(String transactionId, CustomerPayment customerPayment) {
+        return async(() -> categorizeAsCustomerPayment(transactionId, customerPayment));
+    }
+
+    /**
+     * Asynchronous variant of {@link #categorizeAsExpense(String, Expense, File)}.
+     *
+     * @return Returns a CompletableFuture completed with the Expense object.
+     */
+
+    public CompletableFuture<Expense> categorizeAsExpenseAsync(String transactionId, Expense expense, File file) {
+        return async(() -> categorizeAsExpense(transactionId, expense, file));
+    }
+
+    /**
+     * Asynchronous variant of {@link #categorizeAsExpense(String, Expense, Attachment)}.
+     *
+     * @return Returns a CompletableFuture completed with the Expense object.
+     */
+
+    public CompletableFuture<Expense> categorizeAsExpenseAsync(String transactionId, Expense expense, Attachment receipt) {
+        return async(() -> categorizeAsExpense(transactionId, expense, receipt));
+    }
+
+    /**
+     * Asynchronous variant of {@link #uncategorizeACategorizedTransaction(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> uncategorizeACategorizedTransactionAsync(String transactionId) {
+        return async(() -> uncategorizeACategorizedTransaction(transactionId));
+    }
+
 }
@@ -5,9 +5,13 @@ package com.zoho.books.api;
 import com.zoho.books.model.BaseCurrencyAdjustment;
 import com.zoho.books.model.BaseCurrencyAdjustmentList;
 import com.zoho.books.parser.BaseCurrencyAdjustmentParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 
+import java.io.Reader;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -39,8 +43,24 @@ public class BaseCurrencyAdjustmentsApi extends API {
 
 	}
 
+	/**
+	 * Construct a new BaseCurrencyAdjustmentsApi that sends its requests through the given transport.
+	 *
+	 * @param accessToken user's accessToken.
+	 * @param organizationId user's organization id.
+	 * @param eu Whether the organization is in the EU data center.
+	 * @param transport Transport used to execute the requests.
+	 */
+
+	public BaseCurrencyAdjustmentsApi(String accessToken, String organizationId, boolean eu, Transport transport)
+	{
 
-	private BaseCurrencyAdjustmentParser baseCurrencyAdjustmentParser = new BaseCurrencyAdjustmentParser();
+		super(accessToken, organizationId, eu, transport);
+
+	}
+
+
+	private static final BaseCurrencyAdjustmentParser baseCurrencyAdjustmentParser = new BaseCurrencyAdjustmentParser();
 
 
 	/**
@@ -76,7 +96,7 @@ public class BaseCurrencyAdjustmentsApi extends API {
 
 		String urlString = url+"/accounts"; //No I18N
 
-		String response = ZohoHTTPClient.get(urlString, getQueryMap(queryMap), accessToken);
+		Reader response = httpClient.get(urlString, getQueryMap(queryMap));
 
 		BaseCurrencyAdjustment baseCurrencyAdjustment = baseCurrencyAdjustmentParser.getBaseCurrencyAdjustment(response);
 
@@ -116,9 +136,9 @@ public class BaseCurrencyAdjustmentsApi extends API {
 
 		HashMap<String, Object> requestBody = getQueryMap(paramMap);
 
-		requestBody.put("JSONString", baseCurrencyAdjustment.toJSON().toString());
+		requestBody.put("JSONString", JsonWriter.deferred(baseCurrencyAdjustment::write));
 
-		String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+		Reader response = httpClient.post(url, requestBody);
 
 		return baseCurrencyAdjustmentParser.getBaseCurrencyAdjustment(response);
 	}
@@ -139,13 +159,27 @@ public class BaseCurrencyAdjustmentsApi extends API {
 	*/
 
 	public BaseCurrencyAdjustment get(String baseCurrencyAdjustmentId)throws Exception
+	{
+		return get(baseCurrencyAdjustmentId, null);
+	}
+
+	/**
+	 * Get the base currency adjustment details.
+	 * Only the given fields of the base currency adjustment are read.
+	 *
+	 * @param baseCurrencyAdjustmentId ID of the BaseCurrencyAdjustment.
+	 * @param fields Names of the fields to read, or null to read every field.
+	 * @return Returns the BaseCurrencyAdjustment object.
+	 */
+
+	public BaseCurrencyAdjustment get(String baseCurrencyAdjustmentId, Set<String> fields)throws Exception
 	{
 
 		String urlString = url+"/"+baseCurrencyAdjustmentId;
 
-		String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.get(urlString, getQueryMap());
 
-		BaseCurrencyAdjustment baseCurrencyAdjustment = baseCurrencyAdjustmentParser.getBaseCurrencyAdjustment(response);
+		BaseCurrencyAdjustment baseCurrencyAdjustment = baseCurrencyAdjustmentParser.getBaseCurrencyAdjustment(response, fields);
 
 		return baseCurrencyAdjustment;
 	}
@@ -172,7 +206,7 @@ public class BaseCurrencyAdjustmentsApi extends API {
 
 		String urlString = url+"/"+baseCurrencyAdjustmentId;
 
-		String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.delete(urlString, getQueryMap());
 
 		String success = baseCurrencyAdjustmentParser.getMessage(response);
 
@@ -208,13 +242,105 @@ Allowed Values: <i>adjustment_date, exchange_rate, currency_code, debit_or_credi
 	*/
 
 	public BaseCurrencyAdjustmentList getBaseCurrencyAdjustments(HashMap<String, Object> queryMap)throws Exception
+	{
+		return getBaseCurrencyAdjustments(queryMap, null);
+	}
+
+	/**
+	 * List base currency adjustment.
+	 * Only the given fields of each base currency adjustment are read.
+	 *
+	 * @param queryMap It contains the query string parameters in the form of key-value pair.
+	 * @param fields Names of the fields to read from each base currency adjustment, or null to read every field.
+	 * @return Returns the BaseCurrencyAdjustmentList object.
+	 */
+
+	public BaseCurrencyAdjustmentList getBaseCurrencyAdjustments(HashMap<String, Object> queryMap, Set<String> fields)throws Exception
 	{
 
-		String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
+		Reader response = httpClient.get(url, getQueryMap(queryMap));
 
-		BaseCurrencyAdjustmentList baseCurrencyAdjustmentList = baseCurrencyAdjustmentParser.getBaseCurrencyAdjustments(response);
+		BaseCurrencyAdjustmentList baseCurrencyAdjustmentList = baseCurrencyAdjustmentParser.getBaseCurrencyAdjustments(response, fields);
 
 		return baseCurrencyAdjustmentList;
 	}
 
+
+	/**
+	 * Asynchronous variant of {@link #getBaseCurrencyAdjustmentAccounts(HashMap)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the BaseCurrencyAdjustment object.
+	 */
+
+	public CompletableFuture<BaseCurrencyAdjustment> getBaseCurrencyAdjustmentAccountsAsync(HashMap<String, Object> queryMap)
+	{
+		return async(() -> getBaseCurrencyAdjustmentAccounts(queryMap));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #create(HashMap, BaseCurrencyAdjustment)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the BaseCurrencyAdjustment object.
+	 */
+
+	public CompletableFuture<BaseCurrencyAdjustment> createAsync(HashMap<String, Object> paramMap, BaseCurrencyAdjustment baseCurrencyAdjustment)
+	{
+		return async(() -> create(paramMap, baseCurrencyAdjustment));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #get(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the BaseCurrencyAdjustment object.
+	 */
+
+	public CompletableFuture<BaseCurrencyAdjustment> getAsync(String baseCurrencyAdjustmentId)
+	{
+		return async(() -> get(baseCurrencyAdjustmentId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #get(String, Set)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the BaseCurrencyAdjustment object.
+	 */
+
+	public CompletableFuture<BaseCurrencyAdjustment> getAsync(String baseCurrencyAdjustmentId, Set<String> fields)
+	{
+		return async(() -> get(baseCurrencyAdjustmentId, fields));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #delete(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> deleteAsync(String baseCurrencyAdjustmentId)
+	{
+		return async(() -> delete(baseCurrencyAdjustmentId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getBaseCurrencyAdjustments(HashMap)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the BaseCurrencyAdjustmentList object.
+	 */
+
+	public CompletableFuture<BaseCurrencyAdjustmentList> getBaseCurrencyAdjustmentsAsync(HashMap<String, Object> queryMap)
+	{
+		return async(() -> getBaseCurrencyAdjustments(queryMap));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getBaseCurrencyAdjustments(HashMap, Set)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the BaseCurrencyAdjustmentList object.
+	 */
+
+	public CompletableFuture<BaseCurrencyAdjustmentList> getBaseCurrencyAdjustmentsAsync(HashMap<String, Object> queryMap, Set<String> fields)
+	{
+		return async(() -> getBaseCurrencyAdjustments(queryMap, fields));
+	}
+
 }
@@ -4,14 +4,23 @@ package com.zoho.books.api;
 
 import com.zoho.books.model.*;
 import com.zoho.books.parser.BillParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Attachment;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.File;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * BillsApi is used to create a Bill for the vendor.
@@ -59,8 +68,21 @@ public class BillsApi extends API {
         super(accessToken, organizationId, eu);
     }
 
+    /**
+     * Construct a new BillsApi that sends its requests through the given transport.
+     *
+     * @param accessToken    user's accessToken.
+     * @param organizationId user's organization id.
+     * @param eu             Whether the organization is in the EU data center.
+     * @param transport      Transport used to execute the requests.
+     */
+
+    public BillsApi(String accessToken, String organizationId, boolean eu, Transport transport) {
+        super(accessToken, organizationId, eu, transport);
+    }
+
 
-    private BillParser billParser = new BillParser();
+    private static final BillParser billParser = new BillParser();
 
 
     /**
@@ -95,9 +117,9 @@ public class BillsApi extends API {
         billObj.setLineItems(lineItems);
 
 
-        requestBody.put("JSONString", billObj.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(billObj::write));
 
-        String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+        Reader response = httpClient.post(url, requestBody);
 
         Bill bill = billParser.getBill(response);
 
@@ -118,9 +140,9 @@ public class BillsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", bill.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(bill::write));
 
-        String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+        Reader response = httpClient.post(url, requestBody);
 
         return billParser.getBill(response);
 
@@ -141,12 +163,12 @@ public class BillsApi extends API {
 
         HashMap<String, Object> requestBody = new HashMap<String, Object>();
 
-        requestBody.put("JSONString", bill.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.toString(bill::write));
 
         HashMap<String, Object> fileBody = new HashMap<String, Object>();
         fileBody.put("attachment", file);
 
-        String response = ZohoHTTPClient.post(url, getQueryMap(), requestBody, fileBody, accessToken);
+        Reader response = httpClient.post(url, getQueryMap(), requestBody, fileBody);
 
         return billParser.getBill(response);
 
@@ -162,12 +184,25 @@ public class BillsApi extends API {
      */
 
     public Bill get(String billId) throws Exception {
+        return get(billId, null);
+    }
+
+    /**
+     * Get the details of a bill.
+     * Only the given fields of the bill are read.
+     *
+     * @param billId ID of the bill.
+     * @param fields Names of the fields to read, or null to read every field.
+     * @return Returns the Bill object.
+     */
+
+    public Bill get(String billId, Set<String> fields) throws Exception {
 
         String urlString = url + "/" + billId;
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
-        Bill bill = billParser.getBill(response);
+        Bill bill = billParser.getBill(response, fields);
 
         return bill;
     }
@@ -188,9 +223,9 @@ public class BillsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", bill.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(bill::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return billParser.getBill(response);
     }
@@ -212,13 +247,13 @@ public class BillsApi extends API {
 
         HashMap<String, Object> requestBody = new HashMap<String, Object>();
 
-        requestBody.put("JSONString", bill.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.toString(bill::write));
 
         HashMap<String, Object> fileBody = new HashMap<String, Object>();
 
         fileBody.put("attachment", file);
 
-        String response = ZohoHTTPClient.put(urlString, getQueryMap(), requestBody, fileBody, accessToken);
+        Reader response = httpClient.put(urlString, getQueryMap(), requestBody, fileBody);
 
         return billParser.getBill(response);
     }
@@ -237,7 +272,7 @@ public class BillsApi extends API {
 
         String urlString = url + "/" + billId;
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = billParser.getMessage(response);
 
@@ -280,11 +315,24 @@ public class BillsApi extends API {
      */
 
     public BillList getBills(HashMap<String, Object> queryMap) throws Exception {
+        return getBills(queryMap, null);
+    }
+
+    /**
+     * List all bills with pagination.
+     * Only the given fields of each bill are read.
+     *
+     * @param queryMap It contains the query string parameters in the form of key-value pair.
+     * @param fields Names of the fields to read from each bill, or null to read every field.
+     * @return Returns the BillList object.
+     */
 
+    public BillList getBills(HashMap<String, Object> queryMap, Set<String> fields) throws Exception {
 
-        String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
 
-        BillList billList = billParser.getBills(response);
+        Reader response = httpClient.get(url, getQueryMap(queryMap));
+
+        BillList billList = billParser.getBills(response, lazyLists, fields);
 
         return billList;
     }
@@ -303,7 +351,7 @@ public class BillsApi extends API {
 
         String urlString = url + "/" + billId + "/status/void";  //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = billParser.getMessage(response);
 
@@ -324,7 +372,7 @@ public class BillsApi extends API {
 
         String urlString = url + "/" + billId + "/status/open";  //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = billParser.getMessage(response);
 
@@ -350,7 +398,7 @@ public class BillsApi extends API {
 
         requestBody.put("JSONString", billingAddress.toJSON().put("is_update_customer", billingAddress.isUpdateCustomer()).toString());
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         String success = billParser.getMessage(response);
 
@@ -373,7 +421,7 @@ public class BillsApi extends API {
 
         String urlString = url + "/" + billId + "/payments";  //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         PaymentList payments = billParser.getPayments(response);
 
@@ -415,7 +463,7 @@ public class BillsApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         String success = billParser.getMessage(response);
 
@@ -437,7 +485,7 @@ public class BillsApi extends API {
 
         String urlString = url + "/" + billId + "/payments/" + billPaymentId;  //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = billParser.getMessage(response);
 
@@ -460,11 +508,58 @@ public class BillsApi extends API {
 
         String urlString = url + "/" + billId + "/attachment";  //No I18N
 
-        File file = ZohoHTTPClient.getFile(urlString, getQueryMap());
+        File file = httpClient.getFile(urlString, getQueryMap(), Paths.get("")).toFile();
 
         return file;
     }
 
+    /**
+     * Write the file attached to the bill to the given path.
+     * If the path is a directory, the file is created in it with the name sent by the server.
+     *
+     * @param billId ID of the bill.
+     * @param target Path of the file, or of the directory, to write to.
+     * @return Returns the Path of the file written.
+     */
+
+    public Path getAttachment(String billId, Path target) throws Exception {
+
+        String urlString = url + "/" + billId + "/attachment";  //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(), target);
+    }
+
+    /**
+     * Write the file attached to the bill to the given stream.
+     *
+     * @param billId ID of the bill.
+     * @param out    OutputStream to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long getAttachment(String billId, OutputStream out) throws Exception {
+
+        String urlString = url + "/" + billId + "/attachment";  //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(), out);
+    }
+
+    /**
+     * Write the file attached to the bill to the given channel.
+     * A FileChannel is written from its current position by FileChannel.transferFrom.
+     *
+     * @param billId  ID of the bill.
+     * @param channel WritableByteChannel to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long getAttachment(String billId, WritableByteChannel channel) throws Exception {
+
+        String urlString = url + "/" + billId + "/attachment";  //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(), channel);
+    }
+
     /**
      * Attach a file to a bill.
      * Pass the billId and File object to add the attachment of the bill.
@@ -485,13 +580,35 @@ public class BillsApi extends API {
         fileBody.put("attachment", file);
 
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), null, fileBody, accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap(), null, fileBody);
 
         String success = billParser.getMessage(response);
 
         return success;
     }
 
+    /**
+     * Attach a file to a bill from a File, a Path, an InputStream or a ByteBuffer.
+     * The file is streamed to the server, with chunked transfer encoding when its length is not known.
+     *
+     * @param billId     ID of the bill.
+     * @param attachment File to attach.
+     * @return Returns a String.
+     */
+
+    public String addAttachment(String billId, Attachment attachment) throws Exception {
+
+        String urlString = url + "/" + billId + "/attachment";  //No I18N
+
+        HashMap<String, Object> fileBody = new HashMap<String, Object>();
+
+        fileBody.put("attachment", attachment);
+
+        Reader response = httpClient.post(urlString, getQueryMap(), null, fileBody);
+
+        return billParser.getMessage(response);
+    }
+
     /**
      * Delete the file attached to a bill.
      * Pass the billId to delete the attachment of the bill.
@@ -507,7 +624,7 @@ public class BillsApi extends API {
 
         String urlString = url + "/" + billId + "/attachment";  //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = billParser.getMessage(response);
 
@@ -530,7 +647,7 @@ public class BillsApi extends API {
 
         String urlString = url + "/" + billId + "/comments";  //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         CommentList commentList = billParser.getComments(response);
 
@@ -559,7 +676,7 @@ public class BillsApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         Comment comment = billParser.getComment(response);
 
@@ -581,11 +698,272 @@ public class BillsApi extends API {
 
         String urlString = url + "/" + billId + "/comments" + commentId;  //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = billParser.getMessage(response);
 
         return success;
     }
 
+
+    /**
+     * Asynchronous variant of {@link #create(String, String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Bill object.
+     */
+
+    public CompletableFuture<Bill> createAsync(String vendorId, String billNumber, String accountId) {
+        return async(() -> create(vendorId, billNumber, accountId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #create(Bill)}.
+     *
+     * @return Returns a CompletableFuture completed with the Bill object.
+     */
+
+    public CompletableFuture<Bill> createAsync(Bill bill) {
+        return async(() -> create(bill));
+    }
+
+    /**
+     * Asynchronous variant of {@link #create(Bill, File)}.
+     *
+     * @return Returns a CompletableFuture completed with the Bill object.
+     */
+
+    public CompletableFuture<Bill> createAsync(Bill bill, File file) {
+        return async(() -> create(bill, file));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Bill object.
+     */
+
+    public CompletableFuture<Bill> getAsync(String billId) {
+        return async(() -> get(billId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the Bill object.
+     */
+
+    public CompletableFuture<Bill> getAsync(String billId, Set<String> fields) {
+        return async(() -> get(billId, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(Bill)}.
+     *
+     * @return Returns a CompletableFuture completed with the Bill object.
+     */
+
+    public CompletableFuture<Bill> updateAsync(Bill bill) {
+        return async(() -> update(bill));
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(Bill, File)}.
+     *
+     * @return Returns a CompletableFuture completed with the Bill object.
+     */
+
+    public CompletableFuture<Bill> updateAsync(Bill bill, File file) {
+        return async(() -> update(bill, file));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteAsync(String billId) {
+        return async(() -> delete(billId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getBills(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the BillList object.
+     */
+
+    public CompletableFuture<BillList> getBillsAsync(HashMap<String, Object> queryMap) {
+        return async(() -> getBills(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getBills(HashMap, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the BillList object.
+     */
+
+    public CompletableFuture<BillList> getBillsAsync(HashMap<String, Object> queryMap, Set<String> fields) {
+        return async(() -> getBills(queryMap, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #voidABill(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> voidABillAsync(String billId) {
+        return async(() -> voidABill(billId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #markABillAsOpen(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> markABillAsOpenAsync(String billId) {
+        return async(() -> markABillAsOpen(billId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateBillingAddress(String, Address)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateBillingAddressAsync(String billId, Address billingAddress) {
+        return async(() -> updateBillingAddress(billId, billingAddress));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getPayments(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the PaymentList object.
+     */
+
+    public CompletableFuture<PaymentList> getPaymentsAsync(String billId) {
+        return async(() -> getPayments(billId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #applyCredits(String, List)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> applyCreditsAsync(String billId, List<Payment> payment) {
+        return async(() -> applyCredits(billId, payment));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deletePayment(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deletePaymentAsync(String billId, String billPaymentId) {
+        return async(() -> deletePayment(billId, billPaymentId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAttachment(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the File object.
+     */
+
+    public CompletableFuture<File> getAttachmentAsync(String billId) {
+        return async(() -> getAttachment(billId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAttachment(String, Path)}.
+     *
+     * @return Returns a CompletableFuture completed with the Path of the file written.
+     */
+
+    public CompletableFuture<Path> getAttachmentAsync(String billId, Path target) {
+        return async(() -> getAttachment(billId, target));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAttachment(String, OutputStream)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> getAttachmentAsync(String billId, OutputStream out) {
+        return async(() -> getAttachment(billId, out));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAttachment(String, WritableByteChannel)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> getAttachmentAsync(String billId, WritableByteChannel channel) {
+        return async(() -> getAttachment(billId, channel));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addAttachment(String, File)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> addAttachmentAsync(String billId, File file) {
+        return async(() -> addAttachment(billId, file));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addAttachment(String, Attachment)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> addAttachmentAsync(String billId, Attachment attachment) {
+        return async(() -> addAttachment(billId, attachment));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteAttachment(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteAttachmentAsync(String billId) {
+        return async(() -> deleteAttachment(billId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getComments(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the CommentList object.
+     */
+
+    public CompletableFuture<CommentList> getCommentsAsync(String billId) {
+        return async(() -> getComments(billId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addComment(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Comment object.
+     */
+
+    public CompletableFuture<Comment> addCommentAsync(String billId, String description) {
+        return async(() -> addComment(billId, description));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteComment(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteCommentAsync(String billId, String commentId) {
+        return async(() -> deleteComment(billId, commentId));
+    }
+
 }
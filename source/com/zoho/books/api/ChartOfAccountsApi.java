@@ -6,9 +6,13 @@ import com.zoho.books.model.ChartOfAccount;
 import com.zoho.books.model.ChartOfAccountList;
 import com.zoho.books.model.TransactionList;
 import com.zoho.books.parser.ChartOfAccountParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 
+import java.io.Reader;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -47,8 +51,24 @@ public class ChartOfAccountsApi extends API {
 
 	}
 
+	/**
+	 * Construct a new ChartOfAccountsApi that sends its requests through the given transport.
+	 *
+	 * @param accessToken user's accessToken.
+	 * @param organizationId user's organization id.
+	 * @param eu Whether the organization is in the EU data center.
+	 * @param transport Transport used to execute the requests.
+	 */
+
+	public ChartOfAccountsApi(String accessToken, String organizationId, boolean eu, Transport transport)
+	{
+
+		super(accessToken, organizationId, eu, transport);
+
+	}
 
-	private ChartOfAccountParser chartOfAccountParser = new ChartOfAccountParser();
+
+	private static final ChartOfAccountParser chartOfAccountParser = new ChartOfAccountParser();
 
 
 	/**
@@ -73,9 +93,9 @@ public class ChartOfAccountsApi extends API {
 
 		HashMap<String, Object> requestBody = getQueryMap();
 
-		requestBody.put("JSONString", chartOfAccount.toJSON().toString());
+		requestBody.put("JSONString", JsonWriter.deferred(chartOfAccount::write));
 
-		String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+		Reader response = httpClient.post(url, requestBody);
 
 		return chartOfAccountParser.getChartOfAccount(response);
 
@@ -97,13 +117,27 @@ public class ChartOfAccountsApi extends API {
 	*/
 
 	public ChartOfAccount get(String accountId)throws Exception
+	{
+		return get(accountId, null);
+	}
+
+	/**
+	 * Get the details of an account.
+	 * Only the given fields of the chart of account are read.
+	 *
+	 * @param accountId ID of the account.
+	 * @param fields Names of the fields to read, or null to read every field.
+	 * @return Returns the ChartOfAccount object.
+	 */
+
+	public ChartOfAccount get(String accountId, Set<String> fields)throws Exception
 	{
 
 		String urlString = url+"/"+accountId;
 
-		String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.get(urlString, getQueryMap());
 
-		ChartOfAccount chartOfAccount = chartOfAccountParser.getChartOfAccount(response);
+		ChartOfAccount chartOfAccount = chartOfAccountParser.getChartOfAccount(response, fields);
 
 		return chartOfAccount;
 	}
@@ -132,9 +166,9 @@ public class ChartOfAccountsApi extends API {
 
 		HashMap<String, Object> requestBody = getQueryMap();
 
-		requestBody.put("JSONString", chartOfAccount.toJSON().toString());
+		requestBody.put("JSONString", JsonWriter.deferred(chartOfAccount::write));
 
-		String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+		Reader response = httpClient.put(urlString, requestBody);
 
 		return chartOfAccountParser.getChartOfAccount(response);
 
@@ -162,7 +196,7 @@ public class ChartOfAccountsApi extends API {
 
 		String urlString = url+"/"+accountId;
 
-		String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.delete(urlString, getQueryMap());
 
 		String success = chartOfAccountParser.getMessage(response);
 
@@ -191,7 +225,7 @@ public class ChartOfAccountsApi extends API {
 
 		String urlString = url+"/"+accountId+"/inactive"; //No I18N
 
-		String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.post(urlString, getQueryMap());
 
 		String success = chartOfAccountParser.getMessage(response);
 
@@ -220,7 +254,7 @@ public class ChartOfAccountsApi extends API {
 
 		String urlString = url+"/"+accountId+"/active"; //No I18N
 
-		String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.post(urlString, getQueryMap());
 
 		String success = chartOfAccountParser.getMessage(response);
 
@@ -256,11 +290,25 @@ Allowed Values: <i>account_name</i> and <i>account_type</i></td></tr>
 	*/
 
 	public ChartOfAccountList getChartOfAccounts(HashMap<String, Object> queryMap)throws Exception
+	{
+		return getChartOfAccounts(queryMap, null);
+	}
+
+	/**
+	 * List all chart of accounts along with pagination.
+	 * Only the given fields of each chart of account are read.
+	 *
+	 * @param queryMap It contains the query string parameters in the form of key-value pair.
+	 * @param fields Names of the fields to read from each chart of account, or null to read every field.
+	 * @return Returns the ChartOfAccountList object.
+	 */
+
+	public ChartOfAccountList getChartOfAccounts(HashMap<String, Object> queryMap, Set<String> fields)throws Exception
 	{
 
-		String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
+		Reader response = httpClient.get(url, getQueryMap(queryMap));
 
-		ChartOfAccountList chartOfAccountList = chartOfAccountParser.getChartOfAccounts(response);
+		ChartOfAccountList chartOfAccountList = chartOfAccountParser.getChartOfAccounts(response, fields);
 
 		return chartOfAccountList;
 	}
@@ -309,7 +357,7 @@ Allowed Values: <i>transaction_date, payee, glname, transaction_type_formatted,
 
 		String urlString = url+"/transactions"; //No I18N
 
-		String response = ZohoHTTPClient.get(urlString, getQueryMap(queryMap), accessToken);
+		Reader response = httpClient.get(urlString, getQueryMap(queryMap));
 
 		TransactionList transactionList = chartOfAccountParser.getTransactions(response);
 
@@ -338,10 +386,133 @@ Allowed Values: <i>transaction_date, payee, glname, transaction_type_formatted,
 
 		String urlString = url+"/transactions/"+transactionId; //No I18N
 
-		String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.delete(urlString, getQueryMap());
 
 		String success = chartOfAccountParser.getMessage(response);
 
 		return success;
 	}
+
+
+	/**
+	 * Asynchronous variant of {@link #create(ChartOfAccount)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the ChartOfAccount object.
+	 */
+
+	public CompletableFuture<ChartOfAccount> createAsync(ChartOfAccount chartOfAccount)
+	{
+		return async(() -> create(chartOfAccount));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #get(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the ChartOfAccount object.
+	 */
+
+	public CompletableFuture<ChartOfAccount> getAsync(String accountId)
+	{
+		return async(() -> get(accountId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #get(String, Set)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the ChartOfAccount object.
+	 */
+
+	public CompletableFuture<ChartOfAccount> getAsync(String accountId, Set<String> fields)
+	{
+		return async(() -> get(accountId, fields));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #update(ChartOfAccount)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the ChartOfAccount object.
+	 */
+
+	public CompletableFuture<ChartOfAccount> updateAsync(ChartOfAccount chartOfAccount)
+	{
+		return async(() -> update(chartOfAccount));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #delete(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> deleteAsync(String accountId)
+	{
+		return async(() -> delete(accountId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #markAsInactive(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> markAsInactiveAsync(String accountId)
+	{
+		return async(() -> markAsInactive(accountId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #markAsActive(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> markAsActiveAsync(String accountId)
+	{
+		return async(() -> markAsActive(accountId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getChartOfAccounts(HashMap)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the ChartOfAccountList object.
+	 */
+
+	public CompletableFuture<ChartOfAccountList> getChartOfAccountsAsync(HashMap<String, Object> queryMap)
+	{
+		return async(() -> getChartOfAccounts(queryMap));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getChartOfAccounts(HashMap, Set)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the ChartOfAccountList object.
+	 */
+
+	public CompletableFuture<ChartOfAccountList> getChartOfAccountsAsync(HashMap<String, Object> queryMap, Set<String> fields)
+	{
+		return async(() -> getChartOfAccounts(queryMap, fields));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getTransactions(String, HashMap)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the TransactionList object.
+	 */
+
+	public CompletableFuture<TransactionList> getTransactionsAsync(String accountId, HashMap<String, Object> queryMap)
+	{
+		return async(() -> getTransactions(accountId, queryMap));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #deleteTransaction(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> deleteTransactionAsync(String transactionId)
+	{
+		return async(() -> deleteTransaction(transactionId));
+	}
+
 }
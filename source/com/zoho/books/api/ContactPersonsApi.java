@@ -5,9 +5,12 @@ package com.zoho.books.api;
 import com.zoho.books.model.ContactPerson;
 import com.zoho.books.model.ContactPersonList;
 import com.zoho.books.parser.ContactParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 
+import java.io.Reader;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -39,8 +42,21 @@ public class ContactPersonsApi extends API {
         super(accessToken, organizationId, eu);
     }
 
+    /**
+     * Construct a new ContactPersonsApi that sends its requests through the given transport.
+     *
+     * @param accessToken    user's accessToken.
+     * @param organizationId user's organization id.
+     * @param eu             Whether the organization is in the EU data center.
+     * @param transport      Transport used to execute the requests.
+     */
+
+    public ContactPersonsApi(String accessToken, String organizationId, boolean eu, Transport transport) {
+        super(accessToken, organizationId, eu, transport);
+    }
+
 
-    private ContactParser contactParser = new ContactParser();
+    private static final ContactParser contactParser = new ContactParser();
 
 
     /**
@@ -59,9 +75,9 @@ public class ContactPersonsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", contactPerson.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(contactPerson::write));
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         return contactParser.getContactPerson(response);
     }
@@ -80,7 +96,7 @@ public class ContactPersonsApi extends API {
 
         String urlString = url + "/" + contactId + "/contactpersons/" + contactPersonId;  //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         ContactPerson contactPerson = contactParser.getContactPerson(response);
 
@@ -103,9 +119,9 @@ public class ContactPersonsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", contactPerson.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(contactPerson::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return contactParser.getContactPerson(response);
     }
@@ -124,7 +140,7 @@ public class ContactPersonsApi extends API {
 
         String urlString = url + "/contactpersons/" + contactPersonId; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = contactParser.getMessage(response);
 
@@ -145,7 +161,7 @@ public class ContactPersonsApi extends API {
 
         String urlString = url + "/contactpersons/" + contactPersonId + "/primary"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = contactParser.getMessage(response);
 
@@ -165,10 +181,72 @@ public class ContactPersonsApi extends API {
 
         String urlString = url + "/" + contactId + "/contactpersons"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         ContactPersonList contactPersonList = contactParser.getContactPersons(response);
 
         return contactPersonList;
     }
+
+
+    /**
+     * Asynchronous variant of {@link #create(ContactPerson)}.
+     *
+     * @return Returns a CompletableFuture completed with the ContactPerson object.
+     */
+
+    public CompletableFuture<ContactPerson> createAsync(ContactPerson contactPerson) {
+        return async(() -> create(contactPerson));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the ContactPerson object.
+     */
+
+    public CompletableFuture<ContactPerson> getAsync(String contactId, String contactPersonId) {
+        return async(() -> get(contactId, contactPersonId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(ContactPerson)}.
+     *
+     * @return Returns a CompletableFuture completed with the ContactPerson object.
+     */
+
+    public CompletableFuture<ContactPerson> updateAsync(ContactPerson contactPerson) {
+        return async(() -> update(contactPerson));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteAsync(String contactPersonId) {
+        return async(() -> delete(contactPersonId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #markAsPrimaryContactPerson(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> markAsPrimaryContactPersonAsync(String contactPersonId) {
+        return async(() -> markAsPrimaryContactPerson(contactPersonId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getContactPersons(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the ContactPersonList object.
+     */
+
+    public CompletableFuture<ContactPersonList> getContactPersonsAsync(String contactId) {
+        return async(() -> getContactPersons(contactId));
+    }
+
 }
@@ -4,11 +4,15 @@ package com.zoho.books.api;
 
 import com.zoho.books.model.*;
 import com.zoho.books.parser.ContactParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 
 import java.io.File;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -53,8 +57,24 @@ public class ContactsApi extends API {
 
 	}
 
+	/**
+	 * Construct a new ContactsApi that sends its requests through the given transport.
+	 *
+	 * @param accessToken user's accessToken.
+	 * @param organizationId user's organization id.
+	 * @param eu Whether the organization is in the EU data center.
+	 * @param transport Transport used to execute the requests.
+	 */
+
+	public ContactsApi(String accessToken, String organizationId, boolean eu, Transport transport)
+	{
+
+		super(accessToken, organizationId, eu, transport);
+
+	}
 
-	private ContactParser contactParser = new ContactParser();
+
+	private static final ContactParser contactParser = new ContactParser();
 
 
 
@@ -85,9 +105,9 @@ public class ContactsApi extends API {
 		contact.setContactName(contactName);
 		contact.setCurrencyId(currencyId);
 
-		requestBody.put("JSONString", contact.toJSON().toString());
+		requestBody.put("JSONString", JsonWriter.deferred(contact::write));
 
-		String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+		Reader response = httpClient.post(url, requestBody);
 
 		return contactParser.getContact(response);
 	}
@@ -114,9 +134,9 @@ public class ContactsApi extends API {
 
 		HashMap<String, Object> requestBody = getQueryMap();
 
-		requestBody.put("JSONString", contact.toJSON().toString());
+		requestBody.put("JSONString", JsonWriter.deferred(contact::write));
 
-		String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+		Reader response = httpClient.post(url, requestBody);
 
 		return contactParser.getContact(response);
 
@@ -138,13 +158,33 @@ public class ContactsApi extends API {
 	*/
 
 	public Contact get(String contactId)throws Exception
+	{
+		return get(contactId, null);
+	}
+
+	/**
+
+	* Get details of a contact.
+
+	* Only the given fields of the contact are read.
+
+
+	* @param contactId Id of the contact.
+
+	* @param fields Names of the fields to read, or null to read every field.
+
+	* @return Returns a Contact object.
+
+	*/
+
+	public Contact get(String contactId, Set<String> fields)throws Exception
 	{
 
 		String urlString = url+"/"+contactId;
 
-		String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.get(urlString, getQueryMap());
 
-		Contact contact = contactParser.getContact(response);
+		Contact contact = contactParser.getContact(response, fields);
 
 		return contact;
 	}
@@ -173,9 +213,9 @@ public class ContactsApi extends API {
 
 		HashMap<String, Object> requestBody = getQueryMap();
 
-		requestBody.put("JSONString", contact.toJSON().toString());
+		requestBody.put("JSONString", JsonWriter.deferred(contact::write));
 
-		String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+		Reader response = httpClient.put(urlString, requestBody);
 
 		return contactParser.getContact(response);
 	}
@@ -202,7 +242,7 @@ public class ContactsApi extends API {
 
 		String urlString = url+"/"+contactId;
 
-		String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.delete(urlString, getQueryMap());
 
 		String success = contactParser.getMessage(response);
 
@@ -262,10 +302,30 @@ Allowed Values: <i>contact_name, first_name, last_name, email, outstanding_recei
 
 	public ContactList getContacts(HashMap<String, Object> queryMap)throws Exception
 	{
+		return getContacts(queryMap, null);
+	}
+
+	/**
 
-		String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
+	* List all contacts with pagination.
 
-		ContactList contactList = contactParser.getContacts(response);
+	* Only the given fields of each contact are read.
+
+
+	* @param queryMap It contains the query string parameters in the form of key-value pair.
+
+	* @param fields Names of the fields to read from each contact, or null to read every field.
+
+	* @return Returns the ContactList object.
+
+	*/
+
+	public ContactList getContacts(HashMap<String, Object> queryMap, Set<String> fields)throws Exception
+	{
+
+		Reader response = httpClient.get(url, getQueryMap(queryMap));
+
+		ContactList contactList = contactParser.getContacts(response, lazyLists, fields);
 
 		return contactList;
 	}
@@ -292,7 +352,7 @@ Allowed Values: <i>contact_name, first_name, last_name, email, outstanding_recei
 
 		String urlString = url+"/"+contactId+"/active"; //No I18N
 
-		String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.post(urlString, getQueryMap());
 
 		String success = contactParser.getMessage(response);
 
@@ -321,7 +381,7 @@ Allowed Values: <i>contact_name, first_name, last_name, email, outstanding_recei
 
 		String urlString = url+"/"+contactId+"/inactive"; //No I18N
 
-		String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.post(urlString, getQueryMap());
 
 		String success = contactParser.getMessage(response);
 
@@ -350,7 +410,7 @@ Allowed Values: <i>contact_name, first_name, last_name, email, outstanding_recei
 
 		String urlString = url+"/"+contactId+"/paymentreminder/enable"; //No I18N
 
-		String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.post(urlString, getQueryMap());
 
 		String success = contactParser.getMessage(response);
 
@@ -379,7 +439,7 @@ Allowed Values: <i>contact_name, first_name, last_name, email, outstanding_recei
 
 		String urlString = url+"/"+contactId+"/paymentreminder/disable"; //No I18N
 
-		String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.post(urlString, getQueryMap());
 
 		String success = contactParser.getMessage(response);
 
@@ -425,7 +485,7 @@ Allowed Values: <i>contact_name, first_name, last_name, email, outstanding_recei
 			paramMap = new HashMap<String, Object>();
 		}
 
-		paramMap.put("JSONString", email.toJSON().toString());
+		paramMap.put("JSONString", JsonWriter.toString(email::write));
 
 		ArrayList<File> files = email.getAttachments();
 
@@ -435,7 +495,7 @@ Allowed Values: <i>contact_name, first_name, last_name, email, outstanding_recei
 			fileBody.put("attachments", files);
 		}
 
-		String response = ZohoHTTPClient.post(urlString, getQueryMap(), paramMap, fileBody, accessToken);
+		Reader response = httpClient.post(urlString, getQueryMap(), paramMap, fileBody);
 
 		String success = contactParser.getMessage(response);
 
@@ -474,7 +534,7 @@ Allowed Values: <i>contact_name, first_name, last_name, email, outstanding_recei
 
 		String urlString = url+"/"+contactId+"/statements/email"; //No I18N
 
-		String response = ZohoHTTPClient.get(urlString, getQueryMap(queryMap), accessToken);
+		Reader response = httpClient.get(urlString, getQueryMap(queryMap));
 
 		Email email = contactParser.getEmailContent(response);
 
@@ -518,7 +578,7 @@ Allowed Values: <i>contact_name, first_name, last_name, email, outstanding_recei
 			paramMap = new HashMap<String, Object>();
 		}
 
-		paramMap.put("JSONString", email.toJSON().toString());
+		paramMap.put("JSONString", JsonWriter.toString(email::write));
 
 		ArrayList<File> files = email.getAttachments();
 
@@ -529,7 +589,7 @@ Allowed Values: <i>contact_name, first_name, last_name, email, outstanding_recei
 			fileBody.put("attachments", files);
 		}
 
-		String response = ZohoHTTPClient.post(urlString, getQueryMap(), paramMap, fileBody, accessToken);
+		Reader response = httpClient.post(urlString, getQueryMap(), paramMap, fileBody);
 
 		String success = contactParser.getMessage(response);
 
@@ -556,7 +616,7 @@ Allowed Values: <i>contact_name, first_name, last_name, email, outstanding_recei
 
 		String urlString = url+"/"+contactId+"/refunds"; //No I18N
 
-		String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.get(urlString, getQueryMap());
 
 		CreditnoteRefundList creditnoteRefundList = contactParser.getRefunds(response);
 
@@ -583,7 +643,7 @@ Allowed Values: <i>contact_name, first_name, last_name, email, outstanding_recei
 
 		String urlString = url+"/"+contactId+"/comments"; //No I18N
 
-		String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.get(urlString, getQueryMap());
 
 		CommentList commentList = contactParser.getComments(response);
 
@@ -612,7 +672,7 @@ Allowed Values: <i>contact_name, first_name, last_name, email, outstanding_recei
 	{
 		String urlString = url+"/"+contactId+"/track1099";  //No I18N
 
-		String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.post(urlString, getQueryMap());
 
 		String success = contactParser.getMessage(response);
 
@@ -640,11 +700,221 @@ Allowed Values: <i>contact_name, first_name, last_name, email, outstanding_recei
 	{
 		String urlString = url+"/"+contactId+"/untrack1099"; //No I18N
 
-		String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.post(urlString, getQueryMap());
 
 		String success = contactParser.getMessage(response);
 
 		return success;
 	}
 
+
+	/**
+	 * Asynchronous variant of {@link #create(String, String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the Contact object.
+	 */
+
+	public CompletableFuture<Contact> createAsync(String contactName, String currencyId)
+	{
+		return async(() -> create(contactName, currencyId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #create(Contact)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the Contact object.
+	 */
+
+	public CompletableFuture<Contact> createAsync(Contact contact)
+	{
+		return async(() -> create(contact));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #get(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the Contact object.
+	 */
+
+	public CompletableFuture<Contact> getAsync(String contactId)
+	{
+		return async(() -> get(contactId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #get(String, Set)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the Contact object.
+	 */
+
+	public CompletableFuture<Contact> getAsync(String contactId, Set<String> fields)
+	{
+		return async(() -> get(contactId, fields));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #update(Contact)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the Contact object.
+	 */
+
+	public CompletableFuture<Contact> updateAsync(Contact contact)
+	{
+		return async(() -> update(contact));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #delete(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> deleteAsync(String contactId)
+	{
+		return async(() -> delete(contactId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getContacts(HashMap)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the ContactList object.
+	 */
+
+	public CompletableFuture<ContactList> getContactsAsync(HashMap<String, Object> queryMap)
+	{
+		return async(() -> getContacts(queryMap));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getContacts(HashMap, Set)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the ContactList object.
+	 */
+
+	public CompletableFuture<ContactList> getContactsAsync(HashMap<String, Object> queryMap, Set<String> fields)
+	{
+		return async(() -> getContacts(queryMap, fields));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #markAsActive(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> markAsActiveAsync(String contactId)
+	{
+		return async(() -> markAsActive(contactId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #markAsInactive(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> markAsInactiveAsync(String contactId)
+	{
+		return async(() -> markAsInactive(contactId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #enablePaymentReminder(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> enablePaymentReminderAsync(String contactId)
+	{
+		return async(() -> enablePaymentReminder(contactId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #disablePaymentReminder(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> disablePaymentReminderAsync(String contactId)
+	{
+		return async(() -> disablePaymentReminder(contactId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #sendEmailStatement(String, Email, HashMap)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> sendEmailStatementAsync(String contactId, Email email, HashMap<String, Object> paramMap)
+	{
+		return async(() -> sendEmailStatement(contactId, email, paramMap));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getStatementMailContent(String, HashMap)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the Email object.
+	 */
+
+	public CompletableFuture<Email> getStatementMailContentAsync(String contactId, HashMap<String, Object> queryMap)
+	{
+		return async(() -> getStatementMailContent(contactId, queryMap));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #sendEmailContact(String, Email, HashMap)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> sendEmailContactAsync(String contactId, Email email, HashMap<String, Object> paramMap)
+	{
+		return async(() -> sendEmailContact(contactId, email, paramMap));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getRefunds(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the CreditnoteRefundList object.
+	 */
+
+	public CompletableFuture<CreditnoteRefundList> getRefundsAsync(String contactId)
+	{
+		return async(() -> getRefunds(contactId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getComments(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the CommentList object.
+	 */
+
+	public CompletableFuture<CommentList> getCommentsAsync(String contactId)
+	{
+		return async(() -> getComments(contactId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #track1099(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> track1099Async(String contactId)
+	{
+		return async(() -> track1099(contactId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #untrack1099(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> untrack1099Async(String contactId)
+	{
+		return async(() -> untrack1099(contactId));
+	}
+
 }
@@ -4,14 +4,18 @@ package com.zoho.books.api;
 
 import com.zoho.books.model.*;
 import com.zoho.books.parser.CreditNoteParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.File;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * CreditNotesApi is used to create a new credit note for a customer.
@@ -70,8 +74,21 @@ public class CreditNotesApi extends API {
         super(accessToken, organizationId, eu);
     }
 
+    /**
+     * Construct a new CreditNotesApi that sends its requests through the given transport.
+     *
+     * @param accessToken    user's accessToken.
+     * @param organizationId user's organization id.
+     * @param eu             Whether the organization is in the EU data center.
+     * @param transport      Transport used to execute the requests.
+     */
 
-    private CreditNoteParser creditNoteParser = new CreditNoteParser();
+    public CreditNotesApi(String accessToken, String organizationId, boolean eu, Transport transport) {
+        super(accessToken, organizationId, eu, transport);
+    }
+
+
+    private static final CreditNoteParser creditNoteParser = new CreditNoteParser();
 
 
     /**
@@ -105,9 +122,9 @@ public class CreditNotesApi extends API {
         creditNote.setLineItems(lineItems);
 
 
-        requestBody.put("JSONString", creditNote.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(creditNote::write));
 
-        String resp = ZohoHTTPClient.post(url, requestBody, accessToken);
+        Reader resp = httpClient.post(url, requestBody);
 
         return creditNoteParser.getCreditNote(resp);
     }
@@ -130,9 +147,9 @@ public class CreditNotesApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap(paramMap);
 
-        requestBody.put("JSONString", creditNote.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(creditNote::write));
 
-        String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+        Reader response = httpClient.post(url, requestBody);
 
         return creditNoteParser.getCreditNote(response);
     }
@@ -149,12 +166,25 @@ public class CreditNotesApi extends API {
 
 
     public CreditNote get(String creditNoteId) throws Exception {
+        return get(creditNoteId, null);
+    }
+
+    /**
+     * Get details of a credit note.
+     * Only the given fields of the credit note are read.
+     *
+     * @param creditNoteId ID of the CreditNote.
+     * @param fields Names of the fields to read, or null to read every field.
+     * @return Returns the CreditNote object.
+     */
+
+    public CreditNote get(String creditNoteId, Set<String> fields) throws Exception {
 
         String urlString = url + "/" + creditNoteId;
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
-        CreditNote creditNote = creditNoteParser.getCreditNote(response);
+        CreditNote creditNote = creditNoteParser.getCreditNote(response, fields);
 
         return creditNote;
     }
@@ -178,9 +208,9 @@ public class CreditNotesApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap(paramMap);
 
-        requestBody.put("JSONString", creditNote.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(creditNote::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return creditNoteParser.getCreditNote(response);
 
@@ -200,7 +230,7 @@ public class CreditNotesApi extends API {
 
         String urlString = url + "/" + creditNoteId;
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = creditNoteParser.getMessage(response);
 
@@ -247,10 +277,23 @@ public class CreditNotesApi extends API {
      */
 
     public CreditNoteList getCreditNotes(HashMap<String, Object> queryMap) throws Exception {
+        return getCreditNotes(queryMap, null);
+    }
+
+    /**
+     * List credit notes with pagination.
+     * Only the given fields of each credit note are read.
+     *
+     * @param queryMap It contains the query string parameters in the form of key-value pair.
+     * @param fields Names of the fields to read from each credit note, or null to read every field.
+     * @return Returns the CreditNoteList object.
+     */
+
+    public CreditNoteList getCreditNotes(HashMap<String, Object> queryMap, Set<String> fields) throws Exception {
 
-        String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(url, getQueryMap(queryMap));
 
-        CreditNoteList creditNoteList = creditNoteParser.getCreditNotes(response);
+        CreditNoteList creditNoteList = creditNoteParser.getCreditNotes(response, lazyLists, fields);
 
         return creditNoteList;
     }
@@ -280,7 +323,7 @@ public class CreditNotesApi extends API {
         }
         HashMap<String, Object> fileBody = null;
         if (email != null) {
-            paramMap.put("JSONString", email.toJSON().toString());
+            paramMap.put("JSONString", JsonWriter.toString(email::write));
 
             ArrayList<File> files = email.getAttachments();
 
@@ -292,7 +335,7 @@ public class CreditNotesApi extends API {
         }
 
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), paramMap, fileBody, accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap(), paramMap, fileBody);
 
         String success = creditNoteParser.getMessage(response);
 
@@ -312,7 +355,7 @@ public class CreditNotesApi extends API {
 
         String urlString = url + "/" + creditNoteId + "/emailhistory"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         EmailHistoryList emailHistory = creditNoteParser.getEmailHistory(response);
 
@@ -335,7 +378,7 @@ public class CreditNotesApi extends API {
 
         String urlString = url + "/" + creditNoteId + "/email"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap(queryMap));
 
         Email email = creditNoteParser.getEmailContent(response);
 
@@ -356,7 +399,7 @@ public class CreditNotesApi extends API {
 
         String urlString = url + "/" + creditNoteId + "/status/open"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = creditNoteParser.getMessage(response);
 
@@ -377,7 +420,7 @@ public class CreditNotesApi extends API {
 
         String urlString = url + "/" + creditNoteId + "/status/void"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = creditNoteParser.getMessage(response);
 
@@ -403,7 +446,7 @@ public class CreditNotesApi extends API {
 
         requestBody.put("JSONString", billingAddress.toJSON().put("is_update_customer", billingAddress.isUpdateCustomer()).toString());
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         String success = creditNoteParser.getMessage(response);
 
@@ -429,7 +472,7 @@ public class CreditNotesApi extends API {
 
         requestBody.put("JSONString", shippingAddress.toJSON().put("is_update_customer", shippingAddress.isUpdateCustomer()).toString());
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         String success = creditNoteParser.getMessage(response);
 
@@ -447,7 +490,7 @@ public class CreditNotesApi extends API {
 
         String urlString = url + "/templates"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         TemplateList templateList = creditNoteParser.getTemplates(response);
 
@@ -469,7 +512,7 @@ public class CreditNotesApi extends API {
 
         String urlString = url + "/" + creditNoteId + "/templates/" + templateId; //No I18N
 
-        String response = ZohoHTTPClient.put(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.put(urlString, getQueryMap());
 
         String success = creditNoteParser.getMessage(response);
 
@@ -512,7 +555,7 @@ public class CreditNotesApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         return creditNoteParser.getCreditToInvoice(response);
 
@@ -531,7 +574,7 @@ public class CreditNotesApi extends API {
 
         String urlString = url + "/" + creditNoteId + "/invoices"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         InvoicesCreditedList invoicesCredited = creditNoteParser.getInvoicesCredited(response);
 
@@ -554,7 +597,7 @@ public class CreditNotesApi extends API {
 
         String urlString = url + "/" + creditNoteId + "/invoices/" + creditnoteInvoiceId; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = creditNoteParser.getMessage(response);
 
@@ -581,9 +624,9 @@ public class CreditNotesApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", creditnoteRefund.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(creditnoteRefund::write));
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         return creditNoteParser.getCreditnoteRefund(response);
     }
@@ -602,7 +645,7 @@ public class CreditNotesApi extends API {
 
         String urlString = url + "/" + creditNoteId + "/refunds/" + creditnoteRefundId; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         CreditnoteRefund creditnoteRefund = creditNoteParser.getCreditnoteRefund(response);
 
@@ -627,9 +670,9 @@ public class CreditNotesApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", creditnoteRefund.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(creditnoteRefund::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return creditNoteParser.getCreditnoteRefund(response);
     }
@@ -649,7 +692,7 @@ public class CreditNotesApi extends API {
 
         String urlString = url + "/" + creditNoteId + "/refunds/" + creditnoteRefundId; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = creditNoteParser.getMessage(response);
 
@@ -669,7 +712,7 @@ public class CreditNotesApi extends API {
 
         String urlString = url + "/" + creditNoteId + "/refunds"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         CreditnoteRefundList creditnoteRefundList = creditNoteParser.getRefunds(response);
 
@@ -697,7 +740,7 @@ public class CreditNotesApi extends API {
 
         String urlString = url + "/refunds"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap(queryMap));
 
         CreditnoteRefundList creditnoteRefundList = creditNoteParser.getRefunds(response);
 
@@ -728,7 +771,7 @@ public class CreditNotesApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         Comment comment = creditNoteParser.getComment(response);
 
@@ -748,7 +791,7 @@ public class CreditNotesApi extends API {
 
         String urlString = url + "/" + creditNoteId + "/comments"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         CommentList commentList = creditNoteParser.getComments(response);
 
@@ -771,11 +814,302 @@ public class CreditNotesApi extends API {
 
         String urlString = url + "/" + creditNoteId + "/comments/" + commentId; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = creditNoteParser.getMessage(response);
 
         return success;
     }
 
+
+    /**
+     * Asynchronous variant of {@link #create(String, String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the CreditNote object.
+     */
+
+    public CompletableFuture<CreditNote> createAsync(String customerId, String accountId, String itemName) {
+        return async(() -> create(customerId, accountId, itemName));
+    }
+
+    /**
+     * Asynchronous variant of {@link #create(CreditNote, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the CreditNote object.
+     */
+
+    public CompletableFuture<CreditNote> createAsync(CreditNote creditNote, HashMap<String, Object> paramMap) {
+        return async(() -> create(creditNote, paramMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the CreditNote object.
+     */
+
+    public CompletableFuture<CreditNote> getAsync(String creditNoteId) {
+        return async(() -> get(creditNoteId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the CreditNote object.
+     */
+
+    public CompletableFuture<CreditNote> getAsync(String creditNoteId, Set<String> fields) {
+        return async(() -> get(creditNoteId, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(CreditNote, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the CreditNote object.
+     */
+
+    public CompletableFuture<CreditNote> updateAsync(CreditNote creditNote, HashMap<String, Object> paramMap) {
+        return async(() -> update(creditNote, paramMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteAsync(String creditNoteId) {
+        return async(() -> delete(creditNoteId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCreditNotes(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the CreditNoteList object.
+     */
+
+    public CompletableFuture<CreditNoteList> getCreditNotesAsync(HashMap<String, Object> queryMap) {
+        return async(() -> getCreditNotes(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCreditNotes(HashMap, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the CreditNoteList object.
+     */
+
+    public CompletableFuture<CreditNoteList> getCreditNotesAsync(HashMap<String, Object> queryMap, Set<String> fields) {
+        return async(() -> getCreditNotes(queryMap, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #sendEmail(String, Email, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> sendEmailAsync(String creditNoteId, Email email, HashMap<String, Object> paramMap) {
+        return async(() -> sendEmail(creditNoteId, email, paramMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getEmailHistory(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the EmailHistoryList object.
+     */
+
+    public CompletableFuture<EmailHistoryList> getEmailHistoryAsync(String creditNoteId) {
+        return async(() -> getEmailHistory(creditNoteId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getEmailContent(String, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the Email object.
+     */
+
+    public CompletableFuture<Email> getEmailContentAsync(String creditNoteId, HashMap<String, Object> queryMap) {
+        return async(() -> getEmailContent(creditNoteId, queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #convertToOpen(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> convertToOpenAsync(String creditNoteId) {
+        return async(() -> convertToOpen(creditNoteId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #convertToVoid(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> convertToVoidAsync(String creditNoteId) {
+        return async(() -> convertToVoid(creditNoteId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateBillingAddress(String, Address)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateBillingAddressAsync(String creditNoteId, Address billingAddress) {
+        return async(() -> updateBillingAddress(creditNoteId, billingAddress));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateShippingAddress(String, Address)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateShippingAddressAsync(String creditNoteId, Address shippingAddress) {
+        return async(() -> updateShippingAddress(creditNoteId, shippingAddress));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getTemplates()}.
+     *
+     * @return Returns a CompletableFuture completed with the TemplateList object.
+     */
+
+    public CompletableFuture<TemplateList> getTemplatesAsync() {
+        return async(() -> getTemplates());
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateTemplate(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateTemplateAsync(String creditNoteId, String templateId) {
+        return async(() -> updateTemplate(creditNoteId, templateId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #creditToInvoice(String, List)}.
+     *
+     * @return Returns a CompletableFuture completed with the InvoiceList object.
+     */
+
+    public CompletableFuture<InvoiceList> creditToInvoiceAsync(String creditNoteId, List<Invoice> invoice) {
+        return async(() -> creditToInvoice(creditNoteId, invoice));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getInvoicesCredited(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the InvoicesCreditedList object.
+     */
+
+    public CompletableFuture<InvoicesCreditedList> getInvoicesCreditedAsync(String creditNoteId) {
+        return async(() -> getInvoicesCredited(creditNoteId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteInvoicesCredited(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteInvoicesCreditedAsync(String creditNoteId, String creditnoteInvoiceId) {
+        return async(() -> deleteInvoicesCredited(creditNoteId, creditnoteInvoiceId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addRefund(String, CreditnoteRefund)}.
+     *
+     * @return Returns a CompletableFuture completed with the CreditnoteRefund object.
+     */
+
+    public CompletableFuture<CreditnoteRefund> addRefundAsync(String creditNoteId, CreditnoteRefund creditnoteRefund) {
+        return async(() -> addRefund(creditNoteId, creditnoteRefund));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getRefund(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the CreditnoteRefund object.
+     */
+
+    public CompletableFuture<CreditnoteRefund> getRefundAsync(String creditNoteId, String creditnoteRefundId) {
+        return async(() -> getRefund(creditNoteId, creditnoteRefundId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateRefund(String, CreditnoteRefund)}.
+     *
+     * @return Returns a CompletableFuture completed with the CreditnoteRefund object.
+     */
+
+    public CompletableFuture<CreditnoteRefund> updateRefundAsync(String creditNoteId, CreditnoteRefund creditnoteRefund) {
+        return async(() -> updateRefund(creditNoteId, creditnoteRefund));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteRefund(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteRefundAsync(String creditNoteId, String creditnoteRefundId) {
+        return async(() -> deleteRefund(creditNoteId, creditnoteRefundId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getRefundsOfCreditnotes(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the CreditnoteRefundList object.
+     */
+
+    public CompletableFuture<CreditnoteRefundList> getRefundsOfCreditnotesAsync(String creditNoteId) {
+        return async(() -> getRefundsOfCreditnotes(creditNoteId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCreditnoteRefunds(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the CreditnoteRefundList object.
+     */
+
+    public CompletableFuture<CreditnoteRefundList> getCreditnoteRefundsAsync(HashMap<String, Object> queryMap) {
+        return async(() -> getCreditnoteRefunds(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addComment(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Comment object.
+     */
+
+    public CompletableFuture<Comment> addCommentAsync(String creditNoteId, String description) {
+        return async(() -> addComment(creditNoteId, description));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getComments(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the CommentList object.
+     */
+
+    public CompletableFuture<CommentList> getCommentsAsync(String creditNoteId) {
+        return async(() -> getComments(creditNoteId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteComment(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteCommentAsync(String creditNoteId, String commentId) {
+        return async(() -> deleteComment(creditNoteId, commentId));
+    }
+
 }
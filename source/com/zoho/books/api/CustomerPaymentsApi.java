@@ -5,10 +5,15 @@ package com.zoho.books.api;
 import com.zoho.books.model.CustomerPayment;
 import com.zoho.books.model.CustomerPaymentList;
 import com.zoho.books.parser.CustomerPaymentParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
+import com.zoho.books.util.Responses;
 import org.json.JSONObject;
 
+import java.io.Reader;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * CustomerPaymentsApi is used to create a payment made by the customer.
@@ -39,8 +44,21 @@ public class CustomerPaymentsApi extends API {
         super(accessToken, organizationId, eu);
     }
 
+    /**
+     * Construct a new CustomerPaymentsApi that sends its requests through the given transport.
+     *
+     * @param accessToken    user's accessToken.
+     * @param organizationId user's organization id.
+     * @param eu             Whether the organization is in the EU data center.
+     * @param transport      Transport used to execute the requests.
+     */
+
+    public CustomerPaymentsApi(String accessToken, String organizationId, boolean eu, Transport transport) {
+        super(accessToken, organizationId, eu, transport);
+    }
 
-    private CustomerPaymentParser customerPaymentParser = new CustomerPaymentParser();
+
+    private static final CustomerPaymentParser customerPaymentParser = new CustomerPaymentParser();
 
 
     /**
@@ -57,9 +75,9 @@ public class CustomerPaymentsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", customerPayment.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(customerPayment::write));
 
-        String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+        Reader response = httpClient.post(url, requestBody);
 
         return customerPaymentParser.getCustomerPayment(response);
     }
@@ -74,12 +92,25 @@ public class CustomerPaymentsApi extends API {
      */
 
     public CustomerPayment get(String paymentId) throws Exception {
+        return get(paymentId, null);
+    }
+
+    /**
+     * Get the details of a customer payment.
+     * Only the given fields of the payment are read.
+     *
+     * @param paymentId ID of the CustomerPayment.
+     * @param fields Names of the fields to read, or null to read every field.
+     * @return Returns the CustomerPayment object.
+     */
+
+    public CustomerPayment get(String paymentId, Set<String> fields) throws Exception {
 
         String urlString = url + "/" + paymentId;
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
-        CustomerPayment customerPayment = customerPaymentParser.getCustomerPayment(response);
+        CustomerPayment customerPayment = customerPaymentParser.getCustomerPayment(response, fields);
 
         return customerPayment;
     }
@@ -99,9 +130,9 @@ public class CustomerPaymentsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", customerPayment.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(customerPayment::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return customerPaymentParser.getCustomerPayment(response);
     }
@@ -120,9 +151,9 @@ public class CustomerPaymentsApi extends API {
 
         String urlString = url + "/" + paymentId;
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        JSONObject jsonObject = Responses.parse(response);
 
         String success = jsonObject.getString("message");
 
@@ -163,11 +194,96 @@ public class CustomerPaymentsApi extends API {
      */
 
     public CustomerPaymentList getCustomerPayments(HashMap<String, Object> queryMap) throws Exception {
+        return getCustomerPayments(queryMap, null);
+    }
+
+    /**
+     * List all the payments made by your customer.
+     * Only the given fields of each payment are read.
+     *
+     * @param queryMap It contains the query string parameters in the form of key-value pair.
+     * @param fields Names of the fields to read from each payment, or null to read every field.
+     * @return Returns the CustomerPaymentList object.
+     */
+
+    public CustomerPaymentList getCustomerPayments(HashMap<String, Object> queryMap, Set<String> fields) throws Exception {
 
-        String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(url, getQueryMap(queryMap));
 
-        CustomerPaymentList customerPaymentList = customerPaymentParser.getCustomerPayments(response);
+        CustomerPaymentList customerPaymentList = customerPaymentParser.getCustomerPayments(response, lazyLists, fields);
 
         return customerPaymentList;
     }
+
+
+    /**
+     * Asynchronous variant of {@link #create(CustomerPayment)}.
+     *
+     * @return Returns a CompletableFuture completed with the CustomerPayment object.
+     */
+
+    public CompletableFuture<CustomerPayment> createAsync(CustomerPayment customerPayment) {
+        return async(() -> create(customerPayment));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the CustomerPayment object.
+     */
+
+    public CompletableFuture<CustomerPayment> getAsync(String paymentId) {
+        return async(() -> get(paymentId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the CustomerPayment object.
+     */
+
+    public CompletableFuture<CustomerPayment> getAsync(String paymentId, Set<String> fields) {
+        return async(() -> get(paymentId, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(CustomerPayment)}.
+     *
+     * @return Returns a CompletableFuture completed with the CustomerPayment object.
+     */
+
+    public CompletableFuture<CustomerPayment> updateAsync(CustomerPayment customerPayment) {
+        return async(() -> update(customerPayment));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteAsync(String paymentId) {
+        return async(() -> delete(paymentId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCustomerPayments(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the CustomerPaymentList object.
+     */
+
+    public CompletableFuture<CustomerPaymentList> getCustomerPaymentsAsync(HashMap<String, Object> queryMap) {
+        return async(() -> getCustomerPayments(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCustomerPayments(HashMap, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the CustomerPaymentList object.
+     */
+
+    public CompletableFuture<CustomerPaymentList> getCustomerPaymentsAsync(HashMap<String, Object> queryMap, Set<String> fields) {
+        return async(() -> getCustomerPayments(queryMap, fields));
+    }
+
 }
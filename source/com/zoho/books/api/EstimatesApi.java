@@ -4,13 +4,21 @@ package com.zoho.books.api;
 
 import com.zoho.books.model.*;
 import com.zoho.books.parser.EstimateParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.io.File;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * EstimatesApi is used to create a new estimate for the customer.
@@ -58,8 +66,21 @@ public class EstimatesApi extends API {
         super(accessToken, organizationId, eu);
     }
 
+    /**
+     * Construct a new EstimatesApi that sends its requests through the given transport.
+     *
+     * @param accessToken    user's accessToken.
+     * @param organizationId user's organization id.
+     * @param eu             Whether the organization is in the EU data center.
+     * @param transport      Transport used to execute the requests.
+     */
+
+    public EstimatesApi(String accessToken, String organizationId, boolean eu, Transport transport) {
+        super(accessToken, organizationId, eu, transport);
+    }
 
-    private EstimateParser estimateParser = new EstimateParser();
+
+    private static final EstimateParser estimateParser = new EstimateParser();
 
 
     /**
@@ -91,9 +112,9 @@ public class EstimatesApi extends API {
         estimateObj.setLineItems(lineItems);
 
 
-        requestBody.put("JSONString", estimateObj.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(estimateObj::write));
 
-        String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+        Reader response = httpClient.post(url, requestBody);
 
         Estimate estimate = estimateParser.getEstimate(response);
 
@@ -119,9 +140,9 @@ public class EstimatesApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap(paramMap);
 
-        requestBody.put("JSONString", estimate.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(estimate::write));
 
-        String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+        Reader response = httpClient.post(url, requestBody);
 
         return estimateParser.getEstimate(response);
     }
@@ -136,12 +157,25 @@ public class EstimatesApi extends API {
      */
 
     public Estimate get(String estimateId) throws Exception {
+        return get(estimateId, null);
+    }
+
+    /**
+     * Get the details of an estimate.
+     * Only the given fields of the estimate are read.
+     *
+     * @param estimateId ID of an estimate.
+     * @param fields Names of the fields to read, or null to read every field.
+     * @return Returns an Estimate object.
+     */
+
+    public Estimate get(String estimateId, Set<String> fields) throws Exception {
 
         String urlString = url + "/" + estimateId;
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
-        Estimate estimate = estimateParser.getEstimate(response);
+        Estimate estimate = estimateParser.getEstimate(response, fields);
 
         return estimate;
     }
@@ -166,9 +200,9 @@ public class EstimatesApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap(paramMap);
 
-        requestBody.put("JSONString", estimate.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(estimate::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return estimateParser.getEstimate(response);
     }
@@ -187,7 +221,7 @@ public class EstimatesApi extends API {
 
         String urlString = url + "/" + estimateId;
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = estimateParser.getMessage(response);
 
@@ -236,11 +270,24 @@ public class EstimatesApi extends API {
      */
 
     public EstimateList getEstimates(HashMap<String, Object> queryMap) throws Exception {
+        return getEstimates(queryMap, null);
+    }
 
+    /**
+     * List all estimates with pagination.
+     * Only the given fields of each estimate are read.
+     *
+     * @param queryMap It contains the query string parameters in the form of key-value pair.
+     * @param fields Names of the fields to read from each estimate, or null to read every field.
+     * @return Returns an EstimateList object.
+     */
+
+    public EstimateList getEstimates(HashMap<String, Object> queryMap, Set<String> fields) throws Exception {
 
-        String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
 
-        EstimateList estimateList = estimateParser.getEstimates(response);
+        Reader response = httpClient.get(url, getQueryMap(queryMap));
+
+        EstimateList estimateList = estimateParser.getEstimates(response, lazyLists, fields);
 
         return estimateList;
     }
@@ -265,7 +312,7 @@ public class EstimatesApi extends API {
         HashMap<String, Object> fileBody = null;
 
         if (email != null) {
-            requestBody.put("JSONString", email.toJSON().toString());
+            requestBody.put("JSONString", JsonWriter.toString(email::write));
 
             ArrayList<File> files = email.getAttachments();
 
@@ -276,7 +323,7 @@ public class EstimatesApi extends API {
         }
 
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), requestBody, fileBody, accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap(), requestBody, fileBody);
 
         String success = estimateParser.getMessage(response);
 
@@ -297,7 +344,7 @@ public class EstimatesApi extends API {
 
         String urlString = url + "/email"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(paramMap), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap(paramMap));
 
         String success = estimateParser.getMessage(response);
 
@@ -320,7 +367,7 @@ public class EstimatesApi extends API {
 
         String urlString = url + "/" + estimateId + "/email"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap(queryMap));
 
         Email email = estimateParser.getEmailContent(response);
 
@@ -341,7 +388,7 @@ public class EstimatesApi extends API {
 
         String urlString = url + "/" + estimateId + "/status/sent"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = estimateParser.getMessage(response);
 
@@ -362,7 +409,7 @@ public class EstimatesApi extends API {
 
         String urlString = url + "/" + estimateId + "/status/accepted"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = estimateParser.getMessage(response);
 
@@ -383,7 +430,7 @@ public class EstimatesApi extends API {
 
         String urlString = url + "/" + estimateId + "/status/declined"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = estimateParser.getMessage(response);
 
@@ -403,11 +450,58 @@ public class EstimatesApi extends API {
 
         String urlString = url + "/pdf"; //No I18N
 
-        File file = ZohoHTTPClient.getFile(urlString, getQueryMap(queryMap));
+        File file = httpClient.getFile(urlString, getQueryMap(queryMap), Paths.get("")).toFile();
 
         return file;
     }
 
+    /**
+     * Write the pdf of the estimates to the given path.
+     * If the path is a directory, the file is created in it with the name sent by the server.
+     *
+     * @param queryMap Comma separated estimate ids which are to be exported as pdf.
+     * @param target   Path of the file, or of the directory, to write to.
+     * @return Returns the Path of the file written.
+     */
+
+    public Path bulkExport(HashMap<String, Object> queryMap, Path target) throws Exception {
+
+        String urlString = url + "/pdf"; //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), target);
+    }
+
+    /**
+     * Write the pdf of the estimates to the given stream.
+     *
+     * @param queryMap Comma separated estimate ids which are to be exported as pdf.
+     * @param out      OutputStream to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long bulkExport(HashMap<String, Object> queryMap, OutputStream out) throws Exception {
+
+        String urlString = url + "/pdf"; //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), out);
+    }
+
+    /**
+     * Write the pdf of the estimates to the given channel.
+     * A FileChannel is written from its current position by FileChannel.transferFrom.
+     *
+     * @param queryMap Comma separated estimate ids which are to be exported as pdf.
+     * @param channel  WritableByteChannel to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long bulkExport(HashMap<String, Object> queryMap, WritableByteChannel channel) throws Exception {
+
+        String urlString = url + "/pdf"; //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), channel);
+    }
+
     /**
      * Export estimates as pdf and print them (Maximum of 25 estimates can be printed).
      * Pass the estimateIds to get the estimates as pdf.
@@ -421,11 +515,58 @@ public class EstimatesApi extends API {
 
         String urlString = url + "/print"; //No I18N
 
-        File file = ZohoHTTPClient.getFile(urlString, getQueryMap(queryMap));
+        File file = httpClient.getFile(urlString, getQueryMap(queryMap), Paths.get("")).toFile();
 
         return file;
     }
 
+    /**
+     * Write the printable pdf of the estimates to the given path.
+     * If the path is a directory, the file is created in it with the name sent by the server.
+     *
+     * @param queryMap Comma separated estimate ids which are to be printed.
+     * @param target   Path of the file, or of the directory, to write to.
+     * @return Returns the Path of the file written.
+     */
+
+    public Path bulkPrint(HashMap<String, Object> queryMap, Path target) throws Exception {
+
+        String urlString = url + "/print"; //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), target);
+    }
+
+    /**
+     * Write the printable pdf of the estimates to the given stream.
+     *
+     * @param queryMap Comma separated estimate ids which are to be printed.
+     * @param out      OutputStream to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long bulkPrint(HashMap<String, Object> queryMap, OutputStream out) throws Exception {
+
+        String urlString = url + "/print"; //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), out);
+    }
+
+    /**
+     * Write the printable pdf of the estimates to the given channel.
+     * A FileChannel is written from its current position by FileChannel.transferFrom.
+     *
+     * @param queryMap Comma separated estimate ids which are to be printed.
+     * @param channel  WritableByteChannel to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long bulkPrint(HashMap<String, Object> queryMap, WritableByteChannel channel) throws Exception {
+
+        String urlString = url + "/print"; //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), channel);
+    }
+
     /**
      * Update the billing address for this estimate alone (You can set this address as default billing address for your customer by specifying 'is_update_customer' param as true).
      * Pass the estimateId and Address object to update the billing address for the estimate.
@@ -445,7 +586,7 @@ public class EstimatesApi extends API {
 
         requestBody.put("JSONString", billingAddress.toJSON().put("is_update_customer", billingAddress.isUpdateCustomer()).toString());
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         String success = estimateParser.getMessage(response);
 
@@ -471,7 +612,7 @@ public class EstimatesApi extends API {
 
         requestBody.put("JSONString", shippingAddress.toJSON().put("is_update_customer", shippingAddress.isUpdateCustomer()).toString());
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         String success = estimateParser.getMessage(response);
 
@@ -489,7 +630,7 @@ public class EstimatesApi extends API {
 
         String urlString = url + "/templates"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         TemplateList templateList = estimateParser.getTemplates(response);
 
@@ -511,7 +652,7 @@ public class EstimatesApi extends API {
 
         String urlString = url + "/" + estimateId + "/templates/" + templateId; //No I18N
 
-        String response = ZohoHTTPClient.put(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.put(urlString, getQueryMap());
 
         String success = estimateParser.getMessage(response);
 
@@ -535,7 +676,7 @@ public class EstimatesApi extends API {
 
         String urlString = url + "/" + estimateId + "/comments"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         CommentList commentList = estimateParser.getComments(response);
 
@@ -565,7 +706,7 @@ public class EstimatesApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         Comment comment = estimateParser.getComment(response);
 
@@ -596,7 +737,7 @@ public class EstimatesApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         Comment comment = estimateParser.getComment(response);
 
@@ -618,11 +759,312 @@ public class EstimatesApi extends API {
 
         String urlString = url + "/" + estimateId + "/comments/" + commentId; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = estimateParser.getMessage(response);
 
         return success;
     }
 
+
+    /**
+     * Asynchronous variant of {@link #create(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Estimate object.
+     */
+
+    public CompletableFuture<Estimate> createAsync(String customerId, String itemName) {
+        return async(() -> create(customerId, itemName));
+    }
+
+    /**
+     * Asynchronous variant of {@link #create(Estimate, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the Estimate object.
+     */
+
+    public CompletableFuture<Estimate> createAsync(Estimate estimate, HashMap<String, Object> paramMap) {
+        return async(() -> create(estimate, paramMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Estimate object.
+     */
+
+    public CompletableFuture<Estimate> getAsync(String estimateId) {
+        return async(() -> get(estimateId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the Estimate object.
+     */
+
+    public CompletableFuture<Estimate> getAsync(String estimateId, Set<String> fields) {
+        return async(() -> get(estimateId, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(Estimate, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the Estimate object.
+     */
+
+    public CompletableFuture<Estimate> updateAsync(Estimate estimate, HashMap<String, Object> paramMap) {
+        return async(() -> update(estimate, paramMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteAsync(String estimateId) {
+        return async(() -> delete(estimateId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getEstimates(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the EstimateList object.
+     */
+
+    public CompletableFuture<EstimateList> getEstimatesAsync(HashMap<String, Object> queryMap) {
+        return async(() -> getEstimates(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getEstimates(HashMap, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the EstimateList object.
+     */
+
+    public CompletableFuture<EstimateList> getEstimatesAsync(HashMap<String, Object> queryMap, Set<String> fields) {
+        return async(() -> getEstimates(queryMap, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #sendEmail(String, Email)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> sendEmailAsync(String estimateId, Email email) {
+        return async(() -> sendEmail(estimateId, email));
+    }
+
+    /**
+     * Asynchronous variant of {@link #sendEmailEstimates(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> sendEmailEstimatesAsync(HashMap<String, Object> paramMap) {
+        return async(() -> sendEmailEstimates(paramMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getEmailContent(String, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the Email object.
+     */
+
+    public CompletableFuture<Email> getEmailContentAsync(String estimateId, HashMap<String, Object> queryMap) {
+        return async(() -> getEmailContent(estimateId, queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #markAsSent(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> markAsSentAsync(String estimateId) {
+        return async(() -> markAsSent(estimateId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #markAsAccepted(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> markAsAcceptedAsync(String estimateId) {
+        return async(() -> markAsAccepted(estimateId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #markAsDeclined(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> markAsDeclinedAsync(String estimateId) {
+        return async(() -> markAsDeclined(estimateId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkExport(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the File object.
+     */
+
+    public CompletableFuture<File> bulkExportAsync(HashMap<String, Object> queryMap) {
+        return async(() -> bulkExport(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkExport(HashMap, Path)}.
+     *
+     * @return Returns a CompletableFuture completed with the Path of the file written.
+     */
+
+    public CompletableFuture<Path> bulkExportAsync(HashMap<String, Object> queryMap, Path target) {
+        return async(() -> bulkExport(queryMap, target));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkExport(HashMap, OutputStream)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> bulkExportAsync(HashMap<String, Object> queryMap, OutputStream out) {
+        return async(() -> bulkExport(queryMap, out));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkExport(HashMap, WritableByteChannel)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> bulkExportAsync(HashMap<String, Object> queryMap, WritableByteChannel channel) {
+        return async(() -> bulkExport(queryMap, channel));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkPrint(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the File object.
+     */
+
+    public CompletableFuture<File> bulkPrintAsync(HashMap<String, Object> queryMap) {
+        return async(() -> bulkPrint(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkPrint(HashMap, Path)}.
+     *
+     * @return Returns a CompletableFuture completed with the Path of the file written.
+     */
+
+    public CompletableFuture<Path> bulkPrintAsync(HashMap<String, Object> queryMap, Path target) {
+        return async(() -> bulkPrint(queryMap, target));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkPrint(HashMap, OutputStream)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> bulkPrintAsync(HashMap<String, Object> queryMap, OutputStream out) {
+        return async(() -> bulkPrint(queryMap, out));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkPrint(HashMap, WritableByteChannel)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> bulkPrintAsync(HashMap<String, Object> queryMap, WritableByteChannel channel) {
+        return async(() -> bulkPrint(queryMap, channel));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateBillingAddress(String, Address)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateBillingAddressAsync(String estimateId, Address billingAddress) {
+        return async(() -> updateBillingAddress(estimateId, billingAddress));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateShippingAddress(String, Address)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateShippingAddressAsync(String estimateId, Address shippingAddress) {
+        return async(() -> updateShippingAddress(estimateId, shippingAddress));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getTemplates()}.
+     *
+     * @return Returns a CompletableFuture completed with the TemplateList object.
+     */
+
+    public CompletableFuture<TemplateList> getTemplatesAsync() {
+        return async(() -> getTemplates());
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateTemplate(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateTemplateAsync(String estimateId, String templateId) {
+        return async(() -> updateTemplate(estimateId, templateId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getComments(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the CommentList object.
+     */
+
+    public CompletableFuture<CommentList> getCommentsAsync(String estimateId) {
+        return async(() -> getComments(estimateId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addComment(String, String, boolean)}.
+     *
+     * @return Returns a CompletableFuture completed with the Comment object.
+     */
+
+    public CompletableFuture<Comment> addCommentAsync(String estimateId, String description, boolean showCommentToClients) {
+        return async(() -> addComment(estimateId, description, showCommentToClients));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateComment(String, String, String, boolean)}.
+     *
+     * @return Returns a CompletableFuture completed with the Comment object.
+     */
+
+    public CompletableFuture<Comment> updateCommentAsync(String estimateId, String commentId, String description, boolean showCommentToClients) {
+        return async(() -> updateComment(estimateId, commentId, description, showCommentToClients));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteComment(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteCommentAsync(String estimateId, String commentId) {
+        return async(() -> deleteComment(estimateId, commentId));
+    }
+
 }
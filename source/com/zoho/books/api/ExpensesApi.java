@@ -6,10 +6,19 @@ import com.zoho.books.model.CommentList;
 import com.zoho.books.model.Expense;
 import com.zoho.books.model.ExpenseList;
 import com.zoho.books.parser.ExpenseParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Attachment;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 
 import java.io.File;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -48,8 +57,21 @@ public class ExpensesApi extends API {
         super(accessToken, organizationId, eu);
     }
 
+    /**
+     * Construct a new ExpensesApi that sends its requests through the given transport.
+     *
+     * @param accessToken    user's accessToken.
+     * @param organizationId user's organization id.
+     * @param eu             Whether the organization is in the EU data center.
+     * @param transport      Transport used to execute the requests.
+     */
+
+    public ExpensesApi(String accessToken, String organizationId, boolean eu, Transport transport) {
+        super(accessToken, organizationId, eu, transport);
+    }
+
 
-    private ExpenseParser expenseParser = new ExpenseParser();
+    private static final ExpenseParser expenseParser = new ExpenseParser();
 
 
     /**
@@ -73,9 +95,9 @@ public class ExpensesApi extends API {
         expense.setPaidThroughAccountId(paidThroughAccountId);
         expense.setAmount(amount);
 
-        requestBody.put("JSONString", expense.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(expense::write));
 
-        String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+        Reader response = httpClient.post(url, requestBody);
 
         return expenseParser.getExpense(response);
     }
@@ -94,9 +116,9 @@ public class ExpensesApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", expense.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(expense::write));
 
-        String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+        Reader response = httpClient.post(url, requestBody);
 
         return expenseParser.getExpense(response);
     }
@@ -116,14 +138,14 @@ public class ExpensesApi extends API {
 
         HashMap<String, Object> requestBody = new HashMap<String, Object>();
 
-        requestBody.put("JSONString", expense.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.toString(expense::write));
 
         HashMap<String, Object> fileBody = new HashMap<String, Object>();
 
         fileBody.put("receipt", file);
 
 
-        String response = ZohoHTTPClient.post(url, getQueryMap(), requestBody, fileBody, accessToken);
+        Reader response = httpClient.post(url, getQueryMap(), requestBody, fileBody);
 
         return expenseParser.getExpense(response);
     }
@@ -138,12 +160,25 @@ public class ExpensesApi extends API {
      */
 
     public Expense get(String expenseId) throws Exception {
+        return get(expenseId, null);
+    }
+
+    /**
+     * Get the details of an expense.
+     * Only the given fields of the expense are read.
+     *
+     * @param expenseId ID of an expense.
+     * @param fields Names of the fields to read, or null to read every field.
+     * @return Returns the Expense object.
+     */
+
+    public Expense get(String expenseId, Set<String> fields) throws Exception {
 
         String urlString = url + "/" + expenseId;
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
-        Expense expense = expenseParser.getExpense(response);
+        Expense expense = expenseParser.getExpense(response, fields);
 
         return expense;
     }
@@ -164,9 +199,9 @@ public class ExpensesApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", expense.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(expense::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return expenseParser.getExpense(response);
     }
@@ -188,14 +223,14 @@ public class ExpensesApi extends API {
 
         HashMap<String, Object> requestBody = new HashMap<String, Object>();
 
-        requestBody.put("JSONString", expense.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.toString(expense::write));
 
         HashMap<String, Object> fileBody = new HashMap<String, Object>();
 
         fileBody.put("receipt", file);
 
 
-        String response = ZohoHTTPClient.put(urlString, getQueryMap(), requestBody, fileBody, accessToken);
+        Reader response = httpClient.put(urlString, getQueryMap(), requestBody, fileBody);
 
         return expenseParser.getExpense(response);
     }
@@ -214,7 +249,7 @@ public class ExpensesApi extends API {
 
         String urlString = url + "/" + expenseId;
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = expenseParser.getMessage(response);
 
@@ -261,10 +296,23 @@ public class ExpensesApi extends API {
      */
 
     public ExpenseList getExpesnses(HashMap<String, Object> queryMap) throws Exception {
+        return getExpesnses(queryMap, null);
+    }
+
+    /**
+     * List expenses with pagination.
+     * Only the given fields of each expense are read.
+     *
+     * @param queryMap It contains the query string parameters in the form of key-value pairs.
+     * @param fields Names of the fields to read from each expense, or null to read every field.
+     * @return Returns the ExpenseList object.
+     */
 
-        String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
+    public ExpenseList getExpesnses(HashMap<String, Object> queryMap, Set<String> fields) throws Exception {
 
-        ExpenseList expenseList = expenseParser.getExpenses(response);
+        Reader response = httpClient.get(url, getQueryMap(queryMap));
+
+        ExpenseList expenseList = expenseParser.getExpenses(response, lazyLists, fields);
 
         return expenseList;
     }
@@ -282,7 +330,7 @@ public class ExpensesApi extends API {
 
         String urlString = url + "/" + expenseId + "/comments"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         CommentList commentList = expenseParser.getComments(response);
 
@@ -310,7 +358,7 @@ public class ExpensesApi extends API {
 
         fileBody.put("receipt", file);
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), null, fileBody, accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap(), null, fileBody);
 
         String success = expenseParser.getMessage(response);
 
@@ -318,6 +366,28 @@ public class ExpensesApi extends API {
 
     }
 
+    /**
+     * Attach a receipt to an expense from a File, a Path, an InputStream or a ByteBuffer.
+     * The receipt is streamed to the server, with chunked transfer encoding when its length is not known.
+     *
+     * @param expenseId ID of an expense.
+     * @param receipt   Expense receipt to attach.
+     * @return Returns a String.
+     */
+
+    public String addReceipt(String expenseId, Attachment receipt) throws Exception {
+
+        String urlString = url + "/" + expenseId + "/receipt"; //No I18N
+
+        HashMap<String, Object> fileBody = new HashMap<String, Object>();
+
+        fileBody.put("receipt", receipt);
+
+        Reader response = httpClient.post(urlString, getQueryMap(), null, fileBody);
+
+        return expenseParser.getMessage(response);
+    }
+
     /**
      * Returns the receipt attached to the expense.
      * Pass the expenseId to get the receipt attached to the exepense.
@@ -331,11 +401,58 @@ public class ExpensesApi extends API {
 
         String urlString = url + "/" + expenseId + "/receipt"; //No I18N
 
-        File response = ZohoHTTPClient.getFile(urlString, getQueryMap());
+        File response = httpClient.getFile(urlString, getQueryMap(), Paths.get("")).toFile();
 
         return response;
     }
 
+    /**
+     * Write the receipt attached to the expense to the given path.
+     * If the path is a directory, the file is created in it with the name sent by the server.
+     *
+     * @param expenseId ID of an expense.
+     * @param target    Path of the file, or of the directory, to write to.
+     * @return Returns the Path of the file written.
+     */
+
+    public Path getReceipt(String expenseId, Path target) throws Exception {
+
+        String urlString = url + "/" + expenseId + "/receipt"; //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(), target);
+    }
+
+    /**
+     * Write the receipt attached to the expense to the given stream.
+     *
+     * @param expenseId ID of an expense.
+     * @param out       OutputStream to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long getReceipt(String expenseId, OutputStream out) throws Exception {
+
+        String urlString = url + "/" + expenseId + "/receipt"; //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(), out);
+    }
+
+    /**
+     * Write the receipt attached to the expense to the given channel.
+     * A FileChannel is written from its current position by FileChannel.transferFrom.
+     *
+     * @param expenseId ID of an expense.
+     * @param channel   WritableByteChannel to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long getReceipt(String expenseId, WritableByteChannel channel) throws Exception {
+
+        String urlString = url + "/" + expenseId + "/receipt"; //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(), channel);
+    }
+
     /**
      * Delete the receipt attached to the expense.
      * Pass the expenseId to delete the receipt attached to the expense.
@@ -350,10 +467,192 @@ public class ExpensesApi extends API {
 
         String urlString = url + "/" + expenseId + "/receipt"; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = expenseParser.getMessage(response);
 
         return success;
     }
+
+
+    /**
+     * Asynchronous variant of {@link #create(String, String, double)}.
+     *
+     * @return Returns a CompletableFuture completed with the Expense object.
+     */
+
+    public CompletableFuture<Expense> createAsync(String accountId, String paidThroughAccountId, double amount) {
+        return async(() -> create(accountId, paidThroughAccountId, amount));
+    }
+
+    /**
+     * Asynchronous variant of {@link #create(Expense)}.
+     *
+     * @return Returns a CompletableFuture completed with the Expense object.
+     */
+
+    public CompletableFuture<Expense> createAsync(Expense expense) {
+        return async(() -> create(expense));
+    }
+
+    /**
+     * Asynchronous variant of {@link #create(Expense, File)}.
+     *
+     * @return Returns a CompletableFuture completed with the Expense object.
+     */
+
+    public CompletableFuture<Expense> createAsync(Expense expense, File file) {
+        return async(() -> create(expense, file));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Expense object.
+     */
+
+    public CompletableFuture<Expense> getAsync(String expenseId) {
+        return async(() -> get(expenseId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the Expense object.
+     */
+
+    public CompletableFuture<Expense> getAsync(String expenseId, Set<String> fields) {
+        return async(() -> get(expenseId, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(Expense)}.
+     *
+     * @return Returns a CompletableFuture completed with the Expense object.
+     */
+
+    public CompletableFuture<Expense> updateAsync(Expense expense) {
+        return async(() -> update(expense));
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(Expense, File)}.
+     *
+     * @return Returns a CompletableFuture completed with the Expense object.
+     */
+
+    public CompletableFuture<Expense> updateAsync(Expense expense, File file) {
+        return async(() -> update(expense, file));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteAsync(String expenseId) {
+        return async(() -> delete(expenseId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getExpesnses(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the ExpenseList object.
+     */
+
+    public CompletableFuture<ExpenseList> getExpesnsesAsync(HashMap<String, Object> queryMap) {
+        return async(() -> getExpesnses(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getExpesnses(HashMap, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the ExpenseList object.
+     */
+
+    public CompletableFuture<ExpenseList> getExpesnsesAsync(HashMap<String, Object> queryMap, Set<String> fields) {
+        return async(() -> getExpesnses(queryMap, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getComments(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the CommentList object.
+     */
+
+    public CompletableFuture<CommentList> getCommentsAsync(String expenseId) {
+        return async(() -> getComments(expenseId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addReceipt(String, File)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> addReceiptAsync(String expenseId, File file) {
+        return async(() -> addReceipt(expenseId, file));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addReceipt(String, Attachment)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> addReceiptAsync(String expenseId, Attachment receipt) {
+        return async(() -> addReceipt(expenseId, receipt));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getReceipt(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the File object.
+     */
+
+    public CompletableFuture<File> getReceiptAsync(String expenseId) {
+        return async(() -> getReceipt(expenseId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getReceipt(String, Path)}.
+     *
+     * @return Returns a CompletableFuture completed with the Path of the file written.
+     */
+
+    public CompletableFuture<Path> getReceiptAsync(String expenseId, Path target) {
+        return async(() -> getReceipt(expenseId, target));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getReceipt(String, OutputStream)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> getReceiptAsync(String expenseId, OutputStream out) {
+        return async(() -> getReceipt(expenseId, out));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getReceipt(String, WritableByteChannel)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> getReceiptAsync(String expenseId, WritableByteChannel channel) {
+        return async(() -> getReceipt(expenseId, channel));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteReceipt(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteReceiptAsync(String expenseId) {
+        return async(() -> deleteReceipt(expenseId));
+    }
+
 }
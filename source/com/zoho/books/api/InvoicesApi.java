@@ -4,14 +4,22 @@ package com.zoho.books.api;
 
 import com.zoho.books.model.*;
 import com.zoho.books.parser.InvoiceParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.File;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * InvoicesApi is used to create a new invoice for the customer.
@@ -81,8 +89,21 @@ public class InvoicesApi extends API {
         super(accessToken, organizationId, eu);
     }
 
+    /**
+     * Construct a new InvoicesApi that sends its requests through the given transport.
+     *
+     * @param accessToken    user's accessToken.
+     * @param organizationId user's organization id.
+     * @param eu             Whether the organization is in the EU data center.
+     * @param transport      Transport used to execute the requests.
+     */
 
-    private InvoiceParser invoiceParser = new InvoiceParser();
+    public InvoicesApi(String accessToken, String organizationId, boolean eu, Transport transport) {
+        super(accessToken, organizationId, eu, transport);
+    }
+
+
+    private static final InvoiceParser invoiceParser = new InvoiceParser();
 
 
     /**
@@ -131,10 +152,23 @@ public class InvoicesApi extends API {
      */
 
     public InvoiceList getInvoices(HashMap<String, Object> queryMap) throws Exception {
+        return getInvoices(queryMap, null);
+    }
+
+    /**
+     * Get list of invoices.
+     * Only the given fields of each invoice are read.
+     *
+     * @param queryMap It contains the query string parameters in the form of key-value pair.
+     * @param fields Names of the fields to read from each invoice, or null to read every field.
+     * @return Returns the InvoiceList object.
+     */
 
-        String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
+    public InvoiceList getInvoices(HashMap<String, Object> queryMap, Set<String> fields) throws Exception {
 
-        InvoiceList invoiceList = invoiceParser.getInvoices(response);
+        Reader response = httpClient.get(url, getQueryMap(queryMap));
+
+        InvoiceList invoiceList = invoiceParser.getInvoices(response, lazyLists, fields);
 
         return invoiceList;
     }
@@ -173,9 +207,9 @@ public class InvoicesApi extends API {
         invoiceObj.setLineItems(lineItems);
 
 
-        requestBody.put("JSONString", invoiceObj.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(invoiceObj::write));
 
-        String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+        Reader response = httpClient.post(url, requestBody);
 
         Invoice invoice = invoiceParser.getInvoice(response);
 
@@ -204,9 +238,9 @@ public class InvoicesApi extends API {
         HashMap<String, Object> requestBody = getQueryMap(paramMap);
 
 
-        requestBody.put("JSONString", newInvoice.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(newInvoice::write));
 
-        String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+        Reader response = httpClient.post(url, requestBody);
 
         Invoice invoice = invoiceParser.getInvoice(response);
 
@@ -223,12 +257,25 @@ public class InvoicesApi extends API {
      */
 
     public Invoice get(String invoiceId) throws Exception {
+        return get(invoiceId, null);
+    }
+
+    /**
+     * Get the details of an invoice.
+     * Only the given fields of the invoice are read.
+     *
+     * @param invoiceId ID of an invoice.
+     * @param fields Names of the fields to read, or null to read every field.
+     * @return Returns an Invoice object.
+     */
+
+    public Invoice get(String invoiceId, Set<String> fields) throws Exception {
 
         String urlString = url + "/" + invoiceId;
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
-        Invoice invoice = invoiceParser.getInvoice(response);
+        Invoice invoice = invoiceParser.getInvoice(response, fields);
 
         return invoice;
     }
@@ -252,9 +299,9 @@ public class InvoicesApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap(paramMap);
 
-        requestBody.put("JSONString", newInvoice.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(newInvoice::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         Invoice invoice = invoiceParser.getInvoice(response);
 
@@ -275,7 +322,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/" + invoiceId;
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = invoiceParser.getMessage(response);
 
@@ -312,7 +359,7 @@ public class InvoicesApi extends API {
         ArrayList<File> files = null;
 
         if (email != null) {
-            paramMap.put("JSONString", email.toJSON().toString());
+            paramMap.put("JSONString", JsonWriter.toString(email::write));
 
             files = email.getAttachments();
 
@@ -323,7 +370,7 @@ public class InvoicesApi extends API {
             }
         }
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), paramMap, fileBody, accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap(), paramMap, fileBody);
 
         String success = invoiceParser.getMessage(response);
 
@@ -368,7 +415,7 @@ public class InvoicesApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         String success = invoiceParser.getMessage(response);
 
@@ -391,7 +438,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/" + invoiceId + "/email"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap(queryMap));
 
         Email email = invoiceParser.getEmailContent(response);
 
@@ -426,7 +473,7 @@ public class InvoicesApi extends API {
         ArrayList<File> files = null;
 
         if (email != null) {
-            paramMap.put("JSONString", email.toJSON().toString());
+            paramMap.put("JSONString", JsonWriter.toString(email::write));
 
             files = email.getAttachments();
 
@@ -438,7 +485,7 @@ public class InvoicesApi extends API {
         }
 
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), paramMap, fileBody, accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap(), paramMap, fileBody);
 
         String success = invoiceParser.getMessage(response);
 
@@ -461,7 +508,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/paymentreminder"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(paramMap), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap(paramMap));
 
         String success = invoiceParser.getMessage(response);
 
@@ -481,7 +528,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/" + invoiceId + "/paymentreminder"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         Email email = invoiceParser.getEmailContent(response);
 
@@ -502,7 +549,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/" + invoiceId + "/status/sent"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = invoiceParser.getMessage(response);
 
@@ -523,7 +570,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/" + invoiceId + "/status/draft"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = invoiceParser.getMessage(response);
 
@@ -544,7 +591,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/" + invoiceId + "/status/void"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = invoiceParser.getMessage(response);
 
@@ -566,11 +613,58 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/pdf"; //No I18N
 
-        File file = ZohoHTTPClient.getFile(urlString, getQueryMap(queryMap));
+        File file = httpClient.getFile(urlString, getQueryMap(queryMap), Paths.get("")).toFile();
 
         return file;
     }
 
+    /**
+     * Write the pdf of the invoices to the given path.
+     * If the path is a directory, the file is created in it with the name sent by the server.
+     *
+     * @param queryMap Comma separated invoice ids which are to be exported as pdf.
+     * @param target   Path of the file, or of the directory, to write to.
+     * @return Returns the Path of the file written.
+     */
+
+    public Path bulkExport(HashMap<String, Object> queryMap, Path target) throws Exception {
+
+        String urlString = url + "/pdf"; //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), target);
+    }
+
+    /**
+     * Write the pdf of the invoices to the given stream.
+     *
+     * @param queryMap Comma separated invoice ids which are to be exported as pdf.
+     * @param out      OutputStream to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long bulkExport(HashMap<String, Object> queryMap, OutputStream out) throws Exception {
+
+        String urlString = url + "/pdf"; //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), out);
+    }
+
+    /**
+     * Write the pdf of the invoices to the given channel.
+     * A FileChannel is written from its current position by FileChannel.transferFrom.
+     *
+     * @param queryMap Comma separated invoice ids which are to be exported as pdf.
+     * @param channel  WritableByteChannel to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long bulkExport(HashMap<String, Object> queryMap, WritableByteChannel channel) throws Exception {
+
+        String urlString = url + "/pdf"; //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), channel);
+    }
+
     /**
      * Export invoices as pdf, and print them (Maximum of 25 invoices can be printed).
      * Pass the query string parameters to get multiple invoices in a single pdf.
@@ -585,11 +679,58 @@ public class InvoicesApi extends API {
     public File bulkPrint(HashMap<String, Object> queryMap) throws Exception {
         String urlString = url + "/print"; //No I18N
 
-        File file = ZohoHTTPClient.getFile(urlString, getQueryMap(queryMap));
+        File file = httpClient.getFile(urlString, getQueryMap(queryMap), Paths.get("")).toFile();
 
         return file;
     }
 
+    /**
+     * Write the printable pdf of the invoices to the given path.
+     * If the path is a directory, the file is created in it with the name sent by the server.
+     *
+     * @param queryMap Comma separated invoice ids which are to be printed.
+     * @param target   Path of the file, or of the directory, to write to.
+     * @return Returns the Path of the file written.
+     */
+
+    public Path bulkPrint(HashMap<String, Object> queryMap, Path target) throws Exception {
+
+        String urlString = url + "/print"; //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), target);
+    }
+
+    /**
+     * Write the printable pdf of the invoices to the given stream.
+     *
+     * @param queryMap Comma separated invoice ids which are to be printed.
+     * @param out      OutputStream to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long bulkPrint(HashMap<String, Object> queryMap, OutputStream out) throws Exception {
+
+        String urlString = url + "/print"; //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), out);
+    }
+
+    /**
+     * Write the printable pdf of the invoices to the given channel.
+     * A FileChannel is written from its current position by FileChannel.transferFrom.
+     *
+     * @param queryMap Comma separated invoice ids which are to be printed.
+     * @param channel  WritableByteChannel to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long bulkPrint(HashMap<String, Object> queryMap, WritableByteChannel channel) throws Exception {
+
+        String urlString = url + "/print"; //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), channel);
+    }
+
     /**
      * Enable automated payment reminders for an invoice.
      * Pass the invoiceId to enable payment reminder for an invoice.
@@ -604,7 +745,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/" + invoiceId + "/paymentreminder/enable"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = invoiceParser.getMessage(response);
 
@@ -625,7 +766,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/" + invoiceId + "/paymentreminder/disable"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = invoiceParser.getMessage(response);
 
@@ -646,7 +787,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/" + invoiceId + "/writeoff"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = invoiceParser.getMessage(response);
 
@@ -667,7 +808,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/" + invoiceId + "/writeoff/cancel"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = invoiceParser.getMessage(response);
 
@@ -693,7 +834,7 @@ public class InvoicesApi extends API {
 
         requestBody.put("JSONString", billingAddress.toJSON().put("is_update_customer", billingAddress.isUpdateCustomer()).toString());
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         String success = invoiceParser.getMessage(response);
 
@@ -719,7 +860,7 @@ public class InvoicesApi extends API {
 
         requestBody.put("JSONString", shippingAddress.toJSON().put("is_update_customer", shippingAddress.isUpdateCustomer()).toString());
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         String success = invoiceParser.getMessage(response);
 
@@ -737,7 +878,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/templates"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         TemplateList templateList = invoiceParser.getTemplates(response);
 
@@ -759,7 +900,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/" + invoiceId + "/templates/" + templateId; //No I18N
 
-        String response = ZohoHTTPClient.put(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.put(urlString, getQueryMap());
 
         String success = invoiceParser.getMessage(response);
 
@@ -783,7 +924,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/" + invoiceId + "/payments"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         PaymentList paymentList = invoiceParser.getPayments(response);
 
@@ -803,7 +944,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/" + invoiceId + "/creditsapplied"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         CreditList credits = invoiceParser.getCreditsApplied(response);
 
@@ -853,7 +994,7 @@ public class InvoicesApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         Credit credit = invoiceParser.getApplyCredits(response);
 
@@ -875,7 +1016,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/" + invoiceId + "/payments/" + invoicePaymentId; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = invoiceParser.getMessage(response);
 
@@ -898,7 +1039,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/" + invoiceId + "/creditsapplied/" + creditnotesInvoiceId; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = invoiceParser.getMessage(response);
 
@@ -934,7 +1075,7 @@ public class InvoicesApi extends API {
         fileBody.put("attachment", file);
 
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), paramMap, fileBody, accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap(), paramMap, fileBody);
 
         String success = invoiceParser.getMessage(response);
 
@@ -957,11 +1098,61 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/" + invoiceId + "/attachment"; //No I18N
 
-        File file = ZohoHTTPClient.getFile(urlString, getQueryMap(queryMap));
+        File file = httpClient.getFile(urlString, getQueryMap(queryMap), Paths.get("")).toFile();
 
         return file;
     }
 
+    /**
+     * Write the file attached to the invoice to the given path.
+     * If the path is a directory, the file is created in it with the name sent by the server.
+     *
+     * @param invoiceId ID of an Invoice.
+     * @param queryMap  Get the thumbnail of the attachment.
+     * @param target    Path of the file, or of the directory, to write to.
+     * @return Returns the Path of the file written.
+     */
+
+    public Path getAttachment(String invoiceId, HashMap<String, Object> queryMap, Path target) throws Exception {
+
+        String urlString = url + "/" + invoiceId + "/attachment"; //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), target);
+    }
+
+    /**
+     * Write the file attached to the invoice to the given stream.
+     *
+     * @param invoiceId ID of an Invoice.
+     * @param queryMap  Get the thumbnail of the attachment.
+     * @param out       OutputStream to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long getAttachment(String invoiceId, HashMap<String, Object> queryMap, OutputStream out) throws Exception {
+
+        String urlString = url + "/" + invoiceId + "/attachment"; //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), out);
+    }
+
+    /**
+     * Write the file attached to the invoice to the given channel.
+     * A FileChannel is written from its current position by FileChannel.transferFrom.
+     *
+     * @param invoiceId ID of an Invoice.
+     * @param queryMap  Get the thumbnail of the attachment.
+     * @param channel   WritableByteChannel to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long getAttachment(String invoiceId, HashMap<String, Object> queryMap, WritableByteChannel channel) throws Exception {
+
+        String urlString = url + "/" + invoiceId + "/attachment"; //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), channel);
+    }
+
     /**
      * Set whether you want to send the attached file while emailing the invoice.
      * Pass the invoiceId and query string parameters to update the attachment for an invoice.
@@ -979,7 +1170,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/" + invoiceId + "/attachment"; //No I18N
 
-        String response = ZohoHTTPClient.put(urlString, getQueryMap(paramMap), accessToken);
+        Reader response = httpClient.put(urlString, getQueryMap(paramMap));
 
         String success = invoiceParser.getMessage(response);
 
@@ -1000,7 +1191,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/" + invoiceId + "/attachment"; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = invoiceParser.getMessage(response);
 
@@ -1021,7 +1212,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/expenses/" + invoiceId + "/receipt"; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = invoiceParser.getMessage(response);
 
@@ -1044,7 +1235,7 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/" + invoiceId + "/comments"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         CommentList commentList = invoiceParser.getComments(response);
 
@@ -1076,7 +1267,7 @@ public class InvoicesApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         Comment comment = invoiceParser.getComment(response);
 
@@ -1107,7 +1298,7 @@ public class InvoicesApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         Comment comment = invoiceParser.getComment(response);
 
@@ -1129,11 +1320,512 @@ public class InvoicesApi extends API {
 
         String urlString = url + "/" + invoiceId + "/comments/" + commentId; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = invoiceParser.getMessage(response);
 
         return success;
     }
 
+
+    /**
+     * Asynchronous variant of {@link #getInvoices(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the InvoiceList object.
+     */
+
+    public CompletableFuture<InvoiceList> getInvoicesAsync(HashMap<String, Object> queryMap) {
+        return async(() -> getInvoices(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getInvoices(HashMap, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the InvoiceList object.
+     */
+
+    public CompletableFuture<InvoiceList> getInvoicesAsync(HashMap<String, Object> queryMap, Set<String> fields) {
+        return async(() -> getInvoices(queryMap, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #create(String, String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Invoice object.
+     */
+
+    public CompletableFuture<Invoice> createAsync(String customerId, String contactPersonId, String description) {
+        return async(() -> create(customerId, contactPersonId, description));
+    }
+
+    /**
+     * Asynchronous variant of {@link #create(Invoice, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the Invoice object.
+     */
+
+    public CompletableFuture<Invoice> createAsync(Invoice newInvoice, HashMap<String, Object> paramMap) {
+        return async(() -> create(newInvoice, paramMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Invoice object.
+     */
+
+    public CompletableFuture<Invoice> getAsync(String invoiceId) {
+        return async(() -> get(invoiceId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the Invoice object.
+     */
+
+    public CompletableFuture<Invoice> getAsync(String invoiceId, Set<String> fields) {
+        return async(() -> get(invoiceId, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(Invoice, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the Invoice object.
+     */
+
+    public CompletableFuture<Invoice> updateAsync(Invoice newInvoice, HashMap<String, Object> paramMap) {
+        return async(() -> update(newInvoice, paramMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteAsync(String invoiceId) {
+        return async(() -> delete(invoiceId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #sendEmail(String, Email, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> sendEmailAsync(String invoiceId, Email email, HashMap<String, Object> paramMap) {
+        return async(() -> sendEmail(invoiceId, email, paramMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #sendEmailInvoices(List, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> sendEmailInvoicesAsync(List<Contact> contacts, HashMap<String, Object> paramMap) {
+        return async(() -> sendEmailInvoices(contacts, paramMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getEmailContent(String, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the Email object.
+     */
+
+    public CompletableFuture<Email> getEmailContentAsync(String invoiceId, HashMap<String, Object> queryMap) {
+        return async(() -> getEmailContent(invoiceId, queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #sendPaymentReminder(String, Email, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> sendPaymentReminderAsync(String invoiceId, Email email, HashMap<String, Object> paramMap) {
+        return async(() -> sendPaymentReminder(invoiceId, email, paramMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #sendBulkInvoiceReminder(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> sendBulkInvoiceReminderAsync(HashMap<String, Object> paramMap) {
+        return async(() -> sendBulkInvoiceReminder(paramMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getPaymentReminder(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Email object.
+     */
+
+    public CompletableFuture<Email> getPaymentReminderAsync(String invoiceId) {
+        return async(() -> getPaymentReminder(invoiceId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #markAsSent(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> markAsSentAsync(String invoiceId) {
+        return async(() -> markAsSent(invoiceId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #markAsDraft(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> markAsDraftAsync(String invoiceId) {
+        return async(() -> markAsDraft(invoiceId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #markAsVoid(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> markAsVoidAsync(String invoiceId) {
+        return async(() -> markAsVoid(invoiceId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkExport(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the File object.
+     */
+
+    public CompletableFuture<File> bulkExportAsync(HashMap<String, Object> queryMap) {
+        return async(() -> bulkExport(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkExport(HashMap, Path)}.
+     *
+     * @return Returns a CompletableFuture completed with the Path of the file written.
+     */
+
+    public CompletableFuture<Path> bulkExportAsync(HashMap<String, Object> queryMap, Path target) {
+        return async(() -> bulkExport(queryMap, target));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkExport(HashMap, OutputStream)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> bulkExportAsync(HashMap<String, Object> queryMap, OutputStream out) {
+        return async(() -> bulkExport(queryMap, out));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkExport(HashMap, WritableByteChannel)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> bulkExportAsync(HashMap<String, Object> queryMap, WritableByteChannel channel) {
+        return async(() -> bulkExport(queryMap, channel));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkPrint(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the File object.
+     */
+
+    public CompletableFuture<File> bulkPrintAsync(HashMap<String, Object> queryMap) {
+        return async(() -> bulkPrint(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkPrint(HashMap, Path)}.
+     *
+     * @return Returns a CompletableFuture completed with the Path of the file written.
+     */
+
+    public CompletableFuture<Path> bulkPrintAsync(HashMap<String, Object> queryMap, Path target) {
+        return async(() -> bulkPrint(queryMap, target));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkPrint(HashMap, OutputStream)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> bulkPrintAsync(HashMap<String, Object> queryMap, OutputStream out) {
+        return async(() -> bulkPrint(queryMap, out));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkPrint(HashMap, WritableByteChannel)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> bulkPrintAsync(HashMap<String, Object> queryMap, WritableByteChannel channel) {
+        return async(() -> bulkPrint(queryMap, channel));
+    }
+
+    /**
+     * Asynchronous variant of {@link #enablePaymentReminder(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> enablePaymentReminderAsync(String invoiceId) {
+        return async(() -> enablePaymentReminder(invoiceId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #disablePaymentReminder(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> disablePaymentReminderAsync(String invoiceId) {
+        return async(() -> disablePaymentReminder(invoiceId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #writeOffInvoice(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> writeOffInvoiceAsync(String invoiceId) {
+        return async(() -> writeOffInvoice(invoiceId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #cancelWriteOff(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> cancelWriteOffAsync(String invoiceId) {
+        return async(() -> cancelWriteOff(invoiceId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateBillingAddress(String, Address)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateBillingAddressAsync(String invoiceId, Address billingAddress) {
+        return async(() -> updateBillingAddress(invoiceId, billingAddress));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateShippingAddress(String, Address)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateShippingAddressAsync(String invoiceId, Address shippingAddress) {
+        return async(() -> updateShippingAddress(invoiceId, shippingAddress));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getTemplates()}.
+     *
+     * @return Returns a CompletableFuture completed with the TemplateList object.
+     */
+
+    public CompletableFuture<TemplateList> getTemplatesAsync() {
+        return async(() -> getTemplates());
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateTemplate(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateTemplateAsync(String invoiceId, String templateId) {
+        return async(() -> updateTemplate(invoiceId, templateId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getPayments(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the PaymentList object.
+     */
+
+    public CompletableFuture<PaymentList> getPaymentsAsync(String invoiceId) {
+        return async(() -> getPayments(invoiceId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCreditsApplied(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the CreditList object.
+     */
+
+    public CompletableFuture<CreditList> getCreditsAppliedAsync(String invoiceId) {
+        return async(() -> getCreditsApplied(invoiceId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addCredits(String, List, List)}.
+     *
+     * @return Returns a CompletableFuture completed with the Credit object.
+     */
+
+    public CompletableFuture<Credit> addCreditsAsync(String invoiceId, List<InvoicePayment> invoicePayments, List<ApplyCreditnote> applyCreditnotes) {
+        return async(() -> addCredits(invoiceId, invoicePayments, applyCreditnotes));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deletePayment(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deletePaymentAsync(String invoiceId, String invoicePaymentId) {
+        return async(() -> deletePayment(invoiceId, invoicePaymentId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteAppliedCredit(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteAppliedCreditAsync(String invoiceId, String creditnotesInvoiceId) {
+        return async(() -> deleteAppliedCredit(invoiceId, creditnotesInvoiceId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addAttachment(String, File, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> addAttachmentAsync(String invoiceId, File file, HashMap<String, Object> paramMap) {
+        return async(() -> addAttachment(invoiceId, file, paramMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAttachment(String, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the File object.
+     */
+
+    public CompletableFuture<File> getAttachmentAsync(String invoiceId, HashMap<String, Object> queryMap) {
+        return async(() -> getAttachment(invoiceId, queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAttachment(String, HashMap, Path)}.
+     *
+     * @return Returns a CompletableFuture completed with the Path of the file written.
+     */
+
+    public CompletableFuture<Path> getAttachmentAsync(String invoiceId, HashMap<String, Object> queryMap, Path target) {
+        return async(() -> getAttachment(invoiceId, queryMap, target));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAttachment(String, HashMap, OutputStream)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> getAttachmentAsync(String invoiceId, HashMap<String, Object> queryMap, OutputStream out) {
+        return async(() -> getAttachment(invoiceId, queryMap, out));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAttachment(String, HashMap, WritableByteChannel)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> getAttachmentAsync(String invoiceId, HashMap<String, Object> queryMap, WritableByteChannel channel) {
+        return async(() -> getAttachment(invoiceId, queryMap, channel));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateAttachment(String, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateAttachmentAsync(String invoiceId, HashMap<String, Object> paramMap) {
+        return async(() -> updateAttachment(invoiceId, paramMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteAttachment(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteAttachmentAsync(String invoiceId) {
+        return async(() -> deleteAttachment(invoiceId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteExpenseReceipt(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteExpenseReceiptAsync(String invoiceId) {
+        return async(() -> deleteExpenseReceipt(invoiceId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getComments(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the CommentList object.
+     */
+
+    public CompletableFuture<CommentList> getCommentsAsync(String invoiceId) {
+        return async(() -> getComments(invoiceId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addComment(String, String, String, boolean)}.
+     *
+     * @return Returns a CompletableFuture completed with the Comment object.
+     */
+
+    public CompletableFuture<Comment> addCommentAsync(String invoiceId, String description, String paymentExpectedDate, boolean showCommentToClients) {
+        return async(() -> addComment(invoiceId, description, paymentExpectedDate, showCommentToClients));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateComment(String, String, String, boolean)}.
+     *
+     * @return Returns a CompletableFuture completed with the Comment object.
+     */
+
+    public CompletableFuture<Comment> updateCommentAsync(String invoiceId, String commentId, String description, boolean showCommentToClients) {
+        return async(() -> updateComment(invoiceId, commentId, description, showCommentToClients));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteComment(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteCommentAsync(String invoiceId, String commentId) {
+        return async(() -> deleteComment(invoiceId, commentId));
+    }
+
 }
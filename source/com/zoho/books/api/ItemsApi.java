@@ -5,9 +5,13 @@ package com.zoho.books.api;
 import com.zoho.books.model.Item;
 import com.zoho.books.model.ItemList;
 import com.zoho.books.parser.SettingsParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 
+import java.io.Reader;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -42,8 +46,24 @@ public class ItemsApi extends API {
 
 	}
 
+	/**
+	 * Construct a new ItemsApi that sends its requests through the given transport.
+	 *
+	 * @param accessToken user's accessToken.
+	 * @param organizationId user's organization id.
+	 * @param eu Whether the organization is in the EU data center.
+	 * @param transport Transport used to execute the requests.
+	 */
+
+	public ItemsApi(String accessToken, String organizationId, boolean eu, Transport transport)
+	{
+
+		super(accessToken, organizationId, eu, transport);
+
+	}
+
 
-	private SettingsParser settingsParser = new SettingsParser();
+	private static final SettingsParser settingsParser = new SettingsParser();
 
 
 
@@ -91,11 +111,25 @@ Allowed Values: <i>name, rate</i> and <i>tax_name</i></td></tr>
 	*/
 
 	public ItemList getItems(HashMap<String, Object> queryMap)throws Exception
+	{
+		return getItems(queryMap, null);
+	}
+
+	/**
+	 * Get the list of all active items with pagination.
+	 * Only the given fields of each item are read.
+	 *
+	 * @param queryMap It contains the query string parameters in the form of key-value pair.
+	 * @param fields Names of the fields to read from each item, or null to read every field.
+	 * @return Returns the ItemList object.
+	 */
+
+	public ItemList getItems(HashMap<String, Object> queryMap, Set<String> fields)throws Exception
 	{
 
-		String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
+		Reader response = httpClient.get(url, getQueryMap(queryMap));
 
-		ItemList itemList = settingsParser.getItems(response);
+		ItemList itemList = settingsParser.getItems(response, fields);
 
 		return itemList;
 	}
@@ -116,13 +150,27 @@ Allowed Values: <i>name, rate</i> and <i>tax_name</i></td></tr>
 	*/
 
 	public Item get(String itemId)throws Exception
+	{
+		return get(itemId, null);
+	}
+
+	/**
+	 * Get the details of an item.
+	 * Only the given fields of the item are read.
+	 *
+	 * @param itemId ID of an item.
+	 * @param fields Names of the fields to read, or null to read every field.
+	 * @return Returns an Item object.
+	 */
+
+	public Item get(String itemId, Set<String> fields)throws Exception
 	{
 
 		String urlString = url+"/"+itemId;
 
-		String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.get(urlString, getQueryMap());
 
-		Item item = settingsParser.getItem(response);
+		Item item = settingsParser.getItem(response, fields);
 
 		return item;
 	}
@@ -149,9 +197,9 @@ Allowed Values: <i>name, rate</i> and <i>tax_name</i></td></tr>
 
 		HashMap<String, Object>	requestBody = getQueryMap();
 
-		requestBody.put("JSONString", item.toJSON().toString());
+		requestBody.put("JSONString", JsonWriter.deferred(item::write));
 
-		String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+		Reader response = httpClient.post(url, requestBody);
 
 		return settingsParser.getItem(response);
 	}
@@ -180,9 +228,9 @@ Allowed Values: <i>name, rate</i> and <i>tax_name</i></td></tr>
 
 		HashMap<String, Object>	requestBody = getQueryMap();
 
-		requestBody.put("JSONString", item.toJSON().toString());
+		requestBody.put("JSONString", JsonWriter.deferred(item::write));
 
-		String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+		Reader response = httpClient.put(urlString, requestBody);
 
 		return settingsParser.getItem(response);
 	}
@@ -209,7 +257,7 @@ Allowed Values: <i>name, rate</i> and <i>tax_name</i></td></tr>
 
 		String urlString = url+"/"+itemId;
 
-		String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.delete(urlString, getQueryMap());
 
 		String success = settingsParser.getMessage(response);
 
@@ -238,7 +286,7 @@ Allowed Values: <i>name, rate</i> and <i>tax_name</i></td></tr>
 
 		String urlString = url+"/"+itemId+"/active"; //No I18N
 
-		String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.post(urlString, getQueryMap());
 
 		String success = settingsParser.getMessage(response);
 
@@ -267,10 +315,111 @@ Allowed Values: <i>name, rate</i> and <i>tax_name</i></td></tr>
 
 		String urlString = url+"/"+itemId+"/inactive"; //No I18N
 
-		String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.post(urlString, getQueryMap());
 
 		String success = settingsParser.getMessage(response);
 
 		return success;
 	}
+
+
+	/**
+	 * Asynchronous variant of {@link #getItems(HashMap)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the ItemList object.
+	 */
+
+	public CompletableFuture<ItemList> getItemsAsync(HashMap<String, Object> queryMap)
+	{
+		return async(() -> getItems(queryMap));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getItems(HashMap, Set)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the ItemList object.
+	 */
+
+	public CompletableFuture<ItemList> getItemsAsync(HashMap<String, Object> queryMap, Set<String> fields)
+	{
+		return async(() -> getItems(queryMap, fields));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #get(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the Item object.
+	 */
+
+	public CompletableFuture<Item> getAsync(String itemId)
+	{
+		return async(() -> get(itemId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #get(String, Set)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the Item object.
+	 */
+
+	public CompletableFuture<Item> getAsync(String itemId, Set<String> fields)
+	{
+		return async(() -> get(itemId, fields));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #create(Item)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the Item object.
+	 */
+
+	public CompletableFuture<Item> createAsync(Item item)
+	{
+		return async(() -> create(item));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #update(Item)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the Item object.
+	 */
+
+	public CompletableFuture<Item> updateAsync(Item item)
+	{
+		return async(() -> update(item));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #delete(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> deleteAsync(String itemId)
+	{
+		return async(() -> delete(itemId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #markItemAsActive(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> markItemAsActiveAsync(String itemId)
+	{
+		return async(() -> markItemAsActive(itemId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #markItemAsInactive(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> markItemAsInactiveAsync(String itemId)
+	{
+		return async(() -> markItemAsInactive(itemId));
+	}
+
 }
@@ -5,9 +5,13 @@ package com.zoho.books.api;
 import com.zoho.books.model.Journal;
 import com.zoho.books.model.JournalList;
 import com.zoho.books.parser.JournalParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 
+import java.io.Reader;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -40,8 +44,21 @@ public class JournalsApi extends API {
         super(accessToken, organizationId, eu);
     }
 
+    /**
+     * Construct a new JournalsApi that sends its requests through the given transport.
+     *
+     * @param accessToken    user's accessToken.
+     * @param organizationId user's organization id.
+     * @param eu             Whether the organization is in the EU data center.
+     * @param transport      Transport used to execute the requests.
+     */
+
+    public JournalsApi(String accessToken, String organizationId, boolean eu, Transport transport) {
+        super(accessToken, organizationId, eu, transport);
+    }
 
-    private JournalParser journalParser = new JournalParser();
+
+    private static final JournalParser journalParser = new JournalParser();
 
 
     /**
@@ -58,9 +75,9 @@ public class JournalsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", journal.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(journal::write));
 
-        String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+        Reader response = httpClient.post(url, requestBody);
 
         return journalParser.getJournal(response);
     }
@@ -75,12 +92,25 @@ public class JournalsApi extends API {
      */
 
     public Journal get(String journalId) throws Exception {
+        return get(journalId, null);
+    }
+
+    /**
+     * Get the details of the journal.
+     * Only the given fields of the journal are read.
+     *
+     * @param journalId ID of the Journal.
+     * @param fields Names of the fields to read, or null to read every field.
+     * @return Returns the Journal object.
+     */
+
+    public Journal get(String journalId, Set<String> fields) throws Exception {
 
         String urlString = url + "/" + journalId;
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
-        Journal journal = journalParser.getJournal(response);
+        Journal journal = journalParser.getJournal(response, fields);
 
         return journal;
     }
@@ -101,9 +131,9 @@ public class JournalsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", journal.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(journal::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return journalParser.getJournal(response);
     }
@@ -122,7 +152,7 @@ public class JournalsApi extends API {
 
         String urlString = url + "/" + journalId;
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = journalParser.getMessage(response);
 
@@ -158,11 +188,96 @@ public class JournalsApi extends API {
      */
 
     public JournalList getJournals(HashMap<String, Object> queryMap) throws Exception {
+        return getJournals(queryMap, null);
+    }
+
+    /**
+     * Get journal list.
+     * Only the given fields of each journal are read.
+     *
+     * @param queryMap It contains the query string parameters in the form of key-value pair.
+     * @param fields Names of the fields to read from each journal, or null to read every field.
+     * @return Returns the JournalList object.
+     */
+
+    public JournalList getJournals(HashMap<String, Object> queryMap, Set<String> fields) throws Exception {
 
-        String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(url, getQueryMap(queryMap));
 
-        JournalList journalList = journalParser.getJournals(response);
+        JournalList journalList = journalParser.getJournals(response, fields);
 
         return journalList;
     }
+
+
+    /**
+     * Asynchronous variant of {@link #create(Journal)}.
+     *
+     * @return Returns a CompletableFuture completed with the Journal object.
+     */
+
+    public CompletableFuture<Journal> createAsync(Journal journal) {
+        return async(() -> create(journal));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Journal object.
+     */
+
+    public CompletableFuture<Journal> getAsync(String journalId) {
+        return async(() -> get(journalId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the Journal object.
+     */
+
+    public CompletableFuture<Journal> getAsync(String journalId, Set<String> fields) {
+        return async(() -> get(journalId, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(Journal)}.
+     *
+     * @return Returns a CompletableFuture completed with the Journal object.
+     */
+
+    public CompletableFuture<Journal> updateAsync(Journal journal) {
+        return async(() -> update(journal));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteAsync(String journalId) {
+        return async(() -> delete(journalId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getJournals(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the JournalList object.
+     */
+
+    public CompletableFuture<JournalList> getJournalsAsync(HashMap<String, Object> queryMap) {
+        return async(() -> getJournals(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getJournals(HashMap, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the JournalList object.
+     */
+
+    public CompletableFuture<JournalList> getJournalsAsync(HashMap<String, Object> queryMap, Set<String> fields) {
+        return async(() -> getJournals(queryMap, fields));
+    }
+
 }
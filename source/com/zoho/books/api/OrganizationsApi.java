@@ -5,9 +5,13 @@ package com.zoho.books.api;
 import com.zoho.books.model.Organization;
 import com.zoho.books.model.OrganizationList;
 import com.zoho.books.parser.SettingsParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 
+import java.io.Reader;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -33,8 +37,23 @@ public class OrganizationsApi extends API {
 
 	}
 
+	/**
+	 * Construct a new OrganizationsApi that sends its requests through the given transport.
+	 *
+	 * @param accessToken user's accessToken.
+	 * @param eu Whether the organization is in the EU data center.
+	 * @param transport Transport used to execute the requests.
+	 */
+
+	public OrganizationsApi(String accessToken, boolean eu, Transport transport)
+	{
+
+		super(accessToken, "", eu, transport);
+
+	}
+
 
-	private SettingsParser settingsParser = new SettingsParser();
+	private static final SettingsParser settingsParser = new SettingsParser();
 
 
 	/**
@@ -48,11 +67,24 @@ public class OrganizationsApi extends API {
 	*/
 
 	public OrganizationList getOrganizations()throws Exception
+	{
+		return getOrganizations(null);
+	}
+
+	/**
+	 * Get the list of organizations.
+	 * Only the given fields of each organization are read.
+	 *
+	 * @param fields Names of the fields to read from each organization, or null to read every field.
+	 * @return Returns the OrganizationList object.
+	 */
+
+	public OrganizationList getOrganizations(Set<String> fields)throws Exception
 	{
 
-		String response = ZohoHTTPClient.get(url, getQueryMap(), accessToken);
+		Reader response = httpClient.get(url, getQueryMap());
 
-		OrganizationList organizationList = settingsParser.getOrganizations(response);
+		OrganizationList organizationList = settingsParser.getOrganizations(response, fields);
 
 		return organizationList;
 	}
@@ -73,13 +105,27 @@ public class OrganizationsApi extends API {
 	*/
 
 	public Organization get(String organizationid)throws Exception
+	{
+		return get(organizationid, null);
+	}
+
+	/**
+	 * Get the details of an organization.
+	 * Only the given fields of the organization are read.
+	 *
+	 * @param organizationid  ID of an organization.
+	 * @param fields Names of the fields to read, or null to read every field.
+	 * @return Returns the Organization object.
+	 */
+
+	public Organization get(String organizationid, Set<String> fields)throws Exception
 	{
 
 		String urlString = url+"/"+organizationid;
 
-		String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.get(urlString, getQueryMap());
 
-		Organization organization = settingsParser.getOrganization(response);
+		Organization organization = settingsParser.getOrganization(response, fields);
 
 		return organization;
 	}
@@ -106,9 +152,9 @@ public class OrganizationsApi extends API {
 
 		HashMap<String, Object> requestBody = getQueryMap();
 
-		requestBody.put("JSONString", organization.toJSON().toString());
+		requestBody.put("JSONString", JsonWriter.deferred(organization::write));
 
-		String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+		Reader response = httpClient.post(url, requestBody);
 
 		return settingsParser.getOrganization(response);
 	}
@@ -137,11 +183,78 @@ public class OrganizationsApi extends API {
 
 		HashMap<String, Object> requestBody = getQueryMap();
 
-		requestBody.put("JSONString", organization.toJSON().toString());
+		requestBody.put("JSONString", JsonWriter.deferred(organization::write));
 
-		String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+		Reader response = httpClient.put(urlString, requestBody);
 
 		return settingsParser.getOrganization(response);
 	}
 
+
+	/**
+	 * Asynchronous variant of {@link #getOrganizations()}.
+	 *
+	 * @return Returns a CompletableFuture completed with the OrganizationList object.
+	 */
+
+	public CompletableFuture<OrganizationList> getOrganizationsAsync()
+	{
+		return async(() -> getOrganizations());
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getOrganizations(Set)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the OrganizationList object.
+	 */
+
+	public CompletableFuture<OrganizationList> getOrganizationsAsync(Set<String> fields)
+	{
+		return async(() -> getOrganizations(fields));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #get(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the Organization object.
+	 */
+
+	public CompletableFuture<Organization> getAsync(String organizationid)
+	{
+		return async(() -> get(organizationid));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #get(String, Set)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the Organization object.
+	 */
+
+	public CompletableFuture<Organization> getAsync(String organizationid, Set<String> fields)
+	{
+		return async(() -> get(organizationid, fields));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #create(Organization)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the Organization object.
+	 */
+
+	public CompletableFuture<Organization> createAsync(Organization organization)
+	{
+		return async(() -> create(organization));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #update(Organization)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the Organization object.
+	 */
+
+	public CompletableFuture<Organization> updateAsync(Organization organization)
+	{
+		return async(() -> update(organization));
+	}
+
 }
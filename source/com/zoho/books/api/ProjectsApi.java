@@ -4,12 +4,16 @@ package com.zoho.books.api;
 
 import com.zoho.books.model.*;
 import com.zoho.books.parser.ProjectParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.io.Reader;
 import java.util.HashMap;
+import java.util.Set;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * ProjectsApi is used to create projects for the customer.
@@ -68,8 +72,24 @@ public class ProjectsApi extends API {
 
 	}
 
+	/**
+	 * Construct a new ProjectsApi that sends its requests through the given transport.
+	 *
+	 * @param accessToken user's accessToken.
+	 * @param organizationId user's organization id.
+	 * @param eu Whether the organization is in the EU data center.
+	 * @param transport Transport used to execute the requests.
+	 */
 
-	private ProjectParser projectParser = new ProjectParser();
+	public ProjectsApi(String accessToken, String organizationId, boolean eu, Transport transport)
+	{
+
+		super(accessToken, organizationId, eu, transport);
+
+	}
+
+
+	private static final ProjectParser projectParser = new ProjectParser();
 
 
     /**
@@ -92,10 +112,23 @@ public class ProjectsApi extends API {
      */
 
     public ProjectList getProjects(HashMap<String, Object> queryMap) throws Exception {
+        return getProjects(queryMap, null);
+    }
+
+    /**
+     * List all projects with pagination.
+     * Only the given fields of each project are read.
+     *
+     * @param queryMap It contains the query string parameters in the form of key-value pair.
+     * @param fields Names of the fields to read from each project, or null to read every field.
+     * @return Returns the ProjectList object.
+     */
+
+    public ProjectList getProjects(HashMap<String, Object> queryMap, Set<String> fields) throws Exception {
 
-        String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(url, getQueryMap(queryMap));
 
-        ProjectList projectList = projectParser.getProjects(response);
+        ProjectList projectList = projectParser.getProjects(response, fields);
 
         return projectList;
     }
@@ -111,11 +144,24 @@ public class ProjectsApi extends API {
      */
 
     public Project get(String projectId) throws Exception {
+        return get(projectId, null);
+    }
+
+    /**
+     * Get the details of a project.
+     * Only the given fields of the project are read.
+     *
+     * @param projectId ID of the project.
+     * @param fields Names of the fields to read, or null to read every field.
+     * @return Returns the Project object.
+     */
+
+    public Project get(String projectId, Set<String> fields) throws Exception {
         String urlString = url + "/" + projectId;
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
-        Project projects = projectParser.getProject(response);
+        Project projects = projectParser.getProject(response, fields);
 
         return projects;
     }
@@ -134,9 +180,9 @@ public class ProjectsApi extends API {
     public Project create(Project project) throws Exception {
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", project.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(project::write));
 
-        String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+        Reader response = httpClient.post(url, requestBody);
 
         return projectParser.getProject(response);
 
@@ -159,9 +205,9 @@ public class ProjectsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", project.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(project::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return projectParser.getProject(response);
     }
@@ -181,7 +227,7 @@ public class ProjectsApi extends API {
 
         String urlString = url + "/" + projectId;
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = projectParser.getMessage(response);
 
@@ -203,7 +249,7 @@ public class ProjectsApi extends API {
 
         String urlString = url + "/" + projectId + "/active"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = projectParser.getMessage(response);
 
@@ -225,7 +271,7 @@ public class ProjectsApi extends API {
 
         String urlString = url + "/" + projectId + "/inactive"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = projectParser.getMessage(response);
 
@@ -257,7 +303,7 @@ public class ProjectsApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         Project projects = projectParser.getProject(response);
 
@@ -288,7 +334,7 @@ public class ProjectsApi extends API {
 
         String urlString = url + "/" + projectId + "/tasks"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap(queryMap));
 
         TaskList taskList = projectParser.getTasks(response);
 
@@ -313,9 +359,9 @@ public class ProjectsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", task.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(task::write));
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         return projectParser.getTask(response);
     }
@@ -335,7 +381,7 @@ public class ProjectsApi extends API {
 
         String urlString = url + "/" + projectId + "/tasks/" + taskId; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         Task task = projectParser.getTask(response);
 
@@ -360,9 +406,9 @@ public class ProjectsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", task.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(task::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return projectParser.getTask(response);
     }
@@ -383,7 +429,7 @@ public class ProjectsApi extends API {
 
         String urlString = url + "/" + projectId + "/tasks/" + taskId; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = projectParser.getMessage(response);
 
@@ -406,7 +452,7 @@ public class ProjectsApi extends API {
 
         String urlString = url + "/" + projectId + "/users"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         UserList userList = projectParser.getUsers(response);
 
@@ -428,7 +474,7 @@ public class ProjectsApi extends API {
 
         String urlString = url + "/" + projectId + "/users/" + userId; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         User user = projectParser.getUser(response);
 
@@ -470,7 +516,7 @@ public class ProjectsApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         return projectParser.getUsers(response);
 
@@ -493,9 +539,9 @@ public class ProjectsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", user.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(user::write));
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         return projectParser.getUser(response);
     }
@@ -518,9 +564,9 @@ public class ProjectsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", user.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(user::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return projectParser.getUser(response);
     }
@@ -541,7 +587,7 @@ public class ProjectsApi extends API {
 
         String urlString = url + "/" + projectId + "/users/" + userId; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = projectParser.getMessage(response);
 
@@ -577,7 +623,7 @@ public class ProjectsApi extends API {
 
         String urlString = url + "/timeentries"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap(queryMap));
 
         TimeEntryList timeEntryList = projectParser.getTimeEntries(response);
 
@@ -601,9 +647,9 @@ public class ProjectsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", timeEntry.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(timeEntry::write));
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         return projectParser.getTimeEntry(response);
 
@@ -623,7 +669,7 @@ public class ProjectsApi extends API {
 
         String urlString = url + "/timeentries/" + timeEntryId; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         TimeEntry timeEntry = projectParser.getTimeEntry(response);
 
@@ -647,9 +693,9 @@ public class ProjectsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", timeEntry.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(timeEntry::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return projectParser.getTimeEntry(response);
 
@@ -670,7 +716,7 @@ public class ProjectsApi extends API {
 
         String urlString = url + "/timeentries/" + timeEntryId; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = projectParser.getMessage(response);
 
@@ -694,7 +740,7 @@ public class ProjectsApi extends API {
 
         String urlString = url + "/timeentries"; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap(queryMap));
 
         String success = projectParser.getMessage(response);
 
@@ -715,7 +761,7 @@ public class ProjectsApi extends API {
 
         String urlString = url + "/timeentries/" + timeEntryId + "/timer/start"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         TimeEntry timeEntry = projectParser.getTimeEntry(response);
 
@@ -735,7 +781,7 @@ public class ProjectsApi extends API {
 
         String urlString = url + "/timeentries/timer/stop"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         TimeEntry timeEntry = projectParser.getTimeEntry(response);
 
@@ -758,7 +804,7 @@ public class ProjectsApi extends API {
 
         String urlString = url + "/" + projectId + "/comments"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         CommentList commentList = projectParser.getComments(response);
 
@@ -788,7 +834,7 @@ public class ProjectsApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         Comment comment = projectParser.getComment(response);
 
@@ -810,7 +856,7 @@ public class ProjectsApi extends API {
     public String deleteComment(String projectId, String commentId) throws Exception {
         String urlString = url + "/" + projectId + "/comments/" + commentId; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = projectParser.getMessage(response);
 
@@ -842,10 +888,342 @@ public class ProjectsApi extends API {
 
         String urlString = url + "/" + projectId + "/invoices"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap(queryMap));
 
         InvoiceList invoiceList = projectParser.getInvoices(response);
 
         return invoiceList;
     }
+
+
+    /**
+     * Asynchronous variant of {@link #getProjects(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the ProjectList object.
+     */
+
+    public CompletableFuture<ProjectList> getProjectsAsync(HashMap<String, Object> queryMap) {
+        return async(() -> getProjects(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getProjects(HashMap, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the ProjectList object.
+     */
+
+    public CompletableFuture<ProjectList> getProjectsAsync(HashMap<String, Object> queryMap, Set<String> fields) {
+        return async(() -> getProjects(queryMap, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Project object.
+     */
+
+    public CompletableFuture<Project> getAsync(String projectId) {
+        return async(() -> get(projectId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the Project object.
+     */
+
+    public CompletableFuture<Project> getAsync(String projectId, Set<String> fields) {
+        return async(() -> get(projectId, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #create(Project)}.
+     *
+     * @return Returns a CompletableFuture completed with the Project object.
+     */
+
+    public CompletableFuture<Project> createAsync(Project project) {
+        return async(() -> create(project));
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(Project)}.
+     *
+     * @return Returns a CompletableFuture completed with the Project object.
+     */
+
+    public CompletableFuture<Project> updateAsync(Project project) {
+        return async(() -> update(project));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteAsync(String projectId) {
+        return async(() -> delete(projectId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #activate(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> activateAsync(String projectId) {
+        return async(() -> activate(projectId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #inactivate(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> inactivateAsync(String projectId) {
+        return async(() -> inactivate(projectId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #clone(String, String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Project object.
+     */
+
+    public CompletableFuture<Project> cloneAsync(String projectId, String projectName, String description) {
+        return async(() -> clone(projectId, projectName, description));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getTasks(String, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the TaskList object.
+     */
+
+    public CompletableFuture<TaskList> getTasksAsync(String projectId, HashMap<String, Object> queryMap) {
+        return async(() -> getTasks(projectId, queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addTask(String, Task)}.
+     *
+     * @return Returns a CompletableFuture completed with the Task object.
+     */
+
+    public CompletableFuture<Task> addTaskAsync(String projectId, Task task) {
+        return async(() -> addTask(projectId, task));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getTask(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Task object.
+     */
+
+    public CompletableFuture<Task> getTaskAsync(String projectId, String taskId) {
+        return async(() -> getTask(projectId, taskId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateTask(String, Task)}.
+     *
+     * @return Returns a CompletableFuture completed with the Task object.
+     */
+
+    public CompletableFuture<Task> updateTaskAsync(String projectId, Task task) {
+        return async(() -> updateTask(projectId, task));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteTask(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteTaskAsync(String projectId, String taskId) {
+        return async(() -> deleteTask(projectId, taskId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getUsers(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the UserList object.
+     */
+
+    public CompletableFuture<UserList> getUsersAsync(String projectId) {
+        return async(() -> getUsers(projectId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getUser(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the User object.
+     */
+
+    public CompletableFuture<User> getUserAsync(String projectId, String userId) {
+        return async(() -> getUser(projectId, userId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #assignUsers(String, List)}.
+     *
+     * @return Returns a CompletableFuture completed with the UserList object.
+     */
+
+    public CompletableFuture<UserList> assignUsersAsync(String projectId, List<User> users) {
+        return async(() -> assignUsers(projectId, users));
+    }
+
+    /**
+     * Asynchronous variant of {@link #inviteUser(String, User)}.
+     *
+     * @return Returns a CompletableFuture completed with the User object.
+     */
+
+    public CompletableFuture<User> inviteUserAsync(String projectId, User user) {
+        return async(() -> inviteUser(projectId, user));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateUser(String, User)}.
+     *
+     * @return Returns a CompletableFuture completed with the User object.
+     */
+
+    public CompletableFuture<User> updateUserAsync(String projectId, User user) {
+        return async(() -> updateUser(projectId, user));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteUser(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteUserAsync(String projectId, String userId) {
+        return async(() -> deleteUser(projectId, userId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getTimeEntries(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the TimeEntryList object.
+     */
+
+    public CompletableFuture<TimeEntryList> getTimeEntriesAsync(HashMap<String, Object> queryMap) {
+        return async(() -> getTimeEntries(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #logTimeEntry(TimeEntry)}.
+     *
+     * @return Returns a CompletableFuture completed with the TimeEntry object.
+     */
+
+    public CompletableFuture<TimeEntry> logTimeEntryAsync(TimeEntry timeEntry) {
+        return async(() -> logTimeEntry(timeEntry));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getTimeEntry(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the TimeEntry object.
+     */
+
+    public CompletableFuture<TimeEntry> getTimeEntryAsync(String timeEntryId) {
+        return async(() -> getTimeEntry(timeEntryId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateTimeEntry(TimeEntry)}.
+     *
+     * @return Returns a CompletableFuture completed with the TimeEntry object.
+     */
+
+    public CompletableFuture<TimeEntry> updateTimeEntryAsync(TimeEntry timeEntry) {
+        return async(() -> updateTimeEntry(timeEntry));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteTimeEntry(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteTimeEntryAsync(String timeEntryId) {
+        return async(() -> deleteTimeEntry(timeEntryId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteTimeEntries(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteTimeEntriesAsync(HashMap<String, Object> queryMap) {
+        return async(() -> deleteTimeEntries(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #startTimer(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the TimeEntry object.
+     */
+
+    public CompletableFuture<TimeEntry> startTimerAsync(String timeEntryId) {
+        return async(() -> startTimer(timeEntryId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #stopTimer()}.
+     *
+     * @return Returns a CompletableFuture completed with the TimeEntry object.
+     */
+
+    public CompletableFuture<TimeEntry> stopTimerAsync() {
+        return async(() -> stopTimer());
+    }
+
+    /**
+     * Asynchronous variant of {@link #getComments(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the CommentList object.
+     */
+
+    public CompletableFuture<CommentList> getCommentsAsync(String projectId) {
+        return async(() -> getComments(projectId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addComment(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Comment object.
+     */
+
+    public CompletableFuture<Comment> addCommentAsync(String projectId, String description) {
+        return async(() -> addComment(projectId, description));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteComment(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteCommentAsync(String projectId, String commentId) {
+        return async(() -> deleteComment(projectId, commentId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getInvoices(String, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the InvoiceList object.
+     */
+
+    public CompletableFuture<InvoiceList> getInvoicesAsync(String projectId, HashMap<String, Object> queryMap) {
+        return async(() -> getInvoices(projectId, queryMap));
+    }
+
 }
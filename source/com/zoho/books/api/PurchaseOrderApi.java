@@ -4,12 +4,20 @@ package com.zoho.books.api;
 
 import com.zoho.books.model.*;
 import com.zoho.books.parser.PurchaseOrderParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.io.File;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -59,9 +67,22 @@ public class PurchaseOrderApi extends API {
         super(accessToken, organizationId, eu);
     }
 
+    /**
+     * Construct a new PurchaseOrderApi that sends its requests through the given transport.
+     *
+     * @param accessToken    user's accessToken.
+     * @param organizationId user's organization id.
+     * @param eu             Whether the organization is in the EU data center.
+     * @param transport      Transport used to execute the requests.
+     */
+
+    public PurchaseOrderApi(String accessToken, String organizationId, boolean eu, Transport transport) {
+        super(accessToken, organizationId, eu, transport);
+    }
+
     // PurchaseOrderParser is used to parse the JSON response and make it into the respective objects.
 
-    private PurchaseOrderParser purchaseOrderParser = new PurchaseOrderParser();
+    private static final PurchaseOrderParser purchaseOrderParser = new PurchaseOrderParser();
 
 
     /**
@@ -73,10 +94,24 @@ public class PurchaseOrderApi extends API {
      */
 
     public PurchaseOrderList getPurchaseOrders(HashMap<String, Object> queryMap) throws Exception {
+        return getPurchaseOrders(queryMap, null);
+    }
+
+    /**
+     * List all purchase orders.
+     * Only the given fields of each purchase order are read.
+     *
+     * @param queryMap It contains the query string parameters in the form of key-value pair.
+     * @param fields Names of the fields to read from each purchase order, or null to read every field.
+     * @return Returns the PurchaseOrderList object.
+     * @throws Exception
+     */
+
+    public PurchaseOrderList getPurchaseOrders(HashMap<String, Object> queryMap, Set<String> fields) throws Exception {
 
-        String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(url, getQueryMap(queryMap));
 
-        return purchaseOrderParser.getPurchaseOrders(response);
+        return purchaseOrderParser.getPurchaseOrders(response, lazyLists, fields);
     }
 
     /**
@@ -88,12 +123,26 @@ public class PurchaseOrderApi extends API {
      */
 
     public PurchaseOrder get(String purchaseorderId) throws Exception {
+        return get(purchaseorderId, null);
+    }
+
+    /**
+     * Get the details of a purchase order.
+     * Only the given fields of the purchase order are read.
+     *
+     * @param purchaseorderId ID of the purchase order.
+     * @param fields Names of the fields to read, or null to read every field.
+     * @return Returns the PuchaseOrder object.
+     * @throws Exception
+     */
+
+    public PurchaseOrder get(String purchaseorderId, Set<String> fields) throws Exception {
 
         String urlString = url + "/" + purchaseorderId;    //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
-        return purchaseOrderParser.getPurchaseOrder(response);
+        return purchaseOrderParser.getPurchaseOrder(response, fields);
 
     }
 
@@ -110,25 +159,25 @@ public class PurchaseOrderApi extends API {
     public PurchaseOrder create(HashMap<String, Object> paramMap, PurchaseOrder purchaseOrder, File file) throws Exception {
 
 
-        String response = "";
+        Reader response;
 
         if (file != null && file.exists()) {
             HashMap<String, Object> requestBody = new HashMap<String, Object>();
 
-            requestBody.put("JSONString", purchaseOrder.toJSON().toString());
+            requestBody.put("JSONString", JsonWriter.toString(purchaseOrder::write));
 
             HashMap<String, Object> fileBody = new HashMap<String, Object>();
 
             fileBody.put("attachment", file);
 
-            response = ZohoHTTPClient.post(url, getQueryMap(paramMap), requestBody, fileBody, accessToken);
+            httpClient.post(url, getQueryMap(paramMap), requestBody, fileBody).close();
         }
 
         HashMap<String, Object> requestBody = getQueryMap(paramMap);
 
-        requestBody.put("JSONString", purchaseOrder.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(purchaseOrder::write));
 
-        response = ZohoHTTPClient.post(url, requestBody, accessToken);
+        response = httpClient.post(url, requestBody);
 
         return purchaseOrderParser.getPurchaseOrder(response);
 
@@ -148,25 +197,25 @@ public class PurchaseOrderApi extends API {
 
         String urlString = url + "/" + purchaseOrder.getPurchaseorderId();    //No I18N
 
-        String response = "";
+        Reader response;
 
         if (file != null && file.exists()) {
             HashMap<String, Object> requestBody = new HashMap<String, Object>();
 
-            requestBody.put("JSONString", purchaseOrder.toJSON().toString());
+            requestBody.put("JSONString", JsonWriter.toString(purchaseOrder::write));
 
             HashMap<String, Object> fileBody = new HashMap<String, Object>();
 
             fileBody.put("attachment", file);
 
-            response = ZohoHTTPClient.put(urlString, getQueryMap(paramMap), requestBody, fileBody, accessToken);
+            httpClient.put(urlString, getQueryMap(paramMap), requestBody, fileBody).close();
         }
 
         HashMap<String, Object> requestBody = getQueryMap(paramMap);
 
-        requestBody.put("JSONString", purchaseOrder.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(purchaseOrder::write));
 
-        response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        response = httpClient.put(urlString, requestBody);
 
         return purchaseOrderParser.getPurchaseOrder(response);
 
@@ -184,7 +233,7 @@ public class PurchaseOrderApi extends API {
 
         String urlString = url + "/" + purchaseorderId;    //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         return purchaseOrderParser.getMessage(response);
     }
@@ -201,7 +250,7 @@ public class PurchaseOrderApi extends API {
 
         String urlString = url + "/" + purchaseorderId + "/status/open";    //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         return purchaseOrderParser.getMessage(response);
 
@@ -219,7 +268,7 @@ public class PurchaseOrderApi extends API {
 
         String urlString = url + "/" + puchaseorderId + "/status/billed";    //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         return purchaseOrderParser.getMessage(response);
 
@@ -237,7 +286,7 @@ public class PurchaseOrderApi extends API {
 
         String urlString = url + "/" + purchaseorderId + "/status/cancelled";    //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         return purchaseOrderParser.getMessage(response);
 
@@ -257,7 +306,7 @@ public class PurchaseOrderApi extends API {
     public String sendEmail(String purchaseorderId, HashMap<String, Object> paramMap, Email email) throws Exception {
 
         String urlString = url + "/" + purchaseorderId + "/email";    //No I18N
-        String response = "";
+        Reader response;
         if (paramMap == null) {
 
             paramMap = new HashMap<String, Object>();
@@ -265,7 +314,7 @@ public class PurchaseOrderApi extends API {
 
         HashMap<String, Object> fileBody = null;
         if (email != null) {
-            paramMap.put("JSONString", email.toJSON().toString());
+            paramMap.put("JSONString", JsonWriter.toString(email::write));
 
             ArrayList<File> attachments = email.getAttachments();
 
@@ -276,7 +325,7 @@ public class PurchaseOrderApi extends API {
             }
         }
 
-        response = ZohoHTTPClient.post(urlString, getQueryMap(), paramMap, fileBody, accessToken);
+        response = httpClient.post(urlString, getQueryMap(), paramMap, fileBody);
 
         return purchaseOrderParser.getMessage(response);
     }
@@ -294,7 +343,7 @@ public class PurchaseOrderApi extends API {
 
         String urlString = url + "/" + purchaseorderId + "/email";    //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap(queryMap));
 
         return purchaseOrderParser.getEmailContent(response);
     }
@@ -314,9 +363,9 @@ public class PurchaseOrderApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", address.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(address::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return purchaseOrderParser.getMessage(response);
 
@@ -333,7 +382,7 @@ public class PurchaseOrderApi extends API {
 
         String urlString = url + "/templates";    //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         return purchaseOrderParser.getTemplates(response);
 
@@ -352,7 +401,7 @@ public class PurchaseOrderApi extends API {
 
         String urlString = url + "/" + purchaseorderId + "/templates/" + templateId;    //No I18N
 
-        String response = ZohoHTTPClient.put(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.put(urlString, getQueryMap());
 
         return purchaseOrderParser.getMessage(response);
 
@@ -374,12 +423,62 @@ public class PurchaseOrderApi extends API {
 
         String urlString = url + "/" + purchaseorderId + "/attachment";    //No I18N
 
-        File attachment = ZohoHTTPClient.getFile(urlString, getQueryMap(queryMap));
+        File attachment = httpClient.getFile(urlString, getQueryMap(queryMap), Paths.get("")).toFile();
 
         return attachment;
 
     }
 
+    /**
+     * Write the file attached to the purchase order to the given path.
+     * If the path is a directory, the file is created in it with the name sent by the server.
+     *
+     * @param purchaseorderId ID of the purchase order.
+     * @param queryMap        It contains the query string parameters in the form of key-value pair.
+     * @param target          Path of the file, or of the directory, to write to.
+     * @return Returns the Path of the file written.
+     */
+
+    public Path getAttachment(String purchaseorderId, HashMap<String, Object> queryMap, Path target) throws Exception {
+
+        String urlString = url + "/" + purchaseorderId + "/attachment";    //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), target);
+    }
+
+    /**
+     * Write the file attached to the purchase order to the given stream.
+     *
+     * @param purchaseorderId ID of the purchase order.
+     * @param queryMap        It contains the query string parameters in the form of key-value pair.
+     * @param out             OutputStream to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long getAttachment(String purchaseorderId, HashMap<String, Object> queryMap, OutputStream out) throws Exception {
+
+        String urlString = url + "/" + purchaseorderId + "/attachment";    //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), out);
+    }
+
+    /**
+     * Write the file attached to the purchase order to the given channel.
+     * A FileChannel is written from its current position by FileChannel.transferFrom.
+     *
+     * @param purchaseorderId ID of the purchase order.
+     * @param queryMap        It contains the query string parameters in the form of key-value pair.
+     * @param channel         WritableByteChannel to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long getAttachment(String purchaseorderId, HashMap<String, Object> queryMap, WritableByteChannel channel) throws Exception {
+
+        String urlString = url + "/" + purchaseorderId + "/attachment";    //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), channel);
+    }
+
     /**
      * Attach a file to a purchase order.
      *
@@ -396,7 +495,7 @@ public class PurchaseOrderApi extends API {
         HashMap<String, Object> fileBody = new HashMap<String, Object>();
         fileBody.put("attachment", file);
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), null, fileBody, accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap(), null, fileBody);
 
         return purchaseOrderParser.getMessage(response);
 
@@ -415,7 +514,7 @@ public class PurchaseOrderApi extends API {
 
         String urlString = url + "/" + purchaseorderId + "/attachment";    //No I18N
 
-        String response = ZohoHTTPClient.put(urlString, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.put(urlString, getQueryMap(queryMap));
 
         return purchaseOrderParser.getMessage(response);
 
@@ -433,7 +532,7 @@ public class PurchaseOrderApi extends API {
 
         String urlString = url + "/" + purchaseorderId + "/attachment";    //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         return purchaseOrderParser.getMessage(response);
 
@@ -455,7 +554,7 @@ public class PurchaseOrderApi extends API {
 
         String urlString = url + "/" + purchaseorderId + "/comments";    //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         return purchaseOrderParser.getComments(response);
 
@@ -482,7 +581,7 @@ public class PurchaseOrderApi extends API {
         HashMap<String, Object> requestBody = getQueryMap();
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         return purchaseOrderParser.getComment(response);
 
@@ -510,7 +609,7 @@ public class PurchaseOrderApi extends API {
         HashMap<String, Object> requestBody = getQueryMap();
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return purchaseOrderParser.getComment(response);
     }
@@ -528,9 +627,270 @@ public class PurchaseOrderApi extends API {
 
         String urlString = url + "/" + purchaseorderId + "/comments/" + commentId;    //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         return purchaseOrderParser.getMessage(response);
     }
 
+
+    /**
+     * Asynchronous variant of {@link #getPurchaseOrders(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the PurchaseOrderList object.
+     */
+
+    public CompletableFuture<PurchaseOrderList> getPurchaseOrdersAsync(HashMap<String, Object> queryMap) {
+        return async(() -> getPurchaseOrders(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getPurchaseOrders(HashMap, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the PurchaseOrderList object.
+     */
+
+    public CompletableFuture<PurchaseOrderList> getPurchaseOrdersAsync(HashMap<String, Object> queryMap, Set<String> fields) {
+        return async(() -> getPurchaseOrders(queryMap, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the PurchaseOrder object.
+     */
+
+    public CompletableFuture<PurchaseOrder> getAsync(String purchaseorderId) {
+        return async(() -> get(purchaseorderId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the PurchaseOrder object.
+     */
+
+    public CompletableFuture<PurchaseOrder> getAsync(String purchaseorderId, Set<String> fields) {
+        return async(() -> get(purchaseorderId, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #create(HashMap, PurchaseOrder, File)}.
+     *
+     * @return Returns a CompletableFuture completed with the PurchaseOrder object.
+     */
+
+    public CompletableFuture<PurchaseOrder> createAsync(HashMap<String, Object> paramMap, PurchaseOrder purchaseOrder, File file) {
+        return async(() -> create(paramMap, purchaseOrder, file));
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(HashMap, PurchaseOrder, File)}.
+     *
+     * @return Returns a CompletableFuture completed with the PurchaseOrder object.
+     */
+
+    public CompletableFuture<PurchaseOrder> updateAsync(HashMap<String, Object> paramMap, PurchaseOrder purchaseOrder, File file) {
+        return async(() -> update(paramMap, purchaseOrder, file));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteAsync(String purchaseorderId) {
+        return async(() -> delete(purchaseorderId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #markAsOpen(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> markAsOpenAsync(String purchaseorderId) {
+        return async(() -> markAsOpen(purchaseorderId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #markAsBilled(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> markAsBilledAsync(String puchaseorderId) {
+        return async(() -> markAsBilled(puchaseorderId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #cancelAPurchaseorder(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> cancelAPurchaseorderAsync(String purchaseorderId) {
+        return async(() -> cancelAPurchaseorder(purchaseorderId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #sendEmail(String, HashMap, Email)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> sendEmailAsync(String purchaseorderId, HashMap<String, Object> paramMap, Email email) {
+        return async(() -> sendEmail(purchaseorderId, paramMap, email));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getEmailContent(String, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the Email object.
+     */
+
+    public CompletableFuture<Email> getEmailContentAsync(String purchaseorderId, HashMap<String, Object> queryMap) {
+        return async(() -> getEmailContent(purchaseorderId, queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateBillingAddress(String, Address)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateBillingAddressAsync(String purchaseorderId, Address address) {
+        return async(() -> updateBillingAddress(purchaseorderId, address));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getTemplates()}.
+     *
+     * @return Returns a CompletableFuture completed with the TemplateList object.
+     */
+
+    public CompletableFuture<TemplateList> getTemplatesAsync() {
+        return async(() -> getTemplates());
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateTemplate(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateTemplateAsync(String purchaseorderId, String templateId) {
+        return async(() -> updateTemplate(purchaseorderId, templateId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAttachment(String, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the File object.
+     */
+
+    public CompletableFuture<File> getAttachmentAsync(String purchaseorderId, HashMap<String, Object> queryMap) {
+        return async(() -> getAttachment(purchaseorderId, queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAttachment(String, HashMap, Path)}.
+     *
+     * @return Returns a CompletableFuture completed with the Path of the file written.
+     */
+
+    public CompletableFuture<Path> getAttachmentAsync(String purchaseorderId, HashMap<String, Object> queryMap, Path target) {
+        return async(() -> getAttachment(purchaseorderId, queryMap, target));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAttachment(String, HashMap, OutputStream)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> getAttachmentAsync(String purchaseorderId, HashMap<String, Object> queryMap, OutputStream out) {
+        return async(() -> getAttachment(purchaseorderId, queryMap, out));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAttachment(String, HashMap, WritableByteChannel)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> getAttachmentAsync(String purchaseorderId, HashMap<String, Object> queryMap, WritableByteChannel channel) {
+        return async(() -> getAttachment(purchaseorderId, queryMap, channel));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addAttachment(String, File)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> addAttachmentAsync(String purchaseorderId, File file) {
+        return async(() -> addAttachment(purchaseorderId, file));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateAttachment(String, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateAttachmentAsync(String purchaseorderId, HashMap<String, Object> queryMap) {
+        return async(() -> updateAttachment(purchaseorderId, queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteAttachment(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteAttachmentAsync(String purchaseorderId) {
+        return async(() -> deleteAttachment(purchaseorderId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getComments(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the CommentList object.
+     */
+
+    public CompletableFuture<CommentList> getCommentsAsync(String purchaseorderId) {
+        return async(() -> getComments(purchaseorderId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addComment(String, String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Comment object.
+     */
+
+    public CompletableFuture<Comment> addCommentAsync(String purchaseorderId, String description, String expectedDeliveryDate) {
+        return async(() -> addComment(purchaseorderId, description, expectedDeliveryDate));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateComment(String, String, String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Comment object.
+     */
+
+    public CompletableFuture<Comment> updateCommentAsync(String purchaseorderId, String commentId, String description, String expectedDeliveryDate) {
+        return async(() -> updateComment(purchaseorderId, commentId, description, expectedDeliveryDate));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteComment(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteCommentAsync(String purchaseorderId, String commentId) {
+        return async(() -> deleteComment(purchaseorderId, commentId));
+    }
+
 }
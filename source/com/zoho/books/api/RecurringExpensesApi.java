@@ -7,9 +7,13 @@ import com.zoho.books.model.ExpenseList;
 import com.zoho.books.model.RecurringExpense;
 import com.zoho.books.model.RecurringExpenseList;
 import com.zoho.books.parser.RecurringExpenseParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 
+import java.io.Reader;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -46,8 +50,24 @@ public class RecurringExpensesApi extends API {
 
 	}
 
+	/**
+	 * Construct a new RecurringExpensesApi that sends its requests through the given transport.
+	 *
+	 * @param accessToken user's accessToken.
+	 * @param organizationId user's organization id.
+	 * @param eu Whether the organization is in the EU data center.
+	 * @param transport Transport used to execute the requests.
+	 */
+
+	public RecurringExpensesApi(String accessToken, String organizationId, boolean eu, Transport transport)
+	{
+
+		super(accessToken, organizationId, eu, transport);
+
+	}
 
-	private RecurringExpenseParser recurringExpenseParser = new RecurringExpenseParser();
+
+	private static final RecurringExpenseParser recurringExpenseParser = new RecurringExpenseParser();
 
 
 
@@ -73,9 +93,9 @@ public class RecurringExpensesApi extends API {
 
 		HashMap<String, Object>	requestBody = getQueryMap();
 
-		requestBody.put("JSONString", recurringExpense.toJSON().toString());
+		requestBody.put("JSONString", JsonWriter.deferred(recurringExpense::write));
 
-		String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+		Reader response = httpClient.post(url, requestBody);
 
 		return recurringExpenseParser.getRecurringExpense(response);
 
@@ -97,13 +117,27 @@ public class RecurringExpensesApi extends API {
 	*/
 
 	public RecurringExpense get(String recurringExpenseId)throws Exception
+	{
+		return get(recurringExpenseId, null);
+	}
+
+	/**
+	 * Get the details of a recurring expense.
+	 * Only the given fields of the recurring expense are read.
+	 *
+	 * @param recurringExpenseId ID of the recurring expense.
+	 * @param fields Names of the fields to read, or null to read every field.
+	 * @return Returns the RecurringExpense object.
+	 */
+
+	public RecurringExpense get(String recurringExpenseId, Set<String> fields)throws Exception
 	{
 
 		String urlString = url+"/"+recurringExpenseId;
 
-		String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.get(urlString, getQueryMap());
 
-		RecurringExpense recurringExpense = recurringExpenseParser.getRecurringExpense(response);
+		RecurringExpense recurringExpense = recurringExpenseParser.getRecurringExpense(response, fields);
 
 		return recurringExpense;
 
@@ -132,9 +166,9 @@ public class RecurringExpensesApi extends API {
 
 		HashMap<String, Object>	requestBody = getQueryMap();
 
-		requestBody.put("JSONString", recurringExpense.toJSON().toString());
+		requestBody.put("JSONString", JsonWriter.deferred(recurringExpense::write));
 
-		String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+		Reader response = httpClient.put(urlString, requestBody);
 
 		return recurringExpenseParser.getRecurringExpense(response);
 	}
@@ -161,7 +195,7 @@ public class RecurringExpensesApi extends API {
 
 		String urlString = url+"/"+recurringExpenseId;
 
-		String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.delete(urlString, getQueryMap());
 
 		String success = recurringExpenseParser.getMessage(response);
 
@@ -235,11 +269,25 @@ Allowed Values: <i>recurrence_name, last_created_date, next_expense_date, accoun
 	*/
 
 	public RecurringExpenseList getRecurringExpenses(HashMap<String, Object> queryMap)throws Exception
+	{
+		return getRecurringExpenses(queryMap, null);
+	}
+
+	/**
+	 * List recurring expenses with pagination.
+	 * Only the given fields of each recurring expense are read.
+	 *
+	 * @param queryMap It contains the query string parameters in the form of key-value pair.
+	 * @param fields Names of the fields to read from each recurring expense, or null to read every field.
+	 * @return Returns the RecurringExpenseList object.
+	 */
+
+	public RecurringExpenseList getRecurringExpenses(HashMap<String, Object> queryMap, Set<String> fields)throws Exception
 	{
 
-		String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
+		Reader response = httpClient.get(url, getQueryMap(queryMap));
 
-		RecurringExpenseList recurringExpenseList = recurringExpenseParser.getRecurringExpenses(response);
+		RecurringExpenseList recurringExpenseList = recurringExpenseParser.getRecurringExpenses(response, fields);
 
 		return recurringExpenseList;
 	}
@@ -266,7 +314,7 @@ Allowed Values: <i>recurrence_name, last_created_date, next_expense_date, accoun
 
 		String urlString = url+"/"+recurringExpenseId+"/status/resume"; //No I18N
 
-		String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.post(urlString, getQueryMap());
 
 		String success = recurringExpenseParser.getMessage(response);
 
@@ -295,7 +343,7 @@ Allowed Values: <i>recurrence_name, last_created_date, next_expense_date, accoun
 
 		String urlString = url+"/"+recurringExpenseId+"/status/stop"; //No I18N
 
-		String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.post(urlString, getQueryMap());
 
 		String success = recurringExpenseParser.getMessage(response);
 
@@ -335,7 +383,7 @@ Allowed Values: <i>date, account_name, vendor_name, paid_through_account_name, c
 
 		String urlString = url+"/"+recurringExpenseId+"/expenses"; //No I18N
 
-		String response = ZohoHTTPClient.get(urlString, getQueryMap(queryMap), accessToken);
+		Reader response = httpClient.get(urlString, getQueryMap(queryMap));
 
 		ExpenseList expenseList = recurringExpenseParser.getExpensehistory(response);
 
@@ -362,10 +410,133 @@ Allowed Values: <i>date, account_name, vendor_name, paid_through_account_name, c
 
 		String urlString = url+"/"+recurringExpenseId+"/comments"; //No I18N
 
-		String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.get(urlString, getQueryMap());
 
 		CommentList commentList = recurringExpenseParser.getComments(response);
 
 		return commentList;
 	}
+
+
+	/**
+	 * Asynchronous variant of {@link #create(RecurringExpense)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the RecurringExpense object.
+	 */
+
+	public CompletableFuture<RecurringExpense> createAsync(RecurringExpense recurringExpense)
+	{
+		return async(() -> create(recurringExpense));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #get(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the RecurringExpense object.
+	 */
+
+	public CompletableFuture<RecurringExpense> getAsync(String recurringExpenseId)
+	{
+		return async(() -> get(recurringExpenseId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #get(String, Set)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the RecurringExpense object.
+	 */
+
+	public CompletableFuture<RecurringExpense> getAsync(String recurringExpenseId, Set<String> fields)
+	{
+		return async(() -> get(recurringExpenseId, fields));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #update(RecurringExpense)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the RecurringExpense object.
+	 */
+
+	public CompletableFuture<RecurringExpense> updateAsync(RecurringExpense recurringExpense)
+	{
+		return async(() -> update(recurringExpense));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #delete(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> deleteAsync(String recurringExpenseId)
+	{
+		return async(() -> delete(recurringExpenseId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getRecurringExpenses(HashMap)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the RecurringExpenseList object.
+	 */
+
+	public CompletableFuture<RecurringExpenseList> getRecurringExpensesAsync(HashMap<String, Object> queryMap)
+	{
+		return async(() -> getRecurringExpenses(queryMap));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getRecurringExpenses(HashMap, Set)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the RecurringExpenseList object.
+	 */
+
+	public CompletableFuture<RecurringExpenseList> getRecurringExpensesAsync(HashMap<String, Object> queryMap, Set<String> fields)
+	{
+		return async(() -> getRecurringExpenses(queryMap, fields));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #resume(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> resumeAsync(String recurringExpenseId)
+	{
+		return async(() -> resume(recurringExpenseId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #stop(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> stopAsync(String recurringExpenseId)
+	{
+		return async(() -> stop(recurringExpenseId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getExpensesCreated(String, HashMap)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the ExpenseList object.
+	 */
+
+	public CompletableFuture<ExpenseList> getExpensesCreatedAsync(String recurringExpenseId, HashMap<String, Object> queryMap)
+	{
+		return async(() -> getExpensesCreated(recurringExpenseId, queryMap));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getComments(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the CommentList object.
+	 */
+
+	public CompletableFuture<CommentList> getCommentsAsync(String recurringExpenseId)
+	{
+		return async(() -> getComments(recurringExpenseId));
+	}
+
 }
@@ -6,9 +6,13 @@ import com.zoho.books.model.CommentList;
 import com.zoho.books.model.RecurringInvoice;
 import com.zoho.books.model.RecurringInvoiceList;
 import com.zoho.books.parser.RecurringInvoiceParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 
+import java.io.Reader;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -45,8 +49,24 @@ public class RecurringInvoicesApi extends API {
 
 	}
 
+	/**
+	 * Construct a new RecurringInvoicesApi that sends its requests through the given transport.
+	 *
+	 * @param accessToken user's accessToken.
+	 * @param organizationId user's organization id.
+	 * @param eu Whether the organization is in the EU data center.
+	 * @param transport Transport used to execute the requests.
+	 */
+
+	public RecurringInvoicesApi(String accessToken, String organizationId, boolean eu, Transport transport)
+	{
+
+		super(accessToken, organizationId, eu, transport);
+
+	}
 
-	private RecurringInvoiceParser recurringInvoiceParser = new RecurringInvoiceParser();
+
+	private static final RecurringInvoiceParser recurringInvoiceParser = new RecurringInvoiceParser();
 
 
 
@@ -72,9 +92,9 @@ public class RecurringInvoicesApi extends API {
 
 		HashMap<String, Object>	requestBody = getQueryMap();
 
-		requestBody.put("JSONString", recurringInvoice.toJSON().toString());
+		requestBody.put("JSONString", JsonWriter.deferred(recurringInvoice::write));
 
-		String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+		Reader response = httpClient.post(url, requestBody);
 
 		return recurringInvoiceParser.getRecurringInvoice(response);
 	}
@@ -95,13 +115,27 @@ public class RecurringInvoicesApi extends API {
 	*/
 
 	public RecurringInvoice get(String recurringInvoiceId)throws Exception
+	{
+		return get(recurringInvoiceId, null);
+	}
+
+	/**
+	 * Get the details of a recurring invoice.
+	 * Only the given fields of the recurring invoice are read.
+	 *
+	 * @param recurringInvoiceId ID of the recurring invoice.
+	 * @param fields Names of the fields to read, or null to read every field.
+	 * @return Returns the RecurringInvoice object.
+	 */
+
+	public RecurringInvoice get(String recurringInvoiceId, Set<String> fields)throws Exception
 	{
 
 		String urlString = url+"/"+recurringInvoiceId;
 
-		String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.get(urlString, getQueryMap());
 
-		RecurringInvoice recurringInvoice = recurringInvoiceParser.getRecurringInvoice(response);
+		RecurringInvoice recurringInvoice = recurringInvoiceParser.getRecurringInvoice(response, fields);
 
 		return recurringInvoice;
 	}
@@ -130,9 +164,9 @@ public class RecurringInvoicesApi extends API {
 
 		HashMap<String, Object>	requestBody = getQueryMap();
 
-		requestBody.put("JSONString", recurringInvoice.toJSON().toString());
+		requestBody.put("JSONString", JsonWriter.deferred(recurringInvoice::write));
 
-		String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+		Reader response = httpClient.put(urlString, requestBody);
 
 		return recurringInvoiceParser.getRecurringInvoice(response);
 
@@ -160,7 +194,7 @@ public class RecurringInvoicesApi extends API {
 
 		String urlString = url+"/"+recurringInvoiceId;
 
-		String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.get(urlString, getQueryMap());
 
 		String success = recurringInvoiceParser.getMessage(response);
 
@@ -233,11 +267,25 @@ Allowed Values: <i>customer_name, recurrence_name, total, start_date, end_date,
 	*/
 
 	public RecurringInvoiceList getRecurringInvoices(HashMap<String, Object> queryMap)throws Exception
+	{
+		return getRecurringInvoices(queryMap, null);
+	}
+
+	/**
+	 * List all recurring invoices with pagination.
+	 * Only the given fields of each recurring invoice are read.
+	 *
+	 * @param queryMap It contains the query string parameters in the form of key-value pair.
+	 * @param fields Names of the fields to read from each recurring invoice, or null to read every field.
+	 * @return Returns the RecurringInvoiceList object.
+	 */
+
+	public RecurringInvoiceList getRecurringInvoices(HashMap<String, Object> queryMap, Set<String> fields)throws Exception
 	{
 
-		String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
+		Reader response = httpClient.get(url, getQueryMap(queryMap));
 
-		RecurringInvoiceList recurringInvoiceList = recurringInvoiceParser.getRecurringInvoices(response);
+		RecurringInvoiceList recurringInvoiceList = recurringInvoiceParser.getRecurringInvoices(response, fields);
 
 		return recurringInvoiceList;
 	}
@@ -264,7 +312,7 @@ Allowed Values: <i>customer_name, recurrence_name, total, start_date, end_date,
 
 		String urlString = url+"/"+recurringInvoiceId+"/status/stop"; //No I18N
 
-		String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.post(urlString, getQueryMap());
 
 		String success = recurringInvoiceParser.getMessage(response);
 
@@ -293,7 +341,7 @@ Allowed Values: <i>customer_name, recurrence_name, total, start_date, end_date,
 
 		String urlString = url+"/"+recurringInvoiceId+"/status/resume"; //No I18N
 
-		String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.post(urlString, getQueryMap());
 
 		String success = recurringInvoiceParser.getMessage(response);
 
@@ -323,7 +371,7 @@ Allowed Values: <i>customer_name, recurrence_name, total, start_date, end_date,
 	{
 		String urlString = url+"/"+recurringInvoiceId+"/templates/"+templateId; //No I18N
 
-		String response = ZohoHTTPClient.put(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.put(urlString, getQueryMap());
 
 		String success = recurringInvoiceParser.getMessage(response);
 
@@ -350,11 +398,133 @@ Allowed Values: <i>customer_name, recurrence_name, total, start_date, end_date,
 
 		String urlString = url+"/"+recurringInvoiceId+"/comments"; //No I18N
 
-		String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+		Reader response = httpClient.get(urlString, getQueryMap());
 
 		CommentList commentList = recurringInvoiceParser.getComments(response);
 
 		return commentList;
 	}
 
+
+	/**
+	 * Asynchronous variant of {@link #create(RecurringInvoice)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the RecurringInvoice object.
+	 */
+
+	public CompletableFuture<RecurringInvoice> createAsync(RecurringInvoice recurringInvoice)
+	{
+		return async(() -> create(recurringInvoice));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #get(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the RecurringInvoice object.
+	 */
+
+	public CompletableFuture<RecurringInvoice> getAsync(String recurringInvoiceId)
+	{
+		return async(() -> get(recurringInvoiceId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #get(String, Set)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the RecurringInvoice object.
+	 */
+
+	public CompletableFuture<RecurringInvoice> getAsync(String recurringInvoiceId, Set<String> fields)
+	{
+		return async(() -> get(recurringInvoiceId, fields));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #update(RecurringInvoice)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the RecurringInvoice object.
+	 */
+
+	public CompletableFuture<RecurringInvoice> updateAsync(RecurringInvoice recurringInvoice)
+	{
+		return async(() -> update(recurringInvoice));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #delete(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> deleteAsync(String recurringInvoiceId)
+	{
+		return async(() -> delete(recurringInvoiceId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getRecurringInvoices(HashMap)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the RecurringInvoiceList object.
+	 */
+
+	public CompletableFuture<RecurringInvoiceList> getRecurringInvoicesAsync(HashMap<String, Object> queryMap)
+	{
+		return async(() -> getRecurringInvoices(queryMap));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getRecurringInvoices(HashMap, Set)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the RecurringInvoiceList object.
+	 */
+
+	public CompletableFuture<RecurringInvoiceList> getRecurringInvoicesAsync(HashMap<String, Object> queryMap, Set<String> fields)
+	{
+		return async(() -> getRecurringInvoices(queryMap, fields));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #stop(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> stopAsync(String recurringInvoiceId)
+	{
+		return async(() -> stop(recurringInvoiceId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #resume(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> resumeAsync(String recurringInvoiceId)
+	{
+		return async(() -> resume(recurringInvoiceId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #updateTemplate(String, String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the response message.
+	 */
+
+	public CompletableFuture<String> updateTemplateAsync(String recurringInvoiceId, String templateId)
+	{
+		return async(() -> updateTemplate(recurringInvoiceId, templateId));
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getComments(String)}.
+	 *
+	 * @return Returns a CompletableFuture completed with the CommentList object.
+	 */
+
+	public CompletableFuture<CommentList> getCommentsAsync(String recurringInvoiceId)
+	{
+		return async(() -> getComments(recurringInvoiceId));
+	}
+
 }
@@ -4,12 +4,20 @@ package com.zoho.books.api;
 
 import com.zoho.books.model.*;
 import com.zoho.books.parser.SalesOrderParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.io.File;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * SalesOrderApi is used to:<br><br>
@@ -58,10 +66,23 @@ public class SalesOrderApi extends API {
         super(accessToken, organizationId, eu);
     }
 
+    /**
+     * Construct a new SalesOrderApi that sends its requests through the given transport.
+     *
+     * @param accessToken    user's accessToken.
+     * @param organizationId user's organization id.
+     * @param eu             Whether the organization is in the EU data center.
+     * @param transport      Transport used to execute the requests.
+     */
+
+    public SalesOrderApi(String accessToken, String organizationId, boolean eu, Transport transport) {
+        super(accessToken, organizationId, eu, transport);
+    }
+
 
     // SalesOrderParser is used to parse the JSON response into respective objects.
 
-    private SalesOrderParser salesOrderParser = new SalesOrderParser();
+    private static final SalesOrderParser salesOrderParser = new SalesOrderParser();
 
 
     /**
@@ -73,10 +94,24 @@ public class SalesOrderApi extends API {
      */
 
     public SalesOrderList getSalesOrders(HashMap<String, Object> queryMap) throws Exception {
+        return getSalesOrders(queryMap, null);
+    }
 
-        String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
+    /**
+     * Get list of sales orders.
+     * Only the given fields of each sales order are read.
+     *
+     * @param queryMap It contains the query string parameters in the form of key-value pair.
+     * @param fields Names of the fields to read from each sales order, or null to read every field.
+     * @return Returns the SalesOrderList object.
+     * @throws Exception
+     */
+
+    public SalesOrderList getSalesOrders(HashMap<String, Object> queryMap, Set<String> fields) throws Exception {
+
+        Reader response = httpClient.get(url, getQueryMap(queryMap));
 
-        return salesOrderParser.getSalesOrders(response);
+        return salesOrderParser.getSalesOrders(response, lazyLists, fields);
 
     }
 
@@ -90,12 +125,27 @@ public class SalesOrderApi extends API {
      */
 
     public SalesOrder get(String salesorderId, HashMap<String, Object> queryMap) throws Exception {
+        return get(salesorderId, queryMap, null);
+    }
+
+    /**
+     * Get the details of a sales order.
+     * Only the given fields of the sales order are read.
+     *
+     * @param salesorderId ID of the sales order.
+     * @param queryMap     It contains the query string parameters in the form of key-value pair.
+     * @param fields Names of the fields to read, or null to read every field.
+     * @return Returns the SalesOrder object.
+     * @throws Exception
+     */
+
+    public SalesOrder get(String salesorderId, HashMap<String, Object> queryMap, Set<String> fields) throws Exception {
 
         String urlString = url + "/" + salesorderId;    //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap(queryMap));
 
-        return salesOrderParser.getSalesOrder(response);
+        return salesOrderParser.getSalesOrder(response, fields);
 
     }
 
@@ -112,9 +162,9 @@ public class SalesOrderApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap(queryMap);
 
-        requestBody.put("JSONString", salesOrder.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(salesOrder::write));
 
-        String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+        Reader response = httpClient.post(url, requestBody);
 
         return salesOrderParser.getSalesOrder(response);
 
@@ -135,9 +185,9 @@ public class SalesOrderApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap(queryMap);
 
-        requestBody.put("JSONString", salesOrder.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(salesOrder::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return salesOrderParser.getSalesOrder(response);
 
@@ -155,7 +205,7 @@ public class SalesOrderApi extends API {
 
         String urlString = url + "/" + salesorderId;    //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         return salesOrderParser.getMessage(response);
 
@@ -173,7 +223,7 @@ public class SalesOrderApi extends API {
 
         String urlString = url + "/" + salesorderId + "/status/open";    //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         return salesOrderParser.getMessage(response);
 
@@ -191,7 +241,7 @@ public class SalesOrderApi extends API {
 
         String urlString = url + "/" + salesorderId + "/status/void";    //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         return salesOrderParser.getMessage(response);
 
@@ -212,7 +262,7 @@ public class SalesOrderApi extends API {
 
         String urlString = url + "/" + salesorderId + "/email";    //No I18N
 
-        String response = "";
+        Reader response;
 
         if (paramMap == null) {
 
@@ -221,7 +271,7 @@ public class SalesOrderApi extends API {
         HashMap<String, Object> fileBody = null;
         if (email != null) {
 
-            paramMap.put("JSONString", email.toJSON().toString());
+            paramMap.put("JSONString", JsonWriter.toString(email::write));
 
             ArrayList<File> attachments = email.getAttachments();
             if (attachments != null && attachments.size() > 0) {
@@ -231,7 +281,7 @@ public class SalesOrderApi extends API {
             }
         }
 
-        response = ZohoHTTPClient.post(urlString, getQueryMap(), paramMap, fileBody, accessToken);
+        response = httpClient.post(urlString, getQueryMap(), paramMap, fileBody);
 
         return salesOrderParser.getMessage(response);
     }
@@ -249,7 +299,7 @@ public class SalesOrderApi extends API {
 
         String urlString = url + "/" + salesorderId + "/email";    //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap(queryMap));
 
         return salesOrderParser.getEmailContent(response);
     }
@@ -266,12 +316,59 @@ public class SalesOrderApi extends API {
 
         String urlString = url + "/pdf";    //No I18N
 
-        File file = ZohoHTTPClient.getFile(urlString, getQueryMap(queryMap));
+        File file = httpClient.getFile(urlString, getQueryMap(queryMap), Paths.get("")).toFile();
 
         return file;
 
     }
 
+    /**
+     * Write the pdf of the sales orders to the given path.
+     * If the path is a directory, the file is created in it with the name sent by the server.
+     *
+     * @param queryMap Comma separated sales order ids which are to be export as pdf.
+     * @param target   Path of the file, or of the directory, to write to.
+     * @return Returns the Path of the file written.
+     */
+
+    public Path bulkExport(HashMap<String, Object> queryMap, Path target) throws Exception {
+
+        String urlString = url + "/pdf";    //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), target);
+    }
+
+    /**
+     * Write the pdf of the sales orders to the given stream.
+     *
+     * @param queryMap Comma separated sales order ids which are to be export as pdf.
+     * @param out      OutputStream to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long bulkExport(HashMap<String, Object> queryMap, OutputStream out) throws Exception {
+
+        String urlString = url + "/pdf";    //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), out);
+    }
+
+    /**
+     * Write the pdf of the sales orders to the given channel.
+     * A FileChannel is written from its current position by FileChannel.transferFrom.
+     *
+     * @param queryMap Comma separated sales order ids which are to be export as pdf.
+     * @param channel  WritableByteChannel to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long bulkExport(HashMap<String, Object> queryMap, WritableByteChannel channel) throws Exception {
+
+        String urlString = url + "/pdf";    //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), channel);
+    }
+
     /**
      * Export sales orders as pdf and print them. Maximum of 25 sales orders can be printed.
      *
@@ -284,12 +381,59 @@ public class SalesOrderApi extends API {
 
         String urlString = url + "/print";    //No I18N
 
-        File file = ZohoHTTPClient.getFile(urlString, getQueryMap(queryMap));
+        File file = httpClient.getFile(urlString, getQueryMap(queryMap), Paths.get("")).toFile();
 
         return file;
 
     }
 
+    /**
+     * Write the printable pdf of the sales orders to the given path.
+     * If the path is a directory, the file is created in it with the name sent by the server.
+     *
+     * @param queryMap Comma separated sales order ids which are to be export as pdf.
+     * @param target   Path of the file, or of the directory, to write to.
+     * @return Returns the Path of the file written.
+     */
+
+    public Path bulkPrint(HashMap<String, Object> queryMap, Path target) throws Exception {
+
+        String urlString = url + "/print";    //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), target);
+    }
+
+    /**
+     * Write the printable pdf of the sales orders to the given stream.
+     *
+     * @param queryMap Comma separated sales order ids which are to be export as pdf.
+     * @param out      OutputStream to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long bulkPrint(HashMap<String, Object> queryMap, OutputStream out) throws Exception {
+
+        String urlString = url + "/print";    //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), out);
+    }
+
+    /**
+     * Write the printable pdf of the sales orders to the given channel.
+     * A FileChannel is written from its current position by FileChannel.transferFrom.
+     *
+     * @param queryMap Comma separated sales order ids which are to be export as pdf.
+     * @param channel  WritableByteChannel to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long bulkPrint(HashMap<String, Object> queryMap, WritableByteChannel channel) throws Exception {
+
+        String urlString = url + "/print";    //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), channel);
+    }
+
     /**
      * Updates the billing address for this sales order alone.
      * You can set this address as default billing address for your customer by specifying 'is_update_customer' param as true.
@@ -305,9 +449,9 @@ public class SalesOrderApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", address.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(address::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return salesOrderParser.getMessage(response);
 
@@ -329,9 +473,9 @@ public class SalesOrderApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", address.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(address::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return salesOrderParser.getMessage(response);
 
@@ -348,7 +492,7 @@ public class SalesOrderApi extends API {
 
         String urlString = url + "/templates";    //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         return salesOrderParser.getTemplates(response);
 
@@ -367,7 +511,7 @@ public class SalesOrderApi extends API {
 
         String urlString = url + "/" + salesorderId + "/templates/" + templateId;    //No I18N
 
-        String response = ZohoHTTPClient.put(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.put(urlString, getQueryMap());
 
         return salesOrderParser.getMessage(response);
 
@@ -390,12 +534,62 @@ public class SalesOrderApi extends API {
 
         String urlString = url + "/" + salesorderId + "/attachment";    //No I18N
 
-        File attachment = ZohoHTTPClient.getFile(urlString, getQueryMap(queryMap));
+        File attachment = httpClient.getFile(urlString, getQueryMap(queryMap), Paths.get("")).toFile();
 
         return attachment;
 
     }
 
+    /**
+     * Write the file attached to the sales order to the given path.
+     * If the path is a directory, the file is created in it with the name sent by the server.
+     *
+     * @param salesorderId ID of the sales order.
+     * @param queryMap     It contains the query string parameters in the form of key-value pair.
+     * @param target       Path of the file, or of the directory, to write to.
+     * @return Returns the Path of the file written.
+     */
+
+    public Path getAttachment(String salesorderId, HashMap<String, Object> queryMap, Path target) throws Exception {
+
+        String urlString = url + "/" + salesorderId + "/attachment";    //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), target);
+    }
+
+    /**
+     * Write the file attached to the sales order to the given stream.
+     *
+     * @param salesorderId ID of the sales order.
+     * @param queryMap     It contains the query string parameters in the form of key-value pair.
+     * @param out          OutputStream to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long getAttachment(String salesorderId, HashMap<String, Object> queryMap, OutputStream out) throws Exception {
+
+        String urlString = url + "/" + salesorderId + "/attachment";    //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), out);
+    }
+
+    /**
+     * Write the file attached to the sales order to the given channel.
+     * A FileChannel is written from its current position by FileChannel.transferFrom.
+     *
+     * @param salesorderId ID of the sales order.
+     * @param queryMap     It contains the query string parameters in the form of key-value pair.
+     * @param channel      WritableByteChannel to write the file to. It is not closed.
+     * @return Returns the number of bytes written.
+     */
+
+    public long getAttachment(String salesorderId, HashMap<String, Object> queryMap, WritableByteChannel channel) throws Exception {
+
+        String urlString = url + "/" + salesorderId + "/attachment";    //No I18N
+
+        return httpClient.getFile(urlString, getQueryMap(queryMap), channel);
+    }
+
     /**
      * Attach a file to a sales order.
      *
@@ -413,7 +607,7 @@ public class SalesOrderApi extends API {
         HashMap<String, Object> fileBody = new HashMap<String, Object>();
         fileBody.put("attachment", file);
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(queryMap), null, fileBody, accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap(queryMap), null, fileBody);
 
         return salesOrderParser.getMessage(response);
 
@@ -432,7 +626,7 @@ public class SalesOrderApi extends API {
 
         String urlString = url + "/" + salesorderId + "/attachment";    //No I18N
 
-        String response = ZohoHTTPClient.put(urlString, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.put(urlString, getQueryMap(queryMap));
 
         return salesOrderParser.getMessage(response);
     }
@@ -449,7 +643,7 @@ public class SalesOrderApi extends API {
 
         String urlString = url + "/" + salesorderId + "/attachment";    //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         return salesOrderParser.getMessage(response);
 
@@ -471,7 +665,7 @@ public class SalesOrderApi extends API {
 
         String urlString = url + "/" + salesorderId + "/comments";    //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         return salesOrderParser.getComments(response);
 
@@ -497,7 +691,7 @@ public class SalesOrderApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         return salesOrderParser.getComment(response);
 
@@ -524,7 +718,7 @@ public class SalesOrderApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return salesOrderParser.getComment(response);
 
@@ -543,10 +737,351 @@ public class SalesOrderApi extends API {
 
         String urlString = url + "/" + salesorderId + "/comments/" + commentId;    //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         return salesOrderParser.getMessage(response);
 
     }
 
+
+    /**
+     * Asynchronous variant of {@link #getSalesOrders(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the SalesOrderList object.
+     */
+
+    public CompletableFuture<SalesOrderList> getSalesOrdersAsync(HashMap<String, Object> queryMap) {
+        return async(() -> getSalesOrders(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getSalesOrders(HashMap, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the SalesOrderList object.
+     */
+
+    public CompletableFuture<SalesOrderList> getSalesOrdersAsync(HashMap<String, Object> queryMap, Set<String> fields) {
+        return async(() -> getSalesOrders(queryMap, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the SalesOrder object.
+     */
+
+    public CompletableFuture<SalesOrder> getAsync(String salesorderId, HashMap<String, Object> queryMap) {
+        return async(() -> get(salesorderId, queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String, HashMap, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the SalesOrder object.
+     */
+
+    public CompletableFuture<SalesOrder> getAsync(String salesorderId, HashMap<String, Object> queryMap, Set<String> fields) {
+        return async(() -> get(salesorderId, queryMap, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #create(HashMap, SalesOrder)}.
+     *
+     * @return Returns a CompletableFuture completed with the SalesOrder object.
+     */
+
+    public CompletableFuture<SalesOrder> createAsync(HashMap<String, Object> queryMap, SalesOrder salesOrder) {
+        return async(() -> create(queryMap, salesOrder));
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(HashMap, SalesOrder)}.
+     *
+     * @return Returns a CompletableFuture completed with the SalesOrder object.
+     */
+
+    public CompletableFuture<SalesOrder> updateAsync(HashMap<String, Object> queryMap, SalesOrder salesOrder) {
+        return async(() -> update(queryMap, salesOrder));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteAsync(String salesorderId) {
+        return async(() -> delete(salesorderId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #markAsOpen(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> markAsOpenAsync(String salesorderId) {
+        return async(() -> markAsOpen(salesorderId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #markAsVoid(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> markAsVoidAsync(String salesorderId) {
+        return async(() -> markAsVoid(salesorderId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #sendEmail(String, HashMap, Email)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> sendEmailAsync(String salesorderId, HashMap<String, Object> paramMap, Email email) {
+        return async(() -> sendEmail(salesorderId, paramMap, email));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getEmailContent(String, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the Email object.
+     */
+
+    public CompletableFuture<Email> getEmailContentAsync(String salesorderId, HashMap<String, Object> queryMap) {
+        return async(() -> getEmailContent(salesorderId, queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkExport(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the File object.
+     */
+
+    public CompletableFuture<File> bulkExportAsync(HashMap<String, Object> queryMap) {
+        return async(() -> bulkExport(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkExport(HashMap, Path)}.
+     *
+     * @return Returns a CompletableFuture completed with the Path of the file written.
+     */
+
+    public CompletableFuture<Path> bulkExportAsync(HashMap<String, Object> queryMap, Path target) {
+        return async(() -> bulkExport(queryMap, target));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkExport(HashMap, OutputStream)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> bulkExportAsync(HashMap<String, Object> queryMap, OutputStream out) {
+        return async(() -> bulkExport(queryMap, out));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkExport(HashMap, WritableByteChannel)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> bulkExportAsync(HashMap<String, Object> queryMap, WritableByteChannel channel) {
+        return async(() -> bulkExport(queryMap, channel));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkPrint(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the File object.
+     */
+
+    public CompletableFuture<File> bulkPrintAsync(HashMap<String, Object> queryMap) {
+        return async(() -> bulkPrint(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkPrint(HashMap, Path)}.
+     *
+     * @return Returns a CompletableFuture completed with the Path of the file written.
+     */
+
+    public CompletableFuture<Path> bulkPrintAsync(HashMap<String, Object> queryMap, Path target) {
+        return async(() -> bulkPrint(queryMap, target));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkPrint(HashMap, OutputStream)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> bulkPrintAsync(HashMap<String, Object> queryMap, OutputStream out) {
+        return async(() -> bulkPrint(queryMap, out));
+    }
+
+    /**
+     * Asynchronous variant of {@link #bulkPrint(HashMap, WritableByteChannel)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> bulkPrintAsync(HashMap<String, Object> queryMap, WritableByteChannel channel) {
+        return async(() -> bulkPrint(queryMap, channel));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateBillingAddress(String, Address)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateBillingAddressAsync(String salesorderId, Address address) {
+        return async(() -> updateBillingAddress(salesorderId, address));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateShippingAddress(String, Address)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateShippingAddressAsync(String salesorderId, Address address) {
+        return async(() -> updateShippingAddress(salesorderId, address));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getTemplates()}.
+     *
+     * @return Returns a CompletableFuture completed with the TemplateList object.
+     */
+
+    public CompletableFuture<TemplateList> getTemplatesAsync() {
+        return async(() -> getTemplates());
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateTemplate(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateTemplateAsync(String salesorderId, String templateId) {
+        return async(() -> updateTemplate(salesorderId, templateId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAttachment(String, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the File object.
+     */
+
+    public CompletableFuture<File> getAttachmentAsync(String salesorderId, HashMap<String, Object> queryMap) {
+        return async(() -> getAttachment(salesorderId, queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAttachment(String, HashMap, Path)}.
+     *
+     * @return Returns a CompletableFuture completed with the Path of the file written.
+     */
+
+    public CompletableFuture<Path> getAttachmentAsync(String salesorderId, HashMap<String, Object> queryMap, Path target) {
+        return async(() -> getAttachment(salesorderId, queryMap, target));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAttachment(String, HashMap, OutputStream)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> getAttachmentAsync(String salesorderId, HashMap<String, Object> queryMap, OutputStream out) {
+        return async(() -> getAttachment(salesorderId, queryMap, out));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAttachment(String, HashMap, WritableByteChannel)}.
+     *
+     * @return Returns a CompletableFuture completed with the number of bytes written.
+     */
+
+    public CompletableFuture<Long> getAttachmentAsync(String salesorderId, HashMap<String, Object> queryMap, WritableByteChannel channel) {
+        return async(() -> getAttachment(salesorderId, queryMap, channel));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addAttachment(String, HashMap, File)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> addAttachmentAsync(String salesorderId, HashMap<String, Object> queryMap, File file) {
+        return async(() -> addAttachment(salesorderId, queryMap, file));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateAttachment(String, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateAttachmentAsync(String salesorderId, HashMap<String, Object> queryMap) {
+        return async(() -> updateAttachment(salesorderId, queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deletAttachment(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deletAttachmentAsync(String salesorderId) {
+        return async(() -> deletAttachment(salesorderId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getComments(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the CommentList object.
+     */
+
+    public CompletableFuture<CommentList> getCommentsAsync(String salesorderId) {
+        return async(() -> getComments(salesorderId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addComment(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Comment object.
+     */
+
+    public CompletableFuture<Comment> addCommentAsync(String salesorderId, String description) {
+        return async(() -> addComment(salesorderId, description));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateComment(String, String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Comment object.
+     */
+
+    public CompletableFuture<Comment> updateCommentAsync(String salesorderId, String commentId, String description) {
+        return async(() -> updateComment(salesorderId, commentId, description));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteComment(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteCommentAsync(String salesorderId, String commentId) {
+        return async(() -> deleteComment(salesorderId, commentId));
+    }
+
 }
@@ -4,10 +4,13 @@ package com.zoho.books.api;
 
 import com.zoho.books.model.*;
 import com.zoho.books.parser.SettingsParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
+import java.io.Reader;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * SettingsApi is used to get and update the prefernce and create, delete the unit.
@@ -71,7 +74,20 @@ public class SettingsApi extends API {
         super(accessToken, organizationId, eu);
     }
 
-    private SettingsParser settingsParser = new SettingsParser();
+    /**
+     * Construct a new SettingsApi that sends its requests through the given transport.
+     *
+     * @param accessToken    user's accessToken.
+     * @param organizationId user's organization id.
+     * @param eu             Whether the organization is in the EU data center.
+     * @param transport      Transport used to execute the requests.
+     */
+
+    public SettingsApi(String accessToken, String organizationId, boolean eu, Transport transport) {
+        super(accessToken, organizationId, eu, transport);
+    }
+
+    private static final SettingsParser settingsParser = new SettingsParser();
 
 
     /**
@@ -85,7 +101,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/preferences"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         Preference preference = settingsParser.getPreferences(response);
 
@@ -108,9 +124,9 @@ public class SettingsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", preference.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(preference::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         String success = settingsParser.getMessage(response);
 
@@ -139,7 +155,7 @@ public class SettingsApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         String success = settingsParser.getMessage(response);
 
@@ -160,7 +176,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/units/" + unitId; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = settingsParser.getMessage(response);
 
@@ -181,7 +197,7 @@ public class SettingsApi extends API {
     public InvoiceSetting getInvoiceSettings() throws Exception {
         String urlString = url + "/invoices"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         InvoiceSetting invoiceSetting = settingsParser.getInvoiceSettings(response);
 
@@ -203,9 +219,9 @@ public class SettingsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", invoiceSetting.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(invoiceSetting::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return settingsParser.getInvoiceSettings(response);
     }
@@ -221,7 +237,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/invoices/notesandterms"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         NotesAndTerms notesAndTerms = settingsParser.getNotesAndTerms(response);
 
@@ -251,7 +267,7 @@ public class SettingsApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         NotesAndTerms notesAndTerms = settingsParser.getNotesAndTerms(response);
 
@@ -271,7 +287,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/estimates";  //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         EstimateSetting estimateSetting = settingsParser.getEstimateSettings(response);
 
@@ -293,9 +309,9 @@ public class SettingsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", estimateSetting.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(estimateSetting::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return settingsParser.getEstimateSettings(response);
     }
@@ -312,7 +328,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/estimates/notesandterms";  //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         NotesAndTerms notesAndTerms = settingsParser.getNotesAndTerms(response);
 
@@ -342,7 +358,7 @@ public class SettingsApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         NotesAndTerms notesAndTerms = settingsParser.getNotesAndTerms(response);
 
@@ -362,7 +378,7 @@ public class SettingsApi extends API {
     public CreditnoteSetting getCreditnoteSettings() throws Exception {
         String urlString = url + "/creditnotes";  //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         CreditnoteSetting creditnoteSetting = settingsParser.getCreditnoteSettings(response);
 
@@ -384,9 +400,9 @@ public class SettingsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", creditnoteSetting.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(creditnoteSetting::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return settingsParser.getCreditnoteSettings(response);
     }
@@ -402,7 +418,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/creditnotes/notesandterms";  //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         NotesAndTerms notesAndTerms = settingsParser.getNotesAndTerms(response);
 
@@ -432,7 +448,7 @@ public class SettingsApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         NotesAndTerms notesAndTerms = settingsParser.getNotesAndTerms(response);
 
@@ -462,7 +478,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/currencies"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap(queryMap));
 
         CurrencyList currencyList = settingsParser.getCurrencies(response);
 
@@ -482,7 +498,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/currencies/" + currencyId; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         Currency currency = settingsParser.getCurrency(response);
 
@@ -505,9 +521,9 @@ public class SettingsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", currency.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(currency::write));
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         return settingsParser.getCurrency(response);
     }
@@ -528,9 +544,9 @@ public class SettingsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", currency.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(currency::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return settingsParser.getCurrency(response);
     }
@@ -549,7 +565,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/currencies/" + currencyId; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = settingsParser.getMessage(response);
 
@@ -577,7 +593,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/currencies/" + currencyId + "/exchangerates"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap(queryMap));
 
         ExchangeRateList exchangeRateList = settingsParser.getExchangeRates(response);
 
@@ -598,7 +614,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/currencies/" + currencyId + "/exchangerates/" + exchangeRateId; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         ExchangeRate exchangeRate = settingsParser.getExchangeRate(response);
 
@@ -622,9 +638,9 @@ public class SettingsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", exchangeRate.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(exchangeRate::write));
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         return settingsParser.getExchangeRate(response);
     }
@@ -646,9 +662,9 @@ public class SettingsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", exchangeRate.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(exchangeRate::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return settingsParser.getExchangeRate(response);
     }
@@ -668,7 +684,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/currencies/" + currencyId + "/exchangerates/" + exchangeRateId; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = settingsParser.getMessage(response);
 
@@ -688,7 +704,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/taxes"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         TaxList taxList = settingsParser.getTaxes(response);
 
@@ -708,7 +724,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/taxes/" + taxId; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         Tax tax = settingsParser.getTax(response);
 
@@ -731,9 +747,9 @@ public class SettingsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", tax.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(tax::write));
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         return settingsParser.getTax(response);
     }
@@ -754,9 +770,9 @@ public class SettingsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", tax.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(tax::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return settingsParser.getTax(response);
     }
@@ -775,7 +791,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/taxes/" + taxId; //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = settingsParser.getMessage(response);
 
@@ -795,7 +811,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/taxgroups/" + taxGroupId; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         TaxGroup taxGroup = settingsParser.getTaxGroup(response);
 
@@ -825,7 +841,7 @@ public class SettingsApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         TaxGroup taxGroup = settingsParser.getTaxGroup(response);
 
@@ -857,7 +873,7 @@ public class SettingsApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         String success = settingsParser.getMessage(response);
 
@@ -878,7 +894,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/taxgroups/" + taxGroupId;  //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = settingsParser.getMessage(response);
 
@@ -899,7 +915,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/openingbalances"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         OpeningBalance openingBalance = settingsParser.getOpeningBalance(response);
 
@@ -922,9 +938,9 @@ public class SettingsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", openingBalance.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(openingBalance::write));
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         return settingsParser.getOpeningBalance(response);
 
@@ -945,9 +961,9 @@ public class SettingsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", openingBalance.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(openingBalance::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return settingsParser.getOpeningBalance(response);
     }
@@ -964,7 +980,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/openingbalances";  //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = settingsParser.getMessage(response);
 
@@ -985,7 +1001,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/autoreminders"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         AutoReminderList autoReminderList = settingsParser.getAutoReminders(response);
 
@@ -1005,7 +1021,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/autoreminders/" + templateId; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         AutoReminder autoReminder = settingsParser.getAutoReminder(response);
 
@@ -1026,7 +1042,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/autoreminders/" + reminderId + "/enable"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = settingsParser.getMessage(response);
 
@@ -1047,7 +1063,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/autoreminders/" + reminderId + "/disable";  //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = settingsParser.getMessage(response);
 
@@ -1071,9 +1087,9 @@ public class SettingsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", autoReminder.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(autoReminder::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         String success = settingsParser.getMessage(response);
 
@@ -1100,7 +1116,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/manualreminders"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap(queryMap));
 
         ManualReminderList manualReminderList = settingsParser.getManualReminders(response);
 
@@ -1120,7 +1136,7 @@ public class SettingsApi extends API {
 
         String urlString = url + "/manualreminders/" + reminderId; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         ManualReminder manualReminder = settingsParser.getManualReminder(response);
 
@@ -1144,13 +1160,485 @@ public class SettingsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", manualReminder.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(manualReminder::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         String success = settingsParser.getMessage(response);
 
         return success;
 
     }
+
+
+    /**
+     * Asynchronous variant of {@link #getPreferences()}.
+     *
+     * @return Returns a CompletableFuture completed with the Preference object.
+     */
+
+    public CompletableFuture<Preference> getPreferencesAsync() {
+        return async(() -> getPreferences());
+    }
+
+    /**
+     * Asynchronous variant of {@link #updatePreferences(Preference)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updatePreferencesAsync(Preference preference) {
+        return async(() -> updatePreferences(preference));
+    }
+
+    /**
+     * Asynchronous variant of {@link #createUnit(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> createUnitAsync(String unit) {
+        return async(() -> createUnit(unit));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteUnit(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteUnitAsync(String unitId) {
+        return async(() -> deleteUnit(unitId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getInvoiceSettings()}.
+     *
+     * @return Returns a CompletableFuture completed with the InvoiceSetting object.
+     */
+
+    public CompletableFuture<InvoiceSetting> getInvoiceSettingsAsync() {
+        return async(() -> getInvoiceSettings());
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateInvoiceSettings(InvoiceSetting)}.
+     *
+     * @return Returns a CompletableFuture completed with the InvoiceSetting object.
+     */
+
+    public CompletableFuture<InvoiceSetting> updateInvoiceSettingsAsync(InvoiceSetting invoiceSetting) {
+        return async(() -> updateInvoiceSettings(invoiceSetting));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getInvoiceNotesAndTerms()}.
+     *
+     * @return Returns a CompletableFuture completed with the NotesAndTerms object.
+     */
+
+    public CompletableFuture<NotesAndTerms> getInvoiceNotesAndTermsAsync() {
+        return async(() -> getInvoiceNotesAndTerms());
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateInvoiceNotesAndTerms(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the NotesAndTerms object.
+     */
+
+    public CompletableFuture<NotesAndTerms> updateInvoiceNotesAndTermsAsync(String notes, String terms) {
+        return async(() -> updateInvoiceNotesAndTerms(notes, terms));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getEstimateSettings()}.
+     *
+     * @return Returns a CompletableFuture completed with the EstimateSetting object.
+     */
+
+    public CompletableFuture<EstimateSetting> getEstimateSettingsAsync() {
+        return async(() -> getEstimateSettings());
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateEstimateSettings(EstimateSetting)}.
+     *
+     * @return Returns a CompletableFuture completed with the EstimateSetting object.
+     */
+
+    public CompletableFuture<EstimateSetting> updateEstimateSettingsAsync(EstimateSetting estimateSetting) {
+        return async(() -> updateEstimateSettings(estimateSetting));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getEstimateNotesAndTerms()}.
+     *
+     * @return Returns a CompletableFuture completed with the NotesAndTerms object.
+     */
+
+    public CompletableFuture<NotesAndTerms> getEstimateNotesAndTermsAsync() {
+        return async(() -> getEstimateNotesAndTerms());
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateEstimateNotesAndTerms(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the NotesAndTerms object.
+     */
+
+    public CompletableFuture<NotesAndTerms> updateEstimateNotesAndTermsAsync(String notes, String terms) {
+        return async(() -> updateEstimateNotesAndTerms(notes, terms));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCreditnoteSettings()}.
+     *
+     * @return Returns a CompletableFuture completed with the CreditnoteSetting object.
+     */
+
+    public CompletableFuture<CreditnoteSetting> getCreditnoteSettingsAsync() {
+        return async(() -> getCreditnoteSettings());
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateCreditnoteSettings(CreditnoteSetting)}.
+     *
+     * @return Returns a CompletableFuture completed with the CreditnoteSetting object.
+     */
+
+    public CompletableFuture<CreditnoteSetting> updateCreditnoteSettingsAsync(CreditnoteSetting creditnoteSetting) {
+        return async(() -> updateCreditnoteSettings(creditnoteSetting));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCreditnotesNotesAndTerms()}.
+     *
+     * @return Returns a CompletableFuture completed with the NotesAndTerms object.
+     */
+
+    public CompletableFuture<NotesAndTerms> getCreditnotesNotesAndTermsAsync() {
+        return async(() -> getCreditnotesNotesAndTerms());
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateCreditnotesNotesAndTerms(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the NotesAndTerms object.
+     */
+
+    public CompletableFuture<NotesAndTerms> updateCreditnotesNotesAndTermsAsync(String notes, String terms) {
+        return async(() -> updateCreditnotesNotesAndTerms(notes, terms));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCurrencies(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the CurrencyList object.
+     */
+
+    public CompletableFuture<CurrencyList> getCurrenciesAsync(HashMap<String, Object> queryMap) {
+        return async(() -> getCurrencies(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCurrency(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Currency object.
+     */
+
+    public CompletableFuture<Currency> getCurrencyAsync(String currencyId) {
+        return async(() -> getCurrency(currencyId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #createCurrency(Currency)}.
+     *
+     * @return Returns a CompletableFuture completed with the Currency object.
+     */
+
+    public CompletableFuture<Currency> createCurrencyAsync(Currency currency) {
+        return async(() -> createCurrency(currency));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateCurrency(Currency)}.
+     *
+     * @return Returns a CompletableFuture completed with the Currency object.
+     */
+
+    public CompletableFuture<Currency> updateCurrencyAsync(Currency currency) {
+        return async(() -> updateCurrency(currency));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteCurrency(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteCurrencyAsync(String currencyId) {
+        return async(() -> deleteCurrency(currencyId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getExchangeRates(String, HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the ExchangeRateList object.
+     */
+
+    public CompletableFuture<ExchangeRateList> getExchangeRatesAsync(String currencyId, HashMap<String, Object> queryMap) {
+        return async(() -> getExchangeRates(currencyId, queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getExchangeRate(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the ExchangeRate object.
+     */
+
+    public CompletableFuture<ExchangeRate> getExchangeRateAsync(String currencyId, String exchangeRateId) {
+        return async(() -> getExchangeRate(currencyId, exchangeRateId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #createExchangeRate(String, ExchangeRate)}.
+     *
+     * @return Returns a CompletableFuture completed with the ExchangeRate object.
+     */
+
+    public CompletableFuture<ExchangeRate> createExchangeRateAsync(String currencyId, ExchangeRate exchangeRate) {
+        return async(() -> createExchangeRate(currencyId, exchangeRate));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateExchangeRate(String, ExchangeRate)}.
+     *
+     * @return Returns a CompletableFuture completed with the ExchangeRate object.
+     */
+
+    public CompletableFuture<ExchangeRate> updateExchangeRateAsync(String currencyId, ExchangeRate exchangeRate) {
+        return async(() -> updateExchangeRate(currencyId, exchangeRate));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteExchangeRate(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteExchangeRateAsync(String currencyId, String exchangeRateId) {
+        return async(() -> deleteExchangeRate(currencyId, exchangeRateId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getTaxes()}.
+     *
+     * @return Returns a CompletableFuture completed with the TaxList object.
+     */
+
+    public CompletableFuture<TaxList> getTaxesAsync() {
+        return async(() -> getTaxes());
+    }
+
+    /**
+     * Asynchronous variant of {@link #getTax(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Tax object.
+     */
+
+    public CompletableFuture<Tax> getTaxAsync(String taxId) {
+        return async(() -> getTax(taxId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #createTax(Tax)}.
+     *
+     * @return Returns a CompletableFuture completed with the Tax object.
+     */
+
+    public CompletableFuture<Tax> createTaxAsync(Tax tax) {
+        return async(() -> createTax(tax));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateTax(Tax)}.
+     *
+     * @return Returns a CompletableFuture completed with the Tax object.
+     */
+
+    public CompletableFuture<Tax> updateTaxAsync(Tax tax) {
+        return async(() -> updateTax(tax));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteTax(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteTaxAsync(String taxId) {
+        return async(() -> deleteTax(taxId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getTaxGroup(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the TaxGroup object.
+     */
+
+    public CompletableFuture<TaxGroup> getTaxGroupAsync(String taxGroupId) {
+        return async(() -> getTaxGroup(taxGroupId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #createTaxGroup(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the TaxGroup object.
+     */
+
+    public CompletableFuture<TaxGroup> createTaxGroupAsync(String taxGroupName, String taxes) {
+        return async(() -> createTaxGroup(taxGroupName, taxes));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateTaxGroup(String, String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateTaxGroupAsync(String taxGroupId, String taxGroupName, String taxes) {
+        return async(() -> updateTaxGroup(taxGroupId, taxGroupName, taxes));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteTaxGroup(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteTaxGroupAsync(String taxGroupId) {
+        return async(() -> deleteTaxGroup(taxGroupId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getOpeningBalance()}.
+     *
+     * @return Returns a CompletableFuture completed with the OpeningBalance object.
+     */
+
+    public CompletableFuture<OpeningBalance> getOpeningBalanceAsync() {
+        return async(() -> getOpeningBalance());
+    }
+
+    /**
+     * Asynchronous variant of {@link #createOpeningBalance(OpeningBalance)}.
+     *
+     * @return Returns a CompletableFuture completed with the OpeningBalance object.
+     */
+
+    public CompletableFuture<OpeningBalance> createOpeningBalanceAsync(OpeningBalance openingBalance) {
+        return async(() -> createOpeningBalance(openingBalance));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateOpeningBalance(OpeningBalance)}.
+     *
+     * @return Returns a CompletableFuture completed with the OpeningBalance object.
+     */
+
+    public CompletableFuture<OpeningBalance> updateOpeningBalanceAsync(OpeningBalance openingBalance) {
+        return async(() -> updateOpeningBalance(openingBalance));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteOpeningBalance()}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteOpeningBalanceAsync() {
+        return async(() -> deleteOpeningBalance());
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAutoPaymentReminders()}.
+     *
+     * @return Returns a CompletableFuture completed with the AutoReminderList object.
+     */
+
+    public CompletableFuture<AutoReminderList> getAutoPaymentRemindersAsync() {
+        return async(() -> getAutoPaymentReminders());
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAutoPaymentReminder(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the AutoReminder object.
+     */
+
+    public CompletableFuture<AutoReminder> getAutoPaymentReminderAsync(String templateId) {
+        return async(() -> getAutoPaymentReminder(templateId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #enableAutoReminder(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> enableAutoReminderAsync(String reminderId) {
+        return async(() -> enableAutoReminder(reminderId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #disableAutoReminder(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> disableAutoReminderAsync(String reminderId) {
+        return async(() -> disableAutoReminder(reminderId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateAutoReminder(String, AutoReminder)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateAutoReminderAsync(String reminderId, AutoReminder autoReminder) {
+        return async(() -> updateAutoReminder(reminderId, autoReminder));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getManualReminders(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the ManualReminderList object.
+     */
+
+    public CompletableFuture<ManualReminderList> getManualRemindersAsync(HashMap<String, Object> queryMap) {
+        return async(() -> getManualReminders(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getManualReminder(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the ManualReminder object.
+     */
+
+    public CompletableFuture<ManualReminder> getManualReminderAsync(String reminderId) {
+        return async(() -> getManualReminder(reminderId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateManualReminder(String, ManualReminder)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> updateManualReminderAsync(String reminderId, ManualReminder manualReminder) {
+        return async(() -> updateManualReminder(reminderId, manualReminder));
+    }
+
 }
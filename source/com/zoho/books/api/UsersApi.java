@@ -5,9 +5,13 @@ package com.zoho.books.api;
 import com.zoho.books.model.User;
 import com.zoho.books.model.UserList;
 import com.zoho.books.parser.SettingsParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 
+import java.io.Reader;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -43,8 +47,21 @@ public class UsersApi extends API {
         super(accessToken, organizationId, eu);
     }
 
+    /**
+     * Construct a new UsersApi that sends its requests through the given transport.
+     *
+     * @param accessToken    user's accessToken.
+     * @param organizationId user's organization id.
+     * @param eu             Whether the organization is in the EU data center.
+     * @param transport      Transport used to execute the requests.
+     */
+
+    public UsersApi(String accessToken, String organizationId, boolean eu, Transport transport) {
+        super(accessToken, organizationId, eu, transport);
+    }
+
 
-    private SettingsParser settingsParser = new SettingsParser();
+    private static final SettingsParser settingsParser = new SettingsParser();
 
 
     /**
@@ -66,10 +83,23 @@ public class UsersApi extends API {
      */
 
     public UserList getUsers(HashMap<String, Object> queryMap) throws Exception {
+        return getUsers(queryMap, null);
+    }
+
+    /**
+     * Get the list of all users in the organization.
+     * Only the given fields of each user are read.
+     *
+     * @param queryMap It contains the query string parameters in the form of key-value pair.
+     * @param fields Names of the fields to read from each user, or null to read every field.
+     * @return Returns the UserList object.
+     */
+
+    public UserList getUsers(HashMap<String, Object> queryMap, Set<String> fields) throws Exception {
 
-        String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(url, getQueryMap(queryMap));
 
-        UserList userList = settingsParser.getUsers(response);
+        UserList userList = settingsParser.getUsers(response, fields);
 
         return userList;
     }
@@ -84,12 +114,25 @@ public class UsersApi extends API {
      */
 
     public User get(String userId) throws Exception {
+        return get(userId, null);
+    }
+
+    /**
+     * Get the details of a user.
+     * Only the given fields of the user are read.
+     *
+     * @param userId ID of the user.
+     * @param fields Names of the fields to read, or null to read every field.
+     * @return Returns the User object.
+     */
+
+    public User get(String userId, Set<String> fields) throws Exception {
 
         String urlString = url + "/" + userId;
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
-        User user = settingsParser.getUser(response);
+        User user = settingsParser.getUser(response, fields);
 
         return user;
     }
@@ -106,7 +149,7 @@ public class UsersApi extends API {
 
         String urlString = url + "/me"; //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         User user = settingsParser.getUser(response);
 
@@ -127,9 +170,9 @@ public class UsersApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", user.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(user::write));
 
-        String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+        Reader response = httpClient.post(url, requestBody);
 
         return settingsParser.getUser(response);
     }
@@ -150,9 +193,9 @@ public class UsersApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", user.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(user::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return settingsParser.getUser(response);
     }
@@ -171,7 +214,7 @@ public class UsersApi extends API {
 
         String urlString = url + "/" + userId;
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = settingsParser.getMessage(response);
 
@@ -192,7 +235,7 @@ public class UsersApi extends API {
 
         String urlString = url + "/" + userId + "/invite"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = settingsParser.getMessage(response);
 
@@ -213,7 +256,7 @@ public class UsersApi extends API {
 
         String urlString = url + "/" + userId + "/active"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = settingsParser.getMessage(response);
 
@@ -234,10 +277,122 @@ public class UsersApi extends API {
 
         String urlString = url + "/" + userId + "/inactive"; //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         String success = settingsParser.getMessage(response);
 
         return success;
     }
+
+
+    /**
+     * Asynchronous variant of {@link #getUsers(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the UserList object.
+     */
+
+    public CompletableFuture<UserList> getUsersAsync(HashMap<String, Object> queryMap) {
+        return async(() -> getUsers(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getUsers(HashMap, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the UserList object.
+     */
+
+    public CompletableFuture<UserList> getUsersAsync(HashMap<String, Object> queryMap, Set<String> fields) {
+        return async(() -> getUsers(queryMap, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the User object.
+     */
+
+    public CompletableFuture<User> getAsync(String userId) {
+        return async(() -> get(userId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the User object.
+     */
+
+    public CompletableFuture<User> getAsync(String userId, Set<String> fields) {
+        return async(() -> get(userId, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCurrentUser()}.
+     *
+     * @return Returns a CompletableFuture completed with the User object.
+     */
+
+    public CompletableFuture<User> getCurrentUserAsync() {
+        return async(() -> getCurrentUser());
+    }
+
+    /**
+     * Asynchronous variant of {@link #create(User)}.
+     *
+     * @return Returns a CompletableFuture completed with the User object.
+     */
+
+    public CompletableFuture<User> createAsync(User user) {
+        return async(() -> create(user));
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(User)}.
+     *
+     * @return Returns a CompletableFuture completed with the User object.
+     */
+
+    public CompletableFuture<User> updateAsync(User user) {
+        return async(() -> update(user));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteAsync(String userId) {
+        return async(() -> delete(userId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #inviteUser(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> inviteUserAsync(String userId) {
+        return async(() -> inviteUser(userId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #markUserAsActive(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> markUserAsActiveAsync(String userId) {
+        return async(() -> markUserAsActive(userId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #markUserAsInactive(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> markUserAsInactiveAsync(String userId) {
+        return async(() -> markUserAsInactive(userId));
+    }
+
 }
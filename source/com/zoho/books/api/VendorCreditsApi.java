@@ -4,12 +4,17 @@ package com.zoho.books.api;
 
 import com.zoho.books.model.*;
 import com.zoho.books.parser.VendorCreditsParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
+import com.zoho.books.util.Responses;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.io.Reader;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * VendorCreditsApi is used to:
@@ -54,9 +59,22 @@ public class VendorCreditsApi extends API {
         super(accessToken, organizationId, eu);
     }
 
+    /**
+     * Construct a new VendorCreditsApi that sends its requests through the given transport.
+     *
+     * @param accessToken    user's accessToken.
+     * @param organizationId user's organization id.
+     * @param eu             Whether the organization is in the EU data center.
+     * @param transport      Transport used to execute the requests.
+     */
+
+    public VendorCreditsApi(String accessToken, String organizationId, boolean eu, Transport transport) {
+        super(accessToken, organizationId, eu, transport);
+    }
+
     //VendorCreditsParser is used to parse the JSON response into respective objects.
 
-    VendorCreditsParser vendorCreditsParser = new VendorCreditsParser();
+    private static final VendorCreditsParser vendorCreditsParser = new VendorCreditsParser();
 
 
     /**
@@ -68,10 +86,24 @@ public class VendorCreditsApi extends API {
      */
 
     public VendorCreditList getVendorCredits(HashMap<String, Object> queryMap) throws Exception {
+        return getVendorCredits(queryMap, null);
+    }
+
+    /**
+     * List vendor credits with pagination.
+     * Only the given fields of each vendor credit are read.
+     *
+     * @param queryMap It contains the query string parameters in the form of key-value pair.
+     * @param fields Names of the fields to read from each vendor credit, or null to read every field.
+     * @return Returns the VendorCreditList object.
+     * @throws Exception
+     */
 
-        String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
+    public VendorCreditList getVendorCredits(HashMap<String, Object> queryMap, Set<String> fields) throws Exception {
 
-        return vendorCreditsParser.getVendorCredits(response);
+        Reader response = httpClient.get(url, getQueryMap(queryMap));
+
+        return vendorCreditsParser.getVendorCredits(response, lazyLists, fields);
 
     }
 
@@ -84,12 +116,26 @@ public class VendorCreditsApi extends API {
      */
 
     public VendorCredit get(String vendorCreditId) throws Exception {
+        return get(vendorCreditId, null);
+    }
+
+    /**
+     * Get details of a vendor credit.
+     * Only the given fields of the vendor credit are read.
+     *
+     * @param vendorCreditId ID of the vendor credit.
+     * @param fields Names of the fields to read, or null to read every field.
+     * @return Returns the VendorCredit object.
+     * @throws Exception
+     */
+
+    public VendorCredit get(String vendorCreditId, Set<String> fields) throws Exception {
 
         String urlString = url + "/" + vendorCreditId;    //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
-        return vendorCreditsParser.getVendorCredit(response);
+        return vendorCreditsParser.getVendorCredit(response, fields);
     }
 
     /**
@@ -105,9 +151,9 @@ public class VendorCreditsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap(paramMap);
 
-        requestBody.put("JSONString", vendorCredit.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(vendorCredit::write));
 
-        String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+        Reader response = httpClient.post(url, requestBody);
 
         return vendorCreditsParser.getVendorCredit(response);
 
@@ -127,9 +173,9 @@ public class VendorCreditsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", vendorCredit.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(vendorCredit::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return vendorCreditsParser.getVendorCredit(response);
 
@@ -147,7 +193,7 @@ public class VendorCreditsApi extends API {
 
         String urlString = url + "/" + vendorCreditId;    //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         return vendorCreditsParser.getMessage(response);
 
@@ -165,7 +211,7 @@ public class VendorCreditsApi extends API {
 
         String urlString = url + "/" + vendorCreditId + "/status/open";    //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         return vendorCreditsParser.getMessage(response);
 
@@ -183,7 +229,7 @@ public class VendorCreditsApi extends API {
 
         String urlString = url + "/" + vendorCreditId + "/status/void";    //No I18N
 
-        String response = ZohoHTTPClient.post(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.post(urlString, getQueryMap());
 
         return vendorCreditsParser.getMessage(response);
 
@@ -205,9 +251,9 @@ public class VendorCreditsApi extends API {
 
         String urlString = url + "/" + vendorCreditId + "/applytobills";    //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
-        return response;
+        return Responses.read(response);
 
     }
 
@@ -242,7 +288,7 @@ public class VendorCreditsApi extends API {
 
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         return vendorCreditsParser.getMessage(response);
     }
@@ -260,7 +306,7 @@ public class VendorCreditsApi extends API {
 
         String urlString = url + "/" + vendorCreditId + "/bills/" + vendorCreditBillId;    //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         return vendorCreditsParser.getMessage(response);
 
@@ -282,7 +328,7 @@ public class VendorCreditsApi extends API {
 
         String urlString = url + "/refunds";    //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap(queryMap));
 
         return vendorCreditsParser.getVendorCreditRefunds(response);
 
@@ -300,7 +346,7 @@ public class VendorCreditsApi extends API {
 
         String urlString = url + "/" + vendorCreditId + "/refunds";    //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         return vendorCreditsParser.getVendorCreditRefunds(response);
 
@@ -319,7 +365,7 @@ public class VendorCreditsApi extends API {
 
         String urlString = url + "/" + vendorCreditId + "/refunds/" + vendorCreditRefundId;    //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         return vendorCreditsParser.getVendorCreditRefund(response);
 
@@ -340,9 +386,9 @@ public class VendorCreditsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", vendorCreditRefund.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(vendorCreditRefund::write));
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         return vendorCreditsParser.getVendorCreditRefund(response);
     }
@@ -362,9 +408,9 @@ public class VendorCreditsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", vendorCreditRefund.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(vendorCreditRefund::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return vendorCreditsParser.getVendorCreditRefund(response);
 
@@ -383,7 +429,7 @@ public class VendorCreditsApi extends API {
 
         String urlString = url + "/" + vendorCreditId + "/refunds/" + vendorCreditRefundId;    //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         return vendorCreditsParser.getMessage(response);
     }
@@ -404,7 +450,7 @@ public class VendorCreditsApi extends API {
 
         String urlString = url + "/" + vendorCreditId + "/comments";    //No I18N
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
         return vendorCreditsParser.getComments(response);
 
@@ -429,7 +475,7 @@ public class VendorCreditsApi extends API {
         HashMap<String, Object> requestBody = getQueryMap();
         requestBody.put("JSONString", jsonObject.toString());
 
-        String response = ZohoHTTPClient.post(urlString, requestBody, accessToken);
+        Reader response = httpClient.post(urlString, requestBody);
 
         return vendorCreditsParser.getComment(response);
 
@@ -448,9 +494,221 @@ public class VendorCreditsApi extends API {
 
         String urlString = url + "/" + vendorCreditId + "/comments/" + commentId;    //No I18N
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         return vendorCreditsParser.getMessage(response);
 
     }
+
+
+    /**
+     * Asynchronous variant of {@link #getVendorCredits(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the VendorCreditList object.
+     */
+
+    public CompletableFuture<VendorCreditList> getVendorCreditsAsync(HashMap<String, Object> queryMap) {
+        return async(() -> getVendorCredits(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getVendorCredits(HashMap, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the VendorCreditList object.
+     */
+
+    public CompletableFuture<VendorCreditList> getVendorCreditsAsync(HashMap<String, Object> queryMap, Set<String> fields) {
+        return async(() -> getVendorCredits(queryMap, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the VendorCredit object.
+     */
+
+    public CompletableFuture<VendorCredit> getAsync(String vendorCreditId) {
+        return async(() -> get(vendorCreditId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the VendorCredit object.
+     */
+
+    public CompletableFuture<VendorCredit> getAsync(String vendorCreditId, Set<String> fields) {
+        return async(() -> get(vendorCreditId, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #create(HashMap, VendorCredit)}.
+     *
+     * @return Returns a CompletableFuture completed with the VendorCredit object.
+     */
+
+    public CompletableFuture<VendorCredit> createAsync(HashMap<String, Object> paramMap, VendorCredit vendorCredit) {
+        return async(() -> create(paramMap, vendorCredit));
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(VendorCredit)}.
+     *
+     * @return Returns a CompletableFuture completed with the VendorCredit object.
+     */
+
+    public CompletableFuture<VendorCredit> updateAsync(VendorCredit vendorCredit) {
+        return async(() -> update(vendorCredit));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteAsync(String vendorCreditId) {
+        return async(() -> delete(vendorCreditId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #convertToOpen(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> convertToOpenAsync(String vendorCreditId) {
+        return async(() -> convertToOpen(vendorCreditId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #convertToVoid(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> convertToVoidAsync(String vendorCreditId) {
+        return async(() -> convertToVoid(vendorCreditId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getBillsCredited(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> getBillsCreditedAsync(String vendorCreditId) {
+        return async(() -> getBillsCredited(vendorCreditId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #applyCreditsToBill(String, List)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> applyCreditsToBillAsync(String vendorCreditId, List<Bill> bills) {
+        return async(() -> applyCreditsToBill(vendorCreditId, bills));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteBillsCredited(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteBillsCreditedAsync(String vendorCreditId, String vendorCreditBillId) {
+        return async(() -> deleteBillsCredited(vendorCreditId, vendorCreditBillId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getVendorCreditRefunds(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the VendorCreditRefundList object.
+     */
+
+    public CompletableFuture<VendorCreditRefundList> getVendorCreditRefundsAsync(HashMap<String, Object> queryMap) {
+        return async(() -> getVendorCreditRefunds(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getRefundsOfVendorCredit(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the VendorCreditRefundList object.
+     */
+
+    public CompletableFuture<VendorCreditRefundList> getRefundsOfVendorCreditAsync(String vendorCreditId) {
+        return async(() -> getRefundsOfVendorCredit(vendorCreditId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getVendorCreditRefund(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the VendorCreditRefund object.
+     */
+
+    public CompletableFuture<VendorCreditRefund> getVendorCreditRefundAsync(String vendorCreditId, String vendorCreditRefundId) {
+        return async(() -> getVendorCreditRefund(vendorCreditId, vendorCreditRefundId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #refundAVendorCredit(String, VendorCreditRefund)}.
+     *
+     * @return Returns a CompletableFuture completed with the VendorCreditRefund object.
+     */
+
+    public CompletableFuture<VendorCreditRefund> refundAVendorCreditAsync(String vendorCreditId, VendorCreditRefund vendorCreditRefund) {
+        return async(() -> refundAVendorCredit(vendorCreditId, vendorCreditRefund));
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateVendorCreditRefund(String, VendorCreditRefund)}.
+     *
+     * @return Returns a CompletableFuture completed with the VendorCreditRefund object.
+     */
+
+    public CompletableFuture<VendorCreditRefund> updateVendorCreditRefundAsync(String vendorCreditId, VendorCreditRefund vendorCreditRefund) {
+        return async(() -> updateVendorCreditRefund(vendorCreditId, vendorCreditRefund));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteVendorCreditRefund(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteVendorCreditRefundAsync(String vendorCreditId, String vendorCreditRefundId) {
+        return async(() -> deleteVendorCreditRefund(vendorCreditId, vendorCreditRefundId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getComments(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the CommentList object.
+     */
+
+    public CompletableFuture<CommentList> getCommentsAsync(String vendorCreditId) {
+        return async(() -> getComments(vendorCreditId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #addComment(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the Comment object.
+     */
+
+    public CompletableFuture<Comment> addCommentAsync(String vendorCreditId, String description) {
+        return async(() -> addComment(vendorCreditId, description));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteComment(String, String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteCommentAsync(String vendorCreditId, String commentId) {
+        return async(() -> deleteComment(vendorCreditId, commentId));
+    }
+
 }
@@ -5,9 +5,13 @@ package com.zoho.books.api;
 import com.zoho.books.model.VendorPayment;
 import com.zoho.books.model.VendorPaymentList;
 import com.zoho.books.parser.VendorPaymentParser;
-import com.zoho.books.util.ZohoHTTPClient;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.JsonWriter;
 
+import java.io.Reader;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -41,8 +45,21 @@ public class VendorPaymentsApi extends API {
         super(accessToken, organizationId, eu);
     }
 
+    /**
+     * Construct a new VendorPaymentsApi that sends its requests through the given transport.
+     *
+     * @param accessToken    user's accessToken.
+     * @param organizationId user's organization id.
+     * @param eu             Whether the organization is in the EU data center.
+     * @param transport      Transport used to execute the requests.
+     */
+
+    public VendorPaymentsApi(String accessToken, String organizationId, boolean eu, Transport transport) {
+        super(accessToken, organizationId, eu, transport);
+    }
 
-    private VendorPaymentParser vendorPaymentParser = new VendorPaymentParser();
+
+    private static final VendorPaymentParser vendorPaymentParser = new VendorPaymentParser();
 
 
     /**
@@ -59,9 +76,9 @@ public class VendorPaymentsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", vendorPayment.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(vendorPayment::write));
 
-        String response = ZohoHTTPClient.post(url, requestBody, accessToken);
+        Reader response = httpClient.post(url, requestBody);
 
         return vendorPaymentParser.getVendorPayment(response);
     }
@@ -76,12 +93,25 @@ public class VendorPaymentsApi extends API {
      */
 
     public VendorPayment get(String paymentId) throws Exception {
+        return get(paymentId, null);
+    }
+
+    /**
+     * Get the details of a vendor payment.
+     * Only the given fields of the payment are read.
+     *
+     * @param paymentId ID of the vendor payment.
+     * @param fields Names of the fields to read, or null to read every field.
+     * @return Returns the VendorPayment object.
+     */
+
+    public VendorPayment get(String paymentId, Set<String> fields) throws Exception {
 
         String urlString = url + "/" + paymentId;
 
-        String response = ZohoHTTPClient.get(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.get(urlString, getQueryMap());
 
-        VendorPayment vendorPayment = vendorPaymentParser.getVendorPayment(response);
+        VendorPayment vendorPayment = vendorPaymentParser.getVendorPayment(response, fields);
 
         return vendorPayment;
     }
@@ -102,9 +132,9 @@ public class VendorPaymentsApi extends API {
 
         HashMap<String, Object> requestBody = getQueryMap();
 
-        requestBody.put("JSONString", vendorPayment.toJSON().toString());
+        requestBody.put("JSONString", JsonWriter.deferred(vendorPayment::write));
 
-        String response = ZohoHTTPClient.put(urlString, requestBody, accessToken);
+        Reader response = httpClient.put(urlString, requestBody);
 
         return vendorPaymentParser.getVendorPayment(response);
     }
@@ -123,7 +153,7 @@ public class VendorPaymentsApi extends API {
 
         String urlString = url + "/" + paymentId;
 
-        String response = ZohoHTTPClient.delete(urlString, getQueryMap(), accessToken);
+        Reader response = httpClient.delete(urlString, getQueryMap());
 
         String success = vendorPaymentParser.getMessage(response);
 
@@ -164,11 +194,96 @@ public class VendorPaymentsApi extends API {
      */
 
     public VendorPaymentList getVendorPayments(HashMap<String, Object> queryMap) throws Exception {
+        return getVendorPayments(queryMap, null);
+    }
+
+    /**
+     * List all the payments made to your vendor.
+     * Only the given fields of each payment are read.
+     *
+     * @param queryMap It contains the query string parameters in the form of key-value pair.
+     * @param fields Names of the fields to read from each payment, or null to read every field.
+     * @return Returns the VendorPaymentList object.
+     */
+
+    public VendorPaymentList getVendorPayments(HashMap<String, Object> queryMap, Set<String> fields) throws Exception {
 
-        String response = ZohoHTTPClient.get(url, getQueryMap(queryMap), accessToken);
+        Reader response = httpClient.get(url, getQueryMap(queryMap));
 
-        VendorPaymentList vendorPaymentList = vendorPaymentParser.getVendorPayments(response);
+        VendorPaymentList vendorPaymentList = vendorPaymentParser.getVendorPayments(response, lazyLists, fields);
 
         return vendorPaymentList;
     }
+
+
+    /**
+     * Asynchronous variant of {@link #create(VendorPayment)}.
+     *
+     * @return Returns a CompletableFuture completed with the VendorPayment object.
+     */
+
+    public CompletableFuture<VendorPayment> createAsync(VendorPayment vendorPayment) {
+        return async(() -> create(vendorPayment));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the VendorPayment object.
+     */
+
+    public CompletableFuture<VendorPayment> getAsync(String paymentId) {
+        return async(() -> get(paymentId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the VendorPayment object.
+     */
+
+    public CompletableFuture<VendorPayment> getAsync(String paymentId, Set<String> fields) {
+        return async(() -> get(paymentId, fields));
+    }
+
+    /**
+     * Asynchronous variant of {@link #update(VendorPayment)}.
+     *
+     * @return Returns a CompletableFuture completed with the VendorPayment object.
+     */
+
+    public CompletableFuture<VendorPayment> updateAsync(VendorPayment vendorPayment) {
+        return async(() -> update(vendorPayment));
+    }
+
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @return Returns a CompletableFuture completed with the response message.
+     */
+
+    public CompletableFuture<String> deleteAsync(String paymentId) {
+        return async(() -> delete(paymentId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getVendorPayments(HashMap)}.
+     *
+     * @return Returns a CompletableFuture completed with the VendorPaymentList object.
+     */
+
+    public CompletableFuture<VendorPaymentList> getVendorPaymentsAsync(HashMap<String, Object> queryMap) {
+        return async(() -> getVendorPayments(queryMap));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getVendorPayments(HashMap, Set)}.
+     *
+     * @return Returns a CompletableFuture completed with the VendorPaymentList object.
+     */
+
+    public CompletableFuture<VendorPaymentList> getVendorPaymentsAsync(HashMap<String, Object> queryMap, Set<String> fields) {
+        return async(() -> getVendorPayments(queryMap, fields));
+    }
+
 }
@@ -12,6 +12,8 @@ public class BooksException extends Exception {
 
     private String message;
 
+    private int attempts = 1;
+
 
     /**
      * Construct a new BooksException by passing an error code and error message.
@@ -30,6 +32,22 @@ public class BooksException extends Exception {
 
     }
 
+    /**
+     * Construct a new BooksException by passing an error code, error message and the number of times the request was sent.
+     *
+     * @param code     Error code.
+     * @param message  Error message.
+     * @param attempts Number of attempts.
+     */
+
+    public BooksException(int code, String message, int attempts) {
+
+        this(code, message);
+
+        this.attempts = attempts;
+
+    }
+
 
     /**
      * get the error code.
@@ -50,4 +68,14 @@ public class BooksException extends Exception {
     public String getMessage() {
         return message;
     }
+
+    /**
+     * get the number of times the request was sent before it failed. It is greater than 1 when the request was retried.
+     *
+     * @return Returns the number of attempts.
+     */
+
+    public int getAttempts() {
+        return attempts;
+    }
 }
@@ -0,0 +1,56 @@
+/* $Id$ */
+
+package com.zoho.books.exception;
+
+/**
+ * CircuitOpenException is used to fail a request at once, without sending it, because recent requests to the same
+ * endpoint have failed.
+ */
+
+public class CircuitOpenException extends BooksException {
+
+    private static final long serialVersionUID = 1L;
+
+    private String endpoint;
+
+    private long retryAfter;
+
+
+    /**
+     * Construct a new CircuitOpenException for the given endpoint.
+     *
+     * @param endpoint   Template of the endpoint, such as /invoices/{id}.
+     * @param retryAfter Milliseconds until a request to the endpoint is sent again.
+     */
+
+    public CircuitOpenException(String endpoint, long retryAfter) {
+
+        super(503, "Requests to " + endpoint + " are suspended after repeated failures"); //No I18N
+
+        this.endpoint = endpoint;
+
+        this.retryAfter = retryAfter;
+
+    }
+
+
+    /**
+     * get the template of the endpoint whose circuit is open.
+     *
+     * @return Returns the endpoint template, such as /invoices/{id}.
+     */
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * get the time until a request to the endpoint is sent again to test whether it has recovered.
+     *
+     * @return Returns the wait in milliseconds.
+     */
+
+    public long getRetryAfter() {
+        return retryAfter;
+    }
+}
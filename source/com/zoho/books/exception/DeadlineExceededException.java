@@ -0,0 +1,25 @@
+/* $Id$ */
+
+package com.zoho.books.exception;
+
+/**
+ * DeadlineExceededException is used to stop a call that has run out of the time it was given.
+ */
+
+public class DeadlineExceededException extends BooksException {
+
+    private static final long serialVersionUID = 1L;
+
+
+    /**
+     * Construct a new DeadlineExceededException.
+     *
+     * @param message Error message.
+     */
+
+    public DeadlineExceededException(String message) {
+
+        super(408, message);
+
+    }
+}
@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -394,31 +395,41 @@ public class Account {
 
 
     /**
-     * Convert Account object into JSONObject.
+     * Write Account object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
         if (accountId != null && !accountId.equals("")) {
-            jsonObject.put("account_id", accountId);
+            writer.name("account_id").value(accountId);
         }
         if (debitOrCredit != null && !debitOrCredit.equals("")) {
-            jsonObject.put("debit_or_credit", debitOrCredit);
+            writer.name("debit_or_credit").value(debitOrCredit);
         }
         if ((Double) exchangeRate != null && exchangeRate > 0) {
-            jsonObject.put("exchange_rate", exchangeRate);
+            writer.name("exchange_rate").value(exchangeRate);
         }
         if (currencyId != null && !currencyId.equals("")) {
-            jsonObject.put("currency_id", currencyId);
+            writer.name("currency_id").value(currencyId);
         }
         if ((Double) amount != null) {
-            jsonObject.put("amount", amount);
+            writer.name("amount").value(amount);
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert Account object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 }
@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -227,55 +228,65 @@ public class Address {
 
 
     /**
-     * Convert Address object into JSONObject.
+     * Write Address object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
-     * @throws Exception
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
         if (streetAddress1 != null && !streetAddress1.equals("")) {
-            jsonObject.put("street_address1", streetAddress1);
+            writer.name("street_address1").value(streetAddress1);
         }
 
         if (streetAddress2 != null && !streetAddress2.equals("")) {
-            jsonObject.put("street_address2", streetAddress2);
+            writer.name("street_address2").value(streetAddress2);
         }
 
         if (address != null) {
-            jsonObject.put("address", address);
+            writer.name("address").value(address);
         }
 
         if (city != null) {
-            jsonObject.put("city", city);
+            writer.name("city").value(city);
         }
 
         if (state != null) {
-            jsonObject.put("state", state);
+            writer.name("state").value(state);
         }
 
         if (country != null) {
-            jsonObject.put("country", country);
+            writer.name("country").value(country);
         }
 
         if (zip != null) {
-            jsonObject.put("zip", zip);
+            writer.name("zip").value(zip);
         }
 
         if (fax != null && !fax.equals("")) {
-            jsonObject.put("fax", fax);
+            writer.name("fax").value(fax);
         }
 
         if ((Boolean) isUpdateCustomer != null) {
-            jsonObject.put("is_update_customer", isUpdateCustomer);
+            writer.name("is_update_customer").value(isUpdateCustomer);
         }
 
         if (organizationAddressId != null && !organizationAddressId.equals("")) {
-            jsonObject.put("organization_address_id", organizationAddressId);
+            writer.name("organization_address_id").value(organizationAddressId);
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert Address object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     * @throws Exception
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 }
@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -298,6 +299,25 @@ public class AutoReminder {
     }
 
 
+    /**
+     * Write AutoReminder object to the JsonWriter.
+     *
+     * @param writer The writer the JSON object is written to.
+     */
+
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
+
+        writer.name("is_enabled").value(isEnabled);
+        writer.name("type").value(type);
+        writer.name("address_type").value(addressType);
+        writer.name("number_of_days").value(numberOfDays);
+        writer.name("subject").value(subject);
+        writer.name("body").value(body);
+
+        writer.endObject();
+    }
+
     /**
      * Convert AutoReminder object into JSONObject.
      *
@@ -305,16 +325,7 @@ public class AutoReminder {
      */
 
     public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
-
-        jsonObject.put("is_enabled", isEnabled);
-        jsonObject.put("type", type);
-        jsonObject.put("address_type", addressType);
-        jsonObject.put("number_of_days", numberOfDays);
-        jsonObject.put("subject", subject);
-        jsonObject.put("body", body);
-
-        return jsonObject;
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 
@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -328,55 +329,65 @@ public class BankAccount {
 
 
     /**
-     * Convert BankAccount object into JSONObject.
+     * Write BankAccount object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
         if (accountName != null) {
-            jsonObject.put("account_name", accountName);
+            writer.name("account_name").value(accountName);
         }
 
         if (accountType != null) {
-            jsonObject.put("account_type", accountType);
+            writer.name("account_type").value(accountType);
         }
 
         if (accountNumber != null) {
-            jsonObject.put("account_number", accountNumber);
+            writer.name("account_number").value(accountNumber);
         }
 
         if (currencyId != null) {
-            jsonObject.put("currency_id", currencyId);
+            writer.name("currency_id").value(currencyId);
         }
 
         if (description != null) {
-            jsonObject.put("description", description);
+            writer.name("description").value(description);
         }
 
         if (bankName != null) {
-            jsonObject.put("bank_name", bankName);
+            writer.name("bank_name").value(bankName);
         }
 
         if (routingNumber != null) {
-            jsonObject.put("routing_number", routingNumber);
+            writer.name("routing_number").value(routingNumber);
         }
 
         if ((Boolean) isPrimaryAccount != null) {
-            jsonObject.put("is_primary_account", isPrimaryAccount);
+            writer.name("is_primary_account").value(isPrimaryAccount);
         }
 
         if ((Boolean) isPaypalAccount != null) {
-            jsonObject.put("is_paypal_account", isPaypalAccount);
+            writer.name("is_paypal_account").value(isPaypalAccount);
         }
 
         if (paypalEmailAddress != null) {
-            jsonObject.put("paypal_email_address", paypalEmailAddress);
+            writer.name("paypal_email_address").value(paypalEmailAddress);
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert BankAccount object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 }
@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -232,31 +233,41 @@ public class BaseCurrencyAdjustment {
 
 
     /**
-     * Convert BaseCurrencyAdjustment object into JSONObject.
+     * Write BaseCurrencyAdjustment object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
         if (currencyId != null) {
-            jsonObject.put("currency_id", currencyId);
+            writer.name("currency_id").value(currencyId);
         }
 
         if (adjustmentDate != null) {
-            jsonObject.put("adjustment_date", adjustmentDate);
+            writer.name("adjustment_date").value(adjustmentDate);
         }
 
         if ((Double) exchangeRate != null && exchangeRate > 0) {
-            jsonObject.put("exchange_rate", exchangeRate);
+            writer.name("exchange_rate").value(exchangeRate);
         }
 
         if (notes != null) {
-            jsonObject.put("notes", notes);
+            writer.name("notes").value(notes);
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert BaseCurrencyAdjustment object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 
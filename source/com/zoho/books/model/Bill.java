@@ -2,7 +2,7 @@
 
 package com.zoho.books.model;
 
-import org.json.JSONArray;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -776,33 +776,43 @@ public class Bill {
 
 
     /**
-     * Convert Bill object into JSONObject.
+     * Write Bill object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
-        jsonObject.put("vendor_id", vendorId);
-        jsonObject.put("bill_number", billNumber);
-        jsonObject.put("reference_number", referenceNumber);
-        jsonObject.put("date", date);
-        jsonObject.put("due_date", dueDate);
-        jsonObject.put("exchange_rate", exchangeRate);
+        writer.name("vendor_id").value(vendorId);
+        writer.name("bill_number").value(billNumber);
+        writer.name("reference_number").value(referenceNumber);
+        writer.name("date").value(date);
+        writer.name("due_date").value(dueDate);
+        writer.name("exchange_rate").value(exchangeRate);
 
         if (lineItems != null) {
-            JSONArray li = new JSONArray();
+            writer.name("line_items").beginArray();
             for (int i = 0; i < lineItems.size(); i++) {
-                li.put(lineItems.get(i).toJSON());
+                lineItems.get(i).write(writer);
             }
-            jsonObject.put("line_items", li);
+            writer.endArray();
         }
 
-        jsonObject.put("notes", notes);
-        jsonObject.put("terms", terms);
+        writer.name("notes").value(notes);
+        writer.name("terms").value(terms);
+
+        writer.endObject();
+    }
+
+    /**
+     * Convert Bill object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
 
-        return jsonObject;
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 }
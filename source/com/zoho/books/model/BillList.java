@@ -2,13 +2,11 @@
 
 package com.zoho.books.model;
 
-import java.util.ArrayList;
-
 /**
  * This class is used to create an object for bill list.
  */
 
-public class BillList extends ArrayList<Bill> {
+public class BillList extends PagedList<Bill> {
 
 
     private PageContext pageContext = new PageContext();
@@ -34,4 +32,12 @@ public class BillList extends ArrayList<Bill> {
         return pageContext;
     }
 
+
+    protected String idOf(Bill bill) {
+        return bill.getBillId();
+    }
+
+    protected double totalOf(Bill bill) {
+        return bill.getTotal();
+    }
 }
@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -225,6 +226,22 @@ public class ChartOfAccount {
     }
 
 
+    /**
+     * Write ChartOfAccount object to the JsonWriter.
+     *
+     * @param writer The writer the JSON object is written to.
+     */
+
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
+
+        writer.name("account_name").value(accountName);
+        writer.name("account_type").value(accountType);
+        writer.name("description").value(description);
+
+        writer.endObject();
+    }
+
     /**
      * Convert ChartOfAccount object into JSONObject.
      *
@@ -232,13 +249,7 @@ public class ChartOfAccount {
      */
 
     public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
-
-        jsonObject.put("account_name", accountName);
-        jsonObject.put("account_type", accountType);
-        jsonObject.put("description", description);
-
-        return jsonObject;
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 }
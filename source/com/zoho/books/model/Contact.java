@@ -2,7 +2,7 @@
 
 package com.zoho.books.model;
 
-import org.json.JSONArray;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -1126,77 +1126,90 @@ public class Contact {
     }
 
     /**
-     * Convert the Contact object into JSONObject.
+     * Write the Contact object to the JsonWriter.
      *
-     * @return Returns the JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
-        jsonObject.put("contact_name", contactName);
-        jsonObject.put("company_name", companyName);
-        jsonObject.put("payment_terms", paymentTerms);
-        jsonObject.put("payment_terms_label", paymentTermsLabel);
-        jsonObject.put("currency_id", currencyId);
-        jsonObject.put("notes", notes);
+        writer.name("contact_name").value(contactName);
+        writer.name("company_name").value(companyName);
+        writer.name("payment_terms").value(paymentTerms);
+        writer.name("payment_terms_label").value(paymentTermsLabel);
+        writer.name("currency_id").value(currencyId);
+        writer.name("notes").value(notes);
 
         if (customFields != null && !customFields.isEmpty()) {
-            JSONArray customField = new JSONArray();
+            writer.name("custom_fields").beginArray();
 
             for (int i = 0; i < customFields.size(); i++) {
-                customField.put(customFields.get(i).toJSON());
+                customFields.get(i).write(writer);
             }
 
-            jsonObject.put("custom_fields", customField);
+            writer.endArray();
         }
 
         if (billingAddress != null) {
-            jsonObject.put("billing_address", billingAddress.toJSON());
+            writer.name("billing_address");
+            billingAddress.write(writer);
         }
 
         if (shippingAddress != null) {
-            jsonObject.put("shipping_address", shippingAddress.toJSON());
+            writer.name("shipping_address");
+            shippingAddress.write(writer);
         }
 
         if (contactPerson != null && !contactPerson.isEmpty()) {
-            JSONArray contactPersons = new JSONArray();
+            writer.name("contact_persons").beginArray();
 
             for (int i = 0; i < contactPerson.size(); i++) {
-                contactPersons.put(contactPerson.get(i).toJSON());
+                contactPerson.get(i).write(writer);
             }
 
-            jsonObject.put("contact_persons", contactPersons);
+            writer.endArray();
 
         }
 
         if (defaultTemplates != null) {
-            jsonObject.put("default_templates", defaultTemplates.toJSON());
+            writer.name("default_templates");
+            defaultTemplates.write(writer);
         }
 
         if ((Boolean) track1099 != null) {
-            jsonObject.put("track_1099", track1099);
+            writer.name("track_1099").value(track1099);
         }
         if (taxIdType != null && !taxIdType.equals("")) {
-            jsonObject.put("tax_id_type", taxIdType);
+            writer.name("tax_id_type").value(taxIdType);
         }
         if (taxIdValue != null && !taxIdValue.equals("")) {
-            jsonObject.put("tax_id_value", taxIdValue);
+            writer.name("tax_id_value").value(taxIdValue);
         }
         if ((Boolean) isTaxable != null) {
-            jsonObject.put("is_taxable", isTaxable);
+            writer.name("is_taxable").value(isTaxable);
         }
         if (taxId != null && !taxId.equals("")) {
-            jsonObject.put("tax_id", taxId);
+            writer.name("tax_id").value(taxId);
         }
         if (taxAuthorityId != null && !taxAuthorityId.equals("")) {
-            jsonObject.put("tax_authority_id", taxAuthorityId);
+            writer.name("tax_authority_id").value(taxAuthorityId);
         }
         if (taxExemptionId != null && !taxExemptionId.equals("")) {
-            jsonObject.put("tax_exemption_id", taxExemptionId);
+            writer.name("tax_exemption_id").value(taxExemptionId);
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert the Contact object into JSONObject.
+     *
+     * @return Returns the JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 
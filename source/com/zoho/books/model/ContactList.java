@@ -2,13 +2,11 @@
 
 package com.zoho.books.model;
 
-import java.util.ArrayList;
-
 /**
  * This class is used to create an object for contact list.
  */
 
-public class ContactList extends ArrayList<Contact> {
+public class ContactList extends PagedList<Contact> {
 
     private PageContext pageContext = new PageContext();
 
@@ -33,4 +31,12 @@ public class ContactList extends ArrayList<Contact> {
         return pageContext;
     }
 
+
+    protected String idOf(Contact contact) {
+        return contact.getContactId();
+    }
+
+    protected double totalOf(Contact contact) {
+        return contact.getOutstandingReceivableAmount();
+    }
 }
@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -249,52 +250,62 @@ public class ContactPerson {
     }
 
     /**
-     * Convert the ContactPerson object into JSONObject.
+     * Write the ContactPerson object to the JsonWriter.
      *
-     * @return Returns the JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
         if (contactId != null && !contactId.equals("")) {
-            jsonObject.put("contact_id", contactId);
+            writer.name("contact_id").value(contactId);
         }
 
         if(contactPersonId != null && !contactPersonId.equals(""))
         {
-            jsonObject.put("contact_person_id", contactPersonId);
+            writer.name("contact_person_id").value(contactPersonId);
         }
 
         if (salutation != null) {
-            jsonObject.put("salutation", salutation);
+            writer.name("salutation").value(salutation);
         }
 
         if (firstName != null) {
-            jsonObject.put("first_name", firstName);
+            writer.name("first_name").value(firstName);
         }
 
         if (lastName != null) {
-            jsonObject.put("last_name", lastName);
+            writer.name("last_name").value(lastName);
         }
 
         if (email != null) {
-            jsonObject.put("email", email);
+            writer.name("email").value(email);
         }
 
         if (phone != null) {
-            jsonObject.put("phone", phone);
+            writer.name("phone").value(phone);
         }
 
         if (mobile != null) {
-            jsonObject.put("mobile", mobile);
+            writer.name("mobile").value(mobile);
         }
         if ((Boolean) isPrimaryContact != null) {
-            jsonObject.put("is_primary_contact", isPrimaryContact);
+            writer.name("is_primary_contact").value(isPrimaryContact);
         }
 
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert the ContactPerson object into JSONObject.
+     *
+     * @return Returns the JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 }
@@ -2,7 +2,7 @@
 
 package com.zoho.books.model;
 
-import org.json.JSONArray;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -710,40 +710,50 @@ public class CreditNote {
 
 
     /**
-     * Convert CreditNote object into JSONObject.
+     * Write CreditNote object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
-        jsonObject.put("customer_id", customerId);
+        writer.name("customer_id").value(customerId);
 
         if (contactPersons != null) {
-            JSONArray contactPerson = new JSONArray();
+            writer.name("contact_persons").beginArray();
 
             for (int i = 0; i < contactPersons.length; i++) {
-                contactPerson.put(contactPersons[i]);
+                writer.value(contactPersons[i]);
             }
-            jsonObject.put("contact_persons", contactPerson);
+            writer.endArray();
         }
 
-        jsonObject.put("creditnote_number", creditnoteNumber);
-        jsonObject.put("template_id", templateId);
-        jsonObject.put("date", date);
-        jsonObject.put("exchange_rate", exchangeRate);
+        writer.name("creditnote_number").value(creditnoteNumber);
+        writer.name("template_id").value(templateId);
+        writer.name("date").value(date);
+        writer.name("exchange_rate").value(exchangeRate);
 
         if (lineItems != null && !lineItems.isEmpty()) {
-            JSONArray li = new JSONArray();
+            writer.name("line_items").beginArray();
 
             for (int i = 0; i < lineItems.size(); i++) {
-                li.put(lineItems.get(i).toJSON());
+                lineItems.get(i).write(writer);
             }
-            jsonObject.put("line_items", li);
+            writer.endArray();
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert CreditNote object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 }
@@ -2,13 +2,11 @@
 
 package com.zoho.books.model;
 
-import java.util.ArrayList;
-
 /**
  * This class is used to create an object for credit note list.
  */
 
-public class CreditNoteList extends ArrayList<CreditNote> {
+public class CreditNoteList extends PagedList<CreditNote> {
 
     private PageContext pageContext = new PageContext();
 
@@ -33,4 +31,12 @@ public class CreditNoteList extends ArrayList<CreditNote> {
         return pageContext;
     }
 
+
+    protected String idOf(CreditNote creditNote) {
+        return creditNote.getCreditnoteId();
+    }
+
+    protected double totalOf(CreditNote creditNote) {
+        return creditNote.getTotal();
+    }
 }
@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -308,6 +309,25 @@ public class CreditnoteRefund {
     }
 
 
+    /**
+     * Write CreditnoteRefund object to the JsonWriter.
+     *
+     * @param writer The writer the JSON object is written to.
+     */
+
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
+
+        writer.name("date").value(date);
+        writer.name("refund_mode").value(refundMode);
+        writer.name("reference_number").value(referenceNumber);
+        writer.name("amount").value(amount);
+        writer.name("exchange_rate").value(exchangeRate);
+        writer.name("from_account_id").value(fromAccountId);
+
+        writer.endObject();
+    }
+
     /**
      * Convert CreditnoteRefund object into JSONObject.
      *
@@ -315,15 +335,6 @@ public class CreditnoteRefund {
      */
 
     public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
-
-        jsonObject.put("date", date);
-        jsonObject.put("refund_mode", refundMode);
-        jsonObject.put("reference_number", referenceNumber);
-        jsonObject.put("amount", amount);
-        jsonObject.put("exchange_rate", exchangeRate);
-        jsonObject.put("from_account_id", fromAccountId);
-
-        return jsonObject;
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 }
@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -138,6 +139,25 @@ public class CreditnoteSetting {
     }
 
 
+    /**
+     * Write CreditnoteSetting object to the JsonWriter.
+     *
+     * @param writer The writer the JSON object is written to.
+     */
+
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
+
+        writer.name("auto_generate").value(autoGenerate);
+        writer.name("prefix_string").value(prefixString);
+        writer.name("next_number").value(nextNumber);
+        writer.name("reference_text").value(referenceText);
+        writer.name("notes").value(notes);
+        writer.name("terms").value(terms);
+
+        writer.endObject();
+    }
+
     /**
      * Convert CreditnoteSetting object into JSONObject.
      *
@@ -145,15 +165,6 @@ public class CreditnoteSetting {
      */
 
     public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
-
-        jsonObject.put("auto_generate", autoGenerate);
-        jsonObject.put("prefix_string", prefixString);
-        jsonObject.put("next_number", nextNumber);
-        jsonObject.put("reference_text", referenceText);
-        jsonObject.put("notes", notes);
-        jsonObject.put("terms", terms);
-
-        return jsonObject;
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 }
@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -97,21 +98,31 @@ public class Criterion {
 
 
     /**
-     * Convert Criterion object into JSONObject.
+     * Write Criterion object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
-        jsonObject.put("field", field);
-        jsonObject.put("comparator", comparator);
-        jsonObject.put("value", value);
+        writer.name("field").value(field);
+        writer.name("comparator").value(comparator);
+        writer.name("value").value(value);
 
 
-        return jsonObject;
+        writer.endObject();
+
+    }
+
+    /**
+     * Convert Criterion object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
 
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 }
 
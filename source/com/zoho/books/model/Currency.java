@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -201,6 +202,23 @@ public class Currency {
     }
 
 
+    /**
+     * Write Currency object to the JsonWriter.
+     *
+     * @param writer The writer the JSON object is written to.
+     */
+
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
+
+        writer.name("currency_code").value(currencyCode);
+        writer.name("currency_symbol").value(currencySymbol);
+        writer.name("price_precision").value(pricePrecision);
+        writer.name("currency_format").value(currencyFormat);
+
+        writer.endObject();
+    }
+
     /**
      * Convert Currency object into JSONObject.
      *
@@ -208,13 +226,6 @@ public class Currency {
      */
 
     public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
-
-        jsonObject.put("currency_code", currencyCode);
-        jsonObject.put("currency_symbol", currencySymbol);
-        jsonObject.put("price_precision", pricePrecision);
-        jsonObject.put("currency_format", currencyFormat);
-
-        return jsonObject;
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 }
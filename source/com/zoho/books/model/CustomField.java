@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -85,6 +86,26 @@ public class CustomField {
         this.showOnPdf = showOnPdf;
     }
 
+    /**
+     * Write CustomField object to the JsonWriter.
+     *
+     * @param writer The writer the JSON object is written to.
+     */
+
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
+
+        if ((Integer) index != null) {
+            writer.name("index").value(index);
+        }
+
+        if (value != null) {
+            writer.name("value").value(value);
+        }
+
+        writer.endObject();
+    }
+
     /**
      * get show on pdf.
      *
@@ -97,17 +118,7 @@ public class CustomField {
 
 
     public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
-
-        if ((Integer) index != null) {
-            jsonObject.put("index", index);
-        }
-
-        if (value != null) {
-            jsonObject.put("value", value);
-        }
-
-        return jsonObject;
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 }
 
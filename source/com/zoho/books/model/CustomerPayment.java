@@ -2,7 +2,7 @@
 
 package com.zoho.books.model;
 
-import org.json.JSONArray;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -485,62 +485,72 @@ public class CustomerPayment {
 
 
     /**
-     * Convert CustomerPayment object into JSONObject.
+     * Write CustomerPayment object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
         if (customerId != null && !customerId.equals("")) {
-            jsonObject.put("customer_id", customerId);
+            writer.name("customer_id").value(customerId);
         }
 
         if (invoices != null) {
-            JSONArray invoice = new JSONArray();
+            writer.name("invoices").beginArray();
 
             for (int i = 0; i < invoices.size(); i++) {
-                JSONObject inv = new JSONObject();
+                writer.beginObject();
 
-                inv.put("invoice_id", invoices.get(i).getInvoiceId());
-                inv.put("amount_applied", invoices.get(i).getAmountApplied());
-                inv.put("tax_amount_withheld", invoices.get(i).getTaxAmountWithheld());
+                writer.name("invoice_id").value(invoices.get(i).getInvoiceId());
+                writer.name("amount_applied").value(invoices.get(i).getAmountApplied());
+                writer.name("tax_amount_withheld").value(invoices.get(i).getTaxAmountWithheld());
 
-                invoice.put(inv);
+                writer.endObject();
             }
 
-            jsonObject.put("invoices", invoice);
+            writer.endArray();
         }
 
         if (paymentMode != null && !paymentMode.equals("")) {
-            jsonObject.put("payment_mode", paymentMode);
+            writer.name("payment_mode").value(paymentMode);
         }
         if (paymentNumber != null && !paymentNumber.equals("")) {
-            jsonObject.put("payment_number", paymentNumber);
+            writer.name("payment_number").value(paymentNumber);
         }
         if (date != null && !date.equals("")) {
-            jsonObject.put("date", date);
+            writer.name("date").value(date);
         }
         if (referenceNumber != null && !referenceNumber.equals("")) {
-            jsonObject.put("reference_number", referenceNumber);
+            writer.name("reference_number").value(referenceNumber);
         }
         if ((Double) exchangeRate != null && exchangeRate > 0) {
-            jsonObject.put("exchange_rate", exchangeRate);
+            writer.name("exchange_rate").value(exchangeRate);
         }
         if ((Double) amount != null) {
-            jsonObject.put("amount", amount);
+            writer.name("amount").value(amount);
         }
         if ((Double) bankCharges != null) {
-            jsonObject.put("bank_charges", bankCharges);
+            writer.name("bank_charges").value(bankCharges);
         }
         if (accountId != null && !accountId.equals("")) {
-            jsonObject.put("account_id", accountId);
+            writer.name("account_id").value(accountId);
         }
         if (description != null && !description.equals("")) {
-            jsonObject.put("description", description);
+            writer.name("description").value(description);
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert CustomerPayment object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 }
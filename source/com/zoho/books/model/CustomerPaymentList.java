@@ -2,13 +2,11 @@
 
 package com.zoho.books.model;
 
-import java.util.ArrayList;
-
 /**
  * This class is used to create an object for customer payment list.
  */
 
-public class CustomerPaymentList extends ArrayList<CustomerPayment> {
+public class CustomerPaymentList extends PagedList<CustomerPayment> {
 
     private PageContext pageContext = new PageContext();
 
@@ -33,4 +31,12 @@ public class CustomerPaymentList extends ArrayList<CustomerPayment> {
         return pageContext;
     }
 
+
+    protected String idOf(CustomerPayment customerPayment) {
+        return customerPayment.getPaymentId();
+    }
+
+    protected double totalOf(CustomerPayment customerPayment) {
+        return customerPayment.getAmount();
+    }
 }
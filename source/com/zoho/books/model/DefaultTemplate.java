@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -265,38 +266,48 @@ public class DefaultTemplate {
 
 
     /**
-     * Convert the DefaultTemplate object into JSONObject.
+     * Write the DefaultTemplate object to the JsonWriter.
      *
-     * @return Returns the JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
         if (invoiceTemplateId != null) {
-            jsonObject.put("invoice_template_id", invoiceTemplateId);
+            writer.name("invoice_template_id").value(invoiceTemplateId);
         }
 
         if (estimateTemplateId != null) {
-            jsonObject.put("estimate_template_id", estimateTemplateId);
+            writer.name("estimate_template_id").value(estimateTemplateId);
         }
 
         if (creditnoteTemplateId != null) {
-            jsonObject.put("creditnote_template_id", creditnoteTemplateId);
+            writer.name("creditnote_template_id").value(creditnoteTemplateId);
         }
 
         if (invoiceEmailTemplateId != null) {
-            jsonObject.put("invoice_email_template_id", invoiceEmailTemplateId);
+            writer.name("invoice_email_template_id").value(invoiceEmailTemplateId);
         }
 
         if (estimateEmailTemplateId != null) {
-            jsonObject.put("estimate_email_template_id", estimateEmailTemplateId);
+            writer.name("estimate_email_template_id").value(estimateEmailTemplateId);
         }
 
         if (creditnoteEmailTemplateId != null) {
-            jsonObject.put("creditnote_email_template_id", creditnoteEmailTemplateId);
+            writer.name("creditnote_email_template_id").value(creditnoteEmailTemplateId);
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert the DefaultTemplate object into JSONObject.
+     *
+     * @return Returns the JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 }
@@ -2,7 +2,7 @@
 
 package com.zoho.books.model;
 
-import org.json.JSONArray;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.io.File;
@@ -485,42 +485,52 @@ public class Email {
     }
 
     /**
-     * Convert Email object into JSONObject.
+     * Write Email object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
         if (toMailIds != null) {
-            JSONArray toMailId = new JSONArray();
+            writer.name("to_mail_ids").beginArray();
 
             for (int i = 0; i < toMailIds.length; i++) {
-                toMailId.put(toMailIds[i]);
+                writer.value(toMailIds[i]);
             }
-            jsonObject.put("to_mail_ids", toMailId);
+            writer.endArray();
         }
 
         if (ccMailIds != null) {
-            JSONArray ccMailId = new JSONArray();
+            writer.name("cc_mail_ids").beginArray();
 
             for (int j = 0; j < ccMailIds.length; j++) {
-                ccMailId.put(ccMailIds[j]);
+                writer.value(ccMailIds[j]);
             }
-            jsonObject.put("cc_mail_ids", ccMailId);
+            writer.endArray();
         }
         if (!subject.equals("")) {
-            jsonObject.put("subject", subject);
+            writer.name("subject").value(subject);
         }
         if (!body.equals("")) {
-            jsonObject.put("body", body);
+            writer.name("body").value(body);
         }
         if ((Boolean) sendFromOrgEmailId != null) {
-            jsonObject.put("send_from_org_email_id", sendFromOrgEmailId);
+            writer.name("send_from_org_email_id").value(sendFromOrgEmailId);
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert Email object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 }
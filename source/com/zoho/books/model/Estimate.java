@@ -2,7 +2,7 @@
 
 package com.zoho.books.model;
 
-import org.json.JSONArray;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -1054,72 +1054,82 @@ public class Estimate {
 
 
     /**
-     * Convert Estimate object into JSONObject.
+     * Write Estimate object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
         if (contactPersons != null) {
-            JSONArray contactPerson = new JSONArray();
+            writer.name("contact_persons").beginArray();
 
             for (int i = 0; i < contactPersons.length; i++) {
-                contactPerson.put(contactPersons[i]);
+                writer.value(contactPersons[i]);
             }
-            jsonObject.put("contact_persons", contactPerson);
+            writer.endArray();
         }
         if (estimateNumber != null && !estimateNumber.equals("")) {
-            jsonObject.put("estimate_number", estimateNumber);
+            writer.name("estimate_number").value(estimateNumber);
         }
         if (templateId != null && !templateId.equals("")) {
-            jsonObject.put("template_id", templateId);
+            writer.name("template_id").value(templateId);
         }
         if (referenceNumber != null && !referenceNumber.equals("")) {
-            jsonObject.put("reference_number", referenceNumber);
+            writer.name("reference_number").value(referenceNumber);
         }
         if (customerId != null && !customerId.equals("")) {
-            jsonObject.put("customer_id", customerId);
+            writer.name("customer_id").value(customerId);
         }
         if (date != null && !date.equals("")) {
-            jsonObject.put("date", date);
+            writer.name("date").value(date);
         }
         if ((Double) exchangeRate != null && exchangeRate > 0) {
-            jsonObject.put("exchange_rate", exchangeRate);
+            writer.name("exchange_rate").value(exchangeRate);
         }
         if ((Double) discount != null) {
-            jsonObject.put("discount", discount);
+            writer.name("discount").value(discount);
         }
         if (notes != null && !notes.equals("")) {
-            jsonObject.put("notes", notes);
+            writer.name("notes").value(notes);
         }
         if ((Double) shippingCharge != null) {
-            jsonObject.put("shipping_charge", shippingCharge);
+            writer.name("shipping_charge").value(shippingCharge);
         }
         if ((Double) adjustment != null) {
-            jsonObject.put("adjustment", adjustment);
+            writer.name("adjustment").value(adjustment);
         }
 
         if (lineItems != null) {
-            JSONArray lineItem = new JSONArray();
+            writer.name("line_items").beginArray();
             for (int i = 0; i < lineItems.size(); i++) {
-                lineItem.put(lineItems.get(i).toJSON());
+                lineItems.get(i).write(writer);
             }
-            jsonObject.put("line_items", lineItem);
+            writer.endArray();
         }
 
         if (taxId != null && !taxId.equals("")) {
-            jsonObject.put("tax_id", taxId);
+            writer.name("tax_id").value(taxId);
         }
         if (taxAuthorityId != null && !taxAuthorityId.equals("")) {
-            jsonObject.put("tax_authority_id", taxAuthorityId);
+            writer.name("tax_authority_id").value(taxAuthorityId);
         }
         if (taxExemptionId != null && !taxExemptionId.equals("")) {
-            jsonObject.put("tax_exemption_id", taxExemptionId);
+            writer.name("tax_exemption_id").value(taxExemptionId);
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert Estimate object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 
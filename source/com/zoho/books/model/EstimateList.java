@@ -2,13 +2,11 @@
 
 package com.zoho.books.model;
 
-import java.util.ArrayList;
-
 /**
  * This class is used to create an object for estimate list.
  */
 
-public class EstimateList extends ArrayList<Estimate> {
+public class EstimateList extends PagedList<Estimate> {
 
     private PageContext pageContext = new PageContext();
 
@@ -33,4 +31,12 @@ public class EstimateList extends ArrayList<Estimate> {
         return pageContext;
     }
 
+
+    protected String idOf(Estimate estimate) {
+        return estimate.getEstimateId();
+    }
+
+    protected double totalOf(Estimate estimate) {
+        return estimate.getTotal();
+    }
 }
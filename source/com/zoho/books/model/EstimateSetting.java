@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -327,6 +328,33 @@ public class EstimateSetting {
     }
 
 
+    /**
+     * Write EstimateSetting object to the JsonWriter.
+     *
+     * @param writer The writer the JSON object is written to.
+     */
+
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
+
+        writer.name("auto_generate").value(autoGenerate);
+        writer.name("prefix_string").value(prefixString);
+        writer.name("start_at").value(startAt);
+        writer.name("next_number").value(nextNumber);
+        writer.name("quantity_precision").value(quantityPrecision);
+        writer.name("reference_text").value(referenceText);
+        //writer.name("default_template_id").value(defaultTemplateId);
+        writer.name("notes").value(notes);
+        writer.name("terms").value(terms);
+        writer.name("terms_to_invoice").value(termsToInvoice);
+        writer.name("notes_to_invoice").value(notesToInvoice);
+        writer.name("warn_estimate_to_invoice").value(warnEstimateToInvoice);
+        writer.name("discount_type").value(discountType);
+        writer.name("is_sales_person_required").value(isSalesPersonRequired);
+
+        writer.endObject();
+    }
+
     /**
      * Convert EstimateSetting object into JSONObject.
      *
@@ -334,24 +362,7 @@ public class EstimateSetting {
      */
 
     public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
-
-        jsonObject.put("auto_generate", autoGenerate);
-        jsonObject.put("prefix_string", prefixString);
-        jsonObject.put("start_at", startAt);
-        jsonObject.put("next_number", nextNumber);
-        jsonObject.put("quantity_precision", quantityPrecision);
-        jsonObject.put("reference_text", referenceText);
-        //jsonObject.put("default_template_id", defaultTemplateId);
-        jsonObject.put("notes", notes);
-        jsonObject.put("terms", terms);
-        jsonObject.put("terms_to_invoice", termsToInvoice);
-        jsonObject.put("notes_to_invoice", notesToInvoice);
-        jsonObject.put("warn_estimate_to_invoice", warnEstimateToInvoice);
-        jsonObject.put("discount_type", discountType);
-        jsonObject.put("is_sales_person_required", isSalesPersonRequired);
-
-        return jsonObject;
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 
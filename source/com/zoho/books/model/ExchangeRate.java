@@ -3,6 +3,7 @@
 package com.zoho.books.model;
 
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -118,6 +119,21 @@ public class ExchangeRate {
     }
 
 
+    /**
+     * Write ExchangeRate object to the JsonWriter.
+     *
+     * @param writer The writer the JSON object is written to.
+     */
+
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
+
+        writer.name("effective_date").value(effectiveDate);
+        writer.name("rate").value(rate);
+
+        writer.endObject();
+    }
+
     /**
      * Convert ExchangeRate object into JSONObject.
      *
@@ -125,12 +141,7 @@ public class ExchangeRate {
      */
 
     public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
-
-        jsonObject.put("effective_date", effectiveDate);
-        jsonObject.put("rate", rate);
-
-        return jsonObject;
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 
@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -727,58 +728,68 @@ public class Expense {
 
 
     /**
-     * Convert Expense object into JSONObject.
+     * Write Expense object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
         if (accountId != null && !accountId.equals("")) {
-            jsonObject.put("account_id", accountId);
+            writer.name("account_id").value(accountId);
         }
         if (paidThroughAccountId != null && !paidThroughAccountId.equals("")) {
-            jsonObject.put("paid_through_account_id", paidThroughAccountId);
+            writer.name("paid_through_account_id").value(paidThroughAccountId);
         }
         if (date != null && !date.equals("")) {
-            jsonObject.put("date", date);
+            writer.name("date").value(date);
         }
         if ((Double) amount != null) {
-            jsonObject.put("amount", amount);
+            writer.name("amount").value(amount);
         }
         if (taxId != null && !taxId.equals("")) {
-            jsonObject.put("tax_id", taxId);
+            writer.name("tax_id").value(taxId);
         }
         if ((Boolean) isInclusiveTax != null) {
-            jsonObject.put("is_inclusive_tax", isInclusiveTax);
+            writer.name("is_inclusive_tax").value(isInclusiveTax);
         }
         if ((Boolean) isBillable != null) {
-            jsonObject.put("is_billable", isBillable);
+            writer.name("is_billable").value(isBillable);
         }
         if (referenceNumber != null && !referenceNumber.equals("")) {
-            jsonObject.put("reference_number", referenceNumber);
+            writer.name("reference_number").value(referenceNumber);
         }
         if (description != null && !description.equals("")) {
-            jsonObject.put("description", description);
+            writer.name("description").value(description);
         }
         if (customerId != null && !customerId.equals("")) {
-            jsonObject.put("customer_id", customerId);
+            writer.name("customer_id").value(customerId);
         }
         if (vendorId != null && !vendorId.equals("")) {
-            jsonObject.put("vendor_id", vendorId);
+            writer.name("vendor_id").value(vendorId);
         }
         if (currencyId != null && !currencyId.equals("")) {
-            jsonObject.put("currency_id", currencyId);
+            writer.name("currency_id").value(currencyId);
         }
         if ((Double) exchangeRate != null && exchangeRate > 0) {
-            jsonObject.put("exchange_rate", exchangeRate);
+            writer.name("exchange_rate").value(exchangeRate);
         }
         if (projectId != null && !projectId.equals("")) {
-            jsonObject.put("project_id", projectId);
+            writer.name("project_id").value(projectId);
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert Expense object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 
@@ -2,13 +2,11 @@
 
 package com.zoho.books.model;
 
-import java.util.ArrayList;
-
 /**
  * This class is used to create an object for expense list.
  */
 
-public class ExpenseList extends ArrayList<Expense> {
+public class ExpenseList extends PagedList<Expense> {
 
     private PageContext pageContext = new PageContext();
 
@@ -33,4 +31,12 @@ public class ExpenseList extends ArrayList<Expense> {
         return pageContext;
     }
 
+
+    protected String idOf(Expense expense) {
+        return expense.getExpenseId();
+    }
+
+    protected double totalOf(Expense expense) {
+        return expense.getTotal();
+    }
 }
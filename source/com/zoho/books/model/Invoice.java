@@ -2,7 +2,7 @@
 
 package com.zoho.books.model;
 
-import org.json.JSONArray;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -1495,119 +1495,129 @@ public class Invoice {
 
 
     /**
-     * Convert Invoice object into JSONObject.
+     * Write Invoice object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
         if (invoiceNumber != null && !invoiceNumber.equals("")) {
-            jsonObject.put("invoice_number", invoiceNumber);
+            writer.name("invoice_number").value(invoiceNumber);
         }
         if (referenceNumber != null && !referenceNumber.equals("")) {
-            jsonObject.put("reference_number", referenceNumber);
+            writer.name("reference_number").value(referenceNumber);
         }
         if ((Integer) paymentTerms != null) {
-            jsonObject.put("payment_terms", paymentTerms);
+            writer.name("payment_terms").value(paymentTerms);
         }
         if (paymentTermsLabel != null && !paymentTermsLabel.equals("")) {
-            jsonObject.put("payment_terms_label", paymentTermsLabel);
+            writer.name("payment_terms_label").value(paymentTermsLabel);
         }
 
         if (paymentGateways != null) {
 
-            JSONObject paymentOption = new JSONObject();
+            writer.name("payment_options").beginObject();
 
-            JSONArray paymentGateway = new JSONArray();
+            writer.name("payment_gateways").beginArray();
             for (int i = 0; i < paymentGateways.size(); i++) {
-                paymentGateway.put(paymentGateways.get(i).toJSON());
+                paymentGateways.get(i).write(writer);
             }
-            paymentOption.put("payment_gateways", paymentGateway);
-            jsonObject.put("payment_options", paymentOption);
+            writer.endArray();
+            writer.endObject();
         }
 
         if (customerId != null && !customerId.equals("")) {
-            jsonObject.put("customer_id", customerId);
+            writer.name("customer_id").value(customerId);
         }
 
         if (contactPersons != null) {
-            JSONArray contactPerson = new JSONArray();
+            writer.name("contact_persons").beginArray();
             for (int j = 0; j < contactPersons.length; j++) {
-                contactPerson.put(contactPersons[j]);
+                writer.value(contactPersons[j]);
             }
-            jsonObject.put("contact_persons", contactPerson);
+            writer.endArray();
         }
 
         if (date != null && !date.equals("")) {
-            jsonObject.put("date", date);
+            writer.name("date").value(date);
         }
         if (dueDate != null && !dueDate.equals("")) {
-            jsonObject.put("due_date", dueDate);
+            writer.name("due_date").value(dueDate);
         }
         if (notes != null && !notes.equals("")) {
-            jsonObject.put("notes", notes);
+            writer.name("notes").value(notes);
         }
         if (terms != null && !terms.equals("")) {
-            jsonObject.put("terms", terms);
+            writer.name("terms").value(terms);
         }
 
         if (lineItems != null) {
-            JSONArray lineItem = new JSONArray();
+            writer.name("line_items").beginArray();
             for (int k = 0; k < lineItems.size(); k++) {
-                lineItem.put(lineItems.get(k).toJSON());
+                lineItems.get(k).write(writer);
             }
-            jsonObject.put("line_items", lineItem);
+            writer.endArray();
         }
 
         if (customFields != null) {
-            JSONArray customField = new JSONArray();
+            writer.name("custom_fields").beginArray();
             for (int l = 0; l < customFields.size(); l++) {
-                customField.put(customFields.get(l).toJSON());
+                customFields.get(l).write(writer);
             }
-            jsonObject.put("custom_fields", customField);
+            writer.endArray();
         }
 
         if ((Boolean) allowPartialPayments != null) {
-            jsonObject.put("allow_partial_payments", allowPartialPayments);
+            writer.name("allow_partial_payments").value(allowPartialPayments);
         }
         if ((Double) exchangeRate != null && exchangeRate > 0) {
-            jsonObject.put("exchange_rate", exchangeRate);
+            writer.name("exchange_rate").value(exchangeRate);
         }
         if (templateId != null && !templateId.equals("")) {
-            jsonObject.put("template_id", templateId);
+            writer.name("template_id").value(templateId);
         }
         if ((Boolean) isDiscountBeforeTax != null) {
-            jsonObject.put("is_discount_before_tax", isDiscountBeforeTax);
+            writer.name("is_discount_before_tax").value(isDiscountBeforeTax);
         }
         if (discount != null && !discount.equals("")) {
-            jsonObject.put("discount", discount + "%");
+            writer.name("discount").value(discount + "%");
         }
         if (discountType != null && !discountType.equals("")) {
-            jsonObject.put("discount_type", discountType);
+            writer.name("discount_type").value(discountType);
         }
         if ((Double) shippingCharge != null) {
-            jsonObject.put("shipping_charge", shippingCharge);
+            writer.name("shipping_charge").value(shippingCharge);
         }
         if ((Double) adjustment != null) {
-            jsonObject.put("adjustment", adjustment);
+            writer.name("adjustment").value(adjustment);
         }
         if (adjustmentDescription != null && !adjustmentDescription.equals("")) {
-            jsonObject.put("adjustment_description", adjustmentDescription);
+            writer.name("adjustment_description").value(adjustmentDescription);
         }
 
         if (taxId != null && !taxId.equals("")) {
-            jsonObject.put("tax_id", taxId);
+            writer.name("tax_id").value(taxId);
         }
         if (taxAuthorityId != null && !taxAuthorityId.equals("")) {
-            jsonObject.put("tax_authority_id", taxAuthorityId);
+            writer.name("tax_authority_id").value(taxAuthorityId);
         }
         if (taxExemptionId != null && !taxExemptionId.equals("")) {
-            jsonObject.put("tax_exemption_id", taxExemptionId);
+            writer.name("tax_exemption_id").value(taxExemptionId);
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert Invoice object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 
@@ -2,13 +2,11 @@
 
 package com.zoho.books.model;
 
-import java.util.ArrayList;
-
 /**
  * This class is used to create an object for invoice list.
  */
 
-public class InvoiceList extends ArrayList<Invoice> {
+public class InvoiceList extends PagedList<Invoice> {
 
     private PageContext pageContext = new PageContext();
 
@@ -33,4 +31,12 @@ public class InvoiceList extends ArrayList<Invoice> {
         return pageContext;
     }
 
+
+    protected String idOf(Invoice invoice) {
+        return invoice.getInvoiceId();
+    }
+
+    protected double totalOf(Invoice invoice) {
+        return invoice.getTotal();
+    }
 }
@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -456,6 +457,38 @@ public class InvoiceSetting {
     }
 
 
+    /**
+     * Write InvoiceSetting object to the JsonWriter.
+     *
+     * @param writer The writer the JSON object is written to.
+     */
+
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
+
+        writer.name("auto_generate").value(autoGenerate);
+        writer.name("prefix_string").value(prefixString);
+        writer.name("start_at").value(startAt);
+        writer.name("next_number").value(nextNumber);
+        writer.name("quantity_precision").value(quantityPrecision);
+        //writer.name("discount_enabled").value(discountEnabled);
+        writer.name("reference_text").value(referenceText);
+        //writer.name("default_template_id").value(defaultTemplateId);
+        writer.name("notes").value(notes);
+        writer.name("terms").value(terms);
+        writer.name("is_shipping_charge_required").value(isShippingChargeRequired);
+        writer.name("is_adjustment_required").value(isAdjustmentRequired);
+        writer.name("invoice_item_type").value(invoiceItemType);
+        writer.name("is_show_invoice_setup").value(isShowInvoiceSetup);
+        writer.name("discount_type").value(discountType);
+        writer.name("warn_convert_to_open").value(warnConvertToOpen);
+        writer.name("warn_create_creditnotes").value(warnCreateCreditnotes);
+        writer.name("is_open_invoice_editable").value(isOpenInvoiceEditable);
+        writer.name("is_sales_person_required").value(isSalesPersonRequired);
+
+        writer.endObject();
+    }
+
     /**
      * Convert InvoiceSetting object into JSONObject.
      *
@@ -463,29 +496,7 @@ public class InvoiceSetting {
      */
 
     public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
-
-        jsonObject.put("auto_generate", autoGenerate);
-        jsonObject.put("prefix_string", prefixString);
-        jsonObject.put("start_at", startAt);
-        jsonObject.put("next_number", nextNumber);
-        jsonObject.put("quantity_precision", quantityPrecision);
-        //jsonObject.put("discount_enabled", discountEnabled);
-        jsonObject.put("reference_text", referenceText);
-        //jsonObject.put("default_template_id", defaultTemplateId);
-        jsonObject.put("notes", notes);
-        jsonObject.put("terms", terms);
-        jsonObject.put("is_shipping_charge_required", isShippingChargeRequired);
-        jsonObject.put("is_adjustment_required", isAdjustmentRequired);
-        jsonObject.put("invoice_item_type", invoiceItemType);
-        jsonObject.put("is_show_invoice_setup", isShowInvoiceSetup);
-        jsonObject.put("discount_type", discountType);
-        jsonObject.put("warn_convert_to_open", warnConvertToOpen);
-        jsonObject.put("warn_create_creditnotes", warnCreateCreditnotes);
-        jsonObject.put("is_open_invoice_editable", isOpenInvoiceEditable);
-        jsonObject.put("is_sales_person_required", isSalesPersonRequired);
-
-        return jsonObject;
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 }
@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -265,21 +266,31 @@ public class Item {
 
 
     /**
-     * Convert Item object into JSONObject.
+     * Write Item object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
-        jsonObject.put("name", name);
-        jsonObject.put("description", description);
-        jsonObject.put("rate", rate);
-        jsonObject.put("account_id", accountId);
-        jsonObject.put("tax_id", taxId);
+        writer.name("name").value(name);
+        writer.name("description").value(description);
+        writer.name("rate").value(rate);
+        writer.name("account_id").value(accountId);
+        writer.name("tax_id").value(taxId);
+
+        writer.endObject();
+
+    }
 
-        return jsonObject;
+    /**
+     * Convert Item object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
 
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 }
@@ -2,7 +2,7 @@
 
 package com.zoho.books.model;
 
-import org.json.JSONArray;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -313,35 +313,45 @@ public class Journal {
 
 
     /**
-     * Convert Journal object into JSONObject.
+     * Write Journal object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
         if (journalDate != null && !journalDate.equals("")) {
-            jsonObject.put("journal_date", journalDate);
+            writer.name("journal_date").value(journalDate);
         }
         if (referenceNumber != null && !referenceNumber.equals("")) {
-            jsonObject.put("reference_number", referenceNumber);
+            writer.name("reference_number").value(referenceNumber);
         }
         if (notes != null && !notes.equals("")) {
-            jsonObject.put("notes", notes);
+            writer.name("notes").value(notes);
         }
 
 
         if (lineItems != null) {
-            JSONArray lineItem = new JSONArray();
+            writer.name("line_items").beginArray();
 
             for (int i = 0; i < lineItems.size(); i++) {
-                lineItem.put(lineItems.get(i).toJSON());
+                lineItems.get(i).write(writer);
             }
-            jsonObject.put("line_items", lineItem);
+            writer.endArray();
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert Journal object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 
@@ -2,7 +2,7 @@
 
 package com.zoho.books.model;
 
-import org.json.JSONArray;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -651,84 +651,94 @@ public class LineItem {
     }
 
     /**
-     * Convert Item object into JSONObject.
+     * Write Item object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
         if (itemId != null && !itemId.equals("")) {
-            jsonObject.put("item_id", itemId);
+            writer.name("item_id").value(itemId);
         }
 
         if (lineItemId != null && !lineItemId.equals("")) {
-            jsonObject.put("line_item_id", lineItemId);
+            writer.name("line_item_id").value(lineItemId);
         }
 
         if (accountId != null && !accountId.equals("")) {
-            jsonObject.put("account_id", accountId);
+            writer.name("account_id").value(accountId);
         }
 
         if (projectId != null && !projectId.equals("")) {
-            jsonObject.put("project_id", projectId);
+            writer.name("project_id").value(projectId);
         }
 
         if (expenseId != null && !expenseId.equals("")) {
-            jsonObject.put("expense_id", expenseId);
+            writer.name("expense_id").value(expenseId);
         }
 
         if (name != null && !name.equals("")) {
-            jsonObject.put("name", name);
+            writer.name("name").value(name);
         }
 
         if (description != null && !description.equals("")) {
-            jsonObject.put("description", description);
+            writer.name("description").value(description);
         }
 
         if ((Integer) itemOrder != null) {
-            jsonObject.put("item_order", itemOrder);
+            writer.name("item_order").value(itemOrder);
         }
 
         if ((Double) rate != null) {
-            jsonObject.put("rate", rate);
+            writer.name("rate").value(rate);
         }
 
         if (unit != null && !unit.equals("")) {
-            jsonObject.put("unit", unit);
+            writer.name("unit").value(unit);
         }
 
         if ((Double) quantity != null) {
-            jsonObject.put("quantity", quantity);
+            writer.name("quantity").value(quantity);
         }
 
         if ((Double) discount != null) {
-            jsonObject.put("discount", discount);
+            writer.name("discount").value(discount);
         }
 
         if (taxId != null) {
-            jsonObject.put("tax_id", taxId);
+            writer.name("tax_id").value(taxId);
         }
         if (timeEntryIds != null) {
         	String[] splitted = timeEntryIds.split(",");
-            JSONArray timeEntryIdsArray = new JSONArray();
+            writer.name("time_entry_ids").beginArray();
             for (int j = 0; j < splitted.length; j++) {
-            	timeEntryIdsArray.put(splitted[j]);
+            	writer.value(splitted[j]);
             }
-            jsonObject.put("time_entry_ids", timeEntryIdsArray);
+            writer.endArray();
         }
 
 
         if (debitOrCredit != null && !debitOrCredit.equals("")) {
-            jsonObject.put("debit_or_credit", debitOrCredit);
+            writer.name("debit_or_credit").value(debitOrCredit);
         }
 
         if (taxExemptionId != null && !taxExemptionId.equals("")) {
-            jsonObject.put("tax_exemption_id", taxExemptionId);
+            writer.name("tax_exemption_id").value(taxExemptionId);
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert Item object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 }
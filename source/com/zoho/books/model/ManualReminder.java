@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -189,6 +190,22 @@ public class ManualReminder {
     }
 
 
+    /**
+     * Write ManualReminder object to the JsonWriter.
+     *
+     * @param writer The writer the JSON object is written to.
+     */
+
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
+
+        writer.name("subject").value(subject);
+        writer.name("body").value(body);
+        writer.name("cc_me").value(ccMe);
+
+        writer.endObject();
+    }
+
     /**
      * Convert ManualReminder object into JSONObject.
      *
@@ -196,12 +213,6 @@ public class ManualReminder {
      */
 
     public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
-
-        jsonObject.put("subject", subject);
-        jsonObject.put("body", body);
-        jsonObject.put("cc_me", ccMe);
-
-        return jsonObject;
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 }
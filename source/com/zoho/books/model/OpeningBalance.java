@@ -2,7 +2,7 @@
 
 package com.zoho.books.model;
 
-import org.json.JSONArray;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -82,26 +82,36 @@ public class OpeningBalance {
 
 
     /**
-     * Convert OpeningBalance object into JSONObject.
+     * Write OpeningBalance object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
-        jsonObject.put("date", date);
+        writer.name("date").value(date);
 
         if (accounts != null) {
-            JSONArray account = new JSONArray();
+            writer.name("accounts").beginArray();
 
             for (int i = 0; i < accounts.size(); i++) {
-                account.put(accounts.get(i).toJSON());
+                accounts.get(i).write(writer);
             }
 
-            jsonObject.put("accounts", accounts);
+            writer.endArray();
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert OpeningBalance object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 }
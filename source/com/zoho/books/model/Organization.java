@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -822,43 +823,54 @@ public class Organization {
 
 
     /**
-     * Convert Organization object into JSONObject.
+     * Write Organization object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
-        jsonObject.put("name", name);
-        jsonObject.put("is_logo_uploaded", isLogoUploaded);
-        jsonObject.put("industry_type", industryType);
-        jsonObject.put("industry_size", industrySize);
+        writer.name("name").value(name);
+        writer.name("is_logo_uploaded").value(isLogoUploaded);
+        writer.name("industry_type").value(industryType);
+        writer.name("industry_size").value(industrySize);
 
         if (address != null) {
-            jsonObject.put("address", address.toJSON());
+            writer.name("address");
+            address.write(writer);
         }
 
-        jsonObject.put("org_address", orgAddress);
-        jsonObject.put("remit_to_address", remitToAddress);
-        jsonObject.put("contact_name", contactName);
-        jsonObject.put("phone", phone);
-        jsonObject.put("fax", fax);
-        jsonObject.put("website", website);
-        jsonObject.put("email", email);
-        jsonObject.put("fiscal_year_start_month", fiscalYearStartMonth);
-        jsonObject.put("currency_code", currencyCode);
-        jsonObject.put("time_zone", timeZone);
-        jsonObject.put("date_format", dateFormat);
-        jsonObject.put("field_separator", fieldSeparator);
-        jsonObject.put("language_code", languageCode);
-        jsonObject.put("company_id_label", companyIdLabel);
-        jsonObject.put("company_id_value", companyIdValue);
-        jsonObject.put("tax_id_label", taxIdLabel);
-        jsonObject.put("tax_id_value", taxIdValue);
-        jsonObject.put("tax_basis", taxBasis);
-
-        return jsonObject;
+        writer.name("org_address").value(orgAddress);
+        writer.name("remit_to_address").value(remitToAddress);
+        writer.name("contact_name").value(contactName);
+        writer.name("phone").value(phone);
+        writer.name("fax").value(fax);
+        writer.name("website").value(website);
+        writer.name("email").value(email);
+        writer.name("fiscal_year_start_month").value(fiscalYearStartMonth);
+        writer.name("currency_code").value(currencyCode);
+        writer.name("time_zone").value(timeZone);
+        writer.name("date_format").value(dateFormat);
+        writer.name("field_separator").value(fieldSeparator);
+        writer.name("language_code").value(languageCode);
+        writer.name("company_id_label").value(companyIdLabel);
+        writer.name("company_id_value").value(companyIdValue);
+        writer.name("tax_id_label").value(taxIdLabel);
+        writer.name("tax_id_value").value(taxIdValue);
+        writer.name("tax_basis").value(taxBasis);
+
+        writer.endObject();
+    }
+
+    /**
+     * Convert Organization object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 }
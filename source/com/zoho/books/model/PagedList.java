@@ -0,0 +1,338 @@
+/* $Id$ */
+
+package com.zoho.books.model;
+
+import com.zoho.books.util.JsonReader;
+import org.json.JSONException;
+
+import java.io.ObjectStreamException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * PagedList is used to hold the rows of one page of a list response without making a model object of every row.
+ * <p>
+ * When a list is read lazily, the parser keeps the text of the rows along with the id and the total of each row, and a
+ * row is made into its model object when it is first got with {@link #get(int)}. {@link #idAt(int)} and
+ * {@link #totalAt(int)} answer from the kept values, so a job that only scans ids or totals never makes the model
+ * objects. Iterating, searching or changing the list makes the rows that are left first, after which it is a plain
+ * ArrayList. A list that was read in full answers idAt and totalAt from its model objects. A list is serialized with
+ * all its rows read, and the ids and totals it kept are not serialized.
+ * <p>
+ * As get makes and keeps the row, a PagedList that is shared between threads must not be read concurrently.
+ */
+
+public abstract class PagedList<T> extends ArrayList<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient String[] texts;
+
+    private transient String[] ids;
+
+    private transient double[] totals;
+
+    private transient JsonReader.ObjectReader<T> rows;
+
+    private transient int unread;
+
+
+    /**
+     * set the rows of the page. Each row is read from its text when it is first got.
+     *
+     * @param texts   Text of each row.
+     * @param ids     Id of each row.
+     * @param totals  Total of each row.
+     * @param rows    Reader of a row.
+     */
+
+    public void setRows(String[] texts, String[] ids, double[] totals, JsonReader.ObjectReader<T> rows) {
+        super.clear();
+        ensureCapacity(ids.length);
+
+        for (int i = 0; i < ids.length; i++) {
+            super.add(null);
+        }
+
+        this.texts = texts;
+        this.ids = ids;
+        this.totals = totals;
+        this.rows = rows;
+        this.unread = ids.length;
+
+        if (unread == 0) {
+            release();
+        }
+    }
+
+    /**
+     * get the id of the row at the given index, without making its model object.
+     *
+     * @param index Index of the row.
+     * @return Returns the id of the row.
+     */
+
+    public String idAt(int index) {
+        if (ids != null) {
+            rangeCheck(index);
+            return ids[index];
+        }
+
+        return idOf(get(index));
+    }
+
+    /**
+     * get the total of the row at the given index, without making its model object.
+     *
+     * @param index Index of the row.
+     * @return Returns the total of the row.
+     */
+
+    public double totalAt(int index) {
+        if (totals != null) {
+            rangeCheck(index);
+            return totals[index];
+        }
+
+        return totalOf(get(index));
+    }
+
+    /**
+     * get the id of a row.
+     *
+     * @param row The model object of the row.
+     * @return Returns the id of the row.
+     */
+
+    protected abstract String idOf(T row);
+
+    /**
+     * get the total of a row.
+     *
+     * @param row The model object of the row.
+     * @return Returns the total of the row.
+     */
+
+    protected abstract double totalOf(T row);
+
+
+    public T get(int index) {
+        T row = super.get(index);
+
+        if (row == null && texts != null) {
+            row = read(index);
+        }
+
+        return row;
+    }
+
+    public Iterator<T> iterator() {
+        readAll();
+        return super.iterator();
+    }
+
+    public ListIterator<T> listIterator() {
+        readAll();
+        return super.listIterator();
+    }
+
+    public ListIterator<T> listIterator(int index) {
+        readAll();
+        return super.listIterator(index);
+    }
+
+    public Spliterator<T> spliterator() {
+        readAll();
+        return super.spliterator();
+    }
+
+    public void forEach(Consumer<? super T> action) {
+        readAll();
+        super.forEach(action);
+    }
+
+    public Object[] toArray() {
+        readAll();
+        return super.toArray();
+    }
+
+    public <E> E[] toArray(E[] array) {
+        readAll();
+        return super.toArray(array);
+    }
+
+    public int indexOf(Object o) {
+        readAll();
+        return super.indexOf(o);
+    }
+
+    public int lastIndexOf(Object o) {
+        readAll();
+        return super.lastIndexOf(o);
+    }
+
+    public boolean equals(Object o) {
+        readAll();
+        return super.equals(o);
+    }
+
+    public int hashCode() {
+        readAll();
+        return super.hashCode();
+    }
+
+    public Object clone() {
+        readAll();
+        return super.clone();
+    }
+
+    public List<T> subList(int fromIndex, int toIndex) {
+        detach();
+        return super.subList(fromIndex, toIndex);
+    }
+
+    public T set(int index, T element) {
+        detach();
+        return super.set(index, element);
+    }
+
+    public boolean add(T element) {
+        detach();
+        return super.add(element);
+    }
+
+    public void add(int index, T element) {
+        detach();
+        super.add(index, element);
+    }
+
+    public boolean addAll(Collection<? extends T> c) {
+        detach();
+        return super.addAll(c);
+    }
+
+    public boolean addAll(int index, Collection<? extends T> c) {
+        detach();
+        return super.addAll(index, c);
+    }
+
+    public T remove(int index) {
+        detach();
+        return super.remove(index);
+    }
+
+    public boolean remove(Object o) {
+        detach();
+        return super.remove(o);
+    }
+
+    public boolean removeAll(Collection<?> c) {
+        detach();
+        return super.removeAll(c);
+    }
+
+    public boolean retainAll(Collection<?> c) {
+        detach();
+        return super.retainAll(c);
+    }
+
+    public boolean removeIf(Predicate<? super T> filter) {
+        detach();
+        return super.removeIf(filter);
+    }
+
+    public void replaceAll(UnaryOperator<T> operator) {
+        detach();
+        super.replaceAll(operator);
+    }
+
+    public void sort(Comparator<? super T> c) {
+        detach();
+        super.sort(c);
+    }
+
+    public void clear() {
+        release();
+        ids = null;
+        totals = null;
+        super.clear();
+    }
+
+    /**
+     * Read every row before the list is serialized, as ArrayList writes its rows without getting them.
+     *
+     * @return Returns this list, with all its rows read.
+     */
+
+    protected Object writeReplace() throws ObjectStreamException {
+        readAll();
+        return this;
+    }
+
+    /**
+     * Read the row at the given index from its text and keep it in the list in place of the text.
+     */
+
+    private T read(int index) {
+        char[] text = texts[index].toCharArray();
+        T row;
+
+        try {
+            row = rows.read(new JsonReader(text, 0, text.length));
+        } catch (JSONException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new JSONException(e);
+        }
+        super.set(index, row);
+        texts[index] = null;
+
+        if (--unread == 0) {
+            release();
+        }
+
+        return row;
+    }
+
+    /**
+     * Read every row that has not been read yet.
+     */
+
+    private void readAll() {
+        for (int i = 0; texts != null && i < size(); i++) {
+            if (super.get(i) == null) {
+                read(i);
+            }
+        }
+    }
+
+    /**
+     * Read every row and drop the ids and totals, before the rows are changed or moved.
+     */
+
+    private void detach() {
+        readAll();
+        ids = null;
+        totals = null;
+    }
+
+    private void release() {
+        texts = null;
+        rows = null;
+        unread = 0;
+    }
+
+    private void rangeCheck(int index) {
+        if (index < 0 || index >= ids.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + ids.length); //No I18N
+        }
+    }
+}
@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -289,23 +290,33 @@ public class PaymentGateway {
 
 
     /**
-     * Convert PaymentGateway object into JSONObject.
+     * Write PaymentGateway object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
         if (gatewayName != null && !gatewayName.equals("")) {
-            jsonObject.put("gateway_name", gatewayName);
+            writer.name("gateway_name").value(gatewayName);
         }
 
         if (additionalField1 != null && !additionalField1.equals("")) {
-            jsonObject.put("additional_field1", additionalField1);
+            writer.name("additional_field1").value(additionalField1);
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert PaymentGateway object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 }
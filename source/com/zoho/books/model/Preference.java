@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -271,6 +272,28 @@ public class Preference {
     }
 
 
+    /**
+     * Write Preference object to the JsonWriter.
+     *
+     * @param writer The writer the JSON object is written to.
+     */
+
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
+
+        writer.name("convert_to_invoice").value(convertToInvoice);
+        writer.name("notify_me_on_online_payment").value(notifyMeOnOnlinePayment);
+        writer.name("send_payment_receipt_acknowledgement").value(sendPaymentReceiptAcknowledgement);
+        writer.name("auto_notify_recurring_invoice").value(autoNotifyRecurringInvoice);
+        writer.name("snail_mail_include_payment_stub").value(snailMailIncludePaymentStub);
+        writer.name("is_show_powered_by").value(isShowPoweredBy);
+        writer.name("attach_expense_receipt_to_invoice").value(attachExpenseReceiptToInvoice);
+        writer.name("is_estimate_enabled").value(isEstimateEnabled);
+        writer.name("is_project_enabled").value(isProjectEnabled);
+
+        writer.endObject();
+    }
+
     /**
      * Convert Preference object into JSONObject.
      *
@@ -278,18 +301,6 @@ public class Preference {
      */
 
     public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
-
-        jsonObject.put("convert_to_invoice", convertToInvoice);
-        jsonObject.put("notify_me_on_online_payment", notifyMeOnOnlinePayment);
-        jsonObject.put("send_payment_receipt_acknowledgement", sendPaymentReceiptAcknowledgement);
-        jsonObject.put("auto_notify_recurring_invoice", autoNotifyRecurringInvoice);
-        jsonObject.put("snail_mail_include_payment_stub", snailMailIncludePaymentStub);
-        jsonObject.put("is_show_powered_by", isShowPoweredBy);
-        jsonObject.put("attach_expense_receipt_to_invoice", attachExpenseReceiptToInvoice);
-        jsonObject.put("is_estimate_enabled", isEstimateEnabled);
-        jsonObject.put("is_project_enabled", isProjectEnabled);
-
-        return jsonObject;
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 }
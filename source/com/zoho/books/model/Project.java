@@ -2,7 +2,7 @@
 
 package com.zoho.books.model;
 
-import org.json.JSONArray;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -401,47 +401,57 @@ public class Project {
 
 
     /**
-     * Convert Project object into JSONObject.
+     * Write Project object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
-        jsonObject.put("project_name", projectName);
-        jsonObject.put("customer_id", customerId);
-        jsonObject.put("description", description);
-        jsonObject.put("billing_type", billingType);
-        jsonObject.put("rate", rate);
-        jsonObject.put("budget_type", budgetType);
-        jsonObject.put("budget_hours", budgetHours);
-        jsonObject.put("budget_amount", budgetAmount);
+        writer.name("project_name").value(projectName);
+        writer.name("customer_id").value(customerId);
+        writer.name("description").value(description);
+        writer.name("billing_type").value(billingType);
+        writer.name("rate").value(rate);
+        writer.name("budget_type").value(budgetType);
+        writer.name("budget_hours").value(budgetHours);
+        writer.name("budget_amount").value(budgetAmount);
 
 
         if (tasks != null) {
-            JSONArray task = new JSONArray();
+            writer.name("tasks").beginArray();
 
             for (int i = 0; i < tasks.size(); i++) {
-                task.put(tasks.get(i).toJSON());
+                tasks.get(i).write(writer);
             }
-            jsonObject.put("tasks", task);
+            writer.endArray();
         }
 
         if (users != null) {
-            JSONArray userss = new JSONArray();
+            writer.name("users").beginArray();
             for (int j = 0; j < users.size(); j++) {
-                JSONObject user = new JSONObject();
+                writer.beginObject();
 
-                user.put("user_id", users.get(j).getUserId());
-                user.put("rate", users.get(j).getRate());
-                user.put("budget_hours", users.get(j).getBudgetHours());
+                writer.name("user_id").value(users.get(j).getUserId());
+                writer.name("rate").value(users.get(j).getRate());
+                writer.name("budget_hours").value(users.get(j).getBudgetHours());
 
-                userss.put(user);
+                writer.endObject();
             }
-            jsonObject.put("users", userss);
+            writer.endArray();
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert Project object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 }
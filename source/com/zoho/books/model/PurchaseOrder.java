@@ -2,7 +2,7 @@
 
 package com.zoho.books.model;
 
-import org.json.JSONArray;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -863,82 +863,93 @@ public class PurchaseOrder {
 
 
     /**
-     * Convert the PurchaseOrder object into JSONObject.
+     * Write the PurchaseOrder object to the JsonWriter.
      *
-     * @return Returns the JSONObject.
-     * @throws Exception
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
+    public void write(JsonWriter writer) throws Exception {
 
-        JSONObject jsonObject = new JSONObject();
+        writer.beginObject();
 
         if (vendorId != null && !vendorId.equals("")) {
-            jsonObject.put("vendor_id", vendorId);
+            writer.name("vendor_id").value(vendorId);
         }
         if (purchaseorderNumber != null) {
-            jsonObject.put("purchaseorder_number", purchaseorderNumber);
+            writer.name("purchaseorder_number").value(purchaseorderNumber);
         }
         if (referenceNumber != null) {
-            jsonObject.put("reference_number", referenceNumber);
+            writer.name("reference_number").value(referenceNumber);
         }
         if (templateId != null) {
-            jsonObject.put("template_id", templateId);
+            writer.name("template_id").value(templateId);
         }
         if (date != null) {
-            jsonObject.put("date", date);
+            writer.name("date").value(date);
         }
         if (deliveryDate != null) {
-            jsonObject.put("due_date", deliveryDate);
+            writer.name("due_date").value(deliveryDate);
         }
         if ((Double) exchangeRate != null && exchangeRate > 0) {
-            jsonObject.put("exchange_rate", exchangeRate);
+            writer.name("exchange_rate").value(exchangeRate);
         }
         if (notes != null) {
-            jsonObject.put("notes", notes);
+            writer.name("notes").value(notes);
         }
         if (shipVia != null) {
-            jsonObject.put("ship_via", shipVia);
+            writer.name("ship_via").value(shipVia);
         }
         if (attention != null) {
-            jsonObject.put("attention", attention);
+            writer.name("attention").value(attention);
         }
 
         if (contactPersons != null && contactPersons.length > 0) {
-            JSONArray contactpersons = new JSONArray();
+            writer.name("contact_persons").beginArray();
 
             for (int i = 0; i < contactPersons.length; i++) {
-                contactpersons.put(contactPersons[i]);
+                writer.value(contactPersons[i]);
             }
 
-            jsonObject.put("contact_persons", contactpersons);
+            writer.endArray();
         }
 
         if (lineItems != null && lineItems.size() > 0) {
-            JSONArray lineitems = new JSONArray();
+            writer.name("line_items").beginArray();
 
             for (int i = 0; i < lineItems.size(); i++) {
-                lineitems.put(lineItems.get(i).toJSON());
+                lineItems.get(i).write(writer);
             }
 
-            jsonObject.put("line_items", lineitems);
+            writer.endArray();
         }
 
         if (customFields != null && customFields.size() > 0) {
-            JSONArray customfields = new JSONArray();
+            writer.name("custom_fields").beginArray();
 
             for (int i = 0; i < customFields.size(); i++) {
-                customfields.put(customFields.get(i).toJSON());
+                customFields.get(i).write(writer);
             }
 
-            jsonObject.put("custom_fields", customfields);
+            writer.endArray();
         }
 
         if (deliveryAddress != null) {
-            jsonObject.put("delivery_address", deliveryAddress.toJSON());
+            writer.name("delivery_address");
+            deliveryAddress.write(writer);
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert the PurchaseOrder object into JSONObject.
+     *
+     * @return Returns the JSONObject.
+     * @throws Exception
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 }
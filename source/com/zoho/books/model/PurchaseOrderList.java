@@ -2,15 +2,13 @@
 
 package com.zoho.books.model;
 
-import java.util.ArrayList;
-
 /**
  * PurchaseOrderList class is used to create an object for list of purchase orders.
  *
  * @author ramesh-2099
  */
 
-public class PurchaseOrderList extends ArrayList<PurchaseOrder> {
+public class PurchaseOrderList extends PagedList<PurchaseOrder> {
 
     private PageContext pageContext;
 
@@ -35,4 +33,11 @@ public class PurchaseOrderList extends ArrayList<PurchaseOrder> {
     }
 
 
+    protected String idOf(PurchaseOrder purchaseOrder) {
+        return purchaseOrder.getPurchaseorderId();
+    }
+
+    protected double totalOf(PurchaseOrder purchaseOrder) {
+        return purchaseOrder.getTotal();
+    }
 }
@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -747,6 +748,36 @@ public class RecurringExpense {
     }
 
 
+    /**
+     * Write RecurringExpense object to the JsonWriter.
+     *
+     * @param writer The writer the JSON object is written to.
+     */
+
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
+
+        writer.name("account_id").value(accountId);
+        writer.name("paid_through_account_id").value(paidThroughAccountId);
+        writer.name("recurrence_name").value(recurrenceName);
+        writer.name("start_date").value(startDate);
+        writer.name("end_date").value(endDate);
+        writer.name("recurrence_frequency").value(recurrenceFrequency);
+        writer.name("repeat_every").value(repeatEvery);
+        writer.name("amount").value(amount);
+        writer.name("tax_id").value(taxId);
+        writer.name("is_inclusive_tax").value(isInclusiveTax);
+        writer.name("is_billable").value(isBillable);
+        writer.name("description").value(description);
+        writer.name("customer_id").value(customerId);
+        writer.name("vendor_id").value(vendorId);
+        writer.name("project_id").value(projectId);
+        writer.name("currency_id").value(currencyId);
+        writer.name("exchange_rate").value(exchangeRate);
+
+        writer.endObject();
+    }
+
     /**
      * Convert RecurringExpense object into JSONObject.
      *
@@ -754,27 +785,7 @@ public class RecurringExpense {
      */
 
     public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
-
-        jsonObject.put("account_id", accountId);
-        jsonObject.put("paid_through_account_id", paidThroughAccountId);
-        jsonObject.put("recurrence_name", recurrenceName);
-        jsonObject.put("start_date", startDate);
-        jsonObject.put("end_date", endDate);
-        jsonObject.put("recurrence_frequency", recurrenceFrequency);
-        jsonObject.put("repeat_every", repeatEvery);
-        jsonObject.put("amount", amount);
-        jsonObject.put("tax_id", taxId);
-        jsonObject.put("is_inclusive_tax", isInclusiveTax);
-        jsonObject.put("is_billable", isBillable);
-        jsonObject.put("description", description);
-        jsonObject.put("customer_id", customerId);
-        jsonObject.put("vendor_id", vendorId);
-        jsonObject.put("project_id", projectId);
-        jsonObject.put("currency_id", currencyId);
-        jsonObject.put("exchange_rate", exchangeRate);
-
-        return jsonObject;
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 
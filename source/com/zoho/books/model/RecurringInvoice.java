@@ -2,7 +2,7 @@
 
 package com.zoho.books.model;
 
-import org.json.JSONArray;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -900,65 +900,75 @@ public class RecurringInvoice {
 
 
     /**
-     * Convert RecurringInvoice object into JSONObject.
+     * Write RecurringInvoice object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
-        jsonObject.put("customer_id", customerId);
+        writer.name("customer_id").value(customerId);
 
         if (contactPersons != null) {
-            JSONArray contactPerson = new JSONArray();
+            writer.name("contact_persons").beginArray();
 
             for (int i = 0; i < contactPersons.length; i++) {
-                contactPerson.put(contactPersons[i]);
+                writer.value(contactPersons[i]);
             }
-            jsonObject.put("contact_persons", contactPerson);
+            writer.endArray();
         }
 
-        jsonObject.put("recurrence_name", recurrenceName);
+        writer.name("recurrence_name").value(recurrenceName);
 
         if (paymentGateways != null && !paymentGateways.isEmpty()) {
-            JSONObject paymentOption = new JSONObject();
-            JSONArray paymentGateway = new JSONArray();
+            writer.name("payment_options").beginObject();
+            writer.name("payment_gateways").beginArray();
             for (int i = 0; i < paymentGateways.size(); i++) {
-                paymentGateway.put(paymentGateways.get(i).toJSON());
+                paymentGateways.get(i).write(writer);
             }
-            paymentOption.put("payment_gateways", paymentGateway);
-            jsonObject.put("payment_options", paymentOption);
+            writer.endArray();
+            writer.endObject();
         }
 
-        jsonObject.put("payment_terms", paymentTerms);
-        jsonObject.put("payment_terms_label", paymentTermsLabel);
+        writer.name("payment_terms").value(paymentTerms);
+        writer.name("payment_terms_label").value(paymentTermsLabel);
 
         if (lineItems != null && !lineItems.isEmpty()) {
-            JSONArray lineItem = new JSONArray();
+            writer.name("line_items").beginArray();
 
             for (int i = 0; i < lineItems.size(); i++) {
-                lineItem.put(lineItems.get(i).toJSON());
+                lineItems.get(i).write(writer);
             }
-            jsonObject.put("line_items", lineItem);
+            writer.endArray();
         }
 
-        jsonObject.put("repeat_every", repeatEvery);
-        jsonObject.put("recurrence_frequency", recurrenceFrequency);
-        jsonObject.put("start_date", startDate);
-        jsonObject.put("end_date", endDate);
-        jsonObject.put("notes", notes);
-        jsonObject.put("exchange_rate", exchangeRate);
-        jsonObject.put("is_discount_before_tax", isDiscountBeforeTax);
-        jsonObject.put("discount", discount);
-        jsonObject.put("discount_type", discountType);
-        jsonObject.put("allow_partial_payments", allowPartialPayments);
-        jsonObject.put("salesperson_name", salespersonName);
-        jsonObject.put("shipping_charge", shippingCharge);
-        jsonObject.put("adjustment", adjustment);
-        jsonObject.put("adjustment_description", adjustmentDescription);
-
-        return jsonObject;
+        writer.name("repeat_every").value(repeatEvery);
+        writer.name("recurrence_frequency").value(recurrenceFrequency);
+        writer.name("start_date").value(startDate);
+        writer.name("end_date").value(endDate);
+        writer.name("notes").value(notes);
+        writer.name("exchange_rate").value(exchangeRate);
+        writer.name("is_discount_before_tax").value(isDiscountBeforeTax);
+        writer.name("discount").value(discount);
+        writer.name("discount_type").value(discountType);
+        writer.name("allow_partial_payments").value(allowPartialPayments);
+        writer.name("salesperson_name").value(salespersonName);
+        writer.name("shipping_charge").value(shippingCharge);
+        writer.name("adjustment").value(adjustment);
+        writer.name("adjustment_description").value(adjustmentDescription);
+
+        writer.endObject();
+    }
+
+    /**
+     * Convert RecurringInvoice object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 }
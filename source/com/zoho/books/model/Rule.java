@@ -2,7 +2,7 @@
 
 package com.zoho.books.model;
 
-import org.json.JSONArray;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -347,33 +347,43 @@ public class Rule {
 
 
     /**
-     * Convert Rule object into JSONObject.
+     * Write Rule object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
-        jsonObject.put("rule_name", ruleName);
-        jsonObject.put("target_account_id", targetAccountId);
-        jsonObject.put("apply_to", applyTo);
-        jsonObject.put("criteria_type", criteriaType);
-        jsonObject.put("record_as", recordAs);
-        jsonObject.put("account_id", accountId);
-        jsonObject.put("reference_number", referenceNumber);
-        jsonObject.put("customer_id", customerId);
+        writer.name("rule_name").value(ruleName);
+        writer.name("target_account_id").value(targetAccountId);
+        writer.name("apply_to").value(applyTo);
+        writer.name("criteria_type").value(criteriaType);
+        writer.name("record_as").value(recordAs);
+        writer.name("account_id").value(accountId);
+        writer.name("reference_number").value(referenceNumber);
+        writer.name("customer_id").value(customerId);
 
         if (criterion != null) {
-            JSONArray criteria = new JSONArray();
+            writer.name("criterion").beginArray();
 
             for (int i = 0; i < criterion.size(); i++) {
-                criteria.put(criterion.get(i).toJSON());
+                criterion.get(i).write(writer);
             }
 
-            jsonObject.put("criterion", criteria);
+            writer.endArray();
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert Rule object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 }
@@ -2,7 +2,7 @@
 
 package com.zoho.books.model;
 
-import org.json.JSONArray;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -1035,91 +1035,101 @@ public class SalesOrder {
 
 
     /**
-     * Convert the SalesOrder object into JSONObject.
+     * Write the SalesOrder object to the JsonWriter.
      *
-     * @return Returns the JSONObject.
-     * @throws Exception
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
+    public void write(JsonWriter writer) throws Exception {
 
-        JSONObject jsonObject = new JSONObject();
+        writer.beginObject();
 
         if (customerId != null && !customerId.equals("")) {
-            jsonObject.put("customer_id", customerId);
+            writer.name("customer_id").value(customerId);
         }
         if (salesorderNumber != null && !salesorderNumber.equals("")) {
-            jsonObject.put("salesorder_number", salesorderNumber);
+            writer.name("salesorder_number").value(salesorderNumber);
         }
         if (templateId != null && !templateId.equals("")) {
-            jsonObject.put("template_id", templateId);
+            writer.name("template_id").value(templateId);
         }
         if (date != null && !date.equals("")) {
-            jsonObject.put("date", date);
+            writer.name("date").value(date);
         }
         if (shipmentDate != null && !shipmentDate.equals("")) {
-            jsonObject.put("shipment_date", shipmentDate);
+            writer.name("shipment_date").value(shipmentDate);
         }
         if ((Double) discount != null) {
-            jsonObject.put("discount", discount);
+            writer.name("discount").value(discount);
         }
         if ((Boolean) isDiscountBeforeTax != null) {
-            jsonObject.put("is_discount_before_tax", isDiscountBeforeTax);
+            writer.name("is_discount_before_tax").value(isDiscountBeforeTax);
         }
         if (discountType != null && !discountType.equals("")) {
-            jsonObject.put("discount_type", discountType);
+            writer.name("discount_type").value(discountType);
         }
         if ((Double) exchangeRate != null && exchangeRate > 0) {
-            jsonObject.put("exchange_rate", exchangeRate);
+            writer.name("exchange_rate").value(exchangeRate);
         }
         if (salespersonName != null && !salespersonName.equals("")) {
-            jsonObject.put("salesperson_name", salespersonName);
+            writer.name("salesperson_name").value(salespersonName);
         }
         if (estimateId != null && !estimateId.equals("")) {
-            jsonObject.put("estimate_id", estimateId);
+            writer.name("estimate_id").value(estimateId);
         }
         if (taxId != null && !taxId.equals("")) {
-            jsonObject.put("tax_id", taxId);
+            writer.name("tax_id").value(taxId);
         }
         if (taxAuthorityId != null && !taxAuthorityId.equals("")) {
-            jsonObject.put("tax_authority_id", taxAuthorityId);
+            writer.name("tax_authority_id").value(taxAuthorityId);
         }
         if (taxExemptionId != null && !taxExemptionId.equals("")) {
-            jsonObject.put("tax_exemption_id", taxExemptionId);
+            writer.name("tax_exemption_id").value(taxExemptionId);
         }
 
         if (contactPersons != null && contactPersons.length > 0) {
-            JSONArray contactpersons = new JSONArray();
+            writer.name("contact_persons").beginArray();
 
             for (int i = 0; i < contactPersons.length; i++) {
-                contactpersons.put(contactPersons[i]);
+                writer.value(contactPersons[i]);
             }
 
-            jsonObject.put("contact_persons", contactpersons);
+            writer.endArray();
         }
 
         if (lineItems != null && lineItems.size() > 0) {
-            JSONArray lineitems = new JSONArray();
+            writer.name("line_items").beginArray();
 
             for (int i = 0; i < lineItems.size(); i++) {
-                lineitems.put(lineItems.get(i).toJSON());
+                lineItems.get(i).write(writer);
             }
 
-            jsonObject.put("line_items", lineitems);
+            writer.endArray();
         }
 
         if (customFields != null && customFields.size() > 0) {
-            JSONArray customfields = new JSONArray();
+            writer.name("custom_fields").beginArray();
 
             for (int i = 0; i < customFields.size(); i++) {
-                customfields.put(customFields.get(i).toJSON());
+                customFields.get(i).write(writer);
             }
 
-            jsonObject.put("custom_fields", customfields);
+            writer.endArray();
         }
 
-        return jsonObject;
+        writer.endObject();
+
+    }
+
+    /**
+     * Convert the SalesOrder object into JSONObject.
+     *
+     * @return Returns the JSONObject.
+     * @throws Exception
+     */
 
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 
@@ -2,9 +2,7 @@
 
 package com.zoho.books.model;
 
-import java.util.ArrayList;
-
-public class SalesOrderList extends ArrayList<SalesOrder> {
+public class SalesOrderList extends PagedList<SalesOrder> {
 
     private PageContext pageContext;
 
@@ -30,4 +28,11 @@ public class SalesOrderList extends ArrayList<SalesOrder> {
     }
 
 
+    protected String idOf(SalesOrder salesOrder) {
+        return salesOrder.getSalesorderId();
+    }
+
+    protected double totalOf(SalesOrder salesOrder) {
+        return salesOrder.getTotal();
+    }
 }
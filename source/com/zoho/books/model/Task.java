@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -330,6 +331,23 @@ public class Task {
     }
 
 
+    /**
+     * Write Task object to the JsonWriter.
+     *
+     * @param writer The writer the JSON object is written to.
+     */
+
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
+
+        writer.name("task_name").value(taskName);
+        writer.name("description").value(description);
+        writer.name("rate").value(rate);
+        writer.name("budget_hours").value(budgetHours);
+
+        writer.endObject();
+    }
+
     /**
      * Convert Task object into JSONObject.
      *
@@ -337,13 +355,6 @@ public class Task {
      */
 
     public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
-
-        jsonObject.put("task_name", taskName);
-        jsonObject.put("description", description);
-        jsonObject.put("rate", rate);
-        jsonObject.put("budget_hours", budgetHours);
-
-        return jsonObject;
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 }
@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -139,6 +140,22 @@ public class Tax {
     }
 
 
+    /**
+     * Write Tax object to the JsonWriter.
+     *
+     * @param writer The writer the JSON object is written to.
+     */
+
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
+
+        writer.name("tax_name").value(taxName);
+        writer.name("tax_percentage").value(taxPercentage);
+        writer.name("tax_type").value(taxType);
+
+        writer.endObject();
+    }
+
     /**
      * Convert Tax object into JSONObject.
      *
@@ -146,12 +163,6 @@ public class Tax {
      */
 
     public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
-
-        jsonObject.put("tax_name", taxName);
-        jsonObject.put("tax_percentage", taxPercentage);
-        jsonObject.put("tax_type", taxType);
-
-        return jsonObject;
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 }
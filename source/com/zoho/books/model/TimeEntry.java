@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -393,6 +394,26 @@ public class TimeEntry {
     }
 
 
+    /**
+     * Write TimeEntry object to the JsonWriter.
+     *
+     * @param writer The writer the JSON object is written to.
+     */
+
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
+
+        writer.name("project_id").value(projectId);
+        writer.name("task_id").value(taskId);
+        writer.name("user_id").value(userId);
+        writer.name("log_date").value(logDate);
+        writer.name("log_time").value(logTime);
+        writer.name("notes").value(notes);
+        writer.name("start_timer").value(startTimer);
+
+        writer.endObject();
+    }
+
     /**
      * Convert TimeEntry object into JSONObject.
      *
@@ -400,17 +421,7 @@ public class TimeEntry {
      */
 
     public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
-
-        jsonObject.put("project_id", projectId);
-        jsonObject.put("task_id", taskId);
-        jsonObject.put("user_id", userId);
-        jsonObject.put("log_date", logDate);
-        jsonObject.put("log_time", logTime);
-        jsonObject.put("notes", notes);
-        jsonObject.put("start_timer", startTimer);
-
-        return jsonObject;
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 }
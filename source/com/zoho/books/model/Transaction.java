@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -697,28 +698,38 @@ public class Transaction {
 
 
     /**
-     * Convert Transaction object into JSONObject.
+     * Write Transaction object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
-
-        jsonObject.put("from_account_id", fromAccountId);
-        jsonObject.put("to_account_id", toAccountId);
-        jsonObject.put("transaction_type", transactionType);
-        jsonObject.put("amount", amount);
-        //jsonObject.put("payment_mode", paymentMode);
-        jsonObject.put("date", date);
-        jsonObject.put("reference_number", referenceNumber);
-        jsonObject.put("description", description);
-        //jsonObject.put("customer_id", customerId);
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
+
+        writer.name("from_account_id").value(fromAccountId);
+        writer.name("to_account_id").value(toAccountId);
+        writer.name("transaction_type").value(transactionType);
+        writer.name("amount").value(amount);
+        //writer.name("payment_mode").value(paymentMode);
+        writer.name("date").value(date);
+        writer.name("reference_number").value(referenceNumber);
+        writer.name("description").value(description);
+        //writer.name("customer_id").value(customerId);
         if (currencyId != null && !currencyId.equals("")) {
-            jsonObject.put("currency_id", currencyId);
+            writer.name("currency_id").value(currencyId);
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert Transaction object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 
@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -360,31 +361,41 @@ public class User {
 
 
     /**
-     * Convert User object into JSONObject.
+     * Write User object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
         if (name != null && !name.equals("")) {
-            jsonObject.put("name", name);
+            writer.name("name").value(name);
         }
         if (email != null && !email.equals("")) {
-            jsonObject.put("eamil", email);
+            writer.name("eamil").value(email);
         }
         if (userRole != null && !userRole.equals("")) {
-            jsonObject.put("user_role", userRole);
+            writer.name("user_role").value(userRole);
         }
         if ((Double) rate != null) {
-            jsonObject.put("rate", rate);
+            writer.name("rate").value(rate);
         }
         if ((Integer) budgetHours != null) {
-            jsonObject.put("budget_hours", budgetHours);
+            writer.name("budget_hours").value(budgetHours);
         }
 
-        return jsonObject;
+        writer.endObject();
+
+    }
+
+    /**
+     * Convert User object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
 
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 }
@@ -2,7 +2,7 @@
 
 package com.zoho.books.model;
 
-import org.json.JSONArray;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -528,47 +528,57 @@ public class VendorCredit {
 
 
     /**
-     * Convert the VendorCredit into JSONObject.
+     * Write the VendorCredit object to the JsonWriter.
      *
-     * @return Returns the JSONObject.
-     * @throws Exception
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
+    public void write(JsonWriter writer) throws Exception {
 
-        JSONObject jsonObject = new JSONObject();
+        writer.beginObject();
 
         if (vendorId != null) {
-            jsonObject.put("vendor_id", vendorId);
+            writer.name("vendor_id").value(vendorId);
         }
         if (vendorCreditNumber != null) {
-            jsonObject.put("vendor_credit_number", vendorCreditNumber);
+            writer.name("vendor_credit_number").value(vendorCreditNumber);
         }
         if (referenceNumber != null) {
-            jsonObject.put("reference_number", referenceNumber);
+            writer.name("reference_number").value(referenceNumber);
         }
         if (date != null) {
-            jsonObject.put("date", date);
+            writer.name("date").value(date);
         }
         if ((Double) exchangeRate != null && exchangeRate > 0) {
-            jsonObject.put("exchange_rate", exchangeRate);
+            writer.name("exchange_rate").value(exchangeRate);
         }
         if (notes != null) {
-            jsonObject.put("notes", notes);
+            writer.name("notes").value(notes);
         }
 
         if (lineItems != null) {
-            JSONArray lineitems = new JSONArray();
+            writer.name("line_items").beginArray();
 
             for (int i = 0; i < lineItems.size(); i++) {
-                lineitems.put(lineItems.get(i).toJSON());
+                lineItems.get(i).write(writer);
             }
 
-            jsonObject.put("line_items", lineitems);
+            writer.endArray();
         }
 
-        return jsonObject;
+        writer.endObject();
+
+    }
+
+    /**
+     * Convert the VendorCredit into JSONObject.
+     *
+     * @return Returns the JSONObject.
+     * @throws Exception
+     */
 
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 
@@ -2,15 +2,13 @@
 
 package com.zoho.books.model;
 
-import java.util.ArrayList;
-
 /**
  * VendorCreditList class is used to create an object for list of vendor credits.
  *
  * @author ramesh-2099
  */
 
-public class VendorCreditList extends ArrayList<VendorCredit> {
+public class VendorCreditList extends PagedList<VendorCredit> {
 
     private PageContext pageContext;
 
@@ -36,4 +34,11 @@ public class VendorCreditList extends ArrayList<VendorCredit> {
     }
 
 
+    protected String idOf(VendorCredit vendorCredit) {
+        return vendorCredit.getVendorCreditId();
+    }
+
+    protected double totalOf(VendorCredit vendorCredit) {
+        return vendorCredit.getTotal();
+    }
 }
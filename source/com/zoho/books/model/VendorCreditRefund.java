@@ -2,6 +2,7 @@
 
 package com.zoho.books.model;
 
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 /**
@@ -334,39 +335,49 @@ public class VendorCreditRefund {
     }
 
     /**
-     * Convert the VendorCredit object into JSONObject.
+     * Write the VendorCredit object to the JsonWriter.
      *
-     * @return Returns the JSONObject.
-     * @throws Exception
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
+    public void write(JsonWriter writer) throws Exception {
 
-        JSONObject jsonObject = new JSONObject();
+        writer.beginObject();
 
         if (date != null) {
-            jsonObject.put("date", date);
+            writer.name("date").value(date);
         }
         if (refundMode != null) {
-            jsonObject.put("refund_mode", refundMode);
+            writer.name("refund_mode").value(refundMode);
         }
         if (referenceNumber != null) {
-            jsonObject.put("reference_number", referenceNumber);
+            writer.name("reference_number").value(referenceNumber);
         }
         if ((Double) amount != null) {
-            jsonObject.put("amount", amount);
+            writer.name("amount").value(amount);
         }
         if ((Double) exchangeRate != null && exchangeRate > 0) {
-            jsonObject.put("exchange_rate", exchangeRate);
+            writer.name("exchange_rate").value(exchangeRate);
         }
         if (accountId != null) {
-            jsonObject.put("account_id", accountId);
+            writer.name("account_id").value(accountId);
         }
         if (description != null) {
-            jsonObject.put("description", description);
+            writer.name("description").value(description);
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert the VendorCredit object into JSONObject.
+     *
+     * @return Returns the JSONObject.
+     * @throws Exception
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 
 
@@ -2,7 +2,7 @@
 
 package com.zoho.books.model;
 
-import org.json.JSONArray;
+import com.zoho.books.util.JsonWriter;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
@@ -315,38 +315,48 @@ public class VendorPayment {
 
 
     /**
-     * Convert VendorPayment object into JSONObject.
+     * Write VendorPayment object to the JsonWriter.
      *
-     * @return Returns a JSONObject.
+     * @param writer The writer the JSON object is written to.
      */
 
-    public JSONObject toJSON() throws Exception {
-        JSONObject jsonObject = new JSONObject();
+    public void write(JsonWriter writer) throws Exception {
+        writer.beginObject();
 
-        jsonObject.put("vendor_id", vendorId);
-        jsonObject.put("payment_mode", paymentMode);
-        jsonObject.put("description", description);
-        jsonObject.put("date", date);
-        jsonObject.put("reference_number", referenceNumber);
-        jsonObject.put("exchange_rate", exchangeRate);
-        jsonObject.put("amount", amount);
-        jsonObject.put("paid_through_account_id", paidThroughAccountId);
+        writer.name("vendor_id").value(vendorId);
+        writer.name("payment_mode").value(paymentMode);
+        writer.name("description").value(description);
+        writer.name("date").value(date);
+        writer.name("reference_number").value(referenceNumber);
+        writer.name("exchange_rate").value(exchangeRate);
+        writer.name("amount").value(amount);
+        writer.name("paid_through_account_id").value(paidThroughAccountId);
 
         if (bills != null) {
-            JSONArray billsArr = new JSONArray();
+            writer.name("bills").beginArray();
 
             for (int i = 0; i < bills.size(); i++) {
-                JSONObject bill = new JSONObject();
+                writer.beginObject();
 
-                bill.put("bill_id", bills.get(i).getBillId());
-                bill.put("amount_applied", bills.get(i).getAmountApplied());
+                writer.name("bill_id").value(bills.get(i).getBillId());
+                writer.name("amount_applied").value(bills.get(i).getAmountApplied());
 
-                billsArr.put(bill);
+                writer.endObject();
 
             }
-            jsonObject.put("bills", billsArr);
+            writer.endArray();
         }
 
-        return jsonObject;
+        writer.endObject();
+    }
+
+    /**
+     * Convert VendorPayment object into JSONObject.
+     *
+     * @return Returns a JSONObject.
+     */
+
+    public JSONObject toJSON() throws Exception {
+        return new JSONObject(JsonWriter.toString(this::write));
     }
 }
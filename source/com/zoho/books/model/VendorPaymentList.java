@@ -2,13 +2,11 @@
 
 package com.zoho.books.model;
 
-import java.util.ArrayList;
-
 /**
  * This class is used to create an object for vendor payment list.
  */
 
-public class VendorPaymentList extends ArrayList<VendorPayment> {
+public class VendorPaymentList extends PagedList<VendorPayment> {
 
     private PageContext pageContext = new PageContext();
 
@@ -33,4 +31,12 @@ public class VendorPaymentList extends ArrayList<VendorPayment> {
         return pageContext;
     }
 
+
+    protected String idOf(VendorPayment vendorPayment) {
+        return vendorPayment.getPaymentId();
+    }
+
+    protected double totalOf(VendorPayment vendorPayment) {
+        return vendorPayment.getAmount();
+    }
 }
@@ -3,11 +3,12 @@
 package com.zoho.books.parser;
 
 import com.zoho.books.model.*;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.zoho.books.util.JsonReader;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 
 /**
  * BankAccountParser is used to parse the json response and make it into the respective objects.
@@ -15,68 +16,128 @@ import java.util.List;
 
 public class BankAccountParser {
 
+    /**
+     * Names of the fields read from a bank account.
+     */
+
+    private static final Set<String> BANK_ACCOUNT_FIELDS = Set.of("account_id", "account_name", //No I18N
+            "account_number", "account_type", "currency_id", "currency_code", "uncategorized_transactions", //No I18N
+            "is_active", "balance", "bank_name", "routing_number", "is_primary_account", "is_paypal_account", //No I18N
+            "paypal_email_address", "description"); //No I18N
+
+    /**
+     * Names of the fields read from a statement.
+     */
+
+    private static final Set<String> STATEMENT_FIELDS = Set.of("statement_id", "from_date", "to_date", //No I18N
+            "source", "transactions"); //No I18N
+
+
     /**
      * Parse the json response and returns a BankAccountList object.
      *
      * @param response This json response contains list of Bank Accounts details.
      * @return Returns the BankAccountList object.
+     * @deprecated Use {@link #getBankAccounts(Reader)}.
      */
 
+    @Deprecated
     public BankAccountList getBankAccounts(String response) throws Exception {
+        return getBankAccounts(new StringReader(response));
+    }
 
-        BankAccountList bankAccountList = new BankAccountList();
+    /**
+     * Parse the json response and returns a BankAccountList object.
+     *
+     * @param response This json response contains list of Bank Accounts details.
+     * @return Returns the BankAccountList object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public BankAccountList getBankAccounts(Reader response) throws Exception {
+        return getBankAccounts(response, null);
+    }
 
-        JSONArray jsonArray = jsonObject.getJSONArray("bankaccounts"); //No I18N
+    /**
+     * Parse the json response and returns a BankAccountList object.
+     *
+     * @param response This json response contains list of Bank Accounts details.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the BankAccountList object.
+     */
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            BankAccount bankAccount = new BankAccount();
+    public BankAccountList getBankAccounts(Reader response, Set<String> fields) throws Exception {
 
-            bankAccount.setAccountId(jsonArray.getJSONObject(i).getString("account_id"));
-            bankAccount.setAccountName(jsonArray.getJSONObject(i).getString("account_name"));
-            if (jsonArray.getJSONObject(i).has("account_number")) {
-                bankAccount.setAccountNumber(jsonArray.getJSONObject(i).getString("account_number"));
-            }
-            bankAccount.setAccountType(jsonArray.getJSONObject(i).getString("account_type"));
-            bankAccount.setCurrencyId(jsonArray.getJSONObject(i).getString("currency_id"));
-            bankAccount.setCurrencyCode(jsonArray.getJSONObject(i).getString("currency_code"));
-            bankAccount.setUncategorizedTransactions(jsonArray.getJSONObject(i).getInt("uncategorized_transactions")); //No I18N
-            bankAccount.setIsActive(jsonArray.getJSONObject(i).getBoolean("is_active"));    //No I18N
-            bankAccount.setBalance(jsonArray.getJSONObject(i).getDouble("balance"));    //No I18N
-            bankAccount.setBankName(jsonArray.getJSONObject(i).getString("bank_name"));
-            if (jsonArray.getJSONObject(i).has("routing_number")) {
-                bankAccount.setRoutingNumber(jsonArray.getJSONObject(i).getString("routing_number"));
-            }
-            if (jsonArray.getJSONObject(i).has("is_primary_account")) {
-                bankAccount.setIsPrimaryAccount(jsonArray.getJSONObject(i).getBoolean("is_primary_account")); //No I18N
-            }
-            if (jsonArray.getJSONObject(i).has("is_paypal_account")) {
-                bankAccount.setIsPaypalAccount(jsonArray.getJSONObject(i).getBoolean("is_paypal_account")); //No I18N
-            }
-            if (jsonArray.getJSONObject(i).has("paypal_email_address")) {
-                bankAccount.setPaypalEmailAddress(jsonArray.getJSONObject(i).getString("paypal_email_address"));
-            }
+        BankAccountList bankAccountList = new BankAccountList();
 
-            bankAccountList.add(bankAccount);
-        }
+        bankAccountList.setPageContext(ResponseReader.readList(response, "bankaccounts", bankAccountList, ResponseReader.project(this::readBankAccount, fields, BANK_ACCOUNT_FIELDS))); //No I18N
 
+        return bankAccountList;
 
-        PageContext pageContext = new PageContext();
+    }
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    /**
+     * Read a bank account.
+     */
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page"));    //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+    private BankAccount readBankAccount(JsonReader reader) throws Exception {
 
-        bankAccountList.setPageContext(pageContext);
+        BankAccount bankAccount = new BankAccount();
 
-        return bankAccountList;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "account_id":
+                    bankAccount.setAccountId(reader.nextString());
+                    break;
+                case "account_name":
+                    bankAccount.setAccountName(reader.nextString());
+                    break;
+                case "account_number":
+                    bankAccount.setAccountNumber(reader.nextString());
+                    break;
+                case "account_type":
+                    bankAccount.setAccountType(reader.nextString());
+                    break;
+                case "currency_id":
+                    bankAccount.setCurrencyId(reader.nextString());
+                    break;
+                case "currency_code":
+                    bankAccount.setCurrencyCode(reader.nextString());
+                    break;
+                case "uncategorized_transactions":
+                    bankAccount.setUncategorizedTransactions(reader.nextInt());
+                    break;
+                case "is_active":
+                    bankAccount.setIsActive(reader.nextBoolean());
+                    break;
+                case "balance":
+                    bankAccount.setBalance(reader.nextDouble());
+                    break;
+                case "bank_name":
+                    bankAccount.setBankName(reader.nextString());
+                    break;
+                case "routing_number":
+                    bankAccount.setRoutingNumber(reader.nextString());
+                    break;
+                case "is_primary_account":
+                    bankAccount.setIsPrimaryAccount(reader.nextBoolean());
+                    break;
+                case "is_paypal_account":
+                    bankAccount.setIsPaypalAccount(reader.nextBoolean());
+                    break;
+                case "paypal_email_address":
+                    bankAccount.setPaypalEmailAddress(reader.nextString());
+                    break;
+                case "description":
+                    bankAccount.setDescription(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return bankAccount;
     }
 
     /**
@@ -84,42 +145,36 @@ public class BankAccountParser {
      *
      * @param response This json response contains the details of a Bank Account.
      * @return Returns the BankAccount object.
+     * @deprecated Use {@link #getBankAccount(Reader)}.
      */
 
+    @Deprecated
     public BankAccount getBankAccount(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getBankAccount(new StringReader(response));
+    }
 
-        JSONObject bankAcc = jsonObject.getJSONObject("bankaccount"); //No I18N
+    /**
+     * Parse the json response and returns a BankAccount object.
+     *
+     * @param response This json response contains the details of a Bank Account.
+     * @return Returns the BankAccount object.
+     */
 
-        BankAccount bankAccount = new BankAccount();
+    public BankAccount getBankAccount(Reader response) throws Exception {
+        return getBankAccount(response, null);
+    }
 
-        bankAccount.setAccountId(bankAcc.getString("account_id"));
-        bankAccount.setAccountName(bankAcc.getString("account_name"));
-        if (bankAcc.has("account_number")) {
-            bankAccount.setAccountNumber(bankAcc.getString("account_number"));
-        }
-        bankAccount.setAccountType(bankAcc.getString("account_type"));
-        bankAccount.setCurrencyId(bankAcc.getString("currency_id"));
-        bankAccount.setCurrencyCode(bankAcc.getString("currency_code"));
-        bankAccount.setUncategorizedTransactions(bankAcc.getInt("uncategorized_transactions")); //No I18N
-        bankAccount.setIsActive(bankAcc.getBoolean("is_active"));    //No I18N
-        bankAccount.setBalance(bankAcc.getDouble("balance"));        //No I18N
-        bankAccount.setBankName(bankAcc.getString("bank_name"));
-        if (bankAcc.has("routing_number")) {
-            bankAccount.setRoutingNumber(bankAcc.getString("routing_number"));
-        }
-        if (bankAcc.has("is_primary_account")) {
-            bankAccount.setIsPrimaryAccount(bankAcc.getBoolean("is_primary_account")); //No I18N
-        }
-        if (bankAcc.has("is_paypal_account")) {
-            bankAccount.setIsPaypalAccount(bankAcc.getBoolean("is_paypal_account"));  //No I18N
-        }
-        if (bankAcc.has("paypal_email_address")) {
-            bankAccount.setPaypalEmailAddress(bankAcc.getString("paypal_email_address"));
-        }
-        bankAccount.setDescription(bankAcc.getString("description"));
+    /**
+     * Parse the json response and returns a BankAccount object.
+     *
+     * @param response This json response contains the details of a Bank Account.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the BankAccount object.
+     */
 
-        return bankAccount;
+    public BankAccount getBankAccount(Reader response, Set<String> fields) throws Exception {
+
+        return ResponseReader.readObject(response, "bankaccount", ResponseReader.project(this::readBankAccount, fields, BANK_ACCOUNT_FIELDS)); //No I18N
     }
 
     /**
@@ -127,57 +182,142 @@ public class BankAccountParser {
      *
      * @param response This json response contains the statement details of the account.
      * @return Returns the Statement object.
+     * @deprecated Use {@link #getStatement(Reader)}.
      */
 
+    @Deprecated
     public Statement getStatement(String response) throws Exception {
-        Statement statement = new Statement();
+        return getStatement(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns a Statement object.
+     *
+     * @param response This json response contains the statement details of the account.
+     * @return Returns the Statement object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public Statement getStatement(Reader response) throws Exception {
+        return getStatement(response, null);
+    }
 
-        JSONObject stmt = jsonObject.getJSONObject("statement"); //No I18N
+    /**
+     * Parse the json response and returns a Statement object.
+     *
+     * @param response This json response contains the statement details of the account.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Statement object.
+     */
 
-        statement.setStatementId(stmt.getString("statement_id"));
-        statement.setFromDate(stmt.getString("from_date"));
-        statement.setToDate(stmt.getString("to_date"));
-        statement.setSource(stmt.getString("source"));
+    public Statement getStatement(Reader response, Set<String> fields) throws Exception {
 
-        JSONArray jsonArray = stmt.getJSONArray("transactions"); //No I18N
+        return ResponseReader.readObject(response, "statement", ResponseReader.project(this::readStatement, fields, STATEMENT_FIELDS)); //No I18N
+    }
 
-        List<Transaction> transactions = new ArrayList<Transaction>();
+    /**
+     * Read a statement.
+     */
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Transaction transaction = new Transaction();
+    private Statement readStatement(JsonReader reader) throws Exception {
 
-            transaction.setTransactionId(jsonArray.getJSONObject(i).getString("transaction_id"));
-            transaction.setDebitOrCredit(jsonArray.getJSONObject(i).getString("debit_or_credit"));
-            transaction.setDate(jsonArray.getJSONObject(i).getString("date"));
-            transaction.setCustomerId(jsonArray.getJSONObject(i).getString("customer_id"));
-            transaction.setPayee(jsonArray.getJSONObject(i).getString("payee"));
-            transaction.setReferenceNumber(jsonArray.getJSONObject(i).getString("reference_number"));
-            transaction.setTransactionType(jsonArray.getJSONObject(i).getString("transaction_type"));
-            transaction.setAmount(jsonArray.getJSONObject(i).getDouble("amount")); //No I18N
-            transaction.setStatus(jsonArray.getJSONObject(i).getString("status"));
+        Statement statement = new Statement();
 
-            transactions.add(i, transaction);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "statement_id":
+                    statement.setStatementId(reader.nextString());
+                    break;
+                case "from_date":
+                    statement.setFromDate(reader.nextString());
+                    break;
+                case "to_date":
+                    statement.setToDate(reader.nextString());
+                    break;
+                case "source":
+                    statement.setSource(reader.nextString());
+                    break;
+                case "transactions":
+                    statement.setTransactions(ResponseReader.readArray(reader, new ArrayList<Transaction>(), this::readTransaction));
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
-
-        statement.setTransactions(transactions);
+        reader.endObject();
 
         return statement;
     }
 
+    /**
+     * Read a transaction.
+     */
+
+    private Transaction readTransaction(JsonReader reader) throws Exception {
+
+        Transaction transaction = new Transaction();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "transaction_id":
+                    transaction.setTransactionId(reader.nextString());
+                    break;
+                case "debit_or_credit":
+                    transaction.setDebitOrCredit(reader.nextString());
+                    break;
+                case "date":
+                    transaction.setDate(reader.nextString());
+                    break;
+                case "customer_id":
+                    transaction.setCustomerId(reader.nextString());
+                    break;
+                case "payee":
+                    transaction.setPayee(reader.nextString());
+                    break;
+                case "reference_number":
+                    transaction.setReferenceNumber(reader.nextString());
+                    break;
+                case "transaction_type":
+                    transaction.setTransactionType(reader.nextString());
+                    break;
+                case "amount":
+                    transaction.setAmount(reader.nextDouble());
+                    break;
+                case "status":
+                    transaction.setStatus(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return transaction;
+    }
+
     /**
      * Parse the json response and returns a string object.
      *
      * @param response This json response contains the success message of post or update or delete requests.
      * @return Returns the success message.
+     * @deprecated Use {@link #getMessage(Reader)}.
      */
 
+    @Deprecated
     public String getMessage(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getMessage(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns a string object.
+     *
+     * @param response This json response contains the success message of post or update or delete requests.
+     * @return Returns the success message.
+     */
 
-        String success = jsonObject.getString("message");
+    public String getMessage(Reader response) throws Exception {
 
-        return success;
+        return ResponseReader.readObject(response, "message", JsonReader::nextString); //No I18N
     }
 }
@@ -5,65 +5,157 @@ package com.zoho.books.parser;
 import com.zoho.books.model.Criterion;
 import com.zoho.books.model.Rule;
 import com.zoho.books.model.RuleList;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.zoho.books.util.JsonReader;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 
 /**
  * BankRuleParser is used to parse the json response and make it into the respective objects.
  */
 
 public class BankRuleParser {
+
+    /**
+     * Names of the fields read from a rule.
+     */
+
+    private static final Set<String> RULE_FIELDS = Set.of("rule_id", "rule_name", "rule_order", "apply_to", //No I18N
+            "criteria_type", "record_as", "account_id", "account_name", "criterion", "tax_id", "customer_id", //No I18N
+            "customer_name", "reference_number"); //No I18N
+
     /**
      * Parse the json response and returns the RuleList object.
      *
      * @param response This json response contains list of rules details.
      * @return Returns the RuleList object.
+     * @deprecated Use {@link #getRules(Reader)}.
      */
 
+    @Deprecated
     public RuleList getRules(String response) throws Exception {
+        return getRules(new StringReader(response));
+    }
 
-        RuleList ruleList = new RuleList();
+    /**
+     * Parse the json response and returns the RuleList object.
+     *
+     * @param response This json response contains list of rules details.
+     * @return Returns the RuleList object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public RuleList getRules(Reader response) throws Exception {
+        return getRules(response, null);
+    }
 
-        JSONArray jsonArray = jsonObject.getJSONArray("rules"); //No I18N
+    /**
+     * Parse the json response and returns the RuleList object.
+     *
+     * @param response This json response contains list of rules details.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the RuleList object.
+     */
+
+    public RuleList getRules(Reader response, Set<String> fields) throws Exception {
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Rule rule = new Rule();
+        RuleList ruleList = new RuleList();
 
-            rule.setRuleId(jsonArray.getJSONObject(i).getString("rule_id"));
-            rule.setRuleName(jsonArray.getJSONObject(i).getString("rule_name"));
-            rule.setRuleOrder(jsonArray.getJSONObject(i).getInt("rule_order")); //No I18N
-            rule.setApplyTo(jsonArray.getJSONObject(i).getString("apply_to"));
-            rule.setCriteriaType(jsonArray.getJSONObject(i).getString("criteria_type"));
-            rule.setRecordAs(jsonArray.getJSONObject(i).getString("record_as"));
-            rule.setAccountId(jsonArray.getJSONObject(i).getString("account_id"));
-            rule.setAccountName(jsonArray.getJSONObject(i).getString("account_name"));
+        ResponseReader.readList(response, "rules", ruleList, ResponseReader.project(this::readRule, fields, RULE_FIELDS)); //No I18N
 
-            List<Criterion> criterion = new ArrayList<Criterion>();
+        return ruleList;
+    }
 
-            JSONArray criterionList = jsonArray.getJSONObject(i).getJSONArray("criterion"); //No I18N
+    /**
+     * Read a rule.
+     */
 
-            for (int j = 0; j < criterionList.length(); j++) {
-                Criterion criteria = new Criterion();
+    private Rule readRule(JsonReader reader) throws Exception {
 
-                criteria.setCriteriaId(criterionList.getJSONObject(j).getString("criteria_id"));
-                criteria.setField(criterionList.getJSONObject(j).getString("field"));
-                criteria.setComparator(criterionList.getJSONObject(j).getString("comparator"));
-                criteria.setValue(criterionList.getJSONObject(j).getString("value"));
+        Rule rule = new Rule();
 
-                criterion.add(j, criteria);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "rule_id":
+                    rule.setRuleId(reader.nextString());
+                    break;
+                case "rule_name":
+                    rule.setRuleName(reader.nextString());
+                    break;
+                case "rule_order":
+                    rule.setRuleOrder(reader.nextInt());
+                    break;
+                case "apply_to":
+                    rule.setApplyTo(reader.nextString());
+                    break;
+                case "criteria_type":
+                    rule.setCriteriaType(reader.nextString());
+                    break;
+                case "record_as":
+                    rule.setRecordAs(reader.nextString());
+                    break;
+                case "account_id":
+                    rule.setAccountId(reader.nextString());
+                    break;
+                case "account_name":
+                    rule.setAccountName(reader.nextString());
+                    break;
+                case "criterion":
+                    rule.setCriterion(ResponseReader.readArray(reader, new ArrayList<Criterion>(), this::readCriterion));
+                    break;
+                case "tax_id":
+                    rule.setTaxId(reader.nextString());
+                    break;
+                case "customer_id":
+                    rule.setCustomerId(reader.nextString());
+                    break;
+                case "customer_name":
+                    rule.setCustomerName(reader.nextString());
+                    break;
+                case "reference_number":
+                    rule.setReferenceNumber(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
             }
+        }
+        reader.endObject();
+
+        return rule;
+    }
 
-            rule.setCriterion(criterion);
+    /**
+     * Read a criterion of a rule.
+     */
 
-            ruleList.add(rule);
+    private Criterion readCriterion(JsonReader reader) throws Exception {
+
+        Criterion criteria = new Criterion();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "criteria_id":
+                    criteria.setCriteriaId(reader.nextString());
+                    break;
+                case "field":
+                    criteria.setField(reader.nextString());
+                    break;
+                case "comparator":
+                    criteria.setComparator(reader.nextString());
+                    break;
+                case "value":
+                    criteria.setValue(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return ruleList;
+        return criteria;
     }
 
     /**
@@ -71,46 +163,36 @@ public class BankRuleParser {
      *
      * @param response This json response contains the rule details.
      * @return Returns the Rule object.
+     * @deprecated Use {@link #getRule(Reader)}.
      */
 
+    @Deprecated
     public Rule getRule(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONObject rules = jsonObject.getJSONObject("rule"); //No I18N
-
-        Rule rule = new Rule();
-
-        rule.setRuleId(rules.getString("rule_id"));
-        rule.setRuleName(rules.getString("rule_name"));
-        rule.setRuleOrder(rules.getInt("rule_order")); //No I18N
-        rule.setApplyTo(rules.getString("apply_to"));
-        rule.setCriteriaType(rules.getString("criteria_type"));
-        rule.setRecordAs(rules.getString("record_as"));
-        rule.setAccountId(rules.getString("account_id"));
-        rule.setAccountName(rules.getString("account_name"));
-        rule.setTaxId(rules.getString("tax_id"));
-        rule.setCustomerId(rules.getString("customer_id"));
-        rule.setCustomerName(rules.getString("customer_name"));
-        rule.setReferenceNumber(rules.getString("reference_number"));
-
-        List<Criterion> criterion = new ArrayList<Criterion>();
-
-        JSONArray jsonArray = rules.getJSONArray("criterion"); //No I18N
+        return getRule(new StringReader(response));
+    }
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Criterion criteria = new Criterion();
+    /**
+     * Parse the json response and returns the Rule object.
+     *
+     * @param response This json response contains the rule details.
+     * @return Returns the Rule object.
+     */
 
-            criteria.setCriteriaId(jsonArray.getJSONObject(i).getString("criteria_id"));
-            criteria.setField(jsonArray.getJSONObject(i).getString("field"));
-            criteria.setComparator(jsonArray.getJSONObject(i).getString("comparator"));
-            criteria.setValue(jsonArray.getJSONObject(i).getString("value"));
+    public Rule getRule(Reader response) throws Exception {
+        return getRule(response, null);
+    }
 
-            criterion.add(i, criteria);
-        }
+    /**
+     * Parse the json response and returns the Rule object.
+     *
+     * @param response This json response contains the rule details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Rule object.
+     */
 
-        rule.setCriterion(criterion);
+    public Rule getRule(Reader response, Set<String> fields) throws Exception {
 
-        return rule;
+        return ResponseReader.readObject(response, "rule", ResponseReader.project(this::readRule, fields, RULE_FIELDS)); //No I18N
     }
 
     /**
@@ -118,13 +200,23 @@ public class BankRuleParser {
      *
      * @param response This json response contains the success message of post or update or delete requests.
      * @return Returns the success message.
+     * @deprecated Use {@link #getMessage(Reader)}.
      */
 
+    @Deprecated
     public String getMessage(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getMessage(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns a string object.
+     *
+     * @param response This json response contains the success message of post or update or delete requests.
+     * @return Returns the success message.
+     */
 
-        String success = jsonObject.getString("message");
+    public String getMessage(Reader response) throws Exception {
 
-        return success;
+        return ResponseReader.readObject(response, "message", JsonReader::nextString); //No I18N
     }
 }
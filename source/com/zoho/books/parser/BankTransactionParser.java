@@ -3,11 +3,12 @@
 package com.zoho.books.parser;
 
 import com.zoho.books.model.*;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.zoho.books.util.JsonReader;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 
 /**
  * BankTransactionParser is used to parse the json response and make it into the respective objects.
@@ -15,93 +16,203 @@ import java.util.List;
 
 public class BankTransactionParser {
 
+    /**
+     * Names of the fields read from a transaction.
+     */
+
+    private static final Set<String> TRANSACTION_FIELDS = Set.of("transaction_id", "date", "amount", //No I18N
+            "transaction_type", "status", "source", "account_id", "customer_id", "payee", "currency_id", //No I18N
+            "currency_code", "debit_or_credit", "offset_account_name", "reference_number", //No I18N
+            "imported_transaction_id", "from_account_id", "from_account_name", "to_account_id", //No I18N
+            "to_account_name", "payment_mode", "exchange_rate", "customer_name", "description", //No I18N
+            "associated_transactions"); //No I18N
+
+
     /**
      * Parse the json response and returns the TransactionList object.
      *
      * @param response This json response contains list of transactions details.
      * @return Returns the TransactionList object.
+     * @deprecated Use {@link #getTransactions(Reader)}.
      */
 
+    @Deprecated
     public TransactionList getTransactions(String response) throws Exception {
+        return getTransactions(new StringReader(response));
+    }
 
-        TransactionList transactionList = new TransactionList();
+    /**
+     * Parse the json response and returns the TransactionList object.
+     *
+     * @param response This json response contains list of transactions details.
+     * @return Returns the TransactionList object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONArray jsonArray = jsonObject.getJSONArray("banktransactions"); //No I18N
-
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Transaction transaction = new Transaction();
-
-            transaction.setTransactionId(jsonArray.getJSONObject(i).getString("transaction_id"));
-            transaction.setDate(jsonArray.getJSONObject(i).getString("date"));
-            transaction.setAmount(jsonArray.getJSONObject(i).getDouble("amount")); //No I18N
-            transaction.setTransactionType(jsonArray.getJSONObject(i).getString("transaction_type"));
-            transaction.setStatus(jsonArray.getJSONObject(i).getString("status"));
-            transaction.setSource(jsonArray.getJSONObject(i).getString("source"));
-            transaction.setAccountId(jsonArray.getJSONObject(i).getString("account_id"));
-            transaction.setCustomerId(jsonArray.getJSONObject(i).getString("customer_id"));
-            transaction.setPayee(jsonArray.getJSONObject(i).getString("payee"));
-            transaction.setCurrencyId(jsonArray.getJSONObject(i).getString("currency_id"));
-            transaction.setCurrencyCode(jsonArray.getJSONObject(i).getString("currency_code"));
-            transaction.setDebitOrCredit(jsonArray.getJSONObject(i).getString("debit_or_credit"));
-            transaction.setOffsetAccountName(jsonArray.getJSONObject(i).getString("offset_account_name"));
-            transaction.setReferenceNumber(jsonArray.getJSONObject(i).getString("reference_number"));
-            transaction.setImportedTransactionId(jsonArray.getJSONObject(i).getString("imported_transaction_id"));
-
-            transactionList.add(transaction);
-        }
+    public TransactionList getTransactions(Reader response) throws Exception {
+        return getTransactions(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the TransactionList object.
+     *
+     * @param response This json response contains list of transactions details.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the TransactionList object.
+     */
 
-        PageContext pageContext = new PageContext();
+    public TransactionList getTransactions(Reader response, Set<String> fields) throws Exception {
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+        TransactionList transactionList = new TransactionList();
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        if (pagecontext.has("report_name")) {
-            pageContext.setReportName(pagecontext.getString("report_name"));
+        JsonReader reader = new JsonReader(response);
+
+        try {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "banktransactions":
+                        ResponseReader.readArray(reader, transactionList, ResponseReader.project(this::readTransaction, fields, TRANSACTION_FIELDS));
+                        break;
+                    case "page_context":
+                        transactionList.setPageContext(ResponseReader.readPageContext(reader));
+                        break;
+                    case "instrumentation":
+                        transactionList.setInstrumentation(readInstrumentation(reader));
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } finally {
+            reader.close();
         }
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
 
-        if (pagecontext.has("search_criteria")) {
-            List<Criteria> criterion = new ArrayList<Criteria>();
+        return transactionList;
+    }
 
-            JSONArray searchCriteria = pagecontext.getJSONArray("search_criteria"); //No I18N
+    /**
+     * Read a transaction.
+     */
 
-            for (int i = 0; i < searchCriteria.length(); i++) {
-                Criteria criteria = new Criteria();
+    private Transaction readTransaction(JsonReader reader) throws Exception {
 
-                if (searchCriteria.getJSONObject(i).has("columnname")) {
-                    criteria.setColumnName(searchCriteria.getJSONObject(i).getString("columnname"));
-                }
-                criteria.setSearchText(searchCriteria.getJSONObject(i).getString("search_text"));
-                criteria.setComparator(searchCriteria.getJSONObject(i).getString("comparator"));
+        Transaction transaction = new Transaction();
 
-                criterion.add(i, criteria);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "transaction_id":
+                    transaction.setTransactionId(reader.nextString());
+                    break;
+                case "date":
+                    transaction.setDate(reader.nextString());
+                    break;
+                case "amount":
+                    transaction.setAmount(reader.nextDouble());
+                    break;
+                case "transaction_type":
+                    transaction.setTransactionType(reader.nextString());
+                    break;
+                case "status":
+                    transaction.setStatus(reader.nextString());
+                    break;
+                case "source":
+                    transaction.setSource(reader.nextString());
+                    break;
+                case "account_id":
+                    transaction.setAccountId(reader.nextString());
+                    break;
+                case "customer_id":
+                    transaction.setCustomerId(reader.nextString());
+                    break;
+                case "payee":
+                    transaction.setPayee(reader.nextString());
+                    break;
+                case "currency_id":
+                    transaction.setCurrencyId(reader.nextString());
+                    break;
+                case "currency_code":
+                    transaction.setCurrencyCode(reader.nextString());
+                    break;
+                case "debit_or_credit":
+                    transaction.setDebitOrCredit(reader.nextString());
+                    break;
+                case "offset_account_name":
+                    transaction.setOffsetAccountName(reader.nextString());
+                    break;
+                case "reference_number":
+                    transaction.setReferenceNumber(reader.nextString());
+                    break;
+                case "imported_transaction_id":
+                    transaction.setImportedTransactionId(reader.nextString());
+                    break;
+                case "from_account_id":
+                    transaction.setFromAccountId(reader.nextString());
+                    break;
+                case "from_account_name":
+                    transaction.setFromAccountName(reader.nextString());
+                    break;
+                case "to_account_id":
+                    transaction.setToAccountId(reader.nextString());
+                    break;
+                case "to_account_name":
+                    transaction.setToAccountName(reader.nextString());
+                    break;
+                case "payment_mode":
+                    transaction.setPaymentMode(reader.nextString());
+                    break;
+                case "exchange_rate":
+                    transaction.setExchangeRate(reader.nextDouble());
+                    break;
+                case "customer_name":
+                    transaction.setCustomerName(reader.nextString());
+                    break;
+                case "description":
+                    transaction.setDescription(reader.nextString());
+                    break;
+                case "associated_transactions":
+                    transaction.setAssociateTransactions(ResponseReader.readArray(reader, new ArrayList<Transaction>(), this::readTransaction));
+                    break;
+                default:
+                    reader.skipValue();
             }
-
-            pageContext.setCriteria(criterion);
         }
+        reader.endObject();
 
-        transactionList.setPageContext(pageContext);
-
-        if (jsonObject.has("instrumentation")) {
-            Instrumentation instrumentation = new Instrumentation();
-
-            JSONObject instrumen = jsonObject.getJSONObject("instrumentation"); //No I18N
+        return transaction;
+    }
 
-            instrumentation.setQueryExecutionTime(instrumen.getInt("query_execution_time"));    //No I18N
-            instrumentation.setRequestHandlingTime(instrumen.getInt("request_handling_time"));    //No I18N
-            instrumentation.setResponseWriteTime(instrumen.getInt("response_write_time"));        //No I18N
-            instrumentation.setPageContextWriteTime(instrumen.getInt("page_context_write_time"));    //No I18N
+    /**
+     * Read the time the server took to answer.
+     */
 
-            transactionList.setInstrumentation(instrumentation);
+    private Instrumentation readInstrumentation(JsonReader reader) throws Exception {
+
+        Instrumentation instrumentation = new Instrumentation();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "query_execution_time":
+                    instrumentation.setQueryExecutionTime(reader.nextInt());
+                    break;
+                case "request_handling_time":
+                    instrumentation.setRequestHandlingTime(reader.nextInt());
+                    break;
+                case "response_write_time":
+                    instrumentation.setResponseWriteTime(reader.nextInt());
+                    break;
+                case "page_context_write_time":
+                    instrumentation.setPageContextWriteTime(reader.nextInt());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return transactionList;
+        return instrumentation;
     }
 
 
@@ -110,86 +221,73 @@ public class BankTransactionParser {
      *
      * @param response This json response contains the transaction details.
      * @return Returns the Transaction object.
+     * @deprecated Use {@link #getTransaction(Reader)}.
      */
 
+    @Deprecated
     public Transaction getTransaction(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        Transaction transaction = new Transaction();
-
-        JSONObject banktransaction = jsonObject.getJSONObject("banktransaction"); //No I18N
-
-        transaction.setTransactionId(banktransaction.getString("transaction_id"));
-        transaction.setFromAccountId(banktransaction.getString("from_account_id"));
-        transaction.setFromAccountName(banktransaction.getString("from_account_name"));
-        transaction.setToAccountId(banktransaction.getString("to_account_id"));
-        transaction.setToAccountName(banktransaction.getString("to_account_name"));
-        transaction.setTransactionType(banktransaction.getString("transaction_type"));
-        transaction.setCurrencyId(banktransaction.getString("currency_id"));
-        transaction.setCurrencyCode(banktransaction.getString("currency_code"));
-        transaction.setAmount(banktransaction.getDouble("amount"));    //No I18N
-        if (banktransaction.has("payment_mode")) {
-            transaction.setPaymentMode(banktransaction.getString("payment_mode"));
-        }
-        transaction.setExchangeRate(banktransaction.getDouble("exchange_rate")); //No I18N
-        transaction.setDate(banktransaction.getString("date"));
-        if (banktransaction.has("customer_id")) {
-            transaction.setCustomerId(banktransaction.getString("customer_id"));
-        }
-        if (banktransaction.has("customer_name")) {
-            transaction.setCustomerName(banktransaction.getString("customer_name"));
-        }
-        transaction.setReferenceNumber(banktransaction.getString("reference_number"));
-        transaction.setDescription(banktransaction.getString("description"));
-
-        return transaction;
+        return getTransaction(new StringReader(response));
     }
 
     /**
-     * Parse the json response and returns a Transaction object.
+     * Parse the json response and returns the Transaction object.
      *
      * @param response This json response contains the transaction details.
      * @return Returns the Transaction object.
      */
 
-    public Transaction getAssociateTransaction(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        Transaction transaction = new Transaction();
-
-        JSONObject banktransaction = jsonObject.getJSONObject("transaction"); //No I18N
+    public Transaction getTransaction(Reader response) throws Exception {
+        return getTransaction(response, null);
+    }
 
-        transaction.setImportedTransactionId(banktransaction.getString("imported_transaction_id"));
-        transaction.setDate(banktransaction.getString("date"));
-        transaction.setPayee(banktransaction.getString("payee"));
-        transaction.setAmount(banktransaction.getDouble("amount")); //No I18N
-        transaction.setReferenceNumber(banktransaction.getString("reference_number"));
-        transaction.setDescription(banktransaction.getString("description"));
-        transaction.setStatus(banktransaction.getString("status"));
+    /**
+     * Parse the json response and returns the Transaction object.
+     *
+     * @param response This json response contains the transaction details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Transaction object.
+     */
 
-        JSONArray assTransaction = banktransaction.getJSONArray("associated_transactions"); //No I18N
+    public Transaction getTransaction(Reader response, Set<String> fields) throws Exception {
 
-        List<Transaction> transactionList = new ArrayList<Transaction>();
+        return ResponseReader.readObject(response, "banktransaction", ResponseReader.project(this::readTransaction, fields, TRANSACTION_FIELDS)); //No I18N
+    }
 
-        for (int i = 0; i < assTransaction.length(); i++) {
+    /**
+     * Parse the json response and returns a Transaction object.
+     *
+     * @param response This json response contains the transaction details.
+     * @return Returns the Transaction object.
+     * @deprecated Use {@link #getAssociateTransaction(Reader)}.
+     */
 
-            Transaction associateTransaction = new Transaction();
+    @Deprecated
+    public Transaction getAssociateTransaction(String response) throws Exception {
+        return getAssociateTransaction(new StringReader(response));
+    }
 
-            associateTransaction.setTransactionId(assTransaction.getJSONObject(i).getString("transaction_id"));
-            associateTransaction.setDate(assTransaction.getJSONObject(i).getString("date"));
-            associateTransaction.setDebitOrCredit(assTransaction.getJSONObject(i).getString("debit_or_credit"));
-            associateTransaction.setTransactionType(assTransaction.getJSONObject(i).getString("transaction_type"));
-            associateTransaction.setAmount(assTransaction.getJSONObject(i).getDouble("amount")); //No I18N
-            associateTransaction.setCustomerId(assTransaction.getJSONObject(i).getString("customer_id"));
-            associateTransaction.setCustomerName(assTransaction.getJSONObject(i).getString("customer_name"));
+    /**
+     * Parse the json response and returns a Transaction object.
+     *
+     * @param response This json response contains the transaction details.
+     * @return Returns the Transaction object.
+     */
 
-            transactionList.add(i, associateTransaction);
-        }
+    public Transaction getAssociateTransaction(Reader response) throws Exception {
+        return getAssociateTransaction(response, null);
+    }
 
-        transaction.setAssociateTransactions(transactionList);
+    /**
+     * Parse the json response and returns a Transaction object.
+     *
+     * @param response This json response contains the transaction details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Transaction object.
+     */
 
+    public Transaction getAssociateTransaction(Reader response, Set<String> fields) throws Exception {
 
-        return transaction;
+        return ResponseReader.readObject(response, "transaction", ResponseReader.project(this::readTransaction, fields, TRANSACTION_FIELDS)); //No I18N
     }
 
 
@@ -198,13 +296,23 @@ public class BankTransactionParser {
      *
      * @param response This json response contains the success message of post or update or delete requests.
      * @return Returns the success message.
+     * @deprecated Use {@link #getMessage(Reader)}.
      */
 
+    @Deprecated
     public String getMessage(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getMessage(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns a string object.
+     *
+     * @param response This json response contains the success message of post or update or delete requests.
+     * @return Returns the success message.
+     */
 
-        String success = jsonObject.getString("message");
+    public String getMessage(Reader response) throws Exception {
 
-        return success;
+        return ResponseReader.readObject(response, "message", JsonReader::nextString); //No I18N
     }
 }
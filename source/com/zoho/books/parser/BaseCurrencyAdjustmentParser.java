@@ -5,12 +5,12 @@ package com.zoho.books.parser;
 import com.zoho.books.model.Account;
 import com.zoho.books.model.BaseCurrencyAdjustment;
 import com.zoho.books.model.BaseCurrencyAdjustmentList;
-import com.zoho.books.model.PageContext;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.zoho.books.util.JsonReader;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 
 /**
  * BaseCurrencyAdjustmentParser is used to parse the json response and make it into the respective objects.
@@ -18,53 +18,103 @@ import java.util.List;
 
 public class BaseCurrencyAdjustmentParser {
 
+    /**
+     * Names of the fields read from a base currency adjustment.
+     */
+
+    private static final Set<String> BASE_CURRENCY_ADJUSTMENT_FIELDS = Set.of("base_currency_adjustment_id", //No I18N
+            "adjustment_date", "exchange_rate", "currency_id", "currency_code", "description", //No I18N
+            "gain_or_loss", "adjustment_date_formatted", "accounts"); //No I18N
+
+
     /**
      * Parse the json response and returns the BaseCurrencyAdjustment object.
      *
      * @param response The json response contains the basecurrency details.
      * @return Returns the BaseCurrencyAdjustment object.
+     * @deprecated Use {@link #getBaseCurrencyAdjustment(Reader)}.
      */
 
+    @Deprecated
     public BaseCurrencyAdjustment getBaseCurrencyAdjustment(String response) throws Exception {
-        BaseCurrencyAdjustment baseCurrencyAdjustment = new BaseCurrencyAdjustment();
-
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getBaseCurrencyAdjustment(new StringReader(response));
+    }
 
-        JSONObject data = jsonObject.getJSONObject("base_currency_adjustment"); //No I18N
+    /**
+     * Parse the json response and returns the BaseCurrencyAdjustment object.
+     *
+     * @param response The json response contains the basecurrency details.
+     * @return Returns the BaseCurrencyAdjustment object.
+     */
 
-        baseCurrencyAdjustment.setAdjustmentDate(data.getString("adjustment_date"));
-        baseCurrencyAdjustment.setExchangeRate(data.getDouble("exchange_rate")); //No I18N
-        baseCurrencyAdjustment.setCurrencyId(data.getString("currency_id"));
-        baseCurrencyAdjustment.setDescription(data.getString("description"));
-        baseCurrencyAdjustment.setAdjustmentDateFormatted(data.getString("adjustment_date_formatted"));
-        baseCurrencyAdjustment.setCurrencyCode(data.getString("currency_code"));
-        baseCurrencyAdjustment.setBaseCurrencyAdjustmentId(data.getString("base_currency_adjustment_id"));
+    public BaseCurrencyAdjustment getBaseCurrencyAdjustment(Reader response) throws Exception {
+        return getBaseCurrencyAdjustment(response, null);
+    }
 
-        JSONArray accounts = data.getJSONArray("accounts"); //No I18N
+    /**
+     * Parse the json response and returns the BaseCurrencyAdjustment object.
+     *
+     * @param response The json response contains the basecurrency details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the BaseCurrencyAdjustment object.
+     */
 
-        List<Account> accountsList = new ArrayList<Account>();
+    public BaseCurrencyAdjustment getBaseCurrencyAdjustment(Reader response, Set<String> fields) throws Exception {
 
-        for (int i = 0; i < accounts.length(); i++) {
-            Account account = new Account();
+        return ResponseReader.readObject(response, "base_currency_adjustment", ResponseReader.project(this::readBaseCurrencyAdjustment, fields, BASE_CURRENCY_ADJUSTMENT_FIELDS)); //No I18N
+    }
 
-            account.setFcyBalanceFormatted(accounts.getJSONObject(i).getString("fcy_balance_formatted"));
-            account.setGainOrLossFormatted(accounts.getJSONObject(i).getString("gain_or_loss_formatted"));
-            account.setBcyBalanceFormatted(accounts.getJSONObject(i).getString("bcy_balance_formatted"));
-            account.setFcyBalance(accounts.getJSONObject(i).getDouble("fcy_balance"));        //No I18N
-            account.setGlSpecificType(accounts.getJSONObject(i).getInt("gl_specific_type"));    //No I18N
-            account.setGainOrLoss(accounts.getJSONObject(i).getDouble("gain_or_loss"));        //No I18N
-            account.setBcyBalance(accounts.getJSONObject(i).getDouble("bcy_balance"));        //No I18N
-            account.setAdjustedBalance(accounts.getJSONObject(i).getDouble("adjustment_balance"));    //No I18N
-            account.setAccountId(accounts.getJSONObject(i).getString("account_id"));
-            account.setAdjustedBalanceFormatted(accounts.getJSONObject(i).getString("adjusted_balance_formatted"));
-            account.setAccountName(accounts.getJSONObject(i).getString("account_name"));
+    /**
+     * Read an account.
+     */
 
-            accountsList.add(i, account);
+    private Account readAccount(JsonReader reader) throws Exception {
+
+        Account account = new Account();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "fcy_balance_formatted":
+                    account.setFcyBalanceFormatted(reader.nextString());
+                    break;
+                case "gain_or_loss_formatted":
+                    account.setGainOrLossFormatted(reader.nextString());
+                    break;
+                case "bcy_balance_formatted":
+                    account.setBcyBalanceFormatted(reader.nextString());
+                    break;
+                case "fcy_balance":
+                    account.setFcyBalance(reader.nextDouble());
+                    break;
+                case "gl_specific_type":
+                    account.setGlSpecificType(reader.nextInt());
+                    break;
+                case "gain_or_loss":
+                    account.setGainOrLoss(reader.nextDouble());
+                    break;
+                case "bcy_balance":
+                    account.setBcyBalance(reader.nextDouble());
+                    break;
+                case "adjustment_balance":
+                    account.setAdjustedBalance(reader.nextDouble());
+                    break;
+                case "account_id":
+                    account.setAccountId(reader.nextString());
+                    break;
+                case "adjusted_balance_formatted":
+                    account.setAdjustedBalanceFormatted(reader.nextString());
+                    break;
+                case "account_name":
+                    account.setAccountName(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        baseCurrencyAdjustment.setAccounts(accountsList);
-
-        return baseCurrencyAdjustment;
+        return account;
     }
 
     /**
@@ -72,44 +122,88 @@ public class BaseCurrencyAdjustmentParser {
      *
      * @param response This json response contains list of the basecurrencies details.
      * @return Returns the BaseCurrencyAdjustmentList object.
+     * @deprecated Use {@link #getBaseCurrencyAdjustments(Reader)}.
      */
 
+    @Deprecated
     public BaseCurrencyAdjustmentList getBaseCurrencyAdjustments(String response) throws Exception {
-        BaseCurrencyAdjustmentList baseCurrencyAdjustmentList = new BaseCurrencyAdjustmentList();
+        return getBaseCurrencyAdjustments(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the BaseCurrencyAdjustmentList object.
+     *
+     * @param response This json response contains list of the basecurrencies details.
+     * @return Returns the BaseCurrencyAdjustmentList object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public BaseCurrencyAdjustmentList getBaseCurrencyAdjustments(Reader response) throws Exception {
+        return getBaseCurrencyAdjustments(response, null);
+    }
 
-        JSONArray bca = jsonObject.getJSONArray("base_currency_adjustments"); //No I18N
+    /**
+     * Parse the json response and returns the BaseCurrencyAdjustmentList object.
+     *
+     * @param response This json response contains list of the basecurrencies details.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the BaseCurrencyAdjustmentList object.
+     */
 
-        for (int i = 0; i < bca.length(); i++) {
-            BaseCurrencyAdjustment baseCurrencyAdjustment = new BaseCurrencyAdjustment();
+    public BaseCurrencyAdjustmentList getBaseCurrencyAdjustments(Reader response, Set<String> fields) throws Exception {
 
-            baseCurrencyAdjustment.setBaseCurrencyAdjustmentId(bca.getJSONObject(i).getString("base_currency_adjustment_id"));
-            baseCurrencyAdjustment.setAdjustmentDate(bca.getJSONObject(i).getString("adjustment_date"));
-            baseCurrencyAdjustment.setExchangeRate(bca.getJSONObject(i).getDouble("exchange_rate")); //No I18N
-            baseCurrencyAdjustment.setCurrencyId(bca.getJSONObject(i).getString("currency_id"));
-            baseCurrencyAdjustment.setCurrencyCode(bca.getJSONObject(i).getString("currency_code"));
-            baseCurrencyAdjustment.setDescription(bca.getJSONObject(i).getString("description"));
-            baseCurrencyAdjustment.setGainOrLoss(bca.getJSONObject(i).getDouble("gain_or_loss"));    //No I18N
+        BaseCurrencyAdjustmentList baseCurrencyAdjustmentList = new BaseCurrencyAdjustmentList();
 
-            baseCurrencyAdjustmentList.add(baseCurrencyAdjustment);
-        }
+        baseCurrencyAdjustmentList.setPageContext(ResponseReader.readList(response, "base_currency_adjustments", baseCurrencyAdjustmentList, ResponseReader.project(this::readBaseCurrencyAdjustment, fields, BASE_CURRENCY_ADJUSTMENT_FIELDS))); //No I18N
 
-        PageContext pageContext = new PageContext();
+        return baseCurrencyAdjustmentList;
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    }
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page"));    //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+    /**
+     * Read a base currency adjustment.
+     */
 
-        baseCurrencyAdjustmentList.setPageContext(pageContext);
+    private BaseCurrencyAdjustment readBaseCurrencyAdjustment(JsonReader reader) throws Exception {
 
-        return baseCurrencyAdjustmentList;
+        BaseCurrencyAdjustment baseCurrencyAdjustment = new BaseCurrencyAdjustment();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "base_currency_adjustment_id":
+                    baseCurrencyAdjustment.setBaseCurrencyAdjustmentId(reader.nextString());
+                    break;
+                case "adjustment_date":
+                    baseCurrencyAdjustment.setAdjustmentDate(reader.nextString());
+                    break;
+                case "exchange_rate":
+                    baseCurrencyAdjustment.setExchangeRate(reader.nextDouble());
+                    break;
+                case "currency_id":
+                    baseCurrencyAdjustment.setCurrencyId(reader.nextString());
+                    break;
+                case "currency_code":
+                    baseCurrencyAdjustment.setCurrencyCode(reader.nextString());
+                    break;
+                case "description":
+                    baseCurrencyAdjustment.setDescription(reader.nextString());
+                    break;
+                case "gain_or_loss":
+                    baseCurrencyAdjustment.setGainOrLoss(reader.nextDouble());
+                    break;
+                case "adjustment_date_formatted":
+                    baseCurrencyAdjustment.setAdjustmentDateFormatted(reader.nextString());
+                    break;
+                case "accounts":
+                    baseCurrencyAdjustment.setAccounts(ResponseReader.readArray(reader, new ArrayList<Account>(), this::readAccount));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return baseCurrencyAdjustment;
     }
 
     /**
@@ -117,13 +211,23 @@ public class BaseCurrencyAdjustmentParser {
      *
      * @param response This json response contains the success message of post or update or delete requests.
      * @return Returns the success message.
+     * @deprecated Use {@link #getMessage(Reader)}.
      */
 
+    @Deprecated
     public String getMessage(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getMessage(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns a string object.
+     *
+     * @param response This json response contains the success message of post or update or delete requests.
+     * @return Returns the success message.
+     */
 
-        String success = jsonObject.getString("message");
+    public String getMessage(Reader response) throws Exception {
 
-        return success;
+        return ResponseReader.readObject(response, "message", JsonReader::nextString); //No I18N
     }
 }
@@ -3,11 +3,12 @@
 package com.zoho.books.parser;
 
 import com.zoho.books.model.*;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.zoho.books.util.JsonReader;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 
 /**
  * BillParser is used to parse the json response and make it into the respective objects.
@@ -15,181 +16,364 @@ import java.util.List;
 
 public class BillParser {
 
+    /**
+     * Names of the fields read from a bill.
+     */
+
+    private static final Set<String> BILL_FIELDS = Set.of("bill_id", "vendor_id", "vendor_name", "status", //No I18N
+            "bill_number", "reference_number", "date", "due_date", "due_days", "currency_id", //No I18N
+            "currency_code", "total", "balance", "created_time", "unused_credits_payable_amount", //No I18N
+            "due_by_days", "due_in_days", "currency_symbol", "price_precision", "exchange_rate", "sub_total", //No I18N
+            "tax_total", "payment_made", "last_modified_time", "reference_id", "notes", "terms", //No I18N
+            "attachment_name", "line_items", "taxes", "billing_address", "payments"); //No I18N
+
+    /**
+     * Names of the fields read from a payment.
+     */
+
+    private static final Set<String> PAYMENT_FIELDS = Set.of("payment_id", "bill_id", "bill_payment_id", //No I18N
+            "vendor_id", "vendor_name", "payment_mode", "description", "date", "reference_number", //No I18N
+            "exchange_rate", "amount", "paid_through", "is_single_bill_payment", "paid_through_account_id", //No I18N
+            "paid_through_account_name"); //No I18N
+
+    /**
+     * Names of the fields read from a comment of the list.
+     */
+
+    private static final Set<String> COMMENT_FIELDS = Set.of("comment_id", "description", "bill_id", //No I18N
+            "commented_by_id", "commented_by", "comment_type", "date", "date_description", "time", //No I18N
+            "transaction_id", "transaction_type", "operation_type"); //No I18N
+
+
     /**
      * Parse the json response and returns the Bill object.
      *
      * @param response This json response contains the bill details.
      * @return Returns the Bill object.
+     * @deprecated Use {@link #getBill(Reader)}.
      */
 
+    @Deprecated
     public Bill getBill(String response) throws Exception {
-        Bill bills = new Bill();
-
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONObject bill = jsonObject.getJSONObject("bill"); //No I18N
-
-        bills.setBillId(bill.getString("bill_id"));
-        bills.setVendorId(bill.getString("vendor_id"));
-        bills.setVendorName(bill.getString("vendor_name"));
-        bills.setUnusedCreditsPayableAmount(bill.getDouble("unused_credits_payable_amount")); //No I18N
-        bills.setStatus(bill.getString("status"));
-        bills.setBillNumber(bill.getString("bill_number"));
-        bills.setDate(bill.getString("date"));
-        bills.setDueDate(bill.getString("due_date"));
-        bills.setReferenceNumber(bill.getString("reference_number"));
-        bills.setDueByDays(bill.getString("due_by_days"));
-        bills.setDueInDays(bill.getString("due_in_days"));
-        bills.setCurrencyId(bill.getString("currency_id"));
-        bills.setCurrencyCode(bill.getString("currency_code"));
-        bills.setCurrencySymbol(bill.getString("currency_symbol"));
-        bills.setPricePrecision(bill.getInt("price_precision"));    //No I18N
-        bills.setExchangeRate(bill.getDouble("exchange_rate"));    //No I18N
-        bills.setSubTotal(bill.getDouble("sub_total"));            //No I18N
-        bills.setTaxTotal(bill.getDouble("tax_total"));            //No I18N
-        bills.setTotal(bill.getDouble("total"));            //No I18N
-        bills.setPaymentMade(bill.getDouble("payment_made"));        //No I18N
-        bills.setBalance(bill.getDouble("balance"));            //No I18N
-        bills.setCreatedTime(bill.getString("created_time"));
-        bills.setLastModifiedTime(bill.getString("last_modified_time"));
-        bills.setReferenceId(bill.getString("reference_id"));
-        bills.setNotes(bill.getString("notes"));
-        bills.setTerms(bill.getString("terms"));
-        bills.setAttachmentName(bill.getString("attachment_name"));
-
-        JSONArray lineItems = bill.getJSONArray("line_items"); //No I18N
-
-        List<LineItem> lineItemsList = new ArrayList<LineItem>();
-
-        for (int i = 0; i < lineItems.length(); i++) {
-            LineItem lineItem = new LineItem();
-
-            lineItem.setLineItemId(lineItems.getJSONObject(i).getString("line_item_id"));
-            lineItem.setAccountId(lineItems.getJSONObject(i).getString("account_id"));
-            lineItem.setAccountName(lineItems.getJSONObject(i).getString("account_name"));
-            lineItem.setDescription(lineItems.getJSONObject(i).getString("description"));
-            lineItem.setRate(lineItems.getJSONObject(i).getDouble("rate"));        //No I18N
-            lineItem.setBcyRate(lineItems.getJSONObject(i).getDouble("bcy_rate"));    //No I18N
-            lineItem.setQuantity(lineItems.getJSONObject(i).getDouble("quantity"));    //No I18N
-            lineItem.setTaxId(lineItems.getJSONObject(i).getString("tax_id"));
-            lineItem.setTaxName(lineItems.getJSONObject(i).getString("tax_name"));
-            lineItem.setTaxType(lineItems.getJSONObject(i).getString("tax_type"));
-            lineItem.setTaxPercentage(lineItems.getJSONObject(i).getDouble("tax_percentage"));    //No I18N
-            lineItem.setItemTotal(lineItems.getJSONObject(i).getDouble("item_total"));        //No I18N
-            lineItem.setItemOrder(lineItems.getJSONObject(i).getInt("item_order"));            //No I18N
-
-            lineItemsList.add(i, lineItem);
-        }
+        return getBill(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the Bill object.
+     *
+     * @param response This json response contains the bill details.
+     * @return Returns the Bill object.
+     */
 
-        bills.setLineItems(lineItemsList);
+    public Bill getBill(Reader response) throws Exception {
+        return getBill(response, null);
+    }
 
-        JSONArray taxes = bill.getJSONArray("taxes"); //No I18N
+    /**
+     * Parse the json response and returns the Bill object.
+     *
+     * @param response This json response contains the bill details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Bill object.
+     */
 
-        List<Tax> taxesList = new ArrayList<Tax>();
+    public Bill getBill(Reader response, Set<String> fields) throws Exception {
 
-        for (int j = 0; j < taxes.length(); j++) {
-            Tax tax = new Tax();
+        return ResponseReader.readObject(response, "bill", ResponseReader.project(this::readBill, fields, BILL_FIELDS)); //No I18N
+    }
 
-            tax.setTaxName(taxes.getJSONObject(j).getString("tax_name"));
-            tax.setTaxAmount(taxes.getJSONObject(j).getDouble("tax_amount")); //No I18N
+    /**
+     * Read a line item.
+     */
 
-            taxesList.add(j, tax);
+    private LineItem readLineItem(JsonReader reader) throws Exception {
+
+        LineItem lineItem = new LineItem();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "line_item_id":
+                    lineItem.setLineItemId(reader.nextString());
+                    break;
+                case "account_id":
+                    lineItem.setAccountId(reader.nextString());
+                    break;
+                case "account_name":
+                    lineItem.setAccountName(reader.nextString());
+                    break;
+                case "description":
+                    lineItem.setDescription(reader.nextString());
+                    break;
+                case "rate":
+                    lineItem.setRate(reader.nextDouble());
+                    break;
+                case "bcy_rate":
+                    lineItem.setBcyRate(reader.nextDouble());
+                    break;
+                case "quantity":
+                    lineItem.setQuantity(reader.nextDouble());
+                    break;
+                case "tax_id":
+                    lineItem.setTaxId(reader.nextString());
+                    break;
+                case "tax_name":
+                    lineItem.setTaxName(reader.nextString());
+                    break;
+                case "tax_type":
+                    lineItem.setTaxType(reader.nextString());
+                    break;
+                case "tax_percentage":
+                    lineItem.setTaxPercentage(reader.nextDouble());
+                    break;
+                case "item_total":
+                    lineItem.setItemTotal(reader.nextDouble());
+                    break;
+                case "item_order":
+                    lineItem.setItemOrder(reader.nextInt());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        bills.setTaxes(taxesList);
+        return lineItem;
+    }
 
-        JSONObject billingAddress = bill.getJSONObject("billing_address"); //No I18N
+    /**
+     * Read a tax.
+     */
 
-        Address billingAddressObj = new Address();
+    private Tax readTax(JsonReader reader) throws Exception {
+
+        Tax tax = new Tax();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "tax_name":
+                    tax.setTaxName(reader.nextString());
+                    break;
+                case "tax_amount":
+                    tax.setTaxAmount(reader.nextDouble());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        billingAddressObj.setAddress(billingAddress.getString("address"));
-        billingAddressObj.setCity(billingAddress.getString("city"));
-        billingAddressObj.setState(billingAddress.getString("state"));
-        billingAddressObj.setZip(billingAddress.getString("zip"));
-        billingAddressObj.setCountry(billingAddress.getString("country"));
-        billingAddressObj.setFax(billingAddress.getString("fax"));
+        return tax;
+    }
 
-        bills.setBillingAddress(billingAddressObj);
+    /**
+     * Read an address.
+     */
 
-        JSONArray payments = bill.getJSONArray("payments"); //No I18N
+    private Address readAddress(JsonReader reader) throws Exception {
+
+        Address address = new Address();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "address":
+                    address.setAddress(reader.nextString());
+                    break;
+                case "city":
+                    address.setCity(reader.nextString());
+                    break;
+                case "state":
+                    address.setState(reader.nextString());
+                    break;
+                case "zip":
+                    address.setZip(reader.nextString());
+                    break;
+                case "country":
+                    address.setCountry(reader.nextString());
+                    break;
+                case "fax":
+                    address.setFax(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        List<Payment> paymentsList = new ArrayList<Payment>();
+        return address;
+    }
 
-        for (int k = 0; k < payments.length(); k++) {
-            Payment payment = new Payment();
+    /**
+     * Parse the json response and returns the BillList object.
+     *
+     * @param response This json response contains list of bills details.
+     * @return Returns the BillList object.
+     * @deprecated Use {@link #getBills(Reader)}.
+     */
 
-            payment.setPaymentId(payments.getJSONObject(k).getString("payment_id"));
-            payment.setBillId(payments.getJSONObject(k).getString("bill_id"));
-            payment.setBillPaymentId(payments.getJSONObject(k).getString("bill_payment_id"));
-            payment.setPaymentMode(payments.getJSONObject(k).getString("payment_mode"));
-            payment.setDescription(payments.getJSONObject(k).getString("description"));
-            payment.setDate(payments.getJSONObject(k).getString("date"));
-            payment.setReferenceNumber(payments.getJSONObject(k).getString("reference_number"));
-            payment.setExchangeRate(payments.getJSONObject(k).getDouble("exchange_rate"));    //No I18N
-            payment.setAmount(payments.getJSONObject(k).getDouble("amount"));        //No I18N
-            payment.setPaidThroughAccountId(payments.getJSONObject(k).getString("paid_through_account_id"));
-            payment.setPaidThroughAccountName(payments.getJSONObject(k).getString("paid_through_account_name"));
-            payment.setIsSingleBillPayment(payments.getJSONObject(k).getBoolean("is_single_bill_payment")); //No I18N
+    @Deprecated
+    public BillList getBills(String response) throws Exception {
+        return getBills(new StringReader(response));
+    }
 
-            paymentsList.add(k, payment);
-        }
+    /**
+     * Parse the json response and returns the BillList object.
+     *
+     * @param response This json response contains list of bills details.
+     * @return Returns the BillList object.
+     */
 
-        bills.setPayments(paymentsList);
+    public BillList getBills(Reader response) throws Exception {
+        return getBills(response, false);
+    }
 
-        return bills;
+    /**
+     * Parse the json response and returns the BillList object.
+     *
+     * @param response This json response contains list of bills details.
+     * @param lazy     Whether a row is made into its model object only when it is first got from the list.
+     * @return Returns the BillList object.
+     */
+
+    public BillList getBills(Reader response, boolean lazy) throws Exception {
+        return getBills(response, lazy, null);
     }
 
     /**
      * Parse the json response and returns the BillList object.
      *
      * @param response This json response contains list of bills details.
+     * @param lazy     Whether a row is made into its model object only when it is first got from the list.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
      * @return Returns the BillList object.
      */
 
-    public BillList getBills(String response) throws Exception {
+    public BillList getBills(Reader response, boolean lazy, Set<String> fields) throws Exception {
 
         BillList billList = new BillList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONArray jsonArray = jsonObject.getJSONArray("bills");    //No I18N
-
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Bill bill = new Bill();
-
-            bill.setBillId(jsonArray.getJSONObject(i).getString("bill_id"));
-            bill.setVendorId(jsonArray.getJSONObject(i).getString("vendor_id"));
-            bill.setVendorName(jsonArray.getJSONObject(i).getString("vendor_name"));
-            bill.setStatus(jsonArray.getJSONObject(i).getString("status"));
-            bill.setBillNumber(jsonArray.getJSONObject(i).getString("bill_number"));
-            bill.setReferenceNumber(jsonArray.getJSONObject(i).getString("reference_number"));
-            bill.setDate(jsonArray.getJSONObject(i).getString("date"));
-            bill.setDueDate(jsonArray.getJSONObject(i).getString("due_date"));
-            bill.setDueDays(jsonArray.getJSONObject(i).getString("due_days"));
-            bill.setCurrencyId(jsonArray.getJSONObject(i).getString("currency_id"));
-            bill.setCurrencyCode(jsonArray.getJSONObject(i).getString("currency_code"));
-            bill.setTotal(jsonArray.getJSONObject(i).getDouble("total"));        //No I18N
-            bill.setBalance(jsonArray.getJSONObject(i).getDouble("balance"));    //No I18N
-            bill.setCreatedTime(jsonArray.getJSONObject(i).getString("created_time"));
-
-            billList.add(bill);
-        }
+        billList.setPageContext(ResponseReader.readRows(response, "bills", billList, "bill_id", "total", ResponseReader.project(this::readBill, fields, BILL_FIELDS), lazy)); //No I18N
 
-        PageContext pageContext = new PageContext();
+        return billList;
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    }
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page"));    //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+    /**
+     * Read a bill.
+     */
 
-        billList.setPageContext(pageContext);
+    private Bill readBill(JsonReader reader) throws Exception {
+
+        Bill bill = new Bill();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "bill_id":
+                    bill.setBillId(reader.nextString());
+                    break;
+                case "vendor_id":
+                    bill.setVendorId(reader.nextString());
+                    break;
+                case "vendor_name":
+                    bill.setVendorName(reader.nextString());
+                    break;
+                case "status":
+                    bill.setStatus(reader.nextString());
+                    break;
+                case "bill_number":
+                    bill.setBillNumber(reader.nextString());
+                    break;
+                case "reference_number":
+                    bill.setReferenceNumber(reader.nextString());
+                    break;
+                case "date":
+                    bill.setDate(reader.nextString());
+                    break;
+                case "due_date":
+                    bill.setDueDate(reader.nextString());
+                    break;
+                case "due_days":
+                    bill.setDueDays(reader.nextString());
+                    break;
+                case "currency_id":
+                    bill.setCurrencyId(reader.nextString());
+                    break;
+                case "currency_code":
+                    bill.setCurrencyCode(reader.nextString());
+                    break;
+                case "total":
+                    bill.setTotal(reader.nextDouble());
+                    break;
+                case "balance":
+                    bill.setBalance(reader.nextDouble());
+                    break;
+                case "created_time":
+                    bill.setCreatedTime(reader.nextString());
+                    break;
+                case "unused_credits_payable_amount":
+                    bill.setUnusedCreditsPayableAmount(reader.nextDouble());
+                    break;
+                case "due_by_days":
+                    bill.setDueByDays(reader.nextString());
+                    break;
+                case "due_in_days":
+                    bill.setDueInDays(reader.nextString());
+                    break;
+                case "currency_symbol":
+                    bill.setCurrencySymbol(reader.nextString());
+                    break;
+                case "price_precision":
+                    bill.setPricePrecision(reader.nextInt());
+                    break;
+                case "exchange_rate":
+                    bill.setExchangeRate(reader.nextDouble());
+                    break;
+                case "sub_total":
+                    bill.setSubTotal(reader.nextDouble());
+                    break;
+                case "tax_total":
+                    bill.setTaxTotal(reader.nextDouble());
+                    break;
+                case "payment_made":
+                    bill.setPaymentMade(reader.nextDouble());
+                    break;
+                case "last_modified_time":
+                    bill.setLastModifiedTime(reader.nextString());
+                    break;
+                case "reference_id":
+                    bill.setReferenceId(reader.nextString());
+                    break;
+                case "notes":
+                    bill.setNotes(reader.nextString());
+                    break;
+                case "terms":
+                    bill.setTerms(reader.nextString());
+                    break;
+                case "attachment_name":
+                    bill.setAttachmentName(reader.nextString());
+                    break;
+                case "line_items":
+                    bill.setLineItems(ResponseReader.readArray(reader, new ArrayList<LineItem>(), this::readLineItem));
+                    break;
+                case "taxes":
+                    bill.setTaxes(ResponseReader.readArray(reader, new ArrayList<Tax>(), this::readTax));
+                    break;
+                case "billing_address":
+                    bill.setBillingAddress(readAddress(reader));
+                    break;
+                case "payments":
+                    bill.setPayments(ResponseReader.readArray(reader, new ArrayList<Payment>(), this::readPayment));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        return billList;
+        return bill;
     }
 
     /**
@@ -197,14 +381,24 @@ public class BillParser {
      *
      * @param response This json response contains the success message of post or update or delete requests.
      * @return Returns the success message.
+     * @deprecated Use {@link #getMessage(Reader)}.
      */
 
+    @Deprecated
     public String getMessage(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getMessage(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns a string object.
+     *
+     * @param response This json response contains the success message of post or update or delete requests.
+     * @return Returns the success message.
+     */
 
-        String success = jsonObject.getString("message");
+    public String getMessage(Reader response) throws Exception {
 
-        return success;
+        return ResponseReader.readObject(response, "message", JsonReader::nextString); //No I18N
     }
 
     /**
@@ -212,37 +406,106 @@ public class BillParser {
      *
      * @param response This json response contains list of payments details of the bill.
      * @return Returns the PaymentList object.
+     * @deprecated Use {@link #getPayments(Reader)}.
      */
 
+    @Deprecated
     public PaymentList getPayments(String response) throws Exception {
+        return getPayments(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the PaymentList object.
+     *
+     * @param response This json response contains list of payments details of the bill.
+     * @return Returns the PaymentList object.
+     */
+
+    public PaymentList getPayments(Reader response) throws Exception {
+        return getPayments(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the PaymentList object.
+     *
+     * @param response This json response contains list of payments details of the bill.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the PaymentList object.
+     */
+
+    public PaymentList getPayments(Reader response, Set<String> fields) throws Exception {
 
         PaymentList paymentList = new PaymentList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        ResponseReader.readList(response, "payments", paymentList, ResponseReader.project(this::readPayment, fields, PAYMENT_FIELDS)); //No I18N
 
-        JSONArray jsonArray = jsonObject.getJSONArray("payments"); //No I18N
+        return paymentList;
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Payment payment = new Payment();
+    }
 
-            payment.setPaymentId(jsonArray.getJSONObject(i).getString("payment_id"));
-            payment.setBillId(jsonArray.getJSONObject(i).getString("bill_id"));
-            payment.setBillPaymentId(jsonArray.getJSONObject(i).getString("bill_payment_id"));
-            payment.setVendorId(jsonArray.getJSONObject(i).getString("vendor_id"));
-            payment.setVendorName(jsonArray.getJSONObject(i).getString("vendor_name"));
-            payment.setPaymentMode(jsonArray.getJSONObject(i).getString("payment_mode"));
-            payment.setDescription(jsonArray.getJSONObject(i).getString("description"));
-            payment.setDate(jsonArray.getJSONObject(i).getString("date"));
-            payment.setReferenceNumber(jsonArray.getJSONObject(i).getString("reference_number"));
-            payment.setExchangeRate(jsonArray.getJSONObject(i).getDouble("exchange_rate")); //No I18N
-            payment.setAmount(jsonArray.getJSONObject(i).getDouble("amount"));        //No I18N
-            payment.setPaidThrough(jsonArray.getJSONObject(i).getString("paid_through"));
-            payment.setIsSingleBillPayment(jsonArray.getJSONObject(i).getBoolean("is_single_bill_payment")); //No I18N
+    /**
+     * Read a payment.
+     */
 
-            paymentList.add(payment);
+    private Payment readPayment(JsonReader reader) throws Exception {
+
+        Payment payment = new Payment();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "payment_id":
+                    payment.setPaymentId(reader.nextString());
+                    break;
+                case "bill_id":
+                    payment.setBillId(reader.nextString());
+                    break;
+                case "bill_payment_id":
+                    payment.setBillPaymentId(reader.nextString());
+                    break;
+                case "vendor_id":
+                    payment.setVendorId(reader.nextString());
+                    break;
+                case "vendor_name":
+                    payment.setVendorName(reader.nextString());
+                    break;
+                case "payment_mode":
+                    payment.setPaymentMode(reader.nextString());
+                    break;
+                case "description":
+                    payment.setDescription(reader.nextString());
+                    break;
+                case "date":
+                    payment.setDate(reader.nextString());
+                    break;
+                case "reference_number":
+                    payment.setReferenceNumber(reader.nextString());
+                    break;
+                case "exchange_rate":
+                    payment.setExchangeRate(reader.nextDouble());
+                    break;
+                case "amount":
+                    payment.setAmount(reader.nextDouble());
+                    break;
+                case "paid_through":
+                    payment.setPaidThrough(reader.nextString());
+                    break;
+                case "is_single_bill_payment":
+                    payment.setIsSingleBillPayment(reader.nextBoolean());
+                    break;
+                case "paid_through_account_id":
+                    payment.setPaidThroughAccountId(reader.nextString());
+                    break;
+                case "paid_through_account_name":
+                    payment.setPaidThroughAccountName(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return paymentList;
+        return payment;
     }
 
     /**
@@ -250,36 +513,97 @@ public class BillParser {
      *
      * @param response This json response contains list of comments details of the bill.
      * @return Returns the CommentList object.
+     * @deprecated Use {@link #getComments(Reader)}.
      */
 
+    @Deprecated
     public CommentList getComments(String response) throws Exception {
+        return getComments(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the CommentList object.
+     *
+     * @param response This json response contains list of comments details of the bill.
+     * @return Returns the CommentList object.
+     */
+
+    public CommentList getComments(Reader response) throws Exception {
+        return getComments(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the CommentList object.
+     *
+     * @param response This json response contains list of comments details of the bill.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the CommentList object.
+     */
+
+    public CommentList getComments(Reader response, Set<String> fields) throws Exception {
 
         CommentList commentList = new CommentList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        ResponseReader.readList(response, "comments", commentList, ResponseReader.project(this::readComment, fields, COMMENT_FIELDS)); //No I18N
 
-        JSONArray jsonArray = jsonObject.getJSONArray("comments"); //No I18N
+        return commentList;
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Comment comment = new Comment();
+    }
 
-            comment.setCommentId(jsonArray.getJSONObject(i).getString("comment_id"));
-            comment.setDescription(jsonArray.getJSONObject(i).getString("description"));
-            comment.setBillId(jsonArray.getJSONObject(i).getString("bill_id"));
-            comment.setCommentedById(jsonArray.getJSONObject(i).getString("commented_by_id"));
-            comment.setCommentedBy(jsonArray.getJSONObject(i).getString("commented_by"));
-            comment.setCommentType(jsonArray.getJSONObject(i).getString("comment_type"));
-            comment.setDate(jsonArray.getJSONObject(i).getString("date"));
-            comment.setDateDescription(jsonArray.getJSONObject(i).getString("date_description"));
-            comment.setTime(jsonArray.getJSONObject(i).getString("time"));
-            comment.setTransactionId(jsonArray.getJSONObject(i).getString("transaction_id"));
-            comment.setTransactionType(jsonArray.getJSONObject(i).getString("transaction_type"));
-            comment.setOperationType(jsonArray.getJSONObject(i).getString("operation_type"));
+    /**
+     * Read a comment of the list.
+     */
 
-            commentList.add(comment);
+    private Comment readComment(JsonReader reader) throws Exception {
+
+        Comment comment = new Comment();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "comment_id":
+                    comment.setCommentId(reader.nextString());
+                    break;
+                case "description":
+                    comment.setDescription(reader.nextString());
+                    break;
+                case "bill_id":
+                    comment.setBillId(reader.nextString());
+                    break;
+                case "commented_by_id":
+                    comment.setCommentedById(reader.nextString());
+                    break;
+                case "commented_by":
+                    comment.setCommentedBy(reader.nextString());
+                    break;
+                case "comment_type":
+                    comment.setCommentType(reader.nextString());
+                    break;
+                case "date":
+                    comment.setDate(reader.nextString());
+                    break;
+                case "date_description":
+                    comment.setDateDescription(reader.nextString());
+                    break;
+                case "time":
+                    comment.setTime(reader.nextString());
+                    break;
+                case "transaction_id":
+                    comment.setTransactionId(reader.nextString());
+                    break;
+                case "transaction_type":
+                    comment.setTransactionType(reader.nextString());
+                    break;
+                case "operation_type":
+                    comment.setOperationType(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return commentList;
+        return comment;
     }
 
     /**
@@ -287,26 +611,36 @@ public class BillParser {
      *
      * @param response This json response contains the comment details of the bill.
      * @return Returns the Comment object.
+     * @deprecated Use {@link #getComment(Reader)}.
      */
 
+    @Deprecated
     public Comment getComment(String response) throws Exception {
-        Comment comments = new Comment();
+        return getComment(new StringReader(response));
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the json response and returns the Comment object.
+     *
+     * @param response This json response contains the comment details of the bill.
+     * @return Returns the Comment object.
+     */
 
-        JSONObject comment = jsonObject.getJSONObject("comment"); //No I18N
+    public Comment getComment(Reader response) throws Exception {
+        return getComment(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the Comment object.
+     *
+     * @param response This json response contains the comment details of the bill.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Comment object.
+     */
 
-        comments.setCommentId(comment.getString("comment_id"));
-        comments.setDescription(comment.getString("description"));
-        comments.setBillId(comment.getString("bill_id"));
-        comments.setCommentedById(comment.getString("commented_by_id"));
-        comments.setCommentedBy(comment.getString("commented_by"));
-        comments.setCommentType(comment.getString("comment_type"));
-        comments.setDate(comment.getString("date"));
-        comments.setDateDescription(comment.getString("date_description"));
-        comments.setTime(comment.getString("time"));
+    public Comment getComment(Reader response, Set<String> fields) throws Exception {
 
-        return comments;
+        return ResponseReader.readObject(response, "comment", ResponseReader.project(this::readComment, fields, COMMENT_FIELDS)); //No I18N
     }
 }
 
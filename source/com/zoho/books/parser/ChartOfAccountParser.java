@@ -3,8 +3,11 @@
 package com.zoho.books.parser;
 
 import com.zoho.books.model.*;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.zoho.books.util.JsonReader;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Set;
 
 /**
  * ChartOfAccountParser is used to parse the json response and make it into the respective objects.
@@ -12,28 +15,60 @@ import org.json.JSONObject;
 
 public class ChartOfAccountParser {
 
+    /**
+     * Names of the fields read from a chart of account.
+     */
+
+    private static final Set<String> CHART_OF_ACCOUNT_FIELDS = Set.of("account_id", "account_name", //No I18N
+            "account_type", "is_active", "is_user_created", "is_involved_in_transaction", //No I18N
+            "is_system_account", "account_type_formatted", "description"); //No I18N
+
+    /**
+     * Names of the fields read from a transaction of the list. An empty debit or credit amount is read as 0.
+     */
+
+    private static final Set<String> TRANSACTION_FIELDS = Set.of("categorized_transaction_id", //No I18N
+            "transaction_type", "transaction_id", "transaction_date", "transaction_type_formatted", //No I18N
+            "account_id", "customer_id", "payee", "description", "entry_number", "currency_id", //No I18N
+            "currency_code", "debit_or_credit", "offset_account_name", "reference_number", "debit_amount", //No I18N
+            "credit_amount"); //No I18N
+
+
     /**
      * Parse the json response and returns the ChartOfAccount object.
      *
      * @param response This json response contains the chartofaccount details.
      * @return Returns the ChartOfAccount object.
+     * @deprecated Use {@link #getChartOfAccount(Reader)}.
      */
 
+    @Deprecated
     public ChartOfAccount getChartOfAccount(String response) throws Exception {
-        ChartOfAccount chartOfAccounts = new ChartOfAccount();
+        return getChartOfAccount(new StringReader(response));
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the json response and returns the ChartOfAccount object.
+     *
+     * @param response This json response contains the chartofaccount details.
+     * @return Returns the ChartOfAccount object.
+     */
+
+    public ChartOfAccount getChartOfAccount(Reader response) throws Exception {
+        return getChartOfAccount(response, null);
+    }
 
-        JSONObject chartOfAccount = jsonObject.getJSONObject("chart_of_account"); //No I18N
+    /**
+     * Parse the json response and returns the ChartOfAccount object.
+     *
+     * @param response This json response contains the chartofaccount details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the ChartOfAccount object.
+     */
 
-        chartOfAccounts.setAccountId(chartOfAccount.getString("account_id"));
-        chartOfAccounts.setAccountName(chartOfAccount.getString("account_name"));
-        chartOfAccounts.setIsActive(chartOfAccount.getBoolean("is_active"));      //No I18N
-        chartOfAccounts.setAccountType(chartOfAccount.getString("account_type"));
-        chartOfAccounts.setAccountTypeFormatted(chartOfAccount.getString("account_type_formatted"));
-        chartOfAccounts.setDescription(chartOfAccount.getString("description"));
+    public ChartOfAccount getChartOfAccount(Reader response, Set<String> fields) throws Exception {
 
-        return chartOfAccounts;
+        return ResponseReader.readObject(response, "chart_of_account", ResponseReader.project(this::readChartOfAccount, fields, CHART_OF_ACCOUNT_FIELDS)); //No I18N
     }
 
     /**
@@ -41,107 +76,200 @@ public class ChartOfAccountParser {
      *
      * @param response This json response contains list of chartofaccounts details.
      * @return Returns the ChartOfAccountList object.
+     * @deprecated Use {@link #getChartOfAccounts(Reader)}.
      */
 
+    @Deprecated
     public ChartOfAccountList getChartOfAccounts(String response) throws Exception {
+        return getChartOfAccounts(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the ChartOfAccountList object.
+     *
+     * @param response This json response contains list of chartofaccounts details.
+     * @return Returns the ChartOfAccountList object.
+     */
+
+    public ChartOfAccountList getChartOfAccounts(Reader response) throws Exception {
+        return getChartOfAccounts(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the ChartOfAccountList object.
+     *
+     * @param response This json response contains list of chartofaccounts details.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the ChartOfAccountList object.
+     */
+
+    public ChartOfAccountList getChartOfAccounts(Reader response, Set<String> fields) throws Exception {
 
         ChartOfAccountList chartOfAccountList = new ChartOfAccountList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        chartOfAccountList.setPageContext(ResponseReader.readList(response, "chartofaccounts", chartOfAccountList, ResponseReader.project(this::readChartOfAccount, fields, CHART_OF_ACCOUNT_FIELDS))); //No I18N
 
-        JSONArray accounts = jsonObject.getJSONArray("chartofaccounts"); //No I18N
+        return chartOfAccountList;
 
-        for (int i = 0; i < accounts.length(); i++) {
-            ChartOfAccount chartofAccount = new ChartOfAccount();
+    }
 
-            chartofAccount.setAccountId(accounts.getJSONObject(i).getString("account_id"));
-            chartofAccount.setAccountName(accounts.getJSONObject(i).getString("account_name"));
-            chartofAccount.setAccountType(accounts.getJSONObject(i).getString("account_type"));
-            chartofAccount.setIsActive(accounts.getJSONObject(i).getBoolean("is_active"));            //No I18N
-            chartofAccount.setIsUserCreated(accounts.getJSONObject(i).getBoolean("is_user_created"));    //No I18N
-            chartofAccount.setIsInvolvedInTransaction(accounts.getJSONObject(i).getBoolean("is_involved_in_transaction")); //No I18N
-            chartofAccount.setIsSystemAccount(accounts.getJSONObject(i).getBoolean("is_system_account"));    //No I18N
+    /**
+     * Read a chart of account.
+     */
 
-            chartOfAccountList.add(chartofAccount);
+    private ChartOfAccount readChartOfAccount(JsonReader reader) throws Exception {
+
+        ChartOfAccount chartofAccount = new ChartOfAccount();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "account_id":
+                    chartofAccount.setAccountId(reader.nextString());
+                    break;
+                case "account_name":
+                    chartofAccount.setAccountName(reader.nextString());
+                    break;
+                case "account_type":
+                    chartofAccount.setAccountType(reader.nextString());
+                    break;
+                case "is_active":
+                    chartofAccount.setIsActive(reader.nextBoolean());
+                    break;
+                case "is_user_created":
+                    chartofAccount.setIsUserCreated(reader.nextBoolean());
+                    break;
+                case "is_involved_in_transaction":
+                    chartofAccount.setIsInvolvedInTransaction(reader.nextBoolean());
+                    break;
+                case "is_system_account":
+                    chartofAccount.setIsSystemAccount(reader.nextBoolean());
+                    break;
+                case "account_type_formatted":
+                    chartofAccount.setAccountTypeFormatted(reader.nextString());
+                    break;
+                case "description":
+                    chartofAccount.setDescription(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        PageContext pageContext = new PageContext();
+        return chartofAccount;
+    }
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    /**
+     * Parse the json response and returns the TransactionList object.
+     *
+     * @param response This json response contains ist of transactions details.
+     * @return Returns the TransactionList object.
+     * @deprecated Use {@link #getTransactions(Reader)}.
+     */
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+    @Deprecated
+    public TransactionList getTransactions(String response) throws Exception {
+        return getTransactions(new StringReader(response));
+    }
 
-        chartOfAccountList.setPageContext(pageContext);
+    /**
+     * Parse the json response and returns the TransactionList object.
+     *
+     * @param response This json response contains ist of transactions details.
+     * @return Returns the TransactionList object.
+     */
 
-        return chartOfAccountList;
+    public TransactionList getTransactions(Reader response) throws Exception {
+        return getTransactions(response, null);
     }
 
     /**
      * Parse the json response and returns the TransactionList object.
      *
      * @param response This json response contains ist of transactions details.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
      * @return Returns the TransactionList object.
      */
 
-    public TransactionList getTransactions(String response) throws Exception {
+    public TransactionList getTransactions(Reader response, Set<String> fields) throws Exception {
 
         TransactionList transactionList = new TransactionList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONArray jsonArray = jsonObject.getJSONArray("transactions"); //No I18N
-
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Transaction transaction = new Transaction();
-
-            transaction.setCategorizedTransactionId(jsonArray.getJSONObject(i).getString("categorized_transaction_id"));
-            transaction.setTransactionType(jsonArray.getJSONObject(i).getString("transaction_type"));
-            transaction.setTransactionId(jsonArray.getJSONObject(i).getString("transaction_id"));
-            transaction.setTransactionDate(jsonArray.getJSONObject(i).getString("transaction_date"));
-            transaction.setTransactionTypeFormatted(jsonArray.getJSONObject(i).getString("transaction_type_formatted"));
-            transaction.setAccountId(jsonArray.getJSONObject(i).getString("account_id"));
-            transaction.setCustomerId(jsonArray.getJSONObject(i).getString("customer_id"));
-            transaction.setPayee(jsonArray.getJSONObject(i).getString("payee"));
-            transaction.setDescription(jsonArray.getJSONObject(i).getString("description"));
-            transaction.setEntryNumber(jsonArray.getJSONObject(i).getString("entry_number"));
-            transaction.setCurrencyId(jsonArray.getJSONObject(i).getString("currency_id"));
-            transaction.setCurrencyCode(jsonArray.getJSONObject(i).getString("currency_code"));
-            transaction.setDebitOrCredit(jsonArray.getJSONObject(i).getString("debit_or_credit"));
-            transaction.setOffsetAccountName(jsonArray.getJSONObject(i).getString("offset_account_name"));
-            transaction.setReferenceNumber(jsonArray.getJSONObject(i).getString("reference_number"));
-            if (!jsonArray.getJSONObject(i).getString("debit_amount").equals("")) {
-                transaction.setDebitAmount(jsonArray.getJSONObject(i).getDouble("debit_amount")); //No I18N
-            }
-            if (!jsonArray.getJSONObject(i).getString("credit_amount").equals("")) {
-                transaction.setCreditAmount(jsonArray.getJSONObject(i).getDouble("credit_amount")); //No I18N
-            }
-
-            transactionList.add(transaction);
-        }
+        transactionList.setPageContext(ResponseReader.readList(response, "transactions", transactionList, ResponseReader.project(this::readTransaction, fields, TRANSACTION_FIELDS))); //No I18N
 
-        PageContext pageContext = new PageContext();
+        return transactionList;
+    }
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    /**
+     * Read a transaction of the list. An empty debit or credit amount is read as 0.
+     */
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        if (pagecontext.has("report_name")) {
-            pageContext.setReportName(pagecontext.getString("report_name"));
+    private Transaction readTransaction(JsonReader reader) throws Exception {
+
+        Transaction transaction = new Transaction();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "categorized_transaction_id":
+                    transaction.setCategorizedTransactionId(reader.nextString());
+                    break;
+                case "transaction_type":
+                    transaction.setTransactionType(reader.nextString());
+                    break;
+                case "transaction_id":
+                    transaction.setTransactionId(reader.nextString());
+                    break;
+                case "transaction_date":
+                    transaction.setTransactionDate(reader.nextString());
+                    break;
+                case "transaction_type_formatted":
+                    transaction.setTransactionTypeFormatted(reader.nextString());
+                    break;
+                case "account_id":
+                    transaction.setAccountId(reader.nextString());
+                    break;
+                case "customer_id":
+                    transaction.setCustomerId(reader.nextString());
+                    break;
+                case "payee":
+                    transaction.setPayee(reader.nextString());
+                    break;
+                case "description":
+                    transaction.setDescription(reader.nextString());
+                    break;
+                case "entry_number":
+                    transaction.setEntryNumber(reader.nextString());
+                    break;
+                case "currency_id":
+                    transaction.setCurrencyId(reader.nextString());
+                    break;
+                case "currency_code":
+                    transaction.setCurrencyCode(reader.nextString());
+                    break;
+                case "debit_or_credit":
+                    transaction.setDebitOrCredit(reader.nextString());
+                    break;
+                case "offset_account_name":
+                    transaction.setOffsetAccountName(reader.nextString());
+                    break;
+                case "reference_number":
+                    transaction.setReferenceNumber(reader.nextString());
+                    break;
+                case "debit_amount":
+                    transaction.setDebitAmount(reader.nextDouble());
+                    break;
+                case "credit_amount":
+                    transaction.setCreditAmount(reader.nextDouble());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+        reader.endObject();
 
-        transactionList.setPageContext(pageContext);
-
-        return transactionList;
+        return transaction;
     }
 
 
@@ -150,13 +278,23 @@ public class ChartOfAccountParser {
      *
      * @param response This json response contains the success message of post or update or delete requests.
      * @return Returns the success message.
+     * @deprecated Use {@link #getMessage(Reader)}.
      */
 
+    @Deprecated
     public String getMessage(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getMessage(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns a string object.
+     *
+     * @param response This json response contains the success message of post or update or delete requests.
+     * @return Returns the success message.
+     */
 
-        String success = jsonObject.getString("message");
+    public String getMessage(Reader response) throws Exception {
 
-        return success;
+        return ResponseReader.readObject(response, "message", JsonReader::nextString); //No I18N
     }
 }
@@ -3,11 +3,12 @@
 package com.zoho.books.parser;
 
 import com.zoho.books.model.*;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.zoho.books.util.JsonReader;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 
 /**
  * ContactParser is used to parse the json response and make it into the respective objects.
@@ -15,274 +16,430 @@ import java.util.List;
 
 public class ContactParser {
 
+    /**
+     * Names of the fields read from a contact.
+     */
+
+    private static final Set<String> CONTACT_FIELDS = Set.of("contact_id", "contact_name", "contact_type", //No I18N
+            "status", "payment_terms", "payment_terms_label", "currency_id", "currency_code", //No I18N
+            "outstanding_receivable_amount", "unused_credits_receivable_amount", "first_name", "last_name", //No I18N
+            "email", "phone", "mobile", "created_time", "last_modified_time", "source", //No I18N
+            "is_linked_with_zohocrm", "company_name", "has_transaction", "is_crm_customer", //No I18N
+            "primary_contact_id", "currency_symbol", "outstanding_receivable_amount_bcy", //No I18N
+            "unused_credits_receivable_amount_bcy", "payment_reminder_enabled", "notes", "website", //No I18N
+            "contact_salutation", "price_precision", "pricebook_id", "pricebook_name", //No I18N
+            "associated_with_square", "track_1099", "tax_id_type", "tax_id_value", "is_taxable", "tax_id", //No I18N
+            "tax_authority_id", "tax_exemption_id", "billing_address", "shipping_address", "contact_persons", //No I18N
+            "default_templates"); //No I18N
+
+    /**
+     * Names of the fields read from a contact person.
+     */
+
+    private static final Set<String> CONTACT_PERSON_FIELDS = Set.of("contact_person_id", "salutation", //No I18N
+            "first_name", "last_name", "email", "phone", "mobile", "is_primary_contact", //No I18N
+            "is_added_in_portal", "can_invite", "contact_id"); //No I18N
+
+    /**
+     * Names of the fields read from an email.
+     */
+
+    private static final Set<String> EMAIL_FIELDS = Set.of("subject", "body", "file_name", //No I18N
+            "file_name_without_extension", "entity_id", "contact_id", "to_contacts", "from_emails"); //No I18N
+
+    /**
+     * Names of the fields read from a creditnote refund of the list.
+     */
+
+    private static final Set<String> CREDITNOTE_REFUND_FIELDS = Set.of("creditnote_refund_id", //No I18N
+            "creditnote_id", "date", "refund_mode", "reference_number", "creditnote_number", "customer_name", //No I18N
+            "description", "amount_bcy", "amount_fcy"); //No I18N
+
+    /**
+     * Names of the fields read from a comment of the list.
+     */
+
+    private static final Set<String> COMMENT_FIELDS = Set.of("comment_id", "description", "contact_id", //No I18N
+            "contact_name", "commented_by_id", "commented_by", "date", "date_description", "time", //No I18N
+            "is_entity_deleted", "transaction_id", "transaction_type", "operation_type"); //No I18N
+
+
     /**
      * Parse the json response and returns the Contact object.
      *
      * @param response This json Response contains the contact details.
      * @return Returns the Contact object.
+     * @deprecated Use {@link #getContact(Reader)}.
      */
 
+    @Deprecated
     public Contact getContact(String response) throws Exception {
-        Contact contacts = new Contact();
-
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONObject contact = jsonObject.getJSONObject("contact");    //No I18N
-
-        contacts.setContactId(contact.getString("contact_id"));
-        contacts.setContactName(contact.getString("contact_name"));
-        contacts.setCompanyName(contact.getString("company_name"));
-        contacts.setHasTransaction(contact.getBoolean("has_transaction"));    //No I18N
-        contacts.setContactType(contact.getString("contact_type"));
-        contacts.setIsCrmCustomer(contact.getBoolean("is_crm_customer"));    //No I18N
-        contacts.setPrimaryContactId(contact.getString("primary_contact_id"));
-        contacts.setPaymentTerms(contact.getInt("payment_terms"));        //No I18N
-        contacts.setPaymentTermsLabel(contact.getString("payment_terms_label"));
-        contacts.setCurrencyId(contact.getString("currency_id"));
-        contacts.setCurrencyCode(contact.getString("currency_code"));
-        contacts.setCurrencySymbol(contact.getString("currency_symbol"));
-        contacts.setOutstandingReceivableAmount(contact.getDouble("outstanding_receivable_amount"));        //No I18N
-        contacts.setOutstandingReceivableAmountBcy(contact.getDouble("outstanding_receivable_amount_bcy"));    //No I18N
-        contacts.setUnusedCreditsReceivableAmount(contact.getDouble("unused_credits_receivable_amount"));    //No I18N
-        contacts.setUnusedCreditsReceivableAmountBcy(contact.getDouble("unused_credits_receivable_amount_bcy"));//No I18N
-        contacts.setStatus(contact.getString("status"));
-        contacts.setPaymentReminderEnabled(contact.getBoolean("payment_reminder_enabled"));    //No I18N
-        contacts.setNotes(contact.getString("notes"));
-        contacts.setCreatedTime(contact.getString("created_time"));
-        contacts.setLastModifiedTime(contact.getString("last_modified_time"));
-
-        if (contact.has("website")) {
-            contacts.setWebsite(contact.getString("website"));
-        }
-        if (contact.has("contact_salutation")) {
-            contacts.setContactSalutation(contact.getString("contact_salutation"));
-        }
-        if (contact.has("source")) {
-            contacts.setSource(contact.getString("source"));
-        }
-        if (contact.has("is_linked_with_zohocrm")) {
-            contacts.setLinkedWithZohocrm(contact.getBoolean("is_linked_with_zohocrm"));    //No I18N
-        }
-        if (contact.has("price_precision")) {
-            contacts.setPricePrecision(contact.getInt("price_precision"));    //No I18N
-        }
-        if (contact.has("pricebook_id")) {
-            contacts.setPricebookId(contact.getString("pricebook_id"));
-        }
-        if (contact.has("pricebook_name")) {
-            contacts.setPricebookName(contact.getString("pricebook_name"));
-        }
-        if (contact.has("associated_with_square")) {
-            contacts.setAssociatedWithSquare(contact.getBoolean("associated_with_square"));    //No I18N
-        }
-
-        if (contact.has("track_1099")) {
-            contacts.setTrack1099(contact.getBoolean("track_1099"));    //No I18N
-        }
-        if (contact.has("tax_id_type")) {
-            contacts.setTaxIdType(contact.getString("tax_id_type"));
-        }
-        if (contact.has("tax_id_value")) {
-            contacts.setTaxIdValue(contact.getString("tax_id_value"));
-        }
-        if (contact.has("is_taxable")) {
-            contacts.setTaxable(contact.getBoolean("is_taxable"));    //No I18N
-        }
-        if (contact.has("tax_id")) {
-            contacts.setTaxId(contact.getString("tax_id"));
-        }
-        if (contact.has("tax_authority_id")) {
-            contacts.setTaxAuthorityId(contact.getString("tax_authority_id"));
-        }
-        if (contact.has("tax_exemption_id")) {
-            contacts.setTaxExemptionId(contact.getString("tax_exemption_id"));
-        }
-
-        JSONObject billingAddress = contact.getJSONObject("billing_address");    //No I18N
-
-        Address billingAddressObj = new Address();
+        return getContact(new StringReader(response));
+    }
 
-        billingAddressObj.setAddress(billingAddress.getString("address"));
-        billingAddressObj.setCity(billingAddress.getString("city"));
-        billingAddressObj.setState(billingAddress.getString("state"));
-        billingAddressObj.setZip(billingAddress.getString("zip"));
-        billingAddressObj.setCountry(billingAddress.getString("country"));
-        billingAddressObj.setFax(billingAddress.getString("fax"));
+    /**
+     * Parse the json response and returns the Contact object.
+     *
+     * @param response This json Response contains the contact details.
+     * @return Returns the Contact object.
+     */
 
-        contacts.setBillingAddress(billingAddressObj);
+    public Contact getContact(Reader response) throws Exception {
+        return getContact(response, null);
+    }
 
-        JSONObject shippingAddress = contact.getJSONObject("shipping_address"); //No I18N
+    /**
+     * Parse the json response and returns the Contact object.
+     *
+     * @param response This json Response contains the contact details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Contact object.
+     */
 
-        Address shippingAddressObj = new Address();
+    public Contact getContact(Reader response, Set<String> fields) throws Exception {
 
-        shippingAddressObj.setAddress(shippingAddress.getString("address"));
-        shippingAddressObj.setCity(shippingAddress.getString("city"));
-        shippingAddressObj.setState(shippingAddress.getString("state"));
-        shippingAddressObj.setZip(shippingAddress.getString("zip"));
-        shippingAddressObj.setCountry(shippingAddress.getString("country"));
-        shippingAddressObj.setFax(shippingAddress.getString("fax"));
+        return ResponseReader.readObject(response, "contact", ResponseReader.project(this::readContact, fields, CONTACT_FIELDS)); //No I18N
+    }
 
-        contacts.setShippingAddress(shippingAddressObj);
+    /**
+     * Read an address.
+     */
 
-        JSONArray contactPersons = contact.getJSONArray("contact_persons"); //No I18N
+    private Address readAddress(JsonReader reader) throws Exception {
+
+        Address address = new Address();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "address":
+                    address.setAddress(reader.nextString());
+                    break;
+                case "city":
+                    address.setCity(reader.nextString());
+                    break;
+                case "state":
+                    address.setState(reader.nextString());
+                    break;
+                case "zip":
+                    address.setZip(reader.nextString());
+                    break;
+                case "country":
+                    address.setCountry(reader.nextString());
+                    break;
+                case "fax":
+                    address.setFax(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        List<ContactPerson> contactPersonsList = new ArrayList<ContactPerson>();
+        return address;
+    }
 
-        for (int i = 0; i < contactPersons.length(); i++) {
-            ContactPerson contactPerson = new ContactPerson();
+    /**
+     * Read a default template.
+     */
 
-            contactPerson.setContactPersonId(contactPersons.getJSONObject(i).getString("contact_person_id"));
-            contactPerson.setSalutation(contactPersons.getJSONObject(i).getString("salutation"));
-            contactPerson.setFirstName(contactPersons.getJSONObject(i).getString("first_name"));
-            contactPerson.setLastName(contactPersons.getJSONObject(i).getString("last_name"));
-            contactPerson.setEmail(contactPersons.getJSONObject(i).getString("email"));
-            contactPerson.setPhone(contactPersons.getJSONObject(i).getString("phone"));
-            contactPerson.setMobile(contactPersons.getJSONObject(i).getString("mobile"));
-            contactPerson.setIsPrimaryContact(contactPersons.getJSONObject(i).getBoolean("is_primary_contact")); //No I18N
-            if (contactPersons.getJSONObject(i).has("is_added_in_portal")) {
-                contactPerson.setAddedInPortal(contactPersons.getJSONObject(i).getBoolean("is_added_in_portal"));    //No I18N
+    private DefaultTemplate readDefaultTemplate(JsonReader reader) throws Exception {
+
+        DefaultTemplate defaultTemplate = new DefaultTemplate();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "invoice_template_id":
+                    defaultTemplate.setInvoiceTemplateId(reader.nextString());
+                    break;
+                case "invoice_template_name":
+                    defaultTemplate.setInvoiceTemplateName(reader.nextString());
+                    break;
+                case "estimate_template_id":
+                    defaultTemplate.setEstimateTemplateId(reader.nextString());
+                    break;
+                case "estimate_template_name":
+                    defaultTemplate.setEstimateTemplateName(reader.nextString());
+                    break;
+                case "creditnote_template_id":
+                    defaultTemplate.setCreditnoteTemplateId(reader.nextString());
+                    break;
+                case "creditnote_template_name":
+                    defaultTemplate.setCreditnoteTemplateName(reader.nextString());
+                    break;
+                case "invoice_email_template_id":
+                    defaultTemplate.setInvoiceEmailTemplateId(reader.nextString());
+                    break;
+                case "invoice_email_template_name":
+                    defaultTemplate.setInvoiceEmailTemplateName(reader.nextString());
+                    break;
+                case "estimate_email_template_id":
+                    defaultTemplate.setEstimateEmailTemplateId(reader.nextString());
+                    break;
+                case "estimate_email_template_name":
+                    defaultTemplate.setEstimateEmailTemplateName(reader.nextString());
+                    break;
+                case "creditnote_email_template_id":
+                    defaultTemplate.setCreditnoteEmailTemplateId(reader.nextString());
+                    break;
+                case "creditnote_email_template_name":
+                    defaultTemplate.setCreditnoteEmailTemplateName(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
             }
-            if (contactPersons.getJSONObject(i).has("can_invite")) {
-                contactPerson.setCanInvite(contactPersons.getJSONObject(i).getBoolean("can_invite"));    //No I18N
-            }
-
-            contactPersonsList.add(i, contactPerson);
         }
+        reader.endObject();
 
-        contacts.setContactPersons(contactPersonsList);
+        return defaultTemplate;
+    }
 
-        JSONObject defaultTemplates = contact.getJSONObject("default_templates"); //No I18N
+    /**
+     * Parse the json response and returns the ContactList object.
+     *
+     * @param response This Response contains list of contacts details.
+     * @return Returns the ContactList object.
+     * @deprecated Use {@link #getContacts(Reader)}.
+     */
 
-        DefaultTemplate defaultTemplatesObj = new DefaultTemplate();
+    @Deprecated
+    public ContactList getContacts(String response) throws Exception {
+        return getContacts(new StringReader(response));
+    }
 
-        defaultTemplatesObj.setInvoiceTemplateId(defaultTemplates.getString("invoice_template_id"));
-        defaultTemplatesObj.setInvoiceTemplateName(defaultTemplates.getString("invoice_template_name"));
-        defaultTemplatesObj.setEstimateTemplateId(defaultTemplates.getString("estimate_template_id"));
-        defaultTemplatesObj.setEstimateTemplateName(defaultTemplates.getString("estimate_template_name"));
-        defaultTemplatesObj.setCreditnoteTemplateId(defaultTemplates.getString("creditnote_template_id"));
-        defaultTemplatesObj.setCreditnoteTemplateName(defaultTemplates.getString("creditnote_template_name"));
-        defaultTemplatesObj.setInvoiceEmailTemplateId(defaultTemplates.getString("invoice_email_template_id"));
-        defaultTemplatesObj.setInvoiceEmailTemplateName(defaultTemplates.getString("invoice_email_template_name"));
-        defaultTemplatesObj.setEstimateEmailTemplateId(defaultTemplates.getString("estimate_email_template_id"));
-        defaultTemplatesObj.setEstimateEmailTemplateName(defaultTemplates.getString("estimate_email_template_name"));
-        defaultTemplatesObj.setCreditnoteEmailTemplateId(defaultTemplates.getString("creditnote_email_template_id"));
-        defaultTemplatesObj.setCreditnoteEmailTemplateName(defaultTemplates.getString("creditnote_email_template_name"));
+    /**
+     * Parse the json response and returns the ContactList object.
+     *
+     * @param response This Response contains list of contacts details.
+     * @return Returns the ContactList object.
+     */
 
-        contacts.setDefaultTemplates(defaultTemplatesObj);
+    public ContactList getContacts(Reader response) throws Exception {
+        return getContacts(response, false);
+    }
 
-        return contacts;
+    /**
+     * Parse the json response and returns the ContactList object.
+     *
+     * @param response This Response contains list of contacts details.
+     * @param lazy     Whether a row is made into its model object only when it is first got from the list.
+     * @return Returns the ContactList object.
+     */
 
+    public ContactList getContacts(Reader response, boolean lazy) throws Exception {
+        return getContacts(response, lazy, null);
     }
 
     /**
      * Parse the json response and returns the ContactList object.
      *
      * @param response This Response contains list of contacts details.
+     * @param lazy     Whether a row is made into its model object only when it is first got from the list.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
      * @return Returns the ContactList object.
      */
 
-    public ContactList getContacts(String response) throws Exception {
+    public ContactList getContacts(Reader response, boolean lazy, Set<String> fields) throws Exception {
+
         ContactList contactList = new ContactList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONArray jsonArray = jsonObject.getJSONArray("contacts"); //No I18N
-
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Contact contact = new Contact();
-
-            contact.setContactId(jsonArray.getJSONObject(i).getString("contact_id"));
-            contact.setContactName(jsonArray.getJSONObject(i).getString("contact_name"));
-            contact.setContactType(jsonArray.getJSONObject(i).getString("contact_type"));
-            contact.setStatus(jsonArray.getJSONObject(i).getString("status"));
-            contact.setPaymentTerms(jsonArray.getJSONObject(i).getInt("payment_terms"));    //No I18N
-            contact.setPaymentTermsLabel(jsonArray.getJSONObject(i).getString("payment_terms_label"));
-            contact.setCurrencyId(jsonArray.getJSONObject(i).getString("currency_id"));
-            contact.setCurrencyCode(jsonArray.getJSONObject(i).getString("currency_code"));
-            contact.setOutstandingReceivableAmount(jsonArray.getJSONObject(i).getDouble("outstanding_receivable_amount")); //No I18N
-            contact.setUnusedCreditsReceivableAmount(jsonArray.getJSONObject(i).getDouble("unused_credits_receivable_amount"));//No I18N
-            contact.setFirstName(jsonArray.getJSONObject(i).getString("first_name"));
-            contact.setLastName(jsonArray.getJSONObject(i).getString("last_name"));
-            contact.setEmail(jsonArray.getJSONObject(i).getString("email"));
-            contact.setPhone(jsonArray.getJSONObject(i).getString("phone"));
-            contact.setMobile(jsonArray.getJSONObject(i).getString("mobile"));
-            contact.setCreatedTime(jsonArray.getJSONObject(i).getString("created_time"));
-            contact.setLastModifiedTime(jsonArray.getJSONObject(i).getString("last_modified_time"));
-            if (jsonArray.getJSONObject(i).has("source")) {
-                contact.setSource(jsonArray.getJSONObject(i).getString("source"));
-            }
-            if (jsonArray.getJSONObject(i).has("is_linked_with_zohocrm")) {
-                contact.setLinkedWithZohocrm(jsonArray.getJSONObject(i).getBoolean("is_linked_with_zohocrm"));    //No I18N
-            }
+        contactList.setPageContext(ResponseReader.readRows(response, "contacts", contactList, "contact_id", "outstanding_receivable_amount", ResponseReader.project(this::readContact, fields, CONTACT_FIELDS), lazy)); //No I18N
 
+        return contactList;
 
-            contactList.add(contact);
+    }
 
+    /**
+     * Read a contact.
+     */
+
+    private Contact readContact(JsonReader reader) throws Exception {
+
+        Contact contact = new Contact();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "contact_id":
+                    contact.setContactId(reader.nextString());
+                    break;
+                case "contact_name":
+                    contact.setContactName(reader.nextString());
+                    break;
+                case "contact_type":
+                    contact.setContactType(reader.nextString());
+                    break;
+                case "status":
+                    contact.setStatus(reader.nextString());
+                    break;
+                case "payment_terms":
+                    contact.setPaymentTerms(reader.nextInt());
+                    break;
+                case "payment_terms_label":
+                    contact.setPaymentTermsLabel(reader.nextString());
+                    break;
+                case "currency_id":
+                    contact.setCurrencyId(reader.nextString());
+                    break;
+                case "currency_code":
+                    contact.setCurrencyCode(reader.nextString());
+                    break;
+                case "outstanding_receivable_amount":
+                    contact.setOutstandingReceivableAmount(reader.nextDouble());
+                    break;
+                case "unused_credits_receivable_amount":
+                    contact.setUnusedCreditsReceivableAmount(reader.nextDouble());
+                    break;
+                case "first_name":
+                    contact.setFirstName(reader.nextString());
+                    break;
+                case "last_name":
+                    contact.setLastName(reader.nextString());
+                    break;
+                case "email":
+                    contact.setEmail(reader.nextString());
+                    break;
+                case "phone":
+                    contact.setPhone(reader.nextString());
+                    break;
+                case "mobile":
+                    contact.setMobile(reader.nextString());
+                    break;
+                case "created_time":
+                    contact.setCreatedTime(reader.nextString());
+                    break;
+                case "last_modified_time":
+                    contact.setLastModifiedTime(reader.nextString());
+                    break;
+                case "source":
+                    contact.setSource(reader.nextString());
+                    break;
+                case "is_linked_with_zohocrm":
+                    contact.setLinkedWithZohocrm(reader.nextBoolean());
+                    break;
+                case "company_name":
+                    contact.setCompanyName(reader.nextString());
+                    break;
+                case "has_transaction":
+                    contact.setHasTransaction(reader.nextBoolean());
+                    break;
+                case "is_crm_customer":
+                    contact.setIsCrmCustomer(reader.nextBoolean());
+                    break;
+                case "primary_contact_id":
+                    contact.setPrimaryContactId(reader.nextString());
+                    break;
+                case "currency_symbol":
+                    contact.setCurrencySymbol(reader.nextString());
+                    break;
+                case "outstanding_receivable_amount_bcy":
+                    contact.setOutstandingReceivableAmountBcy(reader.nextDouble());
+                    break;
+                case "unused_credits_receivable_amount_bcy":
+                    contact.setUnusedCreditsReceivableAmountBcy(reader.nextDouble());
+                    break;
+                case "payment_reminder_enabled":
+                    contact.setPaymentReminderEnabled(reader.nextBoolean());
+                    break;
+                case "notes":
+                    contact.setNotes(reader.nextString());
+                    break;
+                case "website":
+                    contact.setWebsite(reader.nextString());
+                    break;
+                case "contact_salutation":
+                    contact.setContactSalutation(reader.nextString());
+                    break;
+                case "price_precision":
+                    contact.setPricePrecision(reader.nextInt());
+                    break;
+                case "pricebook_id":
+                    contact.setPricebookId(reader.nextString());
+                    break;
+                case "pricebook_name":
+                    contact.setPricebookName(reader.nextString());
+                    break;
+                case "associated_with_square":
+                    contact.setAssociatedWithSquare(reader.nextBoolean());
+                    break;
+                case "track_1099":
+                    contact.setTrack1099(reader.nextBoolean());
+                    break;
+                case "tax_id_type":
+                    contact.setTaxIdType(reader.nextString());
+                    break;
+                case "tax_id_value":
+                    contact.setTaxIdValue(reader.nextString());
+                    break;
+                case "is_taxable":
+                    contact.setTaxable(reader.nextBoolean());
+                    break;
+                case "tax_id":
+                    contact.setTaxId(reader.nextString());
+                    break;
+                case "tax_authority_id":
+                    contact.setTaxAuthorityId(reader.nextString());
+                    break;
+                case "tax_exemption_id":
+                    contact.setTaxExemptionId(reader.nextString());
+                    break;
+                case "billing_address":
+                    contact.setBillingAddress(readAddress(reader));
+                    break;
+                case "shipping_address":
+                    contact.setShippingAddress(readAddress(reader));
+                    break;
+                case "contact_persons":
+                    contact.setContactPersons(ResponseReader.readArray(reader, new ArrayList<ContactPerson>(), this::readContactPerson));
+                    break;
+                case "default_templates":
+                    contact.setDefaultTemplates(readDefaultTemplate(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        PageContext pageContext = new PageContext();
+        return contact;
+    }
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    /**
+     * Parse the given json response and returns the ContactPerson object.
+     *
+     * @param response This json response contains the contact person details.
+     * @return Returns the ContactPerson object.
+     * @deprecated Use {@link #getContactPerson(Reader)}.
+     */
 
-        if (pagecontext.has("page")) {
-            pageContext.setPage(pagecontext.getInt("page")); //No I18N
-        }
-        if (pagecontext.has("per_page")) {
-            pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        }
-        if (pagecontext.has("has_more_page")) {
-            pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        }
-        if (pagecontext.has("report_name")) {
-            pageContext.setReportName(pagecontext.getString("report_name"));
-        }
-        if (pagecontext.has("applied_filter")) {
-            pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        }
-        if (pagecontext.has("sort_column")) {
-            pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        }
-        if (pagecontext.has("sort_order")) {
-            pageContext.setSortOrder(pagecontext.getString("sort_order"));
-        }
+    @Deprecated
+    public ContactPerson getContactPerson(String response) throws Exception {
+        return getContactPerson(new StringReader(response));
+    }
 
-        contactList.setPageContext(pageContext);
+    /**
+     * Parse the given json response and returns the ContactPerson object.
+     *
+     * @param response This json response contains the contact person details.
+     * @return Returns the ContactPerson object.
+     */
 
-        return contactList;
+    public ContactPerson getContactPerson(Reader response) throws Exception {
+        return getContactPerson(response, null);
     }
 
     /**
      * Parse the given json response and returns the ContactPerson object.
      *
      * @param response This json response contains the contact person details.
+     * @param fields   Names of the fields to read, or null to read every field.
      * @return Returns the ContactPerson object.
      */
 
-    public ContactPerson getContactPerson(String response) throws Exception {
-        ContactPerson contactPersons = new ContactPerson();
-
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONObject contactPerson = jsonObject.getJSONObject("contact_person"); //No I18N
-
-        contactPersons.setContactId(contactPerson.getString("contact_id"));
-        contactPersons.setContactPersonId(contactPerson.getString("contact_person_id"));
-        contactPersons.setSalutation(contactPerson.getString("salutation"));
-        contactPersons.setFirstName(contactPerson.getString("first_name"));
-        contactPersons.setLastName(contactPerson.getString("last_name"));
-        contactPersons.setEmail(contactPerson.getString("email"));
-        contactPersons.setPhone(contactPerson.getString("phone"));
-        contactPersons.setMobile(contactPerson.getString("mobile"));
-        contactPersons.setIsPrimaryContact(contactPerson.getBoolean("is_primary_contact")); //No I18N
-        if (contactPerson.has("is_added_in_portal")) {
-            contactPersons.setAddedInPortal(contactPerson.getBoolean("is_added_in_portal"));    //No I18N
-        }
-        if (contactPerson.has("can_invite")) {
-            contactPersons.setCanInvite(contactPerson.getBoolean("can_invite"));    //No I18N
-        }
-
-        return contactPersons;
+    public ContactPerson getContactPerson(Reader response, Set<String> fields) throws Exception {
 
+        return ResponseReader.readObject(response, "contact_person", ResponseReader.project(this::readContactPerson, fields, CONTACT_PERSON_FIELDS)); //No I18N
     }
 
 
@@ -291,50 +448,94 @@ public class ContactParser {
      *
      * @param response This json response contains list of contact persons details.
      * @return Returns the ContactPersonList object.
+     * @deprecated Use {@link #getContactPersons(Reader)}.
      */
 
+    @Deprecated
     public ContactPersonList getContactPersons(String response) throws Exception {
+        return getContactPersons(new StringReader(response));
+    }
 
-        ContactPersonList contactPersonList = new ContactPersonList();
+    /**
+     * Parse the json response and returns the ContactPersonList object.
+     *
+     * @param response This json response contains list of contact persons details.
+     * @return Returns the ContactPersonList object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public ContactPersonList getContactPersons(Reader response) throws Exception {
+        return getContactPersons(response, null);
+    }
 
-        JSONArray jsonArray = jsonObject.getJSONArray("contact_persons"); //No I18N
+    /**
+     * Parse the json response and returns the ContactPersonList object.
+     *
+     * @param response This json response contains list of contact persons details.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the ContactPersonList object.
+     */
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            ContactPerson contactPerson = new ContactPerson();
+    public ContactPersonList getContactPersons(Reader response, Set<String> fields) throws Exception {
 
-            contactPerson.setContactPersonId(jsonArray.getJSONObject(i).getString("contact_person_id"));
-            contactPerson.setSalutation(jsonArray.getJSONObject(i).getString("salutation"));
-            contactPerson.setFirstName(jsonArray.getJSONObject(i).getString("first_name"));
-            contactPerson.setLastName(jsonArray.getJSONObject(i).getString("last_name"));
-            contactPerson.setEmail(jsonArray.getJSONObject(i).getString("email"));
-            contactPerson.setPhone(jsonArray.getJSONObject(i).getString("phone"));
-            contactPerson.setMobile(jsonArray.getJSONObject(i).getString("mobile"));
-            contactPerson.setIsPrimaryContact(jsonArray.getJSONObject(i).getBoolean("is_primary_contact")); //No I18N
-            if (jsonArray.getJSONObject(i).has("is_added_in_portal")) {
-                contactPerson.setAddedInPortal(jsonArray.getJSONObject(i).getBoolean("is_added_in_portal")); //No I18N
-            }
-            if (jsonArray.getJSONObject(i).has("can_invite")) {
-                contactPerson.setCanInvite(jsonArray.getJSONObject(i).getBoolean("can_invite"));    //No I18N
-            }
+        ContactPersonList contactPersonList = new ContactPersonList();
 
-            contactPersonList.add(contactPerson);
-        }
+        contactPersonList.setPageContext(ResponseReader.readList(response, "contact_persons", contactPersonList, ResponseReader.project(this::readContactPerson, fields, CONTACT_PERSON_FIELDS))); //No I18N
 
-        PageContext pageContext = new PageContext();
+        return contactPersonList;
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    }
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+    /**
+     * Read a contact person.
+     */
 
-        contactPersonList.setPageContext(pageContext);
+    private ContactPerson readContactPerson(JsonReader reader) throws Exception {
+
+        ContactPerson contactPerson = new ContactPerson();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "contact_person_id":
+                    contactPerson.setContactPersonId(reader.nextString());
+                    break;
+                case "salutation":
+                    contactPerson.setSalutation(reader.nextString());
+                    break;
+                case "first_name":
+                    contactPerson.setFirstName(reader.nextString());
+                    break;
+                case "last_name":
+                    contactPerson.setLastName(reader.nextString());
+                    break;
+                case "email":
+                    contactPerson.setEmail(reader.nextString());
+                    break;
+                case "phone":
+                    contactPerson.setPhone(reader.nextString());
+                    break;
+                case "mobile":
+                    contactPerson.setMobile(reader.nextString());
+                    break;
+                case "is_primary_contact":
+                    contactPerson.setIsPrimaryContact(reader.nextBoolean());
+                    break;
+                case "is_added_in_portal":
+                    contactPerson.setAddedInPortal(reader.nextBoolean());
+                    break;
+                case "can_invite":
+                    contactPerson.setCanInvite(reader.nextBoolean());
+                    break;
+                case "contact_id":
+                    contactPerson.setContactId(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        return contactPersonList;
+        return contactPerson;
     }
 
     /**
@@ -342,67 +543,156 @@ public class ContactParser {
      *
      * @param response This json response contains the email content details.
      * @return Returns the Email object.
+     * @deprecated Use {@link #getEmailContent(Reader)}.
      */
 
+    @Deprecated
     public Email getEmailContent(String response) throws Exception {
-        Email email = new Email();
+        return getEmailContent(new StringReader(response));
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the json response and returns the Email object.
+     *
+     * @param response This json response contains the email content details.
+     * @return Returns the Email object.
+     */
 
-        JSONObject data = jsonObject.getJSONObject("data"); //No I18N
+    public Email getEmailContent(Reader response) throws Exception {
+        return getEmailContent(response, null);
+    }
 
-        email.setSubject(data.getString("subject"));
-        email.setBody(data.getString("body"));
-        email.setFileName(data.getString("file_name"));
-        if (data.has("file_name_without_extension")) {
-            email.setFileNameWithoutExtension(data.getString("file_name_without_extension"));
-        }
-        if (data.has("entity_id")) {
-            email.setEntityId(data.getString("entity_id"));
-        }
-        email.setContactId(data.getString("contact_id"));
+    /**
+     * Parse the json response and returns the Email object.
+     *
+     * @param response This json response contains the email content details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Email object.
+     */
 
-        JSONArray toContacts = data.getJSONArray("to_contacts"); //No I18N
+    public Email getEmailContent(Reader response, Set<String> fields) throws Exception {
 
-        List<ToContact> toContactsList = new ArrayList<ToContact>();
+        return ResponseReader.readObject(response, "data", ResponseReader.project(this::readEmail, fields, EMAIL_FIELDS)); //No I18N
+    }
+
+    /**
+     * Read an email.
+     */
 
-        for (int i = 0; i < toContacts.length(); i++) {
-            ToContact toContact = new ToContact();
+    private Email readEmail(JsonReader reader) throws Exception {
 
-            toContact.setFirstName(toContacts.getJSONObject(i).getString("first_name"));
-            toContact.setLastName(toContacts.getJSONObject(i).getString("last_name"));
-            toContact.setSelected(toContacts.getJSONObject(i).getBoolean("selected")); //No I18N
-            toContact.setPhone(toContacts.getJSONObject(i).getString("phone"));
-            toContact.setEmail(toContacts.getJSONObject(i).getString("email"));
-            toContact.setContactPersonId(toContacts.getJSONObject(i).getString("contact_person_id"));
-            toContact.setSalutation(toContacts.getJSONObject(i).getString("salutation"));
-            toContact.setMobile(toContacts.getJSONObject(i).getString("mobile"));
+        Email email = new Email();
 
-            toContactsList.add(i, toContact);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "subject":
+                    email.setSubject(reader.nextString());
+                    break;
+                case "body":
+                    email.setBody(reader.nextString());
+                    break;
+                case "file_name":
+                    email.setFileName(reader.nextString());
+                    break;
+                case "file_name_without_extension":
+                    email.setFileNameWithoutExtension(reader.nextString());
+                    break;
+                case "entity_id":
+                    email.setEntityId(reader.nextString());
+                    break;
+                case "contact_id":
+                    email.setContactId(reader.nextString());
+                    break;
+                case "to_contacts":
+                    email.setToContacts(ResponseReader.readArray(reader, new ArrayList<ToContact>(), this::readToContact));
+                    break;
+                case "from_emails":
+                    email.setFromEmails(ResponseReader.readArray(reader, new ArrayList<FromEmail>(), this::readFromEmail));
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        email.setToContacts(toContactsList);
+        return email;
+    }
 
-        JSONArray fromEmails = data.getJSONArray("from_emails"); //No I18N
+    /**
+     * Read a to contact.
+     */
 
-        List<FromEmail> fromEmailsList = new ArrayList<FromEmail>();
+    private ToContact readToContact(JsonReader reader) throws Exception {
+
+        ToContact toContact = new ToContact();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "first_name":
+                    toContact.setFirstName(reader.nextString());
+                    break;
+                case "last_name":
+                    toContact.setLastName(reader.nextString());
+                    break;
+                case "selected":
+                    toContact.setSelected(reader.nextBoolean());
+                    break;
+                case "phone":
+                    toContact.setPhone(reader.nextString());
+                    break;
+                case "email":
+                    toContact.setEmail(reader.nextString());
+                    break;
+                case "contact_person_id":
+                    toContact.setContactPersonId(reader.nextString());
+                    break;
+                case "salutation":
+                    toContact.setSalutation(reader.nextString());
+                    break;
+                case "mobile":
+                    toContact.setMobile(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        for (int j = 0; j < fromEmails.length(); j++) {
-            FromEmail fromEmail = new FromEmail();
+        return toContact;
+    }
 
-            fromEmail.setUserName(fromEmails.getJSONObject(j).getString("user_name"));
-            fromEmail.setSelected(fromEmails.getJSONObject(j).getBoolean("selected")); //No I18N
-            fromEmail.setEmail(fromEmails.getJSONObject(j).getString("email"));
-            if (fromEmails.getJSONObject(j).has("is_org_email_id")) {
-                fromEmail.setOrgEmailId(fromEmails.getJSONObject(j).getBoolean("is_org_email_id")); //No I18N
-            }
+    /**
+     * Read a from email.
+     */
 
-            fromEmailsList.add(j, fromEmail);
+    private FromEmail readFromEmail(JsonReader reader) throws Exception {
+
+        FromEmail fromEmail = new FromEmail();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "user_name":
+                    fromEmail.setUserName(reader.nextString());
+                    break;
+                case "selected":
+                    fromEmail.setSelected(reader.nextBoolean());
+                    break;
+                case "email":
+                    fromEmail.setEmail(reader.nextString());
+                    break;
+                case "is_org_email_id":
+                    fromEmail.setOrgEmailId(reader.nextBoolean());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        email.setFromEmails(fromEmailsList);
-
-        return email;
+        return fromEmail;
     }
 
     /**
@@ -410,50 +700,91 @@ public class ContactParser {
      *
      * @param response This json response contains list of creditnoteRefunds details for the contact.
      * @return Returns the creditnoteRefundList object.
+     * @deprecated Use {@link #getRefunds(Reader)}.
      */
 
+    @Deprecated
     public CreditnoteRefundList getRefunds(String response) throws Exception {
+        return getRefunds(new StringReader(response));
+    }
 
-        CreditnoteRefundList creditnoteRefundList = new CreditnoteRefundList();
+    /**
+     * Parse the json response and returns the CreditnoteRefundList object.
+     *
+     * @param response This json response contains list of creditnoteRefunds details for the contact.
+     * @return Returns the creditnoteRefundList object.
+     */
+
+    public CreditnoteRefundList getRefunds(Reader response) throws Exception {
+        return getRefunds(response, null);
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the json response and returns the CreditnoteRefundList object.
+     *
+     * @param response This json response contains list of creditnoteRefunds details for the contact.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the creditnoteRefundList object.
+     */
 
-        JSONArray jsonArray = jsonObject.getJSONArray("creditnote_refunds"); //No I18N
+    public CreditnoteRefundList getRefunds(Reader response, Set<String> fields) throws Exception {
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            CreditnoteRefund creditnoteRefund = new CreditnoteRefund();
+        CreditnoteRefundList creditnoteRefundList = new CreditnoteRefundList();
 
-            creditnoteRefund.setCreditnoteRefundId(jsonArray.getJSONObject(i).getString("creditnote_refund_id"));
-            creditnoteRefund.setCreditnoteId(jsonArray.getJSONObject(i).getString("creditnote_id"));
-            creditnoteRefund.setDate(jsonArray.getJSONObject(i).getString("date"));
-            creditnoteRefund.setRefundMode(jsonArray.getJSONObject(i).getString("refund_mode"));
-            creditnoteRefund.setReferenceNumber(jsonArray.getJSONObject(i).getString("reference_number"));
-            creditnoteRefund.setCreditnoteNumber(jsonArray.getJSONObject(i).getString("creditnote_number"));
-            creditnoteRefund.setCustomerName(jsonArray.getJSONObject(i).getString("customer_name"));
-            creditnoteRefund.setDescription(jsonArray.getJSONObject(i).getString("description"));
-            creditnoteRefund.setAmountBcy(jsonArray.getJSONObject(i).getDouble("amount_bcy")); //No I18N
-            creditnoteRefund.setAmountFcy(jsonArray.getJSONObject(i).getDouble("amount_fcy")); //No I18N
+        creditnoteRefundList.setPageContext(ResponseReader.readList(response, "creditnote_refunds", creditnoteRefundList, ResponseReader.project(this::readCreditnoteRefund, fields, CREDITNOTE_REFUND_FIELDS))); //No I18N
 
-            creditnoteRefundList.add(creditnoteRefund);
-        }
+        return creditnoteRefundList;
 
-        PageContext pageContext = new PageContext();
+    }
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    /**
+     * Read a creditnote refund of the list.
+     */
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page"));    //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        if (pagecontext.has("applied_filter")) {
-            pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
+    private CreditnoteRefund readCreditnoteRefund(JsonReader reader) throws Exception {
+
+        CreditnoteRefund creditnoteRefund = new CreditnoteRefund();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "creditnote_refund_id":
+                    creditnoteRefund.setCreditnoteRefundId(reader.nextString());
+                    break;
+                case "creditnote_id":
+                    creditnoteRefund.setCreditnoteId(reader.nextString());
+                    break;
+                case "date":
+                    creditnoteRefund.setDate(reader.nextString());
+                    break;
+                case "refund_mode":
+                    creditnoteRefund.setRefundMode(reader.nextString());
+                    break;
+                case "reference_number":
+                    creditnoteRefund.setReferenceNumber(reader.nextString());
+                    break;
+                case "creditnote_number":
+                    creditnoteRefund.setCreditnoteNumber(reader.nextString());
+                    break;
+                case "customer_name":
+                    creditnoteRefund.setCustomerName(reader.nextString());
+                    break;
+                case "description":
+                    creditnoteRefund.setDescription(reader.nextString());
+                    break;
+                case "amount_bcy":
+                    creditnoteRefund.setAmountBcy(reader.nextDouble());
+                    break;
+                case "amount_fcy":
+                    creditnoteRefund.setAmountFcy(reader.nextDouble());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
-
-        creditnoteRefundList.setPageContext(pageContext);
+        reader.endObject();
 
-        return creditnoteRefundList;
+        return creditnoteRefund;
     }
 
     /**
@@ -461,54 +792,100 @@ public class ContactParser {
      *
      * @param response This json response contains list of comments details for the contact.
      * @return Returns the CommentList object.
+     * @deprecated Use {@link #getComments(Reader)}.
      */
 
+    @Deprecated
     public CommentList getComments(String response) throws Exception {
+        return getComments(new StringReader(response));
+    }
 
-        CommentList commentList = new CommentList();
-
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the json response and returns the CommentList object.
+     *
+     * @param response This json response contains list of comments details for the contact.
+     * @return Returns the CommentList object.
+     */
 
-        JSONArray jsonArray = jsonObject.getJSONArray("contact_comments"); //No I18N
+    public CommentList getComments(Reader response) throws Exception {
+        return getComments(response, null);
+    }
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Comment comment = new Comment();
+    /**
+     * Parse the json response and returns the CommentList object.
+     *
+     * @param response This json response contains list of comments details for the contact.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the CommentList object.
+     */
 
-            comment.setCommentId(jsonArray.getJSONObject(i).getString("comment_id"));
-            comment.setDescription(jsonArray.getJSONObject(i).getString("description"));
-            comment.setContactId(jsonArray.getJSONObject(i).getString("contact_id"));
-            comment.setContactName(jsonArray.getJSONObject(i).getString("contact_name"));
-            comment.setCommentedById(jsonArray.getJSONObject(i).getString("commented_by_id"));
-            comment.setCommentedBy(jsonArray.getJSONObject(i).getString("commented_by"));
-            comment.setDate(jsonArray.getJSONObject(i).getString("date"));
-            comment.setDateDescription(jsonArray.getJSONObject(i).getString("date_description"));
-            comment.setTime(jsonArray.getJSONObject(i).getString("time"));
-            comment.setIsEntityDeleted(jsonArray.getJSONObject(i).getBoolean("is_entity_deleted")); //No I18N
-            comment.setTransactionId(jsonArray.getJSONObject(i).getString("transaction_id"));
-            comment.setTransactionType(jsonArray.getJSONObject(i).getString("transaction_type"));
-            comment.setOperationType(jsonArray.getJSONObject(i).getString("operation_type"));
+    public CommentList getComments(Reader response, Set<String> fields) throws Exception {
 
-            commentList.add(comment);
-        }
+        CommentList commentList = new CommentList();
 
-        PageContext pageContext = new PageContext();
+        commentList.setPageContext(ResponseReader.readList(response, "contact_comments", commentList, ResponseReader.project(this::readComment, fields, COMMENT_FIELDS))); //No I18N
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+        return commentList;
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        if (pagecontext.has("report_name")) {
-            pageContext.setReportName(pagecontext.getString("report_name"));
-        }
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+    }
 
-        commentList.setPageContext(pageContext);
+    /**
+     * Read a comment of the list.
+     */
 
-        return commentList;
+    private Comment readComment(JsonReader reader) throws Exception {
+
+        Comment comment = new Comment();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "comment_id":
+                    comment.setCommentId(reader.nextString());
+                    break;
+                case "description":
+                    comment.setDescription(reader.nextString());
+                    break;
+                case "contact_id":
+                    comment.setContactId(reader.nextString());
+                    break;
+                case "contact_name":
+                    comment.setContactName(reader.nextString());
+                    break;
+                case "commented_by_id":
+                    comment.setCommentedById(reader.nextString());
+                    break;
+                case "commented_by":
+                    comment.setCommentedBy(reader.nextString());
+                    break;
+                case "date":
+                    comment.setDate(reader.nextString());
+                    break;
+                case "date_description":
+                    comment.setDateDescription(reader.nextString());
+                    break;
+                case "time":
+                    comment.setTime(reader.nextString());
+                    break;
+                case "is_entity_deleted":
+                    comment.setIsEntityDeleted(reader.nextBoolean());
+                    break;
+                case "transaction_id":
+                    comment.setTransactionId(reader.nextString());
+                    break;
+                case "transaction_type":
+                    comment.setTransactionType(reader.nextString());
+                    break;
+                case "operation_type":
+                    comment.setOperationType(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
+        return comment;
     }
 
     /**
@@ -516,13 +893,23 @@ public class ContactParser {
      *
      * @param response This json response contains the success message of post or update or delete requests.
      * @return Returns the success message.
+     * @deprecated Use {@link #getMessage(Reader)}.
      */
 
+    @Deprecated
     public String getMessage(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getMessage(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns a string object.
+     *
+     * @param response This json response contains the success message of post or update or delete requests.
+     * @return Returns the success message.
+     */
 
-        String success = jsonObject.getString("message");
+    public String getMessage(Reader response) throws Exception {
 
-        return success;
+        return ResponseReader.readObject(response, "message", JsonReader::nextString); //No I18N
     }
 }
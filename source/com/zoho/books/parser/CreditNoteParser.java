@@ -3,11 +3,12 @@
 package com.zoho.books.parser;
 
 import com.zoho.books.model.*;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.zoho.books.util.JsonReader;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 
 /**
  * CreditNoteParser is used to parse the json response and make it into the respective objects.
@@ -15,57 +16,210 @@ import java.util.List;
 
 public class CreditNoteParser {
 
+    /**
+     * Names of the fields read from a credit note.
+     */
+
+    private static final Set<String> CREDIT_NOTE_FIELDS = Set.of("creditnote_id", "creditnote_number", //No I18N
+            "status", "reference_number", "date", "total", "balance", "customer_id", "customer_name", //No I18N
+            "currency_id", "currency_code", "created_time", "last_modified_time", "is_emailed", //No I18N
+            "contact_persons", "exchange_rate", "price_precision", "template_id", "line_items", "sub_total", //No I18N
+            "total_credits_used", "total_refunded_amount", "taxes", "notes", "terms", "billing_address", //No I18N
+            "shipping_address"); //No I18N
+
+    /**
+     * Names of the fields read from an email history of the list.
+     */
+
+    private static final Set<String> EMAIL_HISTORY_FIELDS = Set.of("mailhistory_id", "from", "to_mail_ids", //No I18N
+            "subject", "date", "type"); //No I18N
+
+    /**
+     * Names of the fields read from an invoices credited of the list.
+     */
+
+    private static final Set<String> INVOICES_CREDITED_FIELDS = Set.of("creditnote_id", "invoice_id", //No I18N
+            "creditnote_invoice_id", "date", "invoice_number", "creditnote_number", "credited_amount"); //No I18N
+
+    /**
+     * Names of the fields read from a creditnote refund.
+     */
+
+    private static final Set<String> CREDITNOTE_REFUND_FIELDS = Set.of("creditnote_refund_id", //No I18N
+            "creditnote_id", "date", "refund_mode", "reference_number", "creditnote_number", "customer_name", //No I18N
+            "description", "amount_bcy", "amount_fcy", "amount", "exchange_rate", "from_account_id", //No I18N
+            "from_account_name"); //No I18N
+
+    /**
+     * Names of the fields read from a template of the list.
+     */
+
+    private static final Set<String> TEMPLATE_FIELDS = Set.of("template_name", "template_id", //No I18N
+            "template_type"); //No I18N
+
+    /**
+     * Names of the fields read from a comment of the list.
+     */
+
+    private static final Set<String> COMMENT_FIELDS = Set.of("comment_id", "description", "creditnote_id", //No I18N
+            "commented_by_id", "commented_by", "comment_type", "date", "date_description", "time", //No I18N
+            "transaction_id", "transaction_type", "operation_type"); //No I18N
+
+
     /**
      * Parse the json response and returns the CreditNoteList object.
      *
      * @param response This json response contains list of credit notes details.
      * @return Returns the CreditNoteList object.
+     * @deprecated Use {@link #getCreditNotes(Reader)}.
      */
 
+    @Deprecated
     public CreditNoteList getCreditNotes(String response) throws Exception {
+        return getCreditNotes(new StringReader(response));
+    }
 
-        CreditNoteList creditNoteList = new CreditNoteList();
+    /**
+     * Parse the json response and returns the CreditNoteList object.
+     *
+     * @param response This json response contains list of credit notes details.
+     * @return Returns the CreditNoteList object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONArray jsonArray = jsonObject.getJSONArray("creditnotes");  //No I18N
-
-        for (int i = 0; i < jsonArray.length(); i++) {
-            CreditNote creditNote = new CreditNote();
-
-            creditNote.setCreditnoteId(jsonArray.getJSONObject(i).getString("creditnote_id"));
-            creditNote.setCreditnoteNumber(jsonArray.getJSONObject(i).getString("creditnote_number"));
-            creditNote.setStatus(jsonArray.getJSONObject(i).getString("status"));
-            creditNote.setReferenceNumber(jsonArray.getJSONObject(i).getString("reference_number"));
-            creditNote.setDate(jsonArray.getJSONObject(i).getString("date"));
-            creditNote.setTotal(jsonArray.getJSONObject(i).getDouble("total"));    //No I18N
-            creditNote.setBalance(jsonArray.getJSONObject(i).getDouble("balance")); //No I18N
-            creditNote.setCustomerId(jsonArray.getJSONObject(i).getString("customer_id"));
-            creditNote.setCustomerName(jsonArray.getJSONObject(i).getString("customer_name"));
-            creditNote.setCurrencyId(jsonArray.getJSONObject(i).getString("currency_id"));
-            creditNote.setCurrencyCode(jsonArray.getJSONObject(i).getString("currency_code"));
-            creditNote.setCreatedTime(jsonArray.getJSONObject(i).getString("created_time"));
-            creditNote.setLastModifiedTime(jsonArray.getJSONObject(i).getString("last_modified_time"));
-            creditNote.setIsEmailed(jsonArray.getJSONObject(i).getBoolean("is_emailed")); //No I18N
-
-            creditNoteList.add(creditNote);
-        }
+    public CreditNoteList getCreditNotes(Reader response) throws Exception {
+        return getCreditNotes(response, false);
+    }
 
-        PageContext pageContext = new PageContext();
+    /**
+     * Parse the json response and returns the CreditNoteList object.
+     *
+     * @param response This json response contains list of credit notes details.
+     * @param lazy     Whether a row is made into its model object only when it is first got from the list.
+     * @return Returns the CreditNoteList object.
+     */
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    public CreditNoteList getCreditNotes(Reader response, boolean lazy) throws Exception {
+        return getCreditNotes(response, lazy, null);
+    }
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page"));    //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+    /**
+     * Parse the json response and returns the CreditNoteList object.
+     *
+     * @param response This json response contains list of credit notes details.
+     * @param lazy     Whether a row is made into its model object only when it is first got from the list.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the CreditNoteList object.
+     */
 
-        creditNoteList.setPageContext(pageContext);
+    public CreditNoteList getCreditNotes(Reader response, boolean lazy, Set<String> fields) throws Exception {
+
+        CreditNoteList creditNoteList = new CreditNoteList();
+
+        creditNoteList.setPageContext(ResponseReader.readRows(response, "creditnotes", creditNoteList, "creditnote_id", "total", ResponseReader.project(this::readCreditNote, fields, CREDIT_NOTE_FIELDS), lazy)); //No I18N
 
         return creditNoteList;
+
+    }
+
+    /**
+     * Read a credit note.
+     */
+
+    private CreditNote readCreditNote(JsonReader reader) throws Exception {
+
+        CreditNote creditNote = new CreditNote();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "creditnote_id":
+                    creditNote.setCreditnoteId(reader.nextString());
+                    break;
+                case "creditnote_number":
+                    creditNote.setCreditnoteNumber(reader.nextString());
+                    break;
+                case "status":
+                    creditNote.setStatus(reader.nextString());
+                    break;
+                case "reference_number":
+                    creditNote.setReferenceNumber(reader.nextString());
+                    break;
+                case "date":
+                    creditNote.setDate(reader.nextString());
+                    break;
+                case "total":
+                    creditNote.setTotal(reader.nextDouble());
+                    break;
+                case "balance":
+                    creditNote.setBalance(reader.nextDouble());
+                    break;
+                case "customer_id":
+                    creditNote.setCustomerId(reader.nextString());
+                    break;
+                case "customer_name":
+                    creditNote.setCustomerName(reader.nextString());
+                    break;
+                case "currency_id":
+                    creditNote.setCurrencyId(reader.nextString());
+                    break;
+                case "currency_code":
+                    creditNote.setCurrencyCode(reader.nextString());
+                    break;
+                case "created_time":
+                    creditNote.setCreatedTime(reader.nextString());
+                    break;
+                case "last_modified_time":
+                    creditNote.setLastModifiedTime(reader.nextString());
+                    break;
+                case "is_emailed":
+                    creditNote.setIsEmailed(reader.nextBoolean());
+                    break;
+                case "contact_persons":
+                    creditNote.setContactPersons(ResponseReader.readStrings(reader));
+                    break;
+                case "exchange_rate":
+                    creditNote.setExchangeRate(reader.nextDouble());
+                    break;
+                case "price_precision":
+                    creditNote.setPricePrecision(reader.nextInt());
+                    break;
+                case "template_id":
+                    creditNote.setTemplateId(reader.nextString());
+                    break;
+                case "line_items":
+                    creditNote.setLineItems(ResponseReader.readArray(reader, new ArrayList<LineItem>(), this::readLineItem));
+                    break;
+                case "sub_total":
+                    creditNote.setSubTotal(reader.nextDouble());
+                    break;
+                case "total_credits_used":
+                    creditNote.setTotalCreditsUsed(reader.nextDouble());
+                    break;
+                case "total_refunded_amount":
+                    creditNote.setTotalRefundedAmount(reader.nextDouble());
+                    break;
+                case "taxes":
+                    creditNote.setTaxes(ResponseReader.readArray(reader, new ArrayList<Tax>(), this::readTax));
+                    break;
+                case "notes":
+                    creditNote.setNotes(reader.nextString());
+                    break;
+                case "terms":
+                    creditNote.setTerms(reader.nextString());
+                    break;
+                case "billing_address":
+                    creditNote.setBillingAddress(readAddress(reader));
+                    break;
+                case "shipping_address":
+                    creditNote.setShippingAddress(readAddress(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return creditNote;
     }
 
     /**
@@ -73,155 +227,242 @@ public class CreditNoteParser {
      *
      * @param response This json response contains the credit note details.
      * @return Returns the CreditNote object.
+     * @deprecated Use {@link #getCreditNote(Reader)}.
      */
 
+    @Deprecated
     public CreditNote getCreditNote(String response) throws Exception {
-        CreditNote creditNotes = new CreditNote();
+        return getCreditNote(new StringReader(response));
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the json response and returns the CreditNote object.
+     *
+     * @param response This json response contains the credit note details.
+     * @return Returns the CreditNote object.
+     */
 
-        JSONObject creditNote = jsonObject.getJSONObject("creditnote"); //No I18N
+    public CreditNote getCreditNote(Reader response) throws Exception {
+        return getCreditNote(response, null);
+    }
 
-        creditNotes.setCreditnoteId(creditNote.getString("creditnote_id"));
-        creditNotes.setCreditnoteNumber(creditNote.getString("creditnote_number"));
-        creditNotes.setDate(creditNote.getString("date"));
-        creditNotes.setStatus(creditNote.getString("status"));
-        creditNotes.setReferenceNumber(creditNote.getString("reference_number"));
-        creditNotes.setCustomerId(creditNote.getString("customer_id"));
-        creditNotes.setCustomerName(creditNote.getString("customer_name"));
+    /**
+     * Parse the json response and returns the CreditNote object.
+     *
+     * @param response This json response contains the credit note details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the CreditNote object.
+     */
 
-        JSONArray contactPerson = creditNote.getJSONArray("contact_persons"); //No I18N
+    public CreditNote getCreditNote(Reader response, Set<String> fields) throws Exception {
 
-        String[] contactPersons = new String[contactPerson.length()];
+        return ResponseReader.readObject(response, "creditnote", ResponseReader.project(this::readCreditNote, fields, CREDIT_NOTE_FIELDS)); //No I18N
+    }
 
-        for (int j = 0; j < contactPerson.length(); j++) {
-            contactPersons[j] = contactPerson.getString(j);
-        }
+    /**
+     * Read a line item.
+     */
 
-        creditNotes.setContactPersons(contactPersons);
-
-        creditNotes.setCurrencyId(creditNote.getString("currency_id"));
-        creditNotes.setCurrencyCode(creditNote.getString("currency_code"));
-        creditNotes.setExchangeRate(creditNote.getDouble("exchange_rate"));  //No I18N
-        creditNotes.setPricePrecision(creditNote.getInt("price_precision")); //No I18N
-        creditNotes.setTemplateId(creditNote.getString("template_id"));
-        creditNotes.setIsEmailed(creditNote.getBoolean("is_emailed"));    //No I18N
-
-        JSONArray lineItems = creditNote.getJSONArray("line_items"); //No I18N
-
-        List<LineItem> lineItemsList = new ArrayList<LineItem>();
-
-        for (int i = 0; i < lineItems.length(); i++) {
-            LineItem lineItem = new LineItem();
-
-            lineItem.setItemId(lineItems.getJSONObject(i).getString("item_id"));
-            lineItem.setLineItemId(lineItems.getJSONObject(i).getString("line_item_id"));
-            lineItem.setAccountId(lineItems.getJSONObject(i).getString("account_id"));
-            lineItem.setAccountName(lineItems.getJSONObject(i).getString("account_name"));
-            lineItem.setName(lineItems.getJSONObject(i).getString("name"));
-            lineItem.setDescription(lineItems.getJSONObject(i).getString("description"));
-            lineItem.setItemOrder(lineItems.getJSONObject(i).getInt("item_order")); //No I18N
-            lineItem.setRate(lineItems.getJSONObject(i).getDouble("rate"));        //No I18N
-            lineItem.setQuantity(lineItems.getJSONObject(i).getDouble("quantity")); //No I18N
-            lineItem.setUnit(lineItems.getJSONObject(i).getString("unit"));
-            lineItem.setBcyRate(lineItems.getJSONObject(i).getDouble("bcy_rate"));  //No I18N
-            lineItem.setRate(lineItems.getJSONObject(i).getDouble("rate"));        //No I18N
-            lineItem.setTaxId(lineItems.getJSONObject(i).getString("tax_id"));
-            lineItem.setTaxName(lineItems.getJSONObject(i).getString("tax_name"));
-            lineItem.setItemTotal(lineItems.getJSONObject(i).getDouble("item_total")); //No I18N
-
-            lineItemsList.add(i, lineItem);
+    private LineItem readLineItem(JsonReader reader) throws Exception {
+
+        LineItem lineItem = new LineItem();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "item_id":
+                    lineItem.setItemId(reader.nextString());
+                    break;
+                case "line_item_id":
+                    lineItem.setLineItemId(reader.nextString());
+                    break;
+                case "account_id":
+                    lineItem.setAccountId(reader.nextString());
+                    break;
+                case "account_name":
+                    lineItem.setAccountName(reader.nextString());
+                    break;
+                case "name":
+                    lineItem.setName(reader.nextString());
+                    break;
+                case "description":
+                    lineItem.setDescription(reader.nextString());
+                    break;
+                case "item_order":
+                    lineItem.setItemOrder(reader.nextInt());
+                    break;
+                case "rate":
+                    lineItem.setRate(reader.nextDouble());
+                    break;
+                case "quantity":
+                    lineItem.setQuantity(reader.nextDouble());
+                    break;
+                case "unit":
+                    lineItem.setUnit(reader.nextString());
+                    break;
+                case "bcy_rate":
+                    lineItem.setBcyRate(reader.nextDouble());
+                    break;
+                case "tax_id":
+                    lineItem.setTaxId(reader.nextString());
+                    break;
+                case "tax_name":
+                    lineItem.setTaxName(reader.nextString());
+                    break;
+                case "item_total":
+                    lineItem.setItemTotal(reader.nextDouble());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        creditNotes.setLineItems(lineItemsList);
-
-        creditNotes.setSubTotal(creditNote.getDouble("sub_total"));                //No I18N
-        creditNotes.setTotal(creditNote.getDouble("total"));                        //No I18N
-        creditNotes.setTotalCreditsUsed(creditNote.getDouble("total_credits_used"));        //No I18N
-        creditNotes.setTotalRefundedAmount(creditNote.getDouble("total_refunded_amount"));    //No I18N
-        creditNotes.setBalance(creditNote.getDouble("balance"));                //No I18N
-
-        JSONArray taxes = creditNote.getJSONArray("taxes");    //No I18N
-
-        List<Tax> taxesList = new ArrayList<Tax>();
-
-        for (int k = 0; k < taxes.length(); k++) {
-            Tax tax = new Tax();
+        return lineItem;
+    }
 
-            tax.setTaxName(taxes.getJSONObject(k).getString("tax_name"));
-            tax.setTaxAmount(taxes.getJSONObject(k).getDouble("tax_amount"));  //No I18N
+    /**
+     * Read a tax.
+     */
 
-            taxesList.add(k, tax);
+    private Tax readTax(JsonReader reader) throws Exception {
+
+        Tax tax = new Tax();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "tax_name":
+                    tax.setTaxName(reader.nextString());
+                    break;
+                case "tax_amount":
+                    tax.setTaxAmount(reader.nextDouble());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        creditNotes.setTaxes(taxesList);
-
-        creditNotes.setNotes(creditNote.getString("notes"));
-        creditNotes.setTerms(creditNote.getString("terms"));
-
-        JSONObject billingAddress = creditNote.getJSONObject("billing_address"); //No I18N
-
-        Address billingAddressObj = new Address();
-
-        billingAddressObj.setAddress(billingAddress.getString("address"));
-        billingAddressObj.setCity(billingAddress.getString("city"));
-        billingAddressObj.setState(billingAddress.getString("state"));
-        billingAddressObj.setZip(billingAddress.getString("zip"));
-        billingAddressObj.setCountry(billingAddress.getString("country"));
-        billingAddressObj.setFax(billingAddress.getString("fax"));
+        return tax;
+    }
 
-        creditNotes.setBillingAddress(billingAddressObj);
+    /**
+     * Read an address.
+     */
 
-        JSONObject shippingAddress = creditNote.getJSONObject("shipping_address"); //No I18N
+    private Address readAddress(JsonReader reader) throws Exception {
+
+        Address address = new Address();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "address":
+                    address.setAddress(reader.nextString());
+                    break;
+                case "city":
+                    address.setCity(reader.nextString());
+                    break;
+                case "state":
+                    address.setState(reader.nextString());
+                    break;
+                case "zip":
+                    address.setZip(reader.nextString());
+                    break;
+                case "country":
+                    address.setCountry(reader.nextString());
+                    break;
+                case "fax":
+                    address.setFax(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        Address shippingAddressObj = new Address();
+        return address;
+    }
 
-        shippingAddressObj.setAddress(shippingAddress.getString("address"));
-        shippingAddressObj.setCity(shippingAddress.getString("city"));
-        shippingAddressObj.setState(shippingAddress.getString("state"));
-        shippingAddressObj.setZip(shippingAddress.getString("zip"));
-        shippingAddressObj.setCountry(shippingAddress.getString("country"));
-        shippingAddressObj.setFax(shippingAddress.getString("fax"));
+    /**
+     * Parse the json response and returns the EmailHistoryList object.
+     *
+     * @param response This json response contains list of email histories details for credit note.
+     * @return Returns the EmailHistoryList object.
+     * @deprecated Use {@link #getEmailHistory(Reader)}.
+     */
 
-        creditNotes.setShippingAddress(shippingAddressObj);
+    @Deprecated
+    public EmailHistoryList getEmailHistory(String response) throws Exception {
+        return getEmailHistory(new StringReader(response));
+    }
 
-        creditNotes.setCreatedTime(creditNote.getString("created_time"));
-        creditNotes.setCreatedTime(creditNote.getString("created_time"));
-        creditNotes.setLastModifiedTime(creditNote.getString("last_modified_time"));
+    /**
+     * Parse the json response and returns the EmailHistoryList object.
+     *
+     * @param response This json response contains list of email histories details for credit note.
+     * @return Returns the EmailHistoryList object.
+     */
 
-        return creditNotes;
+    public EmailHistoryList getEmailHistory(Reader response) throws Exception {
+        return getEmailHistory(response, null);
     }
 
     /**
      * Parse the json response and returns the EmailHistoryList object.
      *
      * @param response This json response contains list of email histories details for credit note.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
      * @return Returns the EmailHistoryList object.
      */
 
-    public EmailHistoryList getEmailHistory(String response) throws Exception {
+    public EmailHistoryList getEmailHistory(Reader response, Set<String> fields) throws Exception {
 
         EmailHistoryList emailHistoryList = new EmailHistoryList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        ResponseReader.readList(response, "email_history", emailHistoryList, ResponseReader.project(this::readEmailHistory, fields, EMAIL_HISTORY_FIELDS)); //No I18N
 
-        JSONArray jsonArray = jsonObject.getJSONArray("email_history"); //No I18N
+        return emailHistoryList;
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            EmailHistory emailhistory = new EmailHistory();
+    }
 
-            emailhistory.setMailhistoryId(jsonArray.getJSONObject(i).getString("mailhistory_id"));
-            emailhistory.setFrom(jsonArray.getJSONObject(i).getString("from"));
-            emailhistory.setToMailIds(jsonArray.getJSONObject(i).getString("to_mail_ids"));
-            emailhistory.setSubject(jsonArray.getJSONObject(i).getString("subject"));
-            emailhistory.setDate(jsonArray.getJSONObject(i).getString("date"));
-            emailhistory.setType(jsonArray.getJSONObject(i).getString("type"));
+    /**
+     * Read an email history of the list.
+     */
 
-            emailHistoryList.add(emailhistory);
+    private EmailHistory readEmailHistory(JsonReader reader) throws Exception {
+
+        EmailHistory emailhistory = new EmailHistory();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "mailhistory_id":
+                    emailhistory.setMailhistoryId(reader.nextString());
+                    break;
+                case "from":
+                    emailhistory.setFrom(reader.nextString());
+                    break;
+                case "to_mail_ids":
+                    emailhistory.setToMailIds(reader.nextString());
+                    break;
+                case "subject":
+                    emailhistory.setSubject(reader.nextString());
+                    break;
+                case "date":
+                    emailhistory.setDate(reader.nextString());
+                    break;
+                case "type":
+                    emailhistory.setType(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return emailHistoryList;
-
+        return emailhistory;
     }
 
 
@@ -230,75 +471,168 @@ public class CreditNoteParser {
      *
      * @param response This json response contains the email content details for credit note.
      * @return Returns the Email object.
+     * @deprecated Use {@link #getEmailContent(Reader)}.
      */
 
-
+    @Deprecated
     public Email getEmailContent(String response) throws Exception {
-        Email email = new Email();
+        return getEmailContent(new StringReader(response));
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the json response and returns the Email object.
+     *
+     * @param response This json response contains the email content details for credit note.
+     * @return Returns the Email object.
+     */
 
-        JSONObject data = jsonObject.getJSONObject("data"); //No I18N
 
-        email.setSubject(data.getString("subject"));
-        email.setBody(data.getString("body"));
-        email.setFileName(data.getString("file_name"));
-        email.setCustomerId(data.getString("customer_id"));
+    public Email getEmailContent(Reader response) throws Exception {
 
-        JSONArray emailtemplates = data.getJSONArray("emailtemplates"); //No I18N
+        return ResponseReader.readObject(response, "data", this::readEmail); //No I18N
+    }
 
-        List<Emailtemplate> emailtemplatesList = new ArrayList<Emailtemplate>();
+    /**
+     * Read an email.
+     */
 
-        for (int i = 0; i < emailtemplates.length(); i++) {
-            Emailtemplate emailtemplate = new Emailtemplate();
+    private Email readEmail(JsonReader reader) throws Exception {
 
-            emailtemplate.setSelected(emailtemplates.getJSONObject(i).getBoolean("selected")); //No I18N
-            emailtemplate.setName(emailtemplates.getJSONObject(i).getString("name"));
-            emailtemplate.setEmailTemplateId(emailtemplates.getJSONObject(i).getString("email_template_id"));
+        Email email = new Email();
 
-            emailtemplatesList.add(i, emailtemplate);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "subject":
+                    email.setSubject(reader.nextString());
+                    break;
+                case "body":
+                    email.setBody(reader.nextString());
+                    break;
+                case "file_name":
+                    email.setFileName(reader.nextString());
+                    break;
+                case "customer_id":
+                    email.setCustomerId(reader.nextString());
+                    break;
+                case "emailtemplates":
+                    email.setEmailtemplates(ResponseReader.readArray(reader, new ArrayList<Emailtemplate>(), this::readEmailtemplate));
+                    break;
+                case "to_contacts":
+                    email.setToContacts(ResponseReader.readArray(reader, new ArrayList<ToContact>(), this::readToContact));
+                    break;
+                case "from_emails":
+                    email.setFromEmails(ResponseReader.readArray(reader, new ArrayList<FromEmail>(), this::readFromEmail));
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        email.setEmailtemplates(emailtemplatesList);
-
-        JSONArray toContacts = data.getJSONArray("to_contacts"); //No I18N
-
-        List<ToContact> toContactsList = new ArrayList<ToContact>();
-
-        for (int j = 0; j < toContacts.length(); j++) {
-            ToContact toContact = new ToContact();
+        return email;
+    }
 
-            toContact.setFirstName(toContacts.getJSONObject(j).getString("first_name"));
-            toContact.setLastName(toContacts.getJSONObject(j).getString("last_name"));
-            toContact.setSelected(toContacts.getJSONObject(j).getBoolean("selected")); //No I18N
-            toContact.setPhone(toContacts.getJSONObject(j).getString("phone"));
-            toContact.setEmail(toContacts.getJSONObject(j).getString("email"));
-            toContact.setContactPersonId(toContacts.getJSONObject(j).getString("contact_person_id"));
-            toContact.setSalutation(toContacts.getJSONObject(j).getString("salutation"));
-            toContact.setMobile(toContacts.getJSONObject(j).getString("mobile"));
+    /**
+     * Read an emailtemplate.
+     */
 
-            toContactsList.add(j, toContact);
+    private Emailtemplate readEmailtemplate(JsonReader reader) throws Exception {
+
+        Emailtemplate emailtemplate = new Emailtemplate();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "selected":
+                    emailtemplate.setSelected(reader.nextBoolean());
+                    break;
+                case "name":
+                    emailtemplate.setName(reader.nextString());
+                    break;
+                case "email_template_id":
+                    emailtemplate.setEmailTemplateId(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        email.setToContacts(toContactsList);
+        return emailtemplate;
+    }
 
-        JSONArray fromEmails = data.getJSONArray("from_emails"); //No I18N
+    /**
+     * Read a to contact.
+     */
 
-        List<FromEmail> fromEmailsList = new ArrayList<FromEmail>();
+    private ToContact readToContact(JsonReader reader) throws Exception {
+
+        ToContact toContact = new ToContact();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "first_name":
+                    toContact.setFirstName(reader.nextString());
+                    break;
+                case "last_name":
+                    toContact.setLastName(reader.nextString());
+                    break;
+                case "selected":
+                    toContact.setSelected(reader.nextBoolean());
+                    break;
+                case "phone":
+                    toContact.setPhone(reader.nextString());
+                    break;
+                case "email":
+                    toContact.setEmail(reader.nextString());
+                    break;
+                case "contact_person_id":
+                    toContact.setContactPersonId(reader.nextString());
+                    break;
+                case "salutation":
+                    toContact.setSalutation(reader.nextString());
+                    break;
+                case "mobile":
+                    toContact.setMobile(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        for (int k = 0; k < fromEmails.length(); k++) {
-            FromEmail fromEmail = new FromEmail();
+        return toContact;
+    }
 
-            fromEmail.setUserName(fromEmails.getJSONObject(k).getString("user_name"));
-            fromEmail.setSelected(fromEmails.getJSONObject(k).getBoolean("selected")); //No I18N
-            fromEmail.setEmail(fromEmails.getJSONObject(k).getString("email"));
+    /**
+     * Read a from email.
+     */
 
-            fromEmailsList.add(k, fromEmail);
+    private FromEmail readFromEmail(JsonReader reader) throws Exception {
+
+        FromEmail fromEmail = new FromEmail();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "user_name":
+                    fromEmail.setUserName(reader.nextString());
+                    break;
+                case "selected":
+                    fromEmail.setSelected(reader.nextBoolean());
+                    break;
+                case "email":
+                    fromEmail.setEmail(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        email.setFromEmails(fromEmailsList);
-
-        return email;
+        return fromEmail;
     }
 
 
@@ -307,29 +641,77 @@ public class CreditNoteParser {
      *
      * @param response This json response contains list of invoices details for credit note.
      * @return Returns the InvoiceList object.
+     * @deprecated Use {@link #getCreditToInvoice(Reader)}.
      */
 
-
+    @Deprecated
     public InvoiceList getCreditToInvoice(String response) throws Exception {
+        return getCreditToInvoice(new StringReader(response));
+    }
 
-        InvoiceList invoiceList = new InvoiceList();
+    /**
+     * Parse the json response and returns the InvoiceList object.
+     *
+     * @param response This json response contains list of invoices details for credit note.
+     * @return Returns the InvoiceList object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
 
-        JSONObject applytoInvoices = jsonObject.getJSONObject("apply_to_invoices"); //No I18N
+    public InvoiceList getCreditToInvoice(Reader response) throws Exception {
 
-        JSONArray jsonArray = applytoInvoices.getJSONArray("invoices"); //No I18N
+        InvoiceList invoiceList = new InvoiceList();
+
+        JsonReader reader = new JsonReader(response);
+
+        try {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("apply_to_invoices")) { //No I18N
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        if (reader.nextName().equals("invoices")) { //No I18N
+                            ResponseReader.readArray(reader, invoiceList, this::readInvoiceToCredit);
+                        } else {
+                            reader.skipValue();
+                        }
+                    }
+                    reader.endObject();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } finally {
+            reader.close();
+        }
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Invoice invoice = new Invoice();
+        return invoiceList;
+    }
 
-            invoice.setInvoiceId(jsonArray.getJSONObject(i).getString("invoice_id"));
-            invoice.setAmountApplied(jsonArray.getJSONObject(i).getDouble("amount_applied")); //No I18N
+    /**
+     * Read an invoice the credit note can be applied to.
+     */
 
-            invoiceList.add(invoice);
+    private Invoice readInvoiceToCredit(JsonReader reader) throws Exception {
+
+        Invoice invoice = new Invoice();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "invoice_id":
+                    invoice.setInvoiceId(reader.nextString());
+                    break;
+                case "amount_applied":
+                    invoice.setAmountApplied(reader.nextDouble());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return invoiceList;
+        return invoice;
     }
 
     /**
@@ -337,31 +719,82 @@ public class CreditNoteParser {
      *
      * @param response This json response contains list of invoices credited details for credit note.
      * @return Returns the InvoicesCreditedList object.
+     * @deprecated Use {@link #getInvoicesCredited(Reader)}.
      */
 
+    @Deprecated
     public InvoicesCreditedList getInvoicesCredited(String response) throws Exception {
+        return getInvoicesCredited(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the InvoicesCreditedList object.
+     *
+     * @param response This json response contains list of invoices credited details for credit note.
+     * @return Returns the InvoicesCreditedList object.
+     */
+
+    public InvoicesCreditedList getInvoicesCredited(Reader response) throws Exception {
+        return getInvoicesCredited(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the InvoicesCreditedList object.
+     *
+     * @param response This json response contains list of invoices credited details for credit note.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the InvoicesCreditedList object.
+     */
+
+    public InvoicesCreditedList getInvoicesCredited(Reader response, Set<String> fields) throws Exception {
 
         InvoicesCreditedList invoicesCreditedList = new InvoicesCreditedList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        ResponseReader.readList(response, "invoices_credited", invoicesCreditedList, ResponseReader.project(this::readInvoicesCredited, fields, INVOICES_CREDITED_FIELDS)); //No I18N
 
-        JSONArray jsonArray = jsonObject.getJSONArray("invoices_credited"); //No I18N
+        return invoicesCreditedList;
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            InvoicesCredited invoiceCredited = new InvoicesCredited();
+    }
 
-            invoiceCredited.setCreditnoteId(jsonArray.getJSONObject(i).getString("creditnote_id"));
-            invoiceCredited.setInvoiceId(jsonArray.getJSONObject(i).getString("invoice_id"));
-            invoiceCredited.setCreditnoteInvoiceId(jsonArray.getJSONObject(i).getString("creditnote_invoice_id"));
-            invoiceCredited.setDate(jsonArray.getJSONObject(i).getString("date"));
-            invoiceCredited.setInvoiceNumber(jsonArray.getJSONObject(i).getString("invoice_number"));
-            invoiceCredited.setCreditnoteNumber(jsonArray.getJSONObject(i).getString("creditnote_number"));
-            invoiceCredited.setCreditedAmount(jsonArray.getJSONObject(i).getDouble("credited_amount")); //No I18N
+    /**
+     * Read an invoices credited of the list.
+     */
 
-            invoicesCreditedList.add(invoiceCredited);
+    private InvoicesCredited readInvoicesCredited(JsonReader reader) throws Exception {
+
+        InvoicesCredited invoiceCredited = new InvoicesCredited();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "creditnote_id":
+                    invoiceCredited.setCreditnoteId(reader.nextString());
+                    break;
+                case "invoice_id":
+                    invoiceCredited.setInvoiceId(reader.nextString());
+                    break;
+                case "creditnote_invoice_id":
+                    invoiceCredited.setCreditnoteInvoiceId(reader.nextString());
+                    break;
+                case "date":
+                    invoiceCredited.setDate(reader.nextString());
+                    break;
+                case "invoice_number":
+                    invoiceCredited.setInvoiceNumber(reader.nextString());
+                    break;
+                case "creditnote_number":
+                    invoiceCredited.setCreditnoteNumber(reader.nextString());
+                    break;
+                case "credited_amount":
+                    invoiceCredited.setCreditedAmount(reader.nextDouble());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return invoicesCreditedList;
+        return invoiceCredited;
     }
 
 
@@ -370,48 +803,103 @@ public class CreditNoteParser {
      *
      * @param response This json response contains list of creditnote refunds details for credit note.
      * @return Returns the CreditnoteRefundList object.
+     * @deprecated Use {@link #getRefunds(Reader)}.
      */
 
+    @Deprecated
     public CreditnoteRefundList getRefunds(String response) throws Exception {
+        return getRefunds(new StringReader(response));
+    }
 
-        CreditnoteRefundList creditnoteRefundList = new CreditnoteRefundList();
+    /**
+     * Parse the json response and returns the CreditnoteRefundList object.
+     *
+     * @param response This json response contains list of creditnote refunds details for credit note.
+     * @return Returns the CreditnoteRefundList object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public CreditnoteRefundList getRefunds(Reader response) throws Exception {
+        return getRefunds(response, null);
+    }
 
-        JSONArray jsonArray = jsonObject.getJSONArray("creditnote_refunds"); //No I18N
+    /**
+     * Parse the json response and returns the CreditnoteRefundList object.
+     *
+     * @param response This json response contains list of creditnote refunds details for credit note.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the CreditnoteRefundList object.
+     */
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            CreditnoteRefund creditnoteRefund = new CreditnoteRefund();
+    public CreditnoteRefundList getRefunds(Reader response, Set<String> fields) throws Exception {
 
-            creditnoteRefund.setCreditnoteRefundId(jsonArray.getJSONObject(i).getString("creditnote_refund_id"));
-            creditnoteRefund.setCreditnoteId(jsonArray.getJSONObject(i).getString("creditnote_id"));
-            creditnoteRefund.setDate(jsonArray.getJSONObject(i).getString("date"));
-            creditnoteRefund.setRefundMode(jsonArray.getJSONObject(i).getString("refund_mode"));
-            creditnoteRefund.setReferenceNumber(jsonArray.getJSONObject(i).getString("reference_number"));
-            creditnoteRefund.setCreditnoteNumber(jsonArray.getJSONObject(i).getString("creditnote_number"));
-            creditnoteRefund.setCustomerName(jsonArray.getJSONObject(i).getString("customer_name"));
-            creditnoteRefund.setDescription(jsonArray.getJSONObject(i).getString("description"));
-            creditnoteRefund.setAmountBcy(jsonArray.getJSONObject(i).getDouble("amount_bcy")); //No I18N
-            creditnoteRefund.setAmountFcy(jsonArray.getJSONObject(i).getDouble("amount_fcy")); //No I18N
+        CreditnoteRefundList creditnoteRefundList = new CreditnoteRefundList();
 
-            creditnoteRefundList.add(creditnoteRefund);
-        }
+        creditnoteRefundList.setPageContext(ResponseReader.readList(response, "creditnote_refunds", creditnoteRefundList, ResponseReader.project(this::readCreditnoteRefund, fields, CREDITNOTE_REFUND_FIELDS))); //No I18N
 
-        PageContext pageContext = new PageContext();
+        return creditnoteRefundList;
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    }
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+    /**
+     * Read a creditnote refund.
+     */
 
-        creditnoteRefundList.setPageContext(pageContext);
+    private CreditnoteRefund readCreditnoteRefund(JsonReader reader) throws Exception {
 
-        return creditnoteRefundList;
+        CreditnoteRefund creditnoteRefund = new CreditnoteRefund();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "creditnote_refund_id":
+                    creditnoteRefund.setCreditnoteRefundId(reader.nextString());
+                    break;
+                case "creditnote_id":
+                    creditnoteRefund.setCreditnoteId(reader.nextString());
+                    break;
+                case "date":
+                    creditnoteRefund.setDate(reader.nextString());
+                    break;
+                case "refund_mode":
+                    creditnoteRefund.setRefundMode(reader.nextString());
+                    break;
+                case "reference_number":
+                    creditnoteRefund.setReferenceNumber(reader.nextString());
+                    break;
+                case "creditnote_number":
+                    creditnoteRefund.setCreditnoteNumber(reader.nextString());
+                    break;
+                case "customer_name":
+                    creditnoteRefund.setCustomerName(reader.nextString());
+                    break;
+                case "description":
+                    creditnoteRefund.setDescription(reader.nextString());
+                    break;
+                case "amount_bcy":
+                    creditnoteRefund.setAmountBcy(reader.nextDouble());
+                    break;
+                case "amount_fcy":
+                    creditnoteRefund.setAmountFcy(reader.nextDouble());
+                    break;
+                case "amount":
+                    creditnoteRefund.setAmount(reader.nextDouble());
+                    break;
+                case "exchange_rate":
+                    creditnoteRefund.setExchangeRate(reader.nextDouble());
+                    break;
+                case "from_account_id":
+                    creditnoteRefund.setFromAccountId(reader.nextString());
+                    break;
+                case "from_account_name":
+                    creditnoteRefund.setFromAccountName(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return creditnoteRefund;
     }
 
     /**
@@ -419,28 +907,36 @@ public class CreditNoteParser {
      *
      * @param response This json response contains the creditnote refund details for credit note.
      * @return Returns the CreditnoteRefund object.
+     * @deprecated Use {@link #getCreditnoteRefund(Reader)}.
      */
 
+    @Deprecated
     public CreditnoteRefund getCreditnoteRefund(String response) throws Exception {
+        return getCreditnoteRefund(new StringReader(response));
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the json response and returns the CreditnoteRefund object.
+     *
+     * @param response This json response contains the creditnote refund details for credit note.
+     * @return Returns the CreditnoteRefund object.
+     */
 
-        JSONObject creditnoteRefunds = jsonObject.getJSONObject("creditnote_refund"); //No I18N
+    public CreditnoteRefund getCreditnoteRefund(Reader response) throws Exception {
+        return getCreditnoteRefund(response, null);
+    }
 
-        CreditnoteRefund creditnoteRefund = new CreditnoteRefund();
+    /**
+     * Parse the json response and returns the CreditnoteRefund object.
+     *
+     * @param response This json response contains the creditnote refund details for credit note.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the CreditnoteRefund object.
+     */
 
-        creditnoteRefund.setCreditnoteRefundId(creditnoteRefunds.getString("creditnote_refund_id"));
-        creditnoteRefund.setCreditnoteId(creditnoteRefunds.getString("creditnote_id"));
-        creditnoteRefund.setDate(creditnoteRefunds.getString("date"));
-        creditnoteRefund.setRefundMode(creditnoteRefunds.getString("refund_mode"));
-        creditnoteRefund.setReferenceNumber(creditnoteRefunds.getString("reference_number"));
-        creditnoteRefund.setAmount(creditnoteRefunds.getDouble("amount")); //No I18N
-        creditnoteRefund.setExchangeRate(creditnoteRefunds.getDouble("exchange_rate")); //No I18N
-        creditnoteRefund.setFromAccountId(creditnoteRefunds.getString("from_account_id"));
-        creditnoteRefund.setFromAccountName(creditnoteRefunds.getString("from_account_name"));
-        creditnoteRefund.setDescription(creditnoteRefunds.getString("description"));
+    public CreditnoteRefund getCreditnoteRefund(Reader response, Set<String> fields) throws Exception {
 
-        return creditnoteRefund;
+        return ResponseReader.readObject(response, "creditnote_refund", ResponseReader.project(this::readCreditnoteRefund, fields, CREDITNOTE_REFUND_FIELDS)); //No I18N
     }
 
     /**
@@ -448,27 +944,70 @@ public class CreditNoteParser {
      *
      * @param response This json response contains list of templates details for credit note.
      * @return Returns the TemplateList object.
+     * @deprecated Use {@link #getTemplates(Reader)}.
      */
 
+    @Deprecated
     public TemplateList getTemplates(String response) throws Exception {
+        return getTemplates(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the TemplateList object.
+     *
+     * @param response This json response contains list of templates details for credit note.
+     * @return Returns the TemplateList object.
+     */
+
+    public TemplateList getTemplates(Reader response) throws Exception {
+        return getTemplates(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the TemplateList object.
+     *
+     * @param response This json response contains list of templates details for credit note.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the TemplateList object.
+     */
+
+    public TemplateList getTemplates(Reader response, Set<String> fields) throws Exception {
 
         TemplateList templateList = new TemplateList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        ResponseReader.readList(response, "templates", templateList, ResponseReader.project(this::readTemplate, fields, TEMPLATE_FIELDS)); //No I18N
 
-        JSONArray jsonArray = jsonObject.getJSONArray("templates"); //No I18N
+        return templateList;
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Template template = new Template();
+    }
 
-            template.setTemplateName(jsonArray.getJSONObject(i).getString("template_name"));
-            template.setTemplateId(jsonArray.getJSONObject(i).getString("template_id"));
-            template.setTemplateType(jsonArray.getJSONObject(i).getString("template_type"));
+    /**
+     * Read a template of the list.
+     */
 
-            templateList.add(template);
+    private Template readTemplate(JsonReader reader) throws Exception {
+
+        Template template = new Template();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "template_name":
+                    template.setTemplateName(reader.nextString());
+                    break;
+                case "template_id":
+                    template.setTemplateId(reader.nextString());
+                    break;
+                case "template_type":
+                    template.setTemplateType(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return templateList;
+        return template;
     }
 
     /**
@@ -476,37 +1015,97 @@ public class CreditNoteParser {
      *
      * @param response This json response contains list of comments details for credit note.
      * @return Returns the CommentList object.
+     * @deprecated Use {@link #getComments(Reader)}.
      */
 
+    @Deprecated
     public CommentList getComments(String response) throws Exception {
+        return getComments(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the CommentList object.
+     *
+     * @param response This json response contains list of comments details for credit note.
+     * @return Returns the CommentList object.
+     */
+
+    public CommentList getComments(Reader response) throws Exception {
+        return getComments(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the CommentList object.
+     *
+     * @param response This json response contains list of comments details for credit note.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the CommentList object.
+     */
+
+    public CommentList getComments(Reader response, Set<String> fields) throws Exception {
 
         CommentList commentList = new CommentList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        ResponseReader.readList(response, "comments", commentList, ResponseReader.project(this::readComment, fields, COMMENT_FIELDS)); //No I18N
+
+        return commentList;
 
-        JSONArray jsonArray = jsonObject.getJSONArray("comments"); //No I18N
+    }
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Comment comment = new Comment();
+    /**
+     * Read a comment of the list.
+     */
 
-            comment.setCommentId(jsonArray.getJSONObject(i).getString("comment_id"));
-            comment.setDescription(jsonArray.getJSONObject(i).getString("description"));
+    private Comment readComment(JsonReader reader) throws Exception {
 
-            comment.setCreditnoteId(jsonArray.getJSONObject(i).getString("creditnote_id"));
-            comment.setCommentedById(jsonArray.getJSONObject(i).getString("commented_by_id"));
-            comment.setCommentedBy(jsonArray.getJSONObject(i).getString("commented_by"));
-            comment.setCommentType(jsonArray.getJSONObject(i).getString("comment_type"));
-            comment.setDate(jsonArray.getJSONObject(i).getString("date"));
-            comment.setDateDescription(jsonArray.getJSONObject(i).getString("date_description"));
-            comment.setTime(jsonArray.getJSONObject(i).getString("time"));
-            comment.setTransactionId(jsonArray.getJSONObject(i).getString("transaction_id"));
-            comment.setTransactionType(jsonArray.getJSONObject(i).getString("transaction_type"));
-            comment.setOperationType(jsonArray.getJSONObject(i).getString("operation_type"));
+        Comment comment = new Comment();
 
-            commentList.add(comment);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "comment_id":
+                    comment.setCommentId(reader.nextString());
+                    break;
+                case "description":
+                    comment.setDescription(reader.nextString());
+                    break;
+                case "creditnote_id":
+                    comment.setCreditnoteId(reader.nextString());
+                    break;
+                case "commented_by_id":
+                    comment.setCommentedById(reader.nextString());
+                    break;
+                case "commented_by":
+                    comment.setCommentedBy(reader.nextString());
+                    break;
+                case "comment_type":
+                    comment.setCommentType(reader.nextString());
+                    break;
+                case "date":
+                    comment.setDate(reader.nextString());
+                    break;
+                case "date_description":
+                    comment.setDateDescription(reader.nextString());
+                    break;
+                case "time":
+                    comment.setTime(reader.nextString());
+                    break;
+                case "transaction_id":
+                    comment.setTransactionId(reader.nextString());
+                    break;
+                case "transaction_type":
+                    comment.setTransactionType(reader.nextString());
+                    break;
+                case "operation_type":
+                    comment.setOperationType(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return commentList;
+        return comment;
     }
 
     /**
@@ -514,23 +1113,36 @@ public class CreditNoteParser {
      *
      * @param response This json response contains the comment details for credit note.
      * @return Returns the Comment object.
+     * @deprecated Use {@link #getComment(Reader)}.
      */
 
+    @Deprecated
     public Comment getComment(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getComment(new StringReader(response));
+    }
 
-        JSONObject comments = jsonObject.getJSONObject("comment"); //No I18N
+    /**
+     * Parse the json response and returns the Comment object.
+     *
+     * @param response This json response contains the comment details for credit note.
+     * @return Returns the Comment object.
+     */
 
-        Comment comment = new Comment();
+    public Comment getComment(Reader response) throws Exception {
+        return getComment(response, null);
+    }
 
-        comment.setCommentId(comments.getString("comment_id"));
-        comment.setCreditnoteId(comments.getString("creditnote_id"));
-        comment.setDescription(comments.getString("description"));
-        comment.setCommentedById(comments.getString("commented_by_id"));
-        comment.setCommentedBy(comments.getString("commented_by"));
-        comment.setDate(comments.getString("date"));
+    /**
+     * Parse the json response and returns the Comment object.
+     *
+     * @param response This json response contains the comment details for credit note.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Comment object.
+     */
 
-        return comment;
+    public Comment getComment(Reader response, Set<String> fields) throws Exception {
+
+        return ResponseReader.readObject(response, "comment", ResponseReader.project(this::readComment, fields, COMMENT_FIELDS)); //No I18N
     }
 
     /**
@@ -538,13 +1150,23 @@ public class CreditNoteParser {
      *
      * @param response This json response contains the success message of post or update or delete requests.
      * @return Returns the success message.
+     * @deprecated Use {@link #getMessage(Reader)}.
      */
 
+    @Deprecated
     public String getMessage(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getMessage(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns a string object.
+     *
+     * @param response This json response contains the success message of post or update or delete requests.
+     * @return Returns the success message.
+     */
 
-        String success = jsonObject.getString("message");
+    public String getMessage(Reader response) throws Exception {
 
-        return success;
+        return ResponseReader.readObject(response, "message", JsonReader::nextString); //No I18N
     }
 }
@@ -5,12 +5,12 @@ package com.zoho.books.parser;
 import com.zoho.books.model.CustomerPayment;
 import com.zoho.books.model.CustomerPaymentList;
 import com.zoho.books.model.Invoice;
-import com.zoho.books.model.PageContext;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.zoho.books.util.JsonReader;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 
 /**
  * CustomerPaymentParser is used to parse the json response and make it into the respective objects.
@@ -18,60 +18,99 @@ import java.util.List;
 
 public class CustomerPaymentParser {
 
+    /**
+     * Names of the fields read from a customer payment.
+     */
+
+    private static final Set<String> CUSTOMER_PAYMENT_FIELDS = Set.of("payment_id", "payment_number", //No I18N
+            "invoice_numbers", "date", "payment_mode", "amount", "bcy_amount", "unused_amount", //No I18N
+            "bcy_unused_amount", "account_id", "account_name", "description", "reference_number", //No I18N
+            "customer_id", "customer_name", "exchange_rate", "bank_charges", "tax_account_id", //No I18N
+            "tax_account_name", "tax_amount_withheld", "invoices"); //No I18N
+
+
     /**
      * Parse the json response and returns the CustomerPayment object.
      *
      * @param response This json response contains the customer payment details.
      * @return Returns the CustomerPayment object.
+     * @deprecated Use {@link #getCustomerPayment(Reader)}.
      */
 
+    @Deprecated
     public CustomerPayment getCustomerPayment(String response) throws Exception {
-        CustomerPayment customerPayments = new CustomerPayment();
-
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONObject payment = jsonObject.getJSONObject("payment"); //No I18N
-
-        customerPayments.setPaymentId(payment.getString("payment_id"));
-        customerPayments.setCustomerId(payment.getString("customer_id"));
-        customerPayments.setCustomerName(payment.getString("customer_name"));
-        customerPayments.setPaymentMode(payment.getString("payment_mode"));
-        customerPayments.setDate(payment.getString("date"));
-        customerPayments.setAccountId(payment.getString("account_id"));
-        customerPayments.setAccountName(payment.getString("account_name"));
-        customerPayments.setExchangeRate(payment.getDouble("exchange_rate"));   //No I18N
-        customerPayments.setAmount(payment.getDouble("amount"));        //No I18N
-        customerPayments.setBankCharges(payment.getDouble("bank_charges"));    //No I18N
-        customerPayments.setTaxAccountId(payment.getString("tax_account_id"));
-        customerPayments.setTaxAccountName(payment.getString("tax_account_name"));
-        customerPayments.setTaxAmountWithheld(payment.getDouble("tax_amount_withheld")); //No I18N
-        customerPayments.setDescription(payment.getString("description"));
-        customerPayments.setReferenceNumber(payment.getString("reference_number"));
-        //customerPayments.setIsSingleInvoicePayment(payment.getBoolean("is_single_invoice_payment"));
-
-        JSONArray invoices = payment.getJSONArray("invoices"); //No I18N
-
-        List<Invoice> invoicesList = new ArrayList<Invoice>();
-
-        for (int i = 0; i < invoices.length(); i++) {
-            Invoice invoice = new Invoice();
-
-            invoice.setInvoiceNumber(invoices.getJSONObject(i).getString("invoice_number"));
-            invoice.setInvoicePaymentId(invoices.getJSONObject(i).getString("invoice_payment_id"));
-            invoice.setInvoiceId(invoices.getJSONObject(i).getString("invoice_id"));
-            invoice.setAmountApplied(invoices.getJSONObject(i).getDouble("amount_applied"));        //No I18N
-            invoice.setTaxAmountWithheld(invoices.getJSONObject(i).getDouble("tax_amount_withheld"));    //No I18N
-            invoice.setTotal(invoices.getJSONObject(i).getDouble("total"));                    //No I18N
-            invoice.setBalance(invoices.getJSONObject(i).getDouble("balance"));                //No I18N
-            invoice.setDate(invoices.getJSONObject(i).getString("date"));
-            invoice.setDueDate(invoices.getJSONObject(i).getString("due_date"));
-
-            invoicesList.add(i, invoice);
-        }
+        return getCustomerPayment(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the CustomerPayment object.
+     *
+     * @param response This json response contains the customer payment details.
+     * @return Returns the CustomerPayment object.
+     */
+
+    public CustomerPayment getCustomerPayment(Reader response) throws Exception {
+        return getCustomerPayment(response, null);
+    }
 
-        customerPayments.setInvoices(invoicesList);
+    /**
+     * Parse the json response and returns the CustomerPayment object.
+     *
+     * @param response This json response contains the customer payment details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the CustomerPayment object.
+     */
+
+    public CustomerPayment getCustomerPayment(Reader response, Set<String> fields) throws Exception {
+
+        return ResponseReader.readObject(response, "payment", ResponseReader.project(this::readCustomerPayment, fields, CUSTOMER_PAYMENT_FIELDS)); //No I18N
+    }
+
+    /**
+     * Read an invoice.
+     */
 
-        return customerPayments;
+    private Invoice readInvoice(JsonReader reader) throws Exception {
+
+        Invoice invoice = new Invoice();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "invoice_number":
+                    invoice.setInvoiceNumber(reader.nextString());
+                    break;
+                case "invoice_payment_id":
+                    invoice.setInvoicePaymentId(reader.nextString());
+                    break;
+                case "invoice_id":
+                    invoice.setInvoiceId(reader.nextString());
+                    break;
+                case "amount_applied":
+                    invoice.setAmountApplied(reader.nextDouble());
+                    break;
+                case "tax_amount_withheld":
+                    invoice.setTaxAmountWithheld(reader.nextDouble());
+                    break;
+                case "total":
+                    invoice.setTotal(reader.nextDouble());
+                    break;
+                case "balance":
+                    invoice.setBalance(reader.nextDouble());
+                    break;
+                case "date":
+                    invoice.setDate(reader.nextString());
+                    break;
+                case "due_date":
+                    invoice.setDueDate(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return invoice;
     }
 
     /**
@@ -79,53 +118,137 @@ public class CustomerPaymentParser {
      *
      * @param response This json response contains list of customer payments details.
      * @return Returns the CustomerPaymentList object.
+     * @deprecated Use {@link #getCustomerPayments(Reader)}.
      */
 
+    @Deprecated
     public CustomerPaymentList getCustomerPayments(String response) throws Exception {
+        return getCustomerPayments(new StringReader(response));
+    }
 
-        CustomerPaymentList customerPaymentList = new CustomerPaymentList();
+    /**
+     * Parse the json response and returns the CustomerPaymentList object.
+     *
+     * @param response This json response contains list of customer payments details.
+     * @return Returns the CustomerPaymentList object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONArray customerpayments = jsonObject.getJSONArray("customerpayments"); //No I18N
-
-        for (int i = 0; i < customerpayments.length(); i++) {
-            CustomerPayment customerPayment = new CustomerPayment();
-
-            customerPayment.setPaymentId(customerpayments.getJSONObject(i).getString("payment_id"));
-            customerPayment.setPaymentNumber(customerpayments.getJSONObject(i).getString("payment_number"));
-            customerPayment.setInvoiceNumbers(customerpayments.getJSONObject(i).getString("invoice_numbers"));
-            customerPayment.setDate(customerpayments.getJSONObject(i).getString("date"));
-            customerPayment.setPaymentMode(customerpayments.getJSONObject(i).getString("payment_mode"));
-            customerPayment.setAmount(customerpayments.getJSONObject(i).getDouble("amount"));            //No I18N
-            customerPayment.setBcyAmount(customerpayments.getJSONObject(i).getDouble("bcy_amount"));        //No I18N
-            customerPayment.setUnusedAmount(customerpayments.getJSONObject(i).getDouble("unused_amount"));        //No I18N
-            customerPayment.setBcyUnusedAmount(customerpayments.getJSONObject(i).getDouble("bcy_unused_amount"));    //No I18N
-            customerPayment.setAccountId(customerpayments.getJSONObject(i).getString("account_id"));
-            customerPayment.setAccountName(customerpayments.getJSONObject(i).getString("account_name"));
-            customerPayment.setDescription(customerpayments.getJSONObject(i).getString("description"));
-            customerPayment.setReferenceNumber(customerpayments.getJSONObject(i).getString("reference_number"));
-            customerPayment.setCustomerId(customerpayments.getJSONObject(i).getString("customer_id"));
-            customerPayment.setCustomerName(customerpayments.getJSONObject(i).getString("customer_name"));
-
-            customerPaymentList.add(customerPayment);
-        }
+    public CustomerPaymentList getCustomerPayments(Reader response) throws Exception {
+        return getCustomerPayments(response, false);
+    }
+
+    /**
+     * Parse the json response and returns the CustomerPaymentList object.
+     *
+     * @param response This json response contains list of customer payments details.
+     * @param lazy     Whether a row is made into its model object only when it is first got from the list.
+     * @return Returns the CustomerPaymentList object.
+     */
+
+    public CustomerPaymentList getCustomerPayments(Reader response, boolean lazy) throws Exception {
+        return getCustomerPayments(response, lazy, null);
+    }
 
-        PageContext pageContext = new PageContext();
+    /**
+     * Parse the json response and returns the CustomerPaymentList object.
+     *
+     * @param response This json response contains list of customer payments details.
+     * @param lazy     Whether a row is made into its model object only when it is first got from the list.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the CustomerPaymentList object.
+     */
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    public CustomerPaymentList getCustomerPayments(Reader response, boolean lazy, Set<String> fields) throws Exception {
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page"));    //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+        CustomerPaymentList customerPaymentList = new CustomerPaymentList();
 
-        customerPaymentList.setPageContext(pageContext);
+        customerPaymentList.setPageContext(ResponseReader.readRows(response, "customerpayments", customerPaymentList, "payment_id", "amount", ResponseReader.project(this::readCustomerPayment, fields, CUSTOMER_PAYMENT_FIELDS), lazy)); //No I18N
 
         return customerPaymentList;
+
+    }
+
+    /**
+     * Read a customer payment.
+     */
+
+    private CustomerPayment readCustomerPayment(JsonReader reader) throws Exception {
+
+        CustomerPayment customerPayment = new CustomerPayment();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "payment_id":
+                    customerPayment.setPaymentId(reader.nextString());
+                    break;
+                case "payment_number":
+                    customerPayment.setPaymentNumber(reader.nextString());
+                    break;
+                case "invoice_numbers":
+                    customerPayment.setInvoiceNumbers(reader.nextString());
+                    break;
+                case "date":
+                    customerPayment.setDate(reader.nextString());
+                    break;
+                case "payment_mode":
+                    customerPayment.setPaymentMode(reader.nextString());
+                    break;
+                case "amount":
+                    customerPayment.setAmount(reader.nextDouble());
+                    break;
+                case "bcy_amount":
+                    customerPayment.setBcyAmount(reader.nextDouble());
+                    break;
+                case "unused_amount":
+                    customerPayment.setUnusedAmount(reader.nextDouble());
+                    break;
+                case "bcy_unused_amount":
+                    customerPayment.setBcyUnusedAmount(reader.nextDouble());
+                    break;
+                case "account_id":
+                    customerPayment.setAccountId(reader.nextString());
+                    break;
+                case "account_name":
+                    customerPayment.setAccountName(reader.nextString());
+                    break;
+                case "description":
+                    customerPayment.setDescription(reader.nextString());
+                    break;
+                case "reference_number":
+                    customerPayment.setReferenceNumber(reader.nextString());
+                    break;
+                case "customer_id":
+                    customerPayment.setCustomerId(reader.nextString());
+                    break;
+                case "customer_name":
+                    customerPayment.setCustomerName(reader.nextString());
+                    break;
+                case "exchange_rate":
+                    customerPayment.setExchangeRate(reader.nextDouble());
+                    break;
+                case "bank_charges":
+                    customerPayment.setBankCharges(reader.nextDouble());
+                    break;
+                case "tax_account_id":
+                    customerPayment.setTaxAccountId(reader.nextString());
+                    break;
+                case "tax_account_name":
+                    customerPayment.setTaxAccountName(reader.nextString());
+                    break;
+                case "tax_amount_withheld":
+                    customerPayment.setTaxAmountWithheld(reader.nextDouble());
+                    break;
+                case "invoices":
+                    customerPayment.setInvoices(ResponseReader.readArray(reader, new ArrayList<Invoice>(), this::readInvoice));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return customerPayment;
     }
 
 }
@@ -3,11 +3,12 @@
 package com.zoho.books.parser;
 
 import com.zoho.books.model.*;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.zoho.books.util.JsonReader;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 
 /**
  * EstimateParser is used to parse the json response and make it into the respective objects.
@@ -16,274 +17,504 @@ import java.util.List;
 public class EstimateParser {
 
     /**
-     * Parse the json response and returns the Estimate object.
-     *
-     * @param response This json response contains the estimate details.
-     * @return Returns the Estimate object.
+     * Names of the fields read from an estimate.
      */
 
-    public Estimate getEstimate(String response) throws Exception {
-        Estimate estimates = new Estimate();
-
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONObject estimate = jsonObject.getJSONObject("estimate"); //No I18N
-
-        estimates.setEstimateId(estimate.getString("estimate_id"));
-        estimates.setEstimateNumber(estimate.getString("estimate_number"));
-        estimates.setDate(estimate.getString("date"));
-        estimates.setReferenceNumber(estimate.getString("reference_number"));
-        estimates.setStatus(estimate.getString("status"));
-        estimates.setCustomerId(estimate.getString("customer_id"));
-        estimates.setCustomerName(estimate.getString("customer_name"));
+    private static final Set<String> ESTIMATE_FIELDS = Set.of("estimate_id", "customer_name", "customer_id", //No I18N
+            "status", "estimate_number", "reference_number", "date", "currency_id", "currency_code", "total", //No I18N
+            "created_time", "accepted_date", "declined_date", "expiry_date", "is_viewed_by_client", //No I18N
+            "client_viewed_time", "contact_persons", "exchange_rate", "discount", "is_discount_before_tax", //No I18N
+            "discount_type", "line_items", "shipping_charge", "adjustment", "adjustment_description", //No I18N
+            "sub_total", "tax_total", "price_precision", "taxes", "billing_address", "shipping_address", //No I18N
+            "notes", "terms", "custom_fields", "template_id", "template_name", "last_modified_time", //No I18N
+            "salesperson_id", "salesperson_name", "currency_symbol", "template_type", //No I18N
+            "allow_partial_payments", "accept_retainer", "retainer_percentage", "payment_options", "tax_id", //No I18N
+            "tax_authority_id", "tax_exemption_id"); //No I18N
 
-        JSONArray contactPersons = estimate.getJSONArray("contact_persons"); //No I18N
-
-        String[] contactPersonsArr = new String[contactPersons.length()];
-
-        for (int j = 0; j < contactPersons.length(); j++) {
-            contactPersonsArr[j] = contactPersons.getString(j);
-        }
+    /**
+     * Names of the fields read from an email.
+     */
 
-        estimates.setContactPersons(contactPersonsArr);
-
-        estimates.setCurrencyCode(estimate.getString("currency_code"));
-        estimates.setExchangeRate(estimate.getDouble("exchange_rate"));    //No I18N
-        estimates.setDiscount(estimate.getDouble("discount"));        //No I18N
-        estimates.setIsDiscountBeforeTax(estimate.getBoolean("is_discount_before_tax")); //No I18N
-        estimates.setDiscountType(estimate.getString("discount_type"));
-
-        JSONArray lineItems = estimate.getJSONArray("line_items"); //No I18N
-
-        List<LineItem> lineItemsList = new ArrayList<LineItem>();
-
-        for (int i = 0; i < lineItems.length(); i++) {
-            LineItem lineItem = new LineItem();
-
-            lineItem.setItemId(lineItems.getJSONObject(i).getString("item_id"));
-            lineItem.setLineItemId(lineItems.getJSONObject(i).getString("line_item_id"));
-            lineItem.setName(lineItems.getJSONObject(i).getString("name"));
-            lineItem.setDescription(lineItems.getJSONObject(i).getString("description"));
-            lineItem.setItemOrder(lineItems.getJSONObject(i).getInt("item_order")); //No I18N
-            lineItem.setRate(lineItems.getJSONObject(i).getDouble("rate"));        //No I18N
-            lineItem.setQuantity(lineItems.getJSONObject(i).getDouble("quantity")); //No I18N
-            lineItem.setUnit(lineItems.getJSONObject(i).getString("unit"));
-            lineItem.setDiscount(lineItems.getJSONObject(i).getDouble("discount")); //No I18N
-            lineItem.setBcyRate(lineItems.getJSONObject(i).getDouble("bcy_rate"));  //No I18N
-            lineItem.setRate(lineItems.getJSONObject(i).getDouble("rate"));        //No I18N
-            lineItem.setTaxId(lineItems.getJSONObject(i).getString("tax_id"));
-            lineItem.setTaxName(lineItems.getJSONObject(i).getString("tax_name"));
-            lineItem.setTaxType(lineItems.getJSONObject(i).getString("tax_type"));
-            lineItem.setTaxPercentage(lineItems.getJSONObject(i).getInt("tax_percentage")); //No I18N
-            lineItem.setItemTotal(lineItems.getJSONObject(i).getDouble("item_total"));    //No I18N
-            if (lineItems.getJSONObject(i).has("discount_amount")) {
-                lineItem.setDiscountAmount(lineItems.getJSONObject(i).getDouble("discount_amount"));    //No I18N
-            }
-            if (lineItems.getJSONObject(i).has("tax_exemption_id")) {
-                lineItem.setTaxExemptionId(lineItems.getJSONObject(i).getString("tax_exemption_id"));
-            }
+    private static final Set<String> EMAIL_FIELDS = Set.of("subject", "body", "file_name", "customer_id", //No I18N
+            "emailtemplates", "to_contacts", "from_emails", "attach_pdf", "customer_name", //No I18N
+            "file_name_without_extension"); //No I18N
 
-            lineItemsList.add(i, lineItem);
-        }
+    /**
+     * Names of the fields read from a template of the list.
+     */
 
-        estimates.setLineItems(lineItemsList);
+    private static final Set<String> TEMPLATE_FIELDS = Set.of("template_name", "template_id", //No I18N
+            "template_type"); //No I18N
 
-        estimates.setShippingCharge(estimate.getDouble("shipping_charge"));    //No I18N
-        estimates.setAdjustment(estimate.getDouble("adjustment"));        //No I18N
-        estimates.setAdjustmentDescription(estimate.getString("adjustment_description"));
-        estimates.setSubTotal(estimate.getDouble("sub_total")); //No I18N
-        estimates.setTotal(estimate.getDouble("total"));    //No I18N
-        estimates.setTaxTotal(estimate.getDouble("tax_total"));    //No I18N
-        estimates.setPricePrecision(estimate.getInt("price_precision")); //No I18N
+    /**
+     * Names of the fields read from a comment of the list.
+     */
 
-        JSONArray taxes = estimate.getJSONArray("taxes"); //No I18N
+    private static final Set<String> COMMENT_FIELDS = Set.of("comment_id", "description", "estimate_id", //No I18N
+            "commented_by_id", "commented_by", "comment_type", "date", "date_description", "time", //No I18N
+            "transaction_id", "transaction_type", "operation_type"); //No I18N
 
-        List<Tax> taxesList = new ArrayList<Tax>();
 
-        for (int k = 0; k < taxes.length(); k++) {
-            Tax tax = new Tax();
+    /**
+     * Parse the json response and returns the Estimate object.
+     *
+     * @param response This json response contains the estimate details.
+     * @return Returns the Estimate object.
+     * @deprecated Use {@link #getEstimate(Reader)}.
+     */
 
-            tax.setTaxName(taxes.getJSONObject(k).getString("tax_name"));
-            tax.setTaxAmount(taxes.getJSONObject(k).getDouble("tax_amount")); //No I18N
+    @Deprecated
+    public Estimate getEstimate(String response) throws Exception {
+        return getEstimate(new StringReader(response));
+    }
 
-            taxesList.add(k, tax);
-        }
+    /**
+     * Parse the json response and returns the Estimate object.
+     *
+     * @param response This json response contains the estimate details.
+     * @return Returns the Estimate object.
+     */
 
-        estimates.setTaxes(taxesList);
+    public Estimate getEstimate(Reader response) throws Exception {
+        return getEstimate(response, null);
+    }
 
-        JSONObject billingAddress = estimate.getJSONObject("billing_address"); //No I18N
+    /**
+     * Parse the json response and returns the Estimate object.
+     *
+     * @param response This json response contains the estimate details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Estimate object.
+     */
 
-        Address billingAddressObj = new Address();
+    public Estimate getEstimate(Reader response, Set<String> fields) throws Exception {
 
-        billingAddressObj.setAddress(billingAddress.getString("address"));
-        billingAddressObj.setCity(billingAddress.getString("city"));
-        billingAddressObj.setState(billingAddress.getString("state"));
-        billingAddressObj.setZip(billingAddress.getString("zip"));
-        billingAddressObj.setCountry(billingAddress.getString("country"));
-        billingAddressObj.setFax(billingAddress.getString("fax"));
+        return ResponseReader.readObject(response, "estimate", ResponseReader.project(this::readEstimate, fields, ESTIMATE_FIELDS)); //No I18N
+    }
 
-        estimates.setBillingAddress(billingAddressObj);
+    /**
+     * Read a line item.
+     */
 
-        JSONObject shippingAddress = estimate.getJSONObject("shipping_address"); //No I18N
+    private LineItem readLineItem(JsonReader reader) throws Exception {
+
+        LineItem lineItem = new LineItem();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "item_id":
+                    lineItem.setItemId(reader.nextString());
+                    break;
+                case "line_item_id":
+                    lineItem.setLineItemId(reader.nextString());
+                    break;
+                case "name":
+                    lineItem.setName(reader.nextString());
+                    break;
+                case "description":
+                    lineItem.setDescription(reader.nextString());
+                    break;
+                case "item_order":
+                    lineItem.setItemOrder(reader.nextInt());
+                    break;
+                case "rate":
+                    lineItem.setRate(reader.nextDouble());
+                    break;
+                case "quantity":
+                    lineItem.setQuantity(reader.nextDouble());
+                    break;
+                case "unit":
+                    lineItem.setUnit(reader.nextString());
+                    break;
+                case "discount":
+                    lineItem.setDiscount(reader.nextDouble());
+                    break;
+                case "bcy_rate":
+                    lineItem.setBcyRate(reader.nextDouble());
+                    break;
+                case "tax_id":
+                    lineItem.setTaxId(reader.nextString());
+                    break;
+                case "tax_name":
+                    lineItem.setTaxName(reader.nextString());
+                    break;
+                case "tax_type":
+                    lineItem.setTaxType(reader.nextString());
+                    break;
+                case "tax_percentage":
+                    lineItem.setTaxPercentage(reader.nextInt());
+                    break;
+                case "item_total":
+                    lineItem.setItemTotal(reader.nextDouble());
+                    break;
+                case "discount_amount":
+                    lineItem.setDiscountAmount(reader.nextDouble());
+                    break;
+                case "tax_exemption_id":
+                    lineItem.setTaxExemptionId(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        Address shippingAddressObj = new Address();
+        return lineItem;
+    }
 
-        shippingAddressObj.setAddress(shippingAddress.getString("address"));
-        shippingAddressObj.setCity(shippingAddress.getString("city"));
-        shippingAddressObj.setState(shippingAddress.getString("state"));
-        shippingAddressObj.setZip(shippingAddress.getString("zip"));
-        shippingAddressObj.setCountry(shippingAddress.getString("country"));
-        shippingAddressObj.setFax(shippingAddress.getString("fax"));
+    /**
+     * Read a tax.
+     */
 
-        estimates.setShippingAddress(shippingAddressObj);
+    private Tax readTax(JsonReader reader) throws Exception {
+
+        Tax tax = new Tax();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "tax_name":
+                    tax.setTaxName(reader.nextString());
+                    break;
+                case "tax_amount":
+                    tax.setTaxAmount(reader.nextDouble());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        estimates.setNotes(estimate.getString("notes"));
-        estimates.setTerms(estimate.getString("terms"));
+        return tax;
+    }
 
-        JSONArray customFields = estimate.getJSONArray("custom_fields"); //No I18N
+    /**
+     * Read an address.
+     */
 
-        List<CustomField> customFieldsList = new ArrayList<CustomField>();
+    private Address readAddress(JsonReader reader) throws Exception {
+
+        Address address = new Address();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "address":
+                    address.setAddress(reader.nextString());
+                    break;
+                case "city":
+                    address.setCity(reader.nextString());
+                    break;
+                case "state":
+                    address.setState(reader.nextString());
+                    break;
+                case "zip":
+                    address.setZip(reader.nextString());
+                    break;
+                case "country":
+                    address.setCountry(reader.nextString());
+                    break;
+                case "fax":
+                    address.setFax(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        for (int m = 0; m < customFields.length(); m++) {
-            CustomField customField = new CustomField();
+        return address;
+    }
 
-            customField.setIndex(customFields.getJSONObject(m).getInt("index")); //No I18N
-            customField.setValue(customFields.getJSONObject(m).getString("value"));
-            customField.setShowOnPdf(customFields.getJSONObject(m).getBoolean("show_on_pdf")); //No I18N
-            customField.setLabel(customFields.getJSONObject(m).getString("label"));
+    /**
+     * Read a custom field.
+     */
 
-            customFieldsList.add(m, customField);
+    private CustomField readCustomField(JsonReader reader) throws Exception {
+
+        CustomField customField = new CustomField();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "index":
+                    customField.setIndex(reader.nextInt());
+                    break;
+                case "value":
+                    customField.setValue(reader.nextString());
+                    break;
+                case "show_on_pdf":
+                    customField.setShowOnPdf(reader.nextBoolean());
+                    break;
+                case "label":
+                    customField.setLabel(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        estimates.setCustomFields(customFieldsList);
+        return customField;
+    }
 
-        estimates.setTemplateId(estimate.getString("template_id"));
-        estimates.setTemplateName(estimate.getString("template_name"));
-        estimates.setCreatedTime(estimate.getString("created_time"));
-        estimates.setLastModifiedTime(estimate.getString("last_modified_time"));
-        estimates.setSalespersonId(estimate.getString("salesperson_id"));
-        estimates.setSalespersonName(estimate.getString("salesperson_name"));
+    /**
+     * Read a payment gateway.
+     */
 
-        if (estimate.has("currency_symbol")) {
-            estimates.setCurrencySymbol(estimate.getString("currency_symbol"));
-        }
-        if (estimate.has("template_type")) {
-            estimates.setTemplateType(estimate.getString("template_type"));
-        }
-        if (estimate.has("allow_partial_payments")) {
-            estimates.setAllowPartialPayments(estimate.getBoolean("allow_partial_payments"));    //No I18N
-        }
-        if (estimate.has("accept_retainer")) {
-            estimates.setAcceptRetainer(estimate.getBoolean("accept_retainer"));    //No I18N
-        }
-        if (estimate.has("retainer_percentage")) {
-            estimates.setRetainerPercentage(estimate.getString("retainer_percentage"));
-        }
-        if (estimate.has("is_viewed_by_client")) {
-            estimates.setIsViewedByClient(estimate.getBoolean("is_viewed_by_client"));    //No I18N
-        }
-        if (estimate.has("client_viewed_time")) {
-            estimates.setClientViewedTime(estimate.getString("client_viewed_time"));
+    private PaymentGateway readPaymentGateway(JsonReader reader) throws Exception {
+
+        PaymentGateway paymentGateway = new PaymentGateway();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "gateway_name":
+                    paymentGateway.setGatewayName(reader.nextString());
+                    break;
+                case "additional_field1":
+                    paymentGateway.setAdditionalField1(reader.nextString());
+                    break;
+                case "configured":
+                    paymentGateway.setConfigured(reader.nextBoolean());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        if (estimate.has("payment_options")) {
-            JSONObject paymentOptions = estimate.getJSONObject("payment_options");    //No I18N
-
-            if (paymentOptions.has("payment_gateways")) {
-                JSONArray paymentGateways = paymentOptions.getJSONArray("payment_gateways");    //No I18N
-
-                List<PaymentGateway> paymentGatewaysList = new ArrayList<PaymentGateway>();
+        return paymentGateway;
+    }
 
-                PaymentGateway paymentGateway = new PaymentGateway();
+    /**
+     * Parse the json response and returns the EstimateList object.
+     *
+     * @param response This json response contains list of estimates details.
+     * @return Returns the EstimateList object.
+     * @deprecated Use {@link #getEstimates(Reader)}.
+     */
 
-                for (int i = 0; i < paymentGateways.length(); i++) {
-                    if (paymentGateways.getJSONObject(i).has("gateway_name")) {
-                        paymentGateway.setGatewayName(paymentGateways.getJSONObject(i).getString("gateway_name"));
-                    }
-                    if (paymentGateways.getJSONObject(i).has("additional_field1")) {
-                        paymentGateway.setAdditionalField1(paymentGateways.getJSONObject(i).getString("additional_field1"));
-                    }
-                    if (paymentGateways.getJSONObject(i).has("configured")) {
-                        paymentGateway.setConfigured(paymentGateways.getJSONObject(i).getBoolean("configured"));    //No I18N
-                    }
+    @Deprecated
+    public EstimateList getEstimates(String response) throws Exception {
+        return getEstimates(new StringReader(response));
+    }
 
-                    paymentGatewaysList.add(paymentGateway);
-                }
+    /**
+     * Parse the json response and returns the EstimateList object.
+     *
+     * @param response This json response contains list of estimates details.
+     * @return Returns the EstimateList object.
+     */
 
-                estimates.setPaymentGateways(paymentGatewaysList);
-            }
-        }
+    public EstimateList getEstimates(Reader response) throws Exception {
+        return getEstimates(response, false);
+    }
 
-        if (estimate.has("tax_id")) {
-            estimates.setTaxId(estimate.getString("tax_id"));
-        }
-        if (estimate.has("tax_authority_id")) {
-            estimates.setTaxAuthorityId(estimate.getString("tax_authority_id"));
-        }
-        if (estimate.has("tax_exemption_id")) {
-            estimates.setTaxExemptionId(estimate.getString("tax_exemption_id"));
-        }
+    /**
+     * Parse the json response and returns the EstimateList object.
+     *
+     * @param response This json response contains list of estimates details.
+     * @param lazy     Whether a row is made into its model object only when it is first got from the list.
+     * @return Returns the EstimateList object.
+     */
 
-        return estimates;
+    public EstimateList getEstimates(Reader response, boolean lazy) throws Exception {
+        return getEstimates(response, lazy, null);
     }
 
     /**
      * Parse the json response and returns the EstimateList object.
      *
      * @param response This json response contains list of estimates details.
+     * @param lazy     Whether a row is made into its model object only when it is first got from the list.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
      * @return Returns the EstimateList object.
      */
 
-    public EstimateList getEstimates(String response) throws Exception {
+    public EstimateList getEstimates(Reader response, boolean lazy, Set<String> fields) throws Exception {
 
         EstimateList estimateList = new EstimateList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONArray jsonArray = jsonObject.getJSONArray("estimates"); //No I18N
-
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Estimate estimate = new Estimate();
-
-            estimate.setEstimateId(jsonArray.getJSONObject(i).getString("estimate_id"));
-            estimate.setCustomerName(jsonArray.getJSONObject(i).getString("customer_name"));
-            estimate.setCustomerId(jsonArray.getJSONObject(i).getString("customer_id"));
-            estimate.setStatus(jsonArray.getJSONObject(i).getString("status"));
-            estimate.setEstimateNumber(jsonArray.getJSONObject(i).getString("estimate_number"));
-            estimate.setReferenceNumber(jsonArray.getJSONObject(i).getString("reference_number"));
-            estimate.setDate(jsonArray.getJSONObject(i).getString("date"));
-            estimate.setCurrencyId(jsonArray.getJSONObject(i).getString("currency_id"));
-            estimate.setCurrencyCode(jsonArray.getJSONObject(i).getString("currency_code"));
-            estimate.setTotal(jsonArray.getJSONObject(i).getDouble("total"));         //No I18N
-            estimate.setCreatedTime(jsonArray.getJSONObject(i).getString("created_time"));
-            estimate.setAcceptedDate(jsonArray.getJSONObject(i).getString("accepted_date"));
-            estimate.setDeclinedDate(jsonArray.getJSONObject(i).getString("declined_date"));
-            estimate.setExpiryDate(jsonArray.getJSONObject(i).getString("expiry_date"));
-            if (jsonArray.getJSONObject(i).has("is_viewed_by_client")) {
-                estimate.setIsViewedByClient(jsonArray.getJSONObject(i).getBoolean("is_viewed_by_client"));    //No I18N
-            }
-            if (jsonArray.getJSONObject(i).has("client_viewed_time")) {
-                estimate.setClientViewedTime(jsonArray.getJSONObject(i).getString("client_viewed_time"));
-            }
-
-            estimateList.add(estimate);
-        }
+        estimateList.setPageContext(ResponseReader.readRows(response, "estimates", estimateList, "estimate_id", "total", ResponseReader.project(this::readEstimate, fields, ESTIMATE_FIELDS), lazy)); //No I18N
 
-        PageContext pageContext = new PageContext();
+        return estimateList;
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    }
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+    /**
+     * Read an estimate.
+     */
 
-        estimateList.setPageContext(pageContext);
+    private Estimate readEstimate(JsonReader reader) throws Exception {
+
+        Estimate estimate = new Estimate();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "estimate_id":
+                    estimate.setEstimateId(reader.nextString());
+                    break;
+                case "customer_name":
+                    estimate.setCustomerName(reader.nextString());
+                    break;
+                case "customer_id":
+                    estimate.setCustomerId(reader.nextString());
+                    break;
+                case "status":
+                    estimate.setStatus(reader.nextString());
+                    break;
+                case "estimate_number":
+                    estimate.setEstimateNumber(reader.nextString());
+                    break;
+                case "reference_number":
+                    estimate.setReferenceNumber(reader.nextString());
+                    break;
+                case "date":
+                    estimate.setDate(reader.nextString());
+                    break;
+                case "currency_id":
+                    estimate.setCurrencyId(reader.nextString());
+                    break;
+                case "currency_code":
+                    estimate.setCurrencyCode(reader.nextString());
+                    break;
+                case "total":
+                    estimate.setTotal(reader.nextDouble());
+                    break;
+                case "created_time":
+                    estimate.setCreatedTime(reader.nextString());
+                    break;
+                case "accepted_date":
+                    estimate.setAcceptedDate(reader.nextString());
+                    break;
+                case "declined_date":
+                    estimate.setDeclinedDate(reader.nextString());
+                    break;
+                case "expiry_date":
+                    estimate.setExpiryDate(reader.nextString());
+                    break;
+                case "is_viewed_by_client":
+                    estimate.setIsViewedByClient(reader.nextBoolean());
+                    break;
+                case "client_viewed_time":
+                    estimate.setClientViewedTime(reader.nextString());
+                    break;
+                case "contact_persons":
+                    estimate.setContactPersons(ResponseReader.readStrings(reader));
+                    break;
+                case "exchange_rate":
+                    estimate.setExchangeRate(reader.nextDouble());
+                    break;
+                case "discount":
+                    estimate.setDiscount(reader.nextDouble());
+                    break;
+                case "is_discount_before_tax":
+                    estimate.setIsDiscountBeforeTax(reader.nextBoolean());
+                    break;
+                case "discount_type":
+                    estimate.setDiscountType(reader.nextString());
+                    break;
+                case "line_items":
+                    estimate.setLineItems(ResponseReader.readArray(reader, new ArrayList<LineItem>(), this::readLineItem));
+                    break;
+                case "shipping_charge":
+                    estimate.setShippingCharge(reader.nextDouble());
+                    break;
+                case "adjustment":
+                    estimate.setAdjustment(reader.nextDouble());
+                    break;
+                case "adjustment_description":
+                    estimate.setAdjustmentDescription(reader.nextString());
+                    break;
+                case "sub_total":
+                    estimate.setSubTotal(reader.nextDouble());
+                    break;
+                case "tax_total":
+                    estimate.setTaxTotal(reader.nextDouble());
+                    break;
+                case "price_precision":
+                    estimate.setPricePrecision(reader.nextInt());
+                    break;
+                case "taxes":
+                    estimate.setTaxes(ResponseReader.readArray(reader, new ArrayList<Tax>(), this::readTax));
+                    break;
+                case "billing_address":
+                    estimate.setBillingAddress(readAddress(reader));
+                    break;
+                case "shipping_address":
+                    estimate.setShippingAddress(readAddress(reader));
+                    break;
+                case "notes":
+                    estimate.setNotes(reader.nextString());
+                    break;
+                case "terms":
+                    estimate.setTerms(reader.nextString());
+                    break;
+                case "custom_fields":
+                    estimate.setCustomFields(ResponseReader.readArray(reader, new ArrayList<CustomField>(), this::readCustomField));
+                    break;
+                case "template_id":
+                    estimate.setTemplateId(reader.nextString());
+                    break;
+                case "template_name":
+                    estimate.setTemplateName(reader.nextString());
+                    break;
+                case "last_modified_time":
+                    estimate.setLastModifiedTime(reader.nextString());
+                    break;
+                case "salesperson_id":
+                    estimate.setSalespersonId(reader.nextString());
+                    break;
+                case "salesperson_name":
+                    estimate.setSalespersonName(reader.nextString());
+                    break;
+                case "currency_symbol":
+                    estimate.setCurrencySymbol(reader.nextString());
+                    break;
+                case "template_type":
+                    estimate.setTemplateType(reader.nextString());
+                    break;
+                case "allow_partial_payments":
+                    estimate.setAllowPartialPayments(reader.nextBoolean());
+                    break;
+                case "accept_retainer":
+                    estimate.setAcceptRetainer(reader.nextBoolean());
+                    break;
+                case "retainer_percentage":
+                    estimate.setRetainerPercentage(reader.nextString());
+                    break;
+                case "payment_options":
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        switch (reader.nextName()) {
+                            case "payment_gateways":
+                                estimate.setPaymentGateways(ResponseReader.readArray(reader, new ArrayList<PaymentGateway>(), this::readPaymentGateway));
+                                break;
+                            default:
+                                reader.skipValue();
+                        }
+                    }
+                    reader.endObject();
+                    break;
+                case "tax_id":
+                    estimate.setTaxId(reader.nextString());
+                    break;
+                case "tax_authority_id":
+                    estimate.setTaxAuthorityId(reader.nextString());
+                    break;
+                case "tax_exemption_id":
+                    estimate.setTaxExemptionId(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        return estimateList;
+        return estimate;
     }
 
 
@@ -292,87 +523,204 @@ public class EstimateParser {
      *
      * @param response This json response contains the email content details for estimate.
      * @return Returns the Email object.
+     * @deprecated Use {@link #getEmailContent(Reader)}.
      */
 
+    @Deprecated
     public Email getEmailContent(String response) throws Exception {
-        Email email = new Email();
+        return getEmailContent(new StringReader(response));
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the json response and returns the Email object.
+     *
+     * @param response This json response contains the email content details for estimate.
+     * @return Returns the Email object.
+     */
 
-        JSONObject data = jsonObject.getJSONObject("data"); //No I18N
+    public Email getEmailContent(Reader response) throws Exception {
+        return getEmailContent(response, null);
+    }
 
-        email.setSubject(data.getString("subject"));
-        email.setBody(data.getString("body"));
-        email.setFileName(data.getString("file_name"));
-        email.setCustomerId(data.getString("customer_id"));
+    /**
+     * Parse the json response and returns the Email object.
+     *
+     * @param response This json response contains the email content details for estimate.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Email object.
+     */
 
-        JSONArray emailtemplates = data.getJSONArray("emailtemplates"); //No I18N
+    public Email getEmailContent(Reader response, Set<String> fields) throws Exception {
 
-        List<Emailtemplate> emailtemplatesList = new ArrayList<Emailtemplate>();
+        return ResponseReader.readObject(response, "data", ResponseReader.project(this::readEmail, fields, EMAIL_FIELDS)); //No I18N
+    }
 
-        for (int i = 0; i < emailtemplates.length(); i++) {
-            Emailtemplate emailtemplate = new Emailtemplate();
+    /**
+     * Read an email.
+     */
 
-            emailtemplate.setSelected(emailtemplates.getJSONObject(i).getBoolean("selected")); //No I18N
-            emailtemplate.setName(emailtemplates.getJSONObject(i).getString("name"));
-            emailtemplate.setEmailTemplateId(emailtemplates.getJSONObject(i).getString("email_template_id"));
+    private Email readEmail(JsonReader reader) throws Exception {
 
-            emailtemplatesList.add(i, emailtemplate);
+        Email email = new Email();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "subject":
+                    email.setSubject(reader.nextString());
+                    break;
+                case "body":
+                    email.setBody(reader.nextString());
+                    break;
+                case "file_name":
+                    email.setFileName(reader.nextString());
+                    break;
+                case "customer_id":
+                    email.setCustomerId(reader.nextString());
+                    break;
+                case "emailtemplates":
+                    email.setEmailtemplates(ResponseReader.readArray(reader, new ArrayList<Emailtemplate>(), this::readEmailtemplate));
+                    break;
+                case "to_contacts":
+                    email.setToContacts(ResponseReader.readArray(reader, new ArrayList<ToContact>(), this::readToContact));
+                    break;
+                case "from_emails":
+                    email.setFromEmails(ResponseReader.readArray(reader, new ArrayList<FromEmail>(), this::readFromEmail));
+                    break;
+                case "attach_pdf":
+                    email.setAttachPdf(reader.nextBoolean());
+                    break;
+                case "customer_name":
+                    email.setCustomerName(reader.nextString());
+                    break;
+                case "file_name_without_extension":
+                    email.setFileNameWithoutExtension(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        email.setEmailtemplates(emailtemplatesList);
+        return email;
+    }
 
-        JSONArray toContacts = data.getJSONArray("to_contacts"); //No I18N
+    /**
+     * Read an emailtemplate.
+     */
 
-        List<ToContact> toContactsList = new ArrayList<ToContact>();
+    private Emailtemplate readEmailtemplate(JsonReader reader) throws Exception {
+
+        Emailtemplate emailtemplate = new Emailtemplate();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "selected":
+                    emailtemplate.setSelected(reader.nextBoolean());
+                    break;
+                case "name":
+                    emailtemplate.setName(reader.nextString());
+                    break;
+                case "email_template_id":
+                    emailtemplate.setEmailTemplateId(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        for (int j = 0; j < toContacts.length(); j++) {
-            ToContact toContact = new ToContact();
+        return emailtemplate;
+    }
 
-            toContact.setFirstName(toContacts.getJSONObject(j).getString("first_name"));
-            toContact.setLastName(toContacts.getJSONObject(j).getString("last_name"));
-            toContact.setSelected(toContacts.getJSONObject(j).getBoolean("selected")); //No I18N
-            toContact.setPhone(toContacts.getJSONObject(j).getString("phone"));
-            toContact.setEmail(toContacts.getJSONObject(j).getString("email"));
-            toContact.setContactPersonId(toContacts.getJSONObject(j).getString("contact_person_id"));
-            toContact.setSalutation(toContacts.getJSONObject(j).getString("salutation"));
-            toContact.setMobile(toContacts.getJSONObject(j).getString("mobile"));
+    /**
+     * Read a to contact.
+     */
 
-            toContactsList.add(j, toContact);
+    private ToContact readToContact(JsonReader reader) throws Exception {
+
+        ToContact toContact = new ToContact();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "first_name":
+                    toContact.setFirstName(reader.nextString());
+                    break;
+                case "last_name":
+                    toContact.setLastName(reader.nextString());
+                    break;
+                case "selected":
+                    toContact.setSelected(reader.nextBoolean());
+                    break;
+                case "phone":
+                    toContact.setPhone(reader.nextString());
+                    break;
+                case "email":
+                    toContact.setEmail(reader.nextString());
+                    break;
+                case "contact_person_id":
+                    toContact.setContactPersonId(reader.nextString());
+                    break;
+                case "salutation":
+                    toContact.setSalutation(reader.nextString());
+                    break;
+                case "mobile":
+                    toContact.setMobile(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        email.setToContacts(toContactsList);
-
-        JSONArray fromEmails = data.getJSONArray("from_emails"); //No I18N
-
-        List<FromEmail> fromEmailsList = new ArrayList<FromEmail>();
+        return toContact;
+    }
 
-        for (int k = 0; k < fromEmails.length(); k++) {
-            FromEmail fromEmail = new FromEmail();
+    /**
+     * Read a from email.
+     */
 
-            fromEmail.setUserName(fromEmails.getJSONObject(k).getString("user_name"));
-            fromEmail.setSelected(fromEmails.getJSONObject(k).getBoolean("selected")); //No I18N
-            fromEmail.setEmail(fromEmails.getJSONObject(k).getString("email"));
-            if (fromEmails.getJSONObject(k).has("is_org_email_id")) {
-                fromEmail.setOrgEmailId(fromEmails.getJSONObject(k).getBoolean("is_org_email_id")); //No I18N
+    private FromEmail readFromEmail(JsonReader reader) throws Exception {
+
+        FromEmail fromEmail = new FromEmail();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "user_name":
+                    fromEmail.setUserName(reader.nextString());
+                    break;
+                case "selected":
+                    fromEmail.setSelected(reader.nextBoolean());
+                    break;
+                case "email":
+                    fromEmail.setEmail(reader.nextString());
+                    break;
+                case "is_org_email_id":
+                    fromEmail.setOrgEmailId(reader.nextBoolean());
+                    break;
+                default:
+                    reader.skipValue();
             }
-
-            fromEmailsList.add(k, fromEmail);
         }
+        reader.endObject();
 
-        email.setFromEmails(fromEmailsList);
+        return fromEmail;
+    }
 
-        if (data.has("attach_pdf")) {
-            email.setAttachPdf(data.getBoolean("attach_pdf"));    //No I18N
-        }
-        if (data.has("customer_name")) {
-            email.setCustomerName(data.getString("customer_name"));
-        }
-        if (data.has("file_name_without_extension")) {
-            email.setFileNameWithoutExtension(data.getString("file_name_without_extension"));
-        }
+    /**
+     * Parse the json response and returns the TemplateList object.
+     *
+     * @param response This json response contains list of templates details for estimate.
+     * @return Returns the TemplateList object.
+     * @deprecated Use {@link #getTemplates(Reader)}.
+     */
 
-        return email;
+    @Deprecated
+    public TemplateList getTemplates(String response) throws Exception {
+        return getTemplates(new StringReader(response));
     }
 
     /**
@@ -382,25 +730,55 @@ public class EstimateParser {
      * @return Returns the TemplateList object.
      */
 
-    public TemplateList getTemplates(String response) throws Exception {
+    public TemplateList getTemplates(Reader response) throws Exception {
+        return getTemplates(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the TemplateList object.
+     *
+     * @param response This json response contains list of templates details for estimate.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the TemplateList object.
+     */
+
+    public TemplateList getTemplates(Reader response, Set<String> fields) throws Exception {
 
         TemplateList templateList = new TemplateList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        ResponseReader.readList(response, "templates", templateList, ResponseReader.project(this::readTemplate, fields, TEMPLATE_FIELDS)); //No I18N
 
-        JSONArray jsonArray = jsonObject.getJSONArray("templates"); //No I18N
+        return templateList;
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Template template = new Template();
+    }
 
-            template.setTemplateName(jsonArray.getJSONObject(i).getString("template_name"));
-            template.setTemplateId(jsonArray.getJSONObject(i).getString("template_id"));
-            template.setTemplateType(jsonArray.getJSONObject(i).getString("template_type"));
+    /**
+     * Read a template of the list.
+     */
 
-            templateList.add(template);
+    private Template readTemplate(JsonReader reader) throws Exception {
+
+        Template template = new Template();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "template_name":
+                    template.setTemplateName(reader.nextString());
+                    break;
+                case "template_id":
+                    template.setTemplateId(reader.nextString());
+                    break;
+                case "template_type":
+                    template.setTemplateType(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return templateList;
+        return template;
     }
 
     /**
@@ -408,36 +786,97 @@ public class EstimateParser {
      *
      * @param response This json response contains list of comments details for estimate.
      * @return Returns the CommentList object.
+     * @deprecated Use {@link #getComments(Reader)}.
      */
 
+    @Deprecated
     public CommentList getComments(String response) throws Exception {
-        CommentList commentList = new CommentList();
+        return getComments(new StringReader(response));
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the json respone and returns the CommentList object.
+     *
+     * @param response This json response contains list of comments details for estimate.
+     * @return Returns the CommentList object.
+     */
 
-        JSONArray jsonArray = jsonObject.getJSONArray("comments"); //No I18N
+    public CommentList getComments(Reader response) throws Exception {
+        return getComments(response, null);
+    }
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Comment comment = new Comment();
+    /**
+     * Parse the json respone and returns the CommentList object.
+     *
+     * @param response This json response contains list of comments details for estimate.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the CommentList object.
+     */
 
-            comment.setCommentId(jsonArray.getJSONObject(i).getString("comment_id"));
-            comment.setDescription(jsonArray.getJSONObject(i).getString("description"));
+    public CommentList getComments(Reader response, Set<String> fields) throws Exception {
 
-            comment.setEstimateId(jsonArray.getJSONObject(i).getString("estimate_id"));
-            comment.setCommentedById(jsonArray.getJSONObject(i).getString("commented_by_id"));
-            comment.setCommentedBy(jsonArray.getJSONObject(i).getString("commented_by"));
-            comment.setCommentType(jsonArray.getJSONObject(i).getString("comment_type"));
-            comment.setDate(jsonArray.getJSONObject(i).getString("date"));
-            comment.setDateDescription(jsonArray.getJSONObject(i).getString("date_description"));
-            comment.setTime(jsonArray.getJSONObject(i).getString("time"));
-            comment.setTransactionId(jsonArray.getJSONObject(i).getString("transaction_id"));
-            comment.setTransactionType(jsonArray.getJSONObject(i).getString("transaction_type"));
-            comment.setOperationType(jsonArray.getJSONObject(i).getString("operation_type"));
+        CommentList commentList = new CommentList();
 
-            commentList.add(comment);
-        }
+        ResponseReader.readList(response, "comments", commentList, ResponseReader.project(this::readComment, fields, COMMENT_FIELDS)); //No I18N
 
         return commentList;
+
+    }
+
+    /**
+     * Read a comment of the list.
+     */
+
+    private Comment readComment(JsonReader reader) throws Exception {
+
+        Comment comment = new Comment();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "comment_id":
+                    comment.setCommentId(reader.nextString());
+                    break;
+                case "description":
+                    comment.setDescription(reader.nextString());
+                    break;
+                case "estimate_id":
+                    comment.setEstimateId(reader.nextString());
+                    break;
+                case "commented_by_id":
+                    comment.setCommentedById(reader.nextString());
+                    break;
+                case "commented_by":
+                    comment.setCommentedBy(reader.nextString());
+                    break;
+                case "comment_type":
+                    comment.setCommentType(reader.nextString());
+                    break;
+                case "date":
+                    comment.setDate(reader.nextString());
+                    break;
+                case "date_description":
+                    comment.setDateDescription(reader.nextString());
+                    break;
+                case "time":
+                    comment.setTime(reader.nextString());
+                    break;
+                case "transaction_id":
+                    comment.setTransactionId(reader.nextString());
+                    break;
+                case "transaction_type":
+                    comment.setTransactionType(reader.nextString());
+                    break;
+                case "operation_type":
+                    comment.setOperationType(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return comment;
     }
 
     /**
@@ -445,26 +884,36 @@ public class EstimateParser {
      *
      * @param response This json response contains the comment details for estimate.
      * @return Returns the Comment object.
+     * @deprecated Use {@link #getComment(Reader)}.
      */
 
+    @Deprecated
     public Comment getComment(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getComment(new StringReader(response));
+    }
+
+    /**
+     * Parse the json respone and returns the Comment object.
+     *
+     * @param response This json response contains the comment details for estimate.
+     * @return Returns the Comment object.
+     */
 
-        JSONObject comment = jsonObject.getJSONObject("comment"); //No I18N
+    public Comment getComment(Reader response) throws Exception {
+        return getComment(response, null);
+    }
 
-        Comment comments = new Comment();
+    /**
+     * Parse the json respone and returns the Comment object.
+     *
+     * @param response This json response contains the comment details for estimate.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Comment object.
+     */
 
-        comments.setCommentId(comment.getString("comment_id"));
-        comments.setDescription(comment.getString("description"));
-        comments.setEstimateId(comment.getString("estimate_id"));
-        comments.setCommentedById(comment.getString("commented_by_id"));
-        comments.setCommentedBy(comment.getString("commented_by"));
-        comments.setCommentType(comment.getString("comment_type"));
-        comments.setDate(comment.getString("date"));
-        comments.setDateDescription(comment.getString("date_description"));
-        comments.setTime(comment.getString("time"));
+    public Comment getComment(Reader response, Set<String> fields) throws Exception {
 
-        return comments;
+        return ResponseReader.readObject(response, "comment", ResponseReader.project(this::readComment, fields, COMMENT_FIELDS)); //No I18N
     }
 
     /**
@@ -472,13 +921,23 @@ public class EstimateParser {
      *
      * @param response This json response contains the success message of post or update or delete requests.
      * @return Returns the success message.
+     * @deprecated Use {@link #getMessage(Reader)}.
      */
 
+    @Deprecated
     public String getMessage(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getMessage(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns a string object.
+     *
+     * @param response This json response contains the success message of post or update or delete requests.
+     * @return Returns the success message.
+     */
 
-        String success = jsonObject.getString("message");
+    public String getMessage(Reader response) throws Exception {
 
-        return success;
+        return ResponseReader.readObject(response, "message", JsonReader::nextString); //No I18N
     }
 }
@@ -3,8 +3,11 @@
 package com.zoho.books.parser;
 
 import com.zoho.books.model.*;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.zoho.books.util.JsonReader;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Set;
 
 /**
  * ExpenseParser is used to parse the json response and make it into the respective objects.
@@ -12,56 +15,62 @@ import org.json.JSONObject;
 
 public class ExpenseParser {
 
+    /**
+     * Names of the fields read from an expense.
+     */
+
+    private static final Set<String> EXPENSE_FIELDS = Set.of("expense_id", "date", "account_name", //No I18N
+            "paid_through_account_name", "description", "currency_id", "currency_code", "bcy_total", "total", //No I18N
+            "is_billable", "reference_number", "customer_id", "customer_name", "vendor_id", "vendor_name", //No I18N
+            "status", "created_time", "expense_receipt_name", "expense_item_id", "account_id", //No I18N
+            "paid_through_account_id", "tax_id", "tax_name", "tax_percentage", "exchange_rate", "tax_amount", //No I18N
+            "sub_total", "amount", "is_inclusive_tax", "last_modified_time", "invoice_id", "invoice_number", //No I18N
+            "project_id", "project_name"); //No I18N
+
+    /**
+     * Names of the fields read from a comment of the list.
+     */
+
+    private static final Set<String> COMMENT_FIELDS = Set.of("comment_id", "expense_id", "description", //No I18N
+            "commented_by_id", "commented_by", "date", "date_description", "time", "operation_type", //No I18N
+            "transaction_id", "transaction_type"); //No I18N
+
+
     /**
      * Parse the json response and returns the Expense object.
      *
      * @param response This json response contains the expense details.
      * @return Returns the Expense object.
+     * @deprecated Use {@link #getExpense(Reader)}.
      */
 
+    @Deprecated
     public Expense getExpense(String response) throws Exception {
-        Expense expense = new Expense();
+        return getExpense(new StringReader(response));
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONObject expenses = jsonObject.getJSONObject("expense"); //No I18N
-
-        expense.setExpenseId(expenses.getString("expense_id"));
-        expense.setExpenseItemId(expenses.getString("expense_item_id"));
-        expense.setAccountId(expenses.getString("account_id"));
-        expense.setAccountName(expenses.getString("account_name"));
-        expense.setPaidThroughAccountId(expenses.getString("paid_through_account_id"));
-        expense.setPaidThroughAccountName(expenses.getString("paid_through_account_name"));
-        expense.setVendorId(expenses.getString("vendor_id"));
-        expense.setVendorName(expenses.getString("vendor_name"));
-        expense.setDate(expenses.getString("date"));
-        expense.setTaxId(expenses.getString("tax_id"));
-        expense.setTaxName(expenses.getString("tax_name"));
-        expense.setTaxPercentage(expenses.getDouble("tax_percentage"));    //No I18N
-        expense.setCurrencyId(expenses.getString("currency_id"));
-        expense.setCurrencyCode(expenses.getString("currency_code"));
-        expense.setExchangeRate(expenses.getDouble("exchange_rate"));    //No I18N
-        expense.setTaxAmount(expenses.getDouble("tax_amount"));        //No I18N
-        expense.setSubTotal(expenses.getDouble("sub_total"));            //No I18N
-        expense.setBcyTotal(expenses.getDouble("bcy_total"));            //No I18N
-        expense.setTotal(expenses.getDouble("total"));                //No I18N
-        expense.setAmount(expenses.getDouble("amount"));            //No I18N
-        expense.setIsInclusiveTax(expenses.getBoolean("is_inclusive_tax"));    //No I18N
-        expense.setReferenceNumber(expenses.getString("reference_number"));
-        expense.setDescription(expenses.getString("description"));
-        expense.setIsBillable(expenses.getBoolean("is_billable"));        //No I18N
-        expense.setCustomerId(expenses.getString("customer_id"));
-        expense.setCustomerName(expenses.getString("customer_name"));
-        expense.setExpenseReceiptName(expenses.getString("expense_receipt_name"));
-        expense.setCreatedTime(expenses.getString("created_time"));
-        expense.setLastModifiedTime(expenses.getString("last_modified_time"));
-        expense.setStatus(expenses.getString("status"));
-        expense.setInvoiceId(expenses.getString("invoice_id"));
-        expense.setInvoiceNumber(expenses.getString("invoice_number"));
-        expense.setProjectId(expenses.getString("project_id"));
-        expense.setProjectName(expenses.getString("project_name"));
+    /**
+     * Parse the json response and returns the Expense object.
+     *
+     * @param response This json response contains the expense details.
+     * @return Returns the Expense object.
+     */
 
-        return expense;
+    public Expense getExpense(Reader response) throws Exception {
+        return getExpense(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the Expense object.
+     *
+     * @param response This json response contains the expense details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Expense object.
+     */
+
+    public Expense getExpense(Reader response, Set<String> fields) throws Exception {
+
+        return ResponseReader.readObject(response, "expense", ResponseReader.project(this::readExpense, fields, EXPENSE_FIELDS)); //No I18N
     }
 
     /**
@@ -69,57 +78,176 @@ public class ExpenseParser {
      *
      * @param response This json response contains list of expenses details.
      * @return Returns the Expense object.
+     * @deprecated Use {@link #getExpenses(Reader)}.
      */
 
+    @Deprecated
     public ExpenseList getExpenses(String response) throws Exception {
+        return getExpenses(new StringReader(response));
+    }
 
-        ExpenseList expenseList = new ExpenseList();
+    /**
+     * Parse the json response and returns the ExpenseList object.
+     *
+     * @param response This json response contains list of expenses details.
+     * @return Returns the Expense object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONArray jsonArray = jsonObject.getJSONArray("expenses"); //No I18N
-
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Expense expense = new Expense();
-
-            expense.setExpenseId(jsonArray.getJSONObject(i).getString("expense_id"));
-            expense.setDate(jsonArray.getJSONObject(i).getString("date"));
-            expense.setAccountName(jsonArray.getJSONObject(i).getString("account_name"));
-            expense.setPaidThroughAccountName(jsonArray.getJSONObject(i).getString("paid_through_account_name"));
-            expense.setDescription(jsonArray.getJSONObject(i).getString("description"));
-            expense.setCurrencyId(jsonArray.getJSONObject(i).getString("currency_id"));
-            expense.setCurrencyCode(jsonArray.getJSONObject(i).getString("currency_code"));
-            expense.setBcyTotal(jsonArray.getJSONObject(i).getDouble("bcy_total"));    //No I18N
-            expense.setTotal(jsonArray.getJSONObject(i).getDouble("total"));        //No I18N
-            expense.setIsBillable(jsonArray.getJSONObject(i).getBoolean("is_billable"));    //No I18N
-            expense.setReferenceNumber(jsonArray.getJSONObject(i).getString("reference_number"));
-            expense.setCustomerId(jsonArray.getJSONObject(i).getString("customer_id"));
-            expense.setCustomerName(jsonArray.getJSONObject(i).getString("customer_name"));
-            expense.setVendorId(jsonArray.getJSONObject(i).getString("vendor_id"));
-            expense.setVendorName(jsonArray.getJSONObject(i).getString("vendor_name"));
-            expense.setStatus(jsonArray.getJSONObject(i).getString("status"));
-            expense.setCreatedTime(jsonArray.getJSONObject(i).getString("created_time"));
-            expense.setExpenseReceiptName(jsonArray.getJSONObject(i).getString("expense_receipt_name"));
-
-            expenseList.add(expense);
+    public ExpenseList getExpenses(Reader response) throws Exception {
+        return getExpenses(response, false);
+    }
 
-        }
+    /**
+     * Parse the json response and returns the ExpenseList object.
+     *
+     * @param response This json response contains list of expenses details.
+     * @param lazy     Whether a row is made into its model object only when it is first got from the list.
+     * @return Returns the Expense object.
+     */
 
-        PageContext pageContext = new PageContext();
+    public ExpenseList getExpenses(Reader response, boolean lazy) throws Exception {
+        return getExpenses(response, lazy, null);
+    }
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    /**
+     * Parse the json response and returns the ExpenseList object.
+     *
+     * @param response This json response contains list of expenses details.
+     * @param lazy     Whether a row is made into its model object only when it is first got from the list.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the Expense object.
+     */
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+    public ExpenseList getExpenses(Reader response, boolean lazy, Set<String> fields) throws Exception {
 
-        expenseList.setPageContext(pageContext);
+        ExpenseList expenseList = new ExpenseList();
+
+        expenseList.setPageContext(ResponseReader.readRows(response, "expenses", expenseList, "expense_id", "total", ResponseReader.project(this::readExpense, fields, EXPENSE_FIELDS), lazy)); //No I18N
 
         return expenseList;
+
+    }
+
+    /**
+     * Read an expense.
+     */
+
+    private Expense readExpense(JsonReader reader) throws Exception {
+
+        Expense expense = new Expense();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "expense_id":
+                    expense.setExpenseId(reader.nextString());
+                    break;
+                case "date":
+                    expense.setDate(reader.nextString());
+                    break;
+                case "account_name":
+                    expense.setAccountName(reader.nextString());
+                    break;
+                case "paid_through_account_name":
+                    expense.setPaidThroughAccountName(reader.nextString());
+                    break;
+                case "description":
+                    expense.setDescription(reader.nextString());
+                    break;
+                case "currency_id":
+                    expense.setCurrencyId(reader.nextString());
+                    break;
+                case "currency_code":
+                    expense.setCurrencyCode(reader.nextString());
+                    break;
+                case "bcy_total":
+                    expense.setBcyTotal(reader.nextDouble());
+                    break;
+                case "total":
+                    expense.setTotal(reader.nextDouble());
+                    break;
+                case "is_billable":
+                    expense.setIsBillable(reader.nextBoolean());
+                    break;
+                case "reference_number":
+                    expense.setReferenceNumber(reader.nextString());
+                    break;
+                case "customer_id":
+                    expense.setCustomerId(reader.nextString());
+                    break;
+                case "customer_name":
+                    expense.setCustomerName(reader.nextString());
+                    break;
+                case "vendor_id":
+                    expense.setVendorId(reader.nextString());
+                    break;
+                case "vendor_name":
+                    expense.setVendorName(reader.nextString());
+                    break;
+                case "status":
+                    expense.setStatus(reader.nextString());
+                    break;
+                case "created_time":
+                    expense.setCreatedTime(reader.nextString());
+                    break;
+                case "expense_receipt_name":
+                    expense.setExpenseReceiptName(reader.nextString());
+                    break;
+                case "expense_item_id":
+                    expense.setExpenseItemId(reader.nextString());
+                    break;
+                case "account_id":
+                    expense.setAccountId(reader.nextString());
+                    break;
+                case "paid_through_account_id":
+                    expense.setPaidThroughAccountId(reader.nextString());
+                    break;
+                case "tax_id":
+                    expense.setTaxId(reader.nextString());
+                    break;
+                case "tax_name":
+                    expense.setTaxName(reader.nextString());
+                    break;
+                case "tax_percentage":
+                    expense.setTaxPercentage(reader.nextDouble());
+                    break;
+                case "exchange_rate":
+                    expense.setExchangeRate(reader.nextDouble());
+                    break;
+                case "tax_amount":
+                    expense.setTaxAmount(reader.nextDouble());
+                    break;
+                case "sub_total":
+                    expense.setSubTotal(reader.nextDouble());
+                    break;
+                case "amount":
+                    expense.setAmount(reader.nextDouble());
+                    break;
+                case "is_inclusive_tax":
+                    expense.setIsInclusiveTax(reader.nextBoolean());
+                    break;
+                case "last_modified_time":
+                    expense.setLastModifiedTime(reader.nextString());
+                    break;
+                case "invoice_id":
+                    expense.setInvoiceId(reader.nextString());
+                    break;
+                case "invoice_number":
+                    expense.setInvoiceNumber(reader.nextString());
+                    break;
+                case "project_id":
+                    expense.setProjectId(reader.nextString());
+                    break;
+                case "project_name":
+                    expense.setProjectName(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return expense;
     }
 
     /**
@@ -127,35 +255,94 @@ public class ExpenseParser {
      *
      * @param response This json response contains list of comments details for expense.
      * @return Returns the CommentList object.
+     * @deprecated Use {@link #getComments(Reader)}.
      */
 
+    @Deprecated
     public CommentList getComments(String response) throws Exception {
+        return getComments(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the CommentList object.
+     *
+     * @param response This json response contains list of comments details for expense.
+     * @return Returns the CommentList object.
+     */
+
+    public CommentList getComments(Reader response) throws Exception {
+        return getComments(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the CommentList object.
+     *
+     * @param response This json response contains list of comments details for expense.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the CommentList object.
+     */
+
+    public CommentList getComments(Reader response, Set<String> fields) throws Exception {
 
         CommentList commentList = new CommentList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        ResponseReader.readList(response, "comments", commentList, ResponseReader.project(this::readComment, fields, COMMENT_FIELDS)); //No I18N
 
-        JSONArray jsonArray = jsonObject.getJSONArray("comments"); //No I18N
+        return commentList;
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Comment comment = new Comment();
+    }
 
-            comment.setCommentId(jsonArray.getJSONObject(i).getString("comment_id"));
-            comment.setExpenseId(jsonArray.getJSONObject(i).getString("expense_id"));
-            comment.setDescription(jsonArray.getJSONObject(i).getString("description"));
-            comment.setCommentedById(jsonArray.getJSONObject(i).getString("commented_by_id"));
-            comment.setCommentedBy(jsonArray.getJSONObject(i).getString("commented_by"));
-            comment.setDate(jsonArray.getJSONObject(i).getString("date"));
-            comment.setDateDescription(jsonArray.getJSONObject(i).getString("date_description"));
-            comment.setTime(jsonArray.getJSONObject(i).getString("time"));
-            comment.setOperationType(jsonArray.getJSONObject(i).getString("operation_type"));
-            comment.setTransactionId(jsonArray.getJSONObject(i).getString("transaction_id"));
-            comment.setTransactionType(jsonArray.getJSONObject(i).getString("transaction_type"));
+    /**
+     * Read a comment of the list.
+     */
 
-            commentList.add(comment);
+    private Comment readComment(JsonReader reader) throws Exception {
+
+        Comment comment = new Comment();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "comment_id":
+                    comment.setCommentId(reader.nextString());
+                    break;
+                case "expense_id":
+                    comment.setExpenseId(reader.nextString());
+                    break;
+                case "description":
+                    comment.setDescription(reader.nextString());
+                    break;
+                case "commented_by_id":
+                    comment.setCommentedById(reader.nextString());
+                    break;
+                case "commented_by":
+                    comment.setCommentedBy(reader.nextString());
+                    break;
+                case "date":
+                    comment.setDate(reader.nextString());
+                    break;
+                case "date_description":
+                    comment.setDateDescription(reader.nextString());
+                    break;
+                case "time":
+                    comment.setTime(reader.nextString());
+                    break;
+                case "operation_type":
+                    comment.setOperationType(reader.nextString());
+                    break;
+                case "transaction_id":
+                    comment.setTransactionId(reader.nextString());
+                    break;
+                case "transaction_type":
+                    comment.setTransactionType(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return commentList;
+        return comment;
     }
 
     /**
@@ -163,13 +350,23 @@ public class ExpenseParser {
      *
      * @param response This json response contains the success message of post or update or delete requests.
      * @return Returns the success message.
+     * @deprecated Use {@link #getMessage(Reader)}.
      */
 
+    @Deprecated
     public String getMessage(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getMessage(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns a string object.
+     *
+     * @param response This json response contains the success message of post or update or delete requests.
+     * @return Returns the success message.
+     */
 
-        String success = jsonObject.getString("message");
+    public String getMessage(Reader response) throws Exception {
 
-        return success;
+        return ResponseReader.readObject(response, "message", JsonReader::nextString); //No I18N
     }
 }
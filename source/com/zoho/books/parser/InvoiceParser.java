@@ -3,11 +3,12 @@
 package com.zoho.books.parser;
 
 import com.zoho.books.model.*;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.zoho.books.util.JsonReader;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 
 /**
  * InvoiceParser is used to parse the json response and make it into the respective objects.
@@ -16,301 +17,583 @@ import java.util.List;
 public class InvoiceParser {
 
     /**
-     * Parse the json response and returns the InvoiceList object.
-     *
-     * @param response This json respone contains list of invoices details.
-     * @return Returns the InvoiceList object.
+     * Names of the fields read from an invoice.
      */
 
-    public InvoiceList getInvoices(String response) throws Exception {
-
-        InvoiceList invoiceList = new InvoiceList();
-
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONArray jsonArray = jsonObject.getJSONArray("invoices"); //No I18N
-
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Invoice inv = new Invoice();
-
-            inv.setInvoiceId(jsonArray.getJSONObject(i).getString("invoice_id"));
-            inv.setCustomerName(jsonArray.getJSONObject(i).getString("customer_name"));
-            inv.setCustomerId(jsonArray.getJSONObject(i).getString("customer_id"));
-            inv.setStatus(jsonArray.getJSONObject(i).getString("status"));
-            inv.setInvoiceNumber(jsonArray.getJSONObject(i).getString("invoice_number"));
-            inv.setReferenceNumber(jsonArray.getJSONObject(i).getString("reference_number"));
-            inv.setDate(jsonArray.getJSONObject(i).getString("date"));
-            inv.setDueDate(jsonArray.getJSONObject(i).getString("due_date"));
-            inv.setDueDays(jsonArray.getJSONObject(i).getString("due_days"));
-            inv.setCurrencyId(jsonArray.getJSONObject(i).getString("currency_id"));
-            inv.setCurrencyCode(jsonArray.getJSONObject(i).getString("currency_code"));
-            inv.setTotal(jsonArray.getJSONObject(i).getDouble("total"));     //No I18N
-            inv.setBalance(jsonArray.getJSONObject(i).getDouble("balance")); //No I18N
-            inv.setCreatedTime(jsonArray.getJSONObject(i).getString("created_time"));
-            inv.setIsEmailed(jsonArray.getJSONObject(i).getBoolean("is_emailed"));        //No I18N
-            inv.setRemindersSent(jsonArray.getJSONObject(i).getInt("reminders_sent"));    //No I18N
-            inv.setPaymentExpectedDate(jsonArray.getJSONObject(i).getString("payment_expected_date"));
-            inv.setLastPaymentDate(jsonArray.getJSONObject(i).getString("last_payment_date"));
-
-            if (jsonArray.getJSONObject(i).has("is_viewed_by_client")) {
-                inv.setViewedByClient(jsonArray.getJSONObject(i).getBoolean("is_viewed_by_client"));    //No I18N
-            }
-            if (jsonArray.getJSONObject(i).has("client_viewed_time")) {
-                inv.setClientViewedTime(jsonArray.getJSONObject(i).getString("client_viewed_time"));
-            }
-
+    private static final Set<String> INVOICE_FIELDS = Set.of("invoice_id", "customer_name", "customer_id", //No I18N
+            "status", "invoice_number", "reference_number", "date", "due_date", "due_days", "currency_id", //No I18N
+            "currency_code", "total", "balance", "created_time", "is_emailed", "reminders_sent", //No I18N
+            "payment_expected_date", "last_payment_date", "is_viewed_by_client", "client_viewed_time", //No I18N
+            "payment_terms", "payment_terms_label", "exchange_rate", "discount", "is_discount_before_tax", //No I18N
+            "discount_type", "recurring_invoice_id", "contact_persons", "line_items", "shipping_charge", //No I18N
+            "adjustment", "adjustment_description", "sub_total", "tax_total", "taxes", //No I18N
+            "payment_reminder_enabled", "payment_made", "credits_applied", "tax_amount_withheld", //No I18N
+            "write_off_amount", "allow_partial_payments", "price_precision", "payment_options", //No I18N
+            "last_reminder_sent_date", "billing_address", "shipping_address", "notes", "terms", //No I18N
+            "custom_fields", "template_id", "template_name", "last_modified_time", "attachment_name", //No I18N
+            "can_send_in_mail", "salesperson_id", "salesperson_name", //No I18N
+            "stop_reminder_until_payment_expected_date", "template_type", "is_autobill_enabled", //No I18N
+            "invoice_url", "tax_id", "tax_authority_id", "tax_exemption_id"); //No I18N
 
-            invoiceList.add(inv);
-        }
+    /**
+     * Names of the fields read from an email.
+     */
 
-        PageContext pageContext = new PageContext();
+    private static final Set<String> EMAIL_FIELDS = Set.of("gateways_configured", "subject", "body", //No I18N
+            "attachment_name", "file_name", "customer_id", "emailtemplates", "to_contacts", "from_emails", //No I18N
+            "attach_pdf", "entity_id", "file_name_without_extension", "gateways_associated"); //No I18N
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    /**
+     * Names of the fields read from a payment of the list.
+     */
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+    private static final Set<String> PAYMENT_FIELDS = Set.of("payment_id", "payment_number", "invoice_id", //No I18N
+            "invoice_payment_id", "payment_mode", "description", "date", "reference_number", "exchange_rate", //No I18N
+            "amount", "tax_amount_withheld", "is_single_invoice_payment"); //No I18N
 
-        invoiceList.setPageContext(pageContext);
+    /**
+     * Names of the fields read from a template of the list.
+     */
 
-        return invoiceList;
-
-    }
+    private static final Set<String> TEMPLATE_FIELDS = Set.of("template_name", "template_id", //No I18N
+            "template_type"); //No I18N
 
     /**
-     * Parse the json response and returns the Invoice object.
-     *
-     * @param response This json respone contains the invoice details.
-     * @return Returns the Invoice object.
+     * Names of the fields read from a comment of the list.
      */
 
-    public Invoice getInvoice(String response) throws Exception {
-
-        Invoice invoice = new Invoice();
-
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONObject invoiceDetails = jsonObject.getJSONObject("invoice"); //No I18N
-
-        invoice.setInvoiceId(invoiceDetails.getString("invoice_id"));
-        invoice.setInvoiceNumber(invoiceDetails.getString("invoice_number"));
-        invoice.setCustomerId(invoiceDetails.getString("customer_id"));
-        invoice.setCustomerName(invoiceDetails.getString("customer_name"));
-        invoice.setDate(invoiceDetails.getString("date"));
-        invoice.setStatus(invoiceDetails.getString("status"));
-        invoice.setPaymentTerms(invoiceDetails.getInt("payment_terms")); //No I18N
-        invoice.setPaymentTermsLabel(invoiceDetails.getString("payment_terms_label"));
-        invoice.setDueDate(invoiceDetails.getString("due_date"));
-        invoice.setPaymentExpectedDate(invoiceDetails.getString("payment_expected_date"));
-        invoice.setLastPaymentDate(invoiceDetails.getString("last_payment_date"));
-        invoice.setReferenceNumber(invoiceDetails.getString("reference_number"));
-        invoice.setCurrencyCode(invoiceDetails.getString("currency_code"));
-        invoice.setExchangeRate(invoiceDetails.getDouble("exchange_rate")); //No I18N
-        invoice.setDiscount(invoiceDetails.getString("discount"));
-        invoice.setIsDiscountBeforeTax(invoiceDetails.getBoolean("is_discount_before_tax")); //No I18N
-        invoice.setDiscountType(invoiceDetails.getString("discount_type"));
-        invoice.setRecurringInvoiceId(invoiceDetails.getString("recurring_invoice_id"));
-
-        JSONArray contactPerson = invoiceDetails.getJSONArray("contact_persons"); //No I18N
-
-        String[] contactPersons = new String[contactPerson.length()];
-
-        for (int j = 0; j < contactPerson.length(); j++) {
-            contactPersons[j] = contactPerson.getString(j);
-        }
+    private static final Set<String> COMMENT_FIELDS = Set.of("comment_id", "description", "invoice_id", //No I18N
+            "commented_by_id", "commented_by", "comment_type", "date", "date_description", "time", //No I18N
+            "transaction_id", "transaction_type", "operation_type"); //No I18N
 
-        invoice.setContactPersons(contactPersons);
-
-        JSONArray lineItems = invoiceDetails.getJSONArray("line_items"); //No I18N
-
-        List<LineItem> lineItemsList = new ArrayList<LineItem>();
-
-        for (int i = 0; i < lineItems.length(); i++) {
-            LineItem lineItem = new LineItem();
-
-            lineItem.setTaxName(lineItems.getJSONObject(i).getString("tax_name"));
-            lineItem.setTaxType(lineItems.getJSONObject(i).getString("tax_type"));
-            lineItem.setExpenseId(lineItems.getJSONObject(i).getString("expense_id"));
-            lineItem.setLineItemId(lineItems.getJSONObject(i).getString("line_item_id"));
-            lineItem.setDiscount(lineItems.getJSONObject(i).getDouble("discount")); //No I18N
-            lineItem.setExpenseReceiptName(lineItems.getJSONObject(i).getString("expense_receipt_name"));
-            lineItem.setUnit(lineItems.getJSONObject(i).getString("unit"));
-            lineItem.setItemOrder(lineItems.getJSONObject(i).getInt("item_order")); //No I18N
-            lineItem.setRate(lineItems.getJSONObject(i).getDouble("rate"));    //No I18N
-            lineItem.setBcyRate(lineItems.getJSONObject(i).getDouble("bcy_rate"));  //No I18N
-            lineItem.setItemId(lineItems.getJSONObject(i).getString("item_id"));
-            lineItem.setTimeEntryIds(lineItems.getJSONObject(i).getString("time_entry_ids"));
-            lineItem.setDescription(lineItems.getJSONObject(i).getString("description"));
-            lineItem.setProjectId(lineItems.getJSONObject(i).getString("project_id"));
-            lineItem.setName(lineItems.getJSONObject(i).getString("name"));
-            lineItem.setTaxId(lineItems.getJSONObject(i).getString("tax_id"));
-            lineItem.setQuantity(lineItems.getJSONObject(i).getDouble("quantity")); //No I18N
-            lineItem.setTaxPercentage(lineItems.getJSONObject(i).getDouble("tax_percentage")); //No I18N
-            lineItem.setItemTotal(lineItems.getJSONObject(i).getDouble("item_total")); //No I18N
-            if (lineItems.getJSONObject(i).has("salesorder_item_id")) {
-                lineItem.setSalesorderItemId(lineItems.getJSONObject(i).getString("salesorder_item_id"));
-            }
-            if (lineItems.getJSONObject(i).has("stock_on_hand")) {
-                lineItem.setStockOnHand(lineItems.getJSONObject(i).getString("stock_on_hand"));
-            }
-            if (lineItems.getJSONObject(i).has("tax_exemption_id")) {
-                lineItem.setTaxExemptionId(lineItems.getJSONObject(i).getString("tax_exemption_id"));
-            }
+    /**
+     * Names of the fields read from a credit.
+     */
 
-            lineItemsList.add(i, lineItem);
-        }
+    private static final Set<String> CREDIT_FIELDS = Set.of("creditnote_id", "creditnotes_invoice_id", //No I18N
+            "creditnotes_number", "credited_date", "amount_applied", "invoice_payments", "apply_creditnotes"); //No I18N
 
-        invoice.setLineItems(lineItemsList);
 
-        invoice.setShippingCharge(invoiceDetails.getDouble("shipping_charge")); //No I18N
-        invoice.setAdjustment(invoiceDetails.getDouble("adjustment"));        //No I18N
-        invoice.setAdjustmentDescription(invoiceDetails.getString("adjustment_description"));
-        invoice.setSubTotal(invoiceDetails.getDouble("sub_total")); //No I18N
-        invoice.setTaxTotal(invoiceDetails.getDouble("tax_total")); //No I18N
-        invoice.setTotal(invoiceDetails.getDouble("total"));        //No I18N
+    /**
+     * Parse the json response and returns the InvoiceList object.
+     *
+     * @param response This json respone contains list of invoices details.
+     * @return Returns the InvoiceList object.
+     * @deprecated Use {@link #getInvoices(Reader)}.
+     */
 
-        JSONArray taxes = invoiceDetails.getJSONArray("taxes"); //No I18N
+    @Deprecated
+    public InvoiceList getInvoices(String response) throws Exception {
+        return getInvoices(new StringReader(response));
+    }
 
-        List<Tax> taxesList = new ArrayList<Tax>();
+    /**
+     * Parse the json response and returns the InvoiceList object.
+     *
+     * @param response This json respone contains list of invoices details.
+     * @return Returns the InvoiceList object.
+     */
 
-        for (int k = 0; k < taxes.length(); k++) {
-            Tax tax = new Tax();
+    public InvoiceList getInvoices(Reader response) throws Exception {
+        return getInvoices(response, false);
+    }
 
-            tax.setTaxName(taxes.getJSONObject(k).getString("tax_name"));
-            tax.setTaxAmount(taxes.getJSONObject(k).getDouble("tax_amount")); //No I18N
+    /**
+     * Parse the json response and returns the InvoiceList object.
+     *
+     * @param response This json respone contains list of invoices details.
+     * @param lazy     Whether a row is made into its model object only when it is first got from the list.
+     * @return Returns the InvoiceList object.
+     */
 
-            taxesList.add(k, tax);
-        }
+    public InvoiceList getInvoices(Reader response, boolean lazy) throws Exception {
+        return getInvoices(response, lazy, null);
+    }
 
-        invoice.setTaxes(taxesList);
+    /**
+     * Parse the json response and returns the InvoiceList object.
+     *
+     * @param response This json respone contains list of invoices details.
+     * @param lazy     Whether a row is made into its model object only when it is first got from the list.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the InvoiceList object.
+     */
 
-        invoice.setPaymentReminderEnabled(invoiceDetails.getBoolean("payment_reminder_enabled")); //No I18N
-        invoice.setPaymentMade(invoiceDetails.getDouble("payment_made"));        //No I18N
-        invoice.setCreditsApplied(invoiceDetails.getDouble("credits_applied"));    //No I18N
-        invoice.setTaxAmountWithheld(invoiceDetails.getDouble("tax_amount_withheld"));    //No I18N
-        invoice.setBalance(invoiceDetails.getDouble("balance"));            //No I18N
-        invoice.setWriteOffAmount(invoiceDetails.getDouble("write_off_amount"));    //No I18N
-        invoice.setAllowPartialPayments(invoiceDetails.getBoolean("allow_partial_payments")); //No I18N
-        invoice.setPricePrecision(invoiceDetails.getInt("price_precision"));        //No I18N
+    public InvoiceList getInvoices(Reader response, boolean lazy, Set<String> fields) throws Exception {
 
-        JSONObject paymentOptions = invoiceDetails.getJSONObject("payment_options"); //No I18N
+        InvoiceList invoiceList = new InvoiceList();
 
-        JSONArray paymentGateways = paymentOptions.getJSONArray("payment_gateways"); //No I18N
+        invoiceList.setPageContext(ResponseReader.readRows(response, "invoices", invoiceList, "invoice_id", "total", ResponseReader.project(this::readInvoice, fields, INVOICE_FIELDS), lazy)); //No I18N
 
-        List<PaymentGateway> paymentGatewaysList = new ArrayList<PaymentGateway>();
+        return invoiceList;
 
-        for (int l = 0; l < paymentGateways.length(); l++) {
-            PaymentGateway paymentGateway = new PaymentGateway();
+    }
 
-            paymentGateway.setGatewayName(paymentGateways.getJSONObject(l).getString("gateway_name"));
+    /**
+     * Read an invoice.
+     */
 
-            if (paymentGateways.getJSONObject(l).has("additional_field1")) {
-                paymentGateway.setAdditionalField1(paymentGateways.getJSONObject(l).getString("additional_field1"));
-            }
-            if (paymentGateways.getJSONObject(l).has("configured")) {
-                paymentGateway.setConfigured(paymentGateways.getJSONObject(l).getBoolean("configured")); //No I18N
+    private Invoice readInvoice(JsonReader reader) throws Exception {
+
+        Invoice inv = new Invoice();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "invoice_id":
+                    inv.setInvoiceId(reader.nextString());
+                    break;
+                case "customer_name":
+                    inv.setCustomerName(reader.nextString());
+                    break;
+                case "customer_id":
+                    inv.setCustomerId(reader.nextString());
+                    break;
+                case "status":
+                    inv.setStatus(reader.nextString());
+                    break;
+                case "invoice_number":
+                    inv.setInvoiceNumber(reader.nextString());
+                    break;
+                case "reference_number":
+                    inv.setReferenceNumber(reader.nextString());
+                    break;
+                case "date":
+                    inv.setDate(reader.nextString());
+                    break;
+                case "due_date":
+                    inv.setDueDate(reader.nextString());
+                    break;
+                case "due_days":
+                    inv.setDueDays(reader.nextString());
+                    break;
+                case "currency_id":
+                    inv.setCurrencyId(reader.nextString());
+                    break;
+                case "currency_code":
+                    inv.setCurrencyCode(reader.nextString());
+                    break;
+                case "total":
+                    inv.setTotal(reader.nextDouble());
+                    break;
+                case "balance":
+                    inv.setBalance(reader.nextDouble());
+                    break;
+                case "created_time":
+                    inv.setCreatedTime(reader.nextString());
+                    break;
+                case "is_emailed":
+                    inv.setIsEmailed(reader.nextBoolean());
+                    break;
+                case "reminders_sent":
+                    inv.setRemindersSent(reader.nextInt());
+                    break;
+                case "payment_expected_date":
+                    inv.setPaymentExpectedDate(reader.nextString());
+                    break;
+                case "last_payment_date":
+                    inv.setLastPaymentDate(reader.nextString());
+                    break;
+                case "is_viewed_by_client":
+                    inv.setViewedByClient(reader.nextBoolean());
+                    break;
+                case "client_viewed_time":
+                    inv.setClientViewedTime(reader.nextString());
+                    break;
+                case "payment_terms":
+                    inv.setPaymentTerms(reader.nextInt());
+                    break;
+                case "payment_terms_label":
+                    inv.setPaymentTermsLabel(reader.nextString());
+                    break;
+                case "exchange_rate":
+                    inv.setExchangeRate(reader.nextDouble());
+                    break;
+                case "discount":
+                    inv.setDiscount(reader.nextString());
+                    break;
+                case "is_discount_before_tax":
+                    inv.setIsDiscountBeforeTax(reader.nextBoolean());
+                    break;
+                case "discount_type":
+                    inv.setDiscountType(reader.nextString());
+                    break;
+                case "recurring_invoice_id":
+                    inv.setRecurringInvoiceId(reader.nextString());
+                    break;
+                case "contact_persons":
+                    inv.setContactPersons(ResponseReader.readStrings(reader));
+                    break;
+                case "line_items":
+                    inv.setLineItems(ResponseReader.readArray(reader, new ArrayList<LineItem>(), this::readLineItem));
+                    break;
+                case "shipping_charge":
+                    inv.setShippingCharge(reader.nextDouble());
+                    break;
+                case "adjustment":
+                    inv.setAdjustment(reader.nextDouble());
+                    break;
+                case "adjustment_description":
+                    inv.setAdjustmentDescription(reader.nextString());
+                    break;
+                case "sub_total":
+                    inv.setSubTotal(reader.nextDouble());
+                    break;
+                case "tax_total":
+                    inv.setTaxTotal(reader.nextDouble());
+                    break;
+                case "taxes":
+                    inv.setTaxes(ResponseReader.readArray(reader, new ArrayList<Tax>(), this::readTax));
+                    break;
+                case "payment_reminder_enabled":
+                    inv.setPaymentReminderEnabled(reader.nextBoolean());
+                    break;
+                case "payment_made":
+                    inv.setPaymentMade(reader.nextDouble());
+                    break;
+                case "credits_applied":
+                    inv.setCreditsApplied(reader.nextDouble());
+                    break;
+                case "tax_amount_withheld":
+                    inv.setTaxAmountWithheld(reader.nextDouble());
+                    break;
+                case "write_off_amount":
+                    inv.setWriteOffAmount(reader.nextDouble());
+                    break;
+                case "allow_partial_payments":
+                    inv.setAllowPartialPayments(reader.nextBoolean());
+                    break;
+                case "price_precision":
+                    inv.setPricePrecision(reader.nextInt());
+                    break;
+                case "payment_options":
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        switch (reader.nextName()) {
+                            case "payment_gateways":
+                                inv.setPaymentGateways(ResponseReader.readArray(reader, new ArrayList<PaymentGateway>(), this::readPaymentGateway));
+                                break;
+                            default:
+                                reader.skipValue();
+                        }
+                    }
+                    reader.endObject();
+                    break;
+                case "last_reminder_sent_date":
+                    inv.setLastReminderSentDate(reader.nextString());
+                    break;
+                case "billing_address":
+                    inv.setBillingAddress(readAddress(reader));
+                    break;
+                case "shipping_address":
+                    inv.setShippingAddress(readAddress(reader));
+                    break;
+                case "notes":
+                    inv.setNotes(reader.nextString());
+                    break;
+                case "terms":
+                    inv.setTerms(reader.nextString());
+                    break;
+                case "custom_fields":
+                    inv.setCustomFields(ResponseReader.readArray(reader, new ArrayList<CustomField>(), this::readCustomField));
+                    break;
+                case "template_id":
+                    inv.setTemplateId(reader.nextString());
+                    break;
+                case "template_name":
+                    inv.setTemplateName(reader.nextString());
+                    break;
+                case "last_modified_time":
+                    inv.setLastModifiedTime(reader.nextString());
+                    break;
+                case "attachment_name":
+                    inv.setAttachmentName(reader.nextString());
+                    break;
+                case "can_send_in_mail":
+                    inv.setCanSendInMail(reader.nextBoolean());
+                    break;
+                case "salesperson_id":
+                    inv.setSalespersonId(reader.nextString());
+                    break;
+                case "salesperson_name":
+                    inv.setSalespersonName(reader.nextString());
+                    break;
+                case "stop_reminder_until_payment_expected_date":
+                    inv.setStopReminderUntilPaymentExpectedDate(reader.nextBoolean());
+                    break;
+                case "template_type":
+                    inv.setTemplateType(reader.nextString());
+                    break;
+                case "is_autobill_enabled":
+                    inv.setAutobillEnabled(reader.nextBoolean());
+                    break;
+                case "invoice_url":
+                    inv.setInvoiceUrl(reader.nextString());
+                    break;
+                case "tax_id":
+                    inv.setTaxId(reader.nextString());
+                    break;
+                case "tax_authority_id":
+                    inv.setTaxAuthorityId(reader.nextString());
+                    break;
+                case "tax_exemption_id":
+                    inv.setTaxExemptionId(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
             }
-
-
-            paymentGatewaysList.add(l, paymentGateway);
         }
+        reader.endObject();
 
-        invoice.setPaymentGateways(paymentGatewaysList);
+        return inv;
+    }
 
-        invoice.setIsEmailed(invoiceDetails.getBoolean("is_emailed")); //No I18N
-        invoice.setRemindersSent(invoiceDetails.getInt("reminders_sent")); //No I18N
-        invoice.setLastReminderSentDate(invoiceDetails.getString("last_reminder_sent_date"));
+    /**
+     * Parse the json response and returns the Invoice object.
+     *
+     * @param response This json respone contains the invoice details.
+     * @return Returns the Invoice object.
+     * @deprecated Use {@link #getInvoice(Reader)}.
+     */
 
-        JSONObject billingAddress = invoiceDetails.getJSONObject("billing_address"); //No I18N
+    @Deprecated
+    public Invoice getInvoice(String response) throws Exception {
+        return getInvoice(new StringReader(response));
+    }
 
-        Address billingAddressObj = new Address();
+    /**
+     * Parse the json response and returns the Invoice object.
+     *
+     * @param response This json respone contains the invoice details.
+     * @return Returns the Invoice object.
+     */
 
-        billingAddressObj.setAddress(billingAddress.getString("address"));
-        billingAddressObj.setCity(billingAddress.getString("city"));
-        billingAddressObj.setState(billingAddress.getString("state"));
-        billingAddressObj.setZip(billingAddress.getString("zip"));
-        billingAddressObj.setCountry(billingAddress.getString("country"));
-        billingAddressObj.setFax(billingAddress.getString("fax"));
+    public Invoice getInvoice(Reader response) throws Exception {
+        return getInvoice(response, null);
+    }
 
-        invoice.setBillingAddress(billingAddressObj);
+    /**
+     * Parse the json response and returns the Invoice object.
+     *
+     * @param response This json respone contains the invoice details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Invoice object.
+     */
 
-        JSONObject shippingAddress = invoiceDetails.getJSONObject("shipping_address"); //No I18N
+    public Invoice getInvoice(Reader response, Set<String> fields) throws Exception {
 
-        Address shippingAddressObj = new Address();
+        return ResponseReader.readObject(response, "invoice", ResponseReader.project(this::readInvoice, fields, INVOICE_FIELDS)); //No I18N
+    }
 
-        shippingAddressObj.setAddress(shippingAddress.getString("address"));
-        shippingAddressObj.setCity(shippingAddress.getString("city"));
-        shippingAddressObj.setState(shippingAddress.getString("state"));
-        shippingAddressObj.setZip(shippingAddress.getString("zip"));
-        shippingAddressObj.setCountry(shippingAddress.getString("country"));
-        shippingAddressObj.setFax(shippingAddress.getString("fax"));
+    /**
+     * Read a line item.
+     */
 
-        invoice.setShippingAddress(shippingAddressObj);
+    private LineItem readLineItem(JsonReader reader) throws Exception {
+
+        LineItem lineItem = new LineItem();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "tax_name":
+                    lineItem.setTaxName(reader.nextString());
+                    break;
+                case "tax_type":
+                    lineItem.setTaxType(reader.nextString());
+                    break;
+                case "expense_id":
+                    lineItem.setExpenseId(reader.nextString());
+                    break;
+                case "line_item_id":
+                    lineItem.setLineItemId(reader.nextString());
+                    break;
+                case "discount":
+                    lineItem.setDiscount(reader.nextDouble());
+                    break;
+                case "expense_receipt_name":
+                    lineItem.setExpenseReceiptName(reader.nextString());
+                    break;
+                case "unit":
+                    lineItem.setUnit(reader.nextString());
+                    break;
+                case "item_order":
+                    lineItem.setItemOrder(reader.nextInt());
+                    break;
+                case "rate":
+                    lineItem.setRate(reader.nextDouble());
+                    break;
+                case "bcy_rate":
+                    lineItem.setBcyRate(reader.nextDouble());
+                    break;
+                case "item_id":
+                    lineItem.setItemId(reader.nextString());
+                    break;
+                case "time_entry_ids":
+                    lineItem.setTimeEntryIds(reader.nextString());
+                    break;
+                case "description":
+                    lineItem.setDescription(reader.nextString());
+                    break;
+                case "project_id":
+                    lineItem.setProjectId(reader.nextString());
+                    break;
+                case "name":
+                    lineItem.setName(reader.nextString());
+                    break;
+                case "tax_id":
+                    lineItem.setTaxId(reader.nextString());
+                    break;
+                case "quantity":
+                    lineItem.setQuantity(reader.nextDouble());
+                    break;
+                case "tax_percentage":
+                    lineItem.setTaxPercentage(reader.nextDouble());
+                    break;
+                case "item_total":
+                    lineItem.setItemTotal(reader.nextDouble());
+                    break;
+                case "salesorder_item_id":
+                    lineItem.setSalesorderItemId(reader.nextString());
+                    break;
+                case "stock_on_hand":
+                    lineItem.setStockOnHand(reader.nextString());
+                    break;
+                case "tax_exemption_id":
+                    lineItem.setTaxExemptionId(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        invoice.setNotes(invoiceDetails.getString("notes"));
-        invoice.setTerms(invoiceDetails.getString("terms"));
+        return lineItem;
+    }
 
-        JSONArray customFields = invoiceDetails.getJSONArray("custom_fields"); //No I18N
+    /**
+     * Read a tax.
+     */
 
-        List<CustomField> customFieldsList = new ArrayList<CustomField>();
+    private Tax readTax(JsonReader reader) throws Exception {
+
+        Tax tax = new Tax();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "tax_name":
+                    tax.setTaxName(reader.nextString());
+                    break;
+                case "tax_amount":
+                    tax.setTaxAmount(reader.nextDouble());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        for (int m = 0; m < customFields.length(); m++) {
-            CustomField customField = new CustomField();
+        return tax;
+    }
 
-            customField.setIndex(customFields.getJSONObject(m).getInt("index")); //No I18N
-            customField.setValue(customFields.getJSONObject(m).getString("value"));
-            customField.setShowOnPdf(customFields.getJSONObject(m).getBoolean("show_on_pdf")); //No I18N
-            customField.setLabel(customFields.getJSONObject(m).getString("label"));
+    /**
+     * Read a payment gateway.
+     */
 
-            customFieldsList.add(m, customField);
+    private PaymentGateway readPaymentGateway(JsonReader reader) throws Exception {
+
+        PaymentGateway paymentGateway = new PaymentGateway();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "gateway_name":
+                    paymentGateway.setGatewayName(reader.nextString());
+                    break;
+                case "additional_field1":
+                    paymentGateway.setAdditionalField1(reader.nextString());
+                    break;
+                case "configured":
+                    paymentGateway.setConfigured(reader.nextBoolean());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        invoice.setCustomFields(customFieldsList);
+        return paymentGateway;
+    }
 
-        invoice.setTemplateId(invoiceDetails.getString("template_id"));
-        invoice.setTemplateName(invoiceDetails.getString("template_name"));
-        invoice.setCreatedTime(invoiceDetails.getString("created_time"));
-        invoice.setCreatedTime(invoiceDetails.getString("created_time"));
-        invoice.setLastModifiedTime(invoiceDetails.getString("last_modified_time"));
-        invoice.setAttachmentName(invoiceDetails.getString("attachment_name"));
-        invoice.setCanSendInMail(invoiceDetails.getBoolean("can_send_in_mail")); //No I18N
-        invoice.setSalespersonId(invoiceDetails.getString("salesperson_id"));
-        invoice.setSalespersonName(invoiceDetails.getString("salesperson_name"));
+    /**
+     * Read an address.
+     */
 
-        if (invoiceDetails.has("client_viewed_time")) {
-            invoice.setClientViewedTime(invoiceDetails.getString("client_viewed_time"));
-        }
-        if (invoiceDetails.has("is_viewed_by_client")) {
-            invoice.setViewedByClient(invoiceDetails.getBoolean("is_viewed_by_client"));    //No I18N
-        }
-        if (invoiceDetails.has("stop_reminder_until_payment_expected_date")) {
-            invoice.setStopReminderUntilPaymentExpectedDate(invoiceDetails.getBoolean("stop_reminder_until_payment_expected_date"));//No I18N
-        }
-        if (invoiceDetails.has("template_type")) {
-            invoice.setTemplateType(invoiceDetails.getString("template_type"));
-        }
-        if (invoiceDetails.has("is_autobill_enabled")) {
-            invoice.setAutobillEnabled(invoiceDetails.getBoolean("is_autobill_enabled"));    //No I18N
-        }
-        if (invoiceDetails.has("invoice_url")) {
-            invoice.setInvoiceUrl(invoiceDetails.getString("invoice_url"));
+    private Address readAddress(JsonReader reader) throws Exception {
+
+        Address address = new Address();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "address":
+                    address.setAddress(reader.nextString());
+                    break;
+                case "city":
+                    address.setCity(reader.nextString());
+                    break;
+                case "state":
+                    address.setState(reader.nextString());
+                    break;
+                case "zip":
+                    address.setZip(reader.nextString());
+                    break;
+                case "country":
+                    address.setCountry(reader.nextString());
+                    break;
+                case "fax":
+                    address.setFax(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        if (invoiceDetails.has("tax_id")) {
-            invoice.setTaxId(invoiceDetails.getString("tax_id"));
-        }
-        if (invoiceDetails.has("tax_authority_id")) {
-            invoice.setTaxAuthorityId(invoiceDetails.getString("tax_authority_id"));
-        }
-        if (invoiceDetails.has("tax_exemption_id")) {
-            invoice.setTaxExemptionId(invoiceDetails.getString("tax_exemption_id"));
+        return address;
+    }
+
+    /**
+     * Read a custom field.
+     */
+
+    private CustomField readCustomField(JsonReader reader) throws Exception {
+
+        CustomField customField = new CustomField();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "index":
+                    customField.setIndex(reader.nextInt());
+                    break;
+                case "value":
+                    customField.setValue(reader.nextString());
+                    break;
+                case "show_on_pdf":
+                    customField.setShowOnPdf(reader.nextBoolean());
+                    break;
+                case "label":
+                    customField.setLabel(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return invoice;
+        return customField;
     }
 
     /**
@@ -318,95 +601,200 @@ public class InvoiceParser {
      *
      * @param response This json response contains the email content details for invoice.
      * @return Returns the Email object.
+     * @deprecated Use {@link #getEmailContent(Reader)}.
      */
 
+    @Deprecated
     public Email getEmailContent(String response) throws Exception {
-        Email email = new Email();
+        return getEmailContent(new StringReader(response));
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the json response and returns the Email object.
+     *
+     * @param response This json response contains the email content details for invoice.
+     * @return Returns the Email object.
+     */
 
-        JSONObject data = jsonObject.getJSONObject("data"); //No I18N
+    public Email getEmailContent(Reader response) throws Exception {
+        return getEmailContent(response, null);
+    }
 
-        email.setGatewaysConfigured(data.getBoolean("gateways_configured")); //No I18N
-        email.setSubject(data.getString("subject"));
-        email.setBody(data.getString("body"));
-        email.setAttachmentName(data.getString("attachment_name"));
-        email.setFileName(data.getString("file_name"));
-        email.setCustomerId(data.getString("customer_id"));
+    /**
+     * Parse the json response and returns the Email object.
+     *
+     * @param response This json response contains the email content details for invoice.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Email object.
+     */
 
-        if (data.has("emailtemplates")) {
+    public Email getEmailContent(Reader response, Set<String> fields) throws Exception {
 
-            JSONArray emailtemplates = data.getJSONArray("emailtemplates"); //No I18N
+        return ResponseReader.readObject(response, "data", ResponseReader.project(this::readEmail, fields, EMAIL_FIELDS)); //No I18N
+    }
 
-            List<Emailtemplate> emailtemplatesList = new ArrayList<Emailtemplate>();
+    /**
+     * Read an email.
+     */
 
-            for (int i = 0; i < emailtemplates.length(); i++) {
-                Emailtemplate emailtemplate = new Emailtemplate();
+    private Email readEmail(JsonReader reader) throws Exception {
 
-                emailtemplate.setSelected(emailtemplates.getJSONObject(i).getBoolean("selected")); //No I18N
-                emailtemplate.setName(emailtemplates.getJSONObject(i).getString("name"));
-                emailtemplate.setEmailTemplateId(emailtemplates.getJSONObject(i).getString("email_template_id"));
+        Email email = new Email();
 
-                emailtemplatesList.add(i, emailtemplate);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "gateways_configured":
+                    email.setGatewaysConfigured(reader.nextBoolean());
+                    break;
+                case "subject":
+                    email.setSubject(reader.nextString());
+                    break;
+                case "body":
+                    email.setBody(reader.nextString());
+                    break;
+                case "attachment_name":
+                    email.setAttachmentName(reader.nextString());
+                    break;
+                case "file_name":
+                    email.setFileName(reader.nextString());
+                    break;
+                case "customer_id":
+                    email.setCustomerId(reader.nextString());
+                    break;
+                case "emailtemplates":
+                    email.setEmailtemplates(ResponseReader.readArray(reader, new ArrayList<Emailtemplate>(), this::readEmailtemplate));
+                    break;
+                case "to_contacts":
+                    email.setToContacts(ResponseReader.readArray(reader, new ArrayList<ToContact>(), this::readToContact));
+                    break;
+                case "from_emails":
+                    email.setFromEmails(ResponseReader.readArray(reader, new ArrayList<FromEmail>(), this::readFromEmail));
+                    break;
+                case "attach_pdf":
+                    email.setAttachPdf(reader.nextBoolean());
+                    break;
+                case "entity_id":
+                    email.setEntityId(reader.nextString());
+                    break;
+                case "file_name_without_extension":
+                    email.setFileNameWithoutExtension(reader.nextString());
+                    break;
+                case "gateways_associated":
+                    email.setGatewaysAssociated(reader.nextBoolean());
+                    break;
+                default:
+                    reader.skipValue();
             }
-
-            email.setEmailtemplates(emailtemplatesList);
         }
+        reader.endObject();
 
-        JSONArray toContacts = data.getJSONArray("to_contacts"); //No I18N
-
-        List<ToContact> toContactsList = new ArrayList<ToContact>();
-
-        for (int j = 0; j < toContacts.length(); j++) {
-            ToContact toContact = new ToContact();
+        return email;
+    }
 
-            toContact.setFirstName(toContacts.getJSONObject(j).getString("first_name"));
-            toContact.setLastName(toContacts.getJSONObject(j).getString("last_name"));
-            toContact.setSelected(toContacts.getJSONObject(j).getBoolean("selected")); //No I18N
-            toContact.setPhone(toContacts.getJSONObject(j).getString("phone"));
-            toContact.setEmail(toContacts.getJSONObject(j).getString("email"));
-            toContact.setContactPersonId(toContacts.getJSONObject(j).getString("contact_person_id"));
-            toContact.setSalutation(toContacts.getJSONObject(j).getString("salutation"));
-            toContact.setMobile(toContacts.getJSONObject(j).getString("mobile"));
+    /**
+     * Read an emailtemplate.
+     */
 
-            toContactsList.add(j, toContact);
+    private Emailtemplate readEmailtemplate(JsonReader reader) throws Exception {
+
+        Emailtemplate emailtemplate = new Emailtemplate();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "selected":
+                    emailtemplate.setSelected(reader.nextBoolean());
+                    break;
+                case "name":
+                    emailtemplate.setName(reader.nextString());
+                    break;
+                case "email_template_id":
+                    emailtemplate.setEmailTemplateId(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        email.setToContacts(toContactsList);
-
-        JSONArray fromEmails = data.getJSONArray("from_emails"); //No I18N
-
-        List<FromEmail> fromEmailsList = new ArrayList<FromEmail>();
+        return emailtemplate;
+    }
 
-        for (int k = 0; k < fromEmails.length(); k++) {
-            FromEmail fromEmail = new FromEmail();
+    /**
+     * Read a to contact.
+     */
 
-            fromEmail.setUserName(fromEmails.getJSONObject(k).getString("user_name"));
-            fromEmail.setSelected(fromEmails.getJSONObject(k).getBoolean("selected")); //No I18N
-            fromEmail.setEmail(fromEmails.getJSONObject(k).getString("email"));
-            if (fromEmails.getJSONObject(k).has("is_org_email_id")) {
-                fromEmail.setOrgEmailId(fromEmails.getJSONObject(k).getBoolean("is_org_email_id"));    //No I18N
+    private ToContact readToContact(JsonReader reader) throws Exception {
+
+        ToContact toContact = new ToContact();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "first_name":
+                    toContact.setFirstName(reader.nextString());
+                    break;
+                case "last_name":
+                    toContact.setLastName(reader.nextString());
+                    break;
+                case "selected":
+                    toContact.setSelected(reader.nextBoolean());
+                    break;
+                case "phone":
+                    toContact.setPhone(reader.nextString());
+                    break;
+                case "email":
+                    toContact.setEmail(reader.nextString());
+                    break;
+                case "contact_person_id":
+                    toContact.setContactPersonId(reader.nextString());
+                    break;
+                case "salutation":
+                    toContact.setSalutation(reader.nextString());
+                    break;
+                case "mobile":
+                    toContact.setMobile(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
             }
-
-            fromEmailsList.add(k, fromEmail);
         }
+        reader.endObject();
 
-        email.setFromEmails(fromEmailsList);
+        return toContact;
+    }
 
-        if (data.has("attach_pdf")) {
-            email.setAttachPdf(data.getBoolean("attach_pdf"));    //No I18N
-        }
-        if (data.has("entity_id")) {
-            email.setEntityId(data.getString("entity_id"));
-        }
-        if (data.has("file_name_without_extension")) {
-            email.setFileNameWithoutExtension(data.getString("file_name_without_extension"));
-        }
-        if (data.has("gateways_associated")) {
-            email.setGatewaysAssociated(data.getBoolean("gateways_associated"));    //No I18N
+    /**
+     * Read a from email.
+     */
+
+    private FromEmail readFromEmail(JsonReader reader) throws Exception {
+
+        FromEmail fromEmail = new FromEmail();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "user_name":
+                    fromEmail.setUserName(reader.nextString());
+                    break;
+                case "selected":
+                    fromEmail.setSelected(reader.nextBoolean());
+                    break;
+                case "email":
+                    fromEmail.setEmail(reader.nextString());
+                    break;
+                case "is_org_email_id":
+                    fromEmail.setOrgEmailId(reader.nextBoolean());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return email;
+        return fromEmail;
     }
 
 
@@ -415,36 +803,97 @@ public class InvoiceParser {
      *
      * @param response This json response contains list of payments details for invoice.
      * @return Returns the PaymentList object.
+     * @deprecated Use {@link #getPayments(Reader)}.
      */
 
+    @Deprecated
     public PaymentList getPayments(String response) throws Exception {
+        return getPayments(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the PaymentList object.
+     *
+     * @param response This json response contains list of payments details for invoice.
+     * @return Returns the PaymentList object.
+     */
+
+    public PaymentList getPayments(Reader response) throws Exception {
+        return getPayments(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the PaymentList object.
+     *
+     * @param response This json response contains list of payments details for invoice.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the PaymentList object.
+     */
+
+    public PaymentList getPayments(Reader response, Set<String> fields) throws Exception {
 
         PaymentList paymentList = new PaymentList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        ResponseReader.readList(response, "payments", paymentList, ResponseReader.project(this::readPayment, fields, PAYMENT_FIELDS)); //No I18N
 
-        JSONArray jsonArray = jsonObject.getJSONArray("payments"); //No I18N
+        return paymentList;
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Payment payment = new Payment();
+    }
 
-            payment.setPaymentId(jsonArray.getJSONObject(i).getString("payment_id"));
-            payment.setPaymentNumber(jsonArray.getJSONObject(i).getString("payment_number"));
-            payment.setInvoiceId(jsonArray.getJSONObject(i).getString("invoice_id"));
-            payment.setInvoicePaymentId(jsonArray.getJSONObject(i).getString("invoice_payment_id"));
-            payment.setPaymentMode(jsonArray.getJSONObject(i).getString("payment_mode"));
-            payment.setDescription(jsonArray.getJSONObject(i).getString("description"));
-            payment.setDate(jsonArray.getJSONObject(i).getString("date"));
-            payment.setReferenceNumber(jsonArray.getJSONObject(i).getString("reference_number"));
-            payment.setExchangeRate(jsonArray.getJSONObject(i).getDouble("exchange_rate"));        //No I18N
-            payment.setAmount(jsonArray.getJSONObject(i).getDouble("amount"));                //No I18N
-            payment.setTaxAmountWithheld(jsonArray.getJSONObject(i).getDouble("tax_amount_withheld"));    //No I18N
-            payment.setIsSingleInvoicePayment(jsonArray.getJSONObject(i).getBoolean("is_single_invoice_payment")); //No I18N
+    /**
+     * Read a payment of the list.
+     */
 
-            paymentList.add(payment);
+    private Payment readPayment(JsonReader reader) throws Exception {
+
+        Payment payment = new Payment();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "payment_id":
+                    payment.setPaymentId(reader.nextString());
+                    break;
+                case "payment_number":
+                    payment.setPaymentNumber(reader.nextString());
+                    break;
+                case "invoice_id":
+                    payment.setInvoiceId(reader.nextString());
+                    break;
+                case "invoice_payment_id":
+                    payment.setInvoicePaymentId(reader.nextString());
+                    break;
+                case "payment_mode":
+                    payment.setPaymentMode(reader.nextString());
+                    break;
+                case "description":
+                    payment.setDescription(reader.nextString());
+                    break;
+                case "date":
+                    payment.setDate(reader.nextString());
+                    break;
+                case "reference_number":
+                    payment.setReferenceNumber(reader.nextString());
+                    break;
+                case "exchange_rate":
+                    payment.setExchangeRate(reader.nextDouble());
+                    break;
+                case "amount":
+                    payment.setAmount(reader.nextDouble());
+                    break;
+                case "tax_amount_withheld":
+                    payment.setTaxAmountWithheld(reader.nextDouble());
+                    break;
+                case "is_single_invoice_payment":
+                    payment.setIsSingleInvoicePayment(reader.nextBoolean());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return paymentList;
+        return payment;
     }
 
     /**
@@ -452,27 +901,70 @@ public class InvoiceParser {
      *
      * @param response This json response contains list of templates details for invoice.
      * @return Returns the TemplateList object.
+     * @deprecated Use {@link #getTemplates(Reader)}.
      */
 
+    @Deprecated
     public TemplateList getTemplates(String response) throws Exception {
+        return getTemplates(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the TemplateList object.
+     *
+     * @param response This json response contains list of templates details for invoice.
+     * @return Returns the TemplateList object.
+     */
+
+    public TemplateList getTemplates(Reader response) throws Exception {
+        return getTemplates(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the TemplateList object.
+     *
+     * @param response This json response contains list of templates details for invoice.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the TemplateList object.
+     */
+
+    public TemplateList getTemplates(Reader response, Set<String> fields) throws Exception {
 
         TemplateList templateList = new TemplateList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        ResponseReader.readList(response, "templates", templateList, ResponseReader.project(this::readTemplate, fields, TEMPLATE_FIELDS)); //No I18N
 
-        JSONArray jsonArray = jsonObject.getJSONArray("templates"); //No I18N
+        return templateList;
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Template template = new Template();
+    }
 
-            template.setTemplateName(jsonArray.getJSONObject(i).getString("template_name"));
-            template.setTemplateId(jsonArray.getJSONObject(i).getString("template_id"));
-            template.setTemplateType(jsonArray.getJSONObject(i).getString("template_type"));
+    /**
+     * Read a template of the list.
+     */
 
-            templateList.add(template);
+    private Template readTemplate(JsonReader reader) throws Exception {
+
+        Template template = new Template();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "template_name":
+                    template.setTemplateName(reader.nextString());
+                    break;
+                case "template_id":
+                    template.setTemplateId(reader.nextString());
+                    break;
+                case "template_type":
+                    template.setTemplateType(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return templateList;
+        return template;
     }
 
     /**
@@ -480,37 +972,97 @@ public class InvoiceParser {
      *
      * @param response This json response contains list of comments details for invoice.
      * @return Returns the CommentList object.
+     * @deprecated Use {@link #getComments(Reader)}.
      */
 
+    @Deprecated
     public CommentList getComments(String response) throws Exception {
+        return getComments(new StringReader(response));
+    }
 
-        CommentList commentList = new CommentList();
+    /**
+     * Parse the json response and returns the CommentList object.
+     *
+     * @param response This json response contains list of comments details for invoice.
+     * @return Returns the CommentList object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public CommentList getComments(Reader response) throws Exception {
+        return getComments(response, null);
+    }
 
-        JSONArray jsonArray = jsonObject.getJSONArray("comments"); //No I18N
+    /**
+     * Parse the json response and returns the CommentList object.
+     *
+     * @param response This json response contains list of comments details for invoice.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the CommentList object.
+     */
+
+    public CommentList getComments(Reader response, Set<String> fields) throws Exception {
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Comment comment = new Comment();
+        CommentList commentList = new CommentList();
+
+        ResponseReader.readList(response, "comments", commentList, ResponseReader.project(this::readComment, fields, COMMENT_FIELDS)); //No I18N
+
+        return commentList;
 
-            comment.setCommentId(jsonArray.getJSONObject(i).getString("comment_id"));
-            comment.setDescription(jsonArray.getJSONObject(i).getString("description"));
+    }
 
-            comment.setInvoiceId(jsonArray.getJSONObject(i).getString("invoice_id"));
-            comment.setCommentedById(jsonArray.getJSONObject(i).getString("commented_by_id"));
-            comment.setCommentedBy(jsonArray.getJSONObject(i).getString("commented_by"));
-            comment.setCommentType(jsonArray.getJSONObject(i).getString("comment_type"));
-            comment.setDate(jsonArray.getJSONObject(i).getString("date"));
-            comment.setDateDescription(jsonArray.getJSONObject(i).getString("date_description"));
-            comment.setTime(jsonArray.getJSONObject(i).getString("time"));
-            comment.setTransactionId(jsonArray.getJSONObject(i).getString("transaction_id"));
-            comment.setTransactionType(jsonArray.getJSONObject(i).getString("transaction_type"));
-            comment.setOperationType(jsonArray.getJSONObject(i).getString("operation_type"));
+    /**
+     * Read a comment of the list.
+     */
 
-            commentList.add(comment);
+    private Comment readComment(JsonReader reader) throws Exception {
+
+        Comment comment = new Comment();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "comment_id":
+                    comment.setCommentId(reader.nextString());
+                    break;
+                case "description":
+                    comment.setDescription(reader.nextString());
+                    break;
+                case "invoice_id":
+                    comment.setInvoiceId(reader.nextString());
+                    break;
+                case "commented_by_id":
+                    comment.setCommentedById(reader.nextString());
+                    break;
+                case "commented_by":
+                    comment.setCommentedBy(reader.nextString());
+                    break;
+                case "comment_type":
+                    comment.setCommentType(reader.nextString());
+                    break;
+                case "date":
+                    comment.setDate(reader.nextString());
+                    break;
+                case "date_description":
+                    comment.setDateDescription(reader.nextString());
+                    break;
+                case "time":
+                    comment.setTime(reader.nextString());
+                    break;
+                case "transaction_id":
+                    comment.setTransactionId(reader.nextString());
+                    break;
+                case "transaction_type":
+                    comment.setTransactionType(reader.nextString());
+                    break;
+                case "operation_type":
+                    comment.setOperationType(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return commentList;
+        return comment;
     }
 
     /**
@@ -518,26 +1070,36 @@ public class InvoiceParser {
      *
      * @param response This json response contains the comment details for invoice.
      * @return Returns the Comment object.
+     * @deprecated Use {@link #getComment(Reader)}.
      */
 
+    @Deprecated
     public Comment getComment(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getComment(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the Comment object.
+     *
+     * @param response This json response contains the comment details for invoice.
+     * @return Returns the Comment object.
+     */
 
-        JSONObject comment = jsonObject.getJSONObject("comment"); //No I18N
+    public Comment getComment(Reader response) throws Exception {
+        return getComment(response, null);
+    }
 
-        Comment comments = new Comment();
+    /**
+     * Parse the json response and returns the Comment object.
+     *
+     * @param response This json response contains the comment details for invoice.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Comment object.
+     */
 
-        comments.setCommentId(comment.getString("comment_id"));
-        comments.setDescription(comment.getString("description"));
-        comments.setInvoiceId(comment.getString("invoice_id"));
-        comments.setCommentedById(comment.getString("commented_by_id"));
-        comments.setCommentedBy(comment.getString("commented_by"));
-        comments.setCommentType(comment.getString("comment_type"));
-        comments.setDate(comment.getString("date"));
-        comments.setDateDescription(comment.getString("date_description"));
-        comments.setTime(comment.getString("time"));
+    public Comment getComment(Reader response, Set<String> fields) throws Exception {
 
-        return comments;
+        return ResponseReader.readObject(response, "comment", ResponseReader.project(this::readComment, fields, COMMENT_FIELDS)); //No I18N
     }
 
     /**
@@ -545,14 +1107,24 @@ public class InvoiceParser {
      *
      * @param response This json response contains the success message of post or update or delete requests.
      * @return Returns the success message.
+     * @deprecated Use {@link #getMessage(Reader)}.
      */
 
+    @Deprecated
     public String getMessage(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getMessage(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns a string object.
+     *
+     * @param response This json response contains the success message of post or update or delete requests.
+     * @return Returns the success message.
+     */
 
-        String success = jsonObject.getString("message");
+    public String getMessage(Reader response) throws Exception {
 
-        return success;
+        return ResponseReader.readObject(response, "message", JsonReader::nextString); //No I18N
     }
 
     /**
@@ -560,29 +1132,82 @@ public class InvoiceParser {
      *
      * @param response This json response contains list of credits details for invoice.
      * @return Returns the CreditList object.
+     * @deprecated Use {@link #getCreditsApplied(Reader)}.
      */
 
+    @Deprecated
     public CreditList getCreditsApplied(String response) throws Exception {
+        return getCreditsApplied(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the CreditList object.
+     *
+     * @param response This json response contains list of credits details for invoice.
+     * @return Returns the CreditList object.
+     */
+
+    public CreditList getCreditsApplied(Reader response) throws Exception {
+        return getCreditsApplied(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the CreditList object.
+     *
+     * @param response This json response contains list of credits details for invoice.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the CreditList object.
+     */
+
+    public CreditList getCreditsApplied(Reader response, Set<String> fields) throws Exception {
 
         CreditList creditList = new CreditList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        ResponseReader.readList(response, "credits", creditList, ResponseReader.project(this::readCredit, fields, CREDIT_FIELDS)); //No I18N
 
-        JSONArray jsonArray = jsonObject.getJSONArray("credits"); //No I18N
+        return creditList;
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Credit credit = new Credit();
+    }
 
-            credit.setCreditnoteId(jsonArray.getJSONObject(i).getString("creditnote_id"));
-            credit.setCreditnotesInvoiceId(jsonArray.getJSONObject(i).getString("creditnotes_invoice_id"));
-            credit.setCreditnotesNumber(jsonArray.getJSONObject(i).getString("creditnotes_number"));
-            credit.setCreditedDate(jsonArray.getJSONObject(i).getString("credited_date"));
-            credit.setAmountApplied(jsonArray.getJSONObject(i).getDouble("amount_applied")); //No I18N
+    /**
+     * Read a credit.
+     */
 
-            creditList.add(credit);
+    private Credit readCredit(JsonReader reader) throws Exception {
+
+        Credit credit = new Credit();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "creditnote_id":
+                    credit.setCreditnoteId(reader.nextString());
+                    break;
+                case "creditnotes_invoice_id":
+                    credit.setCreditnotesInvoiceId(reader.nextString());
+                    break;
+                case "creditnotes_number":
+                    credit.setCreditnotesNumber(reader.nextString());
+                    break;
+                case "credited_date":
+                    credit.setCreditedDate(reader.nextString());
+                    break;
+                case "amount_applied":
+                    credit.setAmountApplied(reader.nextDouble());
+                    break;
+                case "invoice_payments":
+                    credit.setInvoicePayments(ResponseReader.readArray(reader, new ArrayList<InvoicePayment>(), this::readInvoicePayment));
+                    break;
+                case "apply_creditnotes":
+                    credit.setApplyCreditnotes(ResponseReader.readArray(reader, new ArrayList<ApplyCreditnote>(), this::readApplyCreditnote));
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return creditList;
+        return credit;
     }
 
     /**
@@ -590,49 +1215,99 @@ public class InvoiceParser {
      *
      * @param response This json response contains the credit details for invoice.
      * @return Returns the Credit object.
+     * @deprecated Use {@link #getApplyCredits(Reader)}.
      */
 
+    @Deprecated
     public Credit getApplyCredits(String response) throws Exception {
-        Credit credits = new Credit();
+        return getApplyCredits(new StringReader(response));
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the json response and returns the Credit object.
+     *
+     * @param response This json response contains the credit details for invoice.
+     * @return Returns the Credit object.
+     */
 
-        JSONObject useCredits = jsonObject.getJSONObject("use_credits"); //No I18N
+    public Credit getApplyCredits(Reader response) throws Exception {
+        return getApplyCredits(response, null);
+    }
 
-        JSONArray invoicePayments = useCredits.getJSONArray("invoice_payments"); //No I18N
+    /**
+     * Parse the json response and returns the Credit object.
+     *
+     * @param response This json response contains the credit details for invoice.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Credit object.
+     */
 
-        List<InvoicePayment> invoicePaymentsList = new ArrayList<InvoicePayment>();
+    public Credit getApplyCredits(Reader response, Set<String> fields) throws Exception {
 
-        for (int i = 0; i < invoicePayments.length(); i++) {
-            InvoicePayment invoicePayment = new InvoicePayment();
+        return ResponseReader.readObject(response, "use_credits", ResponseReader.project(this::readCredit, fields, CREDIT_FIELDS)); //No I18N
+    }
 
-            invoicePayment.setInvoicePaymentId(invoicePayments.getJSONObject(i).getString("invoice_payment_id"));
-            invoicePayment.setPaymentId(invoicePayments.getJSONObject(i).getString("payment_id"));
-            invoicePayment.setInvoiceId(invoicePayments.getJSONObject(i).getString("invoice_id"));
-            invoicePayment.setAmountUsed(invoicePayments.getJSONObject(i).getDouble("amount_used")); //No I18N
+    /**
+     * Read an invoice payment.
+     */
 
-            invoicePaymentsList.add(i, invoicePayment);
+    private InvoicePayment readInvoicePayment(JsonReader reader) throws Exception {
+
+        InvoicePayment invoicePayment = new InvoicePayment();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "invoice_payment_id":
+                    invoicePayment.setInvoicePaymentId(reader.nextString());
+                    break;
+                case "payment_id":
+                    invoicePayment.setPaymentId(reader.nextString());
+                    break;
+                case "invoice_id":
+                    invoicePayment.setInvoiceId(reader.nextString());
+                    break;
+                case "amount_used":
+                    invoicePayment.setAmountUsed(reader.nextDouble());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        credits.setInvoicePayments(invoicePaymentsList);
-
-        JSONArray applyCreditnotes = useCredits.getJSONArray("apply_creditnotes"); //No I18N
-
-        List<ApplyCreditnote> applyCreditnotesList = new ArrayList<ApplyCreditnote>();
-
-        for (int j = 0; j < applyCreditnotes.length(); j++) {
-            ApplyCreditnote applyCreditnote = new ApplyCreditnote();
+        return invoicePayment;
+    }
 
-            applyCreditnote.setCreditnotesInvoiceId(applyCreditnotes.getJSONObject(j).getString("creditnotes_invoice_id"));
-            applyCreditnote.setCreditnoteId(applyCreditnotes.getJSONObject(j).getString("creditnote_id"));
-            applyCreditnote.setInvoiceId(applyCreditnotes.getJSONObject(j).getString("invoice_id"));
-            applyCreditnote.setAmountApplied(applyCreditnotes.getJSONObject(j).getDouble("amount_applied")); //No I18N
+    /**
+     * Read an apply creditnote.
+     */
 
-            applyCreditnotesList.add(j, applyCreditnote);
+    private ApplyCreditnote readApplyCreditnote(JsonReader reader) throws Exception {
+
+        ApplyCreditnote applyCreditnote = new ApplyCreditnote();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "creditnotes_invoice_id":
+                    applyCreditnote.setCreditnotesInvoiceId(reader.nextString());
+                    break;
+                case "creditnote_id":
+                    applyCreditnote.setCreditnoteId(reader.nextString());
+                    break;
+                case "invoice_id":
+                    applyCreditnote.setInvoiceId(reader.nextString());
+                    break;
+                case "amount_applied":
+                    applyCreditnote.setAmountApplied(reader.nextDouble());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        credits.setApplyCreditnotes(applyCreditnotesList);
-
-        return credits;
+        return applyCreditnote;
     }
 }
@@ -5,12 +5,12 @@ package com.zoho.books.parser;
 import com.zoho.books.model.Journal;
 import com.zoho.books.model.JournalList;
 import com.zoho.books.model.LineItem;
-import com.zoho.books.model.PageContext;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.zoho.books.util.JsonReader;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 
 /**
  * JournalParser is used to parse the json response and make it into the respective objects.
@@ -18,106 +18,201 @@ import java.util.List;
 
 public class JournalParser {
 
+    /**
+     * Names of the fields read from a journal.
+     */
+
+    private static final Set<String> JOURNAL_FIELDS = Set.of("journal_id", "journal_date", "entry_number", //No I18N
+            "reference_number", "notes", "total", "currency_id", "currency_code", "currency_symbol", //No I18N
+            "line_items", "line_item_total", "price_precision", "created_time", "last_modified_time"); //No I18N
+
+
     /**
      * Parse the json response and returns the Journal object.
      *
      * @param response This json response contains the journal details.
      * @return Returns the Journal object.
+     * @deprecated Use {@link #getJournal(Reader)}.
      */
 
+    @Deprecated
     public Journal getJournal(String response) throws Exception {
-        Journal journals = new Journal();
-
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getJournal(new StringReader(response));
+    }
 
-        JSONObject journal = jsonObject.getJSONObject("journal"); //No I18N
+    /**
+     * Parse the json response and returns the Journal object.
+     *
+     * @param response This json response contains the journal details.
+     * @return Returns the Journal object.
+     */
 
-        journals.setJournalId(journal.getString("journal_id"));
-        journals.setEntryNumber(journal.getString("entry_number"));
-        journals.setReferenceNumber(journal.getString("reference_number"));
-        journals.setNotes(journal.getString("notes"));
-        journals.setCurrencyId(journal.getString("currency_id"));
-        journals.setCurrencyCode(journal.getString("currency_code"));
-        journals.setCurrencySymbol(journal.getString("currency_symbol"));
-        journals.setJournalDate(journal.getString("journal_date"));
+    public Journal getJournal(Reader response) throws Exception {
+        return getJournal(response, null);
+    }
 
-        JSONArray lineItems = journal.getJSONArray("line_items"); //No I18N
+    /**
+     * Parse the json response and returns the Journal object.
+     *
+     * @param response This json response contains the journal details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Journal object.
+     */
 
-        List<LineItem> lineItemsList = new ArrayList<LineItem>();
+    public Journal getJournal(Reader response, Set<String> fields) throws Exception {
 
-        for (int i = 0; i < lineItems.length(); i++) {
-            LineItem lineItem = new LineItem();
+        return ResponseReader.readObject(response, "journal", ResponseReader.project(this::readJournal, fields, JOURNAL_FIELDS)); //No I18N
+    }
 
-            lineItem.setLineId(lineItems.getJSONObject(i).getString("line_id"));
-            lineItem.setAccountId(lineItems.getJSONObject(i).getString("account_id"));
-            lineItem.setAccountName(lineItems.getJSONObject(i).getString("account_name"));
-            lineItem.setDescription(lineItems.getJSONObject(i).getString("description"));
-            lineItem.setDebitOrCredit(lineItems.getJSONObject(i).getString("debit_or_credit"));
-            lineItem.setTaxId(lineItems.getJSONObject(i).getString("tax_id"));
-            lineItem.setTaxName(lineItems.getJSONObject(i).getString("tax_name"));
-            lineItem.setTaxType(lineItems.getJSONObject(i).getString("tax_type"));
-            //lineItem.setTaxPercentage(lineItems.getJSONObject(i).getDouble("tax_percentage")); //No I18N
-            lineItem.setAmount(lineItems.getJSONObject(i).getDouble("amount")); //No I18N
+    /**
+     * Read a line item.
+     */
 
-            lineItemsList.add(i, lineItem);
+    private LineItem readLineItem(JsonReader reader) throws Exception {
+
+        LineItem lineItem = new LineItem();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "line_id":
+                    lineItem.setLineId(reader.nextString());
+                    break;
+                case "account_id":
+                    lineItem.setAccountId(reader.nextString());
+                    break;
+                case "account_name":
+                    lineItem.setAccountName(reader.nextString());
+                    break;
+                case "description":
+                    lineItem.setDescription(reader.nextString());
+                    break;
+                case "debit_or_credit":
+                    lineItem.setDebitOrCredit(reader.nextString());
+                    break;
+                case "tax_id":
+                    lineItem.setTaxId(reader.nextString());
+                    break;
+                case "tax_name":
+                    lineItem.setTaxName(reader.nextString());
+                    break;
+                case "tax_type":
+                    lineItem.setTaxType(reader.nextString());
+                    break;
+                case "amount":
+                    lineItem.setAmount(reader.nextDouble());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        journals.setLineItems(lineItemsList);
+        return lineItem;
+    }
 
-        journals.setLineItemTotal(journal.getDouble("line_item_total")); //No I18N
-        journals.setTotal(journal.getDouble("total"));            //No I18N
-        journals.setPricePrecision(journal.getInt("price_precision"));    //No I18N
+    /**
+     * Parse the json response and returns the JournalList object.
+     *
+     * @param response This json response contains list of journals details.
+     * @return Returns the JournalList object.
+     * @deprecated Use {@link #getJournals(Reader)}.
+     */
 
-        journals.setCreatedTime(journal.getString("created_time"));
-        journals.setLastModifiedTime(journal.getString("last_modified_time"));
+    @Deprecated
+    public JournalList getJournals(String response) throws Exception {
+        return getJournals(new StringReader(response));
+    }
 
-        return journals;
+    /**
+     * Parse the json response and returns the JournalList object.
+     *
+     * @param response This json response contains list of journals details.
+     * @return Returns the JournalList object.
+     */
 
+    public JournalList getJournals(Reader response) throws Exception {
+        return getJournals(response, null);
     }
 
     /**
      * Parse the json response and returns the JournalList object.
      *
      * @param response This json response contains list of journals details.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
      * @return Returns the JournalList object.
      */
 
-    public JournalList getJournals(String response) throws Exception {
+    public JournalList getJournals(Reader response, Set<String> fields) throws Exception {
 
         JournalList journalList = new JournalList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        journalList.setPageContext(ResponseReader.readList(response, "journals", journalList, ResponseReader.project(this::readJournal, fields, JOURNAL_FIELDS))); //No I18N
 
-        JSONArray jsonArray = jsonObject.getJSONArray("journals"); //No I18N
+        return journalList;
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Journal journal = new Journal();
+    }
 
-            journal.setJournalId(jsonArray.getJSONObject(i).getString("journal_id"));
-            journal.setJournalDate(jsonArray.getJSONObject(i).getString("journal_date"));
-            journal.setEntryNumber(jsonArray.getJSONObject(i).getString("entry_number"));
-            journal.setReferenceNumber(jsonArray.getJSONObject(i).getString("reference_number"));
-            journal.setNotes(jsonArray.getJSONObject(i).getString("notes"));
-            journal.setTotal(jsonArray.getJSONObject(i).getDouble("total")); //No I18N
+    /**
+     * Read a journal.
+     */
 
-            journalList.add(journal);
+    private Journal readJournal(JsonReader reader) throws Exception {
+
+        Journal journal = new Journal();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "journal_id":
+                    journal.setJournalId(reader.nextString());
+                    break;
+                case "journal_date":
+                    journal.setJournalDate(reader.nextString());
+                    break;
+                case "entry_number":
+                    journal.setEntryNumber(reader.nextString());
+                    break;
+                case "reference_number":
+                    journal.setReferenceNumber(reader.nextString());
+                    break;
+                case "notes":
+                    journal.setNotes(reader.nextString());
+                    break;
+                case "total":
+                    journal.setTotal(reader.nextDouble());
+                    break;
+                case "currency_id":
+                    journal.setCurrencyId(reader.nextString());
+                    break;
+                case "currency_code":
+                    journal.setCurrencyCode(reader.nextString());
+                    break;
+                case "currency_symbol":
+                    journal.setCurrencySymbol(reader.nextString());
+                    break;
+                case "line_items":
+                    journal.setLineItems(ResponseReader.readArray(reader, new ArrayList<LineItem>(), this::readLineItem));
+                    break;
+                case "line_item_total":
+                    journal.setLineItemTotal(reader.nextDouble());
+                    break;
+                case "price_precision":
+                    journal.setPricePrecision(reader.nextInt());
+                    break;
+                case "created_time":
+                    journal.setCreatedTime(reader.nextString());
+                    break;
+                case "last_modified_time":
+                    journal.setLastModifiedTime(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        PageContext pageContext = new PageContext();
-
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
-
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page"));    //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
-
-        journalList.setPageContext(pageContext);
-
-        return journalList;
+        return journal;
     }
 
     /**
@@ -125,13 +220,23 @@ public class JournalParser {
      *
      * @param response This json response contains the success message of post or update or delete requests.
      * @return Returns the success message.
+     * @deprecated Use {@link #getMessage(Reader)}.
      */
 
+    @Deprecated
     public String getMessage(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getMessage(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns a string object.
+     *
+     * @param response This json response contains the success message of post or update or delete requests.
+     * @return Returns the success message.
+     */
 
-        String success = jsonObject.getString("message");
+    public String getMessage(Reader response) throws Exception {
 
-        return success;
+        return ResponseReader.readObject(response, "message", JsonReader::nextString); //No I18N
     }
 }
@@ -3,11 +3,13 @@
 package com.zoho.books.parser;
 
 import com.zoho.books.model.*;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.zoho.books.util.JsonReader;
+import org.json.JSONException;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 
 /**
  * ProjectParser is used to parse the json response and make it into the respective objects.
@@ -15,55 +17,163 @@ import java.util.List;
 
 public class ProjectParser {
 
+    /**
+     * Names of the fields read from a project.
+     */
+
+    private static final Set<String> PROJECT_FIELDS = Set.of("project_id", "project_name", "customer_id", //No I18N
+            "customer_name", "description", "status", "billing_type", "rate", "created_time", //No I18N
+            "currency_code", "budget_type", "total_hours", "billed_hours", "un_billed_hours", "tasks", //No I18N
+            "users"); //No I18N
+
+    /**
+     * Names of the fields read from a task.
+     */
+
+    private static final Set<String> TASK_FIELDS = Set.of("project_id", "task_id", "currency_id", //No I18N
+            "customer_id", "task_name", "project_name", "customer_name", "billed_hours", "log_time", //No I18N
+            "un_billed_hours", "rate", "description", "budget_hours", "total_hours"); //No I18N
+
+    /**
+     * Names of the fields read from an user.
+     */
+
+    private static final Set<String> USER_FIELDS = Set.of("user_id", "is_current_user", "user_name", "email", //No I18N
+            "user_role", "status", "rate", "budget_hours", "total_hours", "billed_hours", "un_billed_hours", //No I18N
+            "project_id"); //No I18N
+
+    /**
+     * Names of the fields read from a time entry of the list.
+     */
+
+    private static final Set<String> TIME_ENTRY_FIELDS = Set.of("time_entry_id", "project_id", //No I18N
+            "project_name", "customer_id", "customer_name", "task_id", "task_name", "user_id", //No I18N
+            "is_current_user", "user_name", "log_date", "log_time", "notes", "timer_started_at", //No I18N
+            "timer_duration_in_minutes", "created_time"); //No I18N
+
+    /**
+     * Names of the fields read from a comment of the list.
+     */
+
+    private static final Set<String> COMMENT_FIELDS = Set.of("comment_id", "project_id", "description", //No I18N
+            "commented_by_id", "commented_by", "is_current_user", "date", "date_description", "time"); //No I18N
+
+    /**
+     * Names of the fields read from an invoice of the list.
+     */
+
+    private static final Set<String> INVOICE_FIELDS = Set.of("invoice_id", "customer_name", "customer_id", //No I18N
+            "status", "invoice_number", "reference_number", "date", "due_date", "total", "balance", //No I18N
+            "created_time"); //No I18N
+
+
     /**
      * Parse the json response and returns the ProjectList object.
      *
      * @param response This json response contains list of projects details.
      * @return Returns the ProjectList object.
+     * @deprecated Use {@link #getProjects(Reader)}.
      */
 
+    @Deprecated
     public ProjectList getProjects(String response) throws Exception {
+        return getProjects(new StringReader(response));
+    }
 
-        ProjectList projectList = new ProjectList();
-
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the json response and returns the ProjectList object.
+     *
+     * @param response This json response contains list of projects details.
+     * @return Returns the ProjectList object.
+     */
 
-        JSONArray jsonArray = jsonObject.getJSONArray("projects"); //No I18N
+    public ProjectList getProjects(Reader response) throws Exception {
+        return getProjects(response, null);
+    }
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Project project = new Project();
+    /**
+     * Parse the json response and returns the ProjectList object.
+     *
+     * @param response This json response contains list of projects details.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the ProjectList object.
+     */
 
-            project.setProjectId(jsonArray.getJSONObject(i).getString("project_id"));
-            project.setProjectName(jsonArray.getJSONObject(i).getString("project_name"));
-            project.setCustomerId(jsonArray.getJSONObject(i).getString("customer_id"));
-            project.setCustomerName(jsonArray.getJSONObject(i).getString("customer_name"));
-            project.setDescription(jsonArray.getJSONObject(i).getString("description"));
-            project.setStatus(jsonArray.getJSONObject(i).getString("status"));
-            project.setBillingType(jsonArray.getJSONObject(i).getString("billing_type"));
-			if (jsonArray.getJSONObject(i).has("rate")) {
-				project.setRate(jsonArray.getJSONObject(i).getDouble("rate")); // No
-																				// I18N
-			}
-            project.setCreatedTime(jsonArray.getJSONObject(i).getString("created_time"));
+    public ProjectList getProjects(Reader response, Set<String> fields) throws Exception {
 
-            projectList.add(project);
-        }
+        ProjectList projectList = new ProjectList();
 
-        PageContext pageContext = new PageContext();
+        projectList.setPageContext(ResponseReader.readList(response, "projects", projectList, ResponseReader.project(this::readProject, fields, PROJECT_FIELDS))); //No I18N
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+        return projectList;
+    }
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+    /**
+     * Read a project.
+     */
 
-        projectList.setPageContext(pageContext);
+    private Project readProject(JsonReader reader) throws Exception {
+
+        Project project = new Project();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "project_id":
+                    project.setProjectId(reader.nextString());
+                    break;
+                case "project_name":
+                    project.setProjectName(reader.nextString());
+                    break;
+                case "customer_id":
+                    project.setCustomerId(reader.nextString());
+                    break;
+                case "customer_name":
+                    project.setCustomerName(reader.nextString());
+                    break;
+                case "description":
+                    project.setDescription(reader.nextString());
+                    break;
+                case "status":
+                    project.setStatus(reader.nextString());
+                    break;
+                case "billing_type":
+                    project.setBillingType(reader.nextString());
+                    break;
+                case "rate":
+                    project.setRate(reader.nextDouble());
+                    break;
+                case "created_time":
+                    project.setCreatedTime(reader.nextString());
+                    break;
+                case "currency_code":
+                    project.setCurrencyCode(reader.nextString());
+                    break;
+                case "budget_type":
+                    project.setBudgetType(reader.nextString());
+                    break;
+                case "total_hours":
+                    project.setTotalHours(reader.nextString());
+                    break;
+                case "billed_hours":
+                    project.setBilledHours(reader.nextString());
+                    break;
+                case "un_billed_hours":
+                    project.setUnBilledHours(reader.nextString());
+                    break;
+                case "tasks":
+                    project.setTasks(ResponseReader.readArray(reader, new ArrayList<Task>(), this::readTask));
+                    break;
+                case "users":
+                    project.setUsers(ResponseReader.readArray(reader, new ArrayList<User>(), this::readUser));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        return projectList;
+        return project;
     }
 
     /**
@@ -71,75 +181,36 @@ public class ProjectParser {
      *
      * @param response This json response contains the project details.
      * @return Returns the Project object.
+     * @deprecated Use {@link #getProject(Reader)}.
      */
 
+    @Deprecated
     public Project getProject(String response) throws Exception {
-        Project projects = new Project();
-
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONObject project = jsonObject.getJSONObject("project"); //No I18N
-
-        projects.setProjectId(project.getString("project_id"));
-        projects.setProjectName(project.getString("project_name"));
-        projects.setCustomerId(project.getString("customer_id"));
-        projects.setCustomerName(project.getString("customer_name"));
-        projects.setCurrencyCode(project.getString("currency_code"));
-        projects.setDescription(project.getString("description"));
-        projects.setStatus(project.getString("status"));
-        projects.setBillingType(project.getString("billing_type"));
-        projects.setBudgetType(project.getString("budget_type"));
-        projects.setTotalHours(project.getString("total_hours"));
-        projects.setBilledHours(project.getString("billed_hours"));
-        projects.setUnBilledHours(project.getString("un_billed_hours"));
-        projects.setCreatedTime(project.getString("created_time"));
-
-        JSONArray jsonArray = project.getJSONArray("tasks"); //No I18N
-
-        List<Task> tasks = new ArrayList<Task>();
-
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Task task = new Task();
-
-            task.setTaskId(jsonArray.getJSONObject(i).getString("task_id"));
-            task.setTaskName(jsonArray.getJSONObject(i).getString("task_name"));
-            task.setDescription(jsonArray.getJSONObject(i).getString("description"));
-            task.setRate(jsonArray.getJSONObject(i).getDouble("rate"));        //No I18N
-            task.setBudgetHours(jsonArray.getJSONObject(i).getInt("budget_hours")); //No I18N
-            task.setTotalHours(jsonArray.getJSONObject(i).getString("total_hours"));
-            task.setBilledHours(jsonArray.getJSONObject(i).getString("billed_hours"));
-            task.setUnBilledHours(jsonArray.getJSONObject(i).getString("un_billed_hours"));
-
-            tasks.add(i, task);
-        }
-
-        projects.setTasks(tasks);
-
-        JSONArray usersArr = project.getJSONArray("users"); //No I18N
-
-        List<User> users = new ArrayList<User>();
+        return getProject(new StringReader(response));
+    }
 
-        for (int i = 0; i < usersArr.length(); i++) {
-            User user = new User();
+    /**
+     * Parse the json response and returns the Project object.
+     *
+     * @param response This json response contains the project details.
+     * @return Returns the Project object.
+     */
 
-            user.setUserId(usersArr.getJSONObject(i).getString("user_id"));
-            user.setIsCurrentUser(usersArr.getJSONObject(i).getBoolean("is_current_user")); //No I18N
-            user.setUserName(usersArr.getJSONObject(i).getString("user_name"));
-            user.setEmail(usersArr.getJSONObject(i).getString("email"));
-            user.setUserRole(usersArr.getJSONObject(i).getString("user_role"));
-            user.setStatus(usersArr.getJSONObject(i).getString("status"));
-            user.setRate(usersArr.getJSONObject(i).getDouble("rate"));        //No I18N
-            user.setBudgetHours(usersArr.getJSONObject(i).getInt("budget_hours"));    //No I18N
-            user.setTotalHours(usersArr.getJSONObject(i).getString("total_hours"));
-            user.setBilledHours(usersArr.getJSONObject(i).getString("billed_hours"));
-            user.setUnBilledHours(usersArr.getJSONObject(i).getString("un_billed_hours"));
+    public Project getProject(Reader response) throws Exception {
+        return getProject(response, null);
+    }
 
-            users.add(i, user);
-        }
+    /**
+     * Parse the json response and returns the Project object.
+     *
+     * @param response This json response contains the project details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Project object.
+     */
 
-        projects.setUsers(users);
+    public Project getProject(Reader response, Set<String> fields) throws Exception {
 
-        return projects;
+        return ResponseReader.readObject(response, "project", ResponseReader.project(this::readProject, fields, PROJECT_FIELDS)); //No I18N
     }
 
     /**
@@ -147,14 +218,24 @@ public class ProjectParser {
      *
      * @param response This json response contains the success message of post or update or delete requests.
      * @return Returns the success message.
+     * @deprecated Use {@link #getMessage(Reader)}.
      */
 
+    @Deprecated
     public String getMessage(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getMessage(new StringReader(response));
+    }
 
-        String success = jsonObject.getString("message");
+    /**
+     * Parse the json response and returns a string object.
+     *
+     * @param response This json response contains the success message of post or update or delete requests.
+     * @return Returns the success message.
+     */
 
-        return success;
+    public String getMessage(Reader response) throws Exception {
+
+        return ResponseReader.readObject(response, "message", JsonReader::nextString); //No I18N
     }
 
     /**
@@ -162,80 +243,143 @@ public class ProjectParser {
      *
      * @param response This json response contains list of tasks details for project.
      * @return Returns the TaskList object.
+     * @deprecated Use {@link #getTasks(Reader)}.
      */
 
+    @Deprecated
     public TaskList getTasks(String response) throws Exception {
+        return getTasks(new StringReader(response));
+    }
 
-        TaskList taskList = new TaskList();
-
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONArray jsonArray = jsonObject.getJSONArray("task"); //No I18N
-
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Task task = new Task();
-
-            task.setProjectId(jsonArray.getJSONObject(i).getString("project_id"));
-            task.setTaskId(jsonArray.getJSONObject(i).getString("task_id"));
-            task.setCurrencyId(jsonArray.getJSONObject(i).getString("currency_id"));
-            task.setCustomerId(jsonArray.getJSONObject(i).getString("customer_id"));
-            task.setTaskName(jsonArray.getJSONObject(i).getString("task_name"));
-            task.setProjectName(jsonArray.getJSONObject(i).getString("project_name"));
-            task.setCustomerName(jsonArray.getJSONObject(i).getString("customer_name"));
-            task.setBilledHours(jsonArray.getJSONObject(i).getString("billed_hours"));
-            task.setLogTime(jsonArray.getJSONObject(i).getString("log_time"));
-            task.setUnBilledHours(jsonArray.getJSONObject(i).getString("un_billed_hours"));
-            try {
-            	task.setRate(jsonArray.getJSONObject(i).getDouble("rate"));        //No I18N
-            } catch (Exception e) {
-            	
-            }
+    /**
+     * Parse the json response and returns the TaskList object.
+     *
+     * @param response This json response contains list of tasks details for project.
+     * @return Returns the TaskList object.
+     */
 
-            taskList.add(task);
-        }
+    public TaskList getTasks(Reader response) throws Exception {
+        return getTasks(response, null);
+    }
 
-        PageContext pageContext = new PageContext();
+    /**
+     * Parse the json response and returns the TaskList object.
+     *
+     * @param response This json response contains list of tasks details for project.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the TaskList object.
+     */
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    public TaskList getTasks(Reader response, Set<String> fields) throws Exception {
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        if (pagecontext.has("applied_filter")) {
-            pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        }
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+        TaskList taskList = new TaskList();
 
-        taskList.setPageContext(pageContext);
+        taskList.setPageContext(ResponseReader.readList(response, "task", taskList, ResponseReader.project(this::readTask, fields, TASK_FIELDS))); //No I18N
 
         return taskList;
     }
 
+    /**
+     * Read a task.
+     */
+
+    private Task readTask(JsonReader reader) throws Exception {
+
+        Task task = new Task();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "project_id":
+                    task.setProjectId(reader.nextString());
+                    break;
+                case "task_id":
+                    task.setTaskId(reader.nextString());
+                    break;
+                case "currency_id":
+                    task.setCurrencyId(reader.nextString());
+                    break;
+                case "customer_id":
+                    task.setCustomerId(reader.nextString());
+                    break;
+                case "task_name":
+                    task.setTaskName(reader.nextString());
+                    break;
+                case "project_name":
+                    task.setProjectName(reader.nextString());
+                    break;
+                case "customer_name":
+                    task.setCustomerName(reader.nextString());
+                    break;
+                case "billed_hours":
+                    task.setBilledHours(reader.nextString());
+                    break;
+                case "log_time":
+                    task.setLogTime(reader.nextString());
+                    break;
+                case "un_billed_hours":
+                    task.setUnBilledHours(reader.nextString());
+                    break;
+                case "rate":
+                    try {
+                        task.setRate(reader.nextDouble());
+                    } catch (JSONException e) {
+                        // The rate is left unset when it is not a number.
+                    }
+                    break;
+                case "description":
+                    task.setDescription(reader.nextString());
+                    break;
+                case "budget_hours":
+                    task.setBudgetHours(reader.nextInt());
+                    break;
+                case "total_hours":
+                    task.setTotalHours(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return task;
+    }
+
     /**
      * Parse the json response and returns the Task object.
      *
      * @param response This json response contains the task details for project.
      * @return Returns the Task object.
+     * @deprecated Use {@link #getTask(Reader)}.
      */
 
+    @Deprecated
     public Task getTask(String response) throws Exception {
+        return getTask(new StringReader(response));
+    }
 
-        Task tasks = new Task();
+    /**
+     * Parse the json response and returns the Task object.
+     *
+     * @param response This json response contains the task details for project.
+     * @return Returns the Task object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public Task getTask(Reader response) throws Exception {
+        return getTask(response, null);
+    }
 
-        JSONObject task = jsonObject.getJSONObject("task"); //No I18N
+    /**
+     * Parse the json response and returns the Task object.
+     *
+     * @param response This json response contains the task details for project.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Task object.
+     */
 
-        tasks.setProjectId(task.getString("project_id"));
-        tasks.setProjectName(task.getString("project_name"));
-        tasks.setTaskId(task.getString("task_id"));
-        tasks.setTaskName(task.getString("task_name"));
-        tasks.setDescription(task.getString("description"));
-        tasks.setRate(task.getDouble("rate")); //No I18N
+    public Task getTask(Reader response, Set<String> fields) throws Exception {
 
-        return tasks;
+        return ResponseReader.readObject(response, "task", ResponseReader.project(this::readTask, fields, TASK_FIELDS)); //No I18N
     }
 
     /**
@@ -243,32 +387,97 @@ public class ProjectParser {
      *
      * @param response This json response contains list of users details for project.
      * @return Returns the UserList object.
+     * @deprecated Use {@link #getUsers(Reader)}.
      */
 
+    @Deprecated
     public UserList getUsers(String response) throws Exception {
+        return getUsers(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the UserList object.
+     *
+     * @param response This json response contains list of users details for project.
+     * @return Returns the UserList object.
+     */
+
+    public UserList getUsers(Reader response) throws Exception {
+        return getUsers(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the UserList object.
+     *
+     * @param response This json response contains list of users details for project.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the UserList object.
+     */
+
+    public UserList getUsers(Reader response, Set<String> fields) throws Exception {
 
         UserList userList = new UserList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        ResponseReader.readList(response, "users", userList, ResponseReader.project(this::readUser, fields, USER_FIELDS)); //No I18N
 
-        JSONArray jsonArray = jsonObject.getJSONArray("users"); //No I18N
+        return userList;
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            User user = new User();
+    }
 
-            user.setUserId(jsonArray.getJSONObject(i).getString("user_id"));
-            user.setIsCurrentUser(jsonArray.getJSONObject(i).getBoolean("is_current_user")); //No I18N
-            user.setUserName(jsonArray.getJSONObject(i).getString("user_name"));
-            user.setEmail(jsonArray.getJSONObject(i).getString("email"));
-            user.setUserRole(jsonArray.getJSONObject(i).getString("user_role"));
-            user.setStatus(jsonArray.getJSONObject(i).getString("status"));
-            user.setRate(jsonArray.getJSONObject(i).getDouble("rate"));    //No I18N
-            user.setBudgetHours(jsonArray.getJSONObject(i).getInt("budget_hours")); //No I18N
+    /**
+     * Read an user.
+     */
 
-            userList.add(user);
+    private User readUser(JsonReader reader) throws Exception {
+
+        User user = new User();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "user_id":
+                    user.setUserId(reader.nextString());
+                    break;
+                case "is_current_user":
+                    user.setIsCurrentUser(reader.nextBoolean());
+                    break;
+                case "user_name":
+                    user.setUserName(reader.nextString());
+                    break;
+                case "email":
+                    user.setEmail(reader.nextString());
+                    break;
+                case "user_role":
+                    user.setUserRole(reader.nextString());
+                    break;
+                case "status":
+                    user.setStatus(reader.nextString());
+                    break;
+                case "rate":
+                    user.setRate(reader.nextDouble());
+                    break;
+                case "budget_hours":
+                    user.setBudgetHours(reader.nextInt());
+                    break;
+                case "total_hours":
+                    user.setTotalHours(reader.nextString());
+                    break;
+                case "billed_hours":
+                    user.setBilledHours(reader.nextString());
+                    break;
+                case "un_billed_hours":
+                    user.setUnBilledHours(reader.nextString());
+                    break;
+                case "project_id":
+                    user.setProjectId(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return userList;
+        return user;
     }
 
     /**
@@ -276,23 +485,36 @@ public class ProjectParser {
      *
      * @param response This json response contains the user details for project.
      * @return Returns the User object.
+     * @deprecated Use {@link #getUser(Reader)}.
      */
 
+    @Deprecated
     public User getUser(String response) throws Exception {
-        User users = new User();
+        return getUser(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the User object.
+     *
+     * @param response This json response contains the user details for project.
+     * @return Returns the User object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public User getUser(Reader response) throws Exception {
+        return getUser(response, null);
+    }
 
-        JSONObject user = jsonObject.getJSONObject("user"); //No I18N
+    /**
+     * Parse the json response and returns the User object.
+     *
+     * @param response This json response contains the user details for project.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the User object.
+     */
 
-        users.setProjectId(user.getString("project_id"));
-        users.setUserId(user.getString("user_id"));
-        users.setIsCurrentUser(user.getBoolean("is_current_user")); //No I18N
-        users.setUserName(user.getString("user_name"));
-        users.setEmail(user.getString("email"));
-        users.setUserRole(user.getString("user_role"));
+    public User getUser(Reader response, Set<String> fields) throws Exception {
 
-        return users;
+        return ResponseReader.readObject(response, "user", ResponseReader.project(this::readUser, fields, USER_FIELDS)); //No I18N
     }
 
     /**
@@ -300,55 +522,109 @@ public class ProjectParser {
      *
      * @param response This json response contains list of time entries details for project.
      * @return Returns the TimeEntryList object.
+     * @deprecated Use {@link #getTimeEntries(Reader)}.
      */
 
+    @Deprecated
     public TimeEntryList getTimeEntries(String response) throws Exception {
+        return getTimeEntries(new StringReader(response));
+    }
 
-        TimeEntryList timeEntryList = new TimeEntryList();
-
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the json response and returns the TimeEntryList object.
+     *
+     * @param response This json response contains list of time entries details for project.
+     * @return Returns the TimeEntryList object.
+     */
 
-        JSONArray jsonArray = jsonObject.getJSONArray("time_entries"); //No I18N
+    public TimeEntryList getTimeEntries(Reader response) throws Exception {
+        return getTimeEntries(response, null);
+    }
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            TimeEntry timeEntry = new TimeEntry();
+    /**
+     * Parse the json response and returns the TimeEntryList object.
+     *
+     * @param response This json response contains list of time entries details for project.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the TimeEntryList object.
+     */
 
-            timeEntry.setTimeEntryId(jsonArray.getJSONObject(i).getString("time_entry_id"));
-            timeEntry.setProjectId(jsonArray.getJSONObject(i).getString("project_id"));
-            timeEntry.setProjectName(jsonArray.getJSONObject(i).getString("project_name"));
-            timeEntry.setCustomerId(jsonArray.getJSONObject(i).getString("customer_id"));
-            timeEntry.setCustomerName(jsonArray.getJSONObject(i).getString("customer_name"));
-            timeEntry.setTaskId(jsonArray.getJSONObject(i).getString("task_id"));
-            timeEntry.setTaskName(jsonArray.getJSONObject(i).getString("task_name"));
-            timeEntry.setUserId(jsonArray.getJSONObject(i).getString("user_id"));
-            timeEntry.setIsCurrentUser(jsonArray.getJSONObject(i).getBoolean("is_current_user")); //No I18N
-            timeEntry.setUserName(jsonArray.getJSONObject(i).getString("user_name"));
-            timeEntry.setLogDate(jsonArray.getJSONObject(i).getString("log_date"));
-            timeEntry.setLogTime(jsonArray.getJSONObject(i).getString("log_time"));
-            timeEntry.setNotes(jsonArray.getJSONObject(i).getString("notes"));
-            timeEntry.setTimerStartedAt(jsonArray.getJSONObject(i).getString("timer_started_at"));
-            timeEntry.setTimerDurationInMinutes(jsonArray.getJSONObject(i).getInt("timer_duration_in_minutes")); //No I18N
-            timeEntry.setCreatedTime(jsonArray.getJSONObject(i).getString("created_time"));
+    public TimeEntryList getTimeEntries(Reader response, Set<String> fields) throws Exception {
 
-            timeEntryList.add(timeEntry);
+        TimeEntryList timeEntryList = new TimeEntryList();
 
-        }
+        timeEntryList.setPageContext(ResponseReader.readList(response, "time_entries", timeEntryList, ResponseReader.project(this::readTimeEntry, fields, TIME_ENTRY_FIELDS))); //No I18N
 
-        PageContext pageContext = new PageContext();
+        return timeEntryList;
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    }
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+    /**
+     * Read a time entry of the list.
+     */
 
-        timeEntryList.setPageContext(pageContext);
+    private TimeEntry readTimeEntry(JsonReader reader) throws Exception {
+
+        TimeEntry timeEntry = new TimeEntry();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "time_entry_id":
+                    timeEntry.setTimeEntryId(reader.nextString());
+                    break;
+                case "project_id":
+                    timeEntry.setProjectId(reader.nextString());
+                    break;
+                case "project_name":
+                    timeEntry.setProjectName(reader.nextString());
+                    break;
+                case "customer_id":
+                    timeEntry.setCustomerId(reader.nextString());
+                    break;
+                case "customer_name":
+                    timeEntry.setCustomerName(reader.nextString());
+                    break;
+                case "task_id":
+                    timeEntry.setTaskId(reader.nextString());
+                    break;
+                case "task_name":
+                    timeEntry.setTaskName(reader.nextString());
+                    break;
+                case "user_id":
+                    timeEntry.setUserId(reader.nextString());
+                    break;
+                case "is_current_user":
+                    timeEntry.setIsCurrentUser(reader.nextBoolean());
+                    break;
+                case "user_name":
+                    timeEntry.setUserName(reader.nextString());
+                    break;
+                case "log_date":
+                    timeEntry.setLogDate(reader.nextString());
+                    break;
+                case "log_time":
+                    timeEntry.setLogTime(reader.nextString());
+                    break;
+                case "notes":
+                    timeEntry.setNotes(reader.nextString());
+                    break;
+                case "timer_started_at":
+                    timeEntry.setTimerStartedAt(reader.nextString());
+                    break;
+                case "timer_duration_in_minutes":
+                    timeEntry.setTimerDurationInMinutes(reader.nextInt());
+                    break;
+                case "created_time":
+                    timeEntry.setCreatedTime(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        return timeEntryList;
+        return timeEntry;
     }
 
     /**
@@ -356,31 +632,36 @@ public class ProjectParser {
      *
      * @param response This json response contains the time entry details for project.
      * @return Returns the TimeEntry object.
+     * @deprecated Use {@link #getTimeEntry(Reader)}.
      */
 
+    @Deprecated
     public TimeEntry getTimeEntry(String response) throws Exception {
-        TimeEntry timeEntries = new TimeEntry();
+        return getTimeEntry(new StringReader(response));
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the json response and returns the TimeEntry object.
+     *
+     * @param response This json response contains the time entry details for project.
+     * @return Returns the TimeEntry object.
+     */
+
+    public TimeEntry getTimeEntry(Reader response) throws Exception {
+        return getTimeEntry(response, null);
+    }
 
-        JSONObject timeEntry = jsonObject.getJSONObject("time_entry"); //No I18N
+    /**
+     * Parse the json response and returns the TimeEntry object.
+     *
+     * @param response This json response contains the time entry details for project.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the TimeEntry object.
+     */
 
-        timeEntries.setTimeEntryId(timeEntry.getString("time_entry_id"));
-        timeEntries.setProjectId(timeEntry.getString("project_id"));
-        timeEntries.setProjectName(timeEntry.getString("project_name"));
-        timeEntries.setTaskId(timeEntry.getString("task_id"));
-        timeEntries.setTaskName(timeEntry.getString("task_name"));
-        timeEntries.setUserId(timeEntry.getString("user_id"));
-        timeEntries.setUserName(timeEntry.getString("user_name"));
-        timeEntries.setIsCurrentUser(timeEntry.getBoolean("is_current_user")); //No I18N
-        timeEntries.setLogDate(timeEntry.getString("log_date"));
-        timeEntries.setLogTime(timeEntry.getString("log_time"));
-        timeEntries.setNotes(timeEntry.getString("notes"));
-        timeEntries.setTimerStartedAt(timeEntry.getString("timer_started_at"));
-        timeEntries.setTimerDurationInMinutes(timeEntry.getInt("timer_duration_in_minutes")); //No I18N
-        timeEntries.setCreatedTime(timeEntry.getString("created_time"));
+    public TimeEntry getTimeEntry(Reader response, Set<String> fields) throws Exception {
 
-        return timeEntries;
+        return ResponseReader.readObject(response, "time_entry", ResponseReader.project(this::readTimeEntry, fields, TIME_ENTRY_FIELDS)); //No I18N
     }
 
     /**
@@ -388,33 +669,88 @@ public class ProjectParser {
      *
      * @param response This json response contains list of comments details for project.
      * @return Returns the CommentList object.
+     * @deprecated Use {@link #getComments(Reader)}.
      */
 
+    @Deprecated
     public CommentList getComments(String response) throws Exception {
+        return getComments(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the CommentList object.
+     *
+     * @param response This json response contains list of comments details for project.
+     * @return Returns the CommentList object.
+     */
+
+    public CommentList getComments(Reader response) throws Exception {
+        return getComments(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the CommentList object.
+     *
+     * @param response This json response contains list of comments details for project.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the CommentList object.
+     */
+
+    public CommentList getComments(Reader response, Set<String> fields) throws Exception {
 
         CommentList commentList = new CommentList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        ResponseReader.readList(response, "comments", commentList, ResponseReader.project(this::readComment, fields, COMMENT_FIELDS)); //No I18N
 
-        JSONArray comments = jsonObject.getJSONArray("comments"); //No I18N
+        return commentList;
 
-        for (int i = 0; i < comments.length(); i++) {
-            Comment comment = new Comment();
+    }
 
-            comment.setCommentId(comments.getJSONObject(i).getString("comment_id"));
-            comment.setProjectId(comments.getJSONObject(i).getString("project_id"));
-            comment.setDescription(comments.getJSONObject(i).getString("description"));
-            comment.setCommentedById(comments.getJSONObject(i).getString("commented_by_id"));
-            comment.setCommentedBy(comments.getJSONObject(i).getString("commented_by"));
-            comment.setIsCurrentUser(comments.getJSONObject(i).getBoolean("is_current_user")); //No I18N
-            comment.setDate(comments.getJSONObject(i).getString("date"));
-            comment.setDateDescription(comments.getJSONObject(i).getString("date_description"));
-            comment.setTime(comments.getJSONObject(i).getString("time"));
+    /**
+     * Read a comment of the list.
+     */
+
+    private Comment readComment(JsonReader reader) throws Exception {
+
+        Comment comment = new Comment();
 
-            commentList.add(comment);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "comment_id":
+                    comment.setCommentId(reader.nextString());
+                    break;
+                case "project_id":
+                    comment.setProjectId(reader.nextString());
+                    break;
+                case "description":
+                    comment.setDescription(reader.nextString());
+                    break;
+                case "commented_by_id":
+                    comment.setCommentedById(reader.nextString());
+                    break;
+                case "commented_by":
+                    comment.setCommentedBy(reader.nextString());
+                    break;
+                case "is_current_user":
+                    comment.setIsCurrentUser(reader.nextBoolean());
+                    break;
+                case "date":
+                    comment.setDate(reader.nextString());
+                    break;
+                case "date_description":
+                    comment.setDateDescription(reader.nextString());
+                    break;
+                case "time":
+                    comment.setTime(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return commentList;
+        return comment;
     }
 
     /**
@@ -422,25 +758,36 @@ public class ProjectParser {
      *
      * @param response This json response contains the comment details for project.
      * @return Returns the Comment object.
+     * @deprecated Use {@link #getComment(Reader)}.
      */
 
+    @Deprecated
     public Comment getComment(String response) throws Exception {
-        Comment comment = new Comment();
+        return getComment(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the Comment object.
+     *
+     * @param response This json response contains the comment details for project.
+     * @return Returns the Comment object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public Comment getComment(Reader response) throws Exception {
+        return getComment(response, null);
+    }
 
-        JSONObject comments = jsonObject.getJSONObject("comment"); //No I18N
+    /**
+     * Parse the json response and returns the Comment object.
+     *
+     * @param response This json response contains the comment details for project.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Comment object.
+     */
 
-        comment.setCommentId(comments.getString("comment_id"));
-        comment.setProjectId(comments.getString("project_id"));
-        comment.setDescription(comments.getString("description"));
-        comment.setCommentedById(comments.getString("commented_by_id"));
-        comment.setCommentedBy(comments.getString("commented_by"));
-        comment.setDate(comments.getString("date"));
-        comment.setDateDescription(comments.getString("date_description"));
-        comment.setTime(comments.getString("time"));
+    public Comment getComment(Reader response, Set<String> fields) throws Exception {
 
-        return comment;
+        return ResponseReader.readObject(response, "comment", ResponseReader.project(this::readComment, fields, COMMENT_FIELDS)); //No I18N
     }
 
     /**
@@ -448,48 +795,94 @@ public class ProjectParser {
      *
      * @param response This json response contains list of invoices details for project.
      * @return Returns the InvoiceList object.
+     * @deprecated Use {@link #getInvoices(Reader)}.
      */
 
+    @Deprecated
     public InvoiceList getInvoices(String response) throws Exception {
+        return getInvoices(new StringReader(response));
+    }
 
-        InvoiceList invoiceList = new InvoiceList();
+    /**
+     * Parse the json response and returns the InvoiceList object.
+     *
+     * @param response This json response contains list of invoices details for project.
+     * @return Returns the InvoiceList object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public InvoiceList getInvoices(Reader response) throws Exception {
+        return getInvoices(response, null);
+    }
 
-        JSONArray invoices = jsonObject.getJSONArray("invoices"); //No I18N
+    /**
+     * Parse the json response and returns the InvoiceList object.
+     *
+     * @param response This json response contains list of invoices details for project.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the InvoiceList object.
+     */
 
-        for (int i = 0; i < invoices.length(); i++) {
-            Invoice invoice = new Invoice();
+    public InvoiceList getInvoices(Reader response, Set<String> fields) throws Exception {
 
-            invoice.setInvoiceId(invoices.getJSONObject(i).getString("invoice_id"));
-            invoice.setCustomerName(invoices.getJSONObject(i).getString("customer_name"));
-            invoice.setCustomerId(invoices.getJSONObject(i).getString("customer_id"));
-            invoice.setStatus(invoices.getJSONObject(i).getString("status"));
-            invoice.setInvoiceNumber(invoices.getJSONObject(i).getString("invoice_number"));
-            invoice.setReferenceNumber(invoices.getJSONObject(i).getString("reference_number"));
-            invoice.setDate(invoices.getJSONObject(i).getString("date"));
-            invoice.setDueDate(invoices.getJSONObject(i).getString("due_date"));
-            invoice.setTotal(invoices.getJSONObject(i).getDouble("total"));        //No I18N
-            invoice.setBalance(invoices.getJSONObject(i).getDouble("balance"));    //No I18N
-            invoice.setCreatedTime(invoices.getJSONObject(i).getString("created_time"));
+        InvoiceList invoiceList = new InvoiceList();
 
-            invoiceList.add(invoice);
-        }
+        invoiceList.setPageContext(ResponseReader.readList(response, "invoices", invoiceList, ResponseReader.project(this::readInvoice, fields, INVOICE_FIELDS))); //No I18N
 
-        PageContext pageContext = new PageContext();
+        return invoiceList;
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    }
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+    /**
+     * Read an invoice of the list.
+     */
 
-        invoiceList.setPageContext(pageContext);
+    private Invoice readInvoice(JsonReader reader) throws Exception {
+
+        Invoice invoice = new Invoice();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "invoice_id":
+                    invoice.setInvoiceId(reader.nextString());
+                    break;
+                case "customer_name":
+                    invoice.setCustomerName(reader.nextString());
+                    break;
+                case "customer_id":
+                    invoice.setCustomerId(reader.nextString());
+                    break;
+                case "status":
+                    invoice.setStatus(reader.nextString());
+                    break;
+                case "invoice_number":
+                    invoice.setInvoiceNumber(reader.nextString());
+                    break;
+                case "reference_number":
+                    invoice.setReferenceNumber(reader.nextString());
+                    break;
+                case "date":
+                    invoice.setDate(reader.nextString());
+                    break;
+                case "due_date":
+                    invoice.setDueDate(reader.nextString());
+                    break;
+                case "total":
+                    invoice.setTotal(reader.nextDouble());
+                    break;
+                case "balance":
+                    invoice.setBalance(reader.nextDouble());
+                    break;
+                case "created_time":
+                    invoice.setCreatedTime(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        return invoiceList;
+        return invoice;
     }
 
 }
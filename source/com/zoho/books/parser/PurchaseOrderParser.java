@@ -3,12 +3,14 @@
 package com.zoho.books.parser;
 
 import com.zoho.books.model.*;
-import org.json.JSONArray;
+import com.zoho.books.util.JsonReader;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -19,6 +21,43 @@ import java.util.List;
 
 public class PurchaseOrderParser {
 
+    /**
+     * Names of the fields read from a purchase order.
+     */
+
+    private static final Set<String> PURCHASE_ORDER_FIELDS = Set.of("purchaseorder_id", "vendor_id", //No I18N
+            "vendor_name", "status", "purchaseorder_number", "reference_number", "date", "delivery_date", //No I18N
+            "currency_id", "currency_code", "price_precision", "total", "created_time", "last_modified_time", //No I18N
+            "expected_delivery_date", "currency_symbol", "exchange_rate", "is_emailed", "sub_total", //No I18N
+            "tax_total", "notes", "terms", "ship_via", "ship_via_id", "attention", "delivery_org_address_id", //No I18N
+            "delivery_customer_id", "attachment_name", "can_send_in_mail", "template_id", "template_name", //No I18N
+            "template_type", "can_mark_as_bill", "can_mark_as_unbill", "contact_persons", "line_items", //No I18N
+            "taxes", "custom_fields", "billing_address", "delivery_address"); //No I18N
+
+    /**
+     * Names of the fields read from an email.
+     */
+
+    private static final Set<String> EMAIL_FIELDS = Set.of("subject", "body", "file_name", "customer_id", //No I18N
+            "emailtemplates", "to_contacts", "from_emails", "attach_pdf", "customer_name", //No I18N
+            "file_name_without_extension", "attachment_name", "vendor_id", "vendor_name"); //No I18N
+
+    /**
+     * Names of the fields read from a template of the list.
+     */
+
+    private static final Set<String> TEMPLATE_FIELDS = Set.of("template_name", "template_id", //No I18N
+            "template_type"); //No I18N
+
+    /**
+     * Names of the fields read from a comment.
+     */
+
+    private static final Set<String> COMMENT_FIELDS = Set.of("comment_id", "description", "commented_by_id", //No I18N
+            "commented_by", "comment_type", "date", "date_description", "time", "operation_type", //No I18N
+            "transaction_id", "transaction_type"); //No I18N
+
+
 
     /**
      * Parse the JSON response and make it into the PurchaseOrderList object.
@@ -26,54 +65,56 @@ public class PurchaseOrderParser {
      * @param response JSON response contains the details of list of purchase orders.
      * @return Returns the PurchaseOrderList object.
      * @throws Exception
+     * @deprecated Use {@link #getPurchaseOrders(Reader)}.
      */
 
+    @Deprecated
     public PurchaseOrderList getPurchaseOrders(String response) throws Exception {
+        return getPurchaseOrders(new StringReader(response));
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the JSON response and make it into the PurchaseOrderList object.
+     *
+     * @param response JSON response contains the details of list of purchase orders.
+     * @return Returns the PurchaseOrderList object.
+     * @throws Exception
+     */
 
-        PurchaseOrderList purchaseOrderList = new PurchaseOrderList();
+    public PurchaseOrderList getPurchaseOrders(Reader response) throws Exception {
+        return getPurchaseOrders(response, false);
+    }
 
-        if (jsonObject.has("purchaseorders")) {
-            JSONArray purchaseorders = jsonObject.getJSONArray("purchaseorders");    //No I18N
+    /**
+     * Parse the JSON response and make it into the PurchaseOrderList object.
+     *
+     * @param response JSON response contains the details of list of purchase orders.
+     * @param lazy     Whether a row is made into its model object only when it is first got from the list.
+     * @return Returns the PurchaseOrderList object.
+     * @throws Exception
+     */
 
-            for (int i = 0; i < purchaseorders.length(); i++) {
-                purchaseOrderList.add(this.jsonToPurchaseOrder(purchaseorders.getJSONObject(i)));
-            }
+    public PurchaseOrderList getPurchaseOrders(Reader response, boolean lazy) throws Exception {
+        return getPurchaseOrders(response, lazy, null);
+    }
 
-        }
-        PageContext pageContext = new PageContext();
+    /**
+     * Parse the JSON response and make it into the PurchaseOrderList object.
+     *
+     * @param response JSON response contains the details of list of purchase orders.
+     * @param lazy     Whether a row is made into its model object only when it is first got from the list.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the PurchaseOrderList object.
+     * @throws Exception
+     */
 
-        if (jsonObject.has("page_context")) {
-            JSONObject pagecontext = jsonObject.getJSONObject("page_context");    //No I18N
+    public PurchaseOrderList getPurchaseOrders(Reader response, boolean lazy, Set<String> fields) throws Exception {
 
-            if (pagecontext.has("page")) {
-                pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-            }
-            if (pagecontext.has("per_page")) {
-                pageContext.setPerPage(pagecontext.getInt("per_page"));    //No I18N
-            }
-            if (pagecontext.has("has_more_page")) {
-                pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page"));    //No I18N
-            }
-            if (pagecontext.has("report_name")) {
-                pageContext.setReportName(pagecontext.getString("report_name"));
-            }
-            if (pagecontext.has("applied_filter")) {
-                pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-            }
-            if (pagecontext.has("sort_column")) {
-                pageContext.setSortColumn(pagecontext.getString("sort_column"));
-            }
-            if (pagecontext.has("sort_order")) {
-                pageContext.setSortOrder(pagecontext.getString("sort_order"));
-            }
+        PurchaseOrderList purchaseOrderList = new PurchaseOrderList();
 
-            purchaseOrderList.setPageContext(pageContext);
-        }
+        purchaseOrderList.setPageContext(ResponseReader.readRows(response, "purchaseorders", purchaseOrderList, "purchaseorder_id", "total", ResponseReader.project(this::readPurchaseOrder, fields, PURCHASE_ORDER_FIELDS), lazy)); //No I18N
 
         return purchaseOrderList;
-
     }
 
     /**
@@ -82,16 +123,38 @@ public class PurchaseOrderParser {
      * @param response JSON response contains the details of the purchase order.
      * @return Returns the PurchaseOrder object.
      * @throws Exception
+     * @deprecated Use {@link #getPurchaseOrder(Reader)}.
      */
 
+    @Deprecated
     public PurchaseOrder getPurchaseOrder(String response) throws Exception {
+        return getPurchaseOrder(new StringReader(response));
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the JSON response and make it into the PurchaseOrder object.
+     *
+     * @param response JSON response contains the details of the purchase order.
+     * @return Returns the PurchaseOrder object.
+     * @throws Exception
+     */
 
-        JSONObject purchaseorder = jsonObject.getJSONObject("purchaseorder");    //No I18N
+    public PurchaseOrder getPurchaseOrder(Reader response) throws Exception {
+        return getPurchaseOrder(response, null);
+    }
 
-        return this.jsonToPurchaseOrder(purchaseorder);
+    /**
+     * Parse the JSON response and make it into the PurchaseOrder object.
+     *
+     * @param response JSON response contains the details of the purchase order.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the PurchaseOrder object.
+     * @throws Exception
+     */
+
+    public PurchaseOrder getPurchaseOrder(Reader response, Set<String> fields) throws Exception {
 
+        return ResponseReader.readObject(response, "purchaseorder", ResponseReader.project(this::readPurchaseOrder, fields, PURCHASE_ORDER_FIELDS)); //No I18N
     }
 
     /**
@@ -104,179 +167,148 @@ public class PurchaseOrderParser {
 
     public PurchaseOrder jsonToPurchaseOrder(JSONObject jsonObject) throws JSONException {
 
-        PurchaseOrder purchaseOrder = new PurchaseOrder();
+        return ResponseReader.convert(jsonObject, this::readPurchaseOrder);
 
-        if (jsonObject.has("purchaseorder_id")) {
-            purchaseOrder.setPurchaseorderId(jsonObject.getString("purchaseorder_id"));
-        }
-        if (jsonObject.has("vendor_id")) {
-            purchaseOrder.setVendorId(jsonObject.getString("vendor_id"));
-        }
-        if (jsonObject.has("vendor_name")) {
-            purchaseOrder.setVendorName(jsonObject.getString("vendor_name"));
-        }
-        if (jsonObject.has("status")) {
-            purchaseOrder.setStatus(jsonObject.getString("status"));
-        }
-        if (jsonObject.has("purchaseorder_number")) {
-            purchaseOrder.setPurchaseorderNumber(jsonObject.getString("purchaseorder_number"));
-        }
-        if (jsonObject.has("reference_number")) {
-            purchaseOrder.setReferenceNumber(jsonObject.getString("reference_number"));
-        }
-        if (jsonObject.has("date")) {
-            purchaseOrder.setDate(jsonObject.getString("date"));
-        }
-        if (jsonObject.has("delivery_date")) {
-            purchaseOrder.setDeliveryDate(jsonObject.getString("delivery_date"));
-        }
-        if (jsonObject.has("currency_id")) {
-            purchaseOrder.setCurrencyId(jsonObject.getString("currency_id"));
-        }
-        if (jsonObject.has("currency_code")) {
-            purchaseOrder.setCurrencyCode(jsonObject.getString("currency_code"));
-        }
-        if (jsonObject.has("price_precision")) {
-            if (!jsonObject.get("price_precision").equals("")) {
-                purchaseOrder.setPricePrecision(jsonObject.getInt("price_precision"));    //No I18N
-            }
-        }
-        if (jsonObject.has("total")) {
-            purchaseOrder.setTotal(jsonObject.getDouble("total"));    //No I18N
-        }
-        if (jsonObject.has("created_time")) {
-            purchaseOrder.setCreatedTime(jsonObject.getString("created_time"));
-        }
-        if (jsonObject.has("last_modified_time")) {
-            purchaseOrder.setLastModifiedTime(jsonObject.getString("last_modified_time"));
-        }
-
-
-        if (jsonObject.has("expected_delivery_date")) {
-            purchaseOrder.setExpectedDeliveryDate(jsonObject.getString("expected_delivery_date"));
-        }
-        if (jsonObject.has("currency_symbol")) {
-            purchaseOrder.setCurrencySymbol(jsonObject.getString("currency_symbol"));
-        }
-        if (jsonObject.has("exchange_rate")) {
-            purchaseOrder.setExchangeRate(jsonObject.getDouble("exchange_rate"));    //No I18N
-        }
-        if (jsonObject.has("is_emailed")) {
-            purchaseOrder.setEmailed(jsonObject.getBoolean("is_emailed"));    //No I18N
-        }
-        if (jsonObject.has("sub_total")) {
-            purchaseOrder.setSubTotal(jsonObject.getDouble("sub_total"));    //No I18N
-        }
-        if (jsonObject.has("tax_total")) {
-            purchaseOrder.setTaxTotal(jsonObject.getDouble("tax_total"));    //No I18N
-        }
-        if (jsonObject.has("notes")) {
-            purchaseOrder.setNotes(jsonObject.getString("notes"));
-        }
-        if (jsonObject.has("terms")) {
-            purchaseOrder.setTerms(jsonObject.getString("terms"));
-        }
-        if (jsonObject.has("ship_via")) {
-            purchaseOrder.setShipVia(jsonObject.getString("ship_via"));
-        }
-        if (jsonObject.has("ship_via_id")) {
-            purchaseOrder.setShipViaId(jsonObject.getString("ship_via_id"));
-        }
-        if (jsonObject.has("attention")) {
-            purchaseOrder.setAttention(jsonObject.getString("attention"));
-        }
-        if (jsonObject.has("delivery_org_address_id")) {
-            purchaseOrder.setDeliveryOrgAddressId(jsonObject.getString("delivery_org_address_id"));
-        }
-        if (jsonObject.has("delivery_customer_id")) {
-            purchaseOrder.setDeliveryCustomerId(jsonObject.getString("delivery_customer_id"));
-        }
-        if (jsonObject.has("attachment_name")) {
-            purchaseOrder.setAttachmentName(jsonObject.getString("attachment_name"));
-        }
-        if (jsonObject.has("can_send_in_mail")) {
-            purchaseOrder.setCanSendInMail(jsonObject.getBoolean("can_send_in_mail"));    //No I18N
-        }
-        if (jsonObject.has("template_id")) {
-            purchaseOrder.setTemplateId(jsonObject.getString("template_id"));
-        }
-        if (jsonObject.has("template_name")) {
-            purchaseOrder.setTemplateName(jsonObject.getString("template_name"));
-        }
-        if (jsonObject.has("template_type")) {
-            purchaseOrder.setTemplateType(jsonObject.getString("template_type"));
-        }
-        if (jsonObject.has("can_mark_as_bill")) {
-            purchaseOrder.setCanMarkAsBill(jsonObject.getBoolean("can_mark_as_bill"));    //No I18N
-        }
-        if (jsonObject.has("can_mark_as_unbill")) {
-            purchaseOrder.setCanMarkAsUnbill(jsonObject.getBoolean("can_mark_as_unbill"));    //No I18N
-        }
-
-        if (jsonObject.has("contact_persons")) {
-
-            JSONArray contactpersons = jsonObject.getJSONArray("contact_persons");    //No I18N
-
-            String[] contactPersons = new String[contactpersons.length()];
-
-            for (int i = 0; i < contactpersons.length(); i++) {
-                contactPersons[i] = contactpersons.getString(i);
-            }
-
-            purchaseOrder.setContactPersons(contactPersons);
-        }
-
-        if (jsonObject.has("line_items")) {
-            JSONArray lineitems = jsonObject.getJSONArray("line_items");    //No I18N
-
-            List<LineItem> lineItems = new ArrayList<LineItem>(lineitems.length());
-
-            for (int i = 0; i < lineitems.length(); i++) {
-                lineItems.add(this.jsonToLineItem(lineitems.getJSONObject(i)));
-            }
-
-            purchaseOrder.setLineItems(lineItems);
-        }
-
-        if (jsonObject.has("taxes")) {
-            JSONArray taxes = jsonObject.getJSONArray("taxes");    //No I18N
-
-            List<Tax> taxList = new ArrayList<Tax>(taxes.length());
-
-            for (int i = 0; i < taxes.length(); i++) {
-                taxList.add(this.jsonToTax(taxes.getJSONObject(i)));
-            }
+    }
 
-            purchaseOrder.setTaxes(taxList);
-        }
+    /**
+     * Read a purchase order.
+     */
 
-        if (jsonObject.has("custom_fields")) {
-            JSONArray customfields = jsonObject.getJSONArray("custom_fields");    //No I18N
+    private PurchaseOrder readPurchaseOrder(JsonReader reader) throws Exception {
 
-            List<CustomField> customFields = new ArrayList<CustomField>(customfields.length());
+        PurchaseOrder purchaseOrder = new PurchaseOrder();
 
-            for (int i = 0; i < customfields.length(); i++) {
-                customFields.add(this.jsonToCustomField(customfields.getJSONObject(i)));
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "purchaseorder_id":
+                    purchaseOrder.setPurchaseorderId(reader.nextString());
+                    break;
+                case "vendor_id":
+                    purchaseOrder.setVendorId(reader.nextString());
+                    break;
+                case "vendor_name":
+                    purchaseOrder.setVendorName(reader.nextString());
+                    break;
+                case "status":
+                    purchaseOrder.setStatus(reader.nextString());
+                    break;
+                case "purchaseorder_number":
+                    purchaseOrder.setPurchaseorderNumber(reader.nextString());
+                    break;
+                case "reference_number":
+                    purchaseOrder.setReferenceNumber(reader.nextString());
+                    break;
+                case "date":
+                    purchaseOrder.setDate(reader.nextString());
+                    break;
+                case "delivery_date":
+                    purchaseOrder.setDeliveryDate(reader.nextString());
+                    break;
+                case "currency_id":
+                    purchaseOrder.setCurrencyId(reader.nextString());
+                    break;
+                case "currency_code":
+                    purchaseOrder.setCurrencyCode(reader.nextString());
+                    break;
+                case "price_precision":
+                    purchaseOrder.setPricePrecision(reader.nextInt());
+                    break;
+                case "total":
+                    purchaseOrder.setTotal(reader.nextDouble());
+                    break;
+                case "created_time":
+                    purchaseOrder.setCreatedTime(reader.nextString());
+                    break;
+                case "last_modified_time":
+                    purchaseOrder.setLastModifiedTime(reader.nextString());
+                    break;
+                case "expected_delivery_date":
+                    purchaseOrder.setExpectedDeliveryDate(reader.nextString());
+                    break;
+                case "currency_symbol":
+                    purchaseOrder.setCurrencySymbol(reader.nextString());
+                    break;
+                case "exchange_rate":
+                    purchaseOrder.setExchangeRate(reader.nextDouble());
+                    break;
+                case "is_emailed":
+                    purchaseOrder.setEmailed(reader.nextBoolean());
+                    break;
+                case "sub_total":
+                    purchaseOrder.setSubTotal(reader.nextDouble());
+                    break;
+                case "tax_total":
+                    purchaseOrder.setTaxTotal(reader.nextDouble());
+                    break;
+                case "notes":
+                    purchaseOrder.setNotes(reader.nextString());
+                    break;
+                case "terms":
+                    purchaseOrder.setTerms(reader.nextString());
+                    break;
+                case "ship_via":
+                    purchaseOrder.setShipVia(reader.nextString());
+                    break;
+                case "ship_via_id":
+                    purchaseOrder.setShipViaId(reader.nextString());
+                    break;
+                case "attention":
+                    purchaseOrder.setAttention(reader.nextString());
+                    break;
+                case "delivery_org_address_id":
+                    purchaseOrder.setDeliveryOrgAddressId(reader.nextString());
+                    break;
+                case "delivery_customer_id":
+                    purchaseOrder.setDeliveryCustomerId(reader.nextString());
+                    break;
+                case "attachment_name":
+                    purchaseOrder.setAttachmentName(reader.nextString());
+                    break;
+                case "can_send_in_mail":
+                    purchaseOrder.setCanSendInMail(reader.nextBoolean());
+                    break;
+                case "template_id":
+                    purchaseOrder.setTemplateId(reader.nextString());
+                    break;
+                case "template_name":
+                    purchaseOrder.setTemplateName(reader.nextString());
+                    break;
+                case "template_type":
+                    purchaseOrder.setTemplateType(reader.nextString());
+                    break;
+                case "can_mark_as_bill":
+                    purchaseOrder.setCanMarkAsBill(reader.nextBoolean());
+                    break;
+                case "can_mark_as_unbill":
+                    purchaseOrder.setCanMarkAsUnbill(reader.nextBoolean());
+                    break;
+                case "contact_persons":
+                    purchaseOrder.setContactPersons(ResponseReader.readStrings(reader));
+                    break;
+                case "line_items":
+                    purchaseOrder.setLineItems(ResponseReader.readArray(reader, new ArrayList<LineItem>(), this::readLineItem));
+                    break;
+                case "taxes":
+                    purchaseOrder.setTaxes(ResponseReader.readArray(reader, new ArrayList<Tax>(), this::readTax));
+                    break;
+                case "custom_fields":
+                    purchaseOrder.setCustomFields(ResponseReader.readArray(reader, new ArrayList<CustomField>(), this::readCustomField));
+                    break;
+                case "billing_address":
+                    purchaseOrder.setBillingAddress(readAddress(reader));
+                    break;
+                case "delivery_address":
+                    purchaseOrder.setDeliveryAddress(readAddress(reader));
+                    break;
+                default:
+                    reader.skipValue();
             }
-
-            purchaseOrder.setCustomFields(customFields);
-
-        }
-
-        if (jsonObject.has("billing_address")) {
-            JSONObject billingAddress = jsonObject.getJSONObject("billing_address");    //No I18N
-
-            purchaseOrder.setBillingAddress(this.jsonToAddress(billingAddress));
-        }
-
-        if (jsonObject.has("delivery_address")) {
-            JSONObject shippingAddress = jsonObject.getJSONObject("delivery_address");    //No I18N
-
-            purchaseOrder.setDeliveryAddress(this.jsonToAddress(shippingAddress));
         }
+        reader.endObject();
 
         return purchaseOrder;
-
     }
 
 
@@ -290,65 +322,82 @@ public class PurchaseOrderParser {
 
     public LineItem jsonToLineItem(JSONObject jsonObject) throws JSONException {
 
+        return ResponseReader.convert(jsonObject, this::readLineItem);
+
+    }
+
+    /**
+     * Read a line item.
+     */
+
+    private LineItem readLineItem(JsonReader reader) throws Exception {
+
         LineItem lineItem = new LineItem();
 
-        if (jsonObject.has("line_item_id")) {
-            lineItem.setLineItemId(jsonObject.getString("line_item_id"));
-        }
-        if (jsonObject.has("item_id")) {
-            lineItem.setItemId(jsonObject.getString("item_id"));
-        }
-        if (jsonObject.has("name")) {
-            lineItem.setName(jsonObject.getString("name"));
-        }
-        if (jsonObject.has("description")) {
-            lineItem.setDescription(jsonObject.getString("description"));
-        }
-        if (jsonObject.has("item_order")) {
-            lineItem.setItemOrder(jsonObject.getInt("item_order"));    //No I18N
-        }
-        if (jsonObject.has("bcy_rate")) {
-            lineItem.setBcyRate(jsonObject.getDouble("bcy_rate"));    //No I18N
-        }
-        if (jsonObject.has("rate")) {
-            lineItem.setRate(jsonObject.getDouble("rate"));    //No I18N
-        }
-        if (jsonObject.has("quantity")) {
-            lineItem.setQuantity(jsonObject.getDouble("quantity"));    //No I18N
-        }
-        if (jsonObject.has("unit")) {
-            lineItem.setUnit(jsonObject.getString("unit"));
-        }
-        if (jsonObject.has("discount_amount")) {
-            lineItem.setDiscountAmount(jsonObject.getDouble("discount_amount"));    //No I18N
-        }
-        if (jsonObject.has("discount")) {
-            lineItem.setDiscount(jsonObject.getDouble("discount"));    //No I18N
-        }
-        if (jsonObject.has("tax_id")) {
-            lineItem.setTaxId(jsonObject.getString("tax_id"));
-        }
-        if (jsonObject.has("tax_name")) {
-            lineItem.setTaxName(jsonObject.getString("tax_name"));
-        }
-        if (jsonObject.has("tax_type")) {
-            lineItem.setTaxType(jsonObject.getString("tax_type"));
-        }
-        if (jsonObject.has("tax_percentage")) {
-            lineItem.setTaxPercentage(jsonObject.getDouble("tax_percentage"));    //No I18N
-        }
-        if (jsonObject.has("item_total")) {
-            lineItem.setItemTotal(jsonObject.getDouble("item_total"));    //No I18N
-        }
-        if (jsonObject.has("account_id")) {
-            lineItem.setAccountId(jsonObject.getString("account_id"));
-        }
-        if (jsonObject.has("stock_on_hand")) {
-            lineItem.setStockOnHand(jsonObject.getString("stock_on_hand"));
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "line_item_id":
+                    lineItem.setLineItemId(reader.nextString());
+                    break;
+                case "item_id":
+                    lineItem.setItemId(reader.nextString());
+                    break;
+                case "name":
+                    lineItem.setName(reader.nextString());
+                    break;
+                case "description":
+                    lineItem.setDescription(reader.nextString());
+                    break;
+                case "item_order":
+                    lineItem.setItemOrder(reader.nextInt());
+                    break;
+                case "bcy_rate":
+                    lineItem.setBcyRate(reader.nextDouble());
+                    break;
+                case "rate":
+                    lineItem.setRate(reader.nextDouble());
+                    break;
+                case "quantity":
+                    lineItem.setQuantity(reader.nextDouble());
+                    break;
+                case "unit":
+                    lineItem.setUnit(reader.nextString());
+                    break;
+                case "discount_amount":
+                    lineItem.setDiscountAmount(reader.nextDouble());
+                    break;
+                case "discount":
+                    lineItem.setDiscount(reader.nextDouble());
+                    break;
+                case "tax_id":
+                    lineItem.setTaxId(reader.nextString());
+                    break;
+                case "tax_name":
+                    lineItem.setTaxName(reader.nextString());
+                    break;
+                case "tax_type":
+                    lineItem.setTaxType(reader.nextString());
+                    break;
+                case "tax_percentage":
+                    lineItem.setTaxPercentage(reader.nextDouble());
+                    break;
+                case "item_total":
+                    lineItem.setItemTotal(reader.nextDouble());
+                    break;
+                case "account_id":
+                    lineItem.setAccountId(reader.nextString());
+                    break;
+                case "stock_on_hand":
+                    lineItem.setStockOnHand(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
         return lineItem;
-
     }
 
     /**
@@ -361,17 +410,34 @@ public class PurchaseOrderParser {
 
     public Tax jsonToTax(JSONObject jsonObject) throws JSONException {
 
+        return ResponseReader.convert(jsonObject, this::readTax);
+
+    }
+
+    /**
+     * Read a tax.
+     */
+
+    private Tax readTax(JsonReader reader) throws Exception {
+
         Tax tax = new Tax();
 
-        if (jsonObject.has("tax_name")) {
-            tax.setTaxName(jsonObject.getString("tax_name"));
-        }
-        if (jsonObject.has("tax_amount")) {
-            tax.setTaxAmount(jsonObject.getDouble("tax_amount"));    //No I18N
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "tax_name":
+                    tax.setTaxName(reader.nextString());
+                    break;
+                case "tax_amount":
+                    tax.setTaxAmount(reader.nextDouble());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
         return tax;
-
     }
 
     /**
@@ -384,23 +450,40 @@ public class PurchaseOrderParser {
 
     public CustomField jsonToCustomField(JSONObject jsonObject) throws JSONException {
 
+        return ResponseReader.convert(jsonObject, this::readCustomField);
+
+    }
+
+    /**
+     * Read a custom field.
+     */
+
+    private CustomField readCustomField(JsonReader reader) throws Exception {
+
         CustomField customField = new CustomField();
 
-        if (jsonObject.has("index")) {
-            customField.setIndex(jsonObject.getInt("index"));    //No I18N
-        }
-        if (jsonObject.has("show_on_pdf")) {
-            customField.setShowOnPdf(jsonObject.getBoolean("show_on_pdf"));    //No I18N
-        }
-        if (jsonObject.has("value")) {
-            customField.setValue(jsonObject.getString("value"));
-        }
-        if (jsonObject.has("label")) {
-            customField.setLabel(jsonObject.getString("label"));
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "index":
+                    customField.setIndex(reader.nextInt());
+                    break;
+                case "show_on_pdf":
+                    customField.setShowOnPdf(reader.nextBoolean());
+                    break;
+                case "value":
+                    customField.setValue(reader.nextString());
+                    break;
+                case "label":
+                    customField.setLabel(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
         return customField;
-
     }
 
     /**
@@ -413,32 +496,49 @@ public class PurchaseOrderParser {
 
     public Address jsonToAddress(JSONObject jsonObject) throws JSONException {
 
+        return ResponseReader.convert(jsonObject, this::readAddress);
+
+    }
+
+    /**
+     * Read an address.
+     */
+
+    private Address readAddress(JsonReader reader) throws Exception {
+
         Address address = new Address();
 
-        if (jsonObject.has("address")) {
-            address.setAddress(jsonObject.getString("address"));
-        }
-        if (jsonObject.has("city")) {
-            address.setCity(jsonObject.getString("city"));
-        }
-        if (jsonObject.has("state")) {
-            address.setState(jsonObject.getString("state"));
-        }
-        if (jsonObject.has("zip")) {
-            address.setZip(jsonObject.getString("zip"));
-        }
-        if (jsonObject.has("country")) {
-            address.setCountry(jsonObject.getString("country"));
-        }
-        if (jsonObject.has("fax")) {
-            address.setFax(jsonObject.getString("fax"));
-        }
-        if (jsonObject.has("organization_address_id")) {
-            address.setOrganizationAddressId(jsonObject.getString("organization_address_id"));
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "address":
+                    address.setAddress(reader.nextString());
+                    break;
+                case "city":
+                    address.setCity(reader.nextString());
+                    break;
+                case "state":
+                    address.setState(reader.nextString());
+                    break;
+                case "zip":
+                    address.setZip(reader.nextString());
+                    break;
+                case "country":
+                    address.setCountry(reader.nextString());
+                    break;
+                case "fax":
+                    address.setFax(reader.nextString());
+                    break;
+                case "organization_address_id":
+                    address.setOrganizationAddressId(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
         return address;
-
     }
 
     /**
@@ -447,130 +547,276 @@ public class PurchaseOrderParser {
      * @param response JSON response contains the details of the email content.
      * @return Returns the Email object.
      * @throws Exception
+     * @deprecated Use {@link #getEmailContent(Reader)}.
      */
 
+    @Deprecated
     public Email getEmailContent(String response) throws Exception {
+        return getEmailContent(new StringReader(response));
+    }
 
-        Email email = new Email();
+    /**
+     * Parse the JSON response and make it into the Email object.
+     *
+     * @param response JSON response contains the details of the email content.
+     * @return Returns the Email object.
+     * @throws Exception
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public Email getEmailContent(Reader response) throws Exception {
+        return getEmailContent(response, null);
+    }
 
-        JSONObject data = jsonObject.getJSONObject("data"); //No I18N
+    /**
+     * Parse the JSON response and make it into the Email object.
+     *
+     * @param response JSON response contains the details of the email content.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Email object.
+     * @throws Exception
+     */
 
-        email.setSubject(data.getString("subject"));
-        email.setBody(data.getString("body"));
-        email.setFileName(data.getString("file_name"));
-        if (data.has("customer_id")) {
-            email.setCustomerId(data.getString("customer_id"));
-        }
+    public Email getEmailContent(Reader response, Set<String> fields) throws Exception {
 
-        JSONArray emailtemplates = data.getJSONArray("emailtemplates"); //No I18N
+        return ResponseReader.readObject(response, "data", ResponseReader.project(this::readEmail, fields, EMAIL_FIELDS)); //No I18N
+    }
 
-        List<Emailtemplate> emailtemplatesList = new ArrayList<Emailtemplate>();
+    /**
+     * Read an email.
+     */
 
-        for (int i = 0; i < emailtemplates.length(); i++) {
-            Emailtemplate emailtemplate = new Emailtemplate();
+    private Email readEmail(JsonReader reader) throws Exception {
 
-            emailtemplate.setSelected(emailtemplates.getJSONObject(i).getBoolean("selected")); //No I18N
-            emailtemplate.setName(emailtemplates.getJSONObject(i).getString("name"));
-            emailtemplate.setEmailTemplateId(emailtemplates.getJSONObject(i).getString("email_template_id"));
+        Email email = new Email();
 
-            emailtemplatesList.add(i, emailtemplate);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "subject":
+                    email.setSubject(reader.nextString());
+                    break;
+                case "body":
+                    email.setBody(reader.nextString());
+                    break;
+                case "file_name":
+                    email.setFileName(reader.nextString());
+                    break;
+                case "customer_id":
+                    email.setCustomerId(reader.nextString());
+                    break;
+                case "emailtemplates":
+                    email.setEmailtemplates(ResponseReader.readArray(reader, new ArrayList<Emailtemplate>(), this::readEmailtemplate));
+                    break;
+                case "to_contacts":
+                    email.setToContacts(ResponseReader.readArray(reader, new ArrayList<ToContact>(), this::readToContact));
+                    break;
+                case "from_emails":
+                    email.setFromEmails(ResponseReader.readArray(reader, new ArrayList<FromEmail>(), this::readFromEmail));
+                    break;
+                case "attach_pdf":
+                    email.setAttachPdf(reader.nextBoolean());
+                    break;
+                case "customer_name":
+                    email.setCustomerName(reader.nextString());
+                    break;
+                case "file_name_without_extension":
+                    email.setFileNameWithoutExtension(reader.nextString());
+                    break;
+                case "attachment_name":
+                    email.setAttachmentName(reader.nextString());
+                    break;
+                case "vendor_id":
+                    email.setVendorId(reader.nextString());
+                    break;
+                case "vendor_name":
+                    email.setVendorName(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        email.setEmailtemplates(emailtemplatesList);
+        return email;
+    }
 
-        JSONArray toContacts = data.getJSONArray("to_contacts"); //No I18N
+    /**
+     * Read an emailtemplate.
+     */
 
-        List<ToContact> toContactsList = new ArrayList<ToContact>();
+    private Emailtemplate readEmailtemplate(JsonReader reader) throws Exception {
+
+        Emailtemplate emailtemplate = new Emailtemplate();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "selected":
+                    emailtemplate.setSelected(reader.nextBoolean());
+                    break;
+                case "name":
+                    emailtemplate.setName(reader.nextString());
+                    break;
+                case "email_template_id":
+                    emailtemplate.setEmailTemplateId(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        for (int j = 0; j < toContacts.length(); j++) {
-            ToContact toContact = new ToContact();
+        return emailtemplate;
+    }
 
-            toContact.setFirstName(toContacts.getJSONObject(j).getString("first_name"));
-            toContact.setLastName(toContacts.getJSONObject(j).getString("last_name"));
-            toContact.setSelected(toContacts.getJSONObject(j).getBoolean("selected")); //No I18N
-            toContact.setPhone(toContacts.getJSONObject(j).getString("phone"));
-            toContact.setEmail(toContacts.getJSONObject(j).getString("email"));
-            toContact.setContactPersonId(toContacts.getJSONObject(j).getString("contact_person_id"));
-            toContact.setSalutation(toContacts.getJSONObject(j).getString("salutation"));
-            toContact.setMobile(toContacts.getJSONObject(j).getString("mobile"));
+    /**
+     * Read a to contact.
+     */
 
-            toContactsList.add(j, toContact);
+    private ToContact readToContact(JsonReader reader) throws Exception {
+
+        ToContact toContact = new ToContact();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "first_name":
+                    toContact.setFirstName(reader.nextString());
+                    break;
+                case "last_name":
+                    toContact.setLastName(reader.nextString());
+                    break;
+                case "selected":
+                    toContact.setSelected(reader.nextBoolean());
+                    break;
+                case "phone":
+                    toContact.setPhone(reader.nextString());
+                    break;
+                case "email":
+                    toContact.setEmail(reader.nextString());
+                    break;
+                case "contact_person_id":
+                    toContact.setContactPersonId(reader.nextString());
+                    break;
+                case "salutation":
+                    toContact.setSalutation(reader.nextString());
+                    break;
+                case "mobile":
+                    toContact.setMobile(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        email.setToContacts(toContactsList);
-
-        JSONArray fromEmails = data.getJSONArray("from_emails"); //No I18N
-
-        List<FromEmail> fromEmailsList = new ArrayList<FromEmail>();
+        return toContact;
+    }
 
-        for (int k = 0; k < fromEmails.length(); k++) {
-            FromEmail fromEmail = new FromEmail();
+    /**
+     * Read a from email.
+     */
 
-            fromEmail.setUserName(fromEmails.getJSONObject(k).getString("user_name"));
-            fromEmail.setSelected(fromEmails.getJSONObject(k).getBoolean("selected")); //No I18N
-            fromEmail.setEmail(fromEmails.getJSONObject(k).getString("email"));
-            if (fromEmails.getJSONObject(k).has("is_org_email_id")) {
-                fromEmail.setOrgEmailId(fromEmails.getJSONObject(k).getBoolean("is_org_email_id")); //No I18N
+    private FromEmail readFromEmail(JsonReader reader) throws Exception {
+
+        FromEmail fromEmail = new FromEmail();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "user_name":
+                    fromEmail.setUserName(reader.nextString());
+                    break;
+                case "selected":
+                    fromEmail.setSelected(reader.nextBoolean());
+                    break;
+                case "email":
+                    fromEmail.setEmail(reader.nextString());
+                    break;
+                case "is_org_email_id":
+                    fromEmail.setOrgEmailId(reader.nextBoolean());
+                    break;
+                default:
+                    reader.skipValue();
             }
-
-            fromEmailsList.add(k, fromEmail);
         }
+        reader.endObject();
 
-        email.setFromEmails(fromEmailsList);
+        return fromEmail;
+    }
 
-        if (data.has("attach_pdf")) {
-            email.setAttachPdf(data.getBoolean("attach_pdf"));    //No I18N
-        }
-        if (data.has("customer_name")) {
-            email.setCustomerName(data.getString("customer_name"));
-        }
-        if (data.has("file_name_without_extension")) {
-            email.setFileNameWithoutExtension(data.getString("file_name_without_extension"));
-        }
-        if (data.has("attachment_name")) {
-            email.setAttachmentName(data.getString("attachment_name"));
-        }
-        if (data.has("vendor_id")) {
-            email.setVendorId(data.getString("vendor_id"));
-        }
-        if (data.has("vendor_name")) {
-            email.setVendorName(data.getString("vendor_name"));
-        }
+    /**
+     * Parse the JSON response into TemplateList object.
+     *
+     * @param response JSON response contains the details of list of templates.
+     * @return Returns the TemplateList object.
+     * @throws Exception
+     * @deprecated Use {@link #getTemplates(Reader)}.
+     */
 
+    @Deprecated
+    public TemplateList getTemplates(String response) throws Exception {
+        return getTemplates(new StringReader(response));
+    }
 
-        return email;
+    /**
+     * Parse the JSON response into TemplateList object.
+     *
+     * @param response JSON response contains the details of list of templates.
+     * @return Returns the TemplateList object.
+     * @throws Exception
+     */
 
+    public TemplateList getTemplates(Reader response) throws Exception {
+        return getTemplates(response, null);
     }
 
     /**
      * Parse the JSON response into TemplateList object.
      *
      * @param response JSON response contains the details of list of templates.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
      * @return Returns the TemplateList object.
      * @throws Exception
      */
 
-    public TemplateList getTemplates(String response) throws Exception {
+    public TemplateList getTemplates(Reader response, Set<String> fields) throws Exception {
 
         TemplateList templateList = new TemplateList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        ResponseReader.readList(response, "templates", templateList, ResponseReader.project(this::readTemplate, fields, TEMPLATE_FIELDS)); //No I18N
 
-        JSONArray jsonArray = jsonObject.getJSONArray("templates"); //No I18N
+        return templateList;
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Template template = new Template();
+    }
 
-            template.setTemplateName(jsonArray.getJSONObject(i).getString("template_name"));
-            template.setTemplateId(jsonArray.getJSONObject(i).getString("template_id"));
-            template.setTemplateType(jsonArray.getJSONObject(i).getString("template_type"));
+    /**
+     * Read a template of the list.
+     */
 
-            templateList.add(template);
+    private Template readTemplate(JsonReader reader) throws Exception {
+
+        Template template = new Template();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "template_name":
+                    template.setTemplateName(reader.nextString());
+                    break;
+                case "template_id":
+                    template.setTemplateId(reader.nextString());
+                    break;
+                case "template_type":
+                    template.setTemplateType(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return templateList;
+        return template;
     }
 
     /**
@@ -579,18 +825,40 @@ public class PurchaseOrderParser {
      * @param response JSON response contains the details of list of comments.
      * @return Returns the CommentList object.
      * @throws Exception
+     * @deprecated Use {@link #getComments(Reader)}.
      */
 
+    @Deprecated
     public CommentList getComments(String response) throws Exception {
-        CommentList commentList = new CommentList();
+        return getComments(new StringReader(response));
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the JSON response and make it into the CommentList object.
+     *
+     * @param response JSON response contains the details of list of comments.
+     * @return Returns the CommentList object.
+     * @throws Exception
+     */
 
-        JSONArray jsonArray = jsonObject.getJSONArray("comments"); //No I18N
+    public CommentList getComments(Reader response) throws Exception {
+        return getComments(response, null);
+    }
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            commentList.add(this.jsonToComment(jsonArray.getJSONObject(i)));
-        }
+    /**
+     * Parse the JSON response and make it into the CommentList object.
+     *
+     * @param response JSON response contains the details of list of comments.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the CommentList object.
+     * @throws Exception
+     */
+
+    public CommentList getComments(Reader response, Set<String> fields) throws Exception {
+
+        CommentList commentList = new CommentList();
+
+        ResponseReader.readList(response, "comments", commentList, ResponseReader.project(this::readComment, fields, COMMENT_FIELDS)); //No I18N
 
         return commentList;
     }
@@ -601,14 +869,38 @@ public class PurchaseOrderParser {
      * @param response JSON response contains the details of the comment.
      * @return Returns the Comment object.
      * @throws Exception
+     * @deprecated Use {@link #getComment(Reader)}.
      */
 
+    @Deprecated
     public Comment getComment(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getComment(new StringReader(response));
+    }
 
-        JSONObject comment = jsonObject.getJSONObject("comment"); //No I18N
+    /**
+     * Parse the JSON response into Comment object.
+     *
+     * @param response JSON response contains the details of the comment.
+     * @return Returns the Comment object.
+     * @throws Exception
+     */
 
-        return this.jsonToComment(comment);
+    public Comment getComment(Reader response) throws Exception {
+        return getComment(response, null);
+    }
+
+    /**
+     * Parse the JSON response into Comment object.
+     *
+     * @param response JSON response contains the details of the comment.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Comment object.
+     * @throws Exception
+     */
+
+    public Comment getComment(Reader response, Set<String> fields) throws Exception {
+
+        return ResponseReader.readObject(response, "comment", ResponseReader.project(this::readComment, fields, COMMENT_FIELDS)); //No I18N
     }
 
     /**
@@ -621,44 +913,61 @@ public class PurchaseOrderParser {
 
     public Comment jsonToComment(JSONObject jsonObject) throws JSONException {
 
+        return ResponseReader.convert(jsonObject, this::readComment);
+
+    }
+
+    /**
+     * Read a comment.
+     */
+
+    private Comment readComment(JsonReader reader) throws Exception {
+
         Comment comment = new Comment();
 
-        if (jsonObject.has("comment_id")) {
-            comment.setCommentId(jsonObject.getString("comment_id"));
-        }
-        if (jsonObject.has("description")) {
-            comment.setDescription(jsonObject.getString("description"));
-        }
-        if (jsonObject.has("commented_by_id")) {
-            comment.setCommentedById(jsonObject.getString("commented_by_id"));
-        }
-        if (jsonObject.has("commented_by")) {
-            comment.setCommentedBy(jsonObject.getString("commented_by"));
-        }
-        if (jsonObject.has("comment_type")) {
-            comment.setCommentType(jsonObject.getString("comment_type"));
-        }
-        if (jsonObject.has("date")) {
-            comment.setDate(jsonObject.getString("date"));
-        }
-        if (jsonObject.has("date_description")) {
-            comment.setDateDescription(jsonObject.getString("date_description"));
-        }
-        if (jsonObject.has("time")) {
-            comment.setTime(jsonObject.getString("time"));
-        }
-        if (jsonObject.has("operation_type")) {
-            comment.setOperationType(jsonObject.getString("operation_type"));
-        }
-        if (jsonObject.has("transaction_id")) {
-            comment.setTransactionId(jsonObject.getString("transaction_id"));
-        }
-        if (jsonObject.has("transaction_type")) {
-            comment.setTransactionType(jsonObject.getString("transaction_type"));
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "comment_id":
+                    comment.setCommentId(reader.nextString());
+                    break;
+                case "description":
+                    comment.setDescription(reader.nextString());
+                    break;
+                case "commented_by_id":
+                    comment.setCommentedById(reader.nextString());
+                    break;
+                case "commented_by":
+                    comment.setCommentedBy(reader.nextString());
+                    break;
+                case "comment_type":
+                    comment.setCommentType(reader.nextString());
+                    break;
+                case "date":
+                    comment.setDate(reader.nextString());
+                    break;
+                case "date_description":
+                    comment.setDateDescription(reader.nextString());
+                    break;
+                case "time":
+                    comment.setTime(reader.nextString());
+                    break;
+                case "operation_type":
+                    comment.setOperationType(reader.nextString());
+                    break;
+                case "transaction_id":
+                    comment.setTransactionId(reader.nextString());
+                    break;
+                case "transaction_type":
+                    comment.setTransactionType(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
         return comment;
-
     }
 
 
@@ -667,14 +976,24 @@ public class PurchaseOrderParser {
      *
      * @param response This json response contains the success message of post or update or delete requests.
      * @return Returns the success message.
+     * @deprecated Use {@link #getMessage(Reader)}.
      */
 
+    @Deprecated
     public String getMessage(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getMessage(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns a string object.
+     *
+     * @param response This json response contains the success message of post or update or delete requests.
+     * @return Returns the success message.
+     */
 
-        String success = jsonObject.getString("message");
+    public String getMessage(Reader response) throws Exception {
 
-        return success;
+        return ResponseReader.readObject(response, "message", JsonReader::nextString); //No I18N
     }
 
 
@@ -3,8 +3,11 @@
 package com.zoho.books.parser;
 
 import com.zoho.books.model.*;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.zoho.books.util.JsonReader;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Set;
 
 /**
  * RecurringExpenseParser is used to parse the json response and make it into the respective objects.
@@ -12,57 +15,69 @@ import org.json.JSONObject;
 
 public class RecurringExpenseParser {
 
+    /**
+     * Names of the fields read from a recurring expense.
+     */
+
+    private static final Set<String> RECURRING_EXPENSE_FIELDS = Set.of("recurring_expense_id", //No I18N
+            "recurrence_name", "recurrence_frequency", "repeat_every", "last_created_date", //No I18N
+            "next_expense_date", "account_name", "paid_through_account_name", "description", "currency_id", //No I18N
+            "currency_code", "total", "is_billable", "customer_name", "vendor_name", "status", //No I18N
+            "created_time", "start_date", "end_date", "account_id", "paid_through_account_id", "vendor_id", //No I18N
+            "tax_id", "tax_name", "tax_percentage", "exchange_rate", "tax_amount", "sub_total", "bcy_total", //No I18N
+            "amount", "is_inclusive_tax", "customer_id", "last_modified_time", "project_id", "project_name"); //No I18N
+
+    /**
+     * Names of the fields read from an expense of the list.
+     */
+
+    private static final Set<String> EXPENSE_FIELDS = Set.of("expense_id", "date", "account_name", //No I18N
+            "vendor_name", "paid_through_account_name", "customer_name", "total", "status"); //No I18N
+
+    /**
+     * Names of the fields read from a comment of the list.
+     */
+
+    private static final Set<String> COMMENT_FIELDS = Set.of("comment_id", "recurring_expense_id", //No I18N
+            "description", "commented_by_id", "commented_by", "date", "date_description", "time", //No I18N
+            "operation_type", "transaction_id", "transaction_type"); //No I18N
+
+
     /**
      * Parse the json response and returns the RecurringExpense object.
      *
      * @param response This json response contains the recurring expense details.
      * @return Returns the RecurringExpense object.
+     * @deprecated Use {@link #getRecurringExpense(Reader)}.
      */
 
+    @Deprecated
     public RecurringExpense getRecurringExpense(String response) throws Exception {
-        RecurringExpense recurringExpense = new RecurringExpense();
+        return getRecurringExpense(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the RecurringExpense object.
+     *
+     * @param response This json response contains the recurring expense details.
+     * @return Returns the RecurringExpense object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONObject rExpense = jsonObject.getJSONObject("recurring_expense"); //No I18N
-
-        recurringExpense.setRecurringExpenseId(rExpense.getString("recurring_expense_id"));
-        recurringExpense.setRecurrenceName(rExpense.getString("recurrence_name"));
-        recurringExpense.setStartDate(rExpense.getString("start_date"));
-        recurringExpense.setEndDate(rExpense.getString("end_date"));
-        recurringExpense.setRecurrenceFrequency(rExpense.getString("recurrence_frequency"));
-        recurringExpense.setRepeatEvery(rExpense.getInt("repeat_every")); //No I18N
-        recurringExpense.setLastCreatedDate(rExpense.getString("last_created_date"));
-        recurringExpense.setNextExpenseDate(rExpense.getString("next_expense_date"));
-        recurringExpense.setAccountId(rExpense.getString("account_id"));
-        recurringExpense.setAccountName(rExpense.getString("account_name"));
-        recurringExpense.setPaidThroughAccountId(rExpense.getString("paid_through_account_id"));
-        recurringExpense.setPaidThroughAccountName(rExpense.getString("paid_through_account_name"));
-        recurringExpense.setVendorId(rExpense.getString("vendor_id"));
-        recurringExpense.setVendorName(rExpense.getString("vendor_name"));
-        recurringExpense.setTaxId(rExpense.getString("tax_id"));
-        recurringExpense.setTaxName(rExpense.getString("tax_name"));
-        recurringExpense.setTaxPercentage(rExpense.getDouble("tax_percentage")); //No I18N
-        recurringExpense.setCurrencyId(rExpense.getString("currency_id"));
-        recurringExpense.setCurrencyCode(rExpense.getString("currency_code"));
-        recurringExpense.setExchangeRate(rExpense.getDouble("exchange_rate"));    //No I18N
-        recurringExpense.setTaxAmount(rExpense.getDouble("tax_amount"));    //No I18N
-        recurringExpense.setSubTotal(rExpense.getDouble("sub_total"));        //No I18N
-        recurringExpense.setTotal(rExpense.getDouble("total"));            //No I18N
-        recurringExpense.setBcyTotal(rExpense.getDouble("bcy_total"));        //No I18N
-        recurringExpense.setAmount(rExpense.getDouble("amount"));        //No I18N
-        recurringExpense.setIsInclusiveTax(rExpense.getBoolean("is_inclusive_tax")); //No I18N
-        recurringExpense.setIsBillable(rExpense.getBoolean("is_billable"));         //No I18N
-        recurringExpense.setDescription(rExpense.getString("description"));
-        recurringExpense.setCustomerId(rExpense.getString("customer_id"));
-        recurringExpense.setCustomerName(rExpense.getString("customer_name"));
-        recurringExpense.setCreatedTime(rExpense.getString("created_time"));
-        recurringExpense.setLastModifiedTime(rExpense.getString("last_modified_time"));
-        recurringExpense.setStatus(rExpense.getString("status"));
-        recurringExpense.setProjectId(rExpense.getString("project_id"));
-        recurringExpense.setProjectName(rExpense.getString("project_name"));
+    public RecurringExpense getRecurringExpense(Reader response) throws Exception {
+        return getRecurringExpense(response, null);
+    }
 
-        return recurringExpense;
+    /**
+     * Parse the json response and returns the RecurringExpense object.
+     *
+     * @param response This json response contains the recurring expense details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the RecurringExpense object.
+     */
+
+    public RecurringExpense getRecurringExpense(Reader response, Set<String> fields) throws Exception {
+
+        return ResponseReader.readObject(response, "recurring_expense", ResponseReader.project(this::readRecurringExpense, fields, RECURRING_EXPENSE_FIELDS)); //No I18N
     }
 
     /**
@@ -70,55 +85,166 @@ public class RecurringExpenseParser {
      *
      * @param response This json response contains list of recurring expenses details.
      * @return Returns the RecurringExpenseList object.
+     * @deprecated Use {@link #getRecurringExpenses(Reader)}.
      */
 
+    @Deprecated
     public RecurringExpenseList getRecurringExpenses(String response) throws Exception {
+        return getRecurringExpenses(new StringReader(response));
+    }
 
-        RecurringExpenseList recurringExpenseList = new RecurringExpenseList();
+    /**
+     * Parse the json response and returns the RecurringExpenseList object.
+     *
+     * @param response This json response contains list of recurring expenses details.
+     * @return Returns the RecurringExpenseList object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONArray jsonArray = jsonObject.getJSONArray("recurring_expenses"); //No I18N
-
-        for (int i = 0; i < jsonArray.length(); i++) {
-            RecurringExpense recurringExpense = new RecurringExpense();
-
-            recurringExpense.setRecurringExpenseId(jsonArray.getJSONObject(i).getString("recurring_expense_id"));
-            recurringExpense.setRecurrenceName(jsonArray.getJSONObject(i).getString("recurrence_name"));
-            recurringExpense.setRecurrenceFrequency(jsonArray.getJSONObject(i).getString("recurrence_frequency"));
-            recurringExpense.setRepeatEvery(jsonArray.getJSONObject(i).getInt("repeat_every")); //No I18N
-            recurringExpense.setLastCreatedDate(jsonArray.getJSONObject(i).getString("last_created_date"));
-            recurringExpense.setNextExpenseDate(jsonArray.getJSONObject(i).getString("next_expense_date"));
-            recurringExpense.setAccountName(jsonArray.getJSONObject(i).getString("account_name"));
-            recurringExpense.setPaidThroughAccountName(jsonArray.getJSONObject(i).getString("paid_through_account_name"));
-            recurringExpense.setDescription(jsonArray.getJSONObject(i).getString("description"));
-            recurringExpense.setCurrencyId(jsonArray.getJSONObject(i).getString("currency_id"));
-            recurringExpense.setCurrencyCode(jsonArray.getJSONObject(i).getString("currency_code"));
-            recurringExpense.setTotal(jsonArray.getJSONObject(i).getDouble("total"));        //No I18N
-            recurringExpense.setIsBillable(jsonArray.getJSONObject(i).getBoolean("is_billable"));    //No I18N
-            recurringExpense.setCustomerName(jsonArray.getJSONObject(i).getString("customer_name"));
-            recurringExpense.setVendorName(jsonArray.getJSONObject(i).getString("vendor_name"));
-            recurringExpense.setStatus(jsonArray.getJSONObject(i).getString("status"));
-            recurringExpense.setCreatedTime(jsonArray.getJSONObject(i).getString("created_time"));
-
-            recurringExpenseList.add(recurringExpense);
-        }
+    public RecurringExpenseList getRecurringExpenses(Reader response) throws Exception {
+        return getRecurringExpenses(response, null);
+    }
 
-        PageContext pageContext = new PageContext();
+    /**
+     * Parse the json response and returns the RecurringExpenseList object.
+     *
+     * @param response This json response contains list of recurring expenses details.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the RecurringExpenseList object.
+     */
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    public RecurringExpenseList getRecurringExpenses(Reader response, Set<String> fields) throws Exception {
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+        RecurringExpenseList recurringExpenseList = new RecurringExpenseList();
 
-        recurringExpenseList.setPageContext(pageContext);
+        recurringExpenseList.setPageContext(ResponseReader.readList(response, "recurring_expenses", recurringExpenseList, ResponseReader.project(this::readRecurringExpense, fields, RECURRING_EXPENSE_FIELDS))); //No I18N
 
         return recurringExpenseList;
+
+    }
+
+    /**
+     * Read a recurring expense.
+     */
+
+    private RecurringExpense readRecurringExpense(JsonReader reader) throws Exception {
+
+        RecurringExpense recurringExpense = new RecurringExpense();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "recurring_expense_id":
+                    recurringExpense.setRecurringExpenseId(reader.nextString());
+                    break;
+                case "recurrence_name":
+                    recurringExpense.setRecurrenceName(reader.nextString());
+                    break;
+                case "recurrence_frequency":
+                    recurringExpense.setRecurrenceFrequency(reader.nextString());
+                    break;
+                case "repeat_every":
+                    recurringExpense.setRepeatEvery(reader.nextInt());
+                    break;
+                case "last_created_date":
+                    recurringExpense.setLastCreatedDate(reader.nextString());
+                    break;
+                case "next_expense_date":
+                    recurringExpense.setNextExpenseDate(reader.nextString());
+                    break;
+                case "account_name":
+                    recurringExpense.setAccountName(reader.nextString());
+                    break;
+                case "paid_through_account_name":
+                    recurringExpense.setPaidThroughAccountName(reader.nextString());
+                    break;
+                case "description":
+                    recurringExpense.setDescription(reader.nextString());
+                    break;
+                case "currency_id":
+                    recurringExpense.setCurrencyId(reader.nextString());
+                    break;
+                case "currency_code":
+                    recurringExpense.setCurrencyCode(reader.nextString());
+                    break;
+                case "total":
+                    recurringExpense.setTotal(reader.nextDouble());
+                    break;
+                case "is_billable":
+                    recurringExpense.setIsBillable(reader.nextBoolean());
+                    break;
+                case "customer_name":
+                    recurringExpense.setCustomerName(reader.nextString());
+                    break;
+                case "vendor_name":
+                    recurringExpense.setVendorName(reader.nextString());
+                    break;
+                case "status":
+                    recurringExpense.setStatus(reader.nextString());
+                    break;
+                case "created_time":
+                    recurringExpense.setCreatedTime(reader.nextString());
+                    break;
+                case "start_date":
+                    recurringExpense.setStartDate(reader.nextString());
+                    break;
+                case "end_date":
+                    recurringExpense.setEndDate(reader.nextString());
+                    break;
+                case "account_id":
+                    recurringExpense.setAccountId(reader.nextString());
+                    break;
+                case "paid_through_account_id":
+                    recurringExpense.setPaidThroughAccountId(reader.nextString());
+                    break;
+                case "vendor_id":
+                    recurringExpense.setVendorId(reader.nextString());
+                    break;
+                case "tax_id":
+                    recurringExpense.setTaxId(reader.nextString());
+                    break;
+                case "tax_name":
+                    recurringExpense.setTaxName(reader.nextString());
+                    break;
+                case "tax_percentage":
+                    recurringExpense.setTaxPercentage(reader.nextDouble());
+                    break;
+                case "exchange_rate":
+                    recurringExpense.setExchangeRate(reader.nextDouble());
+                    break;
+                case "tax_amount":
+                    recurringExpense.setTaxAmount(reader.nextDouble());
+                    break;
+                case "sub_total":
+                    recurringExpense.setSubTotal(reader.nextDouble());
+                    break;
+                case "bcy_total":
+                    recurringExpense.setBcyTotal(reader.nextDouble());
+                    break;
+                case "amount":
+                    recurringExpense.setAmount(reader.nextDouble());
+                    break;
+                case "is_inclusive_tax":
+                    recurringExpense.setIsInclusiveTax(reader.nextBoolean());
+                    break;
+                case "customer_id":
+                    recurringExpense.setCustomerId(reader.nextString());
+                    break;
+                case "last_modified_time":
+                    recurringExpense.setLastModifiedTime(reader.nextString());
+                    break;
+                case "project_id":
+                    recurringExpense.setProjectId(reader.nextString());
+                    break;
+                case "project_name":
+                    recurringExpense.setProjectName(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return recurringExpense;
     }
 
     /**
@@ -126,84 +252,180 @@ public class RecurringExpenseParser {
      *
      * @param response This json response contains list of expenses details for recurring expense.
      * @return Returns the ExpenseList object.
+     * @deprecated Use {@link #getExpensehistory(Reader)}.
      */
 
+    @Deprecated
     public ExpenseList getExpensehistory(String response) throws Exception {
+        return getExpensehistory(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the ExpenseList object.
+     *
+     * @param response This json response contains list of expenses details for recurring expense.
+     * @return Returns the ExpenseList object.
+     */
+
+    public ExpenseList getExpensehistory(Reader response) throws Exception {
+        return getExpensehistory(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the ExpenseList object.
+     *
+     * @param response This json response contains list of expenses details for recurring expense.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the ExpenseList object.
+     */
+
+    public ExpenseList getExpensehistory(Reader response, Set<String> fields) throws Exception {
 
         ExpenseList expenseList = new ExpenseList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        expenseList.setPageContext(ResponseReader.readList(response, "expensehistory", expenseList, ResponseReader.project(this::readExpense, fields, EXPENSE_FIELDS))); //No I18N
 
-        JSONArray jsonArray = jsonObject.getJSONArray("expensehistory"); //No I18N
+        return expenseList;
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Expense expense = new Expense();
+    }
 
-            expense.setExpenseId(jsonArray.getJSONObject(i).getString("expense_id"));
-            expense.setDate(jsonArray.getJSONObject(i).getString("date"));
-            expense.setAccountName(jsonArray.getJSONObject(i).getString("account_name"));
-            expense.setVendorName(jsonArray.getJSONObject(i).getString("vendor_name"));
-            expense.setPaidThroughAccountName(jsonArray.getJSONObject(i).getString("paid_through_account_name"));
-            expense.setCustomerName(jsonArray.getJSONObject(i).getString("customer_name"));
-            expense.setTotal(jsonArray.getJSONObject(i).getDouble("total")); //No I18N
-            expense.setStatus(jsonArray.getJSONObject(i).getString("status"));
+    /**
+     * Read an expense of the list.
+     */
 
-            expenseList.add(expense);
+    private Expense readExpense(JsonReader reader) throws Exception {
+
+        Expense expense = new Expense();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "expense_id":
+                    expense.setExpenseId(reader.nextString());
+                    break;
+                case "date":
+                    expense.setDate(reader.nextString());
+                    break;
+                case "account_name":
+                    expense.setAccountName(reader.nextString());
+                    break;
+                case "vendor_name":
+                    expense.setVendorName(reader.nextString());
+                    break;
+                case "paid_through_account_name":
+                    expense.setPaidThroughAccountName(reader.nextString());
+                    break;
+                case "customer_name":
+                    expense.setCustomerName(reader.nextString());
+                    break;
+                case "total":
+                    expense.setTotal(reader.nextDouble());
+                    break;
+                case "status":
+                    expense.setStatus(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        PageContext pageContext = new PageContext();
+        return expense;
+    }
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    /**
+     * Parse the json response and returns the CommentList object.
+     *
+     * @param response This json response contains list of comments details for recurring expense.
+     * @return Returns the CommentList object.
+     * @deprecated Use {@link #getComments(Reader)}.
+     */
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        if (pagecontext.has("applied_filter")) {
-            pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        }
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+    @Deprecated
+    public CommentList getComments(String response) throws Exception {
+        return getComments(new StringReader(response));
+    }
 
-        expenseList.setPageContext(pageContext);
+    /**
+     * Parse the json response and returns the CommentList object.
+     *
+     * @param response This json response contains list of comments details for recurring expense.
+     * @return Returns the CommentList object.
+     */
 
-        return expenseList;
+    public CommentList getComments(Reader response) throws Exception {
+        return getComments(response, null);
     }
 
     /**
      * Parse the json response and returns the CommentList object.
      *
      * @param response This json response contains list of comments details for recurring expense.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
      * @return Returns the CommentList object.
      */
 
-    public CommentList getComments(String response) throws Exception {
+    public CommentList getComments(Reader response, Set<String> fields) throws Exception {
 
         CommentList commentList = new CommentList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        ResponseReader.readList(response, "comments", commentList, ResponseReader.project(this::readComment, fields, COMMENT_FIELDS)); //No I18N
 
-        JSONArray jsonArray = jsonObject.getJSONArray("comments"); //No I18N
+        return commentList;
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Comment comment = new Comment();
+    }
 
-            comment.setCommentId(jsonArray.getJSONObject(i).getString("comment_id"));
-            comment.setRecurringExpenseId(jsonArray.getJSONObject(i).getString("recurring_expense_id"));
-            comment.setDescription(jsonArray.getJSONObject(i).getString("description"));
-            comment.setCommentedById(jsonArray.getJSONObject(i).getString("commented_by_id"));
-            comment.setCommentedBy(jsonArray.getJSONObject(i).getString("commented_by"));
-            comment.setDate(jsonArray.getJSONObject(i).getString("date"));
-            comment.setDateDescription(jsonArray.getJSONObject(i).getString("date_description"));
-            comment.setTime(jsonArray.getJSONObject(i).getString("time"));
-            comment.setOperationType(jsonArray.getJSONObject(i).getString("operation_type"));
-            comment.setTransactionId(jsonArray.getJSONObject(i).getString("transaction_id"));
-            comment.setTransactionType(jsonArray.getJSONObject(i).getString("transaction_type"));
+    /**
+     * Read a comment of the list.
+     */
 
-            commentList.add(comment);
+    private Comment readComment(JsonReader reader) throws Exception {
+
+        Comment comment = new Comment();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "comment_id":
+                    comment.setCommentId(reader.nextString());
+                    break;
+                case "recurring_expense_id":
+                    comment.setRecurringExpenseId(reader.nextString());
+                    break;
+                case "description":
+                    comment.setDescription(reader.nextString());
+                    break;
+                case "commented_by_id":
+                    comment.setCommentedById(reader.nextString());
+                    break;
+                case "commented_by":
+                    comment.setCommentedBy(reader.nextString());
+                    break;
+                case "date":
+                    comment.setDate(reader.nextString());
+                    break;
+                case "date_description":
+                    comment.setDateDescription(reader.nextString());
+                    break;
+                case "time":
+                    comment.setTime(reader.nextString());
+                    break;
+                case "operation_type":
+                    comment.setOperationType(reader.nextString());
+                    break;
+                case "transaction_id":
+                    comment.setTransactionId(reader.nextString());
+                    break;
+                case "transaction_type":
+                    comment.setTransactionType(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return commentList;
+        return comment;
     }
 
     /**
@@ -211,13 +433,23 @@ public class RecurringExpenseParser {
      *
      * @param response This json response contains the success message of post or update or delete requests.
      * @return Returns the success message.
+     * @deprecated Use {@link #getMessage(Reader)}.
      */
 
+    @Deprecated
     public String getMessage(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getMessage(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns a string object.
+     *
+     * @param response This json response contains the success message of post or update or delete requests.
+     * @return Returns the success message.
+     */
 
-        String success = jsonObject.getString("message");
+    public String getMessage(Reader response) throws Exception {
 
-        return success;
+        return ResponseReader.readObject(response, "message", JsonReader::nextString); //No I18N
     }
 }
@@ -3,11 +3,12 @@
 package com.zoho.books.parser;
 
 import com.zoho.books.model.*;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.zoho.books.util.JsonReader;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 
 /**
  * RecurringInvoiceParser is used to parse the json response and make it into the respective objects.
@@ -15,59 +16,216 @@ import java.util.List;
 
 public class RecurringInvoiceParser {
 
+    /**
+     * Names of the fields read from a recurring invoice.
+     */
+
+    private static final Set<String> RECURRING_INVOICE_FIELDS = Set.of("recurring_invoice_id", //No I18N
+            "recurrence_name", "status", "sub_total", "total", "customer_id", "customer_name", "start_date", //No I18N
+            "end_date", "last_sent_date", "next_invoice_date", "recurrence_frequency", "repeat_every", //No I18N
+            "created_time", "currency_id", "currency_code", "exchange_rate", "discount", //No I18N
+            "is_discount_before_tax", "discount_type", "payment_terms", "payment_terms_label", //No I18N
+            "contact_persons", "line_items", "shipping_charge", "adjustment", "adjustment_description", //No I18N
+            "tax_total", "allow_partial_payments", "taxes", "payment_options", "billing_address", //No I18N
+            "shipping_address", "template_id", "template_name", "notes", "terms", "salesperson_id", //No I18N
+            "salesperson_name"); //No I18N
+
+    /**
+     * Names of the fields read from a comment of the list.
+     */
+
+    private static final Set<String> COMMENT_FIELDS = Set.of("comment_id", "description", //No I18N
+            "recurring_invoice_id", "commented_by_id", "commented_by", "comment_type", "date", //No I18N
+            "date_description", "time", "transaction_id", "transaction_type", "operation_type"); //No I18N
+
+
     /**
      * Parse the json response and returns the RecurringInvoiceList object.
      *
      * @param response This json response contains list of recurring invoices details.
      * @return Returns the RecurringInvoiceList object.
+     * @deprecated Use {@link #getRecurringInvoices(Reader)}.
      */
 
+    @Deprecated
     public RecurringInvoiceList getRecurringInvoices(String response) throws Exception {
+        return getRecurringInvoices(new StringReader(response));
+    }
 
-        RecurringInvoiceList recurringInvoiceList = new RecurringInvoiceList();
+    /**
+     * Parse the json response and returns the RecurringInvoiceList object.
+     *
+     * @param response This json response contains list of recurring invoices details.
+     * @return Returns the RecurringInvoiceList object.
+     */
+
+    public RecurringInvoiceList getRecurringInvoices(Reader response) throws Exception {
+        return getRecurringInvoices(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the RecurringInvoiceList object.
+     *
+     * @param response This json response contains list of recurring invoices details.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the RecurringInvoiceList object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public RecurringInvoiceList getRecurringInvoices(Reader response, Set<String> fields) throws Exception {
 
-        JSONArray jsonArray = jsonObject.getJSONArray("recurring_invoices"); //No I18N
+        RecurringInvoiceList recurringInvoiceList = new RecurringInvoiceList();
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            RecurringInvoice recurringInvoice = new RecurringInvoice();
+        recurringInvoiceList.setPageContext(ResponseReader.readList(response, "recurring_invoices", recurringInvoiceList, ResponseReader.project(this::readRecurringInvoice, fields, RECURRING_INVOICE_FIELDS))); //No I18N
 
-            recurringInvoice.setRecurringInvoiceId(jsonArray.getJSONObject(i).getString("recurring_invoice_id"));
-            recurringInvoice.setRecurrenceName(jsonArray.getJSONObject(i).getString("recurrence_name"));
-            recurringInvoice.setStatus(jsonArray.getJSONObject(i).getString("status"));
-            if (jsonArray.getJSONObject(i).has("sub_total")) {
-                recurringInvoice.setSubTotal(jsonArray.getJSONObject(i).getDouble("sub_total")); //No I18N
-            }
-            recurringInvoice.setTotal(jsonArray.getJSONObject(i).getDouble("total")); //No I18N
-            recurringInvoice.setCustomerId(jsonArray.getJSONObject(i).getString("customer_id"));
-            recurringInvoice.setCustomerName(jsonArray.getJSONObject(i).getString("customer_name"));
-            recurringInvoice.setStartDate(jsonArray.getJSONObject(i).getString("start_date"));
-            recurringInvoice.setEndDate(jsonArray.getJSONObject(i).getString("end_date"));
-            recurringInvoice.setLastSentDate(jsonArray.getJSONObject(i).getString("last_sent_date"));
-            recurringInvoice.setNextInvoiceDate(jsonArray.getJSONObject(i).getString("next_invoice_date"));
-            recurringInvoice.setRecurrenceFrequency(jsonArray.getJSONObject(i).getString("recurrence_frequency"));
-            recurringInvoice.setRepeatEvery(jsonArray.getJSONObject(i).getInt("repeat_every")); //No I18N
-            recurringInvoice.setCreatedTime(jsonArray.getJSONObject(i).getString("created_time"));
-
-            recurringInvoiceList.add(recurringInvoice);
-        }
+        return recurringInvoiceList;
 
-        PageContext pageContext = new PageContext();
+    }
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    /**
+     * Read a recurring invoice.
+     */
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+    private RecurringInvoice readRecurringInvoice(JsonReader reader) throws Exception {
 
-        recurringInvoiceList.setPageContext(pageContext);
+        RecurringInvoice recurringInvoice = new RecurringInvoice();
 
-        return recurringInvoiceList;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "recurring_invoice_id":
+                    recurringInvoice.setRecurringInvoiceId(reader.nextString());
+                    break;
+                case "recurrence_name":
+                    recurringInvoice.setRecurrenceName(reader.nextString());
+                    break;
+                case "status":
+                    recurringInvoice.setStatus(reader.nextString());
+                    break;
+                case "sub_total":
+                    recurringInvoice.setSubTotal(reader.nextDouble());
+                    break;
+                case "total":
+                    recurringInvoice.setTotal(reader.nextDouble());
+                    break;
+                case "customer_id":
+                    recurringInvoice.setCustomerId(reader.nextString());
+                    break;
+                case "customer_name":
+                    recurringInvoice.setCustomerName(reader.nextString());
+                    break;
+                case "start_date":
+                    recurringInvoice.setStartDate(reader.nextString());
+                    break;
+                case "end_date":
+                    recurringInvoice.setEndDate(reader.nextString());
+                    break;
+                case "last_sent_date":
+                    recurringInvoice.setLastSentDate(reader.nextString());
+                    break;
+                case "next_invoice_date":
+                    recurringInvoice.setNextInvoiceDate(reader.nextString());
+                    break;
+                case "recurrence_frequency":
+                    recurringInvoice.setRecurrenceFrequency(reader.nextString());
+                    break;
+                case "repeat_every":
+                    recurringInvoice.setRepeatEvery(reader.nextInt());
+                    break;
+                case "created_time":
+                    recurringInvoice.setCreatedTime(reader.nextString());
+                    break;
+                case "currency_id":
+                    recurringInvoice.setCurrencyId(reader.nextString());
+                    break;
+                case "currency_code":
+                    recurringInvoice.setCurrencyCode(reader.nextString());
+                    break;
+                case "exchange_rate":
+                    recurringInvoice.setExchangeRate(reader.nextDouble());
+                    break;
+                case "discount":
+                    recurringInvoice.setDiscount(reader.nextDouble());
+                    break;
+                case "is_discount_before_tax":
+                    recurringInvoice.setIsDiscountBeforeTax(reader.nextBoolean());
+                    break;
+                case "discount_type":
+                    recurringInvoice.setDiscountType(reader.nextString());
+                    break;
+                case "payment_terms":
+                    recurringInvoice.setPaymentTerms(reader.nextInt());
+                    break;
+                case "payment_terms_label":
+                    recurringInvoice.setPaymentTermsLabel(reader.nextString());
+                    break;
+                case "contact_persons":
+                    recurringInvoice.setContactPersons(ResponseReader.readStrings(reader));
+                    break;
+                case "line_items":
+                    recurringInvoice.setLineItems(ResponseReader.readArray(reader, new ArrayList<LineItem>(), this::readLineItem));
+                    break;
+                case "shipping_charge":
+                    recurringInvoice.setShippingCharge(reader.nextDouble());
+                    break;
+                case "adjustment":
+                    recurringInvoice.setAdjustment(reader.nextDouble());
+                    break;
+                case "adjustment_description":
+                    recurringInvoice.setAdjustmentDescription(reader.nextString());
+                    break;
+                case "tax_total":
+                    recurringInvoice.setTaxTotal(reader.nextDouble());
+                    break;
+                case "allow_partial_payments":
+                    recurringInvoice.setAllowPartialPayments(reader.nextBoolean());
+                    break;
+                case "taxes":
+                    recurringInvoice.setTaxes(ResponseReader.readArray(reader, new ArrayList<Tax>(), this::readTax));
+                    break;
+                case "payment_options":
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        switch (reader.nextName()) {
+                            case "payment_gateways":
+                                recurringInvoice.setPaymentGateways(ResponseReader.readArray(reader, new ArrayList<PaymentGateway>(), this::readPaymentGateway));
+                                break;
+                            default:
+                                reader.skipValue();
+                        }
+                    }
+                    reader.endObject();
+                    break;
+                case "billing_address":
+                    recurringInvoice.setBillingAddress(readAddress(reader));
+                    break;
+                case "shipping_address":
+                    recurringInvoice.setShippingAddress(readAddress(reader));
+                    break;
+                case "template_id":
+                    recurringInvoice.setTemplateId(reader.nextString());
+                    break;
+                case "template_name":
+                    recurringInvoice.setTemplateName(reader.nextString());
+                    break;
+                case "notes":
+                    recurringInvoice.setNotes(reader.nextString());
+                    break;
+                case "terms":
+                    recurringInvoice.setTerms(reader.nextString());
+                    break;
+                case "salesperson_id":
+                    recurringInvoice.setSalespersonId(reader.nextString());
+                    break;
+                case "salesperson_name":
+                    recurringInvoice.setSalespersonName(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return recurringInvoice;
     }
 
     /**
@@ -75,191 +233,289 @@ public class RecurringInvoiceParser {
      *
      * @param response This json response contains the recurring invoice details.
      * @return Returns the RecurringInvoice object.
+     * @deprecated Use {@link #getRecurringInvoice(Reader)}.
      */
 
+    @Deprecated
     public RecurringInvoice getRecurringInvoice(String response) throws Exception {
-        RecurringInvoice recurringInvoice = new RecurringInvoice();
+        return getRecurringInvoice(new StringReader(response));
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONObject recurring = jsonObject.getJSONObject("recurring_invoice"); //No I18N
-
-        recurringInvoice.setRecurringInvoiceId(recurring.getString("recurring_invoice_id"));
-        recurringInvoice.setRecurrenceName(recurring.getString("recurrence_name"));
-        recurringInvoice.setStatus(recurring.getString("status"));
-        recurringInvoice.setRecurrenceFrequency(recurring.getString("recurrence_frequency"));
-        recurringInvoice.setRepeatEvery(recurring.getInt("repeat_every")); //No I18N
-        recurringInvoice.setStartDate(recurring.getString("start_date"));
-        recurringInvoice.setEndDate(recurring.getString("end_date"));
-        recurringInvoice.setLastSentDate(recurring.getString("last_sent_date"));
-        recurringInvoice.setNextInvoiceDate(recurring.getString("next_invoice_date"));
-        recurringInvoice.setCustomerId(recurring.getString("customer_id"));
-        recurringInvoice.setCustomerName(recurring.getString("customer_name"));
-        recurringInvoice.setCurrencyId(recurring.getString("currency_id"));
-        recurringInvoice.setCurrencyCode(recurring.getString("currency_code"));
-        recurringInvoice.setExchangeRate(recurring.getDouble("exchange_rate")); //No I18N
-        recurringInvoice.setDiscount(recurring.getDouble("discount"));        //No I18N
-        recurringInvoice.setIsDiscountBeforeTax(recurring.getBoolean("is_discount_before_tax")); //No I18N
-        recurringInvoice.setDiscountType(recurring.getString("discount_type"));
-        recurringInvoice.setPaymentTerms(recurring.getInt("payment_terms")); //No I18N
-        recurringInvoice.setPaymentTermsLabel(recurring.getString("payment_terms_label"));
-
-
-        JSONArray contactPerson = recurring.getJSONArray("contact_persons"); //No I18N
-
-        String[] contactPersons = new String[contactPerson.length()];
-
-        for (int j = 0; j < contactPerson.length(); j++) {
-            contactPersons[j] = contactPerson.getString(j);
-        }
+    /**
+     * Parse the json response and returns the RecurringInvoice object.
+     *
+     * @param response This json response contains the recurring invoice details.
+     * @return Returns the RecurringInvoice object.
+     */
 
-        recurringInvoice.setContactPersons(contactPersons);
+    public RecurringInvoice getRecurringInvoice(Reader response) throws Exception {
+        return getRecurringInvoice(response, null);
+    }
 
-        JSONArray lineItems = recurring.getJSONArray("line_items"); //No I18N
+    /**
+     * Parse the json response and returns the RecurringInvoice object.
+     *
+     * @param response This json response contains the recurring invoice details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the RecurringInvoice object.
+     */
 
-        List<LineItem> lineItemsList = new ArrayList<LineItem>();
+    public RecurringInvoice getRecurringInvoice(Reader response, Set<String> fields) throws Exception {
 
-        for (int i = 0; i < lineItems.length(); i++) {
-            LineItem lineItem = new LineItem();
+        return ResponseReader.readObject(response, "recurring_invoice", ResponseReader.project(this::readRecurringInvoice, fields, RECURRING_INVOICE_FIELDS)); //No I18N
+    }
 
-            lineItem.setTaxName(lineItems.getJSONObject(i).getString("tax_name"));
-            lineItem.setTaxType(lineItems.getJSONObject(i).getString("tax_type"));
-            lineItem.setLineItemId(lineItems.getJSONObject(i).getString("line_item_id"));
-            lineItem.setDiscount(lineItems.getJSONObject(i).getDouble("discount")); //No I18N
-            lineItem.setUnit(lineItems.getJSONObject(i).getString("unit"));
-            lineItem.setItemOrder(lineItems.getJSONObject(i).getInt("item_order")); //No I18N
-            lineItem.setRate(lineItems.getJSONObject(i).getDouble("rate"));    //No I18N
-            lineItem.setItemId(lineItems.getJSONObject(i).getString("item_id"));
-            lineItem.setDescription(lineItems.getJSONObject(i).getString("description"));
-            lineItem.setName(lineItems.getJSONObject(i).getString("name"));
-            lineItem.setTaxId(lineItems.getJSONObject(i).getString("tax_id"));
-            lineItem.setQuantity(lineItems.getJSONObject(i).getDouble("quantity")); //No I18N
-            lineItem.setTaxPercentage(lineItems.getJSONObject(i).getDouble("tax_percentage")); //No I18N
-            lineItem.setItemTotal(lineItems.getJSONObject(i).getDouble("item_total")); //No I18N
+    /**
+     * Read a line item.
+     */
 
-            lineItemsList.add(i, lineItem);
+    private LineItem readLineItem(JsonReader reader) throws Exception {
+
+        LineItem lineItem = new LineItem();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "tax_name":
+                    lineItem.setTaxName(reader.nextString());
+                    break;
+                case "tax_type":
+                    lineItem.setTaxType(reader.nextString());
+                    break;
+                case "line_item_id":
+                    lineItem.setLineItemId(reader.nextString());
+                    break;
+                case "discount":
+                    lineItem.setDiscount(reader.nextDouble());
+                    break;
+                case "unit":
+                    lineItem.setUnit(reader.nextString());
+                    break;
+                case "item_order":
+                    lineItem.setItemOrder(reader.nextInt());
+                    break;
+                case "rate":
+                    lineItem.setRate(reader.nextDouble());
+                    break;
+                case "item_id":
+                    lineItem.setItemId(reader.nextString());
+                    break;
+                case "description":
+                    lineItem.setDescription(reader.nextString());
+                    break;
+                case "name":
+                    lineItem.setName(reader.nextString());
+                    break;
+                case "tax_id":
+                    lineItem.setTaxId(reader.nextString());
+                    break;
+                case "quantity":
+                    lineItem.setQuantity(reader.nextDouble());
+                    break;
+                case "tax_percentage":
+                    lineItem.setTaxPercentage(reader.nextDouble());
+                    break;
+                case "item_total":
+                    lineItem.setItemTotal(reader.nextDouble());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        recurringInvoice.setLineItems(lineItemsList);
-
-        recurringInvoice.setShippingCharge(recurring.getDouble("shipping_charge"));    //No I18N
-        recurringInvoice.setAdjustment(recurring.getDouble("adjustment"));        //No I18N
-        recurringInvoice.setAdjustmentDescription(recurring.getString("adjustment_description"));
-        recurringInvoice.setSubTotal(recurring.getDouble("sub_total")); //No I18N
-        recurringInvoice.setTaxTotal(recurring.getDouble("tax_total"));    //No I18N
-        recurringInvoice.setTotal(recurring.getDouble("total"));    //No I18N
-        recurringInvoice.setAllowPartialPayments(recurring.getBoolean("allow_partial_payments")); //No I18N
-
-        JSONArray taxes = recurring.getJSONArray("taxes"); //No I18N
-
-        List<Tax> taxesList = new ArrayList<Tax>();
-
-        for (int k = 0; k < taxes.length(); k++) {
-            Tax tax = new Tax();
+        return lineItem;
+    }
 
-            tax.setTaxName(taxes.getJSONObject(k).getString("tax_name"));
-            tax.setTaxAmount(taxes.getJSONObject(k).getDouble("tax_amount")); //No I18N
+    /**
+     * Read a tax.
+     */
 
-            taxesList.add(k, tax);
+    private Tax readTax(JsonReader reader) throws Exception {
+
+        Tax tax = new Tax();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "tax_name":
+                    tax.setTaxName(reader.nextString());
+                    break;
+                case "tax_amount":
+                    tax.setTaxAmount(reader.nextDouble());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        recurringInvoice.setTaxes(taxesList);
-
-        JSONObject paymentOptions = recurring.getJSONObject("payment_options"); //No I18N
-
-        JSONArray paymentGateways = paymentOptions.getJSONArray("payment_gateways"); //No I18N
-
-        List<PaymentGateway> paymentGatewaysList = new ArrayList<PaymentGateway>();
-
-        for (int l = 0; l < paymentGateways.length(); l++) {
-            PaymentGateway paymentGateway = new PaymentGateway();
+        return tax;
+    }
 
-            paymentGateway.setGatewayName(paymentGateways.getJSONObject(l).getString("gateway_name"));
+    /**
+     * Read a payment gateway.
+     */
 
-            if (paymentGateways.getJSONObject(l).has("additional_field1")) {
-                paymentGateway.setAdditionalField1(paymentGateways.getJSONObject(l).getString("additional_field1"));
-            }
-            if (paymentGateways.getJSONObject(l).has("configured")) {
-                paymentGateway.setConfigured(paymentGateways.getJSONObject(l).getBoolean("configured")); //No I18N
+    private PaymentGateway readPaymentGateway(JsonReader reader) throws Exception {
+
+        PaymentGateway paymentGateway = new PaymentGateway();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "gateway_name":
+                    paymentGateway.setGatewayName(reader.nextString());
+                    break;
+                case "additional_field1":
+                    paymentGateway.setAdditionalField1(reader.nextString());
+                    break;
+                case "configured":
+                    paymentGateway.setConfigured(reader.nextBoolean());
+                    break;
+                default:
+                    reader.skipValue();
             }
-
-
-            paymentGatewaysList.add(l, paymentGateway);
         }
+        reader.endObject();
 
-        recurringInvoice.setPaymentGateways(paymentGatewaysList);
-
-        JSONObject billingAddress = recurring.getJSONObject("billing_address"); //No I18N
-
-        Address billingAddressObj = new Address();
-
-        billingAddressObj.setAddress(billingAddress.getString("address"));
-        billingAddressObj.setCity(billingAddress.getString("city"));
-        billingAddressObj.setState(billingAddress.getString("state"));
-        billingAddressObj.setZip(billingAddress.getString("zip"));
-        billingAddressObj.setCountry(billingAddress.getString("country"));
-        billingAddressObj.setFax(billingAddress.getString("fax"));
+        return paymentGateway;
+    }
 
-        recurringInvoice.setBillingAddress(billingAddressObj);
+    /**
+     * Read an address.
+     */
 
-        JSONObject shippingAddress = recurring.getJSONObject("shipping_address"); //No I18N
+    private Address readAddress(JsonReader reader) throws Exception {
+
+        Address address = new Address();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "address":
+                    address.setAddress(reader.nextString());
+                    break;
+                case "city":
+                    address.setCity(reader.nextString());
+                    break;
+                case "state":
+                    address.setState(reader.nextString());
+                    break;
+                case "zip":
+                    address.setZip(reader.nextString());
+                    break;
+                case "country":
+                    address.setCountry(reader.nextString());
+                    break;
+                case "fax":
+                    address.setFax(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        Address shippingAddressObj = new Address();
+        return address;
+    }
 
-        shippingAddressObj.setAddress(shippingAddress.getString("address"));
-        shippingAddressObj.setCity(shippingAddress.getString("city"));
-        shippingAddressObj.setState(shippingAddress.getString("state"));
-        shippingAddressObj.setZip(shippingAddress.getString("zip"));
-        shippingAddressObj.setCountry(shippingAddress.getString("country"));
-        shippingAddressObj.setFax(shippingAddress.getString("fax"));
+    /**
+     * Parse the json response and returns the CommentList object.
+     *
+     * @param response This json response contains list of comments details for recurring invoices.
+     * @return Returns the CommentList object.
+     * @deprecated Use {@link #getComments(Reader)}.
+     */
 
-        recurringInvoice.setShippingAddress(shippingAddressObj);
+    @Deprecated
+    public CommentList getComments(String response) throws Exception {
+        return getComments(new StringReader(response));
+    }
 
-        recurringInvoice.setTemplateId(recurring.getString("template_id"));
-        recurringInvoice.setTemplateName(recurring.getString("template_name"));
-        recurringInvoice.setNotes(recurring.getString("notes"));
-        recurringInvoice.setTerms(recurring.getString("terms"));
-        recurringInvoice.setSalespersonId(recurring.getString("salesperson_id"));
-        recurringInvoice.setSalespersonName(recurring.getString("salesperson_name"));
+    /**
+     * Parse the json response and returns the CommentList object.
+     *
+     * @param response This json response contains list of comments details for recurring invoices.
+     * @return Returns the CommentList object.
+     */
 
-        return recurringInvoice;
+    public CommentList getComments(Reader response) throws Exception {
+        return getComments(response, null);
     }
 
     /**
      * Parse the json response and returns the CommentList object.
      *
      * @param response This json response contains list of comments details for recurring invoices.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
      * @return Returns the CommentList object.
      */
 
-    public CommentList getComments(String response) throws Exception {
+    public CommentList getComments(Reader response, Set<String> fields) throws Exception {
 
         CommentList commentList = new CommentList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        ResponseReader.readList(response, "comments", commentList, ResponseReader.project(this::readComment, fields, COMMENT_FIELDS)); //No I18N
 
-        JSONArray jsonArray = jsonObject.getJSONArray("comments"); //No I18N
+        return commentList;
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Comment comment = new Comment();
+    }
 
-            comment.setCommentId(jsonArray.getJSONObject(i).getString("comment_id"));
-            comment.setDescription(jsonArray.getJSONObject(i).getString("description"));
-            comment.setInvoiceId(jsonArray.getJSONObject(i).getString("recurring_invoice_id"));
-            comment.setCommentedById(jsonArray.getJSONObject(i).getString("commented_by_id"));
-            comment.setCommentedBy(jsonArray.getJSONObject(i).getString("commented_by"));
-            comment.setCommentType(jsonArray.getJSONObject(i).getString("comment_type"));
-            comment.setDate(jsonArray.getJSONObject(i).getString("date"));
-            comment.setDateDescription(jsonArray.getJSONObject(i).getString("date_description"));
-            comment.setTime(jsonArray.getJSONObject(i).getString("time"));
-            comment.setTransactionId(jsonArray.getJSONObject(i).getString("transaction_id"));
-            comment.setTransactionType(jsonArray.getJSONObject(i).getString("transaction_type"));
-            comment.setOperationType(jsonArray.getJSONObject(i).getString("operation_type"));
+    /**
+     * Read a comment of the list.
+     */
 
-            commentList.add(comment);
+    private Comment readComment(JsonReader reader) throws Exception {
+
+        Comment comment = new Comment();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "comment_id":
+                    comment.setCommentId(reader.nextString());
+                    break;
+                case "description":
+                    comment.setDescription(reader.nextString());
+                    break;
+                case "recurring_invoice_id":
+                    comment.setInvoiceId(reader.nextString());
+                    break;
+                case "commented_by_id":
+                    comment.setCommentedById(reader.nextString());
+                    break;
+                case "commented_by":
+                    comment.setCommentedBy(reader.nextString());
+                    break;
+                case "comment_type":
+                    comment.setCommentType(reader.nextString());
+                    break;
+                case "date":
+                    comment.setDate(reader.nextString());
+                    break;
+                case "date_description":
+                    comment.setDateDescription(reader.nextString());
+                    break;
+                case "time":
+                    comment.setTime(reader.nextString());
+                    break;
+                case "transaction_id":
+                    comment.setTransactionId(reader.nextString());
+                    break;
+                case "transaction_type":
+                    comment.setTransactionType(reader.nextString());
+                    break;
+                case "operation_type":
+                    comment.setOperationType(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return commentList;
+        return comment;
     }
 
     /**
@@ -267,13 +523,23 @@ public class RecurringInvoiceParser {
      *
      * @param response This json response contains the success message of post or update or delete requests.
      * @return Returns the success message.
+     * @deprecated Use {@link #getMessage(Reader)}.
      */
 
+    @Deprecated
     public String getMessage(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getMessage(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns a string object.
+     *
+     * @param response This json response contains the success message of post or update or delete requests.
+     * @return Returns the success message.
+     */
 
-        String success = jsonObject.getString("message");
+    public String getMessage(Reader response) throws Exception {
 
-        return success;
+        return ResponseReader.readObject(response, "message", JsonReader::nextString); //No I18N
     }
 }
@@ -0,0 +1,311 @@
+/* $Id$ */
+
+package com.zoho.books.parser;
+
+import com.zoho.books.model.Criteria;
+import com.zoho.books.model.PageContext;
+import com.zoho.books.model.PagedList;
+import com.zoho.books.util.JsonReader;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ResponseReader is used to read the responses as they are read from the stream, without building a JSONObject of
+ * the whole response. Each row of a list is made into a model object as soon as it is read, so a page is never held
+ * in memory twice.
+ */
+
+class ResponseReader {
+
+    private ResponseReader() {
+    }
+
+
+    /**
+     * Read the rows of a list response into the list.
+     *
+     * @param response The response body, which is closed.
+     * @param key      Name of the array that holds the rows.
+     * @param list     List the rows are added to.
+     * @param rows     Reader of a row.
+     * @return Returns the PageContext of the response, or a default one if the response has none.
+     */
+
+    static <T> PageContext readList(Reader response, String key, List<T> list, JsonReader.ObjectReader<T> rows) throws Exception {
+        return readPage(response, key, reader -> readArray(reader, list, rows));
+    }
+
+    /**
+     * Read the rows of a list response into a PagedList. When the rows are read lazily, only the id and the total of
+     * each row are read here; the text of the rows is kept, and a row is made into its model object when it is first
+     * got from the list.
+     *
+     * @param response The response body, which is closed.
+     * @param key      Name of the array that holds the rows.
+     * @param list     List the rows are set to.
+     * @param idKey    Name of the id of a row.
+     * @param totalKey Name of the total of a row.
+     * @param rows     Reader of a row.
+     * @param lazy     Whether the rows are read lazily.
+     * @return Returns the PageContext of the response, or a default one if the response has none.
+     */
+
+    static <T> PageContext readRows(Reader response, String key, PagedList<T> list, String idKey, String totalKey,
+                                    JsonReader.ObjectReader<T> rows, boolean lazy) throws Exception {
+        if (!lazy) {
+            return readList(response, key, list, rows);
+        }
+
+        return readPage(response, key, reader -> readIndex(reader, list, idKey, totalKey, rows));
+    }
+
+    private static PageContext readPage(Reader response, String key, JsonReader.ObjectReader<?> array) throws Exception {
+        PageContext pageContext = new PageContext();
+
+        JsonReader reader = new JsonReader(response);
+
+        try {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+
+                if (name.equals(key)) {
+                    array.read(reader);
+                } else if (name.equals("page_context")) { //No I18N
+                    pageContext = readPageContext(reader);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } finally {
+            reader.close();
+        }
+
+        return pageContext;
+    }
+
+    /**
+     * Read the ids and totals of an array of rows, keeping the text of the rows for the list to read them later.
+     */
+
+    private static <T> PagedList<T> readIndex(JsonReader reader, PagedList<T> list, String idKey, String totalKey,
+                                              JsonReader.ObjectReader<T> rows) throws Exception {
+        String[] texts = new String[16];
+        String[] ids = new String[16];
+        double[] totals = new double[16];
+        int count = 0;
+
+        if (reader.peek() == JsonReader.Token.NULL) {
+            reader.nextNull();
+        } else {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                if (count == ids.length) {
+                    texts = Arrays.copyOf(texts, count * 2);
+                    ids = Arrays.copyOf(ids, count * 2);
+                    totals = Arrays.copyOf(totals, count * 2);
+                }
+                ids[count] = "";
+
+                reader.beginCapture();
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String name = reader.nextName();
+
+                    if (name.equals(idKey)) {
+                        ids[count] = reader.nextString();
+                    } else if (name.equals(totalKey)) {
+                        totals[count] = reader.nextDouble();
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+                texts[count++] = reader.endCapture();
+            }
+            reader.endArray();
+        }
+
+        list.setRows(Arrays.copyOf(texts, count), Arrays.copyOf(ids, count), Arrays.copyOf(totals, count), rows);
+
+        return list;
+    }
+
+    /**
+     * Read the object of a response that holds one record.
+     *
+     * @param response The response body, which is closed.
+     * @param key      Name of the object that holds the record.
+     * @param object   Reader of the record.
+     * @return Returns the model object, or null if the response has no such object.
+     */
+
+    static <T> T readObject(Reader response, String key, JsonReader.ObjectReader<T> object) throws Exception {
+        T result = null;
+
+        JsonReader reader = new JsonReader(response);
+
+        try {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals(key)) {
+                    result = object.read(reader);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } finally {
+            reader.close();
+        }
+
+        return result;
+    }
+
+    /**
+     * Make a reader of the objects that reads only the given fields of each object, skipping the others.
+     * A name the reader of the object does not read is an error, so a misspelt field is not read as a null.
+     *
+     * @param object Reader of an object.
+     * @param fields Names of the fields to read, or null to read every field.
+     * @param known  Names of the fields the reader of the object reads.
+     * @return Returns the reader.
+     * @throws IllegalArgumentException If a field is not one of the known fields.
+     */
+
+    static <T> JsonReader.ObjectReader<T> project(JsonReader.ObjectReader<T> object, Set<String> fields, Set<String> known) {
+        if (fields == null) {
+            return object;
+        }
+        for (String field : fields) {
+            if (!known.contains(field)) {
+                throw new IllegalArgumentException("Unknown field " + field); //No I18N
+            }
+        }
+
+        return reader -> {
+            reader.setProjection(fields);
+            try {
+                return object.read(reader);
+            } finally {
+                reader.setProjection(null);
+            }
+        };
+    }
+
+    /**
+     * Read a JSONObject that was already parsed with the reader of the model, for the methods that take a JSONObject.
+     */
+
+    static <T> T convert(JSONObject jsonObject, JsonReader.ObjectReader<T> object) throws JSONException {
+        try {
+            return object.read(new JsonReader(new StringReader(jsonObject.toString())));
+        } catch (JSONException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new JSONException(e);
+        }
+    }
+
+    /**
+     * Read an array into the list. A null is read as an empty array.
+     */
+
+    static <T> List<T> readArray(JsonReader reader, List<T> list, JsonReader.ObjectReader<T> rows) throws Exception {
+        if (reader.peek() == JsonReader.Token.NULL) {
+            reader.nextNull();
+            return list;
+        }
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            list.add(rows.read(reader));
+        }
+        reader.endArray();
+
+        return list;
+    }
+
+    /**
+     * Read an array of strings.
+     */
+
+    static String[] readStrings(JsonReader reader) throws Exception {
+        return readArray(reader, new ArrayList<String>(), JsonReader::nextString).toArray(new String[0]);
+    }
+
+    /**
+     * Read the page_context object of a list response.
+     */
+
+    static PageContext readPageContext(JsonReader reader) throws Exception {
+        PageContext pageContext = new PageContext();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "page":
+                    pageContext.setPage(reader.nextInt());
+                    break;
+                case "per_page":
+                    pageContext.setPerPage(reader.nextInt());
+                    break;
+                case "has_more_page":
+                    pageContext.setHasMorePage(reader.nextBoolean());
+                    break;
+                case "report_name":
+                    pageContext.setReportName(reader.nextString());
+                    break;
+                case "applied_filter":
+                    pageContext.setAppliedFilter(reader.nextString());
+                    break;
+                case "sort_column":
+                    pageContext.setSortColumn(reader.nextString());
+                    break;
+                case "sort_order":
+                    pageContext.setSortOrder(reader.nextString());
+                    break;
+                case "search_criteria":
+                    pageContext.setCriteria(readArray(reader, new ArrayList<Criteria>(), ResponseReader::readCriteria));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return pageContext;
+    }
+
+    private static Criteria readCriteria(JsonReader reader) throws Exception {
+        Criteria criteria = new Criteria();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "columnname":
+                    criteria.setColumnName(reader.nextString());
+                    break;
+                case "search_text":
+                    criteria.setSearchText(reader.nextString());
+                    break;
+                case "comparator":
+                    criteria.setComparator(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return criteria;
+    }
+}
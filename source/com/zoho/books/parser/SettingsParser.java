@@ -3,11 +3,12 @@
 package com.zoho.books.parser;
 
 import com.zoho.books.model.*;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.zoho.books.util.JsonReader;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 
 /**
  * SettingsParser is used to parse the json response and make it into the respective objects.
@@ -15,109 +16,414 @@ import java.util.List;
 
 public class SettingsParser {
 
+    /**
+     * Names of the fields read from a preference.
+     */
+
+    private static final Set<String> PREFERENCE_FIELDS = Set.of("convert_to_invoice", //No I18N
+            "notify_me_on_online_payment", "send_payment_receipt_acknowledgement", //No I18N
+            "auto_notify_recurring_invoice", "snail_mail_include_payment_stub", "is_show_powered_by", //No I18N
+            "attach_expense_receipt_to_invoice", "is_estimate_enabled", "is_project_enabled", //No I18N
+            "auto_reminders", "terms"); //No I18N
+
+    /**
+     * Names of the fields read from an organization.
+     */
+
+    private static final Set<String> ORGANIZATION_FIELDS = Set.of("organization_id", "name", "contact_name", //No I18N
+            "email", "is_default_org", "plan_type", "tax_group_enabled", "plan_name", "plan_period", //No I18N
+            "language_code", "fiscal_year_start_month", "account_created_date", //No I18N
+            "account_created_date_formatted", "time_zone", "is_org_active", "currency_id", "currency_code", //No I18N
+            "currency_symbol", "currency_format", "price_precision", "date_format", "field_separator", //No I18N
+            "industry_type", "industry_size", "company_id_label", "company_id_value", "tax_id_label", //No I18N
+            "tax_id_value", "address", "org_address", "remit_to_address", "phone", "fax", "website", //No I18N
+            "tax_basis", "value"); //No I18N
+
+    /**
+     * Names of the fields read from an item.
+     */
+
+    private static final Set<String> ITEM_FIELDS = Set.of("item_id", "name", "status", "description", "rate", //No I18N
+            "tax_id", "tax_name", "tax_percentage", "unit", "account_id", "account_name", "tax_type"); //No I18N
+
+    /**
+     * Names of the fields read from an user.
+     */
+
+    private static final Set<String> USER_FIELDS = Set.of("user_id", "role_id", "name", "email", "user_role", //No I18N
+            "status", "is_current_user", "created_time", "email_ids"); //No I18N
+
+    /**
+     * Names of the fields read from an invoice setting.
+     */
+
+    private static final Set<String> INVOICE_SETTING_FIELDS = Set.of("auto_generate", "prefix_string", //No I18N
+            "start_at", "next_number", "quantity_precision", "discount_type", "is_discount_before_tax", //No I18N
+            "reference_text", "notes", "terms", "is_shipping_charge_required", "is_adjustment_required", //No I18N
+            "is_open_invoice_editable", "warn_convert_to_open", "warn_create_creditnotes", //No I18N
+            "attach_expense_receipt_to_invoice", "invoice_item_type", "is_show_invoice_setup", //No I18N
+            "is_sales_person_required"); //No I18N
+
+    /**
+     * Names of the fields read from a notes and terms.
+     */
+
+    private static final Set<String> NOTES_AND_TERMS_FIELDS = Set.of("notes", "terms"); //No I18N
+
+    /**
+     * Names of the fields read from an estimate setting.
+     */
+
+    private static final Set<String> ESTIMATE_SETTING_FIELDS = Set.of("auto_generate", "prefix_string", //No I18N
+            "start_at", "next_number", "quantity_precision", "discount_type", "is_discount_before_tax", //No I18N
+            "reference_text", "notes", "terms", "terms_to_invoice", "notes_to_invoice", //No I18N
+            "warn_estimate_to_invoice", "is_sales_person_required"); //No I18N
+
+    /**
+     * Names of the fields read from a creditnote setting.
+     */
+
+    private static final Set<String> CREDITNOTE_SETTING_FIELDS = Set.of("auto_generate", "prefix_string", //No I18N
+            "reference_text", "next_number", "notes", "terms"); //No I18N
+
+    /**
+     * Names of the fields read from a currency of the list.
+     */
+
+    private static final Set<String> CURRENCY_FIELDS = Set.of("currency_id", "currency_code", //No I18N
+            "currency_name", "currency_symbol", "price_precision", "currency_format", "is_base_currency", //No I18N
+            "exchange_rate", "effective_date"); //No I18N
+
+    /**
+     * Names of the fields read from an exchange rate of the list.
+     */
+
+    private static final Set<String> EXCHANGE_RATE_FIELDS = Set.of("exchange_rate_id", "currency_id", //No I18N
+            "currency_code", "effective_date", "rate"); //No I18N
+
+    /**
+     * Names of the fields read from a tax of the list.
+     */
+
+    private static final Set<String> TAX_FIELDS = Set.of("tax_id", "tax_name", "tax_percentage", "tax_type"); //No I18N
+
+    /**
+     * Names of the fields read from a tax group.
+     */
+
+    private static final Set<String> TAX_GROUP_FIELDS = Set.of("tax_group_id", "tax_group_name", //No I18N
+            "tax_group_percentage", "taxes"); //No I18N
+
+    /**
+     * Names of the fields read from an opening balance.
+     */
+
+    private static final Set<String> OPENING_BALANCE_FIELDS = Set.of("opening_balance_id", "date", //No I18N
+            "accounts"); //No I18N
+
+    /**
+     * Names of the fields read from an auto reminder.
+     */
+
+    private static final Set<String> AUTO_REMINDER_FIELDS = Set.of("autoreminder_id", "is_enabled", "type", //No I18N
+            "address_type", "number_of_days", "subject", "body", "order", "payment_reminder_id", //No I18N
+            "notification_type"); //No I18N
+
+    /**
+     * Names of the fields read from a manual reminder of the list.
+     */
+
+    private static final Set<String> MANUAL_REMINDER_FIELDS = Set.of("manualreminder_id", "type", "subject", //No I18N
+            "body", "cc_me"); //No I18N
+
+
     /**
      * Parse the json response and returns the Preference object.
      *
      * @param response This json response contains the preference details.
      * @return Returns the Preference object.
+     * @deprecated Use {@link #getPreferences(Reader)}.
      */
 
+    @Deprecated
     public Preference getPreferences(String response) throws Exception {
-        Preference preferences = new Preference();
-
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getPreferences(new StringReader(response));
+    }
 
-        JSONObject preference = jsonObject.getJSONObject("preferences"); //No I18N
+    /**
+     * Parse the json response and returns the Preference object.
+     *
+     * @param response This json response contains the preference details.
+     * @return Returns the Preference object.
+     */
 
-        preferences.setConvertToInvoice(preference.getBoolean("convert_to_invoice")); //No I18N
-        preferences.setNotifyMeOnOnlinePayment(preference.getBoolean("notify_me_on_online_payment")); //No I18N
-        preferences.setSendPaymentReceiptAcknowledgement(preference.getBoolean("send_payment_receipt_acknowledgement")); //No I18N
-        preferences.setAutoNotifyRecurringInvoice(preference.getBoolean("auto_notify_recurring_invoice")); //No I18N
-        preferences.setSnailMailIncludePaymentStub(preference.getBoolean("snail_mail_include_payment_stub")); //No I18N
-        preferences.setIsShowPoweredBy(preference.getBoolean("is_show_powered_by")); //No I18N
-        preferences.setAttachExpenseReceiptToInvoice(preference.getString("attach_expense_receipt_to_invoice"));
-        preferences.setIsEstimateEnabled(preference.getBoolean("is_estimate_enabled")); //No I18N
-        preferences.setIsProjectEnabled(preference.getBoolean("is_project_enabled")); //No I18N
+    public Preference getPreferences(Reader response) throws Exception {
+        return getPreferences(response, null);
+    }
 
-        JSONArray autoReminders = preference.getJSONArray("auto_reminders"); //No I18N
+    /**
+     * Parse the json response and returns the Preference object.
+     *
+     * @param response This json response contains the preference details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Preference object.
+     */
 
-        List<AutoReminder> autoRemindersList = new ArrayList<AutoReminder>();
+    public Preference getPreferences(Reader response, Set<String> fields) throws Exception {
 
-        for (int i = 0; i < autoReminders.length(); i++) {
-            AutoReminder autoReminder = new AutoReminder();
+        return ResponseReader.readObject(response, "preferences", ResponseReader.project(this::readPreference, fields, PREFERENCE_FIELDS)); //No I18N
+    }
 
-            autoReminder.setPaymentReminderId(autoReminders.getJSONObject(i).getString("payment_reminder_id"));
-            autoReminder.setIsEnabled(autoReminders.getJSONObject(i).getBoolean("is_enabled")); //No I18N
-            autoReminder.setNotificationType(autoReminders.getJSONObject(i).getString("notification_type"));
-            autoReminder.setAddressType(autoReminders.getJSONObject(i).getString("address_type"));
-            autoReminder.setNumberOfDays(autoReminders.getJSONObject(i).getInt("number_of_days")); //No I18N
-            autoReminder.setSubject(autoReminders.getJSONObject(i).getString("subject"));
-            autoReminder.setBody(autoReminders.getJSONObject(i).getString("body"));
+    /**
+     * Read a preference.
+     */
 
-            autoRemindersList.add(i, autoReminder);
+    private Preference readPreference(JsonReader reader) throws Exception {
+
+        Preference preference = new Preference();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "convert_to_invoice":
+                    preference.setConvertToInvoice(reader.nextBoolean());
+                    break;
+                case "notify_me_on_online_payment":
+                    preference.setNotifyMeOnOnlinePayment(reader.nextBoolean());
+                    break;
+                case "send_payment_receipt_acknowledgement":
+                    preference.setSendPaymentReceiptAcknowledgement(reader.nextBoolean());
+                    break;
+                case "auto_notify_recurring_invoice":
+                    preference.setAutoNotifyRecurringInvoice(reader.nextBoolean());
+                    break;
+                case "snail_mail_include_payment_stub":
+                    preference.setSnailMailIncludePaymentStub(reader.nextBoolean());
+                    break;
+                case "is_show_powered_by":
+                    preference.setIsShowPoweredBy(reader.nextBoolean());
+                    break;
+                case "attach_expense_receipt_to_invoice":
+                    preference.setAttachExpenseReceiptToInvoice(reader.nextString());
+                    break;
+                case "is_estimate_enabled":
+                    preference.setIsEstimateEnabled(reader.nextBoolean());
+                    break;
+                case "is_project_enabled":
+                    preference.setIsProjectEnabled(reader.nextBoolean());
+                    break;
+                case "auto_reminders":
+                    preference.setAutoReminders(ResponseReader.readArray(reader, new ArrayList<AutoReminder>(), this::readAutoReminder));
+                    break;
+                case "terms":
+                    preference.setTerms(readTerm(reader));
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        preferences.setAutoReminders(autoRemindersList);
-
-        JSONObject terms = preference.getJSONObject("terms"); //No I18N
+        return preference;
+    }
 
-        Term termsObj = new Term();
+    /**
+     * Read a term.
+     */
 
-        termsObj.setInvoiceTerms(terms.getString("invoice_terms"));
-        termsObj.setEstimateTerms(terms.getString("estimate_terms"));
-        termsObj.setCreditnoteTerms(terms.getString("creditnote_terms"));
+    private Term readTerm(JsonReader reader) throws Exception {
+
+        Term term = new Term();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "invoice_terms":
+                    term.setInvoiceTerms(reader.nextString());
+                    break;
+                case "estimate_terms":
+                    term.setEstimateTerms(reader.nextString());
+                    break;
+                case "creditnote_terms":
+                    term.setCreditnoteTerms(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        preferences.setTerms(termsObj);
+        return term;
+    }
 
+    /**
+     * Parse the json response and returns the OrganizationList object.
+     *
+     * @param response This json response contains list of organizations details.
+     * @return Returns the OrganizationList object.
+     * @deprecated Use {@link #getOrganizations(Reader)}.
+     */
 
-        return preferences;
+    @Deprecated
+    public OrganizationList getOrganizations(String response) throws Exception {
+        return getOrganizations(new StringReader(response));
+    }
 
+    /**
+     * Parse the json response and returns the OrganizationList object.
+     *
+     * @param response This json response contains list of organizations details.
+     * @return Returns the OrganizationList object.
+     */
 
+    public OrganizationList getOrganizations(Reader response) throws Exception {
+        return getOrganizations(response, null);
     }
 
     /**
      * Parse the json response and returns the OrganizationList object.
      *
      * @param response This json response contains list of organizations details.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
      * @return Returns the OrganizationList object.
      */
 
-    public OrganizationList getOrganizations(String response) throws Exception {
+    public OrganizationList getOrganizations(Reader response, Set<String> fields) throws Exception {
 
         OrganizationList organizationList = new OrganizationList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONArray jsonArray = jsonObject.getJSONArray("organizations"); //No I18N
-
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Organization organization = new Organization();
-
-            organization.setOrganizationId(jsonArray.getJSONObject(i).getString("organization_id"));
-            organization.setName(jsonArray.getJSONObject(i).getString("name"));
-            organization.setContactName(jsonArray.getJSONObject(i).getString("contact_name"));
-            organization.setEmail(jsonArray.getJSONObject(i).getString("email"));
-            organization.setIsDefaultOrg(jsonArray.getJSONObject(i).getBoolean("is_default_org")); //No I18N
-            organization.setPlanType(jsonArray.getJSONObject(i).getInt("plan_type"));
-            organization.setTaxGroupEnabled(jsonArray.getJSONObject(i).getBoolean("tax_group_enabled")); //No I18N
-            organization.setPlanName(jsonArray.getJSONObject(i).getString("plan_name"));
-            organization.setPlanPeriod(jsonArray.getJSONObject(i).getString("plan_period"));
-            organization.setLanguageCode(jsonArray.getJSONObject(i).getString("language_code"));
-            organization.setFiscalYearStartMonth(jsonArray.getJSONObject(i).getInt("fiscal_year_start_month"));
-            organization.setAccountCreatedDate(jsonArray.getJSONObject(i).getString("account_created_date"));
-            organization.setAccountCreatedDateFormatted(jsonArray.getJSONObject(i).getString("account_created_date_formatted"));
-            organization.setTimeZone(jsonArray.getJSONObject(i).getString("time_zone"));
-            organization.setIsOrgActive(jsonArray.getJSONObject(i).getBoolean("is_org_active")); //No I18N
-            organization.setCurrencyId(jsonArray.getJSONObject(i).getString("currency_id"));
-            organization.setCurrencyCode(jsonArray.getJSONObject(i).getString("currency_code"));
-            organization.setCurrencySymbol(jsonArray.getJSONObject(i).getString("currency_symbol"));
-            organization.setCurrencyFormat(jsonArray.getJSONObject(i).getString("currency_format"));
-            organization.setPricePrecision(jsonArray.getJSONObject(i).getInt("price_precision")); //No I18N
-
-            organizationList.add(organization);
-        }
+        ResponseReader.readList(response, "organizations", organizationList, ResponseReader.project(this::readOrganization, fields, ORGANIZATION_FIELDS)); //No I18N
 
         return organizationList;
+
+    }
+
+    /**
+     * Read an organization.
+     */
+
+    private Organization readOrganization(JsonReader reader) throws Exception {
+
+        Organization organization = new Organization();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "organization_id":
+                    organization.setOrganizationId(reader.nextString());
+                    break;
+                case "name":
+                    organization.setName(reader.nextString());
+                    break;
+                case "contact_name":
+                    organization.setContactName(reader.nextString());
+                    break;
+                case "email":
+                    organization.setEmail(reader.nextString());
+                    break;
+                case "is_default_org":
+                    organization.setIsDefaultOrg(reader.nextBoolean());
+                    break;
+                case "plan_type":
+                    organization.setPlanType(reader.nextInt());
+                    break;
+                case "tax_group_enabled":
+                    organization.setTaxGroupEnabled(reader.nextBoolean());
+                    break;
+                case "plan_name":
+                    organization.setPlanName(reader.nextString());
+                    break;
+                case "plan_period":
+                    organization.setPlanPeriod(reader.nextString());
+                    break;
+                case "language_code":
+                    organization.setLanguageCode(reader.nextString());
+                    break;
+                case "fiscal_year_start_month":
+                    organization.setFiscalYearStartMonth(reader.nextInt());
+                    break;
+                case "account_created_date":
+                    organization.setAccountCreatedDate(reader.nextString());
+                    break;
+                case "account_created_date_formatted":
+                    organization.setAccountCreatedDateFormatted(reader.nextString());
+                    break;
+                case "time_zone":
+                    organization.setTimeZone(reader.nextString());
+                    break;
+                case "is_org_active":
+                    organization.setIsOrgActive(reader.nextBoolean());
+                    break;
+                case "currency_id":
+                    organization.setCurrencyId(reader.nextString());
+                    break;
+                case "currency_code":
+                    organization.setCurrencyCode(reader.nextString());
+                    break;
+                case "currency_symbol":
+                    organization.setCurrencySymbol(reader.nextString());
+                    break;
+                case "currency_format":
+                    organization.setCurrencyFormat(reader.nextString());
+                    break;
+                case "price_precision":
+                    organization.setPricePrecision(reader.nextInt());
+                    break;
+                case "date_format":
+                    organization.setDateFormat(reader.nextString());
+                    break;
+                case "field_separator":
+                    organization.setFieldSeparator(reader.nextString());
+                    break;
+                case "industry_type":
+                    organization.setIndustryType(reader.nextString());
+                    break;
+                case "industry_size":
+                    organization.setIndustrySize(reader.nextString());
+                    break;
+                case "company_id_label":
+                    organization.setCompanyIdLabel(reader.nextString());
+                    break;
+                case "company_id_value":
+                    organization.setCompanyIdValue(reader.nextString());
+                    break;
+                case "tax_id_label":
+                    organization.setTaxIdLabel(reader.nextString());
+                    break;
+                case "tax_id_value":
+                    organization.setTaxIdValue(reader.nextString());
+                    break;
+                case "address":
+                    organization.setAddress(readAddress(reader));
+                    break;
+                case "org_address":
+                    organization.setOrgAddress(reader.nextString());
+                    break;
+                case "remit_to_address":
+                    organization.setRemitToAddress(reader.nextString());
+                    break;
+                case "phone":
+                    organization.setPhone(reader.nextString());
+                    break;
+                case "fax":
+                    organization.setFax(reader.nextString());
+                    break;
+                case "website":
+                    organization.setWebsite(reader.nextString());
+                    break;
+                case "tax_basis":
+                    organization.setTaxBasis(reader.nextString());
+                    break;
+                case "value":
+                    organization.setValue(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return organization;
     }
 
     /**
@@ -125,60 +431,71 @@ public class SettingsParser {
      *
      * @param response This json response contains the organization details.
      * @return Returns the Organization object.
+     * @deprecated Use {@link #getOrganization(Reader)}.
      */
 
+    @Deprecated
     public Organization getOrganization(String response) throws Exception {
-        Organization organizations = new Organization();
-
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONObject organization = jsonObject.getJSONObject("organization"); //No I18N
+        return getOrganization(new StringReader(response));
+    }
 
-        organizations.setOrganizationId(organization.getString("organization_id"));
-        organizations.setName(organization.getString("name"));
-        organizations.setIsDefaultOrg(organization.getBoolean("is_default_org")); //No I18N
-        organizations.setAccountCreatedDate(organization.getString("account_created_date"));
-        organizations.setTimeZone(organization.getString("time_zone"));
-        organizations.setLanguageCode(organization.getString("language_code"));
-        organizations.setDateFormat(organization.getString("date_format"));
-        organizations.setFieldSeparator(organization.getString("field_separator"));
-        organizations.setFiscalYearStartMonth(organization.getInt("fiscal_year_start_month"));
-        organizations.setContactName(organization.getString("contact_name"));
-        organizations.setIndustryType(organization.getString("industry_type"));
-        organizations.setIndustrySize(organization.getString("industry_size"));
-        organizations.setCompanyIdLabel(organization.getString("company_id_label"));
-        organizations.setCompanyIdValue(organization.getString("company_id_value"));
-        organizations.setTaxIdLabel(organization.getString("tax_id_label"));
-        organizations.setTaxIdValue(organization.getString("tax_id_value"));
-        organizations.setCurrencyId(organization.getString("currency_id"));
-        organizations.setCurrencyCode(organization.getString("currency_code"));
-        organizations.setCurrencySymbol(organization.getString("currency_symbol"));
-        organizations.setCurrencyFormat(organization.getString("currency_format"));
-        organizations.setPricePrecision(organization.getInt("price_precision")); //No I18N
+    /**
+     * Parse the json response and returns the Organization object.
+     *
+     * @param response This json response contains the organization details.
+     * @return Returns the Organization object.
+     */
 
-        JSONObject address = organization.getJSONObject("address"); //No I18N
+    public Organization getOrganization(Reader response) throws Exception {
+        return getOrganization(response, null);
+    }
 
-        Address addressObj = new Address();
+    /**
+     * Parse the json response and returns the Organization object.
+     *
+     * @param response This json response contains the organization details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Organization object.
+     */
 
-        addressObj.setStreetAddress1(address.getString("street_address1"));
-        addressObj.setStreetAddress2(address.getString("street_address2"));
-        addressObj.setCity(address.getString("city"));
-        addressObj.setState(address.getString("state"));
-        addressObj.setCountry(address.getString("country"));
+    public Organization getOrganization(Reader response, Set<String> fields) throws Exception {
 
-        organizations.setAddress(addressObj);
+        return ResponseReader.readObject(response, "organization", ResponseReader.project(this::readOrganization, fields, ORGANIZATION_FIELDS)); //No I18N
+    }
 
-        organizations.setOrgAddress(organization.getString("org_address"));
-        organizations.setRemitToAddress(organization.getString("remit_to_address"));
-        organizations.setPhone(organization.getString("phone"));
-        organizations.setFax(organization.getString("fax"));
-        organizations.setWebsite(organization.getString("website"));
-        organizations.setEmail(organization.getString("email"));
-        organizations.setTaxBasis(organization.getString("tax_basis"));
-        organizations.setIsOrgActive(organization.getBoolean("is_org_active")); //No I18N
+    /**
+     * Read an address.
+     */
 
-        return organizations;
+    private Address readAddress(JsonReader reader) throws Exception {
+
+        Address address = new Address();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "street_address1":
+                    address.setStreetAddress1(reader.nextString());
+                    break;
+                case "street_address2":
+                    address.setStreetAddress2(reader.nextString());
+                    break;
+                case "city":
+                    address.setCity(reader.nextString());
+                    break;
+                case "state":
+                    address.setState(reader.nextString());
+                    break;
+                case "country":
+                    address.setCountry(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
+        return address;
     }
 
     /**
@@ -186,46 +503,97 @@ public class SettingsParser {
      *
      * @param response This json response contains list of items details.
      * @return Returns the ItemList object.
+     * @deprecated Use {@link #getItems(Reader)}.
      */
 
+    @Deprecated
     public ItemList getItems(String response) throws Exception {
+        return getItems(new StringReader(response));
+    }
 
-        ItemList itemList = new ItemList();
+    /**
+     * Parse the json response and returns the ItemList object.
+     *
+     * @param response This json response contains list of items details.
+     * @return Returns the ItemList object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public ItemList getItems(Reader response) throws Exception {
+        return getItems(response, null);
+    }
 
-        JSONArray jsonArray = jsonObject.getJSONArray("items"); //No I18N
+    /**
+     * Parse the json response and returns the ItemList object.
+     *
+     * @param response This json response contains list of items details.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the ItemList object.
+     */
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Item item = new Item();
+    public ItemList getItems(Reader response, Set<String> fields) throws Exception {
 
-            item.setItemId(jsonArray.getJSONObject(i).getString("item_id"));
-            item.setName(jsonArray.getJSONObject(i).getString("name"));
-            item.setStatus(jsonArray.getJSONObject(i).getString("status"));
-            item.setDescription(jsonArray.getJSONObject(i).getString("description"));
-            item.setRate(jsonArray.getJSONObject(i).getDouble("rate")); //No I18N
-            item.setTaxId(jsonArray.getJSONObject(i).getString("tax_id"));
-            item.setTaxName(jsonArray.getJSONObject(i).getString("tax_name"));
-            item.setTaxPercentage(jsonArray.getJSONObject(i).getDouble("tax_percentage")); //No I18N
+        ItemList itemList = new ItemList();
 
-            itemList.add(item);
-        }
+        itemList.setPageContext(ResponseReader.readList(response, "items", itemList, ResponseReader.project(this::readItem, fields, ITEM_FIELDS))); //No I18N
 
-        PageContext pageContext = new PageContext();
+        return itemList;
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    }
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+    /**
+     * Read an item.
+     */
 
-        itemList.setPageContext(pageContext);
+    private Item readItem(JsonReader reader) throws Exception {
+
+        Item item = new Item();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "item_id":
+                    item.setItemId(reader.nextString());
+                    break;
+                case "name":
+                    item.setName(reader.nextString());
+                    break;
+                case "status":
+                    item.setStatus(reader.nextString());
+                    break;
+                case "description":
+                    item.setDescription(reader.nextString());
+                    break;
+                case "rate":
+                    item.setRate(reader.nextDouble());
+                    break;
+                case "tax_id":
+                    item.setTaxId(reader.nextString());
+                    break;
+                case "tax_name":
+                    item.setTaxName(reader.nextString());
+                    break;
+                case "tax_percentage":
+                    item.setTaxPercentage(reader.nextDouble());
+                    break;
+                case "unit":
+                    item.setUnit(reader.nextString());
+                    break;
+                case "account_id":
+                    item.setAccountId(reader.nextString());
+                    break;
+                case "account_name":
+                    item.setAccountName(reader.nextString());
+                    break;
+                case "tax_type":
+                    item.setTaxType(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        return itemList;
+        return item;
     }
 
     /**
@@ -233,29 +601,36 @@ public class SettingsParser {
      *
      * @param response This json response contains the item details.
      * @return Returns the Item object.
+     * @deprecated Use {@link #getItem(Reader)}.
      */
 
+    @Deprecated
     public Item getItem(String response) throws Exception {
-        Item items = new Item();
+        return getItem(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the Item object.
+     *
+     * @param response This json response contains the item details.
+     * @return Returns the Item object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public Item getItem(Reader response) throws Exception {
+        return getItem(response, null);
+    }
 
-        JSONObject item = jsonObject.getJSONObject("item"); //No I18N
+    /**
+     * Parse the json response and returns the Item object.
+     *
+     * @param response This json response contains the item details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Item object.
+     */
 
-        items.setItemId(item.getString("item_id"));
-        items.setName(item.getString("name"));
-        items.setStatus(item.getString("status"));
-        items.setDescription(item.getString("description"));
-        items.setRate(item.getDouble("rate")); //No I18N
-        items.setUnit(item.getString("unit"));
-        items.setAccountId(item.getString("account_id"));
-        items.setAccountName(item.getString("account_name"));
-        items.setTaxId(item.getString("tax_id"));
-        items.setTaxName(item.getString("tax_name"));
-        items.setTaxPercentage(item.getDouble("tax_percentage")); //No I18N
-        items.setTaxType(item.getString("tax_type"));
+    public Item getItem(Reader response, Set<String> fields) throws Exception {
 
-        return items;
+        return ResponseReader.readObject(response, "item", ResponseReader.project(this::readItem, fields, ITEM_FIELDS)); //No I18N
     }
 
     /**
@@ -263,14 +638,24 @@ public class SettingsParser {
      *
      * @param response This json response contains the success message of post or update or delete requests.
      * @return Returns the success message.
+     * @deprecated Use {@link #getMessage(Reader)}.
      */
 
+    @Deprecated
     public String getMessage(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getMessage(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns a string object.
+     *
+     * @param response This json response contains the success message of post or update or delete requests.
+     * @return Returns the success message.
+     */
 
-        String success = jsonObject.getString("message");
+    public String getMessage(Reader response) throws Exception {
 
-        return success;
+        return ResponseReader.readObject(response, "message", JsonReader::nextString); //No I18N
     }
 
     /**
@@ -278,45 +663,88 @@ public class SettingsParser {
      *
      * @param response This json response contains list of users details.
      * @return Returns the UserList object.
+     * @deprecated Use {@link #getUsers(Reader)}.
      */
 
+    @Deprecated
     public UserList getUsers(String response) throws Exception {
+        return getUsers(new StringReader(response));
+    }
 
-        UserList userList = new UserList();
+    /**
+     * Parse the json response and returns the UserList object.
+     *
+     * @param response This json response contains list of users details.
+     * @return Returns the UserList object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public UserList getUsers(Reader response) throws Exception {
+        return getUsers(response, null);
+    }
 
-        JSONArray jsonArray = jsonObject.getJSONArray("users"); //No I18N
+    /**
+     * Parse the json response and returns the UserList object.
+     *
+     * @param response This json response contains list of users details.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the UserList object.
+     */
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            User user = new User();
+    public UserList getUsers(Reader response, Set<String> fields) throws Exception {
 
-            user.setUserId(jsonArray.getJSONObject(i).getString("user_id"));
-            user.setRoleId(jsonArray.getJSONObject(i).getString("role_id"));
-            user.setName(jsonArray.getJSONObject(i).getString("name"));
-            user.setEmail(jsonArray.getJSONObject(i).getString("email"));
-            user.setUserRole(jsonArray.getJSONObject(i).getString("user_role"));
-            user.setStatus(jsonArray.getJSONObject(i).getString("status"));
-            user.setIsCurrentUser(jsonArray.getJSONObject(i).getBoolean("is_current_user")); //No I18N
+        UserList userList = new UserList();
 
-            userList.add(user);
-        }
+        userList.setPageContext(ResponseReader.readList(response, "users", userList, ResponseReader.project(this::readUser, fields, USER_FIELDS))); //No I18N
 
-        PageContext pageContext = new PageContext();
+        return userList;
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    }
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+    /**
+     * Read an user.
+     */
 
-        userList.setPageContext(pageContext);
+    private User readUser(JsonReader reader) throws Exception {
+
+        User user = new User();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "user_id":
+                    user.setUserId(reader.nextString());
+                    break;
+                case "role_id":
+                    user.setRoleId(reader.nextString());
+                    break;
+                case "name":
+                    user.setName(reader.nextString());
+                    break;
+                case "email":
+                    user.setEmail(reader.nextString());
+                    break;
+                case "user_role":
+                    user.setUserRole(reader.nextString());
+                    break;
+                case "status":
+                    user.setStatus(reader.nextString());
+                    break;
+                case "is_current_user":
+                    user.setIsCurrentUser(reader.nextBoolean());
+                    break;
+                case "created_time":
+                    user.setCreatedTime(reader.nextString());
+                    break;
+                case "email_ids":
+                    user.setEmailIds(ResponseReader.readArray(reader, new ArrayList<EmailId>(), this::readEmailId));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        return userList;
+        return user;
     }
 
     /**
@@ -324,37 +752,62 @@ public class SettingsParser {
      *
      * @param response This json response contains the user details.
      * @return Returns the User object.
+     * @deprecated Use {@link #getUser(Reader)}.
      */
 
+    @Deprecated
     public User getUser(String response) throws Exception {
-        User users = new User();
-
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getUser(new StringReader(response));
+    }
 
-        JSONObject user = jsonObject.getJSONObject("user"); //No I18N
+    /**
+     * Parse the json response and returns the User object.
+     *
+     * @param response This json response contains the user details.
+     * @return Returns the User object.
+     */
 
-        users.setUserId(user.getString("user_id"));
-        users.setName(user.getString("name"));
-        users.setStatus(user.getString("status"));
-        users.setUserRole(user.getString("user_role"));
-        users.setCreatedTime(user.getString("created_time"));
+    public User getUser(Reader response) throws Exception {
+        return getUser(response, null);
+    }
 
-        JSONArray emailIds = user.getJSONArray("email_ids"); //No I18N
+    /**
+     * Parse the json response and returns the User object.
+     *
+     * @param response This json response contains the user details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the User object.
+     */
 
-        List<EmailId> emailIdsList = new ArrayList<EmailId>();
+    public User getUser(Reader response, Set<String> fields) throws Exception {
 
-        for (int i = 0; i < emailIds.length(); i++) {
-            EmailId emailId = new EmailId();
+        return ResponseReader.readObject(response, "user", ResponseReader.project(this::readUser, fields, USER_FIELDS)); //No I18N
+    }
 
-            emailId.setIsSelected(emailIds.getJSONObject(i).getBoolean("is_selected")); //No I18N
-            emailId.setEmail(emailIds.getJSONObject(i).getString("email"));
+    /**
+     * Read an email id.
+     */
 
-            emailIdsList.add(i, emailId);
+    private EmailId readEmailId(JsonReader reader) throws Exception {
+
+        EmailId emailId = new EmailId();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "is_selected":
+                    emailId.setIsSelected(reader.nextBoolean());
+                    break;
+                case "email":
+                    emailId.setEmail(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        users.setEmailIds(emailIdsList);
-
-        return users;
+        return emailId;
     }
 
     /**
@@ -362,37 +815,113 @@ public class SettingsParser {
      *
      * @param response This json response contains the invoice setting details.
      * @return Returns the InvoiceSetting object.
+     * @deprecated Use {@link #getInvoiceSettings(Reader)}.
      */
 
+    @Deprecated
     public InvoiceSetting getInvoiceSettings(String response) throws Exception {
-        InvoiceSetting invoiceSettings = new InvoiceSetting();
+        return getInvoiceSettings(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the InvoiceSetting object.
+     *
+     * @param response This json response contains the invoice setting details.
+     * @return Returns the InvoiceSetting object.
+     */
+
+    public InvoiceSetting getInvoiceSettings(Reader response) throws Exception {
+        return getInvoiceSettings(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the InvoiceSetting object.
+     *
+     * @param response This json response contains the invoice setting details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the InvoiceSetting object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public InvoiceSetting getInvoiceSettings(Reader response, Set<String> fields) throws Exception {
 
-        JSONObject invoiceSetting = jsonObject.getJSONObject("invoice_settings"); //No I18N
+        return ResponseReader.readObject(response, "invoice_settings", ResponseReader.project(this::readInvoiceSetting, fields, INVOICE_SETTING_FIELDS)); //No I18N
+    }
 
-        invoiceSettings.setAutoGenerate(invoiceSetting.getBoolean("auto_generate")); //No I18N
-        invoiceSettings.setPrefixString(invoiceSetting.getString("prefix_string"));
-        invoiceSettings.setStartAt(invoiceSetting.getLong("start_at")); //No I18N
-        invoiceSettings.setNextNumber(invoiceSetting.getString("next_number"));
-        invoiceSettings.setQuantityPrecision(invoiceSetting.getInt("quantity_precision")); //No I18N
-        invoiceSettings.setDiscountType(invoiceSetting.getString("discount_type"));
-        invoiceSettings.setIsDiscountBeforeTax(invoiceSetting.getBoolean("is_discount_before_tax")); //No I18N
-        invoiceSettings.setReferenceText(invoiceSetting.getString("reference_text"));
-        invoiceSettings.setNotes(invoiceSetting.getString("notes"));
-        invoiceSettings.setTerms(invoiceSetting.getString("terms"));
-        invoiceSettings.setIsShippingChargeRequired(invoiceSetting.getBoolean("is_shipping_charge_required"));  //No I18N
-        invoiceSettings.setIsAdjustmentRequired(invoiceSetting.getBoolean("is_adjustment_required"));        //No I18N
-        invoiceSettings.setIsOpenInvoiceEditable(invoiceSetting.getBoolean("is_open_invoice_editable"));    //No I18N
-        invoiceSettings.setWarnConvertToOpen(invoiceSetting.getBoolean("warn_convert_to_open"));        //No I18N
-        invoiceSettings.setWarnCreateCreditnotes(invoiceSetting.getBoolean("warn_create_creditnotes"));        //No I18N
-        invoiceSettings.setAttachExpenseReceiptToInvoice(invoiceSetting.getString("attach_expense_receipt_to_invoice"));
-        invoiceSettings.setInvoiceItemType(invoiceSetting.getString("invoice_item_type"));
-        invoiceSettings.setIsShowInvoiceSetup(invoiceSetting.getBoolean("is_show_invoice_setup"));        //No I18N
-        invoiceSettings.setIsSalesPersonRequired(invoiceSetting.getBoolean("is_sales_person_required"));    //No I18N
+    /**
+     * Read an invoice setting.
+     */
 
-        return invoiceSettings;
+    private InvoiceSetting readInvoiceSetting(JsonReader reader) throws Exception {
+
+        InvoiceSetting invoiceSetting = new InvoiceSetting();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "auto_generate":
+                    invoiceSetting.setAutoGenerate(reader.nextBoolean());
+                    break;
+                case "prefix_string":
+                    invoiceSetting.setPrefixString(reader.nextString());
+                    break;
+                case "start_at":
+                    invoiceSetting.setStartAt(reader.nextLong());
+                    break;
+                case "next_number":
+                    invoiceSetting.setNextNumber(reader.nextString());
+                    break;
+                case "quantity_precision":
+                    invoiceSetting.setQuantityPrecision(reader.nextInt());
+                    break;
+                case "discount_type":
+                    invoiceSetting.setDiscountType(reader.nextString());
+                    break;
+                case "is_discount_before_tax":
+                    invoiceSetting.setIsDiscountBeforeTax(reader.nextBoolean());
+                    break;
+                case "reference_text":
+                    invoiceSetting.setReferenceText(reader.nextString());
+                    break;
+                case "notes":
+                    invoiceSetting.setNotes(reader.nextString());
+                    break;
+                case "terms":
+                    invoiceSetting.setTerms(reader.nextString());
+                    break;
+                case "is_shipping_charge_required":
+                    invoiceSetting.setIsShippingChargeRequired(reader.nextBoolean());
+                    break;
+                case "is_adjustment_required":
+                    invoiceSetting.setIsAdjustmentRequired(reader.nextBoolean());
+                    break;
+                case "is_open_invoice_editable":
+                    invoiceSetting.setIsOpenInvoiceEditable(reader.nextBoolean());
+                    break;
+                case "warn_convert_to_open":
+                    invoiceSetting.setWarnConvertToOpen(reader.nextBoolean());
+                    break;
+                case "warn_create_creditnotes":
+                    invoiceSetting.setWarnCreateCreditnotes(reader.nextBoolean());
+                    break;
+                case "attach_expense_receipt_to_invoice":
+                    invoiceSetting.setAttachExpenseReceiptToInvoice(reader.nextString());
+                    break;
+                case "invoice_item_type":
+                    invoiceSetting.setInvoiceItemType(reader.nextString());
+                    break;
+                case "is_show_invoice_setup":
+                    invoiceSetting.setIsShowInvoiceSetup(reader.nextBoolean());
+                    break;
+                case "is_sales_person_required":
+                    invoiceSetting.setIsSalesPersonRequired(reader.nextBoolean());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
+        return invoiceSetting;
     }
 
     /**
@@ -400,17 +929,60 @@ public class SettingsParser {
      *
      * @param response This json response contains the notes and terms details for invoice, estimate and creditnote settings.
      * @return Returns the NotesAndTerms object.
+     * @deprecated Use {@link #getNotesAndTerms(Reader)}.
      */
 
+    @Deprecated
     public NotesAndTerms getNotesAndTerms(String response) throws Exception {
-        NotesAndTerms notesAndTerms = new NotesAndTerms();
+        return getNotesAndTerms(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the NotesAndTerms object.
+     *
+     * @param response This json response contains the notes and terms details for invoice, estimate and creditnote settings.
+     * @return Returns the NotesAndTerms object.
+     */
+
+    public NotesAndTerms getNotesAndTerms(Reader response) throws Exception {
+        return getNotesAndTerms(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the NotesAndTerms object.
+     *
+     * @param response This json response contains the notes and terms details for invoice, estimate and creditnote settings.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the NotesAndTerms object.
+     */
+
+    public NotesAndTerms getNotesAndTerms(Reader response, Set<String> fields) throws Exception {
+
+        return ResponseReader.readObject(response, "notes_and_terms", ResponseReader.project(this::readNotesAndTerms, fields, NOTES_AND_TERMS_FIELDS)); //No I18N
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Read a notes and terms.
+     */
 
-        JSONObject notesAndTerm = jsonObject.getJSONObject("notes_and_terms"); //No I18N
+    private NotesAndTerms readNotesAndTerms(JsonReader reader) throws Exception {
 
-        notesAndTerms.setNotes(notesAndTerm.getString("notes"));
-        notesAndTerms.setTerms(notesAndTerm.getString("terms"));
+        NotesAndTerms notesAndTerms = new NotesAndTerms();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "notes":
+                    notesAndTerms.setNotes(reader.nextString());
+                    break;
+                case "terms":
+                    notesAndTerms.setTerms(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
         return notesAndTerms;
     }
@@ -420,31 +992,98 @@ public class SettingsParser {
      *
      * @param response This json response contains the estimate setting details.
      * @return Returns the EstimateSetting object.
+     * @deprecated Use {@link #getEstimateSettings(Reader)}.
      */
 
+    @Deprecated
     public EstimateSetting getEstimateSettings(String response) throws Exception {
-        EstimateSetting estimateSettings = new EstimateSetting();
+        return getEstimateSettings(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the EstimateSetting object.
+     *
+     * @param response This json response contains the estimate setting details.
+     * @return Returns the EstimateSetting object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public EstimateSetting getEstimateSettings(Reader response) throws Exception {
+        return getEstimateSettings(response, null);
+    }
 
-        JSONObject estimateSetting = jsonObject.getJSONObject("estimate_settings"); //No I18N
+    /**
+     * Parse the json response and returns the EstimateSetting object.
+     *
+     * @param response This json response contains the estimate setting details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the EstimateSetting object.
+     */
 
-        estimateSettings.setAutoGenerate(estimateSetting.getBoolean("auto_generate")); //No I18N
-        estimateSettings.setPrefixString(estimateSetting.getString("prefix_string"));
-        estimateSettings.setStartAt(estimateSetting.getLong("start_at")); //No I18N
-        estimateSettings.setNextNumber(estimateSetting.getString("next_number"));
-        estimateSettings.setQuantityPrecision(estimateSetting.getInt("quantity_precision")); //No I18N
-        estimateSettings.setDiscountType(estimateSetting.getString("discount_type"));
-        estimateSettings.setIsDiscountBeforeTax(estimateSetting.getBoolean("is_discount_before_tax")); //No I18N
-        estimateSettings.setReferenceText(estimateSetting.getString("reference_text"));
-        estimateSettings.setNotes(estimateSetting.getString("notes"));
-        estimateSettings.setTerms(estimateSetting.getString("terms"));
-        estimateSettings.setTermsToInvoice(estimateSetting.getBoolean("terms_to_invoice"));            //No I18N
-        estimateSettings.setNotesToInvoice(estimateSetting.getBoolean("notes_to_invoice"));            //No I18N
-        estimateSettings.setWarnEstimateToInvoice(estimateSetting.getBoolean("warn_estimate_to_invoice"));    //No I18N
-        estimateSettings.setIsSalesPersonRequired(estimateSetting.getBoolean("is_sales_person_required"));    //No I18N
+    public EstimateSetting getEstimateSettings(Reader response, Set<String> fields) throws Exception {
 
-        return estimateSettings;
+        return ResponseReader.readObject(response, "estimate_settings", ResponseReader.project(this::readEstimateSetting, fields, ESTIMATE_SETTING_FIELDS)); //No I18N
+    }
+
+    /**
+     * Read an estimate setting.
+     */
+
+    private EstimateSetting readEstimateSetting(JsonReader reader) throws Exception {
+
+        EstimateSetting estimateSetting = new EstimateSetting();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "auto_generate":
+                    estimateSetting.setAutoGenerate(reader.nextBoolean());
+                    break;
+                case "prefix_string":
+                    estimateSetting.setPrefixString(reader.nextString());
+                    break;
+                case "start_at":
+                    estimateSetting.setStartAt(reader.nextLong());
+                    break;
+                case "next_number":
+                    estimateSetting.setNextNumber(reader.nextString());
+                    break;
+                case "quantity_precision":
+                    estimateSetting.setQuantityPrecision(reader.nextInt());
+                    break;
+                case "discount_type":
+                    estimateSetting.setDiscountType(reader.nextString());
+                    break;
+                case "is_discount_before_tax":
+                    estimateSetting.setIsDiscountBeforeTax(reader.nextBoolean());
+                    break;
+                case "reference_text":
+                    estimateSetting.setReferenceText(reader.nextString());
+                    break;
+                case "notes":
+                    estimateSetting.setNotes(reader.nextString());
+                    break;
+                case "terms":
+                    estimateSetting.setTerms(reader.nextString());
+                    break;
+                case "terms_to_invoice":
+                    estimateSetting.setTermsToInvoice(reader.nextBoolean());
+                    break;
+                case "notes_to_invoice":
+                    estimateSetting.setNotesToInvoice(reader.nextBoolean());
+                    break;
+                case "warn_estimate_to_invoice":
+                    estimateSetting.setWarnEstimateToInvoice(reader.nextBoolean());
+                    break;
+                case "is_sales_person_required":
+                    estimateSetting.setIsSalesPersonRequired(reader.nextBoolean());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return estimateSetting;
     }
 
     /**
@@ -452,122 +1091,277 @@ public class SettingsParser {
      *
      * @param response This json response contains the creditnote setting details.
      * @return Returns the CreditnoteSetting object.
+     * @deprecated Use {@link #getCreditnoteSettings(Reader)}.
      */
 
+    @Deprecated
     public CreditnoteSetting getCreditnoteSettings(String response) throws Exception {
-        CreditnoteSetting creditnoteSettings = new CreditnoteSetting();
+        return getCreditnoteSettings(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the CreditnoteSetting object.
+     *
+     * @param response This json response contains the creditnote setting details.
+     * @return Returns the CreditnoteSetting object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public CreditnoteSetting getCreditnoteSettings(Reader response) throws Exception {
+        return getCreditnoteSettings(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the CreditnoteSetting object.
+     *
+     * @param response This json response contains the creditnote setting details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the CreditnoteSetting object.
+     */
+
+    public CreditnoteSetting getCreditnoteSettings(Reader response, Set<String> fields) throws Exception {
+
+        return ResponseReader.readObject(response, "creditnote_settings", ResponseReader.project(this::readCreditnoteSetting, fields, CREDITNOTE_SETTING_FIELDS)); //No I18N
+    }
+
+    /**
+     * Read a creditnote setting.
+     */
+
+    private CreditnoteSetting readCreditnoteSetting(JsonReader reader) throws Exception {
+
+        CreditnoteSetting creditnoteSetting = new CreditnoteSetting();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "auto_generate":
+                    creditnoteSetting.setAutoGenerate(reader.nextBoolean());
+                    break;
+                case "prefix_string":
+                    creditnoteSetting.setPrefixString(reader.nextString());
+                    break;
+                case "reference_text":
+                    creditnoteSetting.setReferenceText(reader.nextString());
+                    break;
+                case "next_number":
+                    creditnoteSetting.setNextNumber(reader.nextString());
+                    break;
+                case "notes":
+                    creditnoteSetting.setNotes(reader.nextString());
+                    break;
+                case "terms":
+                    creditnoteSetting.setTerms(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return creditnoteSetting;
+    }
+
+    /**
+     * Parse the json response and returns the CurrencyList object.
+     *
+     * @param response This json response contains list of currencies details.
+     * @return Returns the CurrencyList object.
+     * @deprecated Use {@link #getCurrencies(Reader)}.
+     */
 
-        JSONObject creditnoteSetting = jsonObject.getJSONObject("creditnote_settings");    //No I18N
+    @Deprecated
+    public CurrencyList getCurrencies(String response) throws Exception {
+        return getCurrencies(new StringReader(response));
+    }
 
-        creditnoteSettings.setAutoGenerate(creditnoteSetting.getBoolean("auto_generate")); //No I18N
-        creditnoteSettings.setPrefixString(creditnoteSetting.getString("prefix_string"));
-        creditnoteSettings.setReferenceText(creditnoteSetting.getString("reference_text"));
-        creditnoteSettings.setNextNumber(creditnoteSetting.getString("next_number"));
-        creditnoteSettings.setNotes(creditnoteSetting.getString("notes"));
-        creditnoteSettings.setTerms(creditnoteSetting.getString("terms"));
+    /**
+     * Parse the json response and returns the CurrencyList object.
+     *
+     * @param response This json response contains list of currencies details.
+     * @return Returns the CurrencyList object.
+     */
 
-        return creditnoteSettings;
+    public CurrencyList getCurrencies(Reader response) throws Exception {
+        return getCurrencies(response, null);
     }
 
     /**
      * Parse the json response and returns the CurrencyList object.
      *
      * @param response This json response contains list of currencies details.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
      * @return Returns the CurrencyList object.
      */
 
-    public CurrencyList getCurrencies(String response) throws Exception {
+    public CurrencyList getCurrencies(Reader response, Set<String> fields) throws Exception {
+
         CurrencyList currencyList = new CurrencyList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        currencyList.setPageContext(ResponseReader.readList(response, "currencies", currencyList, ResponseReader.project(this::readCurrency, fields, CURRENCY_FIELDS))); //No I18N
 
-        JSONArray jsonArray = jsonObject.getJSONArray("currencies"); //No I18N
+        return currencyList;
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Currency currency = new Currency();
+    }
 
-            currency.setCurrencyId(jsonArray.getJSONObject(i).getString("currency_id"));
-            currency.setCurrencyCode(jsonArray.getJSONObject(i).getString("currency_code"));
-            currency.setCurrencyName(jsonArray.getJSONObject(i).getString("currency_name"));
-            currency.setCurrencySymbol(jsonArray.getJSONObject(i).getString("currency_symbol"));
-            currency.setPricePrecision(jsonArray.getJSONObject(i).getInt("price_precision"));    //No I18N
-            currency.setCurrencyFormat(jsonArray.getJSONObject(i).getString("currency_format"));
-            currency.setIsBaseCurrency(jsonArray.getJSONObject(i).getBoolean("is_base_currency"));    //No I18N
-            currency.setExchangeRate(jsonArray.getJSONObject(i).getDouble("exchange_rate"));    //No I18N
-            currency.setEffectiveDate(jsonArray.getJSONObject(i).getString("effective_date"));
+    /**
+     * Read a currency of the list.
+     */
 
-            currencyList.add(currency);
+    private Currency readCurrency(JsonReader reader) throws Exception {
+
+        Currency currency = new Currency();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "currency_id":
+                    currency.setCurrencyId(reader.nextString());
+                    break;
+                case "currency_code":
+                    currency.setCurrencyCode(reader.nextString());
+                    break;
+                case "currency_name":
+                    currency.setCurrencyName(reader.nextString());
+                    break;
+                case "currency_symbol":
+                    currency.setCurrencySymbol(reader.nextString());
+                    break;
+                case "price_precision":
+                    currency.setPricePrecision(reader.nextInt());
+                    break;
+                case "currency_format":
+                    currency.setCurrencyFormat(reader.nextString());
+                    break;
+                case "is_base_currency":
+                    currency.setIsBaseCurrency(reader.nextBoolean());
+                    break;
+                case "exchange_rate":
+                    currency.setExchangeRate(reader.nextDouble());
+                    break;
+                case "effective_date":
+                    currency.setEffectiveDate(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        PageContext pageContext = new PageContext();
+        return currency;
+    }
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    /**
+     * Parse the json response and returns the Currency object.
+     *
+     * @param response This json response contains the currency details.
+     * @return Returns the Currency object.
+     * @deprecated Use {@link #getCurrency(Reader)}.
+     */
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page"));    //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
+    @Deprecated
+    public Currency getCurrency(String response) throws Exception {
+        return getCurrency(new StringReader(response));
+    }
 
-        currencyList.setPageContext(pageContext);
+    /**
+     * Parse the json response and returns the Currency object.
+     *
+     * @param response This json response contains the currency details.
+     * @return Returns the Currency object.
+     */
 
-        return currencyList;
+    public Currency getCurrency(Reader response) throws Exception {
+        return getCurrency(response, null);
     }
 
     /**
      * Parse the json response and returns the Currency object.
      *
      * @param response This json response contains the currency details.
+     * @param fields   Names of the fields to read, or null to read every field.
      * @return Returns the Currency object.
      */
 
-    public Currency getCurrency(String response) throws Exception {
-        Currency currencies = new Currency();
+    public Currency getCurrency(Reader response, Set<String> fields) throws Exception {
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return ResponseReader.readObject(response, "currency", ResponseReader.project(this::readCurrency, fields, CURRENCY_FIELDS)); //No I18N
+    }
 
-        JSONObject currency = jsonObject.getJSONObject("currency"); //No I18N
+    /**
+     * Parse the json response and returns the ExchangeRateList object.
+     *
+     * @param response This json response contains list of exchange rates details.
+     * @return Returns the ExchangeRateList object.
+     * @deprecated Use {@link #getExchangeRates(Reader)}.
+     */
 
-        currencies.setCurrencyId(currency.getString("currency_id"));
-        currencies.setCurrencyCode(currency.getString("currency_code"));
-        currencies.setCurrencyName(currency.getString("currency_name"));
-        currencies.setCurrencySymbol(currency.getString("currency_symbol"));
-        currencies.setPricePrecision(currency.getInt("price_precision"));    //No I18N
-        currencies.setCurrencyFormat(currency.getString("currency_format"));
-        currencies.setIsBaseCurrency(currency.getBoolean("is_base_currency"));    //No I18N
+    @Deprecated
+    public ExchangeRateList getExchangeRates(String response) throws Exception {
+        return getExchangeRates(new StringReader(response));
+    }
 
-        return currencies;
+    /**
+     * Parse the json response and returns the ExchangeRateList object.
+     *
+     * @param response This json response contains list of exchange rates details.
+     * @return Returns the ExchangeRateList object.
+     */
 
+    public ExchangeRateList getExchangeRates(Reader response) throws Exception {
+        return getExchangeRates(response, null);
     }
 
     /**
      * Parse the json response and returns the ExchangeRateList object.
      *
      * @param response This json response contains list of exchange rates details.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
      * @return Returns the ExchangeRateList object.
      */
 
-    public ExchangeRateList getExchangeRates(String response) throws Exception {
+    public ExchangeRateList getExchangeRates(Reader response, Set<String> fields) throws Exception {
+
         ExchangeRateList exchangeRateList = new ExchangeRateList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        ResponseReader.readList(response, "exchange_rates", exchangeRateList, ResponseReader.project(this::readExchangeRate, fields, EXCHANGE_RATE_FIELDS)); //No I18N
 
-        JSONArray jsonArray = jsonObject.getJSONArray("exchange_rates"); //No I18N
+        return exchangeRateList;
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            ExchangeRate exchangeRate = new ExchangeRate();
+    }
 
-            exchangeRate.setExchangeRateId(jsonArray.getJSONObject(i).getString("exchange_rate_id"));
-            exchangeRate.setCurrencyId(jsonArray.getJSONObject(i).getString("currency_id"));
-            exchangeRate.setCurrencyCode(jsonArray.getJSONObject(i).getString("currency_code"));
-            exchangeRate.setEffectiveDate(jsonArray.getJSONObject(i).getString("effective_date"));
-            exchangeRate.setRate(jsonArray.getJSONObject(i).getDouble("rate")); //No I18N
+    /**
+     * Read an exchange rate of the list.
+     */
 
-            exchangeRateList.add(exchangeRate);
+    private ExchangeRate readExchangeRate(JsonReader reader) throws Exception {
+
+        ExchangeRate exchangeRate = new ExchangeRate();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "exchange_rate_id":
+                    exchangeRate.setExchangeRateId(reader.nextString());
+                    break;
+                case "currency_id":
+                    exchangeRate.setCurrencyId(reader.nextString());
+                    break;
+                case "currency_code":
+                    exchangeRate.setCurrencyCode(reader.nextString());
+                    break;
+                case "effective_date":
+                    exchangeRate.setEffectiveDate(reader.nextString());
+                    break;
+                case "rate":
+                    exchangeRate.setRate(reader.nextDouble());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return exchangeRateList;
+        return exchangeRate;
     }
 
     /**
@@ -575,23 +1369,36 @@ public class SettingsParser {
      *
      * @param response This json response contains the exchange rate details.
      * @return Returns the ExchangeRate object.
+     * @deprecated Use {@link #getExchangeRate(Reader)}.
      */
 
+    @Deprecated
     public ExchangeRate getExchangeRate(String response) throws Exception {
-        ExchangeRate exchangeRates = new ExchangeRate();
+        return getExchangeRate(new StringReader(response));
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the json response and returns the ExchangeRate object.
+     *
+     * @param response This json response contains the exchange rate details.
+     * @return Returns the ExchangeRate object.
+     */
 
-        JSONObject exchangeRate = jsonObject.getJSONObject("exchange_rate"); //No I18N
+    public ExchangeRate getExchangeRate(Reader response) throws Exception {
+        return getExchangeRate(response, null);
+    }
 
-        exchangeRates.setExchangeRateId(exchangeRate.getString("exchange_rate_id"));
-        exchangeRates.setCurrencyId(exchangeRate.getString("currency_id"));
-        exchangeRates.setCurrencyCode(exchangeRate.getString("currency_code"));
-        exchangeRates.setEffectiveDate(exchangeRate.getString("effective_date"));
-        exchangeRates.setRate(exchangeRate.getDouble("rate")); //No I18N
+    /**
+     * Parse the json response and returns the ExchangeRate object.
+     *
+     * @param response This json response contains the exchange rate details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the ExchangeRate object.
+     */
 
+    public ExchangeRate getExchangeRate(Reader response, Set<String> fields) throws Exception {
 
-        return exchangeRates;
+        return ResponseReader.readObject(response, "exchange_rate", ResponseReader.project(this::readExchangeRate, fields, EXCHANGE_RATE_FIELDS)); //No I18N
     }
 
     /**
@@ -599,41 +1406,73 @@ public class SettingsParser {
      *
      * @param response This json response contains list of taxes details.
      * @return Returns the TaxList object.
+     * @deprecated Use {@link #getTaxes(Reader)}.
      */
 
+    @Deprecated
     public TaxList getTaxes(String response) throws Exception {
+        return getTaxes(new StringReader(response));
+    }
 
-        TaxList taxList = new TaxList();
+    /**
+     * Parse the json response and returns the TaxList object.
+     *
+     * @param response This json response contains list of taxes details.
+     * @return Returns the TaxList object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public TaxList getTaxes(Reader response) throws Exception {
+        return getTaxes(response, null);
+    }
 
-        JSONArray jsonArray = jsonObject.getJSONArray("taxes"); //No I18N
+    /**
+     * Parse the json response and returns the TaxList object.
+     *
+     * @param response This json response contains list of taxes details.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the TaxList object.
+     */
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            Tax tax = new Tax();
+    public TaxList getTaxes(Reader response, Set<String> fields) throws Exception {
 
-            tax.setTaxId(jsonArray.getJSONObject(i).getString("tax_id"));
-            tax.setTaxName(jsonArray.getJSONObject(i).getString("tax_name"));
-            tax.setTaxPercentage(jsonArray.getJSONObject(i).getDouble("tax_percentage")); //No I18N
-            tax.setTaxType(jsonArray.getJSONObject(i).getString("tax_type"));
+        TaxList taxList = new TaxList();
 
-            taxList.add(tax);
-        }
+        taxList.setPageContext(ResponseReader.readList(response, "taxes", taxList, ResponseReader.project(this::readTax, fields, TAX_FIELDS))); //No I18N
 
-        PageContext pageContext = new PageContext();
+        return taxList;
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+    }
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+    /**
+     * Read a tax of the list.
+     */
 
-        taxList.setPageContext(pageContext);
+    private Tax readTax(JsonReader reader) throws Exception {
+
+        Tax tax = new Tax();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "tax_id":
+                    tax.setTaxId(reader.nextString());
+                    break;
+                case "tax_name":
+                    tax.setTaxName(reader.nextString());
+                    break;
+                case "tax_percentage":
+                    tax.setTaxPercentage(reader.nextDouble());
+                    break;
+                case "tax_type":
+                    tax.setTaxType(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-        return taxList;
+        return tax;
     }
 
     /**
@@ -641,21 +1480,36 @@ public class SettingsParser {
      *
      * @param response This json response contains the tax details.
      * @return Returns the Tax object.
+     * @deprecated Use {@link #getTax(Reader)}.
      */
 
+    @Deprecated
     public Tax getTax(String response) throws Exception {
-        Tax taxes = new Tax();
+        return getTax(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the Tax object.
+     *
+     * @param response This json response contains the tax details.
+     * @return Returns the Tax object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public Tax getTax(Reader response) throws Exception {
+        return getTax(response, null);
+    }
 
-        JSONObject tax = jsonObject.getJSONObject("tax"); //No I18N
+    /**
+     * Parse the json response and returns the Tax object.
+     *
+     * @param response This json response contains the tax details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Tax object.
+     */
 
-        taxes.setTaxId(tax.getString("tax_id"));
-        taxes.setTaxName(tax.getString("tax_name"));
-        taxes.setTaxPercentage(tax.getDouble("tax_percentage")); //No I18N
-        taxes.setTaxType(tax.getString("tax_type"));
+    public Tax getTax(Reader response, Set<String> fields) throws Exception {
 
-        return taxes;
+        return ResponseReader.readObject(response, "tax", ResponseReader.project(this::readTax, fields, TAX_FIELDS)); //No I18N
     }
 
     /**
@@ -663,35 +1517,66 @@ public class SettingsParser {
      *
      * @param response This json response contains the tax group details.
      * @return Returns the TaxGroup object.
+     * @deprecated Use {@link #getTaxGroup(Reader)}.
      */
 
+    @Deprecated
     public TaxGroup getTaxGroup(String response) throws Exception {
-        TaxGroup taxGroup = new TaxGroup();
+        return getTaxGroup(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the TaxGroup object.
+     *
+     * @param response This json response contains the tax group details.
+     * @return Returns the TaxGroup object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public TaxGroup getTaxGroup(Reader response) throws Exception {
+        return getTaxGroup(response, null);
+    }
 
-        JSONObject taxgroup = jsonObject.getJSONObject("tax_group"); //No I18N
+    /**
+     * Parse the json response and returns the TaxGroup object.
+     *
+     * @param response This json response contains the tax group details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the TaxGroup object.
+     */
 
-        taxGroup.setTaxGroupId(taxgroup.getString("tax_group_id"));
-        taxGroup.setTaxGroupName(taxgroup.getString("tax_group_name"));
-        taxGroup.setTaxGroupPercentage(taxgroup.getDouble("tax_group_percentage")); //No I18N
+    public TaxGroup getTaxGroup(Reader response, Set<String> fields) throws Exception {
 
-        JSONArray taxes = taxgroup.getJSONArray("taxes"); //No I18N
+        return ResponseReader.readObject(response, "tax_group", ResponseReader.project(this::readTaxGroup, fields, TAX_GROUP_FIELDS)); //No I18N
+    }
 
-        List<Tax> taxesList = new ArrayList<Tax>();
+    /**
+     * Read a tax group.
+     */
 
-        for (int i = 0; i < taxes.length(); i++) {
-            Tax tax = new Tax();
+    private TaxGroup readTaxGroup(JsonReader reader) throws Exception {
 
-            tax.setTaxId(taxes.getJSONObject(i).getString("tax_id"));
-            tax.setTaxName(taxes.getJSONObject(i).getString("tax_name"));
-            tax.setTaxPercentage(taxes.getJSONObject(i).getDouble("tax_percentage")); //No I18N
-            tax.setTaxType(taxes.getJSONObject(i).getString("tax_type"));
+        TaxGroup taxGroup = new TaxGroup();
 
-            taxesList.add(i, tax);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "tax_group_id":
+                    taxGroup.setTaxGroupId(reader.nextString());
+                    break;
+                case "tax_group_name":
+                    taxGroup.setTaxGroupName(reader.nextString());
+                    break;
+                case "tax_group_percentage":
+                    taxGroup.setTaxGroupPercentage(reader.nextDouble());
+                    break;
+                case "taxes":
+                    taxGroup.setTaxes(ResponseReader.readArray(reader, new ArrayList<Tax>(), this::readTax));
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
-
-        taxGroup.setTaxes(taxesList);
+        reader.endObject();
 
         return taxGroup;
     }
@@ -701,75 +1586,205 @@ public class SettingsParser {
      *
      * @param response This json response contains the opening balance details.
      * @return Returns the OpeningBalance object.
+     * @deprecated Use {@link #getOpeningBalance(Reader)}.
      */
 
+    @Deprecated
     public OpeningBalance getOpeningBalance(String response) throws Exception {
-        OpeningBalance openingBalance = new OpeningBalance();
+        return getOpeningBalance(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the OpeningBalance object.
+     *
+     * @param response This json response contains the opening balance details.
+     * @return Returns the OpeningBalance object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public OpeningBalance getOpeningBalance(Reader response) throws Exception {
+        return getOpeningBalance(response, null);
+    }
 
-        JSONObject openBalance = jsonObject.getJSONObject("opening_balance"); //No I18N
+    /**
+     * Parse the json response and returns the OpeningBalance object.
+     *
+     * @param response This json response contains the opening balance details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the OpeningBalance object.
+     */
 
-        openingBalance.setOpeningBalanceId(openBalance.getString("opening_balance_id"));
-        openingBalance.setDate(openBalance.getString("date"));
+    public OpeningBalance getOpeningBalance(Reader response, Set<String> fields) throws Exception {
 
-        JSONArray accounts = openBalance.getJSONArray("accounts"); //No I18N
+        return ResponseReader.readObject(response, "opening_balance", ResponseReader.project(this::readOpeningBalance, fields, OPENING_BALANCE_FIELDS)); //No I18N
+    }
 
-        List<Account> accountsList = new ArrayList<Account>();
+    /**
+     * Read an opening balance.
+     */
 
-        for (int i = 0; i < accounts.length(); i++) {
-            Account account = new Account();
+    private OpeningBalance readOpeningBalance(JsonReader reader) throws Exception {
 
-            account.setAccountSplitId(accounts.getJSONObject(i).getString("account_split_id"));
-            account.setAccountId(accounts.getJSONObject(i).getString("account_id"));
-            account.setAccountName(accounts.getJSONObject(i).getString("account_name"));
-            account.setDebitOrCredit(accounts.getJSONObject(i).getString("debit_or_credit"));
-            account.setExchangeRate(accounts.getJSONObject(i).getDouble("exchange_rate"));  //No I18N
-            account.setCurrencyId(accounts.getJSONObject(i).getString("currency_id"));
-            account.setCurrencyCode(accounts.getJSONObject(i).getString("currency_code"));
-            account.setBcyAmount(accounts.getJSONObject(i).getDouble("bcy_amount"));    //No I18N
-            account.setAmount(accounts.getJSONObject(i).getDouble("amount"));        //No I18N
+        OpeningBalance openingBalance = new OpeningBalance();
 
-            accountsList.add(i, account);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "opening_balance_id":
+                    openingBalance.setOpeningBalanceId(reader.nextString());
+                    break;
+                case "date":
+                    openingBalance.setDate(reader.nextString());
+                    break;
+                case "accounts":
+                    openingBalance.setAccounts(ResponseReader.readArray(reader, new ArrayList<Account>(), this::readAccount));
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
-
-        openingBalance.setAccounts(accountsList);
+        reader.endObject();
 
         return openingBalance;
     }
 
+    /**
+     * Read an account.
+     */
+
+    private Account readAccount(JsonReader reader) throws Exception {
+
+        Account account = new Account();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "account_split_id":
+                    account.setAccountSplitId(reader.nextString());
+                    break;
+                case "account_id":
+                    account.setAccountId(reader.nextString());
+                    break;
+                case "account_name":
+                    account.setAccountName(reader.nextString());
+                    break;
+                case "debit_or_credit":
+                    account.setDebitOrCredit(reader.nextString());
+                    break;
+                case "exchange_rate":
+                    account.setExchangeRate(reader.nextDouble());
+                    break;
+                case "currency_id":
+                    account.setCurrencyId(reader.nextString());
+                    break;
+                case "currency_code":
+                    account.setCurrencyCode(reader.nextString());
+                    break;
+                case "bcy_amount":
+                    account.setBcyAmount(reader.nextDouble());
+                    break;
+                case "amount":
+                    account.setAmount(reader.nextDouble());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return account;
+    }
+
 
     /**
      * Parse the json response and returns the AutoReminderList object.
      *
      * @param response This json response contains list of auto reminders details.
      * @return Returns the AutoReminderList object.
+     * @deprecated Use {@link #getAutoReminders(Reader)}.
      */
 
+    @Deprecated
     public AutoReminderList getAutoReminders(String response) throws Exception {
+        return getAutoReminders(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns the AutoReminderList object.
+     *
+     * @param response This json response contains list of auto reminders details.
+     * @return Returns the AutoReminderList object.
+     */
+
+    public AutoReminderList getAutoReminders(Reader response) throws Exception {
+        return getAutoReminders(response, null);
+    }
+
+    /**
+     * Parse the json response and returns the AutoReminderList object.
+     *
+     * @param response This json response contains list of auto reminders details.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the AutoReminderList object.
+     */
+
+    public AutoReminderList getAutoReminders(Reader response, Set<String> fields) throws Exception {
 
         AutoReminderList autoReminderList = new AutoReminderList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        ResponseReader.readList(response, "autoreminders", autoReminderList, ResponseReader.project(this::readAutoReminder, fields, AUTO_REMINDER_FIELDS)); //No I18N
 
-        JSONArray jsonArray = jsonObject.getJSONArray("autoreminders"); //No I18N
+        return autoReminderList;
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            AutoReminder autoReminder = new AutoReminder();
+    }
 
-            autoReminder.setAutoreminderId(jsonArray.getJSONObject(i).getString("autoreminder_id"));
-            autoReminder.setIsEnabled(jsonArray.getJSONObject(i).getBoolean("is_enabled")); //No I18N
-            autoReminder.setType(jsonArray.getJSONObject(i).getString("type"));
-            autoReminder.setAddressType(jsonArray.getJSONObject(i).getString("address_type"));
-            autoReminder.setNumberOfDays(jsonArray.getJSONObject(i).getInt("number_of_days")); //No I18N
-            autoReminder.setSubject(jsonArray.getJSONObject(i).getString("subject"));
-            autoReminder.setBody(jsonArray.getJSONObject(i).getString("body"));
-            autoReminder.setOrder(jsonArray.getJSONObject(i).getInt("order")); //No I18N
+    /**
+     * Read an auto reminder.
+     */
 
-            autoReminderList.add(autoReminder);
+    private AutoReminder readAutoReminder(JsonReader reader) throws Exception {
+
+        AutoReminder autoReminder = new AutoReminder();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "autoreminder_id":
+                    autoReminder.setAutoreminderId(reader.nextString());
+                    break;
+                case "is_enabled":
+                    autoReminder.setIsEnabled(reader.nextBoolean());
+                    break;
+                case "type":
+                    autoReminder.setType(reader.nextString());
+                    break;
+                case "address_type":
+                    autoReminder.setAddressType(reader.nextString());
+                    break;
+                case "number_of_days":
+                    autoReminder.setNumberOfDays(reader.nextInt());
+                    break;
+                case "subject":
+                    autoReminder.setSubject(reader.nextString());
+                    break;
+                case "body":
+                    autoReminder.setBody(reader.nextString());
+                    break;
+                case "order":
+                    autoReminder.setOrder(reader.nextInt());
+                    break;
+                case "payment_reminder_id":
+                    autoReminder.setPaymentReminderId(reader.nextString());
+                    break;
+                case "notification_type":
+                    autoReminder.setNotificationType(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return autoReminderList;
+        return autoReminder;
     }
 
     /**
@@ -777,102 +1792,220 @@ public class SettingsParser {
      *
      * @param response This json response contains the auto reminder details.
      * @return Returns the AutoReminder object.
+     * @deprecated Use {@link #getAutoReminder(Reader)}.
      */
 
+    @Deprecated
     public AutoReminder getAutoReminder(String response) throws Exception {
-        AutoReminder autoReminders = new AutoReminder();
-
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONObject autoReminder = jsonObject.getJSONObject("autoreminder"); //No I18N
-
-        autoReminders.setAutoreminderId(autoReminder.getString("autoreminder_id"));
-        autoReminders.setIsEnabled(autoReminder.getBoolean("is_enabled")); //No I18N
-        autoReminders.setType(autoReminder.getString("type"));
-        autoReminders.setAddressType(autoReminder.getString("address_type"));
-        autoReminders.setNumberOfDays(autoReminder.getInt("number_of_days")); //No I18N
-        autoReminders.setSubject(autoReminder.getString("subject"));
-        autoReminders.setBody(autoReminder.getString("body"));
-
-        JSONObject placeholders = jsonObject.getJSONObject("placeholders"); //No I18N
-
-        JSONArray invoices = placeholders.getJSONArray("Invoice"); //No I18N
+        return getAutoReminder(new StringReader(response));
+    }
 
-        List<Invoice> invoicesList = new ArrayList<Invoice>();
+    /**
+     * Parse the json response and returns the AutoReminder object.
+     *
+     * @param response This json response contains the auto reminder details.
+     * @return Returns the AutoReminder object.
+     */
 
-        for (int i = 0; i < invoices.length(); i++) {
-            Invoice invoice = new Invoice();
+    public AutoReminder getAutoReminder(Reader response) throws Exception {
 
-            invoice.setName(invoices.getJSONObject(i).getString("name"));
-            invoice.setValue(invoices.getJSONObject(i).getString("value"));
+        AutoReminder autoReminders = new AutoReminder();
 
-            invoicesList.add(i, invoice);
+        JsonReader reader = new JsonReader(response);
+
+        try {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "autoreminder":
+                        reader.beginObject();
+                        while (reader.hasNext()) {
+                            switch (reader.nextName()) {
+                                case "autoreminder_id":
+                                    autoReminders.setAutoreminderId(reader.nextString());
+                                    break;
+                                case "is_enabled":
+                                    autoReminders.setIsEnabled(reader.nextBoolean());
+                                    break;
+                                case "type":
+                                    autoReminders.setType(reader.nextString());
+                                    break;
+                                case "address_type":
+                                    autoReminders.setAddressType(reader.nextString());
+                                    break;
+                                case "number_of_days":
+                                    autoReminders.setNumberOfDays(reader.nextInt());
+                                    break;
+                                case "subject":
+                                    autoReminders.setSubject(reader.nextString());
+                                    break;
+                                case "body":
+                                    autoReminders.setBody(reader.nextString());
+                                    break;
+                                default:
+                                    reader.skipValue();
+                            }
+                        }
+                        reader.endObject();
+                        break;
+                    case "placeholders":
+                        reader.beginObject();
+                        while (reader.hasNext()) {
+                            switch (reader.nextName()) {
+                                case "Invoice":
+                                    autoReminders.setInvoice(ResponseReader.readArray(reader, new ArrayList<Invoice>(), this::readInvoice));
+                                    break;
+                                case "Customer":
+                                    autoReminders.setCustomer(ResponseReader.readArray(reader, new ArrayList<Customer>(), this::readCustomer));
+                                    break;
+                                case "Organization":
+                                    autoReminders.setOrganization(ResponseReader.readArray(reader, new ArrayList<Organization>(), this::readOrganization));
+                                    break;
+                                default:
+                                    reader.skipValue();
+                            }
+                        }
+                        reader.endObject();
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } finally {
+            reader.close();
         }
 
-        autoReminders.setInvoice(invoicesList);
-
-        JSONArray customers = placeholders.getJSONArray("Customer"); //No I18N
-
-        List<Customer> customersList = new ArrayList<Customer>();
-
-        for (int j = 0; j < customers.length(); j++) {
-            Customer customer = new Customer();
+        return autoReminders;
+    }
 
-            customer.setName(customers.getJSONObject(j).getString("name"));
-            customer.setValue(customers.getJSONObject(j).getString("value"));
+    /**
+     * Read an invoice.
+     */
 
-            customersList.add(j, customer);
+    private Invoice readInvoice(JsonReader reader) throws Exception {
+
+        Invoice invoice = new Invoice();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    invoice.setName(reader.nextString());
+                    break;
+                case "value":
+                    invoice.setValue(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        autoReminders.setCustomer(customersList);
-
-        JSONArray organizations = placeholders.getJSONArray("Organization"); //No I18N
+        return invoice;
+    }
 
-        List<Organization> organizationsList = new ArrayList<Organization>();
+    /**
+     * Read a customer.
+     */
 
-        for (int k = 0; k < organizations.length(); k++) {
-            Organization organization = new Organization();
+    private Customer readCustomer(JsonReader reader) throws Exception {
+
+        Customer customer = new Customer();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "name":
+                    customer.setName(reader.nextString());
+                    break;
+                case "value":
+                    customer.setValue(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-            organization.setName(organizations.getJSONObject(k).getString("name"));
-            organization.setValue(organizations.getJSONObject(k).getString("value"));
+        return customer;
+    }
 
-            organizationsList.add(k, organization);
-        }
+    /**
+     * Parse the json response and returns the ManualReminderList object.
+     *
+     * @param response This json response contains list of manual reminders details.
+     * @return Returns the ManualReminderList object.
+     * @deprecated Use {@link #getManualReminders(Reader)}.
+     */
 
-        autoReminders.setOrganization(organizationsList);
+    @Deprecated
+    public ManualReminderList getManualReminders(String response) throws Exception {
+        return getManualReminders(new StringReader(response));
+    }
 
-        return autoReminders;
+    /**
+     * Parse the json response and returns the ManualReminderList object.
+     *
+     * @param response This json response contains list of manual reminders details.
+     * @return Returns the ManualReminderList object.
+     */
 
+    public ManualReminderList getManualReminders(Reader response) throws Exception {
+        return getManualReminders(response, null);
     }
 
     /**
      * Parse the json response and returns the ManualReminderList object.
      *
      * @param response This json response contains list of manual reminders details.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
      * @return Returns the ManualReminderList object.
      */
 
-    public ManualReminderList getManualReminders(String response) throws Exception {
+    public ManualReminderList getManualReminders(Reader response, Set<String> fields) throws Exception {
 
         ManualReminderList manualReminderList = new ManualReminderList();
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+        ResponseReader.readList(response, "manualreminders", manualReminderList, ResponseReader.project(this::readManualReminder, fields, MANUAL_REMINDER_FIELDS)); //No I18N
 
-        JSONArray jsonArray = jsonObject.getJSONArray("manualreminders"); //No I18N
+        return manualReminderList;
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            ManualReminder manualReminder = new ManualReminder();
+    }
 
-            manualReminder.setManualreminderId(jsonArray.getJSONObject(i).getString("manualreminder_id"));
-            manualReminder.setType(jsonArray.getJSONObject(i).getString("type"));
-            manualReminder.setSubject(jsonArray.getJSONObject(i).getString("subject"));
-            manualReminder.setBody(jsonArray.getJSONObject(i).getString("body"));
-            manualReminder.setCcMe(jsonArray.getJSONObject(i).getBoolean("cc_me")); //No I18N
+    /**
+     * Read a manual reminder of the list.
+     */
 
-            manualReminderList.add(manualReminder);
+    private ManualReminder readManualReminder(JsonReader reader) throws Exception {
+
+        ManualReminder manualReminder = new ManualReminder();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "manualreminder_id":
+                    manualReminder.setManualreminderId(reader.nextString());
+                    break;
+                case "type":
+                    manualReminder.setType(reader.nextString());
+                    break;
+                case "subject":
+                    manualReminder.setSubject(reader.nextString());
+                    break;
+                case "body":
+                    manualReminder.setBody(reader.nextString());
+                    break;
+                case "cc_me":
+                    manualReminder.setCcMe(reader.nextBoolean());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        return manualReminderList;
+        return manualReminder;
     }
 
 
@@ -881,68 +2014,84 @@ public class SettingsParser {
      *
      * @param response This json response contains the manual reminder details.
      * @return Returns the ManualReminder object.
+     * @deprecated Use {@link #getManualReminder(Reader)}.
      */
 
+    @Deprecated
     public ManualReminder getManualReminder(String response) throws Exception {
-        ManualReminder manualReminders = new ManualReminder();
-
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONObject manualReminder = jsonObject.getJSONObject("manualreminder"); //No I18N
-
-        manualReminders.setManualreminderId(manualReminder.getString("manualreminder_id"));
-        manualReminders.setType(manualReminder.getString("type"));
-        manualReminders.setSubject(manualReminder.getString("subject"));
-        manualReminders.setBody(manualReminder.getString("body"));
-        manualReminders.setCcMe(manualReminder.getBoolean("cc_me")); //No I18N
-
-        JSONObject placeholders = jsonObject.getJSONObject("placeholders"); //No I18N
-
-        JSONArray invoices = placeholders.getJSONArray("Invoice"); //No I18N
-
-        List<Invoice> invoicesList = new ArrayList<Invoice>();
-
-        for (int i = 0; i < invoices.length(); i++) {
-            Invoice invoice = new Invoice();
-
-            invoice.setName(invoices.getJSONObject(i).getString("name"));
-            invoice.setValue(invoices.getJSONObject(i).getString("value"));
-
-            invoicesList.add(i, invoice);
-        }
-
-        manualReminders.setInvoice(invoicesList);
-
-        JSONArray customers = placeholders.getJSONArray("Customer"); //No I18N
-
-        List<Customer> customersList = new ArrayList<Customer>();
-
-        for (int j = 0; j < customers.length(); j++) {
-            Customer customer = new Customer();
-
-            customer.setName(customers.getJSONObject(j).getString("name"));
-            customer.setValue(customers.getJSONObject(j).getString("value"));
-
-            customersList.add(j, customer);
-        }
-
-        manualReminders.setCustomer(customersList);
-
-        JSONArray organizations = placeholders.getJSONArray("Organization"); //No I18N
+        return getManualReminder(new StringReader(response));
+    }
 
-        List<Organization> organizationsList = new ArrayList<Organization>();
+    /**
+     * Parse the json response and returns the ManualReminder object.
+     *
+     * @param response This json response contains the manual reminder details.
+     * @return Returns the ManualReminder object.
+     */
 
-        for (int k = 0; k < organizations.length(); k++) {
-            Organization organization = new Organization();
+    public ManualReminder getManualReminder(Reader response) throws Exception {
 
-            organization.setName(organizations.getJSONObject(k).getString("name"));
-            organization.setValue(organizations.getJSONObject(k).getString("value"));
+        ManualReminder manualReminders = new ManualReminder();
 
-            organizationsList.add(k, organization);
+        JsonReader reader = new JsonReader(response);
+
+        try {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "manualreminder":
+                        reader.beginObject();
+                        while (reader.hasNext()) {
+                            switch (reader.nextName()) {
+                                case "manualreminder_id":
+                                    manualReminders.setManualreminderId(reader.nextString());
+                                    break;
+                                case "type":
+                                    manualReminders.setType(reader.nextString());
+                                    break;
+                                case "subject":
+                                    manualReminders.setSubject(reader.nextString());
+                                    break;
+                                case "body":
+                                    manualReminders.setBody(reader.nextString());
+                                    break;
+                                case "cc_me":
+                                    manualReminders.setCcMe(reader.nextBoolean());
+                                    break;
+                                default:
+                                    reader.skipValue();
+                            }
+                        }
+                        reader.endObject();
+                        break;
+                    case "placeholders":
+                        reader.beginObject();
+                        while (reader.hasNext()) {
+                            switch (reader.nextName()) {
+                                case "Invoice":
+                                    manualReminders.setInvoice(ResponseReader.readArray(reader, new ArrayList<Invoice>(), this::readInvoice));
+                                    break;
+                                case "Customer":
+                                    manualReminders.setCustomer(ResponseReader.readArray(reader, new ArrayList<Customer>(), this::readCustomer));
+                                    break;
+                                case "Organization":
+                                    manualReminders.setOrganization(ResponseReader.readArray(reader, new ArrayList<Organization>(), this::readOrganization));
+                                    break;
+                                default:
+                                    reader.skipValue();
+                            }
+                        }
+                        reader.endObject();
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } finally {
+            reader.close();
         }
 
-        manualReminders.setOrganization(organizationsList);
-
         return manualReminders;
     }
 
@@ -3,12 +3,14 @@
 package com.zoho.books.parser;
 
 import com.zoho.books.model.*;
-import org.json.JSONArray;
+import com.zoho.books.util.JsonReader;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -19,6 +21,34 @@ import java.util.List;
 
 public class VendorCreditsParser {
 
+    /**
+     * Names of the fields read from a vendor credit.
+     */
+
+    private static final Set<String> VENDOR_CREDIT_FIELDS = Set.of("vendor_credit_id", //No I18N
+            "vendor_credit_number", "status", "reference_number", "date", "total", "balance", "vendor_id", //No I18N
+            "vendor_name", "currency_id", "currency_code", "created_time", "last_modified_time", //No I18N
+            "exchange_rate", "price_precision", "sub_total", "total_credits_used", "total_refunded_amount", //No I18N
+            "notes", "line_items", "taxes", "comments", "vendor_credit_refunds", "bills_credited"); //No I18N
+
+    /**
+     * Names of the fields read from a vendor credit refund.
+     */
+
+    private static final Set<String> VENDOR_CREDIT_REFUND_FIELDS = Set.of("vendor_credit_refund_id", //No I18N
+            "vendor_credit_id", "date", "refund_mode", "reference_number", "description", "amount_bcy", //No I18N
+            "amount_fcy", "vendor_credit_number", "vendor_name", "customer_name", "account_id", //No I18N
+            "account_name", "amount", "exchange_rate"); //No I18N
+
+    /**
+     * Names of the fields read from a comment.
+     */
+
+    private static final Set<String> COMMENT_FIELDS = Set.of("comment_id", "description", "commented_by_id", //No I18N
+            "commented_by", "comment_type", "date", "date_description", "time", "operation_type", //No I18N
+            "transaction_id", "transaction_type", "vendor_credit_id"); //No I18N
+
+
 
     /**
      * Parse the JSON response and make it into the VendorCreditList object.
@@ -26,52 +56,60 @@ public class VendorCreditsParser {
      * @param response JSON response contains the details of the list of vendor credits.
      * @return Returns the VendorCreditList object.
      * @throws JSONException
+     * @deprecated Use {@link #getVendorCredits(Reader)}.
      */
 
+    @Deprecated
     public VendorCreditList getVendorCredits(String response) throws JSONException {
+        try {
+            return getVendorCredits(new StringReader(response));
+        } catch (JSONException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new JSONException(e);
+        }
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        VendorCreditList vendorCreditList = new VendorCreditList();
+    /**
+     * Parse the JSON response and make it into the VendorCreditList object.
+     *
+     * @param response JSON response contains the details of the list of vendor credits.
+     * @return Returns the VendorCreditList object.
+     * @throws JSONException
+     */
 
-        if (jsonObject.has("vendor_credits")) {
-            JSONArray vendorcredits = jsonObject.getJSONArray("vendor_credits");    //No I18N
+    public VendorCreditList getVendorCredits(Reader response) throws Exception {
+        return getVendorCredits(response, false);
+    }
 
-            for (int i = 0; i < vendorcredits.length(); i++) {
-                vendorCreditList.add(this.jsonToVendorCredit(vendorcredits.getJSONObject(i)));
-            }
-        }
+    /**
+     * Parse the JSON response and make it into the VendorCreditList object.
+     *
+     * @param response JSON response contains the details of the list of vendor credits.
+     * @param lazy     Whether a row is made into its model object only when it is first got from the list.
+     * @return Returns the VendorCreditList object.
+     * @throws JSONException
+     */
 
-        if (jsonObject.has("page_context")) {
-            PageContext pageContext = new PageContext();
+    public VendorCreditList getVendorCredits(Reader response, boolean lazy) throws Exception {
+        return getVendorCredits(response, lazy, null);
+    }
 
-            JSONObject pagecontext = jsonObject.getJSONObject("page_context");    //No I18N
+    /**
+     * Parse the JSON response and make it into the VendorCreditList object.
+     *
+     * @param response JSON response contains the details of the list of vendor credits.
+     * @param lazy     Whether a row is made into its model object only when it is first got from the list.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the VendorCreditList object.
+     * @throws JSONException
+     */
 
-            if (pagecontext.has("page")) {
-                pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-            }
-            if (pagecontext.has("per_page")) {
-                pageContext.setPerPage(pagecontext.getInt("per_page"));    //No I18N
-            }
-            if (pagecontext.has("has_more_page")) {
-                pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page"));    //No I18N
-            }
-            if (pagecontext.has("report_name")) {
-                pageContext.setReportName(pagecontext.getString("report_name"));
-            }
-            if (pagecontext.has("applied_filter")) {
-                pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-            }
-            if (pagecontext.has("sort_column")) {
-                pageContext.setSortColumn(pagecontext.getString("sort_column"));
-            }
-            if (pagecontext.has("sort_order")) {
-                pageContext.setSortOrder(pagecontext.getString("sort_order"));
-            }
+    public VendorCreditList getVendorCredits(Reader response, boolean lazy, Set<String> fields) throws Exception {
 
-            vendorCreditList.setPageContext(pageContext);
-        }
+        VendorCreditList vendorCreditList = new VendorCreditList();
 
+        vendorCreditList.setPageContext(ResponseReader.readRows(response, "vendor_credits", vendorCreditList, "vendor_credit_id", "total", ResponseReader.project(this::readVendorCredit, fields, VENDOR_CREDIT_FIELDS), lazy)); //No I18N
 
         return vendorCreditList;
     }
@@ -82,16 +120,44 @@ public class VendorCreditsParser {
      * @param response JSON response contains the details of a vendor credit.
      * @return Returns the VendorCredit object.
      * @throws JSONException
+     * @deprecated Use {@link #getVendorCredit(Reader)}.
      */
 
+    @Deprecated
     public VendorCredit getVendorCredit(String response) throws JSONException {
+        try {
+            return getVendorCredit(new StringReader(response));
+        } catch (JSONException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new JSONException(e);
+        }
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the JSON response and make it into the VendorCredit object.
+     *
+     * @param response JSON response contains the details of a vendor credit.
+     * @return Returns the VendorCredit object.
+     * @throws JSONException
+     */
 
-        JSONObject vendorcredit = jsonObject.getJSONObject("vendor_credit");    //No I18N
+    public VendorCredit getVendorCredit(Reader response) throws Exception {
+        return getVendorCredit(response, null);
+    }
+
+    /**
+     * Parse the JSON response and make it into the VendorCredit object.
+     *
+     * @param response JSON response contains the details of a vendor credit.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the VendorCredit object.
+     * @throws JSONException
+     */
 
-        return this.jsonToVendorCredit(vendorcredit);
+    public VendorCredit getVendorCredit(Reader response, Set<String> fields) throws Exception {
 
+        return ResponseReader.readObject(response, "vendor_credit", ResponseReader.project(this::readVendorCredit, fields, VENDOR_CREDIT_FIELDS)); //No I18N
     }
 
 
@@ -105,134 +171,100 @@ public class VendorCreditsParser {
 
     public VendorCredit jsonToVendorCredit(JSONObject jsonObject) throws JSONException {
 
-        VendorCredit vendorCredit = new VendorCredit();
-
-        if (jsonObject.has("vendor_credit_id")) {
-            vendorCredit.setVendorCreditId(jsonObject.getString("vendor_credit_id"));
-        }
-        if (jsonObject.has("vendor_credit_number")) {
-            vendorCredit.setVendorCreditNumber(jsonObject.getString("vendor_credit_number"));
-        }
-        if (jsonObject.has("status")) {
-            vendorCredit.setStatus(jsonObject.getString("status"));
-        }
-        if (jsonObject.has("reference_number")) {
-            vendorCredit.setReferenceNumber(jsonObject.getString("reference_number"));
-        }
-        if (jsonObject.has("date")) {
-            vendorCredit.setDate(jsonObject.getString("date"));
-        }
-        if (jsonObject.has("total")) {
-            vendorCredit.setTotal(jsonObject.getDouble("total"));    //No I18N
-        }
-        if (jsonObject.has("balance")) {
-            vendorCredit.setBalance(jsonObject.getDouble("balance"));    //No I18N
-        }
-        if (jsonObject.has("vendor_id")) {
-            vendorCredit.setVendorId(jsonObject.getString("vendor_id"));
-        }
-        if (jsonObject.has("vendor_name")) {
-            vendorCredit.setVendorName(jsonObject.getString("vendor_name"));
-        }
-        if (jsonObject.has("currency_id")) {
-            vendorCredit.setCurrencyId(jsonObject.getString("currency_id"));
-        }
-        if (jsonObject.has("currency_code")) {
-            vendorCredit.setCurrencyCode(jsonObject.getString("currency_code"));
-        }
-        if (jsonObject.has("created_time")) {
-            vendorCredit.setCreatedTime(jsonObject.getString("created_time"));
-        }
-        if (jsonObject.has("last_modified_time")) {
-            vendorCredit.setLastModifiedTime(jsonObject.getString("last_modified_time"));
-        }
-
-        if (jsonObject.has("exchange_rate")) {
-            vendorCredit.setExchangeRate(jsonObject.getDouble("exchange_rate"));    //No I18N
-        }
-        if (jsonObject.has("price_precision")) {
-            vendorCredit.setPricePrecision(jsonObject.getInt("price_precision"));    //No I18N
-        }
-        if (jsonObject.has("sub_total")) {
-            vendorCredit.setSubTotal(jsonObject.getDouble("sub_total"));    //No I18N
-        }
-        if (jsonObject.has("total_credits_used")) {
-            vendorCredit.setTotalCreditsUsed(jsonObject.getDouble("total_credits_used"));    //No I18N
-        }
-        if (jsonObject.has("total_refunded_amount")) {
-            vendorCredit.setTotalRefundedAmount(jsonObject.getDouble("total_refunded_amount"));    //No I18N
-        }
-        if (jsonObject.has("balance")) {
-            vendorCredit.setBalance(jsonObject.getDouble("balance"));    //No I18N
-        }
-        if (jsonObject.has("notes")) {
-            vendorCredit.setNotes(jsonObject.getString("notes"));
-        }
-
-
-        if (jsonObject.has("line_items")) {
-            JSONArray lineitems = jsonObject.getJSONArray("line_items");    //No I18N
-
-            List<LineItem> lineItems = new ArrayList<LineItem>();
-
-            for (int i = 0; i < lineitems.length(); i++) {
-                lineItems.add(this.jsonToLineItem(lineitems.getJSONObject(i)));
-            }
-
-            vendorCredit.setLineItems(lineItems);
-        }
-
-        if (jsonObject.has("taxes")) {
-            JSONArray taxes = jsonObject.getJSONArray("taxes");    //No I18N
-
-            List<Tax> taxs = new ArrayList<Tax>();
-
-            for (int i = 0; i < taxes.length(); i++) {
-                taxs.add(this.jsonToTax(taxes.getJSONObject(i)));
-            }
-
-            vendorCredit.setTaxes(taxs);
-        }
-
-        if (jsonObject.has("comments")) {
-            JSONArray comments = jsonObject.getJSONArray("comments");    //No I18N
-
-            List<Comment> commentList = new ArrayList<Comment>();
-
-            for (int i = 0; i < comments.length(); i++) {
-                commentList.add(this.jsonToComment(comments.getJSONObject(i)));
-            }
-
-            vendorCredit.setComments(commentList);
-        }
-
-        if (jsonObject.has("vendor_credit_refunds")) {
-
-            JSONArray vendorcreditRefunds = jsonObject.getJSONArray("vendor_credit_refunds");    //No I18N
-
-            List<VendorCreditRefund> vendorCreditRefunds = new ArrayList<VendorCreditRefund>();
+        return ResponseReader.convert(jsonObject, this::readVendorCredit);
 
-            for (int i = 0; i < vendorcreditRefunds.length(); i++) {
-                vendorCreditRefunds.add(this.jsonToVendorCreditRefund(vendorcreditRefunds.getJSONObject(i)));
-            }
+    }
 
-            vendorCredit.setVendorCreditRefunds(vendorCreditRefunds);
-        }
+    /**
+     * Read a vendor credit.
+     */
 
-        if (jsonObject.has("bills_credited")) {
-            JSONArray billscredited = jsonObject.getJSONArray("bills_credited");    //No I18N
+    private VendorCredit readVendorCredit(JsonReader reader) throws Exception {
 
-            List<BillsCredited> billsCredited = new ArrayList<BillsCredited>();
+        VendorCredit vendorCredit = new VendorCredit();
 
-            for (int i = 0; i < billscredited.length(); i++) {
-                billsCredited.add(this.jsonToBillsCredited(billscredited.getJSONObject(i)));
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "vendor_credit_id":
+                    vendorCredit.setVendorCreditId(reader.nextString());
+                    break;
+                case "vendor_credit_number":
+                    vendorCredit.setVendorCreditNumber(reader.nextString());
+                    break;
+                case "status":
+                    vendorCredit.setStatus(reader.nextString());
+                    break;
+                case "reference_number":
+                    vendorCredit.setReferenceNumber(reader.nextString());
+                    break;
+                case "date":
+                    vendorCredit.setDate(reader.nextString());
+                    break;
+                case "total":
+                    vendorCredit.setTotal(reader.nextDouble());
+                    break;
+                case "balance":
+                    vendorCredit.setBalance(reader.nextDouble());
+                    break;
+                case "vendor_id":
+                    vendorCredit.setVendorId(reader.nextString());
+                    break;
+                case "vendor_name":
+                    vendorCredit.setVendorName(reader.nextString());
+                    break;
+                case "currency_id":
+                    vendorCredit.setCurrencyId(reader.nextString());
+                    break;
+                case "currency_code":
+                    vendorCredit.setCurrencyCode(reader.nextString());
+                    break;
+                case "created_time":
+                    vendorCredit.setCreatedTime(reader.nextString());
+                    break;
+                case "last_modified_time":
+                    vendorCredit.setLastModifiedTime(reader.nextString());
+                    break;
+                case "exchange_rate":
+                    vendorCredit.setExchangeRate(reader.nextDouble());
+                    break;
+                case "price_precision":
+                    vendorCredit.setPricePrecision(reader.nextInt());
+                    break;
+                case "sub_total":
+                    vendorCredit.setSubTotal(reader.nextDouble());
+                    break;
+                case "total_credits_used":
+                    vendorCredit.setTotalCreditsUsed(reader.nextDouble());
+                    break;
+                case "total_refunded_amount":
+                    vendorCredit.setTotalRefundedAmount(reader.nextDouble());
+                    break;
+                case "notes":
+                    vendorCredit.setNotes(reader.nextString());
+                    break;
+                case "line_items":
+                    vendorCredit.setLineItems(ResponseReader.readArray(reader, new ArrayList<LineItem>(), this::readLineItem));
+                    break;
+                case "taxes":
+                    vendorCredit.setTaxes(ResponseReader.readArray(reader, new ArrayList<Tax>(), this::readTax));
+                    break;
+                case "comments":
+                    vendorCredit.setComments(ResponseReader.readArray(reader, new ArrayList<Comment>(), this::readComment));
+                    break;
+                case "vendor_credit_refunds":
+                    vendorCredit.setVendorCreditRefunds(ResponseReader.readArray(reader, new ArrayList<VendorCreditRefund>(), this::readVendorCreditRefund));
+                    break;
+                case "bills_credited":
+                    vendorCredit.setBillsCredited(ResponseReader.readArray(reader, new ArrayList<BillsCredited>(), this::readBillsCredited));
+                    break;
+                default:
+                    reader.skipValue();
             }
-
-            vendorCredit.setBillsCredited(billsCredited);
         }
+        reader.endObject();
 
         return vendorCredit;
-
     }
 
 
@@ -242,52 +274,42 @@ public class VendorCreditsParser {
      * @param response JSON response contains the details of list of vendor credit refunds.
      * @return Returns the VendorCreditRefundList object.
      * @throws Exception
+     * @deprecated Use {@link #getVendorCreditRefunds(Reader)}.
      */
 
+    @Deprecated
     public VendorCreditRefundList getVendorCreditRefunds(String response) throws Exception {
+        return getVendorCreditRefunds(new StringReader(response));
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        VendorCreditRefundList vendorCreditRefundList = new VendorCreditRefundList();
-
-        if (jsonObject.has("vendor_credit_refunds")) {
-            JSONArray vendorCreditRefunds = jsonObject.getJSONArray("vendor_credit_refunds");    //No I18N
+    /**
+     * Parse the JSON response and make it into the VendorCreditRefundList object.
+     *
+     * @param response JSON response contains the details of list of vendor credit refunds.
+     * @return Returns the VendorCreditRefundList object.
+     * @throws Exception
+     */
 
-            for (int i = 0; i < vendorCreditRefunds.length(); i++) {
-                vendorCreditRefundList.add(this.jsonToVendorCreditRefund(vendorCreditRefunds.getJSONObject(i)));
-            }
-        }
+    public VendorCreditRefundList getVendorCreditRefunds(Reader response) throws Exception {
+        return getVendorCreditRefunds(response, null);
+    }
 
-        PageContext pageContext = new PageContext();
+    /**
+     * Parse the JSON response and make it into the VendorCreditRefundList object.
+     *
+     * @param response JSON response contains the details of list of vendor credit refunds.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the VendorCreditRefundList object.
+     * @throws Exception
+     */
 
-        if (jsonObject.has("page_context")) {
-            JSONObject pagecontext = jsonObject.getJSONObject("page_context");    //No I18N
+    public VendorCreditRefundList getVendorCreditRefunds(Reader response, Set<String> fields) throws Exception {
 
-            if (pagecontext.has("page")) {
-                pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-            }
-            if (pagecontext.has("per_page")) {
-                pageContext.setPerPage(pagecontext.getInt("per_page"));    //No I18N
-            }
-            if (pagecontext.has("has_more_page")) {
-                pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page"));    //No I18N
-            }
-            if (pagecontext.has("report_name")) {
-                pageContext.setReportName(pagecontext.getString("report_name"));
-            }
-            if (pagecontext.has("sort_column")) {
-                pageContext.setSortColumn(pagecontext.getString("sort_column"));
-            }
-            if (pagecontext.has("sort_order")) {
-                pageContext.setSortOrder(pagecontext.getString("sort_order"));
-            }
+        VendorCreditRefundList vendorCreditRefundList = new VendorCreditRefundList();
 
-            vendorCreditRefundList.setPageContext(pageContext);
-        }
+        vendorCreditRefundList.setPageContext(ResponseReader.readList(response, "vendor_credit_refunds", vendorCreditRefundList, ResponseReader.project(this::readVendorCreditRefund, fields, VENDOR_CREDIT_REFUND_FIELDS))); //No I18N
 
         return vendorCreditRefundList;
-
-
     }
 
     /**
@@ -296,16 +318,44 @@ public class VendorCreditsParser {
      * @param response JSON response contains the details of a vendor credit refund.
      * @return Returns the VendorCreditRefund object.
      * @throws JSONException
+     * @deprecated Use {@link #getVendorCreditRefund(Reader)}.
      */
 
+    @Deprecated
     public VendorCreditRefund getVendorCreditRefund(String response) throws JSONException {
+        try {
+            return getVendorCreditRefund(new StringReader(response));
+        } catch (JSONException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new JSONException(e);
+        }
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the JSON response and make it into the VendorCreditRefund object.
+     *
+     * @param response JSON response contains the details of a vendor credit refund.
+     * @return Returns the VendorCreditRefund object.
+     * @throws JSONException
+     */
+
+    public VendorCreditRefund getVendorCreditRefund(Reader response) throws Exception {
+        return getVendorCreditRefund(response, null);
+    }
 
-        JSONObject vendorCreditRefund = jsonObject.getJSONObject("vendor_credit_refund");    //No I18N
+    /**
+     * Parse the JSON response and make it into the VendorCreditRefund object.
+     *
+     * @param response JSON response contains the details of a vendor credit refund.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the VendorCreditRefund object.
+     * @throws JSONException
+     */
 
-        return this.jsonToVendorCreditRefund(vendorCreditRefund);
+    public VendorCreditRefund getVendorCreditRefund(Reader response, Set<String> fields) throws Exception {
 
+        return ResponseReader.readObject(response, "vendor_credit_refund", ResponseReader.project(this::readVendorCreditRefund, fields, VENDOR_CREDIT_REFUND_FIELDS)); //No I18N
     }
 
 
@@ -319,68 +369,85 @@ public class VendorCreditsParser {
 
     public LineItem jsonToLineItem(JSONObject jsonObject) throws JSONException {
 
+        return ResponseReader.convert(jsonObject, this::readLineItem);
+
+    }
+
+    /**
+     * Read a line item.
+     */
+
+    private LineItem readLineItem(JsonReader reader) throws Exception {
+
         LineItem lineItem = new LineItem();
 
-        if (jsonObject.has("line_item_id")) {
-            lineItem.setLineItemId(jsonObject.getString("line_item_id"));
-        }
-        if (jsonObject.has("item_id")) {
-            lineItem.setItemId(jsonObject.getString("item_id"));
-        }
-        if (jsonObject.has("name")) {
-            lineItem.setName(jsonObject.getString("name"));
-        }
-        if (jsonObject.has("description")) {
-            lineItem.setDescription(jsonObject.getString("description"));
-        }
-        if (jsonObject.has("item_order")) {
-            lineItem.setItemOrder(jsonObject.getInt("item_order"));    //No I18N
-        }
-        if (jsonObject.has("bcy_rate")) {
-            lineItem.setBcyRate(jsonObject.getDouble("bcy_rate"));    //No I18N
-        }
-        if (jsonObject.has("rate")) {
-            lineItem.setRate(jsonObject.getDouble("rate"));    //No I18N
-        }
-        if (jsonObject.has("quantity")) {
-            lineItem.setQuantity(jsonObject.getDouble("quantity"));    //No I18N
-        }
-        if (jsonObject.has("unit")) {
-            lineItem.setUnit(jsonObject.getString("unit"));
-        }
-        if (jsonObject.has("discount_amount")) {
-            lineItem.setDiscountAmount(jsonObject.getDouble("discount_amount"));    //No I18N
-        }
-        if (jsonObject.has("discount")) {
-            lineItem.setDiscount(jsonObject.getDouble("discount"));    //No I18N
-        }
-        if (jsonObject.has("tax_id")) {
-            lineItem.setTaxId(jsonObject.getString("tax_id"));
-        }
-        if (jsonObject.has("tax_name")) {
-            lineItem.setTaxName(jsonObject.getString("tax_name"));
-        }
-        if (jsonObject.has("tax_type")) {
-            lineItem.setTaxType(jsonObject.getString("tax_type"));
-        }
-        if (jsonObject.has("tax_percentage")) {
-            lineItem.setTaxPercentage(jsonObject.getDouble("tax_percentage"));    //No I18N
-        }
-        if (jsonObject.has("item_total")) {
-            lineItem.setItemTotal(jsonObject.getDouble("item_total"));    //No I18N
-        }
-        if (jsonObject.has("account_id")) {
-            lineItem.setAccountId(jsonObject.getString("account_id"));
-        }
-        if (jsonObject.has("account_name")) {
-            lineItem.setAccountName(jsonObject.getString("account_name"));
-        }
-        if (jsonObject.has("stock_on_hand")) {
-            lineItem.setStockOnHand(jsonObject.getString("stock_on_hand"));
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "line_item_id":
+                    lineItem.setLineItemId(reader.nextString());
+                    break;
+                case "item_id":
+                    lineItem.setItemId(reader.nextString());
+                    break;
+                case "name":
+                    lineItem.setName(reader.nextString());
+                    break;
+                case "description":
+                    lineItem.setDescription(reader.nextString());
+                    break;
+                case "item_order":
+                    lineItem.setItemOrder(reader.nextInt());
+                    break;
+                case "bcy_rate":
+                    lineItem.setBcyRate(reader.nextDouble());
+                    break;
+                case "rate":
+                    lineItem.setRate(reader.nextDouble());
+                    break;
+                case "quantity":
+                    lineItem.setQuantity(reader.nextDouble());
+                    break;
+                case "unit":
+                    lineItem.setUnit(reader.nextString());
+                    break;
+                case "discount_amount":
+                    lineItem.setDiscountAmount(reader.nextDouble());
+                    break;
+                case "discount":
+                    lineItem.setDiscount(reader.nextDouble());
+                    break;
+                case "tax_id":
+                    lineItem.setTaxId(reader.nextString());
+                    break;
+                case "tax_name":
+                    lineItem.setTaxName(reader.nextString());
+                    break;
+                case "tax_type":
+                    lineItem.setTaxType(reader.nextString());
+                    break;
+                case "tax_percentage":
+                    lineItem.setTaxPercentage(reader.nextDouble());
+                    break;
+                case "item_total":
+                    lineItem.setItemTotal(reader.nextDouble());
+                    break;
+                case "account_id":
+                    lineItem.setAccountId(reader.nextString());
+                    break;
+                case "account_name":
+                    lineItem.setAccountName(reader.nextString());
+                    break;
+                case "stock_on_hand":
+                    lineItem.setStockOnHand(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
         return lineItem;
-
     }
 
     /**
@@ -393,17 +460,34 @@ public class VendorCreditsParser {
 
     public Tax jsonToTax(JSONObject jsonObject) throws JSONException {
 
+        return ResponseReader.convert(jsonObject, this::readTax);
+
+    }
+
+    /**
+     * Read a tax.
+     */
+
+    private Tax readTax(JsonReader reader) throws Exception {
+
         Tax tax = new Tax();
 
-        if (jsonObject.has("tax_name")) {
-            tax.setTaxName(jsonObject.getString("tax_name"));
-        }
-        if (jsonObject.has("tax_amount")) {
-            tax.setTaxAmount(jsonObject.getDouble("tax_amount"));    //No I18N
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "tax_name":
+                    tax.setTaxName(reader.nextString());
+                    break;
+                case "tax_amount":
+                    tax.setTaxAmount(reader.nextDouble());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
         return tax;
-
     }
 
     /**
@@ -412,18 +496,40 @@ public class VendorCreditsParser {
      * @param response JSON response contains the details of list of comments.
      * @return Returns the CommentList object.
      * @throws Exception
+     * @deprecated Use {@link #getComments(Reader)}.
      */
 
+    @Deprecated
     public CommentList getComments(String response) throws Exception {
-        CommentList commentList = new CommentList();
+        return getComments(new StringReader(response));
+    }
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    /**
+     * Parse the JSON response and make it into the CommentList object.
+     *
+     * @param response JSON response contains the details of list of comments.
+     * @return Returns the CommentList object.
+     * @throws Exception
+     */
 
-        JSONArray jsonArray = jsonObject.getJSONArray("comments"); //No I18N
+    public CommentList getComments(Reader response) throws Exception {
+        return getComments(response, null);
+    }
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            commentList.add(this.jsonToComment(jsonArray.getJSONObject(i)));
-        }
+    /**
+     * Parse the JSON response and make it into the CommentList object.
+     *
+     * @param response JSON response contains the details of list of comments.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the CommentList object.
+     * @throws Exception
+     */
+
+    public CommentList getComments(Reader response, Set<String> fields) throws Exception {
+
+        CommentList commentList = new CommentList();
+
+        ResponseReader.readList(response, "comments", commentList, ResponseReader.project(this::readComment, fields, COMMENT_FIELDS)); //No I18N
 
         return commentList;
     }
@@ -434,14 +540,38 @@ public class VendorCreditsParser {
      * @param response JSON response contains the details of the comment.
      * @return Returns the Comment object.
      * @throws Exception
+     * @deprecated Use {@link #getComment(Reader)}.
      */
 
+    @Deprecated
     public Comment getComment(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getComment(new StringReader(response));
+    }
 
-        JSONObject comment = jsonObject.getJSONObject("comment"); //No I18N
+    /**
+     * Parse the JSON response into Comment object.
+     *
+     * @param response JSON response contains the details of the comment.
+     * @return Returns the Comment object.
+     * @throws Exception
+     */
+
+    public Comment getComment(Reader response) throws Exception {
+        return getComment(response, null);
+    }
+
+    /**
+     * Parse the JSON response into Comment object.
+     *
+     * @param response JSON response contains the details of the comment.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the Comment object.
+     * @throws Exception
+     */
+
+    public Comment getComment(Reader response, Set<String> fields) throws Exception {
 
-        return this.jsonToComment(comment);
+        return ResponseReader.readObject(response, "comment", ResponseReader.project(this::readComment, fields, COMMENT_FIELDS)); //No I18N
     }
 
     /**
@@ -454,47 +584,64 @@ public class VendorCreditsParser {
 
     public Comment jsonToComment(JSONObject jsonObject) throws JSONException {
 
+        return ResponseReader.convert(jsonObject, this::readComment);
+
+    }
+
+    /**
+     * Read a comment.
+     */
+
+    private Comment readComment(JsonReader reader) throws Exception {
+
         Comment comment = new Comment();
 
-        if (jsonObject.has("comment_id")) {
-            comment.setCommentId(jsonObject.getString("comment_id"));
-        }
-        if (jsonObject.has("description")) {
-            comment.setDescription(jsonObject.getString("description"));
-        }
-        if (jsonObject.has("commented_by_id")) {
-            comment.setCommentedById(jsonObject.getString("commented_by_id"));
-        }
-        if (jsonObject.has("commented_by")) {
-            comment.setCommentedBy(jsonObject.getString("commented_by"));
-        }
-        if (jsonObject.has("comment_type")) {
-            comment.setCommentType(jsonObject.getString("comment_type"));
-        }
-        if (jsonObject.has("date")) {
-            comment.setDate(jsonObject.getString("date"));
-        }
-        if (jsonObject.has("date_description")) {
-            comment.setDateDescription(jsonObject.getString("date_description"));
-        }
-        if (jsonObject.has("time")) {
-            comment.setTime(jsonObject.getString("time"));
-        }
-        if (jsonObject.has("operation_type")) {
-            comment.setOperationType(jsonObject.getString("operation_type"));
-        }
-        if (jsonObject.has("transaction_id")) {
-            comment.setTransactionId(jsonObject.getString("transaction_id"));
-        }
-        if (jsonObject.has("transaction_type")) {
-            comment.setTransactionType(jsonObject.getString("transaction_type"));
-        }
-        if (jsonObject.has("vendor_credit_id")) {
-            comment.setVendorCreditId(jsonObject.getString("vendor_credit_id"));
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "comment_id":
+                    comment.setCommentId(reader.nextString());
+                    break;
+                case "description":
+                    comment.setDescription(reader.nextString());
+                    break;
+                case "commented_by_id":
+                    comment.setCommentedById(reader.nextString());
+                    break;
+                case "commented_by":
+                    comment.setCommentedBy(reader.nextString());
+                    break;
+                case "comment_type":
+                    comment.setCommentType(reader.nextString());
+                    break;
+                case "date":
+                    comment.setDate(reader.nextString());
+                    break;
+                case "date_description":
+                    comment.setDateDescription(reader.nextString());
+                    break;
+                case "time":
+                    comment.setTime(reader.nextString());
+                    break;
+                case "operation_type":
+                    comment.setOperationType(reader.nextString());
+                    break;
+                case "transaction_id":
+                    comment.setTransactionId(reader.nextString());
+                    break;
+                case "transaction_type":
+                    comment.setTransactionType(reader.nextString());
+                    break;
+                case "vendor_credit_id":
+                    comment.setVendorCreditId(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
         return comment;
-
     }
 
     /**
@@ -507,58 +654,73 @@ public class VendorCreditsParser {
 
     public VendorCreditRefund jsonToVendorCreditRefund(JSONObject jsonObject) throws JSONException {
 
-        VendorCreditRefund vendorCreditRefund = new VendorCreditRefund();
+        return ResponseReader.convert(jsonObject, this::readVendorCreditRefund);
 
-        if (jsonObject.has("vendor_credit_refund_id")) {
-            vendorCreditRefund.setVendorCreditRefundId(jsonObject.getString("vendor_credit_refund_id"));
-        }
-        if (jsonObject.has("vendor_credit_id")) {
-            vendorCreditRefund.setVendorCreditId(jsonObject.getString("vendor_credit_id"));
-        }
-        if (jsonObject.has("date")) {
-            vendorCreditRefund.setDate(jsonObject.getString("date"));
-        }
-        if (jsonObject.has("refund_mode")) {
-            vendorCreditRefund.setRefundMode(jsonObject.getString("refund_mode"));
-        }
-        if (jsonObject.has("reference_number")) {
-            vendorCreditRefund.setReferenceNumber(jsonObject.getString("reference_number"));
-        }
-        if (jsonObject.has("description")) {
-            vendorCreditRefund.setDescription(jsonObject.getString("description"));
-        }
-        if (jsonObject.has("amount_bcy")) {
-            vendorCreditRefund.setAmountBcy(jsonObject.getDouble("amount_bcy"));    //No I18N
-        }
-        if (jsonObject.has("amount_fcy")) {
-            vendorCreditRefund.setAmountFcy(jsonObject.getDouble("amount_fcy"));    //No I18N
-        }
+    }
 
-        if (jsonObject.has("vendor_credit_number")) {
-            vendorCreditRefund.setVendorCreditNumber(jsonObject.getString("vendor_credit_number"));
-        }
-        if (jsonObject.has("vendor_name")) {
-            vendorCreditRefund.setVendorName(jsonObject.getString("vendor_name"));
-        }
+    /**
+     * Read a vendor credit refund.
+     */
 
-        if (jsonObject.has("customer_name")) {
-            vendorCreditRefund.setCustomerName(jsonObject.getString("customer_name"));
-        }
-        if (jsonObject.has("account_id")) {
-            vendorCreditRefund.setAccountId(jsonObject.getString("account_id"));
-        }
-        if (jsonObject.has("account_name")) {
-            vendorCreditRefund.setAccountName(jsonObject.getString("account_name"));
-        }
-        if (jsonObject.has("amount")) {
-            vendorCreditRefund.setAmount(jsonObject.getDouble("amount"));    //No I18N
-        }
-        if (jsonObject.has("exchange_rate")) {
-            vendorCreditRefund.setExchangeRate(jsonObject.getDouble("exchange_rate"));    //No I18N
+    private VendorCreditRefund readVendorCreditRefund(JsonReader reader) throws Exception {
+
+        VendorCreditRefund vendorCreditRefund = new VendorCreditRefund();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "vendor_credit_refund_id":
+                    vendorCreditRefund.setVendorCreditRefundId(reader.nextString());
+                    break;
+                case "vendor_credit_id":
+                    vendorCreditRefund.setVendorCreditId(reader.nextString());
+                    break;
+                case "date":
+                    vendorCreditRefund.setDate(reader.nextString());
+                    break;
+                case "refund_mode":
+                    vendorCreditRefund.setRefundMode(reader.nextString());
+                    break;
+                case "reference_number":
+                    vendorCreditRefund.setReferenceNumber(reader.nextString());
+                    break;
+                case "description":
+                    vendorCreditRefund.setDescription(reader.nextString());
+                    break;
+                case "amount_bcy":
+                    vendorCreditRefund.setAmountBcy(reader.nextDouble());
+                    break;
+                case "amount_fcy":
+                    vendorCreditRefund.setAmountFcy(reader.nextDouble());
+                    break;
+                case "vendor_credit_number":
+                    vendorCreditRefund.setVendorCreditNumber(reader.nextString());
+                    break;
+                case "vendor_name":
+                    vendorCreditRefund.setVendorName(reader.nextString());
+                    break;
+                case "customer_name":
+                    vendorCreditRefund.setCustomerName(reader.nextString());
+                    break;
+                case "account_id":
+                    vendorCreditRefund.setAccountId(reader.nextString());
+                    break;
+                case "account_name":
+                    vendorCreditRefund.setAccountName(reader.nextString());
+                    break;
+                case "amount":
+                    vendorCreditRefund.setAmount(reader.nextDouble());
+                    break;
+                case "exchange_rate":
+                    vendorCreditRefund.setExchangeRate(reader.nextDouble());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
         return vendorCreditRefund;
-
     }
 
     /**
@@ -571,32 +733,49 @@ public class VendorCreditsParser {
 
     public BillsCredited jsonToBillsCredited(JSONObject jsonObject) throws JSONException {
 
+        return ResponseReader.convert(jsonObject, this::readBillsCredited);
+
+    }
+
+    /**
+     * Read a bills credited.
+     */
+
+    private BillsCredited readBillsCredited(JsonReader reader) throws Exception {
+
         BillsCredited billsCredited = new BillsCredited();
 
-        if (jsonObject.has("vendor_credit_id")) {
-            billsCredited.setVendorCreditId(jsonObject.getString("vendor_credit_id"));
-        }
-        if (jsonObject.has("bill_id")) {
-            billsCredited.setBillId(jsonObject.getString("bill_id"));
-        }
-        if (jsonObject.has("vendor_credit_bill_id")) {
-            billsCredited.setVendorCreditBillId(jsonObject.getString("vendor_credit_bill_id"));
-        }
-        if (jsonObject.has("date")) {
-            billsCredited.setDate(jsonObject.getString("date"));
-        }
-        if (jsonObject.has("bill_number")) {
-            billsCredited.setBillNumber(jsonObject.getString("bill_number"));
-        }
-        if (jsonObject.has("vendor_credit_number")) {
-            billsCredited.setVendorCreditNumber(jsonObject.getString("vendor_credit_number"));
-        }
-        if (jsonObject.has("amount")) {
-            billsCredited.setAmount(jsonObject.getDouble("amount"));    //No I18N
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "vendor_credit_id":
+                    billsCredited.setVendorCreditId(reader.nextString());
+                    break;
+                case "bill_id":
+                    billsCredited.setBillId(reader.nextString());
+                    break;
+                case "vendor_credit_bill_id":
+                    billsCredited.setVendorCreditBillId(reader.nextString());
+                    break;
+                case "date":
+                    billsCredited.setDate(reader.nextString());
+                    break;
+                case "bill_number":
+                    billsCredited.setBillNumber(reader.nextString());
+                    break;
+                case "vendor_credit_number":
+                    billsCredited.setVendorCreditNumber(reader.nextString());
+                    break;
+                case "amount":
+                    billsCredited.setAmount(reader.nextDouble());
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
 
         return billsCredited;
-
     }
 
 
@@ -605,14 +784,24 @@ public class VendorCreditsParser {
      *
      * @param response This JSON response contains the success message of post or update or delete requests.
      * @return Returns the success message.
+     * @deprecated Use {@link #getMessage(Reader)}.
      */
 
+    @Deprecated
     public String getMessage(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getMessage(new StringReader(response));
+    }
+
+    /**
+     * Parse the JSON response and returns a string object.
+     *
+     * @param response This JSON response contains the success message of post or update or delete requests.
+     * @return Returns the success message.
+     */
 
-        String success = jsonObject.getString("message");
+    public String getMessage(Reader response) throws Exception {
 
-        return success;
+        return ResponseReader.readObject(response, "message", JsonReader::nextString); //No I18N
     }
 
 }
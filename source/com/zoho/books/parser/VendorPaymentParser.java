@@ -3,14 +3,14 @@
 package com.zoho.books.parser;
 
 import com.zoho.books.model.Bill;
-import com.zoho.books.model.PageContext;
 import com.zoho.books.model.VendorPayment;
 import com.zoho.books.model.VendorPaymentList;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.zoho.books.util.JsonReader;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 
 /**
  * VendorPaymentParser is used to parse the json response and make it into the respective objects.
@@ -18,56 +18,95 @@ import java.util.List;
 
 public class VendorPaymentParser {
 
+    /**
+     * Names of the fields read from a vendor payment.
+     */
+
+    private static final Set<String> VENDOR_PAYMENT_FIELDS = Set.of("payment_id", "vendor_id", "vendor_name", //No I18N
+            "payment_mode", "description", "date", "reference_number", "exchange_rate", "amount", //No I18N
+            "paid_through_account_id", "paid_through_account_name", "balance", "currency_symbol", "bills"); //No I18N
+
+
 
     /**
      * Parse the json response and retruns the VendorPayment object.
      *
      * @param response This json response contains the vendor payment details.
      * @return Returns the VendorPayment object.
+     * @deprecated Use {@link #getVendorPayment(Reader)}.
      */
 
+    @Deprecated
     public VendorPayment getVendorPayment(String response) throws Exception {
-        VendorPayment vendorPayments = new VendorPayment();
-
-        JSONObject jsonObject = new JSONObject(response.trim());
-
-        JSONObject vendorPayment = jsonObject.getJSONObject("vendorpayment"); //No I18N
-
-        vendorPayments.setPaymentId(vendorPayment.getString("payment_id"));
-        vendorPayments.setVendorId(vendorPayment.getString("vendor_id"));
-        vendorPayments.setVendorName(vendorPayment.getString("vendor_name"));
-        vendorPayments.setPaymentMode(vendorPayment.getString("payment_mode"));
-        vendorPayments.setDescription(vendorPayment.getString("description"));
-        vendorPayments.setDate(vendorPayment.getString("date"));
-        vendorPayments.setReferenceNumber(vendorPayment.getString("reference_number"));
-        vendorPayments.setExchangeRate(vendorPayment.getDouble("exchange_rate"));    //No I18N
-        vendorPayments.setAmount(vendorPayment.getDouble("amount"));            //No I18N
-        vendorPayments.setCurrencySymbol(vendorPayment.getString("currency_symbol"));
-        vendorPayments.setPaidThroughAccountId(vendorPayment.getString("paid_through_account_id"));
-        vendorPayments.setPaidThroughAccountName(vendorPayment.getString("paid_through_account_name"));
-
-        JSONArray bills = vendorPayment.getJSONArray("bills"); //No I18N
-
-        List<Bill> billsList = new ArrayList<Bill>();
-
-        for (int i = 0; i < bills.length(); i++) {
-            Bill bill = new Bill();
-
-            bill.setBillNumber(bills.getJSONObject(i).getString("bill_number"));
-            bill.setBillPaymentId(bills.getJSONObject(i).getString("bill_payment_id"));
-            bill.setBillId(bills.getJSONObject(i).getString("bill_id"));
-            bill.setTotal(bills.getJSONObject(i).getDouble("total"));    //No I18N
-            bill.setBalance(bills.getJSONObject(i).getDouble("balance"));    //No I18N
-            bill.setAmountApplied(bills.getJSONObject(i).getDouble("amount_applied")); //No I18N
-            bill.setDate(bills.getJSONObject(i).getString("date"));
-            bill.setDueDate(bills.getJSONObject(i).getString("due_date"));
-
-            billsList.add(i, bill);
-        }
+        return getVendorPayment(new StringReader(response));
+    }
 
-        vendorPayments.setBills(billsList);
+    /**
+     * Parse the json response and retruns the VendorPayment object.
+     *
+     * @param response This json response contains the vendor payment details.
+     * @return Returns the VendorPayment object.
+     */
 
-        return vendorPayments;
+    public VendorPayment getVendorPayment(Reader response) throws Exception {
+        return getVendorPayment(response, null);
+    }
+
+    /**
+     * Parse the json response and retruns the VendorPayment object.
+     *
+     * @param response This json response contains the vendor payment details.
+     * @param fields   Names of the fields to read, or null to read every field.
+     * @return Returns the VendorPayment object.
+     */
+
+    public VendorPayment getVendorPayment(Reader response, Set<String> fields) throws Exception {
+
+        return ResponseReader.readObject(response, "vendorpayment", ResponseReader.project(this::readVendorPayment, fields, VENDOR_PAYMENT_FIELDS)); //No I18N
+    }
+
+    /**
+     * Read a bill.
+     */
+
+    private Bill readBill(JsonReader reader) throws Exception {
+
+        Bill bill = new Bill();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "bill_number":
+                    bill.setBillNumber(reader.nextString());
+                    break;
+                case "bill_payment_id":
+                    bill.setBillPaymentId(reader.nextString());
+                    break;
+                case "bill_id":
+                    bill.setBillId(reader.nextString());
+                    break;
+                case "total":
+                    bill.setTotal(reader.nextDouble());
+                    break;
+                case "balance":
+                    bill.setBalance(reader.nextDouble());
+                    break;
+                case "amount_applied":
+                    bill.setAmountApplied(reader.nextDouble());
+                    break;
+                case "date":
+                    bill.setDate(reader.nextString());
+                    break;
+                case "due_date":
+                    bill.setDueDate(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return bill;
     }
 
     /**
@@ -75,50 +114,116 @@ public class VendorPaymentParser {
      *
      * @param response This json response contains list of vendor payments details.
      * @return Returns the VendorPaymentList object.
+     * @deprecated Use {@link #getVendorPayments(Reader)}.
      */
 
+    @Deprecated
     public VendorPaymentList getVendorPayments(String response) throws Exception {
+        return getVendorPayments(new StringReader(response));
+    }
 
-        VendorPaymentList vendorPaymentList = new VendorPaymentList();
+    /**
+     * Parse the json response and returns the VendorPaymentList object.
+     *
+     * @param response This json response contains list of vendor payments details.
+     * @return Returns the VendorPaymentList object.
+     */
 
-        JSONObject jsonObject = new JSONObject(response.trim());
+    public VendorPaymentList getVendorPayments(Reader response) throws Exception {
+        return getVendorPayments(response, false);
+    }
 
-        JSONArray jsonArray = jsonObject.getJSONArray("vendorpayments"); //No I18N
+    /**
+     * Parse the json response and returns the VendorPaymentList object.
+     *
+     * @param response This json response contains list of vendor payments details.
+     * @param lazy     Whether a row is made into its model object only when it is first got from the list.
+     * @return Returns the VendorPaymentList object.
+     */
 
-        for (int i = 0; i < jsonArray.length(); i++) {
-            VendorPayment vendorPayment = new VendorPayment();
+    public VendorPaymentList getVendorPayments(Reader response, boolean lazy) throws Exception {
+        return getVendorPayments(response, lazy, null);
+    }
 
-            vendorPayment.setPaymentId(jsonArray.getJSONObject(i).getString("payment_id"));
-            vendorPayment.setVendorId(jsonArray.getJSONObject(i).getString("vendor_id"));
-            vendorPayment.setVendorName(jsonArray.getJSONObject(i).getString("vendor_name"));
-            vendorPayment.setPaymentMode(jsonArray.getJSONObject(i).getString("payment_mode"));
-            vendorPayment.setDescription(jsonArray.getJSONObject(i).getString("description"));
-            vendorPayment.setDate(jsonArray.getJSONObject(i).getString("date"));
-            vendorPayment.setReferenceNumber(jsonArray.getJSONObject(i).getString("reference_number"));
-            vendorPayment.setExchangeRate(jsonArray.getJSONObject(i).getDouble("exchange_rate"));    //No I18N
-            vendorPayment.setAmount(jsonArray.getJSONObject(i).getDouble("amount"));        //No I18N
-            vendorPayment.setPaidThroughAccountId(jsonArray.getJSONObject(i).getString("paid_through_account_id"));
-            vendorPayment.setPaidThroughAccountName(jsonArray.getJSONObject(i).getString("paid_through_account_name"));
-            vendorPayment.setBalance(jsonArray.getJSONObject(i).getDouble("balance")); //No I18N
+    /**
+     * Parse the json response and returns the VendorPaymentList object.
+     *
+     * @param response This json response contains list of vendor payments details.
+     * @param lazy     Whether a row is made into its model object only when it is first got from the list.
+     * @param fields   Names of the fields to read from each row, or null to read every field.
+     * @return Returns the VendorPaymentList object.
+     */
 
-            vendorPaymentList.add(vendorPayment);
-        }
+    public VendorPaymentList getVendorPayments(Reader response, boolean lazy, Set<String> fields) throws Exception {
 
-        PageContext pageContext = new PageContext();
+        VendorPaymentList vendorPaymentList = new VendorPaymentList();
 
-        JSONObject pagecontext = jsonObject.getJSONObject("page_context"); //No I18N
+        vendorPaymentList.setPageContext(ResponseReader.readRows(response, "vendorpayments", vendorPaymentList, "payment_id", "amount", ResponseReader.project(this::readVendorPayment, fields, VENDOR_PAYMENT_FIELDS), lazy)); //No I18N
 
-        pageContext.setPage(pagecontext.getInt("page"));    //No I18N
-        pageContext.setPerPage(pagecontext.getInt("per_page")); //No I18N
-        pageContext.setHasMorePage(pagecontext.getBoolean("has_more_page")); //No I18N
-        pageContext.setReportName(pagecontext.getString("report_name"));
-        pageContext.setAppliedFilter(pagecontext.getString("applied_filter"));
-        pageContext.setSortColumn(pagecontext.getString("sort_column"));
-        pageContext.setSortOrder(pagecontext.getString("sort_order"));
+        return vendorPaymentList;
 
-        vendorPaymentList.setPageContext(pageContext);
+    }
 
-        return vendorPaymentList;
+    /**
+     * Read a vendor payment.
+     */
+
+    private VendorPayment readVendorPayment(JsonReader reader) throws Exception {
+
+        VendorPayment vendorPayment = new VendorPayment();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "payment_id":
+                    vendorPayment.setPaymentId(reader.nextString());
+                    break;
+                case "vendor_id":
+                    vendorPayment.setVendorId(reader.nextString());
+                    break;
+                case "vendor_name":
+                    vendorPayment.setVendorName(reader.nextString());
+                    break;
+                case "payment_mode":
+                    vendorPayment.setPaymentMode(reader.nextString());
+                    break;
+                case "description":
+                    vendorPayment.setDescription(reader.nextString());
+                    break;
+                case "date":
+                    vendorPayment.setDate(reader.nextString());
+                    break;
+                case "reference_number":
+                    vendorPayment.setReferenceNumber(reader.nextString());
+                    break;
+                case "exchange_rate":
+                    vendorPayment.setExchangeRate(reader.nextDouble());
+                    break;
+                case "amount":
+                    vendorPayment.setAmount(reader.nextDouble());
+                    break;
+                case "paid_through_account_id":
+                    vendorPayment.setPaidThroughAccountId(reader.nextString());
+                    break;
+                case "paid_through_account_name":
+                    vendorPayment.setPaidThroughAccountName(reader.nextString());
+                    break;
+                case "balance":
+                    vendorPayment.setBalance(reader.nextDouble());
+                    break;
+                case "currency_symbol":
+                    vendorPayment.setCurrencySymbol(reader.nextString());
+                    break;
+                case "bills":
+                    vendorPayment.setBills(ResponseReader.readArray(reader, new ArrayList<Bill>(), this::readBill));
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return vendorPayment;
     }
 
     /**
@@ -126,13 +231,23 @@ public class VendorPaymentParser {
      *
      * @param response This json response contains the success message of post or update or delete requests.
      * @return Returns the success message.
+     * @deprecated Use {@link #getMessage(Reader)}.
      */
 
+    @Deprecated
     public String getMessage(String response) throws Exception {
-        JSONObject jsonObject = new JSONObject(response.trim());
+        return getMessage(new StringReader(response));
+    }
+
+    /**
+     * Parse the json response and returns a string object.
+     *
+     * @param response This json response contains the success message of post or update or delete requests.
+     * @return Returns the success message.
+     */
 
-        String success = jsonObject.getString("message");
+    public String getMessage(Reader response) throws Exception {
 
-        return success;
+        return ResponseReader.readObject(response, "message", JsonReader::nextString); //No I18N
     }
 }
@@ -2,6 +2,7 @@
 
 package com.zoho.books.service;
 
+import com.zoho.books.api.API;
 import com.zoho.books.api.InvoicesApi;
 import com.zoho.books.api.PurchaseOrderApi;
 import com.zoho.books.api.RecurringInvoicesApi;
@@ -27,9 +28,28 @@ import com.zoho.books.api.SettingsApi;
 import com.zoho.books.api.OrganizationsApi;
 import com.zoho.books.api.UsersApi;
 import com.zoho.books.api.ItemsApi;
+import com.zoho.books.model.Organization;
+import com.zoho.books.transport.Priority;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.util.RateLimiter;
+import com.zoho.books.util.RequestCoalescer;
+import com.zoho.books.util.RetryPolicy;
+import com.zoho.books.util.TokenProvider;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * ZohoBooks is used to provide all api instances for the Zoho Books services.
+ * <p>
+ * Build one ZohoBooks per organization and share it between threads. Each api instance is created on first use and
+ * the same instance is returned afterwards, so getting an api is a map lookup. As every thread gets the same api
+ * instance, its settings are fixed when it is created: the setters of a shared api instance throw an
+ * IllegalStateException, and the settings are changed on the ZohoBooks. Initializing ZohoBooks again, or changing its
+ * settings, only affects the api instances returned afterwards. Use a separate ZohoBooks for a job that needs other
+ * settings, such as the BACKGROUND priority.
  */
 
 public class ZohoBooks {
@@ -37,23 +57,259 @@ public class ZohoBooks {
     private String accessToken;
     private String organizationId;
     private boolean eu = false;
+    private Transport transport;
+    private Executor executor;
+    private RateLimiter rateLimiter = RateLimiter.getDefault();
+    private RetryPolicy retryPolicy = RetryPolicy.getDefault();
+    private RequestCoalescer requestCoalescer;
+    private TokenProvider tokenProvider;
+    private Priority priority = Priority.INTERACTIVE;
+    private boolean lazyLists = false;
+
+    private final ConcurrentMap<Class<?>, API> apis = new ConcurrentHashMap<Class<?>, API>();
+
+    /**
+     * Construct a ZohoBooks that must be initialized before use.
+     */
+
+	public ZohoBooks()
+	{
+	}
+
+    /**
+     * Construct a ZohoBooks using user's accessToken and organization id.
+     *
+     * @param accessToken    User's accessToken.
+     * @param organizationId ID of the organization.
+     */
+
+	public ZohoBooks(String accessToken, String organizationId)
+	{
+
+		initialize(accessToken, organizationId);
+
+	}
 
     /**
-     * Initialize ZohoBooks using user's accessToken and organization id.
+     * Construct a ZohoBooks using user's accessToken, organization id and the transport shared by all the api instances.
+     *
+     * @param accessToken    User's accessToken.
+     * @param organizationId ID of the organization.
+     * @param eu             Whether the organization is in the EU data center.
+     * @param transport      Transport used to execute the requests. The default transport is used when it is null.
+     */
+
+	public ZohoBooks(String accessToken, String organizationId, boolean eu, Transport transport)
+	{
+
+		initialize(accessToken, organizationId, eu, transport);
+
+	}
+
+    /**
+     * Construct a ZohoBooks with a provider that supplies and refreshes the access tokens of all the api instances.
+     *
+     * @param tokenProvider  Provider of the access tokens, such as an OAuthTokenProvider.
+     * @param organizationId ID of the organization.
+     * @param eu             Whether the organization is in the EU data center.
+     * @param transport      Transport used to execute the requests. The default transport is used when it is null.
+     */
+
+	public ZohoBooks(TokenProvider tokenProvider, String organizationId, boolean eu, Transport transport)
+	{
+
+		initialize(tokenProvider, organizationId, eu, transport);
+
+	}
+
+    /**
+     * Initialize ZohoBooks using user's accessToken and organization id, for the US data center and the default transport.
      *
      * @param accessToken      User's accessToken.
      * @param organizationId ID of the organization.
      */
 
-	public void initialize(String accessToken, String organizationId)
+	public synchronized void initialize(String accessToken, String organizationId)
 	{
 
 		this.accessToken = accessToken;
+		this.tokenProvider = null;
 		this.organizationId = organizationId;
+		this.eu = false;
+		this.transport = null;
+		apis.clear();
 
 	}
 
+    /**
+     * Initialize ZohoBooks using user's accessToken, organization id and the transport shared by all the api instances.
+     *
+     * @param accessToken    User's accessToken.
+     * @param organizationId ID of the organization.
+     * @param eu             Whether the organization is in the EU data center.
+     * @param transport      Transport used to execute the requests. The default transport is used when it is null.
+     */
+
+	public synchronized void initialize(String accessToken, String organizationId, boolean eu, Transport transport)
+	{
 
+		this.accessToken = accessToken;
+		this.tokenProvider = null;
+		this.organizationId = organizationId;
+		this.eu = eu;
+		this.transport = transport;
+		apis.clear();
+
+	}
+
+    /**
+     * Initialize ZohoBooks with a provider that supplies and refreshes the access tokens of all the api instances.
+     *
+     * @param tokenProvider  Provider of the access tokens, such as an OAuthTokenProvider.
+     * @param organizationId ID of the organization.
+     * @param eu             Whether the organization is in the EU data center.
+     * @param transport      Transport used to execute the requests. The default transport is used when it is null.
+     */
+
+	public synchronized void initialize(TokenProvider tokenProvider, String organizationId, boolean eu, Transport transport)
+	{
+
+		this.accessToken = null;
+		this.tokenProvider = tokenProvider;
+		this.organizationId = organizationId;
+		this.eu = eu;
+		this.transport = transport;
+		apis.clear();
+
+	}
+
+
+
+
+    /**
+     * Set the executor that runs the asynchronous methods of the api instances returned afterwards.
+     *
+     * @param executor Executor object. The default executor, which uses virtual threads where available, is used when it is null.
+     */
+
+	public synchronized void setExecutor(Executor executor)
+	{
+
+		this.executor = executor;
+		apis.clear();
+
+	}
+
+    /**
+     * Set the rate limiter that keeps the requests of the api instances returned afterwards within the quota of the organization.
+     *
+     * @param rateLimiter RateLimiter object, or null to send the requests without rate limiting. The shared default limiter is used otherwise.
+     */
+
+	public synchronized void setRateLimiter(RateLimiter rateLimiter)
+	{
+
+		this.rateLimiter = rateLimiter;
+		apis.clear();
+
+	}
+
+    /**
+     * Set the policy that decides which failed requests of the api instances returned afterwards are sent again.
+     *
+     * @param retryPolicy RetryPolicy object, or null to never retry. The shared default policy is used otherwise.
+     */
+
+	public synchronized void setRetryPolicy(RetryPolicy retryPolicy)
+	{
+
+		this.retryPolicy = retryPolicy;
+		apis.clear();
+
+	}
+
+    /**
+     * Set the coalescer that lets identical concurrent GET requests of the api instances returned afterwards share one response.
+     *
+     * @param requestCoalescer RequestCoalescer object, or null to send every GET request on its own, which is the default.
+     */
+
+	public synchronized void setRequestCoalescer(RequestCoalescer requestCoalescer)
+	{
+
+		this.requestCoalescer = requestCoalescer;
+		apis.clear();
+
+	}
+
+    /**
+     * Set the priority of the requests of the api instances returned afterwards. Use a separate ZohoBooks with the
+     * BACKGROUND priority for bulk and sync jobs, so that they leave a share of the rate budget to interactive requests.
+     *
+     * @param priority Priority of the requests. INTERACTIVE is used when it is null, which is the default.
+     */
+
+	public synchronized void setPriority(Priority priority)
+	{
+
+		this.priority = priority;
+		apis.clear();
+
+	}
+
+    /**
+     * Set whether the list methods of the api instances returned afterwards make the model object of a row only when
+     * it is first got from the list. Use it for jobs that scan the ids or totals of many pages.
+     *
+     * @param lazyLists True to read the rows of the lists lazily. Lists are read in full by default.
+     */
+
+	public synchronized void setLazyLists(boolean lazyLists)
+	{
+
+		this.lazyLists = lazyLists;
+		apis.clear();
+
+	}
+
+    /**
+     * Open connections to the Zoho Books service ahead of the first requests, so that those run without waiting
+     * for the DNS lookup and the TCP and TLS handshakes. Call it once the ZohoBooks is initialized, for example
+     * while the application starts. The connections are kept in the pool of the transport.
+     *
+     * @param connections Number of connections to open. With HTTP/2 one connection carries all the requests, so 1 is enough.
+     * @return Returns the number of connections that were opened.
+     */
+
+	public int warmUp(int connections) throws Exception
+	{
+
+		return getOrganizationsApi().warmUp(connections);
+
+	}
+
+    /**
+     * Open connections to the Zoho Books service ahead of the first requests, and optionally fetch the details of
+     * the organization, which also checks the access token and gets a fresh one from the token provider if needed.
+     *
+     * @param connections          Number of connections to open.
+     * @param prefetchOrganization Whether to fetch the details of the organization.
+     * @return Returns the Organization object, or null if it was not fetched.
+     */
+
+	public Organization warmUp(int connections, boolean prefetchOrganization) throws Exception
+	{
+
+		warmUp(connections);
+
+		if(!prefetchOrganization)
+		{
+			return null;
+		}
+
+		return getOrganizationsApi().get(organizationId);
+
+	}
 
 
 	/**
@@ -66,9 +322,7 @@ public class ZohoBooks {
 
 	public InvoicesApi getInvoicesApi()
 	{
-		InvoicesApi invoicesApi = new InvoicesApi(accessToken, organizationId);
-
-		return invoicesApi;
+		return getApi(InvoicesApi.class, books -> new InvoicesApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 
@@ -82,9 +336,7 @@ public class ZohoBooks {
 
 	public RecurringInvoicesApi getRecurringInvoicesApi()
 	{
-		RecurringInvoicesApi recurringInvoicesApi = new RecurringInvoicesApi(accessToken, organizationId);
-
-		return recurringInvoicesApi;
+		return getApi(RecurringInvoicesApi.class, books -> new RecurringInvoicesApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 
@@ -99,9 +351,7 @@ public class ZohoBooks {
 
 	public CreditNotesApi getCreditNotesApi()
 	{
-		CreditNotesApi creditNotesApi = new CreditNotesApi(accessToken, organizationId);
-
-		return creditNotesApi;
+		return getApi(CreditNotesApi.class, books -> new CreditNotesApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 
@@ -118,9 +368,7 @@ public class ZohoBooks {
 
 	public EstimatesApi getEstimatesApi()
 	{
-		EstimatesApi estimatesApi = new EstimatesApi(accessToken, organizationId);
-
-		return estimatesApi;
+		return getApi(EstimatesApi.class, books -> new EstimatesApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 
@@ -136,9 +384,7 @@ public class ZohoBooks {
 
 	public CustomerPaymentsApi getCustomerPaymentsApi()
 	{
-		CustomerPaymentsApi customerPaymentsApi = new CustomerPaymentsApi(accessToken, organizationId);
-
-		return customerPaymentsApi;
+		return getApi(CustomerPaymentsApi.class, books -> new CustomerPaymentsApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 
@@ -153,9 +399,7 @@ public class ZohoBooks {
 
 	public ExpensesApi getExpensesApi()
 	{
-		ExpensesApi expensesApi = new ExpensesApi(accessToken, organizationId);
-
-		return expensesApi;
+		return getApi(ExpensesApi.class, books -> new ExpensesApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 
@@ -171,9 +415,7 @@ public class ZohoBooks {
 
 	public RecurringExpensesApi getRecurringExpensesApi()
 	{
-		RecurringExpensesApi recurringExpensesApi = new RecurringExpensesApi(accessToken, organizationId);
-
-		return recurringExpensesApi;
+		return getApi(RecurringExpensesApi.class, books -> new RecurringExpensesApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 
@@ -188,9 +430,7 @@ public class ZohoBooks {
 
 	public ChartOfAccountsApi getChartOfAccountsApi()
 	{
-		ChartOfAccountsApi chartOfAccountsApi = new ChartOfAccountsApi(accessToken, organizationId);
-
-		return chartOfAccountsApi;
+		return getApi(ChartOfAccountsApi.class, books -> new ChartOfAccountsApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 
@@ -205,9 +445,7 @@ public class ZohoBooks {
 
 	public JournalsApi getJournalsApi()
 	{
-		JournalsApi journalsApi = new JournalsApi(accessToken, organizationId);
-
-		return journalsApi;
+		return getApi(JournalsApi.class, books -> new JournalsApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 
@@ -222,9 +460,7 @@ public class ZohoBooks {
 
 	public BaseCurrencyAdjustmentsApi getBaseCurrencyAdjustmentsApi()
 	{
-		BaseCurrencyAdjustmentsApi baseCurrencyAdjustmentsApi = new BaseCurrencyAdjustmentsApi(accessToken, organizationId);
-
-		return baseCurrencyAdjustmentsApi;
+		return getApi(BaseCurrencyAdjustmentsApi.class, books -> new BaseCurrencyAdjustmentsApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 
@@ -239,9 +475,7 @@ public class ZohoBooks {
 
 	public ContactsApi getContactsApi()
 	{
-		ContactsApi contactsApi = new ContactsApi(accessToken, organizationId);
-
-		return contactsApi;
+		return getApi(ContactsApi.class, books -> new ContactsApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 	/**
@@ -254,9 +488,7 @@ public class ZohoBooks {
 
 	public ContactPersonsApi getContactPersonsApi()
 	{
-		ContactPersonsApi contactPersonsApi = new ContactPersonsApi(accessToken, organizationId);
-
-		return contactPersonsApi;
+		return getApi(ContactPersonsApi.class, books -> new ContactPersonsApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 
@@ -271,9 +503,7 @@ public class ZohoBooks {
 
 	public VendorPaymentsApi getVendorPaymentsApi()
 	{
-		VendorPaymentsApi vendorPaymentsApi = new VendorPaymentsApi(accessToken, organizationId);
-
-		return vendorPaymentsApi;
+		return getApi(VendorPaymentsApi.class, books -> new VendorPaymentsApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 	/**
@@ -286,9 +516,7 @@ public class ZohoBooks {
 
 	public BankAccountsApi getBankAccountsApi()
 	{
-		BankAccountsApi bankAccountsApi = new BankAccountsApi(accessToken, organizationId);
-
-		return bankAccountsApi;
+		return getApi(BankAccountsApi.class, books -> new BankAccountsApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 
@@ -302,9 +530,7 @@ public class ZohoBooks {
 
 	public BankTransactionsApi getBankTransactionsApi()
 	{
-		BankTransactionsApi bankTransactionsApi = new BankTransactionsApi(accessToken, organizationId);
-
-		return bankTransactionsApi;
+		return getApi(BankTransactionsApi.class, books -> new BankTransactionsApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 
@@ -318,9 +544,7 @@ public class ZohoBooks {
 
 	public BankRulesApi getBankRulesApi()
 	{
-		BankRulesApi bankRulesApi = new BankRulesApi(accessToken, organizationId);
-
-		return bankRulesApi;
+		return getApi(BankRulesApi.class, books -> new BankRulesApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 
@@ -334,9 +558,7 @@ public class ZohoBooks {
 
 	public BillsApi getBillsApi()
 	{
-		BillsApi billsApi = new BillsApi(accessToken, organizationId);
-
-		return billsApi;
+		return getApi(BillsApi.class, books -> new BillsApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 
@@ -353,9 +575,7 @@ public class ZohoBooks {
 
 	public ProjectsApi getProjectsApi()
 	{
-		ProjectsApi projectsApi = new ProjectsApi(accessToken, organizationId);
-
-		return projectsApi;
+		return getApi(ProjectsApi.class, books -> new ProjectsApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 
@@ -370,9 +590,7 @@ public class ZohoBooks {
 
 	public SettingsApi getSettingsApi()
 	{
-		SettingsApi settingsApi = new SettingsApi(accessToken, organizationId);
-
-		return settingsApi;
+		return getApi(SettingsApi.class, books -> new SettingsApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 	/**
@@ -385,9 +603,7 @@ public class ZohoBooks {
 
 	public OrganizationsApi getOrganizationsApi()
 	{
-		OrganizationsApi organizationsApi = new OrganizationsApi(accessToken);
-
-		return organizationsApi;
+		return getApi(OrganizationsApi.class, books -> new OrganizationsApi(books.accessToken, books.eu, books.transport));
 	}
 
 	/**
@@ -400,9 +616,7 @@ public class ZohoBooks {
 
 	public UsersApi getUsersApi()
 	{
-		UsersApi usersApi = new UsersApi(accessToken, organizationId);
-
-		return usersApi;
+		return getApi(UsersApi.class, books -> new UsersApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 	/**
@@ -415,9 +629,7 @@ public class ZohoBooks {
 
 	public ItemsApi getItemsApi()
 	{
-		ItemsApi itemsApi = new ItemsApi(accessToken, organizationId);
-
-		return itemsApi;
+		return getApi(ItemsApi.class, books -> new ItemsApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 	/**
@@ -428,11 +640,7 @@ public class ZohoBooks {
 
 	public SalesOrderApi getSalesOrderApi()
 	{
-
-		SalesOrderApi salesOrderApi = new SalesOrderApi(accessToken, organizationId);
-
-		return salesOrderApi;
-
+		return getApi(SalesOrderApi.class, books -> new SalesOrderApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 	/**
@@ -443,11 +651,7 @@ public class ZohoBooks {
 
 	public PurchaseOrderApi getPurchaseOrderApi()
 	{
-
-		PurchaseOrderApi purchaseOrderApi = new PurchaseOrderApi(accessToken, organizationId);
-
-		return purchaseOrderApi;
-
+		return getApi(PurchaseOrderApi.class, books -> new PurchaseOrderApi(books.accessToken, books.organizationId, books.eu, books.transport));
 	}
 
 	/**
@@ -458,10 +662,44 @@ public class ZohoBooks {
 
 	public VendorCreditsApi getVendorCreditsApi()
 	{
+		return getApi(VendorCreditsApi.class, books -> new VendorCreditsApi(books.accessToken, books.organizationId, books.eu, books.transport));
+	}
 
-		VendorCreditsApi vendorCreditsApi = new VendorCreditsApi(accessToken, organizationId);
+    /**
+     * Get the cached api instance of the given type, and create it with the current settings on first use.
+     *
+     * @param type    Class of the api.
+     * @param factory Creates the api from the settings of this ZohoBooks.
+     * @return Returns the api instance.
+     */
+
+	private <T extends API> T getApi(Class<T> type, Function<ZohoBooks, T> factory)
+	{
 
-		return vendorCreditsApi;
+		API api = apis.get(type);
+
+		if(api == null)
+		{
+			synchronized(this)
+			{
+				api = apis.get(type);
+				if(api == null)
+				{
+					api = factory.apply(this);
+					api.setExecutor(executor);
+					api.setRateLimiter(rateLimiter);
+					api.setRetryPolicy(retryPolicy);
+					api.setRequestCoalescer(requestCoalescer);
+					api.setTokenProvider(tokenProvider);
+					api.setPriority(priority);
+					api.setLazyLists(lazyLists);
+					api.lockSettings();
+					apis.put(type, api);
+				}
+			}
+		}
+
+		return type.cast(api);
 
 	}
 
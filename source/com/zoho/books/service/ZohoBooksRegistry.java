@@ -0,0 +1,167 @@
+/* $Id$ */
+
+package com.zoho.books.service;
+
+import com.zoho.books.transport.HttpClientTransport;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.transport.TransportConfig;
+import com.zoho.books.util.TokenProvider;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * ZohoBooksRegistry is used to serve many organizations from one application.
+ * <p>
+ * It keeps one ZohoBooks per organization, and all of them send their requests through one transport and its
+ * connection pool. When the connections are all in use, the waiting requests of the organizations are served in
+ * turn, so a bulk export of one organization does not hold back the requests of the others. An organization can be
+ * given a larger share with {@link #setWeight(String, int)}.
+ * <p>
+ * The shared transport is an HttpClientTransport, unless a factory of the transport is given to the constructor.
+ */
+
+public class ZohoBooksRegistry {
+
+    private TransportConfig config;
+
+    private Transport transport;
+
+    private ConcurrentMap<String, ZohoBooks> clients = new ConcurrentHashMap<String, ZohoBooks>();
+
+
+    /**
+     * Construct a new ZohoBooksRegistry with the default connection settings.
+     */
+
+    public ZohoBooksRegistry() {
+        this(new TransportConfig());
+    }
+
+    /**
+     * Construct a new ZohoBooksRegistry with the given connection settings.
+     *
+     * @param config TransportConfig object, which also holds the weights of the organizations.
+     */
+
+    public ZohoBooksRegistry(TransportConfig config) {
+        this(config, HttpClientTransport::new);
+    }
+
+    /**
+     * Construct a new ZohoBooksRegistry whose shared transport is made by the given factory, so that the transport
+     * can be wrapped in decorators such as CachingTransport or CircuitBreakerTransport.
+     * <p>
+     * The weights of the organizations are kept in the config, so they are used only if the transport made by the
+     * factory limits its connections with that config, as HttpClientTransport and UrlConnectionTransport do.
+     *
+     * @param config    TransportConfig object, which also holds the weights of the organizations.
+     * @param transport Factory that makes the shared transport from the config.
+     */
+
+    public ZohoBooksRegistry(TransportConfig config, Function<TransportConfig, Transport> transport) {
+        this.config = config;
+        this.transport = transport.apply(config);
+    }
+
+
+    /**
+     * Register an organization, or replace the client of an organization already registered.
+     *
+     * @param organizationId ID of the organization.
+     * @param accessToken    Access token of the organization.
+     * @param eu             Whether the organization is in the EU data center.
+     * @return Returns the ZohoBooks object of the organization.
+     */
+
+    public ZohoBooks register(String organizationId, String accessToken, boolean eu) {
+        ZohoBooks client = new ZohoBooks(accessToken, organizationId, eu, transport);
+
+        clients.put(organizationId, client);
+
+        return client;
+    }
+
+    /**
+     * Register an organization whose access tokens are supplied by a provider, or replace the client of an
+     * organization already registered.
+     *
+     * @param organizationId ID of the organization.
+     * @param tokenProvider  Provider of the access tokens of the organization.
+     * @param eu             Whether the organization is in the EU data center.
+     * @return Returns the ZohoBooks object of the organization.
+     */
+
+    public ZohoBooks register(String organizationId, TokenProvider tokenProvider, boolean eu) {
+        ZohoBooks client = new ZohoBooks(tokenProvider, organizationId, eu, transport);
+
+        clients.put(organizationId, client);
+
+        return client;
+    }
+
+    /**
+     * Get the client of an organization.
+     *
+     * @param organizationId ID of the organization.
+     * @return Returns the ZohoBooks object, or null if the organization is not registered.
+     */
+
+    public ZohoBooks get(String organizationId) {
+        return clients.get(organizationId);
+    }
+
+    /**
+     * Remove an organization. Requests already made by its client are not affected.
+     *
+     * @param organizationId ID of the organization.
+     * @return Returns the ZohoBooks object that was removed, or null if the organization was not registered.
+     */
+
+    public ZohoBooks remove(String organizationId) {
+        return clients.remove(organizationId);
+    }
+
+    /**
+     * get the IDs of the registered organizations.
+     *
+     * @return Returns an unmodifiable view of the organization IDs.
+     */
+
+    public Set<String> getOrganizationIds() {
+        return Collections.unmodifiableSet(clients.keySet());
+    }
+
+    /**
+     * set the share of the connections an organization is given when they are all in use.
+     *
+     * @param organizationId ID of the organization.
+     * @param weight         Number of connections the organization is given in its turn. The default is 1.
+     */
+
+    public void setWeight(String organizationId, int weight) {
+        config.setOrganizationWeight(organizationId, weight);
+    }
+
+    /**
+     * get the transport shared by the organizations.
+     *
+     * @return Returns the Transport object.
+     */
+
+    public Transport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Remove all the organizations and release the connections and threads of the shared transport.
+     */
+
+    public void close() {
+        clients.clear();
+        transport.close();
+    }
+}
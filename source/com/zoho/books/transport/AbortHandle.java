@@ -0,0 +1,98 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+/**
+ * AbortHandle is used to abort the request that is in flight on a thread.
+ * <p>
+ * An asynchronous call binds a handle to the thread that runs it. While a request is executing, the Transport
+ * registers an action that tears down its connection, so that aborting the handle stops the request even when
+ * the thread is blocked in a socket read.
+ */
+
+public class AbortHandle {
+
+    private static final ThreadLocal<AbortHandle> CURRENT = new ThreadLocal<AbortHandle>();
+
+    private boolean aborted;
+
+    private Runnable action;
+
+
+    /**
+     * get the handle bound to the current thread.
+     *
+     * @return Returns the AbortHandle or null if the current thread is not running an abortable call.
+     */
+
+    public static AbortHandle current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Bind a handle to the current thread, or unbind it when the handle is null.
+     *
+     * @param handle AbortHandle object.
+     */
+
+    public static void bind(AbortHandle handle) {
+        if (handle == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(handle);
+        }
+    }
+
+    /**
+     * Register the action that aborts the request in flight on the current thread.
+     * If a handle is bound and has already been aborted, the action is run at once.
+     *
+     * @param action Action that releases the connection of the request.
+     */
+
+    public static void onAbort(Runnable action) {
+        AbortHandle handle = CURRENT.get();
+
+        if (handle != null) {
+            handle.setAction(action);
+        }
+    }
+
+    /**
+     * check whether the handle has been aborted.
+     *
+     * @return Returns true if {@link #abort()} has been called.
+     */
+
+    public synchronized boolean isAborted() {
+        return aborted;
+    }
+
+    /**
+     * Abort the request currently registered with this handle, and every request registered after this call.
+     */
+
+    public void abort() {
+        Runnable current;
+
+        synchronized (this) {
+            aborted = true;
+            current = action;
+        }
+        if (current != null) {
+            current.run();
+        }
+    }
+
+    private void setAction(Runnable action) {
+        boolean runNow;
+
+        synchronized (this) {
+            this.action = action;
+            runNow = aborted;
+        }
+        if (runNow) {
+            action.run();
+        }
+    }
+}
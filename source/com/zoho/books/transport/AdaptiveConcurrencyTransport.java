@@ -0,0 +1,279 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import com.zoho.books.exception.DeadlineExceededException;
+
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AdaptiveConcurrencyTransport is used to find how many requests can be in flight at once without overloading the
+ * server, instead of guessing a thread count.
+ * <p>
+ * It wraps another Transport and lets at most {@link #getLimit()} requests run at the same time; the others wait.
+ * The limit follows AIMD (additive increase, multiplicative decrease): it grows by one for every limit's worth of
+ * requests answered quickly while the limit is in use, and is cut by the backoff ratio when a request times out,
+ * is throttled with 429 or 503, or takes longer than the tolerance times the shortest recent response time.
+ * A bulk job can then submit all its work and the number of concurrent requests settles where throughput peaks.
+ * <p>
+ * A request counts as in flight until its response headers have arrived. Its response time is measured from when
+ * the wrapped transport gives it a connection permit, so a wait for a connection does not lower the limit.
+ */
+
+public class AdaptiveConcurrencyTransport implements Transport {
+
+    private static final int WINDOW = 500;
+
+    private Transport delegate;
+
+    private int minLimit;
+
+    private int maxLimit;
+
+    private double limit;
+
+    private double backoffRatio = 0.75;
+
+    private double tolerance = 2.0;
+
+    private int inFlight;
+
+    private long minLatency = Long.MAX_VALUE;
+
+    private long windowMinLatency = Long.MAX_VALUE;
+
+    private int windowCount;
+
+    private long lastDecrease = System.nanoTime();
+
+    private ReentrantLock lock = new ReentrantLock();
+
+    private Condition available = lock.newCondition();
+
+
+    /**
+     * Construct a new AdaptiveConcurrencyTransport that starts at 8 concurrent requests and stays between 1 and 64.
+     *
+     * @param delegate Transport that executes the requests.
+     */
+
+    public AdaptiveConcurrencyTransport(Transport delegate) {
+        this(delegate, 8, 1, 64);
+    }
+
+    /**
+     * Construct a new AdaptiveConcurrencyTransport.
+     *
+     * @param delegate     Transport that executes the requests.
+     * @param initialLimit Number of concurrent requests allowed at first.
+     * @param minLimit     Lowest number of concurrent requests the limit goes down to.
+     * @param maxLimit     Highest number of concurrent requests the limit goes up to.
+     */
+
+    public AdaptiveConcurrencyTransport(Transport delegate, int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit"); //No I18N
+        }
+        this.delegate = delegate;
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+
+    /**
+     * get the number of requests currently allowed in flight at once.
+     *
+     * @return Returns the concurrency limit.
+     */
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * get the number of requests in flight.
+     *
+     * @return Returns the number of requests waiting for their response headers.
+     */
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * get the factor the limit is multiplied by when the server shows signs of overload.
+     *
+     * @return Returns the backoff ratio.
+     */
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * set the factor the limit is multiplied by when the server shows signs of overload.
+     *
+     * @param backoffRatio Backoff ratio, between 0.5 and 1.
+     */
+
+    public void setBackoffRatio(double backoffRatio) {
+        if (backoffRatio < 0.5 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be between 0.5 and 1"); //No I18N
+        }
+        this.backoffRatio = backoffRatio;
+    }
+
+    /**
+     * get how many times the shortest recent response time a response may take before the limit is lowered.
+     *
+     * @return Returns the latency tolerance.
+     */
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * set how many times the shortest recent response time a response may take before the limit is lowered.
+     * Raise it when the requests sent through this transport differ a lot in size.
+     *
+     * @param tolerance Latency tolerance, greater than 1.
+     */
+
+    public void setTolerance(double tolerance) {
+        if (tolerance <= 1) {
+            throw new IllegalArgumentException("tolerance must be greater than 1"); //No I18N
+        }
+        this.tolerance = tolerance;
+    }
+
+
+    public TransportResponse execute(TransportRequest request) throws Exception {
+        acquire();
+
+        long started = System.nanoTime();
+        TransportResponse response;
+
+        try {
+            response = delegate.execute(request);
+        } catch (Exception e) {
+            boolean overload = (e instanceof SocketTimeoutException || e instanceof HttpTimeoutException
+                    || (e instanceof InterruptedIOException && !(e.getCause() instanceof InterruptedException)))
+                    && !Deadline.isCurrentExpired();
+
+            release(sent(request, started), overload, !overload);
+            throw e;
+        }
+
+        int status = response.getStatus();
+
+        release(sent(request, started), status == 429 || status == 503, false);
+
+        return response;
+    }
+
+    public void close() {
+        delegate.close();
+    }
+
+    /**
+     * Find when the request was sent. The connection limiter of the transport may hold a request before it is sent,
+     * and that wait is the backlog of this client, not the load of the server, so it must not lower the limit.
+     *
+     * @param request The request.
+     * @param started Value of System.nanoTime() when the request was passed on.
+     * @return Returns the time the request got its connection permit, or the started time if the transport does not
+     * mark it.
+     */
+
+    private static long sent(TransportRequest request, long started) {
+        long sent = request.getSent();
+
+        return sent != 0 && sent - started > 0 ? sent : started;
+    }
+
+    private void acquire() throws InterruptedException, DeadlineExceededException {
+        Deadline deadline = Deadline.current();
+
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= (int) limit) {
+                if (deadline == null) {
+                    available.await();
+                } else {
+                    available.await(deadline.check(), TimeUnit.MILLISECONDS);
+                }
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adapt the limit to the outcome of a request, and let a waiting request go.
+     *
+     * @param started  Value of System.nanoTime() when the request was sent.
+     * @param overload Whether the request timed out or was throttled.
+     * @param ignored  Whether the outcome says nothing about the load of the server.
+     */
+
+    private void release(long started, boolean overload, boolean ignored) {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            long latency = now - started;
+            boolean saturated = inFlight >= (int) limit;
+
+            inFlight--;
+
+            if (overload) {
+                decrease(started, now);
+            } else if (!ignored) {
+                windowMinLatency = Math.min(windowMinLatency, latency);
+                if (++windowCount >= WINDOW) {
+                    // Forget old response times, so that the baseline follows a server that has become slower.
+                    minLatency = windowMinLatency;
+                    windowMinLatency = Long.MAX_VALUE;
+                    windowCount = 0;
+                } else {
+                    minLatency = Math.min(minLatency, latency);
+                }
+
+                if (latency > minLatency * tolerance) {
+                    decrease(started, now);
+                } else if (saturated) {
+                    limit = Math.min(maxLimit, limit + 1 / limit);
+                }
+            }
+
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void decrease(long started, long now) {
+        // Requests sent before the last decrease saw the old limit, so they do not lower it again.
+        if (started - lastDecrease > 0) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+            lastDecrease = now;
+        }
+    }
+}
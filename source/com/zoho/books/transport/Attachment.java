@@ -0,0 +1,181 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Attachment is used to upload a file from a File, a Path, an InputStream or a ByteBuffer.
+ * <p>
+ * Files and paths are read through a FileChannel when the request is sent. A ByteBuffer is read from its position
+ * to its limit and is left unchanged. An InputStream can only be sent once, so a request that carries one
+ * is not resent.
+ */
+
+public class Attachment {
+
+    private String fileName;
+
+    private Object source;
+
+    private long length;
+
+
+    /**
+     * Construct a new Attachment for the given file.
+     *
+     * @param file File to upload.
+     */
+
+    public Attachment(File file) {
+        this(file.toPath());
+    }
+
+    /**
+     * Construct a new Attachment for the given path.
+     *
+     * @param path Path of the file to upload.
+     */
+
+    public Attachment(Path path) {
+        this.fileName = path.getFileName().toString();
+        this.source = path;
+        this.length = -1;
+    }
+
+    /**
+     * Construct a new Attachment that reads the content from the given stream. The length is not known,
+     * so the request is sent with chunked transfer encoding.
+     *
+     * @param fileName Name of the file.
+     * @param in       Content of the file. It is closed once it has been sent.
+     */
+
+    public Attachment(String fileName, InputStream in) {
+        this(fileName, in, -1);
+    }
+
+    /**
+     * Construct a new Attachment that reads the content from the given stream.
+     *
+     * @param fileName Name of the file.
+     * @param in       Content of the file. It is closed once it has been sent.
+     * @param length   Number of bytes in the stream, or -1 if it is not known.
+     */
+
+    public Attachment(String fileName, InputStream in, long length) {
+        this.fileName = fileName;
+        this.source = in;
+        this.length = length;
+    }
+
+    /**
+     * Construct a new Attachment that reads the content from the given buffer.
+     *
+     * @param fileName Name of the file.
+     * @param buffer   Content of the file, from its position to its limit. The buffer is not modified.
+     */
+
+    public Attachment(String fileName, ByteBuffer buffer) {
+        this.fileName = fileName;
+        this.source = buffer.asReadOnlyBuffer();
+        this.length = buffer.remaining();
+    }
+
+
+    /**
+     * get the file name.
+     *
+     * @return Returns the name of the file.
+     */
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * get the length of the content in bytes.
+     *
+     * @return Returns the length, or -1 if it is not known in advance.
+     */
+
+    public long getLength() {
+        if (source instanceof Path) {
+            try {
+                return Files.size((Path) source);
+            } catch (IOException e) {
+                // The error is reported when the file is opened.
+                return -1;
+            }
+        }
+
+        return length;
+    }
+
+    /**
+     * Check whether the content can be read more than once.
+     *
+     * @return Returns false if the content comes from an InputStream.
+     */
+
+    public boolean isRepeatable() {
+        return !(source instanceof InputStream);
+    }
+
+    /**
+     * Open a stream over the content.
+     *
+     * @return Returns a new InputStream that the caller must close.
+     */
+
+    public InputStream openStream() throws IOException {
+        if (source instanceof Path) {
+            return Files.newInputStream((Path) source);
+        }
+        if (source instanceof ByteBuffer) {
+            return new ByteBufferInputStream(((ByteBuffer) source).duplicate());
+        }
+
+        return (InputStream) source;
+    }
+
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private ByteBuffer buffer;
+
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+
+            int count = Math.min(length, buffer.remaining());
+
+            buffer.get(bytes, offset, count);
+
+            return count;
+        }
+
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
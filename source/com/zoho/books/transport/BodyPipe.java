@@ -0,0 +1,111 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * BodyPipe is used to read a body that writes itself, such as a model written as it is sent, without holding the
+ * whole body in memory.
+ * <p>
+ * The body is written into a pipe by a thread of its own, and only the bytes that fit in the pipe are held at a
+ * time. A failure of the writer is thrown by the read that reaches it, and closing the pipe stops the writer.
+ */
+
+class BodyPipe extends FilterInputStream {
+
+    private static final int PIPE_SIZE = 64 * 1024;
+
+    private static final ExecutorService WRITERS = Executors.newCachedThreadPool(new ThreadFactory() {
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "zohobooks-body-writer"); //No I18N
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private volatile Throwable failure;
+
+
+    private BodyPipe(PipedInputStream in) {
+        super(in);
+    }
+
+
+    /**
+     * Open a stream over the bytes the body writes, and start writing them.
+     *
+     * @param body The body.
+     * @return Returns the stream, which the caller must close.
+     */
+
+    static InputStream open(final RequestBody body) throws IOException {
+        PipedInputStream in = new PipedInputStream(PIPE_SIZE);
+        final PipedOutputStream out = new PipedOutputStream(in);
+        final BodyPipe pipe = new BodyPipe(in);
+
+        WRITERS.execute(() -> {
+            try {
+                body.writeTo(out);
+            } catch (Throwable e) {
+                pipe.failure = e;
+            } finally {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    // The reader has closed the pipe, so nobody is left to tell.
+                }
+            }
+        });
+
+        return pipe;
+    }
+
+    public int read() throws IOException {
+        int result = super.read();
+
+        if (result == -1) {
+            checkFailure();
+        }
+
+        return result;
+    }
+
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int result = super.read(buffer, offset, length);
+
+        if (result == -1) {
+            checkFailure();
+        }
+
+        return result;
+    }
+
+    /**
+     * Throw the failure of the writer, which ended the body early.
+     */
+
+    private void checkFailure() throws IOException {
+        Throwable e = failure;
+
+        if (e instanceof IOException) {
+            throw new IOException(e.getMessage(), e);
+        }
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        if (e != null) {
+            throw new IOException(e);
+        }
+    }
+}
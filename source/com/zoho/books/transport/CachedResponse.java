@@ -0,0 +1,32 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CachedResponse is the response returned by a CachingTransport when the body is held in its cache.
+ */
+
+public class CachedResponse extends TransportResponse {
+
+    private boolean revalidated;
+
+
+    CachedResponse(int status, Map<String, List<String>> headers, CachingTransport.CacheEntry entry, boolean revalidated) {
+        super(status, headers, entry.openStream());
+        this.revalidated = revalidated;
+    }
+
+
+    /**
+     * check whether the body was served from the cache after the server answered 304 Not Modified.
+     *
+     * @return Returns true if the body was not downloaded again.
+     */
+
+    public boolean isRevalidated() {
+        return revalidated;
+    }
+}
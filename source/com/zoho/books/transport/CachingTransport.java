@@ -0,0 +1,269 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * CachingTransport is used to revalidate GET responses instead of downloading them again.
+ * <p>
+ * It wraps another Transport. A successful GET response that carries an ETag or a Last-Modified header is kept in
+ * memory, and the next identical request is sent with If-None-Match and If-Modified-Since. When the server answers
+ * 304 Not Modified, the kept body is returned with status 200, as a {@link CachedResponse}. Every request still goes
+ * to the server, so a response is never served stale.
+ * <p>
+ * The body is kept as bytes, not as the objects it was parsed into. The parsers make new model objects from it in
+ * one pass, and hand them to the caller, who may change them, so they cannot be shared between callers. A revalidated
+ * response saves the download, and is parsed again.
+ * <p>
+ * Entries are keyed by URL and Authorization header, and the least recently used ones are dropped first.
+ */
+
+public class CachingTransport implements Transport {
+
+    /**
+     * The default number of responses kept.
+     */
+
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+
+    /**
+     * The default size of the largest body kept, in bytes.
+     */
+
+    public static final int DEFAULT_MAX_BODY_SIZE = 512 * 1024;
+
+    private Transport delegate;
+
+    private int maxBodySize;
+
+    private Map<String, CacheEntry> entries;
+
+
+    /**
+     * Construct a new CachingTransport with the default limits.
+     *
+     * @param delegate Transport that executes the requests.
+     */
+
+    public CachingTransport(Transport delegate) {
+        this(delegate, DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BODY_SIZE);
+    }
+
+    /**
+     * Construct a new CachingTransport.
+     *
+     * @param delegate    Transport that executes the requests.
+     * @param maxEntries  Number of responses kept.
+     * @param maxBodySize Size of the largest body kept, in bytes.
+     */
+
+    public CachingTransport(Transport delegate, final int maxEntries, int maxBodySize) {
+        this.delegate = delegate;
+        this.maxBodySize = maxBodySize;
+        this.entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+
+    public TransportResponse execute(TransportRequest request) throws Exception {
+        if (!"GET".equals(request.getMethod()) || request.getHeader("If-None-Match") != null //No I18N
+                || request.getHeader("If-Modified-Since") != null) { //No I18N
+            return delegate.execute(request);
+        }
+
+        String key = request.getUrl() + "\n" + request.getHeader("Authorization"); //No I18N
+        CacheEntry entry;
+
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+
+        if (entry != null) {
+            if (entry.etag != null) {
+                request.setHeader("If-None-Match", entry.etag); //No I18N
+            }
+            if (entry.lastModified != null) {
+                request.setHeader("If-Modified-Since", entry.lastModified); //No I18N
+            }
+        }
+
+        TransportResponse response;
+
+        try {
+            response = delegate.execute(request);
+        } finally {
+            request.getHeaders().remove("If-None-Match"); //No I18N
+            request.getHeaders().remove("If-Modified-Since"); //No I18N
+        }
+
+        if (entry != null && response.getStatus() == 304) {
+            response.close();
+
+            return new CachedResponse(200, merge(entry.headers, response.getHeaders()), entry, true);
+        }
+
+        if (response.getStatus() != 200 || !isCacheable(response)) {
+            if (response.getStatus() == 200 && entry != null) {
+                remove(key, entry);
+            }
+            return response;
+        }
+
+        return store(key, response);
+    }
+
+    public void close() {
+        clear();
+        delegate.close();
+    }
+
+    /**
+     * Drop all the responses kept.
+     */
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * get the number of responses kept.
+     *
+     * @return Returns the number of entries.
+     */
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private boolean isCacheable(TransportResponse response) {
+        if (response.getHeader("ETag") == null && response.getHeader("Last-Modified") == null) { //No I18N
+            return false;
+        }
+
+        String cacheControl = response.getHeader("Cache-Control"); //No I18N
+
+        if (cacheControl != null && cacheControl.toLowerCase().contains("no-store")) { //No I18N
+            return false;
+        }
+
+        String length = response.getHeader("Content-Length"); //No I18N
+
+        try {
+            return length == null || Long.parseLong(length.trim()) <= maxBodySize;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Read the body into memory and keep it. A body larger than the limit is passed on without being kept.
+     */
+
+    private TransportResponse store(String key, TransportResponse response) throws IOException {
+        InputStream body = response.getBody();
+        byte[] head;
+
+        try {
+            head = body.readNBytes(maxBodySize + 1);
+        } catch (IOException e) {
+            response.close();
+            throw e;
+        }
+
+        if (head.length > maxBodySize) {
+            synchronized (entries) {
+                entries.remove(key);
+            }
+
+            InputStream rest = new SequenceInputStream(new ByteArrayInputStream(head), body);
+
+            return new TransportResponse(response.getStatus(), response.getHeaders(), rest);
+        }
+
+        response.close();
+
+        CacheEntry entry = new CacheEntry(response.getHeaders(), head);
+
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+
+        return new CachedResponse(200, entry.headers, entry, false);
+    }
+
+    private void remove(String key, CacheEntry entry) {
+        synchronized (entries) {
+            if (entries.get(key) == entry) {
+                entries.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Merge the headers of the 304 response, such as the rate limit headers, over the headers of the kept response.
+     */
+
+    private static Map<String, List<String>> merge(Map<String, List<String>> kept, Map<String, List<String>> fresh) {
+        Map<String, List<String>> headers = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+
+        headers.putAll(kept);
+        for (Map.Entry<String, List<String>> header : fresh.entrySet()) {
+            String name = header.getKey();
+
+            if (!name.equalsIgnoreCase("Content-Length") && !name.equalsIgnoreCase("Transfer-Encoding") //No I18N
+                    && !name.equalsIgnoreCase("Content-Encoding")) { //No I18N
+                headers.put(name, header.getValue());
+            }
+        }
+
+        return headers;
+    }
+
+
+    /**
+     * A kept response.
+     */
+
+    static class CacheEntry {
+
+        private Map<String, List<String>> headers;
+        private byte[] body;
+        private String etag;
+        private String lastModified;
+
+
+        private CacheEntry(Map<String, List<String>> headers, byte[] body) {
+            this.headers = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+            this.headers.putAll(headers);
+            this.headers.put("Content-Length", new ArrayList<String>(List.of(String.valueOf(body.length)))); //No I18N
+            this.body = body;
+            this.etag = first(this.headers.get("ETag")); //No I18N
+            this.lastModified = first(this.headers.get("Last-Modified")); //No I18N
+        }
+
+
+        InputStream openStream() {
+            return new ByteArrayInputStream(body);
+        }
+
+        private static String first(List<String> values) {
+            return values == null || values.isEmpty() ? null : values.get(0);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import com.zoho.books.exception.CircuitOpenException;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * CircuitBreakerTransport is used to stop sending requests to an endpoint that keeps failing, so that the threads
+ * of the application are not all stuck waiting on it while the other endpoints are healthy.
+ * <p>
+ * It wraps another Transport and keeps a circuit per endpoint template, such as /invoices/{id}, where the IDs in the
+ * path are replaced by {id}. After the given number of consecutive failures, meaning I/O errors and 500, 502, 503
+ * and 504 responses, the circuit opens: requests to the endpoint fail at once with a {@link CircuitOpenException}.
+ * Once the open duration has passed, one request is let through as a probe. The circuit closes again if it
+ * succeeds, and stays open for another open duration if it fails.
+ */
+
+public class CircuitBreakerTransport implements Transport {
+
+    private Transport delegate;
+
+    private int failureThreshold = 5;
+
+    private long openDuration = 30 * 1000;
+
+    private ConcurrentMap<String, Circuit> circuits = new ConcurrentHashMap<String, Circuit>();
+
+
+    /**
+     * Construct a new CircuitBreakerTransport.
+     *
+     * @param delegate Transport that executes the requests.
+     */
+
+    public CircuitBreakerTransport(Transport delegate) {
+        this.delegate = delegate;
+    }
+
+
+    /**
+     * get the number of consecutive failures that opens the circuit of an endpoint.
+     *
+     * @return Returns the failure threshold.
+     */
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    /**
+     * set the number of consecutive failures that opens the circuit of an endpoint.
+     *
+     * @param failureThreshold Failure threshold.
+     */
+
+    public void setFailureThreshold(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    /**
+     * get how long the requests to an endpoint fail at once before one is sent as a probe.
+     *
+     * @return Returns the open duration in milliseconds.
+     */
+
+    public long getOpenDuration() {
+        return openDuration;
+    }
+
+    /**
+     * set how long the requests to an endpoint fail at once before one is sent as a probe.
+     *
+     * @param openDuration Open duration in milliseconds.
+     */
+
+    public void setOpenDuration(long openDuration) {
+        this.openDuration = openDuration;
+    }
+
+    /**
+     * get the endpoints whose circuit is open.
+     *
+     * @return Returns the templates of the endpoints, such as /invoices/{id}.
+     */
+
+    public Set<String> getOpenEndpoints() {
+        Set<String> open = new TreeSet<String>();
+
+        for (Map.Entry<String, Circuit> entry : circuits.entrySet()) {
+            if (entry.getValue().isOpen()) {
+                open.add(entry.getKey());
+            }
+        }
+
+        return open;
+    }
+
+
+    public TransportResponse execute(TransportRequest request) throws Exception {
+        String endpoint = request.getEndpoint();
+        Circuit circuit = circuits.get(endpoint);
+
+        if (circuit == null) {
+            Circuit created = new Circuit();
+
+            circuit = circuits.putIfAbsent(endpoint, created);
+            if (circuit == null) {
+                circuit = created;
+            }
+        }
+
+        long wait = circuit.tryAcquire(System.currentTimeMillis(), openDuration);
+
+        if (wait > 0) {
+            throw new CircuitOpenException(endpoint, wait);
+        }
+
+        TransportResponse response;
+
+        try {
+            response = delegate.execute(request);
+        } catch (Exception e) {
+            AbortHandle handle = AbortHandle.current();
+
+            if (e instanceof IOException && (handle == null || !handle.isAborted()) && !Deadline.isCurrentExpired()) {
+                circuit.failed(System.currentTimeMillis(), failureThreshold);
+            } else {
+                // The request was given up by the caller or ran out of time, which says nothing about the endpoint.
+                circuit.released();
+            }
+            throw e;
+        }
+
+        int status = response.getStatus();
+
+        if (status == 500 || status == 502 || status == 503 || status == 504) {
+            circuit.failed(System.currentTimeMillis(), failureThreshold);
+        } else {
+            circuit.succeeded();
+        }
+
+        return response;
+    }
+
+    public void close() {
+        delegate.close();
+    }
+
+
+    /**
+     * The circuit of one endpoint.
+     */
+
+    private static class Circuit {
+
+        private int failures;
+        private boolean open;
+        private long openedAt;
+        private boolean probing;
+
+
+        /**
+         * Let a request through if the circuit is closed, or as the probe once the open duration has passed.
+         *
+         * @return Returns 0 if the request may be sent, or else the milliseconds until the next probe.
+         */
+
+        private synchronized long tryAcquire(long now, long openDuration) {
+            if (!open) {
+                return 0;
+            }
+
+            long remaining = openedAt + openDuration - now;
+
+            if (remaining <= 0 && !probing) {
+                probing = true;
+                return 0;
+            }
+
+            return Math.max(1, remaining);
+        }
+
+        private synchronized void succeeded() {
+            failures = 0;
+            open = false;
+            probing = false;
+        }
+
+        private synchronized void failed(long now, int threshold) {
+            if (open || ++failures >= threshold) {
+                open = true;
+                openedAt = now;
+                probing = false;
+                failures = 0;
+            }
+        }
+
+        private synchronized void released() {
+            probing = false;
+        }
+
+        private synchronized boolean isOpen() {
+            return open;
+        }
+    }
+}
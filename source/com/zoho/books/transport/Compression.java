@@ -0,0 +1,190 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compression is used by the transports to negotiate compressed responses and to compress large form bodies.
+ */
+
+class Compression {
+
+    static final String ACCEPT_ENCODING = "gzip, deflate"; //No I18N
+
+    private static final String FORM = "application/x-www-form-urlencoded"; //No I18N
+
+    private static final int BUFFER_SIZE = 8192;
+
+
+    private Compression() {
+    }
+
+
+    /**
+     * Compress the body with gzip when it is a form body of at least the configured size.
+     * <p>
+     * A form body whose size is not known in advance is written up to the threshold first. A body that ends before
+     * it is sent as it was written, and a longer one is written again as it is sent, compressed as it is written.
+     *
+     * @return Returns the body to send.
+     */
+
+    static RequestBody compress(RequestBody body, TransportConfig config) throws IOException {
+        int threshold = config.getRequestCompressionThreshold();
+
+        if (threshold >= 0 && body instanceof FormBody && body.getContentLength() >= threshold) {
+            return new GzipBody((FormBody) body);
+        }
+        if (threshold >= 0 && body.getContentLength() < 0 && FORM.equals(body.getContentType())) {
+            if (threshold == 0) {
+                return new GzipStreamBody(body);
+            }
+            if (!body.isRepeatable()) {
+                // The size of a body that can only be written once is not known until it is sent.
+                return body;
+            }
+
+            Head head = new Head(threshold);
+
+            try {
+                body.writeTo(head);
+            } catch (Overflow e) {
+                return new GzipStreamBody(body);
+            }
+
+            return new FormBody(head.toByteArray());
+        }
+
+        return body;
+    }
+
+    /**
+     * Decompress the response body as it is read, according to its Content-Encoding header.
+     * The Content-Encoding and Content-Length headers are removed, as they describe the compressed body.
+     *
+     * @return Returns the decoded response.
+     */
+
+    static TransportResponse decode(TransportResponse response) throws IOException {
+        String encoding = response.getHeader("Content-Encoding"); //No I18N
+
+        if (encoding == null) {
+            return response;
+        }
+
+        encoding = encoding.trim();
+
+        boolean gzip = encoding.equalsIgnoreCase("gzip") || encoding.equalsIgnoreCase("x-gzip"); //No I18N
+
+        if (!gzip && !encoding.equalsIgnoreCase("deflate")) { //No I18N
+            return response;
+        }
+
+        try {
+            PushbackInputStream in = new PushbackInputStream(response.getBody(), 2);
+            byte[] head = new byte[2];
+            int length = in.readNBytes(head, 0, 2);
+
+            in.unread(head, 0, length);
+
+            InputStream body;
+
+            if (length == 0) {
+                body = in;
+            } else if (gzip) {
+                body = new GZIPInputStream(in, BUFFER_SIZE);
+            } else {
+                // Some servers send raw deflate data instead of the zlib format required by the specification.
+                body = inflate(in, !(length == 2 && isZlibHeader(head)));
+            }
+
+            Map<String, List<String>> headers = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+
+            headers.putAll(response.getHeaders());
+            headers.remove("Content-Encoding"); //No I18N
+            headers.remove("Content-Length"); //No I18N
+
+            return new TransportResponse(response.getStatus(), headers, body);
+        } catch (IOException e) {
+            response.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Head is used to hold the first bytes of a body, up to the threshold of compression.
+     */
+
+    private static class Head extends ByteArrayOutputStream {
+
+        private int limit;
+
+
+        Head(int limit) {
+            super(Math.min(limit, BUFFER_SIZE));
+            this.limit = limit;
+        }
+
+
+        public void write(int b) {
+            if (count + 1 >= limit) {
+                throw new Overflow();
+            }
+            super.write(b);
+        }
+
+        public void write(byte[] bytes, int offset, int length) {
+            if (count + length >= limit) {
+                throw new Overflow();
+            }
+            super.write(bytes, offset, length);
+        }
+    }
+
+    /**
+     * Overflow is used to stop writing a body once it has reached the threshold of compression.
+     */
+
+    private static class Overflow extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+
+        Overflow() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static boolean isZlibHeader(byte[] head) {
+        int cmf = head[0] & 0xff;
+        int flg = head[1] & 0xff;
+
+        return (cmf & 0x0f) == 8 && ((cmf << 8) | flg) % 31 == 0;
+    }
+
+    private static InputStream inflate(InputStream in, boolean raw) {
+        final Inflater inflater = new Inflater(raw);
+
+        return new InflaterInputStream(in, inflater, BUFFER_SIZE) {
+            private boolean closed;
+
+            public void close() throws IOException {
+                if (!closed) {
+                    closed = true;
+                    super.close();
+                    inflater.end();
+                }
+            }
+        };
+    }
+}
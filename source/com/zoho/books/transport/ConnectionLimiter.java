@@ -0,0 +1,222 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import com.zoho.books.exception.DeadlineExceededException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ConnectionLimiter is used to bound the number of connections a transport uses overall and per host.
+ * A permit is held from the time the request is sent until the response body is closed.
+ * <p>
+ * When the connections are all in use, the waiting requests are queued per organization and the queues are served
+ * in turn. Each organization takes as many connections as its weight in {@link TransportConfig} before the next one
+ * is served, so an organization with many queued requests cannot hold back the others.
+ */
+
+class ConnectionLimiter {
+
+    private TransportConfig config;
+    private int maxConnections;
+    private int perHost;
+    private int inUse;
+    private Map<String, Integer> hosts = new HashMap<String, Integer>();
+    private Map<String, Tenant> tenants = new HashMap<String, Tenant>();
+
+    // Organizations with waiting requests, in the order they are served.
+    private ArrayDeque<Tenant> turns = new ArrayDeque<Tenant>();
+
+    private ReentrantLock lock = new ReentrantLock();
+
+
+    ConnectionLimiter(TransportConfig config) {
+        this.config = config;
+        this.maxConnections = config.getMaxConnections();
+        this.perHost = config.getMaxConnectionsPerHost();
+    }
+
+
+    void acquire(String host, String organizationId) throws InterruptedException, DeadlineExceededException {
+        String key = organizationId != null ? organizationId : "";
+
+        lock.lock();
+        try {
+            if (turns.isEmpty() && isAvailable(host)) {
+                take(host);
+                return;
+            }
+
+            Tenant tenant = tenants.get(key);
+
+            if (tenant == null) {
+                tenant = new Tenant(key);
+                tenants.put(key, tenant);
+                turns.add(tenant);
+            }
+
+            Waiter waiter = new Waiter(host, lock.newCondition());
+
+            tenant.waiters.add(waiter);
+            dispatch();
+
+            Deadline deadline = Deadline.current();
+
+            try {
+                while (!waiter.granted) {
+                    if (deadline == null) {
+                        waiter.condition.await();
+                    } else {
+                        waiter.condition.await(deadline.check(), TimeUnit.MILLISECONDS);
+                    }
+                }
+            } catch (InterruptedException | DeadlineExceededException e) {
+                if (waiter.granted) {
+                    put(host);
+                    dispatch();
+                } else {
+                    tenant.waiters.remove(waiter);
+                    if (tenant.waiters.isEmpty()) {
+                        turns.remove(tenant);
+                        tenants.remove(key);
+                    }
+                }
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release(String host) {
+        lock.lock();
+        try {
+            put(host);
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wrap the response body so that the permits for the host are released once, when the body is closed.
+     */
+
+    InputStream releaseOnClose(final String host, InputStream body) {
+        final AtomicBoolean released = new AtomicBoolean();
+
+        return new FilterInputStream(body) {
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    if (released.compareAndSet(false, true)) {
+                        release(host);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Hand the free connections to the waiting requests, taking the organizations in turn.
+     */
+
+    private void dispatch() {
+        int passed = 0;
+
+        while (inUse < maxConnections && !turns.isEmpty() && passed < turns.size()) {
+            Tenant tenant = turns.peek();
+            Waiter waiter = tenant.waiters.peek();
+
+            if (!isAvailable(waiter.host)) {
+                // Let the organizations waiting for other hosts go first.
+                tenant.served = 0;
+                turns.add(turns.poll());
+                passed++;
+                continue;
+            }
+
+            tenant.waiters.poll();
+            take(waiter.host);
+            waiter.granted = true;
+            waiter.condition.signal();
+            passed = 0;
+
+            if (tenant.waiters.isEmpty()) {
+                turns.poll();
+                tenants.remove(tenant.key);
+            } else if (++tenant.served >= config.getOrganizationWeight(tenant.key)) {
+                tenant.served = 0;
+                turns.add(turns.poll());
+            }
+        }
+    }
+
+    private boolean isAvailable(String host) {
+        Integer count = hosts.get(host);
+
+        return inUse < maxConnections && (count == null || count < perHost);
+    }
+
+    private void take(String host) {
+        Integer count = hosts.get(host);
+
+        hosts.put(host, count == null ? 1 : count + 1);
+        inUse++;
+    }
+
+    private void put(String host) {
+        Integer count = hosts.get(host);
+
+        if (count == null || count <= 1) {
+            hosts.remove(host);
+        } else {
+            hosts.put(host, count - 1);
+        }
+        inUse--;
+    }
+
+
+    /**
+     * The waiting requests of one organization.
+     */
+
+    private static class Tenant {
+
+        private String key;
+        private ArrayDeque<Waiter> waiters = new ArrayDeque<Waiter>();
+        private int served;
+
+
+        private Tenant(String key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * A request waiting for a connection.
+     */
+
+    private static class Waiter {
+
+        private String host;
+        private Condition condition;
+        private boolean granted;
+
+
+        private Waiter(String host, Condition condition) {
+            this.host = host;
+            this.condition = condition;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import com.zoho.books.exception.DeadlineExceededException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deadline is used to bound the time a call, with all the requests, retries and pages it makes, may take.
+ * <p>
+ * A deadline is bound to the thread that runs the call, and is carried over to the asynchronous calls and the
+ * threads the transports use for it. Every wait is cut to the time left: the connect and read timeouts of the
+ * requests, the waits for a connection or a rate limit token, and the pauses between retries. When the time is up,
+ * the call fails with a {@link DeadlineExceededException}.
+ * <p>
+ * <pre>
+ *     InvoiceList invoices = Deadline.within(2000, () -&gt; invoicesApi.getInvoices(queryMap));
+ * </pre>
+ */
+
+public class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<Deadline>();
+
+    private long expiresAt;
+
+
+    private Deadline(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+
+    /**
+     * Create a deadline the given time from now.
+     *
+     * @param timeout Time allowed in milliseconds.
+     * @return Returns the Deadline object.
+     */
+
+    public static Deadline after(long timeout) {
+        return new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout));
+    }
+
+    /**
+     * get the deadline bound to the current thread.
+     *
+     * @return Returns the Deadline or null if the current thread has no deadline.
+     */
+
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Bind a deadline to the current thread, or unbind it when the deadline is null.
+     *
+     * @param deadline Deadline object.
+     */
+
+    public static void bind(Deadline deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+
+    /**
+     * Run a call that must finish within the given time. A deadline already bound to the thread is kept if it
+     * is earlier.
+     *
+     * @param timeout Time allowed in milliseconds.
+     * @param call    The call.
+     * @return Returns the result of the call.
+     */
+
+    public static <T> T within(long timeout, Callable<T> call) throws Exception {
+        Deadline previous = CURRENT.get();
+        Deadline deadline = after(timeout);
+
+        if (previous != null && previous.expiresAt - deadline.expiresAt < 0) {
+            deadline = previous;
+        }
+
+        bind(deadline);
+        try {
+            return call.call();
+        } finally {
+            bind(previous);
+        }
+    }
+
+    /**
+     * Cut a timeout to the time left before the deadline of the current thread.
+     *
+     * @param timeout Timeout in milliseconds.
+     * @return Returns the smaller of the timeout and the time left, at least 1 millisecond.
+     */
+
+    public static long bound(long timeout) throws DeadlineExceededException {
+        Deadline deadline = CURRENT.get();
+
+        if (deadline == null) {
+            return timeout;
+        }
+
+        long remaining = deadline.check();
+
+        return timeout > 0 ? Math.min(timeout, remaining) : remaining;
+    }
+
+    /**
+     * get the time left.
+     *
+     * @return Returns the milliseconds left, 0 or less once the deadline has passed.
+     */
+
+    public long getRemaining() {
+        return TimeUnit.NANOSECONDS.toMillis(expiresAt - System.nanoTime());
+    }
+
+    /**
+     * check whether the deadline has passed.
+     *
+     * @return Returns true if no time is left.
+     */
+
+    public boolean isExpired() {
+        return expiresAt - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Fail if the deadline has passed.
+     *
+     * @return Returns the milliseconds left, at least 1.
+     */
+
+    public long check() throws DeadlineExceededException {
+        long remaining = expiresAt - System.nanoTime();
+
+        if (remaining <= 0) {
+            throw new DeadlineExceededException("The deadline of the call has passed"); //No I18N
+        }
+
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining));
+    }
+
+    /**
+     * Check whether the deadline bound to the current thread has passed.
+     *
+     * @return Returns true if the current thread has a deadline and no time is left.
+     */
+
+    public static boolean isCurrentExpired() {
+        Deadline deadline = CURRENT.get();
+
+        return deadline != null && deadline.isExpired();
+    }
+}
@@ -0,0 +1,74 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * FormBody is used to send a request body as application/x-www-form-urlencoded data.
+ */
+
+public class FormBody extends RequestBody {
+
+    private byte[] content;
+
+
+    /**
+     * Construct a new FormBody from the given form parameters.
+     *
+     * @param params This map contains the form parameters in the form of key, value pair.
+     */
+
+    public FormBody(Map<String, Object> params) {
+        StringBuilder form = new StringBuilder();
+
+        if (params != null) {
+            for (Map.Entry<String, Object> param : params.entrySet()) {
+                if (form.length() > 0) {
+                    form.append('&');
+                }
+                form.append(URLEncoder.encode(param.getKey(), StandardCharsets.UTF_8));
+                form.append('=').append(URLEncoder.encode(String.valueOf(param.getValue()), StandardCharsets.UTF_8));
+            }
+        }
+
+        this.content = form.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Construct a new FormBody from form bytes that are already encoded.
+     *
+     * @param content The encoded form.
+     */
+
+    FormBody(byte[] content) {
+        this.content = content;
+    }
+
+
+    public String getContentType() {
+        return "application/x-www-form-urlencoded"; //No I18N
+    }
+
+    public long getContentLength() {
+        return content.length;
+    }
+
+    public InputStream openStream() {
+        return new ByteArrayInputStream(content);
+    }
+
+    /**
+     * get the encoded form bytes.
+     *
+     * @return Returns the encoded body.
+     */
+
+    public byte[] getBytes() {
+        return content;
+    }
+}
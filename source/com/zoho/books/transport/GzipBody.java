@@ -0,0 +1,59 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * GzipBody is used to send a form body compressed with gzip.
+ */
+
+class GzipBody extends RequestBody {
+
+    private String contentType;
+
+    private byte[] content;
+
+
+    GzipBody(FormBody body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.getBytes().length / 4 + 64);
+
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body.getBytes());
+        }
+
+        this.contentType = body.getContentType();
+        this.content = compressed.toByteArray();
+    }
+
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getContentEncoding() {
+        return "gzip"; //No I18N
+    }
+
+    public long getContentLength() {
+        return content.length;
+    }
+
+    public InputStream openStream() {
+        return new ByteArrayInputStream(content);
+    }
+
+    /**
+     * get the compressed bytes.
+     *
+     * @return Returns the compressed body.
+     */
+
+    byte[] getBytes() {
+        return content;
+    }
+}
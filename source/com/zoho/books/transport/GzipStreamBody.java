@@ -0,0 +1,49 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * GzipStreamBody is used to send a body compressed with gzip as it is written, for a body whose size is not known
+ * before it is sent.
+ */
+
+class GzipStreamBody extends RequestBody {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private RequestBody body;
+
+
+    GzipStreamBody(RequestBody body) {
+        this.body = body;
+    }
+
+
+    public String getContentType() {
+        return body.getContentType();
+    }
+
+    public String getContentEncoding() {
+        return "gzip"; //No I18N
+    }
+
+    public boolean isRepeatable() {
+        return body.isRepeatable();
+    }
+
+    public InputStream openStream() throws IOException {
+        return pipe();
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE);
+
+        body.writeTo(gzip);
+        gzip.finish();
+    }
+}
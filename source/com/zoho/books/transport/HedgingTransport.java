@@ -0,0 +1,524 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HedgingTransport is used to cut the tail latency of GET requests by sending a second copy of a slow request.
+ * <p>
+ * It wraps another Transport. When a GET request has not been answered within the given percentile of the recent
+ * response times of its endpoint, the same request is sent again. The first response wins, and the other request is
+ * aborted. The request is sent on the calling thread, so a request that is not hedged costs no extra thread.
+ * <p>
+ * Hedges are budgeted: every GET request earns a fraction of a hedge, and a hedge is only sent when a whole one has
+ * been earned. With the default budget, at most 5% of the GET requests are hedged. A hedge also needs the copy permit
+ * of the request: ZohoHTTPClient makes it take a token of its rate limiter as a background request would, so a hedge
+ * is skipped when the rate limit has no token to spare and never uses the interactive reserve. Requests with any
+ * other method are passed on unchanged.
+ */
+
+public class HedgingTransport implements Transport {
+
+    /**
+     * The default percentile of the response times after which a request is hedged.
+     */
+
+    public static final double DEFAULT_PERCENTILE = 0.95;
+
+    /**
+     * The default number of hedges sent per GET request.
+     */
+
+    public static final double DEFAULT_BUDGET = 0.05;
+
+    private static final int SAMPLE_SIZE = 256;
+
+    private static final int MIN_SAMPLES = 32;
+
+    private static final double MAX_CREDITS = 10;
+
+    private Transport delegate;
+
+    private ExecutorService executor;
+
+    private ScheduledThreadPoolExecutor timer;
+
+    private double percentile = DEFAULT_PERCENTILE;
+
+    private double budget = DEFAULT_BUDGET;
+
+    private long minDelay = 50;
+
+    private long initialDelay = 2000;
+
+    private ConcurrentMap<String, Samples> samples = new ConcurrentHashMap<String, Samples>();
+
+    private double credits;
+
+    private AtomicLong hedgeCount = new AtomicLong();
+
+
+    /**
+     * Construct a new HedgingTransport.
+     *
+     * @param delegate Transport that executes the requests.
+     */
+
+    public HedgingTransport(Transport delegate) {
+        this.delegate = delegate;
+        this.executor = Executors.newCachedThreadPool(new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "zohobooks-hedge"); //No I18N
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        this.timer = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "zohobooks-hedge-timer"); //No I18N
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+
+
+    /**
+     * get the percentile of the recent response times after which a request is hedged.
+     *
+     * @return Returns the percentile, between 0 and 1.
+     */
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * set the percentile of the recent response times after which a request is hedged.
+     *
+     * @param percentile Percentile, between 0 and 1.
+     */
+
+    public synchronized void setPercentile(double percentile) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("percentile must be between 0 and 1"); //No I18N
+        }
+        this.percentile = percentile;
+        resetDelays();
+    }
+
+    /**
+     * get the number of hedges allowed per GET request.
+     *
+     * @return Returns the budget.
+     */
+
+    public double getBudget() {
+        return budget;
+    }
+
+    /**
+     * set the number of hedges allowed per GET request, for example 0.05 to hedge at most one request in twenty.
+     *
+     * @param budget Budget, between 0 and 1. 0 turns hedging off.
+     */
+
+    public synchronized void setBudget(double budget) {
+        if (budget < 0 || budget > 1) {
+            throw new IllegalArgumentException("budget must be between 0 and 1"); //No I18N
+        }
+        this.budget = budget;
+    }
+
+    /**
+     * get the shortest wait before a request is hedged.
+     *
+     * @return Returns the minimum delay in milliseconds.
+     */
+
+    public long getMinDelay() {
+        return minDelay;
+    }
+
+    /**
+     * set the shortest wait before a request is hedged.
+     *
+     * @param minDelay Minimum delay in milliseconds.
+     */
+
+    public synchronized void setMinDelay(long minDelay) {
+        this.minDelay = minDelay;
+        resetDelays();
+    }
+
+    /**
+     * get the wait before a request is hedged while too few response times have been seen to compute the percentile.
+     *
+     * @return Returns the initial delay in milliseconds.
+     */
+
+    public long getInitialDelay() {
+        return initialDelay;
+    }
+
+    /**
+     * set the wait before a request is hedged while too few response times have been seen to compute the percentile.
+     *
+     * @param initialDelay Initial delay in milliseconds.
+     */
+
+    public synchronized void setInitialDelay(long initialDelay) {
+        this.initialDelay = initialDelay;
+    }
+
+    /**
+     * get the number of hedges sent.
+     *
+     * @return Returns the number of requests sent a second time.
+     */
+
+    public long getHedgeCount() {
+        return hedgeCount.get();
+    }
+
+    /**
+     * get the current wait before a request to an endpoint is hedged.
+     *
+     * @param endpoint Template of the endpoint, as {@link TransportRequest#getEndpoint()} returns it.
+     * @return Returns the delay in milliseconds.
+     */
+
+    public synchronized long getDelay(String endpoint) {
+        return delay(samples(endpoint));
+    }
+
+
+    public TransportResponse execute(TransportRequest request) throws Exception {
+        if (!"GET".equals(request.getMethod()) || request.getBody() != null) { //No I18N
+            return delegate.execute(request);
+        }
+
+        Samples endpoint = samples(request.getEndpoint());
+
+        return new Race(request, endpoint).run(earn(endpoint));
+    }
+
+    public void close() {
+        timer.shutdown();
+        executor.shutdown();
+        delegate.close();
+    }
+
+    /**
+     * Earn a part of a hedge for the request.
+     *
+     * @return Returns the wait before the request is hedged, or -1 if hedging is off.
+     */
+
+    private synchronized long earn(Samples endpoint) {
+        if (budget == 0) {
+            return -1;
+        }
+        credits = Math.min(MAX_CREDITS, credits + budget);
+
+        return delay(endpoint);
+    }
+
+    private synchronized boolean spend() {
+        if (credits < 1) {
+            return false;
+        }
+        credits -= 1;
+
+        return true;
+    }
+
+    private synchronized void refund() {
+        credits = Math.min(MAX_CREDITS, credits + 1);
+    }
+
+    private Samples samples(String endpoint) {
+        return samples.computeIfAbsent(endpoint, key -> new Samples());
+    }
+
+    private synchronized long delay(Samples endpoint) {
+        if (endpoint.count < MIN_SAMPLES) {
+            return Math.max(minDelay, initialDelay);
+        }
+        if (endpoint.delay < 0) {
+            long[] sorted = Arrays.copyOf(endpoint.times, Math.min(endpoint.count, SAMPLE_SIZE));
+
+            Arrays.sort(sorted);
+            endpoint.delay = Math.max(minDelay, sorted[(int) Math.min(sorted.length - 1, sorted.length * percentile)]);
+        }
+
+        return endpoint.delay;
+    }
+
+    private synchronized void record(Samples endpoint, long millis) {
+        endpoint.times[endpoint.count % SAMPLE_SIZE] = millis;
+        endpoint.count++;
+
+        // Compute the percentile again after every 16 responses.
+        if (endpoint.count % 16 == 0) {
+            endpoint.delay = -1;
+        }
+    }
+
+    private void resetDelays() {
+        for (Samples endpoint : samples.values()) {
+            endpoint.delay = -1;
+        }
+    }
+
+    private static TransportRequest copy(TransportRequest request) {
+        TransportRequest copy = new TransportRequest(request.getMethod(), request.getUrl());
+
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            copy.setHeader(header.getKey(), header.getValue());
+        }
+        copy.setOrganizationId(request.getOrganizationId());
+        copy.setPriority(request.getPriority());
+        copy.setCopyPermit(request.getCopyPermit());
+
+        return copy;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static void close(TransportResponse response) {
+        try {
+            response.close();
+        } catch (IOException e) {
+            // The response is discarded.
+        }
+    }
+
+
+    /**
+     * The recent response times of one endpoint.
+     */
+
+    private static class Samples {
+
+        private long[] times = new long[SAMPLE_SIZE];
+        private int count;
+        private long delay = -1;
+    }
+
+
+    /**
+     * One GET request and its hedge. The request is sent on the calling thread, and the hedge, if one is sent, on a
+     * thread of the pool.
+     */
+
+    private class Race {
+
+        private Attempt primary;
+        private TransportRequest copy;
+        private Samples endpoint;
+        private Attempt hedge;
+        private Attempt winner;
+        private boolean settled;
+        private boolean aborted;
+
+
+        private Race(TransportRequest request, Samples endpoint) {
+            // Copied before the request is sent, as transports may add headers to the request they send.
+            this.copy = copy(request);
+            this.primary = new Attempt(request, endpoint);
+            this.endpoint = endpoint;
+        }
+
+
+        private TransportResponse run(long wait) throws Exception {
+            Future<?> watch = wait < 0 ? null : timer.schedule(this::hedge, wait, TimeUnit.MILLISECONDS);
+
+            AbortHandle.onAbort(this::abort);
+            try {
+                primary.run();
+            } finally {
+                if (watch != null) {
+                    watch.cancel(false);
+                }
+            }
+
+            return settle();
+        }
+
+        /**
+         * Send the hedge, unless the request has been answered or no hedge is left in the budget.
+         */
+
+        private void hedge() {
+            final Attempt second;
+
+            synchronized (this) {
+                if (settled || aborted || !spend()) {
+                    return;
+                }
+                if (copy.getCopyPermit() != null && !copy.getCopyPermit().getAsBoolean()) {
+                    // The rate limit has no token to spare, and the hedge is given back to the budget.
+                    refund();
+                    return;
+                }
+                second = new Attempt(copy, endpoint);
+                hedge = second;
+            }
+            hedgeCount.incrementAndGet();
+            second.result.thenAccept(response -> answered(second, response));
+            executor.execute(second);
+        }
+
+        /**
+         * Take the response of the hedge if it is the first answer, which aborts the request on the calling thread.
+         */
+
+        private void answered(Attempt second, TransportResponse response) {
+            boolean first;
+
+            synchronized (this) {
+                first = winner == null;
+                if (first) {
+                    winner = second;
+                }
+            }
+            if (first) {
+                primary.handle.abort();
+            } else {
+                close(response);
+            }
+        }
+
+        /**
+         * Choose the response once the request on the calling thread has returned.
+         */
+
+        private TransportResponse settle() throws Exception {
+            Attempt second;
+
+            synchronized (this) {
+                settled = true;
+                second = hedge;
+                if (winner == null && !primary.result.isCompletedExceptionally()) {
+                    winner = primary;
+                }
+            }
+            if (second != null && winner != second && primary.failure instanceof InterruptedException) {
+                // The calling thread was interrupted, so it does not wait for the hedge either.
+                second.cancel();
+                second = null;
+            }
+            if (second == null) {
+                return await(primary.result);
+            }
+            if (winner == primary) {
+                second.cancel();
+                return await(primary.result);
+            }
+            primary.cancel();
+            try {
+                return await(second.result);
+            } catch (InterruptedException e) {
+                second.cancel();
+                throw e;
+            } catch (Exception e) {
+                // Both copies failed, and the failure of the request is the one that is reported.
+                return await(primary.result);
+            }
+        }
+
+        private void abort() {
+            Attempt second;
+
+            synchronized (this) {
+                aborted = true;
+                second = hedge;
+            }
+            primary.handle.abort();
+            if (second != null) {
+                second.cancel();
+            }
+        }
+    }
+
+
+    /**
+     * One copy of a request, with a handle of its own so that it can be aborted on its own.
+     */
+
+    private class Attempt implements Runnable {
+
+        private TransportRequest request;
+        private Samples endpoint;
+        private AbortHandle handle = new AbortHandle();
+        private CompletableFuture<TransportResponse> result = new CompletableFuture<TransportResponse>();
+        private Throwable failure;
+        private long started = System.nanoTime();
+        private Deadline deadline = Deadline.current();
+
+
+        private Attempt(TransportRequest request, Samples endpoint) {
+            this.request = request;
+            this.endpoint = endpoint;
+        }
+
+
+        public void run() {
+            AbortHandle callerHandle = AbortHandle.current();
+            Deadline callerDeadline = Deadline.current();
+
+            AbortHandle.bind(handle);
+            Deadline.bind(deadline);
+            try {
+                TransportResponse response = delegate.execute(request);
+
+                record(endpoint, (System.nanoTime() - started) / 1000000);
+                result.complete(response);
+            } catch (Throwable t) {
+                if (handle.isAborted()) {
+                    // A request aborted because it was slow still tells how slow it was.
+                    record(endpoint, (System.nanoTime() - started) / 1000000);
+                }
+                failure = t;
+                result.completeExceptionally(t);
+            } finally {
+                AbortHandle.bind(callerHandle);
+                Deadline.bind(callerDeadline);
+            }
+        }
+
+        /**
+         * Abort the request, and close its response if it has already arrived.
+         */
+
+        private void cancel() {
+            handle.abort();
+            result.thenAccept(HedgingTransport::close);
+        }
+    }
+}
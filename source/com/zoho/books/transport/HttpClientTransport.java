@@ -0,0 +1,214 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * HttpClientTransport is the default Transport. It is built on java.net.http.HttpClient, which keeps connections
+ * alive in a pool and negotiates HTTP/2 with the server, so requests after the first one reuse the TLS session.
+ * <p>
+ * Responses are requested with Accept-Encoding: gzip, deflate and decompressed as they are read,
+ * unless compression is disabled in the TransportConfig.
+ * <p>
+ * The read timeout of the {@link TimeoutProfile} of an endpoint and the deadline of the call bound the wait for the
+ * headers and every read of the body. HttpClient fixes the connect timeout when it is built, so every request is
+ * connected within {@link TransportConfig#getConnectTimeout()}, and the connect timeouts of the profiles are not used.
+ * <p>
+ * One instance should be shared by all the API objects of an application.
+ */
+
+public class HttpClientTransport implements Transport {
+
+    private static final String ALLOWED = "-._~:/?#[]@!$&'()*+,;=%"; //No I18N
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray(); //No I18N
+
+    private TransportConfig config;
+    private ExecutorService executor;
+    private HttpClient client;
+    private ConnectionLimiter limiter;
+
+
+    /**
+     * Construct a new HttpClientTransport with the default settings.
+     */
+
+    public HttpClientTransport() {
+        this(new TransportConfig());
+    }
+
+    /**
+     * Construct a new HttpClientTransport with the given settings.
+     *
+     * @param config TransportConfig object.
+     */
+
+    public HttpClientTransport(TransportConfig config) {
+        this.config = config;
+        this.executor = Executors.newCachedThreadPool(new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "zohobooks-http"); //No I18N
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        this.client = HttpClient.newBuilder()
+                .version(config.isHttp2Enabled() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(config.getConnectTimeout()))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+        this.limiter = new ConnectionLimiter(config);
+    }
+
+
+    public TransportResponse execute(TransportRequest request) throws Exception {
+        URI uri = toUri(request.getUrl());
+        int readTimeout = config.getTimeoutProfile(request.getEndpoint()).getReadTimeout();
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofMillis(Deadline.bound(readTimeout)));
+
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            builder.setHeader(header.getKey(), header.getValue());
+        }
+        if (config.isCompressionEnabled() && request.getHeader("Accept-Encoding") == null) { //No I18N
+            builder.setHeader("Accept-Encoding", Compression.ACCEPT_ENCODING); //No I18N
+        }
+
+        RequestBody body = request.getBody();
+
+        if (body != null) {
+            body = Compression.compress(body, config);
+
+            builder.setHeader("Content-Type", body.getContentType()); //No I18N
+            if (body.getContentEncoding() != null) {
+                builder.setHeader("Content-Encoding", body.getContentEncoding()); //No I18N
+            }
+            builder.method(request.getMethod(), publisher(body));
+        } else {
+            builder.method(request.getMethod(), HttpRequest.BodyPublishers.noBody());
+        }
+
+        String host = uri.getHost();
+        TransportResponse response;
+
+        limiter.acquire(host, request.getOrganizationId());
+        request.markSent();
+        try {
+            final CompletableFuture<HttpResponse<InputStream>> pending = client.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+
+            AbortHandle.onAbort(() -> pending.cancel(true));
+
+            HttpResponse<InputStream> received = await(pending);
+
+            // The timeout of the request ends with the headers, so the reads of the body are timed by a watch.
+            final InputStream responseBody = limiter.releaseOnClose(host, new TimedInputStream(received.body(), readTimeout, Deadline.current()));
+
+            AbortHandle.onAbort(() -> closeQuietly(responseBody));
+
+            response = new TransportResponse(received.statusCode(), received.headers().map(), responseBody);
+        } catch (Exception e) {
+            limiter.release(host);
+            throw e;
+        }
+
+        return config.isCompressionEnabled() ? Compression.decode(response) : response;
+    }
+
+    public void close() {
+        executor.shutdown();
+    }
+
+    private static <T> T await(CompletableFuture<T> pending) throws Exception {
+        Deadline deadline = Deadline.current();
+
+        try {
+            return deadline == null ? pending.get() : pending.get(deadline.check(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            pending.cancel(true);
+            throw new HttpTimeoutException("The deadline of the call has passed"); //No I18N
+        } catch (InterruptedException e) {
+            pending.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException e) {
+            // The request is being aborted, so a failure to close is of no interest.
+        }
+    }
+
+    /**
+     * Parse the URL, escaping the characters that HttpURLConnection used to send as they were.
+     * Query values built by ZohoHTTPClient.formQueryString are not encoded, and may contain spaces or JSON.
+     */
+
+    private static URI toUri(String url) {
+        try {
+            return new URI(url);
+        } catch (URISyntaxException e) {
+            StringBuilder escaped = new StringBuilder(url.length() + 16);
+
+            for (byte b : url.getBytes(StandardCharsets.UTF_8)) {
+                int c = b & 0xff;
+
+                if (c <= 0x20 || c >= 0x7f || (!Character.isLetterOrDigit(c) && ALLOWED.indexOf(c) < 0)) {
+                    escaped.append('%').append(HEX[c >> 4]).append(HEX[c & 0xf]);
+                } else {
+                    escaped.append((char) c);
+                }
+            }
+
+            return URI.create(escaped.toString());
+        }
+    }
+
+    private static HttpRequest.BodyPublisher publisher(final RequestBody body) {
+        if (body instanceof FormBody) {
+            return HttpRequest.BodyPublishers.ofByteArray(((FormBody) body).getBytes());
+        }
+        if (body instanceof GzipBody) {
+            return HttpRequest.BodyPublishers.ofByteArray(((GzipBody) body).getBytes());
+        }
+
+        HttpRequest.BodyPublisher stream = HttpRequest.BodyPublishers.ofInputStream(() -> {
+            try {
+                return body.openStream();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        long length = body.getContentLength();
+
+        return length >= 0 ? HttpRequest.BodyPublishers.fromPublisher(stream, length) : stream;
+    }
+}
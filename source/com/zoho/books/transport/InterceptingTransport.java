@@ -0,0 +1,87 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import java.util.List;
+
+/**
+ * InterceptingTransport is used to run a chain of interceptors around the requests of another Transport.
+ * <p>
+ * The interceptors run in the order they are given: the first one sees the request first and the response last.
+ * The chain is built once, so a request allocates nothing to run through it, and a transport without interceptors
+ * passes the requests straight on.
+ */
+
+public class InterceptingTransport implements Transport {
+
+    private Transport delegate;
+
+    private Interceptor.Chain chain;
+
+
+    /**
+     * Construct a new InterceptingTransport.
+     *
+     * @param delegate     Transport that executes the requests.
+     * @param interceptors Interceptors, in the order they run.
+     */
+
+    public InterceptingTransport(Transport delegate, Interceptor... interceptors) {
+        this.delegate = delegate;
+
+        Interceptor.Chain next = new Chain(null, null, delegate);
+
+        for (int i = interceptors.length - 1; i >= 0; i--) {
+            next = new Chain(interceptors[i], next, null);
+        }
+        this.chain = next;
+    }
+
+    /**
+     * Construct a new InterceptingTransport.
+     *
+     * @param delegate     Transport that executes the requests.
+     * @param interceptors Interceptors, in the order they run.
+     */
+
+    public InterceptingTransport(Transport delegate, List<Interceptor> interceptors) {
+        this(delegate, interceptors.toArray(new Interceptor[0]));
+    }
+
+
+    public TransportResponse execute(TransportRequest request) throws Exception {
+        return chain.proceed(request);
+    }
+
+    public void close() {
+        delegate.close();
+    }
+
+
+    /**
+     * One link of the chain: an interceptor and the links after it, or the transport at the end.
+     */
+
+    private static class Chain implements Interceptor.Chain {
+
+        private Interceptor interceptor;
+        private Interceptor.Chain next;
+        private Transport transport;
+
+
+        private Chain(Interceptor interceptor, Interceptor.Chain next, Transport transport) {
+            this.interceptor = interceptor;
+            this.next = next;
+            this.transport = transport;
+        }
+
+
+        public TransportResponse proceed(TransportRequest request) throws Exception {
+            if (interceptor == null) {
+                return transport.execute(request);
+            }
+
+            return interceptor.intercept(request, next);
+        }
+    }
+}
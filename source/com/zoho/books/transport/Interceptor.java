@@ -0,0 +1,52 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+/**
+ * Interceptor is used to add behavior around every request of a transport, such as metrics, tracing or logging,
+ * without changing the API classes.
+ * <p>
+ * An interceptor sees the request before it is sent, and the response when it comes back. It passes the request on
+ * with {@link Chain#proceed(TransportRequest)}, and may change the request, return another response, or fail
+ * instead. The request gives the method, URL, endpoint template and headers; the response gives the status and
+ * headers. An interceptor is shared by all the threads, so it must be thread-safe.
+ * <p>
+ * <pre>
+ *     Interceptor timing = (request, chain) -&gt; {
+ *         long started = System.nanoTime();
+ *         TransportResponse response = chain.proceed(request);
+ *         metrics.record(request.getEndpoint(), response.getStatus(), System.nanoTime() - started);
+ *         return response;
+ *     };
+ * </pre>
+ */
+
+public interface Interceptor {
+
+    /**
+     * Handle a request.
+     *
+     * @param request The request.
+     * @param chain   The rest of the chain, which ends with the transport.
+     * @return Returns the TransportResponse object.
+     */
+
+    TransportResponse intercept(TransportRequest request, Chain chain) throws Exception;
+
+
+    /**
+     * The interceptors that follow, and the transport at the end.
+     */
+
+    interface Chain {
+
+        /**
+         * Pass the request on to the next interceptor, or to the transport after the last one.
+         *
+         * @param request The request.
+         * @return Returns the TransportResponse object.
+         */
+
+        TransportResponse proceed(TransportRequest request) throws Exception;
+    }
+}
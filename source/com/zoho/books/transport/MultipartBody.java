@@ -0,0 +1,177 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * MultipartBody is used to send form fields and attachment files as multipart/form-data.
+ * <p>
+ * Files are opened one at a time while the body is read, so each file is closed before the next one is opened.
+ * When the body is written to a connection, the files are copied through a 64 KB buffer.
+ * When the length of an attachment is not known the body has no length either, and the transport sends it
+ * with chunked transfer encoding.
+ */
+
+public class MultipartBody extends RequestBody {
+
+    private static final String LINE_END = "\r\n"; //No I18N
+    private static final String TWO_HYPHENS = "--"; //No I18N
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private String boundary = "ZohoBooks" + Long.toHexString(ThreadLocalRandom.current().nextLong()); //No I18N
+
+    private List<Object> segments = new ArrayList<Object>();
+
+
+    /**
+     * Construct a new MultipartBody from the given form fields and files.
+     *
+     * @param requestBody This map contains the form fields in the form of key, value pair.
+     * @param fileBody    This map contains the attachments. A value may be a File, a Path, an Attachment or a List of them.
+     */
+
+    public MultipartBody(Map<String, Object> requestBody, Map<String, Object> fileBody) {
+        if (requestBody != null) {
+            for (Map.Entry<String, Object> field : requestBody.entrySet()) {
+                addText(TWO_HYPHENS + boundary + LINE_END
+                        + "Content-Disposition: form-data; name=\"" + field.getKey() + "\"" + LINE_END + LINE_END //No I18N
+                        + field.getValue() + LINE_END);
+            }
+        }
+        if (fileBody != null) {
+            for (Map.Entry<String, Object> entry : fileBody.entrySet()) {
+                if (entry.getValue() instanceof List) {
+                    for (Object file : (List<?>) entry.getValue()) {
+                        addFile(entry.getKey(), file);
+                    }
+                } else if (entry.getValue() != null) {
+                    addFile(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        addText(TWO_HYPHENS + boundary + TWO_HYPHENS + LINE_END);
+    }
+
+
+    private void addText(String text) {
+        segments.add(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void addFile(String name, Object file) {
+        Attachment attachment;
+
+        if (file instanceof Attachment) {
+            attachment = (Attachment) file;
+        } else if (file instanceof Path) {
+            attachment = new Attachment((Path) file);
+        } else if (file instanceof File) {
+            attachment = new Attachment((File) file);
+        } else {
+            throw new IllegalArgumentException("Unsupported attachment " + file.getClass().getName()); //No I18N
+        }
+
+        addText(TWO_HYPHENS + boundary + LINE_END
+                + "Content-Disposition: form-data; name=\"" + name + "\";filename=\"" + attachment.getFileName() + "\"" + LINE_END + LINE_END); //No I18N
+        segments.add(attachment);
+        addText(LINE_END);
+    }
+
+    public String getContentType() {
+        return "multipart/form-data; boundary=" + boundary; //No I18N
+    }
+
+    public long getContentLength() {
+        long length = 0;
+
+        for (Object segment : segments) {
+            if (segment instanceof Attachment) {
+                long attachmentLength = ((Attachment) segment).getLength();
+
+                if (attachmentLength < 0) {
+                    return -1;
+                }
+                length += attachmentLength;
+            } else {
+                length += ((byte[]) segment).length;
+            }
+        }
+
+        return length;
+    }
+
+    public boolean isRepeatable() {
+        for (Object segment : segments) {
+            if (segment instanceof Attachment && !((Attachment) segment).isRepeatable()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        byte[] buffer = null;
+
+        for (Object segment : segments) {
+            if (!(segment instanceof Attachment)) {
+                out.write((byte[]) segment);
+                continue;
+            }
+            if (buffer == null) {
+                buffer = new byte[COPY_BUFFER_SIZE];
+            }
+
+            InputStream in = ((Attachment) segment).openStream();
+
+            try {
+                int read;
+
+                while ((read = in.read(buffer)) >= 0) {
+                    out.write(buffer, 0, read);
+                }
+            } finally {
+                in.close();
+            }
+        }
+    }
+
+    public InputStream openStream() {
+        final Iterator<Object> iterator = segments.iterator();
+
+        return new SequenceInputStream(new Enumeration<InputStream>() {
+            public boolean hasMoreElements() {
+                return iterator.hasNext();
+            }
+
+            public InputStream nextElement() {
+                Object segment = iterator.next();
+
+                if (segment instanceof Attachment) {
+                    try {
+                        return ((Attachment) segment).openStream();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                return new ByteArrayInputStream((byte[]) segment);
+            }
+        });
+    }
+}
@@ -0,0 +1,24 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+/**
+ * Priority is used to tell the requests a user is waiting for from the requests of background jobs.
+ */
+
+public enum Priority {
+
+    /**
+     * A request a user is waiting for, such as the details of an invoice. It is sent first, and part of the rate
+     * budget of the organization is kept for it.
+     */
+
+    INTERACTIVE,
+
+    /**
+     * A request of a background job, such as a page of a full sync or a bulk export. It uses the rate budget that
+     * the interactive requests leave.
+     */
+
+    BACKGROUND
+}
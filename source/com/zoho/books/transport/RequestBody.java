@@ -0,0 +1,90 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * RequestBody is the super class for the bodies of POST and PUT requests.
+ * <p>
+ * The body is read through {@link #openStream()}, so a Transport can copy it to the connection without buffering it.
+ * A body that is made as it is sent overrides {@link #writeTo(OutputStream)} to write itself to the connection instead.
+ */
+
+public abstract class RequestBody {
+
+    /**
+     * get the value of the Content-Type header for this body.
+     *
+     * @return Returns the content type.
+     */
+
+    public abstract String getContentType();
+
+    /**
+     * get the value of the Content-Encoding header for this body.
+     *
+     * @return Returns the content encoding, or null if the body is not encoded.
+     */
+
+    public String getContentEncoding() {
+        return null;
+    }
+
+    /**
+     * get the length of the body in bytes.
+     *
+     * @return Returns the length, or -1 if it is not known in advance.
+     */
+
+    public long getContentLength() {
+        return -1;
+    }
+
+    /**
+     * Open a stream over the bytes of this body.
+     *
+     * @return Returns a new InputStream that the caller must close.
+     */
+
+    public abstract InputStream openStream() throws IOException;
+
+    /**
+     * Write the bytes of this body to the given stream, which is left open.
+     *
+     * @param out The stream the body is written to.
+     */
+
+    public void writeTo(OutputStream out) throws IOException {
+        InputStream in = openStream();
+
+        try {
+            in.transferTo(out);
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Open a stream over the bytes that {@link #writeTo(OutputStream)} writes. The body is written by another thread
+     * as the stream is read, so a body that writes itself can be read without holding all of it in memory.
+     *
+     * @return Returns a new InputStream that the caller must close.
+     */
+
+    protected InputStream pipe() throws IOException {
+        return BodyPipe.open(this);
+    }
+
+    /**
+     * Check whether {@link #openStream()} may be called more than once, for example to resend the request.
+     *
+     * @return Returns true if the body can be sent again.
+     */
+
+    public boolean isRepeatable() {
+        return true;
+    }
+}
@@ -0,0 +1,165 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TimedInputStream is used to put a read timeout on a response body that has no socket timeout of its own.
+ * <p>
+ * Each read must return within the read timeout, cut to the time left before the deadline of the call. A read that
+ * takes longer closes the stream, which makes the read fail, as a socket read timeout does.
+ */
+
+class TimedInputStream extends FilterInputStream {
+
+    private static final ScheduledThreadPoolExecutor WATCHDOG = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "zohobooks-read-timeout"); //No I18N
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    static {
+        WATCHDOG.setRemoveOnCancelPolicy(true);
+    }
+
+    private long readTimeout;
+
+    private Deadline deadline;
+
+    private volatile boolean timedOut;
+
+
+    /**
+     * Construct a new TimedInputStream.
+     *
+     * @param in          The response body.
+     * @param readTimeout Read timeout in milliseconds, or 0 for no read timeout.
+     * @param deadline    Deadline of the call, or null if the call has none.
+     */
+
+    TimedInputStream(InputStream in, long readTimeout, Deadline deadline) {
+        super(in);
+        this.readTimeout = readTimeout;
+        this.deadline = deadline;
+    }
+
+
+    public int read() throws IOException {
+        Future<?> watch = watch();
+        int result;
+
+        try {
+            result = super.read();
+        } catch (IOException e) {
+            throw timedOut ? timeout(e) : e;
+        } finally {
+            cancel(watch);
+        }
+        if (timedOut) {
+            // A body closed by the watch may end as if it were complete.
+            throw timeout(null);
+        }
+
+        return result;
+    }
+
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        Future<?> watch = watch();
+        int result;
+
+        try {
+            result = super.read(buffer, offset, length);
+        } catch (IOException e) {
+            throw timedOut ? timeout(e) : e;
+        } finally {
+            cancel(watch);
+        }
+        if (timedOut) {
+            throw timeout(null);
+        }
+
+        return result;
+    }
+
+    public long skip(long count) throws IOException {
+        Future<?> watch = watch();
+        long result;
+
+        try {
+            result = super.skip(count);
+        } catch (IOException e) {
+            throw timedOut ? timeout(e) : e;
+        } finally {
+            cancel(watch);
+        }
+        if (timedOut) {
+            throw timeout(null);
+        }
+
+        return result;
+    }
+
+    /**
+     * Start the watch of a read, which closes the stream when the read takes too long.
+     *
+     * @return Returns the watch to cancel when the read returns, or null if the read has no timeout.
+     */
+
+    private Future<?> watch() throws IOException {
+        if (timedOut) {
+            throw new HttpTimeoutException("Read timed out"); //No I18N
+        }
+
+        long timeout = readTimeout;
+
+        if (deadline != null) {
+            long remaining = deadline.getRemaining();
+
+            if (remaining <= 0) {
+                throw new HttpTimeoutException("The deadline of the call has passed"); //No I18N
+            }
+            timeout = timeout > 0 ? Math.min(timeout, remaining) : remaining;
+        }
+        if (timeout <= 0) {
+            return null;
+        }
+
+        return WATCHDOG.schedule(this::expire, timeout, TimeUnit.MILLISECONDS);
+    }
+
+    private static void cancel(Future<?> watch) {
+        if (watch != null) {
+            watch.cancel(false);
+        }
+    }
+
+    private void expire() {
+        timedOut = true;
+        try {
+            in.close();
+        } catch (IOException e) {
+            // The read is failed by the close, so a failure to close is of no interest.
+        }
+    }
+
+    private HttpTimeoutException timeout(IOException cause) {
+        HttpTimeoutException timeout = new HttpTimeoutException(deadline != null && deadline.isExpired()
+                ? "The deadline of the call has passed" : "Read timed out"); //No I18N
+
+        if (cause != null) {
+            timeout.initCause(cause);
+        }
+
+        return timeout;
+    }
+}
@@ -0,0 +1,49 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+/**
+ * This class is used to make an object for the timeouts of a class of endpoints, such as the bulk PDF exports.
+ */
+
+public class TimeoutProfile {
+
+    private int connectTimeout;
+
+    private int readTimeout;
+
+
+    /**
+     * Construct a new TimeoutProfile.
+     *
+     * @param connectTimeout Connect timeout in milliseconds.
+     * @param readTimeout    Read timeout in milliseconds.
+     */
+
+    public TimeoutProfile(int connectTimeout, int readTimeout) {
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+    }
+
+
+    /**
+     * get the connect timeout. It is used by UrlConnectionTransport; HttpClientTransport connects every request within
+     * the connect timeout of its TransportConfig, as HttpClient fixes it when it is built.
+     *
+     * @return Returns the connect timeout in milliseconds.
+     */
+
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * get the read timeout.
+     *
+     * @return Returns the read timeout in milliseconds.
+     */
+
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+}
@@ -0,0 +1,30 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+/**
+ * Transport is used to execute the HTTP requests built by ZohoHTTPClient.
+ * <p>
+ * A Transport is shared by all API instances that are handed the same object, so implementations must be thread-safe.
+ * The response returned by {@link #execute(TransportRequest)} must be closed by the caller to release the underlying connection.
+ */
+
+public interface Transport {
+
+    /**
+     * Execute the given request and return the response.
+     * <p>
+     * HTTP error statuses are returned as a response and not thrown.
+     *
+     * @param request The request to be executed.
+     * @return Returns the TransportResponse object.
+     */
+
+    TransportResponse execute(TransportRequest request) throws Exception;
+
+    /**
+     * Release the connections and threads held by this transport.
+     */
+
+    void close();
+}
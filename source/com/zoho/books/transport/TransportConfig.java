@@ -0,0 +1,236 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class is used to make an object for the connection settings of a Transport.
+ */
+
+public class TransportConfig {
+
+    private int connectTimeout = 60 * 1000;
+    private int readTimeout = 80 * 1000;
+    private int maxConnections = 64;
+    private int maxConnectionsPerHost = 32;
+    private boolean http2Enabled = true;
+    private boolean compressionEnabled = true;
+    private int requestCompressionThreshold = -1;
+    private ConcurrentMap<String, Integer> organizationWeights = new ConcurrentHashMap<String, Integer>();
+    private ConcurrentMap<String, TimeoutProfile> timeoutProfiles = new ConcurrentHashMap<String, TimeoutProfile>();
+
+
+    /**
+     * get the connect timeout.
+     *
+     * @return Returns the connect timeout in milliseconds.
+     */
+
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * set the connect timeout.
+     *
+     * @param connectTimeout Connect timeout in milliseconds.
+     */
+
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * get the read timeout.
+     *
+     * @return Returns the read timeout in milliseconds.
+     */
+
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * set the read timeout, the time allowed to wait for the response after the request has been sent.
+     *
+     * @param readTimeout Read timeout in milliseconds.
+     */
+
+    public void setReadTimeout(int readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * get the maximum number of connections in use at the same time across all hosts.
+     *
+     * @return Returns the pool size.
+     */
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * set the maximum number of connections in use at the same time across all hosts.
+     * Requests beyond this limit wait until a connection is released.
+     *
+     * @param maxConnections Pool size.
+     */
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * get the maximum number of connections in use at the same time for a single host.
+     *
+     * @return Returns the per-host limit.
+     */
+
+    public int getMaxConnectionsPerHost() {
+        return maxConnectionsPerHost;
+    }
+
+    /**
+     * set the maximum number of connections in use at the same time for a single host.
+     *
+     * @param maxConnectionsPerHost Per-host limit.
+     */
+
+    public void setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+    }
+
+    /**
+     * check whether HTTP/2 is negotiated when the server supports it.
+     *
+     * @return Returns true if HTTP/2 is enabled.
+     */
+
+    public boolean isHttp2Enabled() {
+        return http2Enabled;
+    }
+
+    /**
+     * set whether HTTP/2 is negotiated when the server supports it.
+     *
+     * @param http2Enabled Whether HTTP/2 is enabled.
+     */
+
+    public void setHttp2Enabled(boolean http2Enabled) {
+        this.http2Enabled = http2Enabled;
+    }
+
+    /**
+     * check whether compressed responses are requested with Accept-Encoding and decompressed as they are read.
+     *
+     * @return Returns true if response compression is enabled.
+     */
+
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    /**
+     * set whether compressed responses are requested with Accept-Encoding: gzip, deflate and decompressed as they are read.
+     *
+     * @param compressionEnabled Whether response compression is enabled.
+     */
+
+    public void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    /**
+     * get the size from which form request bodies are sent gzip compressed.
+     *
+     * @return Returns the threshold in bytes, or -1 if request bodies are never compressed.
+     */
+
+    public int getRequestCompressionThreshold() {
+        return requestCompressionThreshold;
+    }
+
+    /**
+     * set the size from which form request bodies are sent with Content-Encoding: gzip. It is disabled by default,
+     * and should only be enabled for servers that accept compressed request bodies. A form body that is written as it
+     * is sent is first written up to the threshold to learn whether it reaches it.
+     *
+     * @param requestCompressionThreshold Threshold in bytes, or -1 to never compress request bodies.
+     */
+
+    public void setRequestCompressionThreshold(int requestCompressionThreshold) {
+        this.requestCompressionThreshold = requestCompressionThreshold;
+    }
+
+    /**
+     * get the weight of an organization. When the connections are all in use, each organization with waiting
+     * requests is given up to its weight of connections in turn.
+     *
+     * @param organizationId ID of the organization.
+     * @return Returns the weight, 1 unless it has been set.
+     */
+
+    public int getOrganizationWeight(String organizationId) {
+        Integer weight = organizationWeights.get(organizationId != null ? organizationId : "");
+
+        return weight != null ? weight : 1;
+    }
+
+    /**
+     * set the weight of an organization. It can be changed while the transport is in use.
+     *
+     * @param organizationId ID of the organization.
+     * @param weight         Number of connections the organization is given in its turn.
+     */
+
+    public void setOrganizationWeight(String organizationId, int weight) {
+        if (weight < 1) {
+            throw new IllegalArgumentException("weight must be positive"); //No I18N
+        }
+        organizationWeights.put(organizationId != null ? organizationId : "", weight);
+    }
+
+    /**
+     * set the timeouts of the endpoints whose template starts with the given prefix, such as /invoices/pdf for
+     * the bulk exports of invoices, or /invoices/{id}/status for the status changes. When several prefixes match,
+     * the longest one is used.
+     *
+     * @param endpointPrefix Start of the endpoint templates, in which the IDs are written as {id}.
+     * @param profile        TimeoutProfile object, or null to use the default timeouts again.
+     */
+
+    public void setTimeoutProfile(String endpointPrefix, TimeoutProfile profile) {
+        if (profile == null) {
+            timeoutProfiles.remove(endpointPrefix);
+        } else {
+            timeoutProfiles.put(endpointPrefix, profile);
+        }
+    }
+
+    /**
+     * get the timeouts of an endpoint.
+     *
+     * @param endpoint Template of the endpoint, as returned by {@link TransportRequest#getEndpoint()}.
+     * @return Returns the TimeoutProfile of the longest matching prefix, or a profile with the default timeouts.
+     */
+
+    public TimeoutProfile getTimeoutProfile(String endpoint) {
+        TimeoutProfile profile = null;
+        int matched = -1;
+
+        for (Map.Entry<String, TimeoutProfile> entry : timeoutProfiles.entrySet()) {
+            String prefix = entry.getKey();
+
+            if (prefix.length() > matched && endpoint.startsWith(prefix)) {
+                profile = entry.getValue();
+                matched = prefix.length();
+            }
+        }
+
+        return profile != null ? profile : new TimeoutProfile(connectTimeout, readTimeout);
+    }
+}
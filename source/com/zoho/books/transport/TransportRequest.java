@@ -0,0 +1,275 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * This class is used to make an object for a HTTP request executed by a Transport.
+ */
+
+public class TransportRequest {
+
+    private String method;
+    private String url;
+    private Map<String, String> headers = new LinkedHashMap<String, String>();
+    private RequestBody body;
+    private String organizationId;
+    private Priority priority = Priority.INTERACTIVE;
+    private String endpoint;
+    private BooleanSupplier copyPermit;
+    private long sent;
+
+
+    /**
+     * Construct a new TransportRequest for the given method and URL.
+     *
+     * @param method HTTP method (GET, POST, PUT or DELETE).
+     * @param url    Complete URL including the query string.
+     */
+
+    public TransportRequest(String method, String url) {
+        this.method = method;
+        this.url = url;
+    }
+
+
+    /**
+     * get the HTTP method.
+     *
+     * @return Returns the HTTP method.
+     */
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * get the request URL.
+     *
+     * @return Returns the complete request URL.
+     */
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * set the request URL.
+     *
+     * @param url Complete request URL including the query string.
+     */
+
+    public void setUrl(String url) {
+        this.url = url;
+        this.endpoint = null;
+    }
+
+    /**
+     * get the request headers.
+     *
+     * @return Returns the request headers.
+     */
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * set a request header, replacing any existing value.
+     *
+     * @param name  Header name.
+     * @param value Header value.
+     */
+
+    public void setHeader(String name, String value) {
+        headers.put(name, value);
+    }
+
+    /**
+     * get the value of a request header.
+     *
+     * @param name Header name.
+     * @return Returns the header value or null.
+     */
+
+    public String getHeader(String name) {
+        return headers.get(name);
+    }
+
+    /**
+     * get the request body.
+     *
+     * @return Returns the RequestBody or null if the request has no body.
+     */
+
+    public RequestBody getBody() {
+        return body;
+    }
+
+    /**
+     * set the request body.
+     *
+     * @param body RequestBody object.
+     */
+
+    public void setBody(RequestBody body) {
+        this.body = body;
+    }
+
+    /**
+     * get the organization id the request is made for.
+     *
+     * @return Returns the organization id or null.
+     */
+
+    public String getOrganizationId() {
+        return organizationId;
+    }
+
+    /**
+     * set the organization id the request is made for.
+     *
+     * @param organizationId ID of the organization.
+     */
+
+    public void setOrganizationId(String organizationId) {
+        this.organizationId = organizationId;
+    }
+
+    /**
+     * get the priority of the request.
+     *
+     * @return Returns the priority, INTERACTIVE unless it has been set.
+     */
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    /**
+     * set the priority of the request.
+     *
+     * @param priority Priority of the request.
+     */
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * get the template of the endpoint the request is sent to, which identifies the endpoint whatever the IDs
+     * in the URL are.
+     *
+     * @return Returns the path after the API version, with the IDs replaced by {id}, such as /invoices/{id}.
+     */
+
+    public String getEndpoint() {
+        if (endpoint == null) {
+            endpoint = toEndpoint(url);
+        }
+
+        return endpoint;
+    }
+
+    /**
+     * get the check a transport makes before it sends an extra copy of the request, such as a hedge.
+     *
+     * @return Returns the check, or null if copies are not limited.
+     */
+
+    public BooleanSupplier getCopyPermit() {
+        return copyPermit;
+    }
+
+    /**
+     * set the check a transport makes before it sends an extra copy of the request, such as a hedge. The check must
+     * not wait: it returns true and takes a permit, or returns false and the copy is not sent.
+     *
+     * @param copyPermit Check that takes a permit for a copy, or null to not limit copies.
+     */
+
+    public void setCopyPermit(BooleanSupplier copyPermit) {
+        this.copyPermit = copyPermit;
+    }
+
+    /**
+     * Mark the request as sent, once it holds a connection permit, so that the wait for the permit is not taken
+     * for time spent at the server.
+     */
+
+    void markSent() {
+        sent = System.nanoTime();
+    }
+
+    /**
+     * get the time the request was last sent.
+     *
+     * @return Returns the value of System.nanoTime() when the request was sent, or 0 if it has not been sent.
+     */
+
+    long getSent() {
+        return sent;
+    }
+
+    private static String toEndpoint(String url) {
+        int start = url.indexOf("://"); //No I18N
+
+        start = start < 0 ? 0 : url.indexOf('/', start + 3);
+        if (start < 0) {
+            return "/";
+        }
+
+        int end = url.indexOf('?', start);
+
+        if (end < 0) {
+            end = url.length();
+        }
+
+        // Skip the /books/v3 prefix, which all the endpoints share.
+        int version = url.indexOf("/v3/", start); //No I18N
+
+        if (version >= 0 && version < end) {
+            start = version + 3;
+        }
+
+        StringBuilder template = new StringBuilder(end - start + 8);
+
+        for (int i = start; i < end; ) {
+            int next = url.indexOf('/', i + 1);
+
+            if (next < 0 || next > end) {
+                next = end;
+            }
+
+            template.append('/');
+            if (isId(url, i + 1, next)) {
+                template.append("{id}"); //No I18N
+            } else {
+                template.append(url, i + 1, next);
+            }
+            i = next;
+        }
+
+        return template.length() > 0 ? template.toString() : "/";
+    }
+
+    /**
+     * Check whether a path segment is an ID. Zoho Books IDs are long numbers.
+     */
+
+    private static boolean isId(String url, int from, int to) {
+        if (to - from < 5) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            if (!Character.isDigit(url.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,120 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * This class is used to make an object for the response of a Transport.
+ * <p>
+ * The body must be closed, either directly or through {@link #close()}, to release the connection.
+ */
+
+public class TransportResponse implements Closeable {
+
+    private int status;
+    private Map<String, List<String>> headers;
+    private InputStream body;
+    private int attempts = 1;
+
+
+    /**
+     * Construct a new TransportResponse.
+     *
+     * @param status  HTTP status code.
+     * @param headers Response headers, keyed by header name.
+     * @param body    Response body stream. May be null when the response has no body.
+     */
+
+    public TransportResponse(int status, Map<String, List<String>> headers, InputStream body) {
+        this.status = status;
+        this.headers = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+        if (headers != null) {
+            for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+                if (entry.getKey() != null) {
+                    this.headers.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        this.body = body != null ? body : new ByteArrayInputStream(new byte[0]);
+    }
+
+
+    /**
+     * get the HTTP status code.
+     *
+     * @return Returns the HTTP status code.
+     */
+
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * get all the response headers. Header names are matched case-insensitively.
+     *
+     * @return Returns the response headers.
+     */
+
+    public Map<String, List<String>> getHeaders() {
+        return Collections.unmodifiableMap(headers);
+    }
+
+    /**
+     * get the first value of a response header.
+     *
+     * @param name Header name.
+     * @return Returns the header value or null.
+     */
+
+    public String getHeader(String name) {
+        List<String> values = headers.get(name);
+
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    /**
+     * get the response body stream.
+     *
+     * @return Returns the InputStream of the response body.
+     */
+
+    public InputStream getBody() {
+        return body;
+    }
+
+    /**
+     * get the number of times the request was sent to get this response.
+     *
+     * @return Returns the number of attempts.
+     */
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * set the number of times the request was sent to get this response.
+     *
+     * @param attempts Number of attempts.
+     */
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    /**
+     * Close the response body.
+     */
+
+    public void close() throws IOException {
+        body.close();
+    }
+}
@@ -0,0 +1,122 @@
+/* $Id$ */
+
+package com.zoho.books.transport;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Map;
+
+/**
+ * UrlConnectionTransport is the fallback Transport. It executes every request on a HttpURLConnection,
+ * as the library did before transports were introduced.
+ * <p>
+ * Idle connections are kept alive by the JDK according to the http.keepAlive and http.maxConnections system properties.
+ */
+
+public class UrlConnectionTransport implements Transport {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private TransportConfig config;
+    private ConnectionLimiter limiter;
+
+
+    /**
+     * Construct a new UrlConnectionTransport with the default settings.
+     */
+
+    public UrlConnectionTransport() {
+        this(new TransportConfig());
+    }
+
+    /**
+     * Construct a new UrlConnectionTransport with the given settings. HTTP/2 is not supported by this transport.
+     *
+     * @param config TransportConfig object.
+     */
+
+    public UrlConnectionTransport(TransportConfig config) {
+        this.config = config;
+        this.limiter = new ConnectionLimiter(config);
+    }
+
+
+    public TransportResponse execute(TransportRequest request) throws Exception {
+        URL url = new URL(request.getUrl());
+        String host = url.getHost();
+        TransportResponse response;
+
+        limiter.acquire(host, request.getOrganizationId());
+        request.markSent();
+        try {
+            final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+
+            AbortHandle.onAbort(() -> connection.disconnect());
+
+            connection.setRequestMethod(request.getMethod());
+            connection.setDoInput(true);
+            connection.setUseCaches(false);
+
+            TimeoutProfile profile = config.getTimeoutProfile(request.getEndpoint());
+
+            connection.setConnectTimeout((int) Deadline.bound(profile.getConnectTimeout()));
+            connection.setReadTimeout((int) Deadline.bound(profile.getReadTimeout()));
+
+            for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+                connection.setRequestProperty(header.getKey(), header.getValue());
+            }
+            if (config.isCompressionEnabled() && request.getHeader("Accept-Encoding") == null) { //No I18N
+                connection.setRequestProperty("Accept-Encoding", Compression.ACCEPT_ENCODING); //No I18N
+            }
+
+            RequestBody body = request.getBody();
+
+            if (body != null) {
+                body = Compression.compress(body, config);
+
+                connection.setDoOutput(true);
+                connection.setRequestProperty("Content-Type", body.getContentType()); //No I18N
+                if (body.getContentEncoding() != null) {
+                    connection.setRequestProperty("Content-Encoding", body.getContentEncoding()); //No I18N
+                }
+
+                long length = body.getContentLength();
+
+                if (length >= 0) {
+                    connection.setFixedLengthStreamingMode(length);
+                } else {
+                    connection.setChunkedStreamingMode(BUFFER_SIZE);
+                }
+
+                OutputStream out = connection.getOutputStream();
+
+                try {
+                    body.writeTo(out);
+                } finally {
+                    out.close();
+                }
+            }
+
+            int status = connection.getResponseCode();
+
+            InputStream responseBody = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
+
+            if (responseBody == null) {
+                responseBody = new ByteArrayInputStream(new byte[0]);
+            }
+
+            response = new TransportResponse(status, connection.getHeaderFields(), limiter.releaseOnClose(host, responseBody));
+        } catch (Exception e) {
+            limiter.release(host);
+            throw e;
+        }
+
+        return config.isCompressionEnabled() ? Compression.decode(response) : response;
+    }
+
+    public void close() {
+    }
+}
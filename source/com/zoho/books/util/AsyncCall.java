@@ -0,0 +1,139 @@
+/* $Id$ */
+
+package com.zoho.books.util;
+
+import com.zoho.books.transport.AbortHandle;
+import com.zoho.books.transport.Deadline;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * AsyncCall is used to run a blocking API call on an executor and expose it as a CompletableFuture.
+ * <p>
+ * Cancelling the future aborts the HTTP request in flight, so the connection is released at once
+ * instead of when the response eventually arrives.
+ */
+
+public class AsyncCall<T> extends CompletableFuture<T> implements Runnable {
+
+    private static volatile Executor defaultExecutor;
+
+    private Callable<T> call;
+
+    private AbortHandle handle = new AbortHandle();
+
+    private Thread runner;
+
+    private Deadline deadline = Deadline.current();
+
+
+    private AsyncCall(Callable<T> call) {
+        this.call = call;
+    }
+
+
+    /**
+     * Run the given call on the executor.
+     *
+     * @param executor Executor that runs the call.
+     * @param call     The blocking API call.
+     * @return Returns a CompletableFuture completed with the result of the call.
+     */
+
+    public static <T> CompletableFuture<T> submit(Executor executor, Callable<T> call) {
+        AsyncCall<T> task = new AsyncCall<T>(call);
+
+        try {
+            executor.execute(task);
+        } catch (RuntimeException e) {
+            task.completeExceptionally(e);
+        }
+
+        return task;
+    }
+
+    /**
+     * Get the executor used when none is configured. It starts a virtual thread per call when the JVM supports
+     * virtual threads, and otherwise uses a cached pool of daemon threads.
+     *
+     * @return Returns the default Executor.
+     */
+
+    public static Executor getDefaultExecutor() {
+        Executor executor = defaultExecutor;
+
+        if (executor == null) {
+            synchronized (AsyncCall.class) {
+                executor = defaultExecutor;
+                if (executor == null) {
+                    executor = newDefaultExecutor();
+                    defaultExecutor = executor;
+                }
+            }
+        }
+
+        return executor;
+    }
+
+    public void run() {
+        synchronized (this) {
+            if (isDone()) {
+                return;
+            }
+            runner = Thread.currentThread();
+        }
+        AbortHandle.bind(handle);
+        Deadline.bind(deadline);
+        try {
+            complete(call.call());
+        } catch (Throwable t) {
+            completeExceptionally(t);
+        } finally {
+            AbortHandle.bind(null);
+            Deadline.bind(null);
+            synchronized (this) {
+                runner = null;
+            }
+            // Clear an interrupt sent by cancel() so that it does not leak into the next task of a pooled thread.
+            Thread.interrupted();
+        }
+    }
+
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        boolean cancelled = super.cancel(mayInterruptIfRunning);
+
+        if (cancelled) {
+            handle.abort();
+            synchronized (this) {
+                if (mayInterruptIfRunning && runner != null) {
+                    runner.interrupt();
+                }
+            }
+        }
+
+        return cancelled;
+    }
+
+    private static Executor newDefaultExecutor() {
+        try {
+            Method virtual = Executors.class.getMethod("newVirtualThreadPerTaskExecutor"); //No I18N
+
+            return (Executor) virtual.invoke(null);
+        } catch (Exception e) {
+            // Virtual threads are not available on this JVM.
+        }
+
+        return Executors.newCachedThreadPool(new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "zohobooks-async"); //No I18N
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+}
@@ -0,0 +1,229 @@
+/* $Id$ */
+
+package com.zoho.books.util;
+
+import com.zoho.books.transport.RequestBody;
+import org.json.JSONException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * JsonFormBody is used to send a form whose values may be JSON documents, written as the request is sent.
+ * <p>
+ * A value that is {@link JsonWriter.Deferred} is written by a JsonWriter straight into the form encoding, and
+ * the encoded UTF-8 bytes go to the connection as they are made. The JSON text of the model, its encoded form and
+ * the bytes of the whole body are never held in memory. Other values are sent as {@link String#valueOf(Object)}, and
+ * every name and value is encoded as {@link java.net.URLEncoder} encodes it.
+ * <p>
+ * The size of the body is not known before it is written, so it is sent in chunks. A transport that reads the body
+ * through {@link #openStream()} gets the bytes through a pipe, written by another thread as they are read.
+ */
+
+public class JsonFormBody extends RequestBody {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private Map<String, Object> params;
+
+
+    /**
+     * Construct a new JsonFormBody from the given form parameters.
+     *
+     * @param params This map contains the form parameters in the form of key, value pair. A value may be JsonWriter.Deferred.
+     */
+
+    public JsonFormBody(Map<String, Object> params) {
+        this.params = params;
+    }
+
+
+    /**
+     * Check whether a form has a value that is written as JSON when it is sent.
+     *
+     * @param params The form parameters.
+     * @return Returns true if a value is JsonWriter.Deferred.
+     */
+
+    public static boolean isStreamed(Map<String, Object> params) {
+        if (params != null) {
+            for (Object value : params.values()) {
+                if (value instanceof JsonWriter.Deferred) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    public String getContentType() {
+        return "application/x-www-form-urlencoded"; //No I18N
+    }
+
+    public InputStream openStream() throws IOException {
+        return pipe();
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        FormWriter form = new FormWriter(out);
+        boolean first = true;
+
+        if (params != null) {
+            for (Map.Entry<String, Object> param : params.entrySet()) {
+                if (!first) {
+                    form.separator('&');
+                }
+                first = false;
+
+                form.write(param.getKey());
+                form.separator('=');
+
+                Object value = param.getValue();
+
+                if (value instanceof JsonWriter.Deferred) {
+                    JsonWriter writer = new JsonWriter(form);
+
+                    try {
+                        ((JsonWriter.Deferred) value).write(writer);
+                    } catch (IOException | RuntimeException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        // A model that fails to write is not a failure of the connection, so it must not be retried.
+                        throw new JSONException(e);
+                    }
+                    writer.flush();
+                } else {
+                    form.write(String.valueOf(value));
+                }
+            }
+        }
+
+        form.flush();
+    }
+
+
+    /**
+     * FormWriter is used to encode characters as application/x-www-form-urlencoded UTF-8 bytes into a stream.
+     */
+
+    private static class FormWriter extends Writer {
+
+        private static final byte[] HEX = "0123456789ABCDEF".getBytes(); //No I18N
+
+        private OutputStream out;
+
+        private byte[] buffer = new byte[BUFFER_SIZE];
+
+        private int pos;
+
+        private char highSurrogate;
+
+
+        FormWriter(OutputStream out) {
+            this.out = out;
+        }
+
+
+        /**
+         * Write a separator of the form, which is not encoded.
+         */
+
+        void separator(char c) throws IOException {
+            flushSurrogate();
+            if (pos == buffer.length) {
+                drain();
+            }
+            buffer[pos++] = (byte) c;
+        }
+
+        public void write(String text) throws IOException {
+            int length = text.length();
+
+            for (int i = 0; i < length; i++) {
+                encode(text.charAt(i));
+            }
+        }
+
+        public void write(char[] text, int offset, int length) throws IOException {
+            for (int i = offset; i < offset + length; i++) {
+                encode(text[i]);
+            }
+        }
+
+        public void flush() throws IOException {
+            flushSurrogate();
+            drain();
+            out.flush();
+        }
+
+        public void close() throws IOException {
+            flush();
+        }
+
+        private void encode(char c) throws IOException {
+            if (buffer.length - pos < 12) {
+                drain();
+            }
+            if (highSurrogate != 0) {
+                char high = highSurrogate;
+
+                highSurrogate = 0;
+                if (Character.isLowSurrogate(c)) {
+                    int code = Character.toCodePoint(high, c);
+
+                    escape(0xf0 | (code >> 18));
+                    escape(0x80 | ((code >> 12) & 0x3f));
+                    escape(0x80 | ((code >> 6) & 0x3f));
+                    escape(0x80 | (code & 0x3f));
+                    return;
+                }
+                escape('?');
+            }
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '.' || c == '-' || c == '*' || c == '_') {
+                buffer[pos++] = (byte) c;
+            } else if (c == ' ') {
+                buffer[pos++] = '+';
+            } else if (c < 0x80) {
+                escape(c);
+            } else if (c < 0x800) {
+                escape(0xc0 | (c >> 6));
+                escape(0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c)) {
+                highSurrogate = c;
+            } else if (Character.isLowSurrogate(c)) {
+                // A lone surrogate is not valid UTF-8, and is sent as URLEncoder sends it.
+                escape('?');
+            } else {
+                escape(0xe0 | (c >> 12));
+                escape(0x80 | ((c >> 6) & 0x3f));
+                escape(0x80 | (c & 0x3f));
+            }
+        }
+
+        private void flushSurrogate() throws IOException {
+            if (highSurrogate != 0) {
+                highSurrogate = 0;
+                if (buffer.length - pos < 3) {
+                    drain();
+                }
+                escape('?');
+            }
+        }
+
+        private void escape(int b) {
+            buffer[pos++] = '%';
+            buffer[pos++] = HEX[(b >> 4) & 0xf];
+            buffer[pos++] = HEX[b & 0xf];
+        }
+
+        private void drain() throws IOException {
+            out.write(buffer, 0, pos);
+            pos = 0;
+        }
+    }
+}
@@ -0,0 +1,941 @@
+/* $Id$ */
+
+package com.zoho.books.util;
+
+import org.json.JSONException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Set;
+
+/**
+ * JsonReader is used to read a JSON document token by token as it is read from the stream, so that a response can
+ * be turned into model objects without building a JSONObject of the whole document first.
+ * <p>
+ * Values are converted as org.json converts them: {@link #nextString()} returns the text of a number or boolean,
+ * and {@link #nextDouble()}, {@link #nextInt()} and {@link #nextBoolean()} accept values written as strings.
+ * A null, or a number written as an empty string, is read as 0 or false.
+ * <p>
+ * Object names are shared between readers, so reading the same names in every row of a page does not create a
+ * string for each of them. {@link #skipValue()} reads past a value without creating any string at all.
+ * A JsonReader is used by one thread at a time.
+ */
+
+public class JsonReader implements Closeable {
+
+    /**
+     * The kinds of token in a JSON document.
+     */
+
+    public enum Token {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+    }
+
+
+    /**
+     * ObjectReader is used to read one value, usually an object, into a model object.
+     */
+
+    public interface ObjectReader<T> {
+
+        /**
+         * Read the next value of the reader.
+         *
+         * @param reader The reader, positioned before the value.
+         * @return Returns the model object.
+         */
+
+        T read(JsonReader reader) throws Exception;
+    }
+
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int NAME_TABLE_SIZE = 2048;
+
+    private static final int MAX_NAME_LENGTH = 64;
+
+    // Names seen by all the readers. A slot holds the last name that hashed to it; a race only costs a new string.
+    private static final String[] NAMES = new String[NAME_TABLE_SIZE];
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int DANGLING_NAME = 3;
+    private static final int NONEMPTY_OBJECT = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+
+    private static final int PEEKED_NONE = 0;
+    private static final int PEEKED_BEGIN_OBJECT = 1;
+    private static final int PEEKED_END_OBJECT = 2;
+    private static final int PEEKED_BEGIN_ARRAY = 3;
+    private static final int PEEKED_END_ARRAY = 4;
+    private static final int PEEKED_NAME = 5;
+    private static final int PEEKED_STRING = 6;
+    private static final int PEEKED_NUMBER = 7;
+    private static final int PEEKED_TRUE = 8;
+    private static final int PEEKED_FALSE = 9;
+    private static final int PEEKED_NULL = 10;
+    private static final int PEEKED_EOF = 11;
+
+    private Reader in;
+
+    private char[] buffer;
+
+    private int pos;
+
+    private int limit;
+
+    // Characters read before the start of the buffer, for the position in error messages.
+    private long consumed;
+
+    private int[] stack = new int[32];
+
+    private int depth = 1;
+
+    private int peeked = PEEKED_NONE;
+
+    private int numberLength;
+
+    private StringBuilder builder;
+
+    // Start in the buffer of the text being captured, and the text that was moved out of the buffer before it.
+    private int captureStart = -1;
+
+    private StringBuilder capture;
+
+    // Names read from the objects at the projection depth, and a name that was read by hasNext for nextName.
+    private Set<String> projection;
+
+    private int projectionDepth;
+
+    private String projectedName;
+
+
+    /**
+     * Construct a new JsonReader.
+     *
+     * @param in The JSON document.
+     */
+
+    public JsonReader(Reader in) {
+        this.in = in;
+        this.buffer = new char[BUFFER_SIZE];
+        this.stack[0] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Construct a new JsonReader of a JSON document that is already in memory. The text is read where it is.
+     *
+     * @param text   Characters that hold the JSON document.
+     * @param offset Offset of the document in the characters.
+     * @param length Length of the document.
+     */
+
+    public JsonReader(char[] text, int offset, int length) {
+        this.buffer = text;
+        this.pos = offset;
+        this.limit = offset + length;
+        this.consumed = -offset;
+        this.stack[0] = EMPTY_DOCUMENT;
+    }
+
+
+    /**
+     * Consume the beginning of an object.
+     */
+
+    public void beginObject() throws IOException {
+        if (peekInternal() != PEEKED_BEGIN_OBJECT) {
+            throw unexpected("an object"); //No I18N
+        }
+        push(EMPTY_OBJECT);
+        peeked = PEEKED_NONE;
+    }
+
+    /**
+     * Consume the end of an object.
+     */
+
+    public void endObject() throws IOException {
+        if (peekInternal() != PEEKED_END_OBJECT) {
+            throw unexpected("the end of an object"); //No I18N
+        }
+        depth--;
+        peeked = PEEKED_NONE;
+    }
+
+    /**
+     * Consume the beginning of an array.
+     */
+
+    public void beginArray() throws IOException {
+        if (peekInternal() != PEEKED_BEGIN_ARRAY) {
+            throw unexpected("an array"); //No I18N
+        }
+        push(EMPTY_ARRAY);
+        peeked = PEEKED_NONE;
+    }
+
+    /**
+     * Consume the end of an array.
+     */
+
+    public void endArray() throws IOException {
+        if (peekInternal() != PEEKED_END_ARRAY) {
+            throw unexpected("the end of an array"); //No I18N
+        }
+        depth--;
+        peeked = PEEKED_NONE;
+    }
+
+    /**
+     * Check whether the current object or array has another element.
+     *
+     * @return Returns true if a name or value follows.
+     */
+
+    public boolean hasNext() throws IOException {
+        if (projectedName != null) {
+            return true;
+        }
+
+        int p = peekInternal();
+
+        while (p == PEEKED_NAME && depth == projectionDepth && projection != null) {
+            peeked = PEEKED_NONE;
+
+            String name = readQuoted(true);
+
+            if (projection.contains(name)) {
+                projectedName = name;
+                return true;
+            }
+            skipValue();
+            p = peekInternal();
+        }
+
+        return p != PEEKED_END_OBJECT && p != PEEKED_END_ARRAY && p != PEEKED_EOF;
+    }
+
+    /**
+     * Read only the given names from the objects that are the values of the current array or object, skipping the
+     * other members of those objects without creating any string for their values. Objects nested deeper are read in
+     * full.
+     *
+     * @param names Names to read, or null to read every member again.
+     */
+
+    public void setProjection(Set<String> names) {
+        projection = names;
+        projectionDepth = depth + 1;
+    }
+
+    /**
+     * get the kind of the next token without consuming it.
+     *
+     * @return Returns the Token.
+     */
+
+    public Token peek() throws IOException {
+        if (projectedName != null) {
+            return Token.NAME;
+        }
+        switch (peekInternal()) {
+            case PEEKED_BEGIN_OBJECT:
+                return Token.BEGIN_OBJECT;
+            case PEEKED_END_OBJECT:
+                return Token.END_OBJECT;
+            case PEEKED_BEGIN_ARRAY:
+                return Token.BEGIN_ARRAY;
+            case PEEKED_END_ARRAY:
+                return Token.END_ARRAY;
+            case PEEKED_NAME:
+                return Token.NAME;
+            case PEEKED_STRING:
+                return Token.STRING;
+            case PEEKED_NUMBER:
+                return Token.NUMBER;
+            case PEEKED_TRUE:
+            case PEEKED_FALSE:
+                return Token.BOOLEAN;
+            case PEEKED_NULL:
+                return Token.NULL;
+            default:
+                return Token.END_DOCUMENT;
+        }
+    }
+
+    /**
+     * Consume the next name of the current object.
+     *
+     * @return Returns the name.
+     */
+
+    public String nextName() throws IOException {
+        if (projectedName != null) {
+            String name = projectedName;
+
+            projectedName = null;
+            return name;
+        }
+        if (peekInternal() != PEEKED_NAME) {
+            throw unexpected("a name"); //No I18N
+        }
+        peeked = PEEKED_NONE;
+
+        return readQuoted(true);
+    }
+
+    /**
+     * Consume the next value as a string.
+     *
+     * @return Returns the string, the text of a number or boolean, or null.
+     */
+
+    public String nextString() throws IOException {
+        String value;
+
+        switch (peekInternal()) {
+            case PEEKED_STRING:
+                peeked = PEEKED_NONE;
+                return readQuoted(false);
+            case PEEKED_NUMBER:
+                value = new String(buffer, pos, numberLength);
+                pos += numberLength;
+                break;
+            case PEEKED_TRUE:
+                value = "true"; //No I18N
+                break;
+            case PEEKED_FALSE:
+                value = "false"; //No I18N
+                break;
+            case PEEKED_NULL:
+                value = null;
+                break;
+            default:
+                throw unexpected("a string"); //No I18N
+        }
+        peeked = PEEKED_NONE;
+
+        return value;
+    }
+
+    /**
+     * Consume the next value as a double.
+     *
+     * @return Returns the number.
+     */
+
+    public double nextDouble() throws IOException {
+        int p = peekInternal();
+
+        if (p == PEEKED_NUMBER) {
+            double value = parseDouble(buffer, pos, numberLength);
+
+            pos += numberLength;
+            peeked = PEEKED_NONE;
+            return value;
+        }
+
+        String text = nextNumberText(p);
+
+        try {
+            return text.isEmpty() ? 0 : Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            throw syntaxError("Expected a number but was \"" + text + "\""); //No I18N
+        }
+    }
+
+    /**
+     * Consume the next value as a long. A number with a fraction is truncated.
+     *
+     * @return Returns the number.
+     */
+
+    public long nextLong() throws IOException {
+        int p = peekInternal();
+
+        if (p == PEEKED_NUMBER) {
+            long value = parseLong(buffer, pos, numberLength);
+
+            pos += numberLength;
+            peeked = PEEKED_NONE;
+            return value;
+        }
+
+        String text = nextNumberText(p);
+
+        try {
+            return text.isEmpty() ? 0 : parseLong(text.toCharArray(), 0, text.length());
+        } catch (NumberFormatException e) {
+            throw syntaxError("Expected a number but was \"" + text + "\""); //No I18N
+        }
+    }
+
+    /**
+     * Consume the next value as an int. A number with a fraction is truncated.
+     *
+     * @return Returns the number.
+     */
+
+    public int nextInt() throws IOException {
+        return (int) nextLong();
+    }
+
+    /**
+     * Consume the next value as a boolean.
+     *
+     * @return Returns the boolean.
+     */
+
+    public boolean nextBoolean() throws IOException {
+        int p = peekInternal();
+
+        if (p == PEEKED_TRUE || p == PEEKED_FALSE || p == PEEKED_NULL) {
+            peeked = PEEKED_NONE;
+            return p == PEEKED_TRUE;
+        }
+        if (p == PEEKED_STRING) {
+            String text = nextString();
+
+            if (text.equalsIgnoreCase("true")) { //No I18N
+                return true;
+            }
+            if (text.equalsIgnoreCase("false")) { //No I18N
+                return false;
+            }
+        }
+
+        throw unexpected("a boolean"); //No I18N
+    }
+
+    /**
+     * Consume a null value.
+     */
+
+    public void nextNull() throws IOException {
+        if (peekInternal() != PEEKED_NULL) {
+            throw unexpected("null"); //No I18N
+        }
+        peeked = PEEKED_NONE;
+    }
+
+    /**
+     * Skip the next value, with all the values nested in it, without creating any string.
+     */
+
+    public void skipValue() throws IOException {
+        if (projectedName != null) {
+            projectedName = null;
+            return;
+        }
+
+        int count = 0;
+
+        do {
+            switch (peekInternal()) {
+                case PEEKED_BEGIN_OBJECT:
+                    push(EMPTY_OBJECT);
+                    count++;
+                    break;
+                case PEEKED_BEGIN_ARRAY:
+                    push(EMPTY_ARRAY);
+                    count++;
+                    break;
+                case PEEKED_END_OBJECT:
+                case PEEKED_END_ARRAY:
+                    depth--;
+                    count--;
+                    break;
+                case PEEKED_NAME:
+                case PEEKED_STRING:
+                    skipQuoted();
+                    break;
+                case PEEKED_NUMBER:
+                    pos += numberLength;
+                    break;
+                case PEEKED_EOF:
+                    throw syntaxError("Unexpected end of input"); //No I18N
+                default:
+                    // true, false and null were consumed when they were peeked.
+                    break;
+            }
+            peeked = PEEKED_NONE;
+        } while (count > 0);
+    }
+
+    /**
+     * Start keeping the text of the document, from the start of the next value, which must be an object or an array.
+     */
+
+    public void beginCapture() throws IOException {
+        int p = peekInternal();
+
+        if (p != PEEKED_BEGIN_OBJECT && p != PEEKED_BEGIN_ARRAY) {
+            throw unexpected("an object or an array"); //No I18N
+        }
+        captureStart = pos - 1;
+    }
+
+    /**
+     * Stop keeping the text of the document, after the end of the last value that was consumed.
+     *
+     * @return Returns the text kept since {@link #beginCapture()}.
+     */
+
+    public String endCapture() {
+        String text;
+
+        if (capture == null) {
+            text = new String(buffer, captureStart, pos - captureStart);
+        } else {
+            text = capture.append(buffer, captureStart, pos - captureStart).toString();
+            capture = null;
+        }
+        captureStart = -1;
+
+        return text;
+    }
+
+    /**
+     * Read the rest of the document and close the stream, so that the connection can be reused.
+     */
+
+    public void close() throws IOException {
+        if (in == null) {
+            peeked = PEEKED_NONE;
+            depth = 0;
+            return;
+        }
+        try {
+            while (in.read(buffer) != -1) {
+                // Discard what is left after the values that were read.
+            }
+        } finally {
+            peeked = PEEKED_NONE;
+            depth = 0;
+            in.close();
+        }
+    }
+
+
+    private int peekInternal() throws IOException {
+        return peeked != PEEKED_NONE ? peeked : doPeek();
+    }
+
+    private int doPeek() throws IOException {
+        int scope = stack[depth - 1];
+        int c;
+
+        if (scope == EMPTY_ARRAY) {
+            stack[depth - 1] = NONEMPTY_ARRAY;
+        } else if (scope == NONEMPTY_ARRAY) {
+            c = nextNonWhitespace();
+            if (c == ']') {
+                return peeked = PEEKED_END_ARRAY;
+            }
+            if (c != ',') {
+                throw syntaxError("Expected ',' or ']'"); //No I18N
+            }
+        } else if (scope == EMPTY_OBJECT || scope == NONEMPTY_OBJECT) {
+            stack[depth - 1] = DANGLING_NAME;
+            if (scope == NONEMPTY_OBJECT) {
+                c = nextNonWhitespace();
+                if (c == '}') {
+                    return peeked = PEEKED_END_OBJECT;
+                }
+                if (c != ',') {
+                    throw syntaxError("Expected ',' or '}'"); //No I18N
+                }
+            }
+            c = nextNonWhitespace();
+            if (c == '"') {
+                return peeked = PEEKED_NAME;
+            }
+            if (c == '}' && scope == EMPTY_OBJECT) {
+                return peeked = PEEKED_END_OBJECT;
+            }
+            throw syntaxError("Expected a name"); //No I18N
+        } else if (scope == DANGLING_NAME) {
+            stack[depth - 1] = NONEMPTY_OBJECT;
+            if (nextNonWhitespace() != ':') {
+                throw syntaxError("Expected ':'"); //No I18N
+            }
+        } else if (scope == EMPTY_DOCUMENT) {
+            stack[depth - 1] = NONEMPTY_DOCUMENT;
+        } else {
+            return peeked = PEEKED_EOF;
+        }
+
+        c = nextNonWhitespace();
+
+        switch (c) {
+            case '{':
+                return peeked = PEEKED_BEGIN_OBJECT;
+            case '[':
+                return peeked = PEEKED_BEGIN_ARRAY;
+            case '"':
+                return peeked = PEEKED_STRING;
+            case ']':
+                if (scope == EMPTY_ARRAY) {
+                    return peeked = PEEKED_END_ARRAY;
+                }
+                throw syntaxError("Expected a value"); //No I18N
+            case -1:
+                throw syntaxError("Unexpected end of input"); //No I18N
+            default:
+                pos--;
+                return peeked = peekLiteral();
+        }
+    }
+
+    private int peekLiteral() throws IOException {
+        char c = buffer[pos];
+
+        if (c == 't' && matchLiteral("true")) { //No I18N
+            return PEEKED_TRUE;
+        }
+        if (c == 'f' && matchLiteral("false")) { //No I18N
+            return PEEKED_FALSE;
+        }
+        if (c == 'n' && matchLiteral("null")) { //No I18N
+            return PEEKED_NULL;
+        }
+        if (c != '-' && (c < '0' || c > '9')) {
+            throw syntaxError("Expected a value"); //No I18N
+        }
+
+        // Keep the whole number in the buffer, so that it can be parsed where it is.
+        int length = 0;
+
+        while (true) {
+            if (pos + length == limit && !fill(length + 1)) {
+                break;
+            }
+            c = buffer[pos + length];
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+                length++;
+            } else {
+                break;
+            }
+        }
+        numberLength = length;
+
+        return PEEKED_NUMBER;
+    }
+
+    private boolean matchLiteral(String literal) throws IOException {
+        int length = literal.length();
+
+        if (limit - pos < length + 1 && !fill(length + 1) && limit - pos < length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer[pos + i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        if (pos + length < limit && isLiteralChar(buffer[pos + length])) {
+            return false;
+        }
+        pos += length;
+
+        return true;
+    }
+
+    private static boolean isLiteralChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    private String nextNumberText(int p) throws IOException {
+        if (p == PEEKED_NULL) {
+            peeked = PEEKED_NONE;
+            return "";
+        }
+        if (p != PEEKED_STRING) {
+            throw unexpected("a number"); //No I18N
+        }
+        peeked = PEEKED_NONE;
+
+        return readQuoted(false).trim();
+    }
+
+    /**
+     * Read a string whose opening quote has been consumed. Names are looked up in the shared table.
+     */
+
+    private String readQuoted(boolean name) throws IOException {
+        StringBuilder escaped = null;
+        int start = pos;
+        int hash = 0;
+
+        while (true) {
+            while (pos < limit) {
+                char c = buffer[pos++];
+
+                if (c == '"') {
+                    if (escaped == null) {
+                        int length = pos - 1 - start;
+
+                        return name ? name(buffer, start, length, hash) : new String(buffer, start, length);
+                    }
+                    escaped.append(buffer, start, pos - 1 - start);
+                    return escaped.toString();
+                }
+                if (c == '\\') {
+                    if (escaped == null) {
+                        escaped = builder();
+                    }
+                    escaped.append(buffer, start, pos - 1 - start);
+                    escaped.append(readEscape());
+                    start = pos;
+                } else {
+                    hash = 31 * hash + c;
+                }
+            }
+
+            if (escaped == null) {
+                escaped = builder();
+            }
+            escaped.append(buffer, start, pos - start);
+            if (!fill(1)) {
+                throw syntaxError("Unterminated string"); //No I18N
+            }
+            start = pos;
+        }
+    }
+
+    private void skipQuoted() throws IOException {
+        while (true) {
+            while (pos < limit) {
+                char c = buffer[pos++];
+
+                if (c == '"') {
+                    return;
+                }
+                if (c == '\\') {
+                    readEscape();
+                }
+            }
+            if (!fill(1)) {
+                throw syntaxError("Unterminated string"); //No I18N
+            }
+        }
+    }
+
+    private char readEscape() throws IOException {
+        if (pos == limit && !fill(1)) {
+            throw syntaxError("Unterminated escape sequence"); //No I18N
+        }
+
+        char c = buffer[pos++];
+
+        switch (c) {
+            case 'u':
+                if (limit - pos < 4 && !fill(4)) {
+                    throw syntaxError("Unterminated escape sequence"); //No I18N
+                }
+
+                int value = 0;
+
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(buffer[pos++], 16);
+
+                    if (digit < 0) {
+                        throw syntaxError("Invalid escape sequence"); //No I18N
+                    }
+                    value = (value << 4) + digit;
+                }
+                return (char) value;
+            case 'b':
+                return '\b';
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'f':
+                return '\f';
+            case 'r':
+                return '\r';
+            default:
+                return c;
+        }
+    }
+
+    private StringBuilder builder() {
+        if (builder == null) {
+            builder = new StringBuilder(64);
+        }
+        builder.setLength(0);
+
+        return builder;
+    }
+
+    /**
+     * get the shared string of a name, creating it only if the name has not been seen.
+     */
+
+    private static String name(char[] chars, int start, int length, int hash) {
+        if (length > MAX_NAME_LENGTH) {
+            return new String(chars, start, length);
+        }
+
+        int slot = (hash ^ (hash >>> 11)) & (NAME_TABLE_SIZE - 1);
+        String name = NAMES[slot];
+
+        if (name != null && name.hashCode() == hash && name.length() == length) {
+            int i = 0;
+
+            while (i < length && name.charAt(i) == chars[start + i]) {
+                i++;
+            }
+            if (i == length) {
+                return name;
+            }
+        }
+
+        name = new String(chars, start, length);
+        NAMES[slot] = name;
+
+        return name;
+    }
+
+    private static long parseLong(char[] chars, int start, int length) {
+        boolean negative = length > 0 && chars[start] == '-';
+        int i = negative ? 1 : 0;
+
+        if (length - i > 0 && length - i <= 18) {
+            long value = 0;
+
+            while (i < length && chars[start + i] >= '0' && chars[start + i] <= '9') {
+                value = value * 10 + (chars[start + i] - '0');
+                i++;
+            }
+            if (i == length) {
+                return negative ? -value : value;
+            }
+        }
+
+        return (long) Double.parseDouble(new String(chars, start, length));
+    }
+
+    /**
+     * Parse a number where it is in the buffer. Plain decimals of up to 15 digits are exact as a long, so one
+     * division by an exact power of ten gives the same double as Double.parseDouble.
+     */
+
+    private static double parseDouble(char[] chars, int start, int length) {
+        boolean negative = length > 0 && chars[start] == '-';
+        int i = negative ? 1 : 0;
+        long mantissa = 0;
+        int digits = 0;
+        int fraction = -1;
+
+        for (; i < length; i++) {
+            char c = chars[start + i];
+
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                if (mantissa != 0) {
+                    digits++;
+                }
+                if (fraction >= 0) {
+                    fraction++;
+                }
+            } else if (c == '.' && fraction < 0) {
+                fraction = 0;
+            } else {
+                break;
+            }
+        }
+
+        if (i == length && digits <= 15 && fraction != 0 && fraction < POWERS_OF_TEN.length
+                && length > (negative ? 1 : 0)) {
+            double value = fraction > 0 ? mantissa / POWERS_OF_TEN[fraction] : mantissa;
+
+            return negative ? -value : value;
+        }
+
+        return Double.parseDouble(new String(chars, start, length));
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (true) {
+            if (pos == limit && !fill(1)) {
+                return -1;
+            }
+
+            char c = buffer[pos++];
+
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+    }
+
+    /**
+     * Make sure the buffer holds at least the given number of characters after the position, moving the unread
+     * characters to its start before reading more. A document in memory is never moved.
+     *
+     * @return Returns false if the input ends first.
+     */
+
+    private boolean fill(int minimum) throws IOException {
+        if (in == null) {
+            return limit - pos >= minimum;
+        }
+        if (captureStart >= 0) {
+            if (capture == null) {
+                capture = new StringBuilder(2 * (pos - captureStart) + 256);
+            }
+            capture.append(buffer, captureStart, pos - captureStart);
+            captureStart = 0;
+        }
+        if (pos > 0) {
+            consumed += pos;
+            limit -= pos;
+            System.arraycopy(buffer, pos, buffer, 0, limit);
+            pos = 0;
+        }
+        if (minimum > buffer.length) {
+            throw syntaxError("Value too long"); //No I18N
+        }
+
+        while (limit < minimum) {
+            int read = in.read(buffer, limit, buffer.length - limit);
+
+            if (read == -1) {
+                return false;
+            }
+            limit += read;
+        }
+
+        return true;
+    }
+
+    private void push(int scope) {
+        if (depth == stack.length) {
+            int[] grown = new int[depth * 2];
+
+            System.arraycopy(stack, 0, grown, 0, depth);
+            stack = grown;
+        }
+        stack[depth++] = scope;
+    }
+
+    private JSONException unexpected(String expected) throws IOException {
+        return syntaxError("Expected " + expected + " but was " + peek()); //No I18N
+    }
+
+    private JSONException syntaxError(String message) {
+        return new JSONException(message + " at character " + (consumed + pos)); //No I18N
+    }
+}
@@ -0,0 +1,492 @@
+/* $Id$ */
+
+package com.zoho.books.util;
+
+import org.json.JSONException;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+/**
+ * JsonWriter is used to write a JSON document token by token to a stream, so that a request can be written from the
+ * model objects without building a JSONObject of the whole document first.
+ * <p>
+ * Values are written as org.json writes them: a double that holds a whole number is written without a fraction, and
+ * a name followed by a null value is left out, as {@link org.json.JSONObject#put(String, Object)} leaves out a null.
+ * A JsonWriter is used by one thread at a time.
+ */
+
+public class JsonWriter implements Closeable, Flushable {
+
+    /**
+     * ObjectWriter is used to write one value, usually a model object.
+     */
+
+    public interface ObjectWriter {
+
+        /**
+         * Write the value to the writer.
+         *
+         * @param writer The writer, positioned where the value belongs.
+         */
+
+        void write(JsonWriter writer) throws Exception;
+    }
+
+
+    /**
+     * Deferred is used to hold the writer of a value that is to be written later, such as a form value that is
+     * written while the request is sent. It is made by {@link JsonWriter#deferred(ObjectWriter)}.
+     */
+
+    public static final class Deferred {
+
+        private final ObjectWriter object;
+
+
+        private Deferred(ObjectWriter object) {
+            this.object = object;
+        }
+
+
+        /**
+         * Write the value to the writer.
+         *
+         * @param writer The writer, positioned where the value belongs.
+         */
+
+        public void write(JsonWriter writer) throws Exception {
+            object.write(writer);
+        }
+    }
+
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int NONEMPTY_OBJECT = 3;
+    private static final int EMPTY_ARRAY = 4;
+    private static final int NONEMPTY_ARRAY = 5;
+
+    private Writer out;
+
+    private char[] buffer = new char[BUFFER_SIZE];
+
+    private int pos;
+
+    private int[] stack = new int[32];
+
+    private int depth = 1;
+
+    private String pendingName;
+
+
+    /**
+     * Construct a new JsonWriter.
+     *
+     * @param out The stream the JSON document is written to.
+     */
+
+    public JsonWriter(Writer out) {
+        this.out = out;
+        this.stack[0] = EMPTY_DOCUMENT;
+    }
+
+
+    /**
+     * Write a value into a String.
+     *
+     * @param object Writer of the value.
+     * @return Returns the JSON text of the value.
+     */
+
+    public static String toString(ObjectWriter object) throws Exception {
+        StringWriter text = new StringWriter();
+        JsonWriter writer = new JsonWriter(text);
+
+        object.write(writer);
+        writer.flush();
+
+        return text.toString();
+    }
+
+    /**
+     * Keep the writer of a value to write it later. A form value that is Deferred is written while the request is
+     * sent, instead of into a String before it.
+     *
+     * @param object Writer of the value.
+     * @return Returns the Deferred value.
+     */
+
+    public static Deferred deferred(ObjectWriter object) {
+        if (object == null) {
+            throw new NullPointerException("object"); //No I18N
+        }
+
+        return new Deferred(object);
+    }
+
+    /**
+     * Begin an object.
+     *
+     * @return Returns this writer.
+     */
+
+    public JsonWriter beginObject() throws IOException {
+        beforeValue();
+        push(EMPTY_OBJECT);
+        write('{');
+
+        return this;
+    }
+
+    /**
+     * End the current object.
+     *
+     * @return Returns this writer.
+     */
+
+    public JsonWriter endObject() throws IOException {
+        int scope = stack[depth - 1];
+
+        if (scope != EMPTY_OBJECT && scope != NONEMPTY_OBJECT) {
+            throw new JSONException("Misplaced object end"); //No I18N
+        }
+        pendingName = null;
+        depth--;
+        write('}');
+
+        return this;
+    }
+
+    /**
+     * Begin an array.
+     *
+     * @return Returns this writer.
+     */
+
+    public JsonWriter beginArray() throws IOException {
+        beforeValue();
+        push(EMPTY_ARRAY);
+        write('[');
+
+        return this;
+    }
+
+    /**
+     * End the current array.
+     *
+     * @return Returns this writer.
+     */
+
+    public JsonWriter endArray() throws IOException {
+        int scope = stack[depth - 1];
+
+        if (scope != EMPTY_ARRAY && scope != NONEMPTY_ARRAY) {
+            throw new JSONException("Misplaced array end"); //No I18N
+        }
+        depth--;
+        write(']');
+
+        return this;
+    }
+
+    /**
+     * Write the name of the next value of the current object. The name is only written along with the value.
+     *
+     * @param name Name of the value.
+     * @return Returns this writer.
+     */
+
+    public JsonWriter name(String name) {
+        int scope = stack[depth - 1];
+
+        if (name == null) {
+            throw new JSONException("Null key."); //No I18N
+        }
+        if ((scope != EMPTY_OBJECT && scope != NONEMPTY_OBJECT) || pendingName != null) {
+            throw new JSONException("Misplaced name " + name); //No I18N
+        }
+        pendingName = name;
+
+        return this;
+    }
+
+    /**
+     * Write a string value. A null is left out of an object along with its name.
+     *
+     * @param value The value.
+     * @return Returns this writer.
+     */
+
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        quote(value);
+
+        return this;
+    }
+
+    /**
+     * Write a boolean value.
+     *
+     * @param value The value.
+     * @return Returns this writer.
+     */
+
+    public JsonWriter value(boolean value) throws IOException {
+        beforeValue();
+        write(value ? "true" : "false"); //No I18N
+
+        return this;
+    }
+
+    /**
+     * Write a whole number.
+     *
+     * @param value The value.
+     * @return Returns this writer.
+     */
+
+    public JsonWriter value(long value) throws IOException {
+        beforeValue();
+        writeLong(value);
+
+        return this;
+    }
+
+    /**
+     * Write a number. A number without a fraction is written as a whole number.
+     *
+     * @param value The value, which must be finite.
+     * @return Returns this writer.
+     */
+
+    public JsonWriter value(double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new JSONException("JSON does not allow non-finite numbers."); //No I18N
+        }
+        beforeValue();
+
+        if (value == (long) value && Math.abs(value) < 1e15) {
+            writeLong((long) value);
+        } else {
+            String text = Double.toString(value);
+
+            if (text.indexOf('.') > 0 && text.indexOf('E') < 0) {
+                int end = text.length();
+
+                while (text.charAt(end - 1) == '0') {
+                    end--;
+                }
+                if (text.charAt(end - 1) == '.') {
+                    end--;
+                }
+                text = text.substring(0, end);
+            }
+            write(text);
+        }
+
+        return this;
+    }
+
+    /**
+     * Write a null. In an object, the name is left out along with the null.
+     *
+     * @return Returns this writer.
+     */
+
+    public JsonWriter nullValue() throws IOException {
+        if (pendingName != null) {
+            pendingName = null;
+            return this;
+        }
+        beforeValue();
+        write("null"); //No I18N
+
+        return this;
+    }
+
+    /**
+     * Write the characters buffered so far to the stream.
+     */
+
+    public void flush() throws IOException {
+        out.write(buffer, 0, pos);
+        pos = 0;
+        out.flush();
+    }
+
+    /**
+     * Flush the writer and close the stream.
+     */
+
+    public void close() throws IOException {
+        try {
+            out.write(buffer, 0, pos);
+            pos = 0;
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Write the separator and the pending name before a value, and check that a value is allowed here.
+     */
+
+    private void beforeValue() throws IOException {
+        switch (stack[depth - 1]) {
+            case EMPTY_DOCUMENT:
+                stack[depth - 1] = NONEMPTY_DOCUMENT;
+                break;
+            case NONEMPTY_ARRAY:
+                write(',');
+                break;
+            case EMPTY_ARRAY:
+                stack[depth - 1] = NONEMPTY_ARRAY;
+                break;
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                if (pendingName == null) {
+                    throw new JSONException("Value without a name"); //No I18N
+                }
+                if (stack[depth - 1] == NONEMPTY_OBJECT) {
+                    write(',');
+                }
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                quote(pendingName);
+                write(':');
+                pendingName = null;
+                break;
+            default:
+                throw new JSONException("A JSON document has only one value"); //No I18N
+        }
+    }
+
+    private void quote(String value) throws IOException {
+        write('"');
+
+        int length = value.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+
+            if (c >= ' ' && c != '"' && c != '\\' && c != '\u2028' && c != '\u2029') {
+                if (pos == buffer.length) {
+                    drain();
+                }
+                buffer[pos++] = c;
+                continue;
+            }
+            switch (c) {
+                case '"':
+                    write("\\\""); //No I18N
+                    break;
+                case '\\':
+                    write("\\\\"); //No I18N
+                    break;
+                case '\b':
+                    write("\\b"); //No I18N
+                    break;
+                case '\t':
+                    write("\\t"); //No I18N
+                    break;
+                case '\n':
+                    write("\\n"); //No I18N
+                    break;
+                case '\f':
+                    write("\\f"); //No I18N
+                    break;
+                case '\r':
+                    write("\\r"); //No I18N
+                    break;
+                default:
+                    write("\\u"); //No I18N
+                    write(HEX[c >> 12]);
+                    write(HEX[(c >> 8) & 0xf]);
+                    write(HEX[(c >> 4) & 0xf]);
+                    write(HEX[c & 0xf]);
+            }
+        }
+
+        write('"');
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            write(Long.toString(value));
+            return;
+        }
+        if (buffer.length - pos < 20) {
+            drain();
+        }
+        if (value < 0) {
+            buffer[pos++] = '-';
+            value = -value;
+        }
+
+        int end = pos + digits(value);
+
+        pos = end;
+        do {
+            buffer[--end] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+    }
+
+    private static int digits(long value) {
+        int digits = 1;
+
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+
+        return digits;
+    }
+
+    private void write(char c) throws IOException {
+        if (pos == buffer.length) {
+            drain();
+        }
+        buffer[pos++] = c;
+    }
+
+    private void write(String text) throws IOException {
+        int length = text.length();
+
+        if (buffer.length - pos < length) {
+            drain();
+            if (length > buffer.length) {
+                out.write(text);
+                return;
+            }
+        }
+        text.getChars(0, length, buffer, pos);
+        pos += length;
+    }
+
+    private void drain() throws IOException {
+        out.write(buffer, 0, pos);
+        pos = 0;
+    }
+
+    private void push(int scope) {
+        if (depth == stack.length) {
+            int[] grown = new int[depth * 2];
+
+            System.arraycopy(stack, 0, grown, 0, depth);
+            stack = grown;
+        }
+        stack[depth++] = scope;
+    }
+}
@@ -0,0 +1,257 @@
+/* $Id$ */
+
+package com.zoho.books.util;
+
+import com.zoho.books.exception.BooksException;
+import com.zoho.books.exception.DeadlineExceededException;
+import com.zoho.books.transport.Deadline;
+import com.zoho.books.transport.FormBody;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.transport.TransportRequest;
+import com.zoho.books.transport.TransportResponse;
+import org.json.JSONObject;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * OAuthTokenProvider is used to keep an access token fresh with a Zoho OAuth refresh token.
+ * <p>
+ * The current token is read without locking. When it is about to expire, the first request to notice starts a
+ * refresh in the background and every request keeps using the current token until the new one arrives. When it has
+ * expired, or the server has rejected it, the requests wait for a single refresh and all of them use its result.
+ */
+
+public class OAuthTokenProvider implements TokenProvider {
+
+    /**
+     * The Zoho accounts server of the US data center.
+     */
+
+    public static final String ACCOUNTS_URL = "https://accounts.zoho.com"; //No I18N
+
+    /**
+     * The Zoho accounts server of the EU data center.
+     */
+
+    public static final String ACCOUNTS_URL_EU = "https://accounts.zoho.eu"; //No I18N
+
+    private String clientId;
+    private String clientSecret;
+    private String refreshToken;
+    private String accountsUrl;
+    private Transport transport;
+
+    private long refreshMargin = 5 * 60 * 1000;
+
+    private volatile Token token;
+
+    private AtomicReference<CompletableFuture<Token>> refreshing = new AtomicReference<CompletableFuture<Token>>();
+
+
+    /**
+     * Construct a new OAuthTokenProvider for the US data center. The first access token is fetched on the first request.
+     *
+     * @param clientId     Client ID of the application registered in the Zoho API console.
+     * @param clientSecret Client secret of the application.
+     * @param refreshToken Refresh token issued to the application.
+     */
+
+    public OAuthTokenProvider(String clientId, String clientSecret, String refreshToken) {
+        this(clientId, clientSecret, refreshToken, ACCOUNTS_URL, null);
+    }
+
+    /**
+     * Construct a new OAuthTokenProvider.
+     *
+     * @param clientId     Client ID of the application registered in the Zoho API console.
+     * @param clientSecret Client secret of the application.
+     * @param refreshToken Refresh token issued to the application.
+     * @param accountsUrl  URL of the Zoho accounts server of the data center, such as {@link #ACCOUNTS_URL_EU}.
+     * @param transport    Transport used to request the tokens. The default transport is used when it is null.
+     */
+
+    public OAuthTokenProvider(String clientId, String clientSecret, String refreshToken, String accountsUrl, Transport transport) {
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.refreshToken = refreshToken;
+        this.accountsUrl = accountsUrl;
+        this.transport = transport != null ? transport : ZohoHTTPClient.getDefaultTransport();
+    }
+
+
+    /**
+     * set the access token to start with, so that the first request does not wait for a refresh.
+     *
+     * @param accessToken An access token issued for the refresh token.
+     * @param expiresIn   Seconds until the access token expires.
+     */
+
+    public void setAccessToken(String accessToken, long expiresIn) {
+        this.token = new Token(accessToken, System.currentTimeMillis() + expiresIn * 1000);
+    }
+
+    /**
+     * get how long before its expiry the access token is refreshed.
+     *
+     * @return Returns the refresh margin in milliseconds.
+     */
+
+    public long getRefreshMargin() {
+        return refreshMargin;
+    }
+
+    /**
+     * set how long before its expiry the access token is refreshed. Zoho access tokens are valid for an hour.
+     *
+     * @param refreshMargin Refresh margin in milliseconds.
+     */
+
+    public void setRefreshMargin(long refreshMargin) {
+        this.refreshMargin = refreshMargin;
+    }
+
+    public String getAccessToken() throws Exception {
+        Token current = token;
+        long now = System.currentTimeMillis();
+
+        if (current != null && now < current.expiresAt - refreshMargin) {
+            return current.value;
+        }
+        if (current != null && now < current.expiresAt) {
+            startRefresh(current, true);
+            return current.value;
+        }
+
+        return await(startRefresh(current, false)).value;
+    }
+
+    public String refresh(String rejectedToken) throws Exception {
+        Token current = token;
+
+        if (current != null && !current.value.equals(rejectedToken)) {
+            // Another request has already replaced the rejected token.
+            return current.value;
+        }
+
+        return await(startRefresh(current, false)).value;
+    }
+
+    /**
+     * Start a refresh unless one is running or the stale token has already been replaced.
+     *
+     * @param stale      The token that needs to be replaced.
+     * @param background Whether the refresh runs on the default executor instead of the calling thread.
+     * @return Returns the future completed with the new token.
+     */
+
+    private CompletableFuture<Token> startRefresh(Token stale, boolean background) {
+        while (true) {
+            CompletableFuture<Token> running = refreshing.get();
+
+            if (running != null) {
+                return running;
+            }
+
+            Token current = token;
+
+            if (current != stale) {
+                return CompletableFuture.completedFuture(current);
+            }
+
+            final CompletableFuture<Token> created = new CompletableFuture<Token>();
+
+            if (refreshing.compareAndSet(null, created)) {
+                if (background) {
+                    AsyncCall.getDefaultExecutor().execute(() -> fetch(created));
+                } else {
+                    fetch(created);
+                }
+                return created;
+            }
+        }
+    }
+
+    private void fetch(CompletableFuture<Token> future) {
+        try {
+            Token fresh = requestToken();
+
+            token = fresh;
+            refreshing.set(null);
+            future.complete(fresh);
+        } catch (Throwable t) {
+            refreshing.set(null);
+            future.completeExceptionally(t);
+        }
+    }
+
+    private Token requestToken() throws Exception {
+        HashMap<String, Object> params = new HashMap<String, Object>();
+
+        params.put("refresh_token", refreshToken); //No I18N
+        params.put("client_id", clientId); //No I18N
+        params.put("client_secret", clientSecret); //No I18N
+        params.put("grant_type", "refresh_token"); //No I18N
+
+        TransportRequest request = new TransportRequest("POST", accountsUrl + "/oauth/v2/token"); //No I18N
+
+        request.setHeader("Accept", "application/json"); //No I18N
+        request.setBody(new FormBody(params));
+
+        long requestedAt = System.currentTimeMillis();
+        TransportResponse response = transport.execute(request);
+        String body;
+
+        try {
+            body = Responses.read(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8));
+        } finally {
+            response.close();
+        }
+
+        JSONObject json = body.trim().startsWith("{") ? new JSONObject(body) : new JSONObject();
+
+        if (response.getStatus() != 200 || !json.has("access_token")) { //No I18N
+            throw new BooksException(response.getStatus(), json.optString("error", "The access token could not be refreshed")); //No I18N
+        }
+
+        return new Token(json.getString("access_token"), requestedAt + json.optLong("expires_in", 3600) * 1000); //No I18N
+    }
+
+    private static Token await(CompletableFuture<Token> future) throws Exception {
+        Deadline deadline = Deadline.current();
+
+        try {
+            return deadline == null ? future.get() : future.get(deadline.check(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException("The deadline of the call passed while the access token was refreshed"); //No I18N
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+
+    /**
+     * An access token and the time it expires at.
+     */
+
+    private static class Token {
+
+        private String value;
+        private long expiresAt;
+
+
+        private Token(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,410 @@
+/* $Id$ */
+
+package com.zoho.books.util;
+
+import com.zoho.books.exception.DeadlineExceededException;
+import com.zoho.books.transport.Deadline;
+import com.zoho.books.transport.Priority;
+import com.zoho.books.transport.TransportResponse;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimiter is used to keep the requests of each organization within its API quota.
+ * <p>
+ * Every organization has a token bucket. A request takes a token, and waits when the bucket is empty.
+ * The rate of the bucket adapts to the responses: it is halved when the server answers 429 Too Many Requests,
+ * follows the X-Rate-Limit-Remaining and X-Rate-Limit-Reset headers when the server sends them, and otherwise
+ * grows back step by step to the configured rate.
+ * <p>
+ * One instance is shared by all the API objects by default, so that every thread of the application draws from
+ * the same buckets.
+ * <p>
+ * Interactive requests are served before background requests. A background request waits while an interactive
+ * request of the same organization is waiting, and leaves part of the bucket, the interactive reserve, untouched,
+ * so that a user-facing request finds a token even while a bulk job runs at the full rate.
+ */
+
+public class RateLimiter {
+
+    /**
+     * The number of requests per minute Zoho Books allows for an organization.
+     */
+
+    public static final double DEFAULT_REQUESTS_PER_MINUTE = 100;
+
+    /**
+     * The number of requests that may be sent at once after a quiet period.
+     */
+
+    public static final int DEFAULT_BURST = 10;
+
+    private static final double MIN_REQUESTS_PER_MINUTE = 1;
+
+    private static final double INCREASE_STEP = 0.05;
+
+    /**
+     * The part of the burst kept for interactive requests.
+     */
+
+    public static final double DEFAULT_INTERACTIVE_RESERVE = 0.2;
+
+    private static volatile RateLimiter defaultLimiter;
+
+    private double requestsPerMinute;
+
+    private int burst;
+
+    private volatile double interactiveReserve = DEFAULT_INTERACTIVE_RESERVE;
+
+    private ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<String, Bucket>();
+
+
+    /**
+     * Construct a new RateLimiter with the Zoho Books quota of 100 requests per minute.
+     */
+
+    public RateLimiter() {
+        this(DEFAULT_REQUESTS_PER_MINUTE, DEFAULT_BURST);
+    }
+
+    /**
+     * Construct a new RateLimiter.
+     *
+     * @param requestsPerMinute The highest rate the limiter sends requests at for one organization.
+     * @param burst             The number of requests that may be sent at once after a quiet period.
+     */
+
+    public RateLimiter(double requestsPerMinute, int burst) {
+        if (requestsPerMinute <= 0 || burst < 1) {
+            throw new IllegalArgumentException("requestsPerMinute and burst must be positive"); //No I18N
+        }
+        this.requestsPerMinute = requestsPerMinute;
+        this.burst = burst;
+    }
+
+
+    /**
+     * Get the limiter shared by the API objects that have not been given one.
+     *
+     * @return Returns the default RateLimiter.
+     */
+
+    public static RateLimiter getDefault() {
+        RateLimiter limiter = defaultLimiter;
+
+        if (limiter == null) {
+            synchronized (RateLimiter.class) {
+                limiter = defaultLimiter;
+                if (limiter == null) {
+                    limiter = new RateLimiter();
+                    defaultLimiter = limiter;
+                }
+            }
+        }
+
+        return limiter;
+    }
+
+    /**
+     * Set the limiter shared by the API objects created afterwards.
+     *
+     * @param limiter RateLimiter object. A new default limiter is created on first use when it is null.
+     */
+
+    public static void setDefault(RateLimiter limiter) {
+        defaultLimiter = limiter;
+    }
+
+    /**
+     * get the part of the burst that background requests leave for interactive requests.
+     *
+     * @return Returns the interactive reserve, between 0 and 1.
+     */
+
+    public double getInteractiveReserve() {
+        return interactiveReserve;
+    }
+
+    /**
+     * set the part of the burst that background requests leave for interactive requests.
+     * 0 lets background requests use the whole bucket.
+     *
+     * @param interactiveReserve Interactive reserve, between 0 and 1.
+     */
+
+    public void setInteractiveReserve(double interactiveReserve) {
+        if (interactiveReserve < 0 || interactiveReserve > 1) {
+            throw new IllegalArgumentException("interactiveReserve must be between 0 and 1"); //No I18N
+        }
+        this.interactiveReserve = interactiveReserve;
+    }
+
+    /**
+     * Wait until the organization may send an interactive request, and take a token.
+     *
+     * @param organizationId ID of the organization.
+     */
+
+    public void acquire(String organizationId) throws InterruptedException, DeadlineExceededException {
+        acquire(organizationId, Priority.INTERACTIVE);
+    }
+
+    /**
+     * Wait until the organization may send a request of the given priority, and take a token. The wait fails at
+     * once if it would outlast the deadline of the current thread.
+     *
+     * @param organizationId ID of the organization.
+     * @param priority       Priority of the request.
+     */
+
+    public void acquire(String organizationId, Priority priority) throws InterruptedException, DeadlineExceededException {
+        Bucket bucket = getBucket(organizationId);
+        long wait;
+
+        if (priority == Priority.BACKGROUND) {
+            double reserve = getReserve();
+
+            while ((wait = bucket.tryAcquireBackground(System.nanoTime(), reserve)) > 0) {
+                sleep(wait);
+            }
+            return;
+        }
+
+        bucket.waiting(1);
+        try {
+            while ((wait = bucket.tryAcquire(System.nanoTime())) > 0) {
+                sleep(wait);
+            }
+        } finally {
+            bucket.waiting(-1);
+        }
+    }
+
+    /**
+     * Take a token if the organization may send a request of the given priority now. It never waits.
+     *
+     * @param organizationId ID of the organization.
+     * @param priority       Priority of the request.
+     * @return Returns true if a token was taken, or false if the request must not be sent now.
+     */
+
+    public boolean tryAcquire(String organizationId, Priority priority) {
+        Bucket bucket = getBucket(organizationId);
+
+        if (priority == Priority.BACKGROUND) {
+            return bucket.tryAcquireBackground(System.nanoTime(), getReserve()) == 0;
+        }
+
+        return bucket.tryAcquire(System.nanoTime()) == 0;
+    }
+
+    private double getReserve() {
+        return Math.min(burst - 1, Math.ceil(burst * interactiveReserve));
+    }
+
+    private static void sleep(long nanos) throws InterruptedException, DeadlineExceededException {
+        Deadline deadline = Deadline.current();
+
+        if (deadline != null && TimeUnit.MILLISECONDS.toNanos(deadline.check()) < nanos) {
+            throw new DeadlineExceededException("The rate limit does not allow the request before the deadline of the call"); //No I18N
+        }
+
+        TimeUnit.NANOSECONDS.sleep(nanos);
+    }
+
+    /**
+     * Adapt the rate of the organization to a response of the server.
+     *
+     * @param organizationId ID of the organization.
+     * @param response       The response of a request sent after {@link #acquire(String)}.
+     */
+
+    public void update(String organizationId, TransportResponse response) {
+        long now = System.nanoTime();
+        Bucket bucket = getBucket(organizationId);
+
+        long remaining = parseLong(response.getHeader("X-Rate-Limit-Remaining"), -1); //No I18N
+        long reset = parseLong(response.getHeader("X-Rate-Limit-Reset"), -1); //No I18N
+
+        if (response.getStatus() == 429) {
+            long retryAfter = parseLong(response.getHeader("Retry-After"), reset); //No I18N
+
+            bucket.throttled(now, retryAfter);
+        } else if (remaining >= 0 && reset >= 0) {
+            bucket.quota(now, remaining, reset);
+        } else if (response.getStatus() < 500) {
+            bucket.succeeded(now);
+        }
+    }
+
+    /**
+     * Get the rate the requests of the organization are currently sent at.
+     *
+     * @param organizationId ID of the organization.
+     * @return Returns the number of requests per minute.
+     */
+
+    public double getRate(String organizationId) {
+        return getBucket(organizationId).getRate() * 60;
+    }
+
+    private Bucket getBucket(String organizationId) {
+        String key = organizationId != null ? organizationId : "";
+        Bucket bucket = buckets.get(key);
+
+        if (bucket == null) {
+            Bucket created = new Bucket(requestsPerMinute / 60, burst);
+
+            bucket = buckets.putIfAbsent(key, created);
+            if (bucket == null) {
+                bucket = created;
+            }
+        }
+
+        return bucket;
+    }
+
+    private static long parseLong(String value, long defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            // Retry-After may also be an HTTP date, which is treated as missing.
+            return defaultValue;
+        }
+    }
+
+
+    /**
+     * Token bucket of one organization. The rate is in requests per second.
+     */
+
+    private static class Bucket {
+
+        private double maxRate;
+        private double rate;
+        private int capacity;
+        private double tokens;
+        private long refilled;
+        private long blockedUntil;
+        private int interactiveWaiting;
+
+
+        private Bucket(double maxRate, int capacity) {
+            this.maxRate = maxRate;
+            this.rate = maxRate;
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.refilled = System.nanoTime();
+            this.blockedUntil = refilled;
+        }
+
+
+        /**
+         * Take a token if one is available.
+         *
+         * @return Returns 0 if a token was taken, or else the nanoseconds to wait before trying again.
+         */
+
+        private synchronized long tryAcquire(long now) {
+            if (now - blockedUntil < 0) {
+                return blockedUntil - now;
+            }
+
+            refill(now);
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+
+            return Math.max(1, (long) ((1 - tokens) / rate * 1e9));
+        }
+
+        /**
+         * Take a token if one is available beyond the reserve, and no interactive request is waiting.
+         *
+         * @return Returns 0 if a token was taken, or else the nanoseconds to wait before trying again.
+         */
+
+        private synchronized long tryAcquireBackground(long now, double reserve) {
+            if (now - blockedUntil < 0) {
+                return blockedUntil - now;
+            }
+
+            refill(now);
+
+            if (interactiveWaiting > 0) {
+                return Math.max(1, (long) (1e9 / rate));
+            }
+            if (tokens >= 1 + reserve) {
+                tokens -= 1;
+                return 0;
+            }
+
+            return Math.max(1, (long) ((1 + reserve - tokens) / rate * 1e9));
+        }
+
+        private synchronized void waiting(int delta) {
+            interactiveWaiting += delta;
+        }
+
+        private synchronized void throttled(long now, long retryAfterSeconds) {
+            refill(now);
+
+            rate = Math.max(MIN_REQUESTS_PER_MINUTE / 60, rate / 2);
+            tokens = 0;
+
+            long pause = retryAfterSeconds >= 0 ? TimeUnit.SECONDS.toNanos(retryAfterSeconds) : (long) (1e9 / rate);
+
+            block(now + pause);
+        }
+
+        private synchronized void quota(long now, long remaining, long resetSeconds) {
+            refill(now);
+
+            if (remaining == 0) {
+                tokens = 0;
+                block(now + TimeUnit.SECONDS.toNanos(resetSeconds));
+                return;
+            }
+
+            // Spread what is left of the quota over the rest of the window.
+            double sustainable = resetSeconds > 0 ? (double) remaining / resetSeconds : maxRate;
+
+            rate = Math.max(MIN_REQUESTS_PER_MINUTE / 60, Math.min(maxRate, sustainable));
+            tokens = Math.min(tokens, remaining);
+        }
+
+        private synchronized void succeeded(long now) {
+            refill(now);
+
+            rate = Math.min(maxRate, rate + maxRate * INCREASE_STEP);
+        }
+
+        private synchronized double getRate() {
+            return rate;
+        }
+
+        private void block(long until) {
+            if (until - blockedUntil > 0) {
+                blockedUntil = until;
+            }
+            if (blockedUntil - refilled > 0) {
+                refilled = blockedUntil;
+            }
+        }
+
+        private void refill(long now) {
+            if (now - refilled > 0) {
+                tokens = Math.min(capacity, tokens + (now - refilled) / 1e9 * rate);
+                refilled = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/* $Id$ */
+
+package com.zoho.books.util;
+
+import com.zoho.books.exception.DeadlineExceededException;
+import com.zoho.books.transport.AbortHandle;
+import com.zoho.books.transport.Deadline;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * RequestCoalescer is used to share one in-flight GET request between the callers that ask for the same resource
+ * at the same time.
+ * <p>
+ * The first caller for a key sends the request. Callers that arrive while it is in flight wait for it and receive
+ * the same response, or the same exception. A caller that arrives after it has completed sends a new request, so
+ * no response is ever served from a cache.
+ * <p>
+ * If the first caller is cancelled or runs out of its deadline, the callers waiting on it send the request
+ * themselves. A waiting caller stops waiting when its own deadline passes.
+ */
+
+public class RequestCoalescer {
+
+    private ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<String, CompletableFuture<Object>>();
+
+
+    /**
+     * Run the call, or wait for the identical call already in flight.
+     *
+     * @param key  Key of the request, made of everything that identifies its response.
+     * @param call The call that sends the request.
+     * @return Returns the result of the call.
+     */
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Callable<T> call) throws Exception {
+        while (true) {
+            CompletableFuture<Object> flight = new CompletableFuture<Object>();
+            CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+
+            if (leader == null) {
+                return (T) lead(key, flight, call);
+            }
+
+            Deadline deadline = Deadline.current();
+
+            try {
+                return (T) (deadline == null ? leader.get() : leader.get(deadline.check(), TimeUnit.MILLISECONDS));
+            } catch (TimeoutException e) {
+                throw new DeadlineExceededException("The deadline of the call passed while it waited for the identical request"); //No I18N
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Abandoned) {
+                    continue;
+                }
+                if (e.getCause() instanceof Exception) {
+                    throw (Exception) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * get the number of requests in flight.
+     *
+     * @return Returns the number of distinct requests being executed.
+     */
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private Object lead(String key, CompletableFuture<Object> flight, Callable<?> call) throws Exception {
+        try {
+            Object result = call.call();
+
+            inFlight.remove(key, flight);
+            flight.complete(result);
+
+            return result;
+        } catch (Throwable t) {
+            inFlight.remove(key, flight);
+
+            AbortHandle handle = AbortHandle.current();
+
+            if ((handle != null && handle.isAborted()) || t instanceof InterruptedException
+                    || t instanceof DeadlineExceededException || Deadline.isCurrentExpired()) {
+                // The failure belongs to this caller only.
+                flight.completeExceptionally(new Abandoned());
+            } else {
+                flight.completeExceptionally(t);
+            }
+
+            if (t instanceof Exception) {
+                throw (Exception) t;
+            }
+            throw (Error) t;
+        }
+    }
+
+
+    /**
+     * Tells the waiting callers that the request was given up by the caller that sent it.
+     */
+
+    private static class Abandoned extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+
+        private Abandoned() {
+            super(null, null, false, false);
+        }
+    }
+}
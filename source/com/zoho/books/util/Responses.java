@@ -0,0 +1,86 @@
+/* $Id$ */
+
+package com.zoho.books.util;
+
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Responses is used to consume the response bodies returned by ZohoHTTPClient.
+ * <p>
+ * Both methods read the body to its end and close it, so the connection goes back to the pool of the transport.
+ */
+
+public class Responses {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final ThreadLocal<char[]> BUFFER = new ThreadLocal<char[]>() {
+        protected char[] initialValue() {
+            return new char[BUFFER_SIZE];
+        }
+    };
+
+
+    private Responses() {
+    }
+
+
+    /**
+     * Parse the JSON object of the response as it is read from the stream.
+     *
+     * @param response The response body.
+     * @return Returns the JSONObject of the response.
+     */
+
+    public static JSONObject parse(Reader response) throws Exception {
+        try {
+            JSONObject jsonObject = new JSONObject(new JSONTokener(response));
+
+            drain(response);
+
+            return jsonObject;
+        } finally {
+            response.close();
+        }
+    }
+
+    /**
+     * Read the whole response into a String. Only meant for the methods that return the raw JSON response.
+     *
+     * @param response The response body.
+     * @return Returns the response String.
+     */
+
+    public static String read(Reader response) throws IOException {
+        try {
+            StringBuilder content = new StringBuilder();
+            char[] buffer = BUFFER.get();
+            int length;
+
+            while ((length = response.read(buffer)) != -1) {
+                content.append(buffer, 0, length);
+            }
+
+            return content.toString();
+        } finally {
+            response.close();
+        }
+    }
+
+    /**
+     * Read what is left after the JSON object, usually nothing or a line end,
+     * so that the connection can be reused for the next request.
+     */
+
+    private static void drain(Reader response) throws IOException {
+        char[] buffer = BUFFER.get();
+
+        while (response.read(buffer) != -1) {
+            // Discard the trailing whitespace.
+        }
+    }
+}
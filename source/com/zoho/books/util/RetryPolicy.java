@@ -0,0 +1,270 @@
+/* $Id$ */
+
+package com.zoho.books.util;
+
+import com.zoho.books.transport.TransportRequest;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.net.http.HttpConnectTimeoutException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * RetryPolicy is used to decide whether a failed request is sent again, and how long to wait before it is.
+ * <p>
+ * By default a request is retried at most twice, and only when it is safe to send it again:
+ * <ul>
+ * <li>GET, PUT and DELETE requests are retried after an I/O error, 408 Request Timeout, and 500, 502, 503 and 504
+ * responses, as sending them twice has the same effect as sending them once.</li>
+ * <li>POST requests are only retried when the connection could not be established, and on 429 Too Many Requests,
+ * because in both cases the server has not processed them.</li>
+ * <li>A request whose body is read from a stream is never retried.</li>
+ * </ul>
+ * The wait grows exponentially from the initial delay, with random jitter so that clients which failed together
+ * do not retry together. A Retry-After header sent by the server is honored.
+ */
+
+public class RetryPolicy {
+
+    private static volatile RetryPolicy defaultPolicy;
+
+    private int maxAttempts = 3;
+    private long initialDelay = 500;
+    private long maxDelay = 30 * 1000;
+    private double multiplier = 2;
+    private boolean retryNonIdempotent = false;
+
+
+    /**
+     * Get the policy shared by the API objects that have not been given one.
+     *
+     * @return Returns the default RetryPolicy.
+     */
+
+    public static RetryPolicy getDefault() {
+        RetryPolicy policy = defaultPolicy;
+
+        if (policy == null) {
+            synchronized (RetryPolicy.class) {
+                policy = defaultPolicy;
+                if (policy == null) {
+                    policy = new RetryPolicy();
+                    defaultPolicy = policy;
+                }
+            }
+        }
+
+        return policy;
+    }
+
+    /**
+     * Set the policy shared by the API objects created afterwards.
+     *
+     * @param policy RetryPolicy object. A new default policy is created on first use when it is null.
+     */
+
+    public static void setDefault(RetryPolicy policy) {
+        defaultPolicy = policy;
+    }
+
+
+    /**
+     * get the maximum number of times a request is sent, including the first attempt.
+     *
+     * @return Returns the maximum number of attempts.
+     */
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * set the maximum number of times a request is sent, including the first attempt. 1 disables retries.
+     *
+     * @param maxAttempts Maximum number of attempts.
+     */
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * get the wait before the first retry.
+     *
+     * @return Returns the initial delay in milliseconds.
+     */
+
+    public long getInitialDelay() {
+        return initialDelay;
+    }
+
+    /**
+     * set the wait before the first retry.
+     *
+     * @param initialDelay Initial delay in milliseconds.
+     */
+
+    public void setInitialDelay(long initialDelay) {
+        this.initialDelay = initialDelay;
+    }
+
+    /**
+     * get the longest wait between two attempts.
+     *
+     * @return Returns the maximum delay in milliseconds.
+     */
+
+    public long getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * set the longest wait between two attempts. A request is not retried when the server asks,
+     * through Retry-After, to wait longer than this.
+     *
+     * @param maxDelay Maximum delay in milliseconds.
+     */
+
+    public void setMaxDelay(long maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * get the factor the delay grows by after each attempt.
+     *
+     * @return Returns the multiplier.
+     */
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    /**
+     * set the factor the delay grows by after each attempt.
+     *
+     * @param multiplier Multiplier.
+     */
+
+    public void setMultiplier(double multiplier) {
+        this.multiplier = multiplier;
+    }
+
+    /**
+     * check whether POST requests are retried after the same failures as GET, PUT and DELETE requests.
+     *
+     * @return Returns true if non-idempotent requests are retried.
+     */
+
+    public boolean isRetryNonIdempotent() {
+        return retryNonIdempotent;
+    }
+
+    /**
+     * set whether POST requests are retried after the same failures as GET, PUT and DELETE requests.
+     * Only enable it when creating a resource twice is harmless.
+     *
+     * @param retryNonIdempotent Whether non-idempotent requests are retried.
+     */
+
+    public void setRetryNonIdempotent(boolean retryNonIdempotent) {
+        this.retryNonIdempotent = retryNonIdempotent;
+    }
+
+
+    /**
+     * Check whether the request is retried after it failed with the given response status.
+     *
+     * @param request The request.
+     * @param status  HTTP status code of the response.
+     * @param attempt Number of times the request has been sent.
+     * @return Returns true if the request is sent again.
+     */
+
+    public boolean isRetryable(TransportRequest request, int status, int attempt) {
+        if (!canRetry(request, attempt)) {
+            return false;
+        }
+        if (status == 429) {
+            return true;
+        }
+
+        return (status == 408 || status == 500 || status == 502 || status == 503 || status == 504) && isIdempotent(request);
+    }
+
+    /**
+     * Check whether the request is retried after it failed with the given error.
+     *
+     * @param request The request.
+     * @param error   The error thrown by the transport.
+     * @param attempt Number of times the request has been sent.
+     * @return Returns true if the request is sent again.
+     */
+
+    public boolean isRetryable(TransportRequest request, IOException error, int attempt) {
+        if (!canRetry(request, attempt)) {
+            return false;
+        }
+
+        // The request did not reach the server.
+        boolean notSent = error instanceof ConnectException || error instanceof HttpConnectTimeoutException
+                || error instanceof UnknownHostException;
+
+        return notSent || isIdempotent(request);
+    }
+
+    /**
+     * Get the wait before the next attempt.
+     *
+     * @param attempt    Number of times the request has been sent.
+     * @param retryAfter Value of the Retry-After header of the response, or null.
+     * @return Returns the delay in milliseconds, or -1 if the server asked to wait longer than the maximum delay.
+     */
+
+    public long getDelay(int attempt, String retryAfter) {
+        double backoff = Math.min(maxDelay, initialDelay * Math.pow(multiplier, attempt - 1));
+
+        // Wait at least half of the backoff, and a random part of the other half.
+        long delay = (long) (backoff / 2 + ThreadLocalRandom.current().nextDouble() * backoff / 2);
+
+        long requested = parseRetryAfter(retryAfter);
+
+        if (requested > maxDelay) {
+            return -1;
+        }
+
+        return Math.max(delay, requested);
+    }
+
+    private boolean canRetry(TransportRequest request, int attempt) {
+        return attempt < maxAttempts && (request.getBody() == null || request.getBody().isRepeatable());
+    }
+
+    private boolean isIdempotent(TransportRequest request) {
+        String method = request.getMethod();
+
+        return retryNonIdempotent || "GET".equals(method) || "PUT".equals(method) || "DELETE".equals(method) //No I18N
+                || "HEAD".equals(method); //No I18N
+    }
+
+    private static long parseRetryAfter(String retryAfter) {
+        if (retryAfter == null) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Long.parseLong(retryAfter.trim()) * 1000);
+        } catch (NumberFormatException e) {
+            // Retry-After may also be an HTTP date.
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+
+            return Math.max(0, date.toInstant().toEpochMilli() - System.currentTimeMillis());
+        } catch (DateTimeParseException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/* $Id$ */
+
+package com.zoho.books.util;
+
+/**
+ * StaticTokenProvider is used to send the same access token with every request. The token is never refreshed.
+ */
+
+public class StaticTokenProvider implements TokenProvider {
+
+    private String accessToken;
+
+
+    /**
+     * Construct a new StaticTokenProvider for the given access token.
+     *
+     * @param accessToken The OAuth access token.
+     */
+
+    public StaticTokenProvider(String accessToken) {
+        this.accessToken = accessToken;
+    }
+
+
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public String refresh(String rejectedToken) {
+        return null;
+    }
+}
@@ -0,0 +1,31 @@
+/* $Id$ */
+
+package com.zoho.books.util;
+
+/**
+ * TokenProvider is used to supply the OAuth access token sent with every request.
+ * <p>
+ * It is shared by all the API objects of an organization and called on every request, so {@link #getAccessToken()}
+ * must be cheap and thread-safe.
+ */
+
+public interface TokenProvider {
+
+    /**
+     * get the access token to send with the next request.
+     *
+     * @return Returns the access token.
+     */
+
+    String getAccessToken() throws Exception;
+
+    /**
+     * Replace a token the server has rejected with 401 Unauthorized. Many requests may be rejected at once for the
+     * same expired token, so an implementation must refresh it only once and hand the new token to all of them.
+     *
+     * @param rejectedToken The token that was rejected.
+     * @return Returns the token to retry with, or null if the token cannot be refreshed.
+     */
+
+    String refresh(String rejectedToken) throws Exception;
+}
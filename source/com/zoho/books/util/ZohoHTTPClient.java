@@ -3,441 +3,805 @@
 package com.zoho.books.util;
 
 import com.zoho.books.exception.BooksException;
+import com.zoho.books.exception.DeadlineExceededException;
+import com.zoho.books.transport.AbortHandle;
+import com.zoho.books.transport.Deadline;
+import com.zoho.books.transport.FormBody;
+import com.zoho.books.transport.HttpClientTransport;
+import com.zoho.books.transport.MultipartBody;
+import com.zoho.books.transport.Priority;
+import com.zoho.books.transport.RequestBody;
+import com.zoho.books.transport.Transport;
+import com.zoho.books.transport.TransportRequest;
+import com.zoho.books.transport.TransportResponse;
+import org.json.JSONException;
 import org.json.JSONObject;
 
 import javax.net.ssl.HttpsURLConnection;
 import java.io.*;
 import java.net.URL;
-import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 /**
  * ZohoHTTPClient is used to make a HTTP request execution for GET, POST, PUT and DELETE requests.
+ * <p>
+ * An instance sends its requests through a {@link Transport} with the access token and organization it was created for.
+ * The static methods are kept for compatibility and use the default transport.
  */
 
 public class ZohoHTTPClient {
 
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static volatile Transport defaultTransport;
+
+    private Transport transport;
+
+    private volatile TokenProvider tokenProvider;
+
+    private String organizationId;
+
+    private volatile RateLimiter rateLimiter = RateLimiter.getDefault();
+
+    private volatile RetryPolicy retryPolicy = RetryPolicy.getDefault();
+
+    private volatile RequestCoalescer requestCoalescer;
+
+    private volatile Priority priority = Priority.INTERACTIVE;
+
 
     /**
-     * Make a GET request and fetch the response for the given URL and a query string.
+     * Construct a new ZohoHTTPClient that sends its requests with the default transport and no access token.
+     */
+
+    public ZohoHTTPClient() {
+        this(null, (String) null);
+    }
+
+    /**
+     * Construct a new ZohoHTTPClient for the given transport and access token.
      *
-	* @param url Service URL passed by the user.
+     * @param transport   Transport used to execute the requests.
+     * @param accessToken The OAuth access token
+     */
 
-	* @param queryMap This queryMap contains the query string parameters in the form of key, value pair.
+    public ZohoHTTPClient(Transport transport, String accessToken) {
+        this(transport, accessToken, null);
+    }
 
-	* @param accessToken The OAuth access token
-	 * @return Returns the JSON response String.
+    /**
+     * Construct a new ZohoHTTPClient for the given transport, access token and organization.
+     *
+     * @param transport      Transport used to execute the requests.
+     * @param accessToken    The OAuth access token
+     * @param organizationId ID of the organization the requests are made for.
      */
 
-    public static String get(String url, HashMap<String, Object> queryMap, String accessToken) throws Exception
-	{
-		URL urlCon = new URL(url+formQueryString(queryMap));
+    public ZohoHTTPClient(Transport transport, String accessToken, String organizationId) {
+        this(transport, new StaticTokenProvider(accessToken), organizationId);
+    }
 
-		HashMap<String, Object> header = new HashMap<String, Object>();
+    /**
+     * Construct a new ZohoHTTPClient that takes the access tokens from the given provider.
+     *
+     * @param transport      Transport used to execute the requests.
+     * @param tokenProvider  Provider of the OAuth access tokens.
+     * @param organizationId ID of the organization the requests are made for.
+     */
 
-		header.put("Accept", "application/json");	//No I18N
-		header.put("Content-Type", "application/x-www-form-urlencoded");	//No I18N
-		header.put("Authorization", "Zoho-oauthtoken " + accessToken);
+    public ZohoHTTPClient(Transport transport, TokenProvider tokenProvider, String organizationId) {
+        this.transport = transport != null ? transport : getDefaultTransport();
+        this.tokenProvider = tokenProvider;
+        this.organizationId = organizationId;
+    }
 
-		HttpsURLConnection httpGet = getConnection(urlCon, "GET", header);	//No I18N
 
-  		String response = getResponse(httpGet);
+    /**
+     * Get the transport used when none is passed explicitly. A HttpClientTransport is created on first use.
+     *
+     * @return Returns the default Transport.
+     */
 
-  		return response;
-	}
+    public static Transport getDefaultTransport() {
+        Transport transport = defaultTransport;
 
-	/**
+        if (transport == null) {
+            synchronized (ZohoHTTPClient.class) {
+                transport = defaultTransport;
+                if (transport == null) {
+                    transport = new HttpClientTransport();
+                    defaultTransport = transport;
+                }
+            }
+        }
 
-	* Make a GET request and fetch the file for the given URL and a query string.
-	*
-     * @param url      Service URL passed by the user.
-     * @param queryMap This queryMap contains the query string parameters in the form of key, value pair.
-     * @return Returns the File object.
+        return transport;
+    }
+
+    /**
+     * Replace the transport used when none is passed explicitly.
+     * API objects created before this call keep the transport they were created with.
+     *
+     * @param transport Transport to be used by default.
      */
 
-    public static File getFile(String url, HashMap<String, Object> queryMap) throws Exception {
-        URL urlCon = new URL(url + formQueryString(queryMap));
+    public static void setDefaultTransport(Transport transport) {
+        defaultTransport = transport;
+    }
 
-        HashMap<String, Object> header = new HashMap<String, Object>();
+    /**
+     * get the transport of this client.
+     *
+     * @return Returns the Transport object.
+     */
 
-        header.put("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8");    //No I18N
-        header.put("Content-Type", "application/x-www-form-urlencoded");    //No I18N
+    public Transport getTransport() {
+        return transport;
+    }
+
+    /**
+     * get the provider of the access tokens sent with the requests.
+     *
+     * @return Returns the TokenProvider object.
+     */
 
-        HttpsURLConnection httpGet = getConnection(urlCon, "GET", header);    //No I18N
+    public TokenProvider getTokenProvider() {
+        return tokenProvider;
+    }
 
-        File file = getAttachment(httpGet);
+    /**
+     * set the provider of the access tokens sent with the requests.
+     *
+     * @param tokenProvider TokenProvider object.
+     */
 
-        return file;
+    public void setTokenProvider(TokenProvider tokenProvider) {
+        this.tokenProvider = tokenProvider;
     }
 
+    /**
+     * get the priority of the requests of this client.
+     *
+     * @return Returns the Priority.
+     */
+
+    public Priority getPriority() {
+        return priority;
+    }
 
     /**
-     * Make a POST request and create a resource for the given URL and a request body.
+     * set the priority of the requests of this client.
      *
-	* @param url Service URL passed by the user.
+     * @param priority Priority of the requests. INTERACTIVE is used when it is null.
+     */
 
-	* @param requestBody This map contains the request body for the POST request.
+    public void setPriority(Priority priority) {
+        this.priority = priority != null ? priority : Priority.INTERACTIVE;
+    }
 
-	* @param accessToken The OAuth access token
-	 * @return Returns the JSON response String.
+    /**
+     * get the rate limiter the requests of this client wait on.
+     *
+     * @return Returns the RateLimiter object, or null if the requests are not rate limited.
      */
 
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
 
-    public static String post(String url, HashMap<String, Object> requestBody, String accessToken) throws Exception{
+    /**
+     * set the rate limiter the requests of this client wait on.
+     *
+     * @param rateLimiter RateLimiter object, or null to send the requests without rate limiting.
+     */
 
+    public void setRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
 
-		URL urlCon = new URL(url);
+    /**
+     * get the policy that decides which failed requests of this client are sent again.
+     *
+     * @return Returns the RetryPolicy object, or null if failed requests are not retried.
+     */
 
-		HashMap<String, Object> header = new HashMap<String, Object>();
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
 
-		header.put("Accept", "application/json");	//No I18N
-		header.put("Content-Type", "application/x-www-form-urlencoded");	//No I18N
-		header.put("Authorization", "Zoho-oauthtoken " + accessToken);
+    /**
+     * set the policy that decides which failed requests of this client are sent again.
+     *
+     * @param retryPolicy RetryPolicy object, or null to never retry.
+     */
 
-		HttpsURLConnection httpPost = getConnection(urlCon, "POST", header);	//No I18N
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
 
-		StringBuffer requestParams = new StringBuffer();
+    /**
+     * get the coalescer that lets identical concurrent GET requests of this client share one response.
+     *
+     * @return Returns the RequestCoalescer object, or null if every GET request is sent on its own.
+     */
 
-		DataOutputStream dos = new DataOutputStream(httpPost.getOutputStream());
+    public RequestCoalescer getRequestCoalescer() {
+        return requestCoalescer;
+    }
 
-		try{
+    /**
+     * set the coalescer that lets identical concurrent GET requests of this client share one response.
+     * The requests are identical when they have the same URL, query string and access token.
+     *
+     * @param requestCoalescer RequestCoalescer object, or null to send every GET request on its own.
+     */
 
-            if (requestBody != null) {
-                Iterator<String> keyIterator = requestBody.keySet().iterator();
+    public void setRequestCoalescer(RequestCoalescer requestCoalescer) {
+        this.requestCoalescer = requestCoalescer;
+    }
 
-                while (keyIterator.hasNext()) {
-                    String key = keyIterator.next();
-                    String value = (String) requestBody.get(key);
-                    requestParams.append(URLEncoder.encode(key, "UTF-8"));            //No I18N
-                    requestParams.append("=").append(URLEncoder.encode(value, "UTF-8"));    //No I18N
-                    requestParams.append("&");                        //No I18N
 
-                }
+    /**
+     * Make a GET request and fetch the response for the given URL and a query string.
+     *
+     * @param url      Service URL passed by the user.
+     * @param queryMap This queryMap contains the query string parameters in the form of key, value pair.
+     * @return Returns a Reader over the JSON response, which the caller must close.
+     */
 
-                dos.writeBytes(requestParams.toString());
+    public Reader get(String url, HashMap<String, Object> queryMap) throws Exception {
+        final TransportRequest request = newRequest("GET", url + formQueryString(queryMap)); //No I18N
+        RequestCoalescer coalescer = requestCoalescer;
 
-            }
-        } catch (Exception e) {
-            throw new Exception();
-        } finally {
-            dos.flush();
-            dos.close();
+        if (coalescer == null) {
+            return readResponse(execute(request));
         }
 
-        String response = getResponse(httpPost);
+        String response = coalescer.execute(tokenProvider.getAccessToken() + " " + request.getUrl(), () -> Responses.read(readResponse(execute(request))));
 
-        return response;
+        return new StringReader(response);
     }
 
-
     /**
-     * Make a POST request and create a resource for the given URL and a MultiPart form data.
+     * Make a GET request and write the file for the given URL and a query string to the given path.
+     * If the path is a directory, the file is created in it with the name sent by the server.
      *
-	* @param url Service URL passed by the user.
+     * @param url      Service URL passed by the user.
+     * @param queryMap This queryMap contains the query string parameters in the form of key, value pair.
+     * @param target   Path of the file, or of the directory, to write to.
+     * @return Returns the Path of the file written.
+     */
 
-	* @param queryMap This queryMap contains the query string parameters in the form of key, value pair.
+    public Path getFile(String url, HashMap<String, Object> queryMap, Path target) throws Exception {
+        TransportResponse response = download(url, queryMap);
 
-	* @param requestBody This requestBody contains the form data for the POST request.
+        try {
+            Path file = Files.isDirectory(target) ? target.resolve(getFileName(response)) : target;
 
-	* @param fileBody This fileBody contains the attachment files for the POST request.
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                channel.transferFrom(Channels.newChannel(response.getBody()), 0, Long.MAX_VALUE);
+            }
 
-	* @param accessToken The OAuth access token
-	 * @return Returns the JSON response String.
-	*/
+            return file;
+        } finally {
+            response.close();
+        }
+    }
 
-    public static String post(String url, HashMap<String, Object> queryMap, HashMap<String, Object> requestBody, HashMap<String, Object> fileBody, String accessToken) throws Exception{
+    /**
+     * Make a GET request and write the file for the given URL and a query string to the given stream.
+     * The stream is not closed.
+     *
+     * @param url      Service URL passed by the user.
+     * @param queryMap This queryMap contains the query string parameters in the form of key, value pair.
+     * @param out      OutputStream to write the file to.
+     * @return Returns the number of bytes written.
+     */
 
+    public long getFile(String url, HashMap<String, Object> queryMap, OutputStream out) throws Exception {
+        TransportResponse response = download(url, queryMap);
 
-		URL urlCon = new URL(url+formQueryString(queryMap));
+        try {
+            return copy(response.getBody(), out);
+        } finally {
+            response.close();
+        }
+    }
 
-  		String lineEnd = "\r\n";  	//No I18N
-		String twoHyphens = "--"; 	//No I18N
-		String boundary = String.valueOf(System.currentTimeMillis()); 	//No I18N
+    /**
+     * Make a GET request and write the file for the given URL and a query string to the given channel.
+     * A FileChannel is written from its current position by FileChannel.transferFrom. The channel is not closed.
+     *
+     * @param url      Service URL passed by the user.
+     * @param queryMap This queryMap contains the query string parameters in the form of key, value pair.
+     * @param channel  WritableByteChannel to write the file to.
+     * @return Returns the number of bytes written.
+     */
 
-		HashMap<String, Object> header = new HashMap<String, Object>();
+    public long getFile(String url, HashMap<String, Object> queryMap, WritableByteChannel channel) throws Exception {
+        TransportResponse response = download(url, queryMap);
 
-		header.put("Accept", "application/json");	//No I18N
-		header.put("Content-Type", "multipart/form-data; boundary="+ boundary);	//No I18N
-		header.put("Authorization", "Zoho-oauthtoken " + accessToken);
+        try {
+            if (channel instanceof FileChannel && ((FileChannel) channel).position() <= ((FileChannel) channel).size()) {
+                FileChannel file = (FileChannel) channel;
+                long position = file.position();
+                long written = file.transferFrom(Channels.newChannel(response.getBody()), position, Long.MAX_VALUE);
 
-		HttpsURLConnection httpPost = getConnection(urlCon, "POST", header);	//No I18N
+                file.position(position + written);
 
-		DataOutputStream dos = new DataOutputStream(httpPost.getOutputStream());
+                return written;
+            }
 
-		FileInputStream fStream = null;
+            return copy(response.getBody(), channel);
+        } finally {
+            response.close();
+        }
+    }
 
-		try{
+    /**
+     * Make a POST request and create a resource for the given URL and a request body.
+     *
+     * @param url         Service URL passed by the user.
+     * @param requestBody This map contains the request body for the POST request. A value made by JsonWriter.deferred is written as JSON while the request is sent.
+     * @return Returns a Reader over the JSON response, which the caller must close.
+     */
 
-            if (requestBody != null) {
-                Iterator<String> keyIterator = requestBody.keySet().iterator();
+    public Reader post(String url, HashMap<String, Object> requestBody) throws Exception {
+        TransportRequest request = newRequest("POST", url); //No I18N
 
-                while (keyIterator.hasNext()) {
-                    String key = keyIterator.next();
+        request.setBody(formBody(requestBody));
 
-                    dos.writeBytes(twoHyphens + boundary + lineEnd);
-                    dos.writeBytes("Content-Disposition: form-data; name=\"" + key + "\"" + lineEnd + lineEnd + requestBody.get(key).toString() + lineEnd); //No I18N
+        return readResponse(execute(request));
+    }
 
+    /**
+     * Make a POST request and create a resource for the given URL and a MultiPart form data.
+     *
+     * @param url         Service URL passed by the user.
+     * @param queryMap    This queryMap contains the query string parameters in the form of key, value pair.
+     * @param requestBody This requestBody contains the form data for the POST request.
+     * @param fileBody    This fileBody contains the attachments for the POST request, as File, Path or Attachment objects.
+     * @return Returns a Reader over the JSON response, which the caller must close.
+     */
 
-                }
+    public Reader post(String url, HashMap<String, Object> queryMap, HashMap<String, Object> requestBody, HashMap<String, Object> fileBody) throws Exception {
+        TransportRequest request = newRequest("POST", url + formQueryString(queryMap)); //No I18N
 
-            }
-            if (fileBody != null) {
-                Iterator<String> iterator = fileBody.keySet().iterator();
+        request.setBody(new MultipartBody(requestBody, fileBody));
 
-                while (iterator.hasNext()) {
+        return readResponse(execute(request));
+    }
 
-                    String key = iterator.next();
+    /**
+     * Make a PUT request and update a resource for the given URL and a request body.
+     *
+     * @param url         Service URL passed by the user.
+     * @param requestBody This requestBody contains the form data for the PUT request. A value made by JsonWriter.deferred is written as JSON while the request is sent.
+     * @return Returns a Reader over the JSON response, which the caller must close.
+     */
 
-                    if (fileBody.get(key) instanceof ArrayList) {
+    public Reader put(String url, HashMap<String, Object> requestBody) throws Exception {
+        TransportRequest request = newRequest("PUT", url); //No I18N
 
-                        ArrayList<?> fileList = (ArrayList<?>) fileBody.get(key);
+        request.setBody(formBody(requestBody));
 
-                        for (int i = 0; i < fileList.size(); i++) {
+        return readResponse(execute(request));
+    }
 
-                            dos.writeBytes(twoHyphens + boundary + lineEnd);
-                            dos.writeBytes("Content-Disposition: form-data; name=\"" + key + "\";filename=\"" + (File) fileList.get(i) + "\"" + lineEnd); //No I18N
-                            dos.writeBytes(lineEnd);
+    /**
+     * Make a PUT request and update a resource for the given URL and a MultiPart form data.
+     *
+     * @param url         Service URL passed by the user.
+     * @param queryMap    This queryMap contains the query string parameters in the form of key, value pair.
+     * @param requestBody This requestBody contains the form data for the PUT request.
+     * @param fileBody    This fileBody contains the attachments for the PUT request, as File, Path or Attachment objects.
+     * @return Returns a Reader over the JSON response, which the caller must close.
+     */
 
-                            fStream = new FileInputStream((File) fileList.get(i));
-                            int bufferSize = 1024;
-                            byte[] buffer = new byte[bufferSize];
-                            int length = -1;
+    public Reader put(String url, HashMap<String, Object> queryMap, HashMap<String, Object> requestBody, HashMap<String, Object> fileBody) throws Exception {
+        TransportRequest request = newRequest("PUT", url + formQueryString(queryMap)); //No I18N
 
-                            while ((length = fStream.read(buffer)) != -1) {
-                                dos.write(buffer, 0, length);
-                            }
-                            dos.writeBytes(lineEnd);
+        request.setBody(new MultipartBody(requestBody, fileBody));
 
-                        }
+        return readResponse(execute(request));
+    }
 
-                    } else if (fileBody.get(key) instanceof File) {
+    /**
+     * Make a DELETE request for the given URL and a query string.
+     *
+     * @param url      Service URL passed by the user.
+     * @param queryMap This queryMap contains the query string parameters in the form of key, value pair.
+     * @return Returns a Reader over the JSON response, which the caller must close.
+     */
 
-                        dos.writeBytes(twoHyphens + boundary + lineEnd);
-                        dos.writeBytes("Content-Disposition: form-data; name=\"" + key + "\";filename=\"" + (File) fileBody.get(key) + "\"" + lineEnd); //No I18N
-                        dos.writeBytes(lineEnd);
-                        fStream = new FileInputStream((File) fileBody.get(key));
-                        int bufferSize = 1024;
-                        byte[] buffer = new byte[bufferSize];
-                        int length = -1;
+    public Reader delete(String url, HashMap<String, Object> queryMap) throws Exception {
+        return readResponse(execute(newRequest("DELETE", url + formQueryString(queryMap)))); //No I18N
+    }
 
-                        while ((length = fStream.read(buffer)) != -1) {
-                            dos.write(buffer, 0, length);
-                        }
-                        dos.writeBytes(lineEnd);
+    /**
+     * Open connections to the host of the given URL ahead of the first requests, so that those do not wait for the
+     * DNS lookup and the TCP and TLS handshakes. The given number of HEAD requests are sent at the same time, and
+     * the connections they open are left in the pool of the transport. With HTTP/2 the requests share one connection.
+     * <p>
+     * The requests carry no access token and are not rate limited or retried. A request that fails is not an error,
+     * as the first real request will open its connection anyway.
+     *
+     * @param url         Any URL on the host, such as the base URL of the API.
+     * @param connections Number of requests sent at the same time.
+     * @return Returns the number of requests that were answered.
+     */
 
-                    }
-                }
-            }
-            dos.writeBytes(twoHyphens + boundary + twoHyphens + lineEnd);
+    public int warmUp(String url, int connections) throws Exception {
+        List<CompletableFuture<TransportResponse>> pending = new ArrayList<CompletableFuture<TransportResponse>>(connections);
 
-        } catch (Exception e) {
-            throw new Exception();
-        } finally {
-            if (fStream != null) {
-                fStream.close();
-            }
-            dos.flush();
-            dos.close();
+        for (int i = 0; i < connections; i++) {
+            final TransportRequest request = new TransportRequest("HEAD", url); //No I18N
+
+            request.setOrganizationId(organizationId);
+            request.setPriority(priority);
+            request.setHeader("User-Agent", "ZohoBooks-Java-Wrappers/1.0"); //No I18N
+            pending.add(AsyncCall.submit(AsyncCall.getDefaultExecutor(), () -> transport.execute(request)));
         }
 
+        int answered = 0;
 
-        String response = getResponse(httpPost);
+        for (CompletableFuture<TransportResponse> future : pending) {
+            try {
+                future.get().close();
+                answered++;
+            } catch (ExecutionException e) {
+                // The connection is opened by the first request that needs it instead.
+            }
+        }
 
-        return response;
+        return answered;
     }
 
 
-    /**
-     * Make a PUT request and update a resource for the given URL and a request body.
-     *
-	* @param url Service URL passed by the user.
+    private TransportRequest newRequest(String method, String url) {
+        TransportRequest request = new TransportRequest(method, url);
+
+        final RateLimiter limiter = rateLimiter;
+
+        request.setOrganizationId(organizationId);
+        request.setPriority(priority);
+        if (limiter != null) {
+            // A copy, such as a hedge, is only sent with a token a background request could take.
+            request.setCopyPermit(() -> limiter.tryAcquire(organizationId, Priority.BACKGROUND));
+        }
+        request.setHeader("Accept", "application/json"); //No I18N
+        request.setHeader("Accept-Charset", "UTF-8"); //No I18N
+        request.setHeader("User-Agent", "ZohoBooks-Java-Wrappers/1.0"); //No I18N
 
-	* @param requestBody This requestBody contains the form data for the PUT request.
+        return request;
+    }
 
-	* @param accessToken The OAuth access token
-	 * @return Returns the JSON response String.
+    /**
+     * Make the body of a form request. A form with a JSON value to write is written while it is sent.
      */
 
+    private static RequestBody formBody(HashMap<String, Object> requestBody) {
+        if (JsonFormBody.isStreamed(requestBody)) {
+            return new JsonFormBody(requestBody);
+        }
 
-    public static String put(String url, HashMap<String, Object> requestBody, String accessToken) throws Exception{
+        return new FormBody(requestBody);
+    }
 
-		URL urlCon = new URL(url);
+    /**
+     * Execute the request once the rate limiter allows it, and send it again while the retry policy allows.
+     * A request rejected with 401 Unauthorized is sent once more with a refreshed access token.
+     */
 
-		HashMap<String, Object> header = new HashMap<String, Object>();
+    private TransportResponse execute(TransportRequest request) throws Exception {
+        RateLimiter limiter = rateLimiter;
+        RetryPolicy policy = retryPolicy;
+        TokenProvider provider = tokenProvider;
+        String token = provider.getAccessToken();
+        boolean refreshed = false;
 
-		header.put("Accept", "application/json");	//No I18N
-		header.put("Content-Type", "application/x-www-form-urlencoded");	//No I18N
-		header.put("Authorization", "Zoho-oauthtoken " + accessToken);
+        for (int attempt = 1; ; attempt++) {
+            if (token != null) {
+                request.setHeader("Authorization", "Zoho-oauthtoken " + token); //No I18N
+            }
 
-		HttpsURLConnection httpPut = getConnection(urlCon, "PUT", header);	//No I18N
+            if (limiter != null) {
+                limiter.acquire(request.getOrganizationId(), request.getPriority());
+            }
 
-		StringBuffer requestParams = new StringBuffer();
+            TransportResponse response;
+            long delay;
 
-		DataOutputStream dos = new DataOutputStream(httpPut.getOutputStream());
+            try {
+                response = transport.execute(request);
+            } catch (IOException e) {
+                if (Deadline.isCurrentExpired()) {
+                    DeadlineExceededException expired = new DeadlineExceededException("The deadline of the call has passed"); //No I18N
 
-		try{
+                    expired.initCause(e);
+                    throw expired;
+                }
+                if (isAborted()) {
+                    throw e;
+                }
+                if (policy == null || !policy.isRetryable(request, e, attempt)
+                        || (delay = policy.getDelay(attempt, null)) < 0 || !isBeforeDeadline(delay)) {
+                    // Reported like an error response, with the number of attempts and the I/O error as the cause.
+                    BooksException failed = new BooksException(0, "The request could not be completed: " + e.getMessage(), attempt); //No I18N
 
-            if (requestBody != null) {
-                Iterator<String> keyIterator = requestBody.keySet().iterator();
+                    failed.initCause(e);
+                    throw failed;
+                }
+                Thread.sleep(delay);
+                token = provider.getAccessToken();
+                continue;
+            }
 
-                while (keyIterator.hasNext()) {
-                    String key = keyIterator.next();
-                    String value = (String) requestBody.get(key);
+            if (limiter != null) {
+                limiter.update(request.getOrganizationId(), response);
+            }
+            response.setAttempts(attempt);
 
-                    requestParams.append(URLEncoder.encode(key, "UTF-8"));            //No I18N
-                    requestParams.append("=").append(URLEncoder.encode(value, "UTF-8"));    //No I18N
-                    requestParams.append("&");                        //No I18N
+            if (response.getStatus() == 401 && !refreshed && !isAborted()) {
+                String fresh;
 
+                try {
+                    fresh = provider.refresh(token);
+                } catch (Exception e) {
+                    // The 401 response holds a connection permit, which must be released whatever the refresh does.
+                    response.close();
+                    throw e;
                 }
 
-                dos.writeBytes(requestParams.toString());
-
+                refreshed = true;
+                if (fresh != null && !fresh.equals(token)) {
+                    response.close();
+                    token = fresh;
+                    continue;
+                }
+                return response;
             }
-        } catch (Exception e) {
-            throw new Exception();
-        } finally {
-            dos.flush();
-            dos.close();
-        }
 
-        String response = getResponse(httpPut);
+            if (policy == null || isAborted() || !policy.isRetryable(request, response.getStatus(), attempt)
+                    || (delay = policy.getDelay(attempt, response.getHeader("Retry-After"))) < 0 //No I18N
+                    || !isBeforeDeadline(delay)) {
+                return response;
+            }
 
-        return response;
+            response.close();
+            Thread.sleep(delay);
+            token = provider.getAccessToken();
+        }
     }
 
-
     /**
-     * Make a PUT request and update a resource for the given URL and a MultiPart form data.
-     *
-	* @param url Service URL passed by the user.
-
-	* @param queryMap This queryMap contains the query string parameters in the form of key, value pair.
+     * Check whether a retry after the given delay could still be sent before the deadline of the current thread.
+     */
 
-	* @param requestBody This requestBody contains the form data for the PUT request.
+    private static boolean isBeforeDeadline(long delay) {
+        Deadline deadline = Deadline.current();
 
-	* @param fileBody This fileBody contains the attachment files for the PUT request.
+        return deadline == null || deadline.getRemaining() > delay;
+    }
 
-	* @param accessToken The OAuth access token
-	 * @return Returns the JSON response String.
-	*/
+    private static boolean isAborted() {
+        AbortHandle handle = AbortHandle.current();
 
-    public static String put(String url, HashMap<String, Object> queryMap, HashMap<String, Object> requestBody, HashMap<String, Object> fileBody, String accessToken) throws Exception
-	{
+        return handle != null && handle.isAborted();
+    }
 
-		URL urlCon = new URL(url+formQueryString(queryMap));
+    private Reader readResponse(TransportResponse response) throws Exception {
+        if (response.getStatus() == 200 || response.getStatus() == 201) {
+            return new BufferedReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8), BUFFER_SIZE);
+        }
 
-  		String lineEnd = "\r\n";	//No I18N
-		String twoHyphens = "--";	//No I18N
-		String boundary = String.valueOf(System.currentTimeMillis());	//No I18N
+        try {
+            throw toException(response);
+        } finally {
+            response.close();
+        }
+    }
 
-		HashMap<String, Object> header = new HashMap<String, Object>();
+    private TransportResponse download(String url, HashMap<String, Object> queryMap) throws Exception {
+        TransportRequest request = newRequest("GET", url + formQueryString(queryMap)); //No I18N
 
-		header.put("Accept", "application/json");	//No I18N
-		header.put("Content-Type", "multipart/form-data; boundary="+ boundary);	//No I18N
-		header.put("Authorization", "Zoho-oauthtoken " + accessToken);
+        request.setHeader("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8"); //No I18N
 
-		HttpsURLConnection httpPut = getConnection(urlCon, "PUT", header);	//No I18N
+        TransportResponse response = execute(request);
 
-  		FileInputStream fStream = null;
+        if (response.getStatus() != 200) {
+            try {
+                throw toException(response);
+            } finally {
+                response.close();
+            }
+        }
 
-		DataOutputStream dos = new DataOutputStream(httpPut.getOutputStream());
+        return response;
+    }
 
-		try
-		{
+    /**
+     * get the name of the downloaded file from the Content-Disposition header.
+     * Only the last path element is kept, so that the file cannot be written outside the target directory.
+     */
 
-			if(requestBody != null)
-			{
-				Iterator<String> keyIterator = requestBody.keySet().iterator();
+    private static String getFileName(TransportResponse response) {
+        String header = response.getHeader("Content-Disposition"); //No I18N
 
-				while(keyIterator.hasNext())
-				{
-					String key = keyIterator.next();
+        String fileName = header.substring(header.indexOf("\"") + 1, header.lastIndexOf("\""));
 
-					dos.writeBytes(twoHyphens + boundary + lineEnd);
-					dos.writeBytes("Content-Disposition: form-data; name=\""+key+"\""+lineEnd+lineEnd+requestBody.get(key).toString()+lineEnd); //No I18N
-				}
+        return Paths.get(fileName).getFileName().toString();
+    }
 
-			}
-			if(fileBody != null)
-			{
-				Iterator<String> iterator = fileBody.keySet().iterator();
+    private static long copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long written = 0;
+        int length;
 
-				while(iterator.hasNext())
-				{
-					String key = iterator.next();
+        while ((length = in.read(buffer)) != -1) {
+            out.write(buffer, 0, length);
+            written += length;
+        }
 
-					if(fileBody.get(key) instanceof File)
-					{
+        return written;
+    }
 
-						dos.writeBytes(twoHyphens + boundary + lineEnd);
-						dos.writeBytes("Content-Disposition: form-data; name=\""+key+"\";filename=\"" + (File)fileBody.get(key) +"\"" + lineEnd); //No I18N
-						dos.writeBytes(lineEnd);
-						fStream = new FileInputStream((File)fileBody.get(key));
-						int bufferSize = 1024;
-						byte[] buffer = new byte[bufferSize];
-						int length = -1;
+    private static long copy(InputStream in, WritableByteChannel channel) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+        long written = 0;
+        int length;
 
-                        while ((length = fStream.read(buffer)) != -1) {
-                            dos.write(buffer, 0, length);
-                        }
-                        dos.writeBytes(lineEnd);
+        while ((length = in.read(buffer)) != -1) {
+            wrapped.clear().limit(length);
 
-                    }
-                }
+            while (wrapped.hasRemaining()) {
+                channel.write(wrapped);
             }
+            written += length;
+        }
 
-            dos.writeBytes(twoHyphens + boundary + twoHyphens + lineEnd);
+        return written;
+    }
 
-        } catch (Exception e) {
-            throw new Exception();
-        } finally {
-            if (fStream != null) {
-                fStream.close();
-            }
-            dos.flush();
-            dos.close();
-        }
+    private static BooksException toException(TransportResponse response) throws IOException {
+        String body = new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8);
 
-        String response = getResponse(httpPut);
+        try {
+            JSONObject resp = new JSONObject(body.trim());
 
-        return response;
+            return new BooksException(resp.getInt("code"), resp.getString("message"), response.getAttempts()); //No I18N
+        } catch (JSONException e) {
+            return new BooksException(response.getStatus(), body, response.getAttempts());
+        }
     }
 
 
     /**
-     * Make a DELETE request for the given URL and a query string.
+     * Make a GET request and fetch the response for the given URL and a query string.
      *
-	* @param url Service URL passed by the user.
+     * @param url         Service URL passed by the user.
+     * @param queryMap    This queryMap contains the query string parameters in the form of key, value pair.
+     * @param accessToken The OAuth access token
+     * @return Returns the JSON response String.
+     * @deprecated Use {@link #get(String, HashMap)} on an instance.
+     */
 
-	* @param queryMap This queryMap contains the query string parameters in the form of key, value pair.
+    @Deprecated
+    public static String get(String url, HashMap<String, Object> queryMap, String accessToken) throws Exception {
+        return Responses.read(new ZohoHTTPClient(getDefaultTransport(), accessToken).get(url, queryMap));
+    }
 
-	* @param accessToken The OAuth access token
-	 * @return Returns the JSON response String.
+    /**
+     * Make a GET request and fetch the file for the given URL and a query string.
+     *
+     * @param url      Service URL passed by the user.
+     * @param queryMap This queryMap contains the query string parameters in the form of key, value pair.
+     * @return Returns the File object, which is stored in the current working directory.
+     * @deprecated Use {@link #getFile(String, HashMap, Path)} on an instance.
+     */
 
-	*/
+    @Deprecated
+    public static File getFile(String url, HashMap<String, Object> queryMap) throws Exception {
+        return new ZohoHTTPClient().getFile(url, queryMap, Paths.get("")).toFile();
+    }
 
+    /**
+     * Make a POST request and create a resource for the given URL and a request body.
+     *
+     * @param url         Service URL passed by the user.
+     * @param requestBody This map contains the request body for the POST request.
+     * @param accessToken The OAuth access token
+     * @return Returns the JSON response String.
+     * @deprecated Use {@link #post(String, HashMap)} on an instance.
+     */
 
-	public static String delete(String url, HashMap<String, Object> queryMap, String accessToken) throws Exception
-	{
+    @Deprecated
+    public static String post(String url, HashMap<String, Object> requestBody, String accessToken) throws Exception {
+        return Responses.read(new ZohoHTTPClient(getDefaultTransport(), accessToken).post(url, requestBody));
+    }
 
-		URL urlCon = new URL(url+formQueryString(queryMap));
+    /**
+     * Make a POST request and create a resource for the given URL and a MultiPart form data.
+     *
+     * @param url         Service URL passed by the user.
+     * @param queryMap    This queryMap contains the query string parameters in the form of key, value pair.
+     * @param requestBody This requestBody contains the form data for the POST request.
+     * @param fileBody    This fileBody contains the attachments for the POST request, as File, Path or Attachment objects.
+     * @param accessToken The OAuth access token
+     * @return Returns the JSON response String.
+     * @deprecated Use {@link #post(String, HashMap, HashMap, HashMap)} on an instance.
+     */
 
-		HashMap<String, Object> header = new HashMap<String, Object>();
+    @Deprecated
+    public static String post(String url, HashMap<String, Object> queryMap, HashMap<String, Object> requestBody, HashMap<String, Object> fileBody, String accessToken) throws Exception {
+        return Responses.read(new ZohoHTTPClient(getDefaultTransport(), accessToken).post(url, queryMap, requestBody, fileBody));
+    }
 
-		header.put("Accept", "application/json");	//No I18N
-		header.put("Content-Type", "application/x-www-form-urlencoded");	//No I18N
-		header.put("Authorization", "Zoho-oauthtoken " + accessToken);
+    /**
+     * Make a PUT request and update a resource for the given URL and a request body.
+     *
+     * @param url         Service URL passed by the user.
+     * @param requestBody This requestBody contains the form data for the PUT request.
+     * @param accessToken The OAuth access token
+     * @return Returns the JSON response String.
+     * @deprecated Use {@link #put(String, HashMap)} on an instance.
+     */
 
-		HttpsURLConnection httpDelete = getConnection(urlCon, "DELETE", header);	//No I18N
+    @Deprecated
+    public static String put(String url, HashMap<String, Object> requestBody, String accessToken) throws Exception {
+        return Responses.read(new ZohoHTTPClient(getDefaultTransport(), accessToken).put(url, requestBody));
+    }
 
-		String response = getResponse(httpDelete);
+    /**
+     * Make a PUT request and update a resource for the given URL and a MultiPart form data.
+     *
+     * @param url         Service URL passed by the user.
+     * @param queryMap    This queryMap contains the query string parameters in the form of key, value pair.
+     * @param requestBody This requestBody contains the form data for the PUT request.
+     * @param fileBody    This fileBody contains the attachments for the PUT request, as File, Path or Attachment objects.
+     * @param accessToken The OAuth access token
+     * @return Returns the JSON response String.
+     * @deprecated Use {@link #put(String, HashMap, HashMap, HashMap)} on an instance.
+     */
+
+    @Deprecated
+    public static String put(String url, HashMap<String, Object> queryMap, HashMap<String, Object> requestBody, HashMap<String, Object> fileBody, String accessToken) throws Exception {
+        return Responses.read(new ZohoHTTPClient(getDefaultTransport(), accessToken).put(url, queryMap, requestBody, fileBody));
+    }
 
-		return response;
+    /**
+     * Make a DELETE request for the given URL and a query string.
+     *
+     * @param url         Service URL passed by the user.
+     * @param queryMap    This queryMap contains the query string parameters in the form of key, value pair.
+     * @param accessToken The OAuth access token
+     * @return Returns the JSON response String.
+     * @deprecated Use {@link #delete(String, HashMap)} on an instance.
+     */
 
+    @Deprecated
+    public static String delete(String url, HashMap<String, Object> queryMap, String accessToken) throws Exception {
+        return Responses.read(new ZohoHTTPClient(getDefaultTransport(), accessToken).delete(url, queryMap));
     }
 
+
     /**
      * Make a query string from the given queryMap.
      *
@@ -481,30 +845,12 @@ public class ZohoHTTPClient {
 
         int status = request.getResponseCode();
 
-        String line = "";
-        String responseLine = "";
-
-        BufferedReader br;
-
         if (status == 200 || status == 201) {
-            br = new BufferedReader(new InputStreamReader(request.getInputStream()));
-
-            while ((line = br.readLine()) != null) {
-                responseLine += line;
-            }
-
-            String resp = responseLine;
-
-            return resp;
+            return Responses.read(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
         } else {
-            br = new BufferedReader(new InputStreamReader(request.getErrorStream()));
-
-            while ((line = br.readLine()) != null) {
-                responseLine += line;
-            }
-
+            String response = Responses.read(new InputStreamReader(request.getErrorStream(), StandardCharsets.UTF_8));
 
-            JSONObject resp = new JSONObject(responseLine.trim());
+            JSONObject resp = new JSONObject(response.trim());
 
             throw new BooksException(resp.getInt("code"), resp.getString("message")); //No I18N
 
@@ -526,13 +872,6 @@ public class ZohoHTTPClient {
 
         int status = request.getResponseCode();
 
-        InputStream is = request.getInputStream();
-        String line = "";
-        String responseLine = "";
-        int inByte;
-
-        BufferedReader br;
-
         if (status == 200) {
 
             String header = request.getHeaderField("Content-Disposition"); //No I18N
@@ -545,17 +884,17 @@ public class ZohoHTTPClient {
 
             File file = new File(fileName);
 
+            InputStream is = request.getInputStream();
+
             FileOutputStream fos = new FileOutputStream(file);
 
 
             try {
-                while ((inByte = is.read()) != -1) {
-                    fos.write(inByte);
-                }
+                copy(is, fos);
 
 
             } catch (Exception e) {
-                throw new Exception();
+                throw new Exception("The attachment could not be saved to " + fileName, e); //No I18N
             } finally {
                 is.close();
                 fos.flush();
@@ -564,13 +903,9 @@ public class ZohoHTTPClient {
 
             return file;
         } else {
-            br = new BufferedReader(new InputStreamReader(request.getErrorStream()));
-
-            while ((line = br.readLine()) != null) {
-                responseLine += line;
-            }
+            String response = Responses.read(new InputStreamReader(request.getErrorStream(), StandardCharsets.UTF_8));
 
-            JSONObject resp = new JSONObject(responseLine.trim());
+            JSONObject resp = new JSONObject(response.trim());
 
             throw new BooksException(resp.getInt("code"), resp.getString("message")); //No I18N
         }
@@ -0,0 +1,203 @@
+/* $Id$ */
+
+package com.zoho.books.test;
+
+import com.zoho.books.exception.DeadlineExceededException;
+import com.zoho.books.transport.AdaptiveConcurrencyTransport;
+import com.zoho.books.transport.Deadline;
+import com.zoho.books.transport.TransportRequest;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AdaptiveConcurrencyTest is used to check that AdaptiveConcurrencyTransport keeps the requests in flight within its
+ * limit, grows the limit while the server answers quickly, and cuts it when the server slows down or throttles. The
+ * server is a StubTransport, and the test fails with an AssertionError on the first mismatch.
+ */
+
+public class AdaptiveConcurrencyTest
+{
+	private static final String URL = "https://www.zohoapis.com/books/v3/invoices";	//No I18N
+
+
+	public static void main(String[] args)throws Exception
+	{
+		bounded();
+		throttled();
+		timeouts();
+		slowdown();
+		deadline();
+
+		System.out.println("All adaptive concurrency checks passed.");	//No I18N
+	}
+
+	/**
+	 * No more requests than the limit are in flight at once, and the limit grows while the server keeps up.
+	 */
+
+	private static void bounded()throws Exception
+	{
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger peak = new AtomicInteger();
+		StubTransport server = new StubTransport((request, call) -> {
+			peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			Thread.sleep(10);
+			inFlight.decrementAndGet();
+			return StubTransport.response(200, "{}");	//No I18N
+		});
+		AdaptiveConcurrencyTransport transport = new AdaptiveConcurrencyTransport(server, 4, 1, 16);
+		List<FutureTask<Object>> workers = new ArrayList<FutureTask<Object>>();
+
+		for(int i = 0; i < 16; i++)
+		{
+			workers.add(start(() -> {
+				for(int j = 0; j < 25; j++)
+				{
+					transport.execute(new TransportRequest("GET", URL)).close();	//No I18N
+				}
+				return null;
+			}));
+		}
+		for(FutureTask<Object> worker : workers)
+		{
+			worker.get(30, TimeUnit.SECONDS);
+		}
+
+		check(peak.get() <= transport.getLimit(), peak.get() + " requests were in flight with a limit of " + transport.getLimit());	//No I18N
+		check(transport.getLimit() > 4, "The limit did not grow while the server kept up: " + transport.getLimit());	//No I18N
+		check(transport.getInFlight() == 0, transport.getInFlight() + " requests are still counted in flight");	//No I18N
+	}
+
+	/**
+	 * A 429 or 503 response cuts the limit by the backoff ratio.
+	 */
+
+	private static void throttled()throws Exception
+	{
+		StubTransport server = new StubTransport((request, call) -> StubTransport.response(call == 1 ? 429 : 503, "{}"));	//No I18N
+		AdaptiveConcurrencyTransport transport = new AdaptiveConcurrencyTransport(server, 8, 1, 16);
+
+		transport.execute(new TransportRequest("GET", URL)).close();	//No I18N
+		check(transport.getLimit() == 6, "The limit after a 429 response is " + transport.getLimit());	//No I18N
+
+		transport.execute(new TransportRequest("GET", URL)).close();	//No I18N
+		check(transport.getLimit() == 4, "The limit after a 503 response is " + transport.getLimit());	//No I18N
+	}
+
+	/**
+	 * A timeout cuts the limit, and another I/O error says nothing about the load.
+	 */
+
+	private static void timeouts()throws Exception
+	{
+		StubTransport server = new StubTransport((request, call) -> {
+			throw call == 1 ? new IOException("Connection reset") : new SocketTimeoutException("Read timed out");	//No I18N
+		});
+		AdaptiveConcurrencyTransport transport = new AdaptiveConcurrencyTransport(server, 8, 1, 16);
+
+		fail(transport);
+		check(transport.getLimit() == 8, "A reset connection changed the limit to " + transport.getLimit());	//No I18N
+
+		fail(transport);
+		check(transport.getLimit() == 6, "The limit after a timeout is " + transport.getLimit());	//No I18N
+		check(transport.getInFlight() == 0, "A failed request is still counted in flight");	//No I18N
+	}
+
+	/**
+	 * A response much slower than the fastest recent one cuts the limit.
+	 */
+
+	private static void slowdown()throws Exception
+	{
+		StubTransport server = new StubTransport((request, call) -> {
+			Thread.sleep(call <= 5 ? 5 : 100);
+			return StubTransport.response(200, "{}");	//No I18N
+		});
+		AdaptiveConcurrencyTransport transport = new AdaptiveConcurrencyTransport(server, 8, 1, 16);
+
+		for(int i = 0; i < 5; i++)
+		{
+			transport.execute(new TransportRequest("GET", URL)).close();	//No I18N
+		}
+		check(transport.getLimit() == 8, "Fast responses below the limit changed it to " + transport.getLimit());	//No I18N
+
+		transport.execute(new TransportRequest("GET", URL)).close();	//No I18N
+		check(transport.getLimit() == 6, "The limit after a slow response is " + transport.getLimit());	//No I18N
+	}
+
+	/**
+	 * A request that waits for a slot fails once its deadline passes.
+	 */
+
+	private static void deadline()throws Exception
+	{
+		CountDownLatch release = new CountDownLatch(1);
+		StubTransport server = new StubTransport((request, call) -> {
+			release.await();
+			return StubTransport.response(200, "{}");	//No I18N
+		});
+		AdaptiveConcurrencyTransport transport = new AdaptiveConcurrencyTransport(server, 1, 1, 1);
+		FutureTask<Object> first = start(() -> {
+			transport.execute(new TransportRequest("GET", URL)).close();	//No I18N
+			return null;
+		});
+
+		while(transport.getInFlight() == 0)
+		{
+			Thread.sleep(1);
+		}
+
+		try
+		{
+			Deadline.within(100, () -> transport.execute(new TransportRequest("GET", URL)));	//No I18N
+			check(false, "A request was sent beyond the limit");	//No I18N
+		}
+		catch(DeadlineExceededException e)
+		{
+			// The request gave up waiting for a slot.
+		}
+		release.countDown();
+		first.get(5, TimeUnit.SECONDS);
+		check(server.getCalls() == 1, "The request that ran out of time was sent");	//No I18N
+	}
+
+	private static void fail(AdaptiveConcurrencyTransport transport)
+	{
+		try
+		{
+			transport.execute(new TransportRequest("GET", URL));	//No I18N
+			check(false, "A failing request succeeded");	//No I18N
+		}
+		catch(Exception e)
+		{
+			// The failure is passed on to the caller.
+		}
+	}
+
+	private static <T> FutureTask<T> start(Callable<T> call)
+	{
+		FutureTask<T> task = new FutureTask<T>(call);
+		Thread thread = new Thread(task);
+
+		thread.setDaemon(true);
+		thread.start();
+
+		return task;
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if(!condition)
+		{
+			throw new AssertionError(message);
+		}
+	}
+}
@@ -0,0 +1,217 @@
+/* $Id$ */
+
+package com.zoho.books.test;
+
+import com.zoho.books.transport.CachedResponse;
+import com.zoho.books.transport.CachingTransport;
+import com.zoho.books.transport.TransportRequest;
+import com.zoho.books.transport.TransportResponse;
+import com.zoho.books.util.Responses;
+import com.zoho.books.util.ZohoHTTPClient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * CachingTransportTest is used to check that CachingTransport revalidates the GET responses it keeps with their
+ * ETag or Last-Modified header, and serves the kept body on 304 Not Modified. The server is a StubTransport, and the
+ * test fails with an AssertionError on the first mismatch.
+ */
+
+public class CachingTransportTest
+{
+	private static final String URL = "https://www.zohoapis.com/books/v3/settings/currencies";	//No I18N
+
+	private static final String FIRST = "{\"code\":0,\"currencies\":[{\"currency_code\":\"INR\"}]}";	//No I18N
+
+	private static final String SECOND = "{\"code\":0,\"currencies\":[{\"currency_code\":\"USD\"}]}";	//No I18N
+
+
+	public static void main(String[] args)throws Exception
+	{
+		etag();
+		changed();
+		lastModified();
+		tokens();
+		uncacheable();
+
+		System.out.println("All caching transport checks passed.");	//No I18N
+	}
+
+	/**
+	 * The second identical request is revalidated with If-None-Match, and the kept body is served on 304.
+	 */
+
+	private static void etag()throws Exception
+	{
+		Server server = new Server(FIRST, "ETag", "\"v1\"");	//No I18N
+		CachingTransport transport = new CachingTransport(server.transport);
+		ZohoHTTPClient client = client(transport, "token");	//No I18N
+
+		check(FIRST.equals(Responses.read(client.get(URL, null))), "The first response changed");	//No I18N
+		check(FIRST.equals(Responses.read(client.get(URL, null))), "The kept body changed");	//No I18N
+		check(server.transport.getCalls() == 2, "The second request was not sent to revalidate the body");	//No I18N
+		check(server.conditions.get(0).isEmpty(), "The first request was conditional");	//No I18N
+		check("If-None-Match: \"v1\"".equals(server.conditions.get(1)), "The second request was sent with " + server.conditions.get(1));	//No I18N
+		check(server.notModified == 1, "The server answered " + server.notModified + " requests with 304");	//No I18N
+
+		TransportRequest request = new TransportRequest("GET", URL);	//No I18N
+
+		request.setHeader("Authorization", "Zoho-oauthtoken token");	//No I18N
+
+		TransportResponse response = transport.execute(request);
+
+		check(response instanceof CachedResponse && ((CachedResponse) response).isRevalidated(), "A 304 response was not served from the cache");	//No I18N
+		check(response.getStatus() == 200, "A revalidated response has status " + response.getStatus());	//No I18N
+		check(FIRST.equals(body(response)), "The revalidated body changed");	//No I18N
+	}
+
+	/**
+	 * A changed resource is downloaded again and replaces the kept body.
+	 */
+
+	private static void changed()throws Exception
+	{
+		Server server = new Server(FIRST, "ETag", "\"v1\"");	//No I18N
+		ZohoHTTPClient client = client(new CachingTransport(server.transport), "token");	//No I18N
+
+		Responses.read(client.get(URL, null));
+		server.change(SECOND, "\"v2\"");	//No I18N
+
+		check(SECOND.equals(Responses.read(client.get(URL, null))), "A changed resource was served from the cache");	//No I18N
+		check(SECOND.equals(Responses.read(client.get(URL, null))), "The new body was not kept");	//No I18N
+		check("If-None-Match: \"v2\"".equals(server.conditions.get(2)), "The new body was revalidated with " + server.conditions.get(2));	//No I18N
+	}
+
+	/**
+	 * A response with only a Last-Modified header is revalidated with If-Modified-Since.
+	 */
+
+	private static void lastModified()throws Exception
+	{
+		Server server = new Server(FIRST, "Last-Modified", "Tue, 13 Oct 2026 10:00:00 GMT");	//No I18N
+		ZohoHTTPClient client = client(new CachingTransport(server.transport), "token");	//No I18N
+
+		Responses.read(client.get(URL, null));
+
+		check(FIRST.equals(Responses.read(client.get(URL, null))), "The kept body changed");	//No I18N
+		check("If-Modified-Since: Tue, 13 Oct 2026 10:00:00 GMT".equals(server.conditions.get(1)), "The second request was sent with " + server.conditions.get(1));	//No I18N
+	}
+
+	/**
+	 * A response is only reused for the same access token.
+	 */
+
+	private static void tokens()throws Exception
+	{
+		Server server = new Server(FIRST, "ETag", "\"v1\"");	//No I18N
+		CachingTransport transport = new CachingTransport(server.transport);
+
+		Responses.read(client(transport, "token").get(URL, null));	//No I18N
+		Responses.read(client(transport, "another token").get(URL, null));	//No I18N
+
+		check(server.conditions.get(1).isEmpty(), "The response kept for one token was revalidated for another");	//No I18N
+		check(transport.size() == 2, "The responses of two tokens made " + transport.size() + " entries");	//No I18N
+	}
+
+	/**
+	 * Responses without a validator, or marked no-store, are not kept.
+	 */
+
+	private static void uncacheable()throws Exception
+	{
+		Server plain = new Server(FIRST);
+		CachingTransport transport = new CachingTransport(plain.transport);
+
+		Responses.read(client(transport, "token").get(URL, null));	//No I18N
+		check(transport.size() == 0, "A response without a validator was kept");	//No I18N
+
+		Server noStore = new Server(FIRST, "ETag", "\"v1\"", "Cache-Control", "no-store");	//No I18N
+
+		transport = new CachingTransport(noStore.transport);
+		Responses.read(client(transport, "token").get(URL, null));	//No I18N
+		check(transport.size() == 0, "A no-store response was kept");	//No I18N
+	}
+
+	private static ZohoHTTPClient client(CachingTransport transport, String token)
+	{
+		ZohoHTTPClient client = new ZohoHTTPClient(transport, token, "1");	//No I18N
+
+		client.setRateLimiter(null);
+
+		return client;
+	}
+
+	private static String body(TransportResponse response)throws Exception
+	{
+		try
+		{
+			return new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8);
+		}
+		finally
+		{
+			response.close();
+		}
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if(!condition)
+		{
+			throw new AssertionError(message);
+		}
+	}
+
+
+	/**
+	 * A resource served with the given headers, which answers 304 when the request carries its ETag or
+	 * Last-Modified date.
+	 */
+
+	private static class Server
+	{
+		private volatile String body;
+		private volatile String[] headers;
+		private List<String> conditions = new CopyOnWriteArrayList<String>();
+		private volatile int notModified;
+		private StubTransport transport = new StubTransport(this::handle);
+
+
+		private Server(String body, String... headers)
+		{
+			this.body = body;
+			this.headers = headers;
+		}
+
+
+		private void change(String body, String etag)
+		{
+			this.body = body;
+			this.headers = new String[] {"ETag", etag};	//No I18N
+		}
+
+		private TransportResponse handle(TransportRequest request, int call)
+		{
+			String ifNoneMatch = request.getHeader("If-None-Match");	//No I18N
+			String ifModifiedSince = request.getHeader("If-Modified-Since");	//No I18N
+
+			conditions.add(ifNoneMatch != null ? "If-None-Match: " + ifNoneMatch	//No I18N
+					: ifModifiedSince != null ? "If-Modified-Since: " + ifModifiedSince : "");	//No I18N
+
+			String[] current = headers;
+
+			for(int i = 0; i < current.length; i += 2)
+			{
+				if((current[i].equals("ETag") && current[i + 1].equals(ifNoneMatch))	//No I18N
+						|| (current[i].equals("Last-Modified") && current[i + 1].equals(ifModifiedSince)))	//No I18N
+				{
+					notModified++;
+					return StubTransport.response(304, "");
+				}
+			}
+
+			return StubTransport.response(200, body, current);
+		}
+	}
+}
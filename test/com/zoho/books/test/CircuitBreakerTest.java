@@ -0,0 +1,267 @@
+/* $Id$ */
+
+package com.zoho.books.test;
+
+import com.zoho.books.exception.CircuitOpenException;
+import com.zoho.books.transport.AbortHandle;
+import com.zoho.books.transport.CircuitBreakerTransport;
+import com.zoho.books.transport.TransportRequest;
+import com.zoho.books.transport.TransportResponse;
+import com.zoho.books.util.RetryPolicy;
+import com.zoho.books.util.ZohoHTTPClient;
+
+import java.io.IOException;
+
+/**
+ * CircuitBreakerTest is used to check that CircuitBreakerTransport fails the requests to an endpoint at once after
+ * repeated failures, lets a single probe through once the open duration has passed, and leaves the other endpoints
+ * alone. The server is a StubTransport, and the test fails with an AssertionError on the first mismatch.
+ */
+
+public class CircuitBreakerTest
+{
+	private static final String INVOICE = "https://www.zohoapis.com/books/v3/invoices/460000000012345";	//No I18N
+
+	private static final String CONTACT = "https://www.zohoapis.com/books/v3/contacts/460000000067890";	//No I18N
+
+
+	public static void main(String[] args)throws Exception
+	{
+		opens();
+		consecutive();
+		probe();
+		aborted();
+		client();
+
+		System.out.println("All circuit breaker checks passed.");	//No I18N
+	}
+
+	/**
+	 * Consecutive failures open the circuit of the endpoint only, and its requests then fail without being sent.
+	 */
+
+	private static void opens()throws Exception
+	{
+		Server server = new Server();
+		CircuitBreakerTransport transport = breaker(server);
+
+		server.failing = true;
+		for(int i = 0; i < 3; i++)
+		{
+			send(transport, INVOICE);
+		}
+
+		check(transport.getOpenEndpoints().contains("/invoices/{id}"), "The circuit is not open: " + transport.getOpenEndpoints());	//No I18N
+		check(isOpen(transport, "https://www.zohoapis.com/books/v3/invoices/460000000099999"), "A request to an open endpoint was sent");	//No I18N
+		check(server.transport.getCalls() == 3, "The open endpoint was sent " + server.transport.getCalls() + " requests");	//No I18N
+
+		server.failing = false;
+		check(send(transport, CONTACT) == 200, "Another endpoint was affected by the open circuit");	//No I18N
+	}
+
+	/**
+	 * Only consecutive failures count.
+	 */
+
+	private static void consecutive()throws Exception
+	{
+		Server server = new Server();
+		CircuitBreakerTransport transport = breaker(server);
+
+		for(boolean failing : new boolean[] {true, true, false, true, true})
+		{
+			server.failing = failing;
+			send(transport, INVOICE);
+		}
+		check(transport.getOpenEndpoints().isEmpty(), "Failures separated by a success opened the circuit");	//No I18N
+	}
+
+	/**
+	 * Once the open duration has passed, one probe is sent. A failed probe opens the circuit again, and a
+	 * successful one closes it.
+	 */
+
+	private static void probe()throws Exception
+	{
+		Server server = new Server();
+		CircuitBreakerTransport transport = breaker(server);
+
+		server.failing = true;
+		for(int i = 0; i < 3; i++)
+		{
+			send(transport, INVOICE);
+		}
+		Thread.sleep(150);
+
+		send(transport, INVOICE);
+		check(server.transport.getCalls() == 4, "No probe was sent after the open duration");	//No I18N
+		check(isOpen(transport, INVOICE), "The circuit closed after a failed probe");	//No I18N
+
+		Thread.sleep(150);
+		server.failing = false;
+		server.delay = 100;
+
+		Thread probe = new Thread(() -> {
+			try
+			{
+				send(transport, INVOICE);
+			}
+			catch(Exception e)
+			{
+				throw new IllegalStateException(e);
+			}
+		});
+
+		probe.start();
+		Thread.sleep(30);
+		check(isOpen(transport, INVOICE), "A second request was sent while the probe was in flight");	//No I18N
+		probe.join();
+
+		server.delay = 0;
+		check(send(transport, INVOICE) == 200, "The circuit did not close after a successful probe");	//No I18N
+		check(transport.getOpenEndpoints().isEmpty(), "The circuit is still open");	//No I18N
+	}
+
+	/**
+	 * A request aborted by its caller says nothing about the endpoint.
+	 */
+
+	private static void aborted()throws Exception
+	{
+		Server server = new Server();
+		CircuitBreakerTransport transport = breaker(server);
+		AbortHandle handle = new AbortHandle();
+
+		handle.abort();
+		server.failing = true;
+		server.ioError = true;
+		AbortHandle.bind(handle);
+		try
+		{
+			for(int i = 0; i < 5; i++)
+			{
+				try
+				{
+					send(transport, INVOICE);
+				}
+				catch(IOException e)
+				{
+					// The request was aborted.
+				}
+			}
+		}
+		finally
+		{
+			AbortHandle.bind(null);
+		}
+		check(transport.getOpenEndpoints().isEmpty(), "Aborted requests opened the circuit");	//No I18N
+	}
+
+	/**
+	 * Through the client, an open circuit fails with a CircuitOpenException and is not retried.
+	 */
+
+	private static void client()throws Exception
+	{
+		Server server = new Server();
+		CircuitBreakerTransport transport = breaker(server);
+		RetryPolicy policy = new RetryPolicy();
+
+		policy.setInitialDelay(1);
+
+		ZohoHTTPClient client = new ZohoHTTPClient(transport, "token", "1");	//No I18N
+
+		client.setRateLimiter(null);
+		client.setRetryPolicy(policy);
+
+		server.failing = true;
+		server.ioError = true;
+		try
+		{
+			client.get(INVOICE, null);
+			check(false, "A failing request succeeded");	//No I18N
+		}
+		catch(Exception e)
+		{
+			// The request failed three times.
+		}
+
+		int sent = server.transport.getCalls();
+
+		try
+		{
+			client.get(INVOICE, null);
+			check(false, "A request to an open endpoint succeeded");	//No I18N
+		}
+		catch(CircuitOpenException e)
+		{
+			check(e.getCode() == 503 && e.getRetryAfter() > 0, "The open circuit reported " + e.getCode() + " and " + e.getRetryAfter());	//No I18N
+		}
+		check(server.transport.getCalls() == sent, "A request to an open endpoint was sent");	//No I18N
+	}
+
+	private static CircuitBreakerTransport breaker(Server server)
+	{
+		CircuitBreakerTransport transport = new CircuitBreakerTransport(server.transport);
+
+		transport.setFailureThreshold(3);
+		transport.setOpenDuration(100);
+
+		return transport;
+	}
+
+	private static int send(CircuitBreakerTransport transport, String url)throws Exception
+	{
+		TransportResponse response = transport.execute(new TransportRequest("GET", url));	//No I18N
+
+		response.close();
+
+		return response.getStatus();
+	}
+
+	private static boolean isOpen(CircuitBreakerTransport transport, String url)throws Exception
+	{
+		try
+		{
+			send(transport, url);
+			return false;
+		}
+		catch(CircuitOpenException e)
+		{
+			return true;
+		}
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if(!condition)
+		{
+			throw new AssertionError(message);
+		}
+	}
+
+
+	/**
+	 * A server that answers 503, or fails with an I/O error, while it is failing.
+	 */
+
+	private static class Server
+	{
+		private volatile boolean failing;
+		private volatile boolean ioError;
+		private volatile long delay;
+		private StubTransport transport = new StubTransport(this::handle);
+
+
+		private TransportResponse handle(TransportRequest request, int call)throws Exception
+		{
+			Thread.sleep(delay);
+			if(failing && ioError)
+			{
+				throw new IOException("Connection reset");	//No I18N
+			}
+
+			return StubTransport.response(failing ? 503 : 200, "{}");	//No I18N
+		}
+	}
+}
@@ -0,0 +1,252 @@
+/* $Id$ */
+
+package com.zoho.books.test;
+
+import com.zoho.books.exception.BooksException;
+import com.zoho.books.exception.DeadlineExceededException;
+import com.zoho.books.transport.Deadline;
+import com.zoho.books.util.AsyncCall;
+import com.zoho.books.util.OAuthTokenProvider;
+import com.zoho.books.util.Responses;
+import com.zoho.books.util.RetryPolicy;
+import com.zoho.books.util.ZohoHTTPClient;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DeadlineTest is used to check that a Deadline bounds the whole call: it reaches the transport and the asynchronous
+ * calls, cuts the waits for a response, a retry or a token refresh, and fails the call with a
+ * DeadlineExceededException once it has passed. The servers are StubTransports, and the test fails with an
+ * AssertionError on the first mismatch.
+ */
+
+public class DeadlineTest
+{
+	private static final String URL = "https://www.zohoapis.com/books/v3/invoices";	//No I18N
+
+
+	public static void main(String[] args)throws Exception
+	{
+		nesting();
+		bound();
+		propagation();
+		slowResponse();
+		retries();
+		tokenRefresh();
+
+		System.out.println("All deadline checks passed.");	//No I18N
+	}
+
+	/**
+	 * A nested call keeps the earlier deadline, and the previous deadline is bound again when it returns.
+	 */
+
+	private static void nesting()throws Exception
+	{
+		long inner = Deadline.within(200, () -> Deadline.within(5000, () -> Deadline.current().getRemaining()));
+		long shorter = Deadline.within(5000, () -> Deadline.within(200, () -> Deadline.current().getRemaining()));
+
+		check(inner <= 200, "A nested call extended the deadline to " + inner + " ms");	//No I18N
+		check(shorter <= 200, "A nested call did not shorten the deadline: " + shorter + " ms");	//No I18N
+		check(Deadline.current() == null, "The deadline is still bound after the call");	//No I18N
+	}
+
+	/**
+	 * A timeout is cut to the time left, and is refused once the deadline has passed.
+	 */
+
+	private static void bound()throws Exception
+	{
+		check(Deadline.bound(5000) == 5000, "A timeout was cut without a deadline");	//No I18N
+
+		long cut = Deadline.within(200, () -> Deadline.bound(5000));
+		long infinite = Deadline.within(200, () -> Deadline.bound(0));
+
+		check(cut > 0 && cut <= 200, "A timeout of 5000 ms was cut to " + cut + " ms");	//No I18N
+		check(infinite > 0 && infinite <= 200, "An infinite timeout was cut to " + infinite + " ms");	//No I18N
+
+		try
+		{
+			Deadline.within(10, () -> {
+				Thread.sleep(30);
+				return Deadline.bound(5000);
+			});
+			check(false, "A timeout was given after the deadline");	//No I18N
+		}
+		catch(DeadlineExceededException e)
+		{
+			check(e.getCode() == 408, "A passed deadline reported " + e.getCode());	//No I18N
+		}
+	}
+
+	/**
+	 * The deadline of the call reaches the transport, also when the call runs asynchronously.
+	 */
+
+	private static void propagation()throws Exception
+	{
+		AtomicLong remaining = new AtomicLong(-1);
+		StubTransport server = new StubTransport((request, call) -> {
+			Deadline deadline = Deadline.current();
+
+			remaining.set(deadline == null ? Long.MAX_VALUE : deadline.getRemaining());
+
+			return StubTransport.response(200, "{\"code\":0}");	//No I18N
+		});
+		ZohoHTTPClient client = client(server, null);
+
+		Deadline.within(500, () -> Responses.read(client.get(URL, null)));
+		check(remaining.get() > 0 && remaining.get() <= 500, "The transport saw " + remaining.get() + " ms left");	//No I18N
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try
+		{
+			remaining.set(-1);
+
+			CompletableFuture<String> future = Deadline.within(500, () -> AsyncCall.submit(executor, () -> Responses.read(client.get(URL, null))));
+
+			future.get(5, TimeUnit.SECONDS);
+			check(remaining.get() > 0 && remaining.get() <= 500, "The transport of an asynchronous call saw " + remaining.get() + " ms left");	//No I18N
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * A request that fails after the deadline has passed is reported as a DeadlineExceededException and is not
+	 * sent again.
+	 */
+
+	private static void slowResponse()throws Exception
+	{
+		StubTransport server = new StubTransport((request, call) -> {
+			Thread.sleep(150);
+			throw new IOException("Read timed out");	//No I18N
+		});
+		ZohoHTTPClient client = client(server, policy(1));
+
+		try
+		{
+			Deadline.within(100, () -> client.get(URL, null));
+			check(false, "A request that ran out of time succeeded");	//No I18N
+		}
+		catch(DeadlineExceededException e)
+		{
+			check(e.getCause() instanceof IOException, "The I/O error is not the cause: " + e.getCause());	//No I18N
+		}
+		check(server.getCalls() == 1, "A request was sent " + server.getCalls() + " times after its deadline");	//No I18N
+	}
+
+	/**
+	 * A retry that could not be sent before the deadline is not waited for.
+	 */
+
+	private static void retries()throws Exception
+	{
+		StubTransport server = new StubTransport((request, call) -> StubTransport.response(503, "{\"code\":1,\"message\":\"Service unavailable\"}"));	//No I18N
+		ZohoHTTPClient client = client(server, policy(1000));
+		long started = System.nanoTime();
+
+		try
+		{
+			Deadline.within(300, () -> client.get(URL, null));
+			check(false, "A 503 response succeeded");	//No I18N
+		}
+		catch(BooksException e)
+		{
+			check(e.getAttempts() == 1, "The 503 response was reported after " + e.getAttempts() + " attempts");	//No I18N
+		}
+
+		long waited = (System.nanoTime() - started) / 1000000;
+
+		check(server.getCalls() == 1, "A retry was sent past the deadline");	//No I18N
+		check(waited < 300, "The call waited " + waited + " ms for a retry past its deadline");	//No I18N
+	}
+
+	/**
+	 * A request waiting for another thread to refresh the access token gives up at its deadline, and the refresh
+	 * goes on for the others.
+	 */
+
+	private static void tokenRefresh()throws Exception
+	{
+		StubTransport accounts = new StubTransport((request, call) -> {
+			Thread.sleep(500);
+			return StubTransport.response(200, "{\"access_token\":\"token1\",\"expires_in\":3600}");	//No I18N
+		});
+		OAuthTokenProvider provider = new OAuthTokenProvider("client", "secret", "refresh", OAuthTokenProvider.ACCOUNTS_URL, accounts);	//No I18N
+		FutureTask<String> refresh = start(provider::getAccessToken);
+
+		while(accounts.getCalls() == 0)
+		{
+			Thread.sleep(1);
+		}
+
+		long started = System.nanoTime();
+
+		try
+		{
+			Deadline.within(100, provider::getAccessToken);
+			check(false, "A token was returned after the deadline");	//No I18N
+		}
+		catch(DeadlineExceededException e)
+		{
+			// The waiter gave up at its deadline.
+		}
+
+		long waited = (System.nanoTime() - started) / 1000000;
+
+		check(waited < 400, "The waiter took " + waited + " ms to give up");	//No I18N
+		check("token1".equals(refresh.get(5, TimeUnit.SECONDS)), "The refresh did not complete for the other thread");	//No I18N
+		check(accounts.getCalls() == 1, "The token was refreshed " + accounts.getCalls() + " times");	//No I18N
+	}
+
+	private static ZohoHTTPClient client(StubTransport server, RetryPolicy policy)
+	{
+		ZohoHTTPClient client = new ZohoHTTPClient(server, "token", "1");	//No I18N
+
+		client.setRateLimiter(null);
+		client.setRetryPolicy(policy);
+
+		return client;
+	}
+
+	private static RetryPolicy policy(long initialDelay)
+	{
+		RetryPolicy policy = new RetryPolicy();
+
+		policy.setInitialDelay(initialDelay);
+		policy.setMaxDelay(initialDelay);
+
+		return policy;
+	}
+
+	private static <T> FutureTask<T> start(Callable<T> call)
+	{
+		FutureTask<T> task = new FutureTask<T>(call);
+		Thread thread = new Thread(task);
+
+		thread.setDaemon(true);
+		thread.start();
+
+		return task;
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if(!condition)
+		{
+			throw new AssertionError(message);
+		}
+	}
+}
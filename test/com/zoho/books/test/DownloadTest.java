@@ -0,0 +1,248 @@
+/* $Id$ */
+
+package com.zoho.books.test;
+
+import com.zoho.books.exception.BooksException;
+import com.zoho.books.transport.TransportResponse;
+import com.zoho.books.util.ZohoHTTPClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DownloadTest is used to check that ZohoHTTPClient streams attachments to a stream, a file or a channel without
+ * holding them in memory, and releases the response. The files are served by a StubTransport, and the test fails
+ * with an AssertionError on the first mismatch.
+ */
+
+public class DownloadTest
+{
+	private static final String URL = "https://www.zohoapis.com/books/v3/invoices/460000000012345/attachment";	//No I18N
+
+	private static final int SIZE = 4 * 1024 * 1024;
+
+
+	public static void main(String[] args)throws Exception
+	{
+		toStream();
+		toDirectory();
+		toChannel();
+		errors();
+
+		System.out.println("All download checks passed.");	//No I18N
+	}
+
+	/**
+	 * The file is written to the stream while it is still arriving, and the response is closed afterwards.
+	 */
+
+	private static void toStream()throws Exception
+	{
+		final PatternStream body = new PatternStream(SIZE);
+		StubTransport transport = new StubTransport((request, call) -> response(200, body));
+		final long[] arrivedAtFirstWrite = {-1};
+		final long[] written = {0};
+
+		OutputStream out = new OutputStream()
+		{
+			public void write(int b)
+			{
+				write(new byte[] {(byte) b}, 0, 1);
+			}
+
+			public void write(byte[] bytes, int offset, int length)
+			{
+				if(arrivedAtFirstWrite[0] < 0)
+				{
+					arrivedAtFirstWrite[0] = body.position;
+				}
+				for(int i = 0; i < length; i++)
+				{
+					check(bytes[offset + i] == PatternStream.at(written[0] + i), "Byte " + (written[0] + i) + " changed");	//No I18N
+				}
+				written[0] += length;
+			}
+		};
+
+		long count = client(transport).getFile(URL, null, out);
+
+		check(count == SIZE && written[0] == SIZE, "Wrote " + written[0] + " bytes and reported " + count + " instead of " + SIZE);	//No I18N
+		check(arrivedAtFirstWrite[0] < SIZE, "The file was read to its end before anything was written");	//No I18N
+		check(body.closed, "The response was not closed");	//No I18N
+	}
+
+	/**
+	 * A file written to a directory takes the name the server sends, without leaving the directory.
+	 */
+
+	private static void toDirectory()throws Exception
+	{
+		Path directory = Files.createTempDirectory("download");	//No I18N
+		PatternStream body = new PatternStream(100000);
+		StubTransport transport = new StubTransport((request, call) -> response(200, body, "Content-Disposition", "attachment; filename=\"../receipt.pdf\""));	//No I18N
+
+		try
+		{
+			Path file = client(transport).getFile(URL, null, directory);
+
+			check(directory.resolve("receipt.pdf").equals(file), "The file was written to " + file);	//No I18N
+			check(Files.size(file) == 100000, "The file has " + Files.size(file) + " bytes");	//No I18N
+			check(Files.readAllBytes(file)[99999] == PatternStream.at(99999), "The file content changed");	//No I18N
+			check(body.closed, "The response was not closed");	//No I18N
+		}
+		finally
+		{
+			Files.deleteIfExists(directory.resolve("receipt.pdf"));	//No I18N
+			Files.delete(directory);
+		}
+	}
+
+	/**
+	 * A FileChannel is written from its current position, which is moved past the file.
+	 */
+
+	private static void toChannel()throws Exception
+	{
+		Path path = Files.createTempFile("download", ".bin");	//No I18N
+		StubTransport transport = new StubTransport((request, call) -> response(200, new PatternStream(SIZE)));
+
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.READ))
+		{
+			channel.write(ByteBuffer.wrap("header".getBytes(StandardCharsets.US_ASCII)));	//No I18N
+
+			long count = client(transport).getFile(URL, null, channel);
+
+			check(count == SIZE, "The channel was written " + count + " bytes");	//No I18N
+			check(channel.position() == 6 + SIZE, "The channel was left at " + channel.position());	//No I18N
+			check(channel.size() == 6 + SIZE, "The file has " + channel.size() + " bytes");	//No I18N
+
+			ByteBuffer last = ByteBuffer.allocate(1);
+
+			channel.read(last, 6 + SIZE - 1);
+			check(last.get(0) == PatternStream.at(SIZE - 1), "The file content changed");	//No I18N
+		}
+		finally
+		{
+			Files.delete(path);
+		}
+	}
+
+	/**
+	 * An error response fails with its code and message instead of being written as the file.
+	 */
+
+	private static void errors()throws Exception
+	{
+		StubTransport transport = new StubTransport((request, call) -> StubTransport.response(404, "{\"code\":1002,\"message\":\"Attachment does not exist.\"}"));	//No I18N
+		OutputStream out = new OutputStream()
+		{
+			public void write(int b)
+			{
+				check(false, "The error response was written as the file");	//No I18N
+			}
+		};
+
+		try
+		{
+			client(transport).getFile(URL, null, out);
+			check(false, "A 404 response was downloaded");	//No I18N
+		}
+		catch(BooksException e)
+		{
+			check(e.getCode() == 1002, "The error code was " + e.getCode());	//No I18N
+			check("Attachment does not exist.".equals(e.getMessage()), "The error message was " + e.getMessage());	//No I18N
+		}
+	}
+
+	private static TransportResponse response(int status, InputStream body, String... headers)
+	{
+		Map<String, List<String>> map = new HashMap<String, List<String>>();
+
+		for(int i = 0; i < headers.length; i += 2)
+		{
+			map.put(headers[i], Collections.singletonList(headers[i + 1]));
+		}
+
+		return new TransportResponse(status, map, body);
+	}
+
+	private static ZohoHTTPClient client(StubTransport transport)
+	{
+		ZohoHTTPClient client = new ZohoHTTPClient(transport, "token", "1");	//No I18N
+
+		client.setRateLimiter(null);
+
+		return client;
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if(!condition)
+		{
+			throw new AssertionError(message);
+		}
+	}
+
+
+	/**
+	 * A response body of the given size, made as it is read, that tells how far it has been read.
+	 */
+
+	private static class PatternStream extends InputStream
+	{
+		private long size;
+		private volatile long position;
+		private volatile boolean closed;
+
+
+		private PatternStream(long size)
+		{
+			this.size = size;
+		}
+
+
+		private static byte at(long index)
+		{
+			return (byte) (index * 31 + (index >> 8));
+		}
+
+		public int read()
+		{
+			return position < size ? at(position++) & 0xff : -1;
+		}
+
+		public int read(byte[] bytes, int offset, int length)
+		{
+			if(position >= size)
+			{
+				return -1;
+			}
+
+			int count = (int) Math.min(length, size - position);
+
+			for(int i = 0; i < count; i++)
+			{
+				bytes[offset + i] = at(position + i);
+			}
+			position += count;
+
+			return count;
+		}
+
+		public void close()throws IOException
+		{
+			closed = true;
+		}
+	}
+}
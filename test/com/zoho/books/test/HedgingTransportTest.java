@@ -0,0 +1,240 @@
+/* $Id$ */
+
+package com.zoho.books.test;
+
+import com.zoho.books.transport.AbortHandle;
+import com.zoho.books.transport.FormBody;
+import com.zoho.books.transport.HedgingTransport;
+import com.zoho.books.transport.Priority;
+import com.zoho.books.transport.TransportRequest;
+import com.zoho.books.transport.TransportResponse;
+import com.zoho.books.util.RateLimiter;
+import com.zoho.books.util.Responses;
+import com.zoho.books.util.ZohoHTTPClient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+
+/**
+ * HedgingTransportTest is used to check that HedgingTransport sends a second copy of a slow GET request, takes the
+ * first answer, and stays within its budget and the rate limit of the client. The server is a StubTransport, and
+ * the test fails with an AssertionError on the first mismatch.
+ */
+
+public class HedgingTransportTest
+{
+	private static final String URL = "https://www.zohoapis.com/books/v3/items";	//No I18N
+
+
+	public static void main(String[] args)throws Exception
+	{
+		hedged();
+		budget();
+		permit();
+		rateLimit();
+		otherMethods();
+
+		System.out.println("All hedging transport checks passed.");	//No I18N
+	}
+
+	/**
+	 * A request slower than the hedge delay is answered by its hedge, and the slow request is aborted.
+	 */
+
+	private static void hedged()throws Exception
+	{
+		StubTransport server = new StubTransport((request, call) -> call == 1 ? stall(2000) : StubTransport.response(200, "hedge"));	//No I18N
+		HedgingTransport transport = hedging(server, 1);
+
+		long started = System.nanoTime();
+		String body = body(transport.execute(new TransportRequest("GET", URL)));	//No I18N
+		long waited = (System.nanoTime() - started) / 1000000;
+
+		check("hedge".equals(body), "The response of the slow request was returned: " + body);	//No I18N
+		check(waited < 1000, "The hedged request took " + waited + " ms");	//No I18N
+		check(transport.getHedgeCount() == 1, transport.getHedgeCount() + " hedges were sent");	//No I18N
+		check(server.getCalls() == 2, "The request was sent " + server.getCalls() + " times");	//No I18N
+		transport.close();
+	}
+
+	/**
+	 * No more requests are hedged than the budget allows.
+	 */
+
+	private static void budget()throws Exception
+	{
+		StubTransport server = new StubTransport((request, call) -> {
+			Thread.sleep(40);
+			return StubTransport.response(200, "slow");	//No I18N
+		});
+		HedgingTransport transport = hedging(server, 0.1);
+
+		for(int i = 0; i < 30; i++)
+		{
+			body(transport.execute(new TransportRequest("GET", URL)));	//No I18N
+		}
+		check(transport.getHedgeCount() >= 2 && transport.getHedgeCount() <= 3, "A budget of 0.1 hedged " + transport.getHedgeCount() + " of 30 requests");	//No I18N
+		transport.close();
+	}
+
+	/**
+	 * A hedge is not sent without a copy permit, and its budget is kept for a later request.
+	 */
+
+	private static void permit()throws Exception
+	{
+		StubTransport server = new StubTransport((request, call) -> {
+			Thread.sleep(60);
+			return StubTransport.response(200, "slow");	//No I18N
+		});
+		HedgingTransport transport = hedging(server, 0.5);
+		boolean[] allowed = {false};
+
+		for(int i = 0; i < 4; i++)
+		{
+			TransportRequest request = new TransportRequest("GET", URL);	//No I18N
+
+			request.setCopyPermit(() -> allowed[0]);
+			body(transport.execute(request));
+		}
+		check(transport.getHedgeCount() == 0, "A hedge was sent without a permit");	//No I18N
+
+		allowed[0] = true;
+
+		TransportRequest request = new TransportRequest("GET", URL);	//No I18N
+
+		request.setCopyPermit(() -> allowed[0]);
+		body(transport.execute(request));
+		check(transport.getHedgeCount() == 1, "The budget of the refused hedges was lost");	//No I18N
+		transport.close();
+	}
+
+	/**
+	 * Through the client, a hedge takes a token of the rate limiter, and is skipped when only the interactive
+	 * reserve is left.
+	 */
+
+	private static void rateLimit()throws Exception
+	{
+		StubTransport server = new StubTransport((request, call) -> {
+			Thread.sleep(60);
+			return StubTransport.response(200, "{\"code\":0}");	//No I18N
+		});
+		HedgingTransport transport = hedging(server, 1);
+		RateLimiter limiter = new RateLimiter(1, 5);
+
+		Responses.read(client(transport, limiter).get(URL, null));
+
+		int left = tokens(limiter);
+
+		check(transport.getHedgeCount() == 1, "The request was not hedged");	//No I18N
+		check(left == 3, "The request and its hedge left " + left + " of 5 tokens");	//No I18N
+
+		RateLimiter tight = new RateLimiter(1, 2);
+
+		Responses.read(client(transport, tight).get(URL, null));
+
+		check(transport.getHedgeCount() == 1, "A hedge took the interactive reserve");	//No I18N
+		check(tokens(tight) == 1, "The interactive reserve was used");	//No I18N
+		transport.close();
+	}
+
+	/**
+	 * Requests other than GET are sent once.
+	 */
+
+	private static void otherMethods()throws Exception
+	{
+		StubTransport server = new StubTransport((request, call) -> {
+			Thread.sleep(60);
+			return StubTransport.response(201, "created");	//No I18N
+		});
+		HedgingTransport transport = hedging(server, 1);
+		TransportRequest request = new TransportRequest("POST", URL);	//No I18N
+
+		request.setBody(new FormBody(new HashMap<String, Object>()));
+		body(transport.execute(request));
+
+		check(transport.getHedgeCount() == 0 && server.getCalls() == 1, "A POST request was hedged");	//No I18N
+		transport.close();
+	}
+
+	/**
+	 * Answer after the given time, or fail as soon as the request is aborted.
+	 */
+
+	private static TransportResponse stall(long millis)throws Exception
+	{
+		AbortHandle handle = AbortHandle.current();
+		long until = System.currentTimeMillis() + millis;
+
+		while(System.currentTimeMillis() < until)
+		{
+			if(handle != null && handle.isAborted())
+			{
+				throw new IOException("The request was aborted");	//No I18N
+			}
+			Thread.sleep(5);
+		}
+
+		return StubTransport.response(200, "slow");	//No I18N
+	}
+
+	private static HedgingTransport hedging(StubTransport server, double budget)
+	{
+		HedgingTransport transport = new HedgingTransport(server);
+
+		transport.setBudget(budget);
+		transport.setMinDelay(10);
+		transport.setInitialDelay(20);
+
+		return transport;
+	}
+
+	private static ZohoHTTPClient client(HedgingTransport transport, RateLimiter limiter)
+	{
+		ZohoHTTPClient client = new ZohoHTTPClient(transport, "token", "1");	//No I18N
+
+		client.setRateLimiter(limiter);
+		client.setRetryPolicy(null);
+
+		return client;
+	}
+
+	/**
+	 * Take the tokens left for interactive requests of the organization.
+	 */
+
+	private static int tokens(RateLimiter limiter)
+	{
+		int count = 0;
+
+		while(limiter.tryAcquire("1", Priority.INTERACTIVE))	//No I18N
+		{
+			count++;
+		}
+
+		return count;
+	}
+
+	private static String body(TransportResponse response)throws Exception
+	{
+		try
+		{
+			return new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8);
+		}
+		finally
+		{
+			response.close();
+		}
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if(!condition)
+		{
+			throw new AssertionError(message);
+		}
+	}
+}
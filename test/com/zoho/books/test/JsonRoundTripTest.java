@@ -0,0 +1,378 @@
+/* $Id$ */
+
+package com.zoho.books.test;
+
+import com.zoho.books.util.JsonFormBody;
+import com.zoho.books.util.JsonReader;
+import com.zoho.books.util.JsonWriter;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JsonRoundTripTest is used to check that what JsonWriter and JsonFormBody write is read back the same by
+ * JsonReader and by org.json. It needs no organization, and fails with an AssertionError on the first mismatch.
+ */
+
+public class JsonRoundTripTest
+{
+	private static final String[] STRINGS = {
+		"",
+		"plain text",	//No I18N
+		"quote \" backslash \\ slash /",	//No I18N
+		"controls \b \f \n \r \t \u0000 \u0001 \u001f \u007f",	//No I18N
+		"separators \u2028 \u2029",	//No I18N
+		"latin \u00e9\u00fc\u00df, cjk \u4e2d\u6587, rupee \u20b9",	//No I18N
+		"surrogate pair \ud83d\ude00 and \ud834\udd1e",	//No I18N
+		"\ud83d\ude00\ud83d\ude00",
+		"form characters & = + % ? # ~ * . - _",	//No I18N
+		"null"	//No I18N
+	};
+
+	private static final long[] LONGS = {
+		0, 1, -1, 42, -42, Integer.MAX_VALUE, Integer.MIN_VALUE, 999999999999999L, -999999999999999L,
+		Long.MAX_VALUE, Long.MIN_VALUE
+	};
+
+	private static final double[] DOUBLES = {
+		0.0, 0.5, -0.5, 1.25, -1.25, 123.456, -123.456, 0.1, 1e-7, -1.5e-7, 1e15, -1e15, 1e21, 1.7976931348623157e308,
+		-1.7976931348623157e308, 4.9e-324, 123456789012.34567
+	};
+
+
+	public static void main(String[] args)throws Exception
+	{
+		escapes();
+		surrogates();
+		numbers();
+		nulls();
+		nesting();
+		projection();
+		capture();
+		form();
+
+		System.out.println("All JSON round trips passed.");	//No I18N
+	}
+
+	/**
+	 * Strings with characters that must be escaped are read back unchanged, and org.json reads them the same.
+	 */
+
+	private static void escapes()throws Exception
+	{
+		for(String value : STRINGS)
+		{
+			String json = JsonWriter.toString(writer -> writer.beginObject().name("value").value(value).endObject());	//No I18N
+
+			check(value.equals(readValue(json)), "JsonReader changed " + json);	//No I18N
+			check(value.equals(new JSONObject(json).getString("value")), "org.json read " + json + " differently");	//No I18N
+
+			String written = new JSONObject().put("value", value).toString();	//No I18N
+
+			check(value.equals(readValue(written)), "JsonReader read the org.json text " + written + " differently");	//No I18N
+		}
+
+		check("\u00e9\t\"/".equals(readValue("{\"value\":\"\\u00E9\\t\\\"\\/\"}")), "escapes were not decoded");	//No I18N
+	}
+
+	/**
+	 * Characters outside the basic plane are kept as their surrogate pairs, whether written raw or as escapes.
+	 */
+
+	private static void surrogates()throws Exception
+	{
+		String emoji = "\ud83d\ude00";
+
+		check(emoji.equals(readValue("{\"value\":\"\\ud83d\\ude00\"}")), "an escaped surrogate pair was not decoded");	//No I18N
+		check(emoji.equals(readValue("{\"value\":\"" + emoji + "\"}")), "a raw surrogate pair was not read");	//No I18N
+
+		StringBuilder text = new StringBuilder();
+
+		for(int i = 0; i < 20000; i++)
+		{
+			text.append(emoji).append((char) ('a' + i % 26));
+		}
+
+		String value = text.toString();
+		String json = JsonWriter.toString(writer -> writer.beginObject().name("value").value(value).endObject());	//No I18N
+
+		check(value.equals(readValue(json)), "surrogate pairs across buffer ends were not read back");	//No I18N
+	}
+
+	/**
+	 * Whole numbers keep every digit, and fractions read back as the same double, as org.json reads them.
+	 */
+
+	private static void numbers()throws Exception
+	{
+		for(long value : LONGS)
+		{
+			String json = JsonWriter.toString(writer -> writer.beginObject().name("value").value(value).endObject());	//No I18N
+			JsonReader reader = open(json);
+
+			check(reader.nextLong() == value, "long " + value + " was written as " + json);	//No I18N
+			reader.close();
+			check(new JSONObject(json).getLong("value") == value, "org.json read " + json + " differently");	//No I18N
+		}
+
+		for(double value : DOUBLES)
+		{
+			String json = JsonWriter.toString(writer -> writer.beginObject().name("value").value(value).endObject());	//No I18N
+			JsonReader reader = open(json);
+
+			check(reader.nextDouble() == value, "double " + value + " was written as " + json);	//No I18N
+			reader.close();
+			check(new JSONObject(json).getDouble("value") == value, "org.json read " + json + " differently");	//No I18N
+		}
+
+		String[] texts = {"1E+2", "-1e-2", "2.50", "-0", "12345678901234567890"};	//No I18N
+		double[] expected = {100, -0.01, 2.5, -0.0, 12345678901234567890.0};
+
+		for(int i = 0; i < texts.length; i++)
+		{
+			JsonReader reader = open("{\"value\":" + texts[i] + "}");	//No I18N
+
+			check(reader.nextDouble() == expected[i], "the number " + texts[i] + " was not read");	//No I18N
+			reader.close();
+		}
+
+		JsonReader reader = open("{\"value\":\"-17\"}");	//No I18N
+
+		check(reader.nextInt() == -17, "a number in a string was not read");	//No I18N
+		reader.close();
+	}
+
+	/**
+	 * A null in an object is left out with its name, a null in an array is kept, and a null is read as a null string.
+	 */
+
+	private static void nulls()throws Exception
+	{
+		String json = JsonWriter.toString(writer -> writer.beginObject()
+				.name("a").value((String) null)	//No I18N
+				.name("b").nullValue()	//No I18N
+				.name("c").beginArray().nullValue().value("x").nullValue().endArray()	//No I18N
+				.endObject());
+
+		check(json.equals("{\"c\":[null,\"x\",null]}"), "nulls were written as " + json);	//No I18N
+
+		JsonReader reader = open("{\"value\":null}");	//No I18N
+
+		check(reader.nextString() == null, "a null was not read as a null string");	//No I18N
+		reader.close();
+
+		JSONArray array = new JSONObject(json).getJSONArray("c");	//No I18N
+
+		check(array.length() == 3 && array.isNull(0) && array.isNull(2), "org.json read " + json + " differently");	//No I18N
+	}
+
+	/**
+	 * Deeply nested objects and arrays are written, read and skipped whole.
+	 */
+
+	private static void nesting()throws Exception
+	{
+		final int levels = 200;
+
+		String json = JsonWriter.toString(writer -> {
+			writer.beginObject();
+			for(int i = 0; i < levels; i++)
+			{
+				writer.name("level" + i).beginArray().beginObject();	//No I18N
+			}
+			writer.name("leaf").value("bottom");	//No I18N
+			for(int i = 0; i < levels; i++)
+			{
+				writer.endObject().endArray();
+			}
+			writer.name("after").value(true).endObject();	//No I18N
+		});
+
+		JsonReader reader = new JsonReader(new StringReader(json));
+
+		reader.beginObject();
+		for(int i = 0; i < levels; i++)
+		{
+			check(reader.nextName().equals("level" + i), "level " + i + " was not read");	//No I18N
+			reader.beginArray();
+			reader.beginObject();
+		}
+		check(reader.nextName().equals("leaf") && reader.nextString().equals("bottom"), "the leaf was not read");	//No I18N
+		for(int i = 0; i < levels; i++)
+		{
+			reader.endObject();
+			reader.endArray();
+		}
+		check(reader.nextName().equals("after") && reader.nextBoolean(), "the value after the nesting was not read");	//No I18N
+		reader.endObject();
+		reader.close();
+
+		reader = new JsonReader(new StringReader(json));
+		reader.beginObject();
+		reader.nextName();
+		reader.skipValue();
+		check(reader.nextName().equals("after") && reader.nextBoolean(), "the nesting was not skipped whole");	//No I18N
+		reader.endObject();
+		reader.close();
+
+		check(new JSONObject(json).getBoolean("after"), "org.json read " + json + " differently");	//No I18N
+	}
+
+	/**
+	 * A projection reads only the given names of the objects of an array, and leaves nested objects whole.
+	 */
+
+	private static void projection()throws Exception
+	{
+		String json = "{\"rows\":[{\"id\":\"1\",\"skip\":{\"id\":\"nested\"},\"name\":\"a\\\"b\",\"total\":1.5},"	//No I18N
+				+ "{\"total\":-2,\"nested\":{\"name\":\"kept\",\"id\":\"n\"},\"id\":\"2\"}]}";	//No I18N
+		JsonReader reader = new JsonReader(new StringReader(json));
+		List<String> read = new ArrayList<String>();
+
+		reader.beginObject();
+		reader.nextName();
+		reader.beginArray();
+		reader.setProjection(new HashSet<String>(Arrays.asList("id", "total", "nested")));	//No I18N
+		while(reader.hasNext())
+		{
+			reader.beginObject();
+			while(reader.hasNext())
+			{
+				String name = reader.nextName();
+
+				if(name.equals("nested"))	//No I18N
+				{
+					reader.beginObject();
+					while(reader.hasNext())
+					{
+						read.add(name + "." + reader.nextName() + "=" + reader.nextString());	//No I18N
+					}
+					reader.endObject();
+				}
+				else
+				{
+					read.add(name + "=" + reader.nextString());	//No I18N
+				}
+			}
+			reader.endObject();
+		}
+		reader.setProjection(null);
+		reader.endArray();
+		reader.endObject();
+		reader.close();
+
+		check(read.equals(Arrays.asList("id=1", "total=1.5", "total=-2", "nested.name=kept", "nested.id=n", "id=2")), "the projection read " + read);	//No I18N
+	}
+
+	/**
+	 * A captured value is the exact text of the document, also when it spans many buffers.
+	 */
+
+	private static void capture()throws Exception
+	{
+		StringBuilder rows = new StringBuilder("[");
+
+		for(int i = 0; i < 5000; i++)
+		{
+			rows.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"text\":\"caf\\u00e9 \\\"").append(i).append("\\\" \ud83d\ude00\"}");	//No I18N
+		}
+		rows.append("]");
+
+		String captured = "{\"small\":{\"a\":[1,{\"b\":null}]},\"rows\":" + rows + "}";	//No I18N
+		JsonReader reader = new JsonReader(new StringReader("{\"before\":1,\"value\":" + captured + ",\"after\":2}"));	//No I18N
+
+		reader.beginObject();
+		reader.nextName();
+		reader.nextInt();
+		reader.nextName();
+		reader.beginCapture();
+		reader.skipValue();
+
+		String text = reader.endCapture();
+
+		check(text.equals(captured), "the capture was not the text of the value");	//No I18N
+		check(reader.nextName().equals("after") && reader.nextInt() == 2, "the value after the capture was not read");	//No I18N
+		reader.endObject();
+		reader.close();
+
+		check(new JSONObject(text).getJSONArray("rows").length() == 5000, "org.json could not read the capture");	//No I18N
+	}
+
+	/**
+	 * A form with deferred JSON values is encoded byte for byte as URLEncoder encodes the JSON text.
+	 */
+
+	private static void form()throws Exception
+	{
+		List<String> values = new ArrayList<String>(Arrays.asList(STRINGS));
+
+		values.add("lone high \ud83d at the end \ud83d");	//No I18N
+		values.add("lone low \ude00 alone");	//No I18N
+
+		for(String value : values)
+		{
+			JsonWriter.ObjectWriter object = writer -> writer.beginObject()
+					.name("text").value(value)	//No I18N
+					.name("amount").value(-1234.5)	//No I18N
+					.name("items").beginArray().value(Long.MIN_VALUE).nullValue().value(false).endArray()	//No I18N
+					.endObject();
+
+			Map<String, Object> params = new LinkedHashMap<String, Object>();
+
+			params.put("JSONString", JsonWriter.deferred(object));	//No I18N
+			params.put("organization_id", value);	//No I18N
+
+			ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+			new JsonFormBody(params).writeTo(body);
+
+			String expected = "JSONString=" + URLEncoder.encode(JsonWriter.toString(object), "UTF-8")	//No I18N
+					+ "&organization_id=" + URLEncoder.encode(value, "UTF-8");	//No I18N
+
+			check(expected.equals(new String(body.toByteArray(), StandardCharsets.US_ASCII)), "the form of " + value + " was " + body);	//No I18N
+		}
+	}
+
+	private static String readValue(String json)throws Exception
+	{
+		JsonReader reader = open(json);
+		String value = reader.nextString();
+
+		reader.close();
+
+		return value;
+	}
+
+	/**
+	 * Open a document of one member, positioned at its value.
+	 */
+
+	private static JsonReader open(String json)throws Exception
+	{
+		JsonReader reader = new JsonReader(new StringReader(json));
+
+		reader.beginObject();
+		reader.nextName();
+
+		return reader;
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if(!condition)
+		{
+			throw new AssertionError(message);
+		}
+	}
+}
@@ -0,0 +1,200 @@
+/* $Id$ */
+
+package com.zoho.books.test;
+
+import com.zoho.books.exception.BooksException;
+import com.zoho.books.transport.TransportRequest;
+import com.zoho.books.transport.TransportResponse;
+import com.zoho.books.util.OAuthTokenProvider;
+import com.zoho.books.util.Responses;
+import com.zoho.books.util.ZohoHTTPClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OAuthTokenProviderTest is used to check that OAuthTokenProvider refreshes the access token once for all the
+ * requests that need it, ahead of its expiry when it can, and again after the server rejects it. The accounts and
+ * API servers are StubTransports, and the test fails with an AssertionError on the first mismatch.
+ */
+
+public class OAuthTokenProviderTest
+{
+	private static final String URL = "https://www.zohoapis.com/books/v3/invoices";	//No I18N
+
+
+	public static void main(String[] args)throws Exception
+	{
+		singleFlight();
+		ahead();
+		rejected();
+		failure();
+
+		System.out.println("All OAuth token provider checks passed.");	//No I18N
+	}
+
+	/**
+	 * Requests that arrive without a token wait for a single refresh and all get its token.
+	 */
+
+	private static void singleFlight()throws Exception
+	{
+		Accounts accounts = new Accounts(100);
+		OAuthTokenProvider provider = provider(accounts);
+		List<FutureTask<String>> requests = new ArrayList<FutureTask<String>>();
+
+		for(int i = 0; i < 10; i++)
+		{
+			requests.add(start(provider::getAccessToken));
+		}
+		for(FutureTask<String> request : requests)
+		{
+			check("token1".equals(request.get(5, TimeUnit.SECONDS)), "A request got " + request.get());	//No I18N
+		}
+		check(accounts.transport.getCalls() == 1, "Ten requests refreshed the token " + accounts.transport.getCalls() + " times");	//No I18N
+		check("token1".equals(provider.getAccessToken()), "A fresh token was refreshed again");	//No I18N
+		check(accounts.transport.getCalls() == 1, "A fresh token was refreshed again");	//No I18N
+	}
+
+	/**
+	 * A token close to its expiry is still used while a single refresh runs in the background.
+	 */
+
+	private static void ahead()throws Exception
+	{
+		Accounts accounts = new Accounts(200);
+		OAuthTokenProvider provider = provider(accounts);
+
+		provider.setAccessToken("old", 60);	//No I18N
+
+		long started = System.nanoTime();
+
+		for(int i = 0; i < 5; i++)
+		{
+			check("old".equals(provider.getAccessToken()), "A token that has not expired was not used");	//No I18N
+		}
+
+		long waited = (System.nanoTime() - started) / 1000000;
+
+		check(waited < 150, "Requests waited " + waited + " ms for a refresh ahead of the expiry");	//No I18N
+
+		long deadline = System.currentTimeMillis() + 5000;
+
+		while(!"token1".equals(provider.getAccessToken()) && System.currentTimeMillis() < deadline)	//No I18N
+		{
+			Thread.sleep(10);
+		}
+		check("token1".equals(provider.getAccessToken()), "The token was not refreshed in the background");	//No I18N
+		check(accounts.transport.getCalls() == 1, "The token was refreshed " + accounts.transport.getCalls() + " times ahead of its expiry");	//No I18N
+	}
+
+	/**
+	 * Requests rejected with 401 share one refresh and are sent again with the new token.
+	 */
+
+	private static void rejected()throws Exception
+	{
+		Accounts accounts = new Accounts(100);
+		OAuthTokenProvider provider = provider(accounts);
+
+		provider.setAccessToken("revoked", 3600);	//No I18N
+
+		StubTransport api = new StubTransport((request, call) -> "Zoho-oauthtoken token1".equals(request.getHeader("Authorization"))	//No I18N
+				? StubTransport.response(200, "{\"code\":0}")	//No I18N
+				: StubTransport.response(401, "{\"code\":57,\"message\":\"You are not authorized to perform this operation\"}"));	//No I18N
+		ZohoHTTPClient client = new ZohoHTTPClient(api, provider, "1");	//No I18N
+
+		client.setRateLimiter(null);
+		client.setRetryPolicy(null);
+
+		List<FutureTask<String>> requests = new ArrayList<FutureTask<String>>();
+
+		for(int i = 0; i < 5; i++)
+		{
+			requests.add(start(() -> Responses.read(client.get(URL, null))));
+		}
+		for(FutureTask<String> request : requests)
+		{
+			check("{\"code\":0}".equals(request.get(5, TimeUnit.SECONDS)), "A rejected request was not sent again with the new token");	//No I18N
+		}
+		check(accounts.transport.getCalls() == 1, "Five rejected requests refreshed the token " + accounts.transport.getCalls() + " times");	//No I18N
+	}
+
+	/**
+	 * A failed refresh is reported to the requests, and the next request tries again.
+	 */
+
+	private static void failure()throws Exception
+	{
+		AtomicInteger calls = new AtomicInteger();
+		StubTransport transport = new StubTransport((request, call) -> calls.incrementAndGet() == 1
+				? StubTransport.response(400, "{\"error\":\"invalid_client\"}")	//No I18N
+				: StubTransport.response(200, "{\"access_token\":\"token2\",\"expires_in\":3600}"));	//No I18N
+		OAuthTokenProvider provider = new OAuthTokenProvider("client", "secret", "refresh", OAuthTokenProvider.ACCOUNTS_URL, transport);	//No I18N
+
+		try
+		{
+			provider.getAccessToken();
+			check(false, "A failed refresh returned a token");	//No I18N
+		}
+		catch(BooksException e)
+		{
+			check("invalid_client".equals(e.getMessage()), "The failed refresh reported " + e.getMessage());	//No I18N
+		}
+		check("token2".equals(provider.getAccessToken()), "The refresh was not tried again after a failure");	//No I18N
+	}
+
+	private static OAuthTokenProvider provider(Accounts accounts)
+	{
+		return new OAuthTokenProvider("client", "secret", "refresh", OAuthTokenProvider.ACCOUNTS_URL, accounts.transport);	//No I18N
+	}
+
+	private static <T> FutureTask<T> start(Callable<T> call)
+	{
+		FutureTask<T> task = new FutureTask<T>(call);
+		Thread thread = new Thread(task);
+
+		thread.setDaemon(true);
+		thread.start();
+
+		return task;
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if(!condition)
+		{
+			throw new AssertionError(message);
+		}
+	}
+
+
+	/**
+	 * A slow accounts server that issues token1, token2 and so on.
+	 */
+
+	private static class Accounts
+	{
+		private long delay;
+		private StubTransport transport = new StubTransport(this::handle);
+
+
+		private Accounts(long delay)
+		{
+			this.delay = delay;
+		}
+
+
+		private TransportResponse handle(TransportRequest request, int call)throws Exception
+		{
+			check(request.getUrl().endsWith("/oauth/v2/token"), "A token was requested from " + request.getUrl());	//No I18N
+			Thread.sleep(delay);
+
+			return StubTransport.response(200, "{\"access_token\":\"token" + call + "\",\"expires_in\":3600}");	//No I18N
+		}
+	}
+}
@@ -0,0 +1,211 @@
+/* $Id$ */
+
+package com.zoho.books.test;
+
+import com.zoho.books.api.InvoicesApi;
+import com.zoho.books.model.Invoice;
+import com.zoho.books.model.InvoiceList;
+import com.zoho.books.model.PagedList;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PagedListTest is used to check that a list read lazily makes the model object of a row only when the row is first
+ * got, answers ids and totals without making them, and behaves like a plain list once it is iterated, changed or
+ * serialized. The server is a StubTransport, and the test fails with an AssertionError on the first mismatch.
+ */
+
+public class PagedListTest
+{
+	private static final String INVOICES = "{\"code\":0,\"message\":\"success\",\"invoices\":["	//No I18N
+			+ "{\"invoice_id\":\"1001\",\"customer_name\":\"Bowman\",\"total\":100.5},"	//No I18N
+			+ "{\"invoice_id\":\"1002\",\"customer_name\":\"Poole\",\"total\":200},"	//No I18N
+			+ "{\"invoice_id\":\"1003\",\"customer_name\":\"Floyd\",\"total\":300.25}],"	//No I18N
+			+ "\"page_context\":{\"page\":1,\"per_page\":3,\"has_more_page\":true}}";	//No I18N
+
+
+	public static void main(String[] args)throws Exception
+	{
+		api();
+		onDemand();
+		iteration();
+		changed();
+		serialized();
+
+		System.out.println("All paged list checks passed.");	//No I18N
+	}
+
+	/**
+	 * A lazy list read through the API answers like a list read in full.
+	 */
+
+	private static void api()throws Exception
+	{
+		StubTransport server = new StubTransport((request, call) -> StubTransport.response(200, INVOICES));
+		InvoicesApi invoicesApi = new InvoicesApi("token", "1", false, server);	//No I18N
+
+		invoicesApi.setRateLimiter(null);
+		invoicesApi.setLazyLists(true);
+
+		InvoiceList invoices = invoicesApi.getInvoices(new HashMap<String, Object>());
+
+		check(invoices.size() == 3, "The page has " + invoices.size() + " rows");	//No I18N
+		check("1002".equals(invoices.idAt(1)) && invoices.totalAt(2) == 300.25, "The kept id or total of a row is wrong");	//No I18N
+		check("Poole".equals(invoices.get(1).getCustomerName()), "The second row was read as " + invoices.get(1).getCustomerName());	//No I18N
+		check(invoices.get(1) == invoices.get(1), "A row was made again when it was got again");	//No I18N
+		check(invoices.getPageContext().hasMorePage(), "The page context was not read");	//No I18N
+
+		List<String> names = new ArrayList<String>();
+
+		for(Invoice invoice : invoices)
+		{
+			names.add(invoice.getCustomerName());
+		}
+		check(names.toString().equals("[Bowman, Poole, Floyd]"), "The rows were iterated as " + names);	//No I18N
+	}
+
+	/**
+	 * A row is made when it is first got, and ids and totals are answered without making any row.
+	 */
+
+	private static void onDemand()
+	{
+		Rows rows = rows("a", "b", "c");	//No I18N
+
+		check(rows.size() == 3, "The list has " + rows.size() + " rows");	//No I18N
+		check("b".equals(rows.idAt(1)) && rows.totalAt(2) == 3, "The kept id or total of a row is wrong");	//No I18N
+		check(rows.reads.get() == 0, rows.reads.get() + " rows were made for their ids and totals");	//No I18N
+
+		check("row b".equals(rows.get(1)), "The second row was read as " + rows.get(1));	//No I18N
+		rows.get(1);
+		check(rows.reads.get() == 1, rows.reads.get() + " rows were made for one row got twice");	//No I18N
+	}
+
+	/**
+	 * Iterating or searching the list makes the rows that are left, once.
+	 */
+
+	private static void iteration()
+	{
+		Rows rows = rows("a", "b", "c");	//No I18N
+
+		rows.get(0);
+
+		List<String> seen = new ArrayList<String>();
+
+		for(String row : rows)
+		{
+			seen.add(row);
+		}
+		check(seen.toString().equals("[row a, row b, row c]"), "The rows were iterated as " + seen);	//No I18N
+		check(rows.reads.get() == 3, rows.reads.get() + " rows were made for a list of 3");	//No I18N
+		check(rows.indexOf("row c") == 2 && rows.contains("row b"), "A row was not found");	//No I18N
+		check(rows.reads.get() == 3, "Rows were made again after the list was read");	//No I18N
+	}
+
+	/**
+	 * A changed list answers ids and totals from its rows.
+	 */
+
+	private static void changed()
+	{
+		Rows rows = rows("a", "b");	//No I18N
+
+		rows.remove(0);
+		rows.add("row z");	//No I18N
+
+		check(rows.size() == 2 && "row b".equals(rows.get(0)), "The changed list is " + rows);	//No I18N
+		check("z".equals(rows.idAt(1)), "The id of an added row is " + rows.idAt(1));	//No I18N
+		check(rows.totalAt(1) == 1, "The total of an added row is " + rows.totalAt(1));	//No I18N
+	}
+
+	/**
+	 * A list is serialized with every row, also the rows that were never got.
+	 */
+
+	private static void serialized()throws Exception
+	{
+		Rows rows = rows("a", "b", "c");	//No I18N
+
+		rows.get(1);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try(ObjectOutputStream out = new ObjectOutputStream(bytes))
+		{
+			out.writeObject(rows);
+		}
+
+		Rows copy;
+
+		try(ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+		{
+			copy = (Rows) in.readObject();
+		}
+		check(copy.size() == 3, "The copy has " + copy.size() + " rows");	//No I18N
+		check("[row a, row b, row c]".equals(copy.toString()), "The list was serialized as " + copy);	//No I18N
+		check("c".equals(copy.idAt(2)), "The id of a serialized row is " + copy.idAt(2));	//No I18N
+	}
+
+	/**
+	 * Make a lazy list of the given ids, whose row texts are JSON strings and whose totals count from 1.
+	 */
+
+	private static Rows rows(String... ids)
+	{
+		Rows rows = new Rows();
+		String[] texts = new String[ids.length];
+		double[] totals = new double[ids.length];
+
+		for(int i = 0; i < ids.length; i++)
+		{
+			texts[i] = "\"row " + ids[i] + "\"";	//No I18N
+			totals[i] = i + 1;
+		}
+		rows.setRows(texts, ids, totals, reader -> {
+			rows.reads.incrementAndGet();
+			return reader.nextString();
+		});
+
+		return rows;
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if(!condition)
+		{
+			throw new AssertionError(message);
+		}
+	}
+
+
+	/**
+	 * A list of text rows that counts the rows it makes. The id of a row is its last word, and its total is its
+	 * length less 4.
+	 */
+
+	private static class Rows extends PagedList<String>
+	{
+		private static final long serialVersionUID = 1L;
+
+		private transient AtomicInteger reads = new AtomicInteger();
+
+
+		protected String idOf(String row)
+		{
+			return row.substring(row.lastIndexOf(' ') + 1);
+		}
+
+		protected double totalOf(String row)
+		{
+			return row.length() - 4;
+		}
+	}
+}
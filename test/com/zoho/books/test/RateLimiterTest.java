@@ -0,0 +1,216 @@
+/* $Id$ */
+
+package com.zoho.books.test;
+
+import com.zoho.books.exception.DeadlineExceededException;
+import com.zoho.books.transport.Deadline;
+import com.zoho.books.transport.Priority;
+import com.zoho.books.util.RateLimiter;
+import com.zoho.books.util.Responses;
+import com.zoho.books.util.RetryPolicy;
+import com.zoho.books.util.ZohoHTTPClient;
+
+/**
+ * RateLimiterTest is used to check that RateLimiter keeps each organization within its rate, backs off when the
+ * server throttles it, and keeps a reserve for interactive requests. It fails with an AssertionError on the first
+ * mismatch.
+ */
+
+public class RateLimiterTest
+{
+	private static final String URL = "https://www.zohoapis.com/books/v3/items";	//No I18N
+
+
+	public static void main(String[] args)throws Exception
+	{
+		burst();
+		organizations();
+		throttled();
+		quota();
+		deadline();
+		reserve();
+		throttledClient();
+
+		System.out.println("All rate limiter checks passed.");	//No I18N
+	}
+
+	/**
+	 * The burst is sent at once, and the next request waits for a token to be earned at the configured rate.
+	 */
+
+	private static void burst()throws Exception
+	{
+		RateLimiter limiter = new RateLimiter(600, 5);
+
+		for(int i = 0; i < 5; i++)
+		{
+			check(limiter.tryAcquire("1", Priority.INTERACTIVE), "Request " + (i + 1) + " of the burst had to wait");	//No I18N
+		}
+		check(!limiter.tryAcquire("1", Priority.INTERACTIVE), "A request beyond the burst was let through");	//No I18N
+
+		long waited = time(() -> limiter.acquire("1"));	//No I18N
+
+		check(waited >= 50 && waited < 1000, "A request at 10 per second waited " + waited + " ms for a token");	//No I18N
+	}
+
+	/**
+	 * Each organization has its own bucket.
+	 */
+
+	private static void organizations()throws Exception
+	{
+		RateLimiter limiter = new RateLimiter(60, 1);
+
+		check(limiter.tryAcquire("1", Priority.INTERACTIVE), "The first request of organization 1 had to wait");	//No I18N
+		check(!limiter.tryAcquire("1", Priority.INTERACTIVE), "Organization 1 went over its rate");	//No I18N
+		check(limiter.tryAcquire("2", Priority.INTERACTIVE), "Organization 2 waited for organization 1");	//No I18N
+	}
+
+	/**
+	 * A 429 response halves the rate and pauses the organization for the time given in Retry-After.
+	 */
+
+	private static void throttled()throws Exception
+	{
+		RateLimiter limiter = new RateLimiter(600, 5);
+
+		limiter.update("1", StubTransport.response(429, "{}", "Retry-After", "1"));	//No I18N
+
+		check(limiter.getRate("1") == 300, "The rate after a 429 response is " + limiter.getRate("1"));	//No I18N
+		check(!limiter.tryAcquire("1", Priority.INTERACTIVE), "A request was let through right after a 429 response");	//No I18N
+
+		long waited = time(() -> limiter.acquire("1"));	//No I18N
+
+		check(waited >= 900, "A request after Retry-After: 1 waited only " + waited + " ms");	//No I18N
+
+		limiter.update("1", StubTransport.response(200, "{}"));	//No I18N
+		check(limiter.getRate("1") > 300, "The rate did not grow back after a success");	//No I18N
+	}
+
+	/**
+	 * The rate follows the quota the server reports, and stops when none of it is left.
+	 */
+
+	private static void quota()throws Exception
+	{
+		RateLimiter limiter = new RateLimiter(600, 5);
+
+		limiter.update("1", StubTransport.response(200, "{}", "X-Rate-Limit-Remaining", "60", "X-Rate-Limit-Reset", "60"));	//No I18N
+		check(limiter.getRate("1") == 60, "The rate for 60 requests left in 60 seconds is " + limiter.getRate("1"));	//No I18N
+
+		limiter.update("1", StubTransport.response(200, "{}", "X-Rate-Limit-Remaining", "0", "X-Rate-Limit-Reset", "30"));	//No I18N
+		check(!limiter.tryAcquire("1", Priority.INTERACTIVE), "A request was let through with no quota left");	//No I18N
+	}
+
+	/**
+	 * A wait that would outlast the deadline of the call fails at once.
+	 */
+
+	private static void deadline()throws Exception
+	{
+		RateLimiter limiter = new RateLimiter(1, 1);
+
+		limiter.acquire("1");	//No I18N
+
+		long started = System.nanoTime();
+
+		try
+		{
+			Deadline.within(200, () -> {
+				limiter.acquire("1");	//No I18N
+				return null;
+			});
+			check(false, "A request waited past its deadline for a token");	//No I18N
+		}
+		catch(DeadlineExceededException e)
+		{
+			long waited = (System.nanoTime() - started) / 1000000;
+
+			check(waited < 150, "The request waited " + waited + " ms before it failed");	//No I18N
+		}
+	}
+
+	/**
+	 * Background requests leave the interactive reserve of the burst, and wait while an interactive request waits.
+	 */
+
+	private static void reserve()throws Exception
+	{
+		RateLimiter limiter = new RateLimiter(60, 5);
+
+		for(int i = 0; i < 4; i++)
+		{
+			check(limiter.tryAcquire("1", Priority.BACKGROUND), "Background request " + (i + 1) + " had to wait");	//No I18N
+		}
+		check(!limiter.tryAcquire("1", Priority.BACKGROUND), "A background request took the interactive reserve");	//No I18N
+		check(limiter.tryAcquire("1", Priority.INTERACTIVE), "An interactive request found no token in the reserve");	//No I18N
+
+		final RateLimiter shared = new RateLimiter(600, 1);
+
+		shared.acquire("1");	//No I18N
+
+		Thread interactive = new Thread(() -> {
+			try
+			{
+				shared.acquire("1", Priority.INTERACTIVE);	//No I18N
+			}
+			catch(Exception e)
+			{
+				throw new IllegalStateException(e);
+			}
+		});
+
+		interactive.start();
+		Thread.sleep(20);
+		shared.setInteractiveReserve(0);
+		check(!shared.tryAcquire("1", Priority.BACKGROUND), "A background request went ahead of a waiting interactive request");	//No I18N
+		interactive.join();
+	}
+
+	/**
+	 * A request answered 429 through the client is sent again once the pause the server asked for is over.
+	 */
+
+	private static void throttledClient()throws Exception
+	{
+		StubTransport transport = new StubTransport((request, call) -> call == 1
+				? StubTransport.response(429, "{\"code\":44,\"message\":\"throttled\"}", "Retry-After", "1")	//No I18N
+				: StubTransport.response(200, "{\"code\":0}"));	//No I18N
+		RetryPolicy policy = new RetryPolicy();
+
+		policy.setInitialDelay(1);
+
+		ZohoHTTPClient client = new ZohoHTTPClient(transport, "token", "1");	//No I18N
+
+		client.setRateLimiter(new RateLimiter(600, 5));
+		client.setRetryPolicy(policy);
+
+		long waited = time(() -> Responses.read(client.get(URL, null)));
+
+		check(transport.getCalls() == 2, "The throttled request was sent " + transport.getCalls() + " times");	//No I18N
+		check(waited >= 900, "The throttled request was sent again after " + waited + " ms");	//No I18N
+	}
+
+	private static long time(Call call)throws Exception
+	{
+		long started = System.nanoTime();
+
+		call.run();
+
+		return (System.nanoTime() - started) / 1000000;
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if(!condition)
+		{
+			throw new AssertionError(message);
+		}
+	}
+
+
+	private interface Call
+	{
+		void run()throws Exception;
+	}
+}
@@ -0,0 +1,252 @@
+/* $Id$ */
+
+package com.zoho.books.test;
+
+import com.zoho.books.exception.DeadlineExceededException;
+import com.zoho.books.transport.AbortHandle;
+import com.zoho.books.transport.Deadline;
+import com.zoho.books.util.RequestCoalescer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RequestCoalescerTest is used to check that identical concurrent calls share one request, and that a waiting caller
+ * sends the request itself when the first caller gives up, but never waits past its own deadline. It fails with an
+ * AssertionError on the first mismatch.
+ */
+
+public class RequestCoalescerTest
+{
+	private static final String KEY = "token https://www.zohoapis.com/books/v3/settings/currencies";	//No I18N
+
+
+	public static void main(String[] args)throws Exception
+	{
+		shared();
+		sharedFailure();
+		sequential();
+		leaderAborted();
+		leaderDeadline();
+		followerDeadline();
+
+		System.out.println("All request coalescer checks passed.");	//No I18N
+	}
+
+	/**
+	 * Callers that arrive while a call is in flight get its result, and the call runs once.
+	 */
+
+	private static void shared()throws Exception
+	{
+		RequestCoalescer coalescer = new RequestCoalescer();
+		AtomicInteger calls = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+
+		FutureTask<String> leader = start(() -> coalescer.execute(KEY, () -> {
+			calls.incrementAndGet();
+			release.await();
+			return "response";	//No I18N
+		}));
+
+		waitForFlight(coalescer);
+
+		List<FutureTask<String>> followers = new ArrayList<FutureTask<String>>();
+
+		for(int i = 0; i < 5; i++)
+		{
+			followers.add(start(() -> coalescer.execute(KEY, () -> {
+				calls.incrementAndGet();
+				return "another response";	//No I18N
+			})));
+		}
+		Thread.sleep(50);
+		release.countDown();
+
+		check("response".equals(leader.get()), "The first caller got " + leader.get());	//No I18N
+		for(FutureTask<String> follower : followers)
+		{
+			check("response".equals(follower.get()), "A waiting caller got " + follower.get());	//No I18N
+		}
+		check(calls.get() == 1, "Six identical calls sent " + calls.get() + " requests");	//No I18N
+		check(coalescer.getInFlightCount() == 0, "A completed call is still in flight");	//No I18N
+	}
+
+	/**
+	 * The waiting callers get the failure of the call they waited for.
+	 */
+
+	private static void sharedFailure()throws Exception
+	{
+		RequestCoalescer coalescer = new RequestCoalescer();
+		CountDownLatch release = new CountDownLatch(1);
+
+		FutureTask<String> leader = start(() -> coalescer.execute(KEY, () -> {
+			release.await();
+			throw new IOException("Connection reset");	//No I18N
+		}));
+
+		waitForFlight(coalescer);
+
+		FutureTask<String> follower = start(() -> coalescer.execute(KEY, () -> "another response"));	//No I18N
+
+		Thread.sleep(50);
+		release.countDown();
+
+		check(failure(leader) instanceof IOException, "The first caller did not get the I/O error");	//No I18N
+		check(failure(follower) instanceof IOException, "The waiting caller got " + failure(follower));	//No I18N
+	}
+
+	/**
+	 * A call that starts after the previous one completed sends its own request.
+	 */
+
+	private static void sequential()throws Exception
+	{
+		RequestCoalescer coalescer = new RequestCoalescer();
+
+		check("first".equals(coalescer.execute(KEY, () -> "first")), "The first call got another result");	//No I18N
+		check("second".equals(coalescer.execute(KEY, () -> "second")), "A later call was served the earlier result");	//No I18N
+	}
+
+	/**
+	 * When the first caller is aborted, a waiting caller sends the request itself.
+	 */
+
+	private static void leaderAborted()throws Exception
+	{
+		RequestCoalescer coalescer = new RequestCoalescer();
+		AbortHandle handle = new AbortHandle();
+		AtomicInteger calls = new AtomicInteger();
+
+		FutureTask<String> leader = start(() -> {
+			AbortHandle.bind(handle);
+			return coalescer.execute(KEY, () -> {
+				calls.incrementAndGet();
+				while(!handle.isAborted())
+				{
+					Thread.sleep(5);
+				}
+				throw new IOException("The request was aborted");	//No I18N
+			});
+		});
+
+		waitForFlight(coalescer);
+
+		FutureTask<String> follower = start(() -> coalescer.execute(KEY, () -> {
+			calls.incrementAndGet();
+			return "response";	//No I18N
+		}));
+
+		Thread.sleep(50);
+		handle.abort();
+
+		check(failure(leader) instanceof IOException, "The aborted caller did not fail");	//No I18N
+		check("response".equals(follower.get()), "The waiting caller got " + follower.get());	//No I18N
+		check(calls.get() == 2, "The waiting caller did not send the request itself");	//No I18N
+	}
+
+	/**
+	 * When the first caller runs out of its deadline, a waiting caller without one sends the request itself.
+	 */
+
+	private static void leaderDeadline()throws Exception
+	{
+		RequestCoalescer coalescer = new RequestCoalescer();
+		AtomicInteger calls = new AtomicInteger();
+
+		FutureTask<String> leader = start(() -> Deadline.within(100, () -> coalescer.execute(KEY, () -> {
+			calls.incrementAndGet();
+			Thread.sleep(150);
+			Deadline.current().check();
+			return "late response";	//No I18N
+		})));
+
+		waitForFlight(coalescer);
+
+		FutureTask<String> follower = start(() -> coalescer.execute(KEY, () -> {
+			calls.incrementAndGet();
+			return "response";	//No I18N
+		}));
+
+		check(failure(leader) instanceof DeadlineExceededException, "The first caller did not run out of its deadline");	//No I18N
+		check("response".equals(follower.get()), "The waiting caller got " + failure(follower));	//No I18N
+		check(calls.get() == 2, "The waiting caller did not send the request itself");	//No I18N
+	}
+
+	/**
+	 * A waiting caller stops waiting when its own deadline passes, and the first caller carries on.
+	 */
+
+	private static void followerDeadline()throws Exception
+	{
+		RequestCoalescer coalescer = new RequestCoalescer();
+		CountDownLatch release = new CountDownLatch(1);
+
+		FutureTask<String> leader = start(() -> coalescer.execute(KEY, () -> {
+			release.await();
+			return "response";	//No I18N
+		}));
+
+		waitForFlight(coalescer);
+
+		long started = System.nanoTime();
+		FutureTask<String> follower = start(() -> Deadline.within(100, () -> coalescer.execute(KEY, () -> "another response")));	//No I18N
+
+		check(failure(follower) instanceof DeadlineExceededException, "The waiting caller got " + failure(follower));	//No I18N
+
+		long waited = (System.nanoTime() - started) / 1000000;
+
+		check(waited < 1000, "The waiting caller waited " + waited + " ms with a deadline of 100 ms");	//No I18N
+
+		release.countDown();
+		check("response".equals(leader.get(5, TimeUnit.SECONDS)), "The first caller was disturbed by the waiting caller");	//No I18N
+	}
+
+	private static <T> FutureTask<T> start(Callable<T> call)
+	{
+		FutureTask<T> task = new FutureTask<T>(call);
+		Thread thread = new Thread(task);
+
+		thread.setDaemon(true);
+		thread.start();
+
+		return task;
+	}
+
+	private static void waitForFlight(RequestCoalescer coalescer)throws InterruptedException
+	{
+		while(coalescer.getInFlightCount() == 0)
+		{
+			Thread.sleep(1);
+		}
+	}
+
+	private static Throwable failure(FutureTask<?> task)throws Exception
+	{
+		try
+		{
+			task.get(5, TimeUnit.SECONDS);
+			return null;
+		}
+		catch(ExecutionException e)
+		{
+			return e.getCause();
+		}
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if(!condition)
+		{
+			throw new AssertionError(message);
+		}
+	}
+}
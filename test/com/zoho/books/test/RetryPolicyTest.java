@@ -0,0 +1,196 @@
+/* $Id$ */
+
+package com.zoho.books.test;
+
+import com.zoho.books.exception.BooksException;
+import com.zoho.books.util.Responses;
+import com.zoho.books.util.RetryPolicy;
+import com.zoho.books.util.ZohoHTTPClient;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.HashMap;
+
+/**
+ * RetryPolicyTest is used to check which failed requests ZohoHTTPClient sends again, and what a request that still
+ * fails reports. The requests are answered by a StubTransport, and the test fails with an AssertionError on the
+ * first mismatch.
+ */
+
+public class RetryPolicyTest
+{
+	private static final String URL = "https://www.zohoapis.com/books/v3/invoices";	//No I18N
+
+	private static final String OK = "{\"code\":0,\"message\":\"success\"}";	//No I18N
+
+	private static final String BUSY = "{\"code\":1001,\"message\":\"busy\"}";	//No I18N
+
+
+	public static void main(String[] args)throws Exception
+	{
+		retriesServerErrors();
+		givesUpAfterMaxAttempts();
+		keepsPostsOnce();
+		retriesThrottledPosts();
+		retriesIoErrors();
+		keepsPostsOnceAfterIoErrors();
+
+		System.out.println("All retry policy checks passed.");	//No I18N
+	}
+
+	/**
+	 * A GET request answered 503 is sent again until it succeeds.
+	 */
+
+	private static void retriesServerErrors()throws Exception
+	{
+		StubTransport transport = new StubTransport((request, call) -> StubTransport.response(call < 3 ? 503 : 200, call < 3 ? BUSY : OK));
+
+		String body = Responses.read(client(transport).get(URL, null));
+
+		check(OK.equals(body), "The response of the last attempt was not returned: " + body);	//No I18N
+		check(transport.getCalls() == 3, "A GET answered 503 twice was sent " + transport.getCalls() + " times");	//No I18N
+	}
+
+	/**
+	 * A request that keeps failing is sent the maximum number of times, and the exception tells how many.
+	 */
+
+	private static void givesUpAfterMaxAttempts()throws Exception
+	{
+		StubTransport transport = new StubTransport((request, call) -> StubTransport.response(503, BUSY));
+
+		try
+		{
+			client(transport).get(URL, null);
+			check(false, "A GET that always fails succeeded");	//No I18N
+		}
+		catch(BooksException e)
+		{
+			check(e.getCode() == 1001, "The error code of the response was not reported: " + e.getCode());	//No I18N
+			check(e.getAttempts() == 3, "The exception reported " + e.getAttempts() + " attempts instead of 3");	//No I18N
+		}
+		check(transport.getCalls() == 3, "A GET that always fails was sent " + transport.getCalls() + " times");	//No I18N
+	}
+
+	/**
+	 * A POST answered 500 may have been processed, so it is not sent again.
+	 */
+
+	private static void keepsPostsOnce()throws Exception
+	{
+		StubTransport transport = new StubTransport((request, call) -> StubTransport.response(500, BUSY));
+
+		try
+		{
+			client(transport).post(URL, form());
+			check(false, "A POST answered 500 succeeded");	//No I18N
+		}
+		catch(BooksException e)
+		{
+			check(e.getAttempts() == 1, "A POST answered 500 reported " + e.getAttempts() + " attempts");	//No I18N
+		}
+		check(transport.getCalls() == 1, "A POST answered 500 was sent " + transport.getCalls() + " times");	//No I18N
+	}
+
+	/**
+	 * A POST answered 429 was not processed, so it is sent again.
+	 */
+
+	private static void retriesThrottledPosts()throws Exception
+	{
+		StubTransport transport = new StubTransport((request, call) -> StubTransport.response(call == 1 ? 429 : 201, call == 1 ? BUSY : OK));
+
+		Responses.read(client(transport).post(URL, form()));
+
+		check(transport.getCalls() == 2, "A POST answered 429 was sent " + transport.getCalls() + " times");	//No I18N
+	}
+
+	/**
+	 * A GET that keeps failing with an I/O error fails with a BooksException that has the attempts and the error.
+	 */
+
+	private static void retriesIoErrors()throws Exception
+	{
+		StubTransport transport = new StubTransport((request, call) -> {
+			throw new IOException("Connection reset");	//No I18N
+		});
+
+		try
+		{
+			client(transport).get(URL, null);
+			check(false, "A GET that always fails with an I/O error succeeded");	//No I18N
+		}
+		catch(BooksException e)
+		{
+			check(e.getAttempts() == 3, "The I/O failure reported " + e.getAttempts() + " attempts instead of 3");	//No I18N
+			check(e.getCause() instanceof IOException, "The I/O error is not the cause: " + e.getCause());	//No I18N
+		}
+		check(transport.getCalls() == 3, "A GET failing with I/O errors was sent " + transport.getCalls() + " times");	//No I18N
+	}
+
+	/**
+	 * A POST is only sent again after an I/O error when the connection could not be made.
+	 */
+
+	private static void keepsPostsOnceAfterIoErrors()throws Exception
+	{
+		StubTransport reset = new StubTransport((request, call) -> {
+			throw new IOException("Connection reset");	//No I18N
+		});
+
+		try
+		{
+			client(reset).post(URL, form());
+			check(false, "A POST failing with an I/O error succeeded");	//No I18N
+		}
+		catch(BooksException e)
+		{
+			check(e.getAttempts() == 1, "A POST failing with an I/O error reported " + e.getAttempts() + " attempts");	//No I18N
+		}
+
+		StubTransport refused = new StubTransport((request, call) -> {
+			if(call == 1)
+			{
+				throw new ConnectException("Connection refused");	//No I18N
+			}
+			return StubTransport.response(201, OK);
+		});
+
+		Responses.read(client(refused).post(URL, form()));
+
+		check(refused.getCalls() == 2, "A POST that could not connect was sent " + refused.getCalls() + " times");	//No I18N
+	}
+
+	private static ZohoHTTPClient client(StubTransport transport)
+	{
+		RetryPolicy policy = new RetryPolicy();
+
+		policy.setInitialDelay(1);
+		policy.setMaxDelay(1000);
+
+		ZohoHTTPClient client = new ZohoHTTPClient(transport, "token", "1");	//No I18N
+
+		client.setRateLimiter(null);
+		client.setRetryPolicy(policy);
+
+		return client;
+	}
+
+	private static HashMap<String, Object> form()
+	{
+		HashMap<String, Object> form = new HashMap<String, Object>();
+
+		form.put("JSONString", "{}");	//No I18N
+
+		return form;
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if(!condition)
+		{
+			throw new AssertionError(message);
+		}
+	}
+}
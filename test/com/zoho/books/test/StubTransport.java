@@ -0,0 +1,129 @@
+/* $Id$ */
+
+package com.zoho.books.test;
+
+import com.zoho.books.transport.Transport;
+import com.zoho.books.transport.TransportRequest;
+import com.zoho.books.transport.TransportResponse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * StubTransport is used to answer the requests of the behavior tests without a network. Each request is passed to
+ * a handler with its number, starting at 1, and the requests are kept so that a test can check what was sent.
+ */
+
+public class StubTransport implements Transport
+{
+	private Handler handler;
+
+	private AtomicInteger calls = new AtomicInteger();
+
+	private List<TransportRequest> requests = Collections.synchronizedList(new ArrayList<TransportRequest>());
+
+
+	/**
+	 * Construct a new StubTransport that answers with the given handler.
+	 *
+	 * @param handler Handler that makes the response of each request.
+	 */
+
+	public StubTransport(Handler handler)
+	{
+		this.handler = handler;
+	}
+
+
+	public TransportResponse execute(TransportRequest request)throws Exception
+	{
+		requests.add(request);
+
+		return handler.handle(request, calls.incrementAndGet());
+	}
+
+	public void close()
+	{
+	}
+
+	/**
+	 * get the number of requests executed.
+	 *
+	 * @return Returns the number of calls to execute.
+	 */
+
+	public int getCalls()
+	{
+		return calls.get();
+	}
+
+	/**
+	 * get the requests executed, in the order they arrived.
+	 *
+	 * @return Returns the list of requests.
+	 */
+
+	public List<TransportRequest> getRequests()
+	{
+		return requests;
+	}
+
+	/**
+	 * Make a response with the given status, JSON body and headers.
+	 *
+	 * @param status  HTTP status.
+	 * @param body    Body of the response.
+	 * @param headers Names and values of the headers, one after the other.
+	 * @return Returns the TransportResponse object.
+	 */
+
+	public static TransportResponse response(int status, String body, String... headers)
+	{
+		return response(status, body.getBytes(StandardCharsets.UTF_8), headers);
+	}
+
+	/**
+	 * Make a response with the given status, body and headers.
+	 *
+	 * @param status  HTTP status.
+	 * @param body    Body of the response.
+	 * @param headers Names and values of the headers, one after the other.
+	 * @return Returns the TransportResponse object.
+	 */
+
+	public static TransportResponse response(int status, byte[] body, String... headers)
+	{
+		Map<String, List<String>> map = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+
+		for(int i = 0; i < headers.length; i += 2)
+		{
+			map.put(headers[i], Collections.singletonList(headers[i + 1]));
+		}
+
+		return new TransportResponse(status, map, new ByteArrayInputStream(body));
+	}
+
+
+	/**
+	 * Makes the response of a request.
+	 */
+
+	public interface Handler
+	{
+		/**
+		 * Answer a request.
+		 *
+		 * @param request The request.
+		 * @param call    Number of the request, starting at 1.
+		 * @return Returns the TransportResponse object.
+		 */
+
+		TransportResponse handle(TransportRequest request, int call)throws Exception;
+	}
+}